@@ -0,0 +1,304 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import com.google.common.base.Preconditions;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An open-addressing hash map from primitive long keys to primitive long values.
+ *
+ * Unlike a {@code Map<Long, Long>}, this map does not allocate any objects per entry, so the
+ * memory overhead is 16 bytes per slot and the garbage collector only needs to trace two arrays
+ * regardless of the number of entries. Collisions are resolved with linear probing, and removals
+ * use backward-shift deletion so that no tombstones are left behind.
+ *
+ * Absent values are reported using a caller-chosen "no value" sentinel, which must never be
+ * stored as a real value.
+ */
+@NotThreadSafe
+public final class LongLongHashMap {
+  private static final float LOAD_FACTOR = 0.75f;
+  private static final int MIN_CAPACITY = 16;
+  /** The key used to mark empty slots. Entries with this key are stored outside the table. */
+  private static final long FREE_KEY = 0L;
+
+  private final long mNoValue;
+
+  private long[] mKeys;
+  private long[] mValues;
+  private int mSize;
+  private int mMask;
+  private int mResizeThreshold;
+
+  private boolean mHasFreeKey;
+  private long mFreeKeyValue;
+
+  /**
+   * @param noValue the value returned when a key is not present
+   */
+  public LongLongHashMap(long noValue) {
+    this(MIN_CAPACITY, noValue);
+  }
+
+  /**
+   * @param expectedSize the number of entries the map is expected to hold
+   * @param noValue the value returned when a key is not present
+   */
+  public LongLongHashMap(int expectedSize, long noValue) {
+    Preconditions.checkArgument(expectedSize >= 0, "expectedSize must be non-negative");
+    mNoValue = noValue;
+    allocate(tableSizeFor(expectedSize));
+  }
+
+  /**
+   * @param key the key to look up
+   * @return the value for the key, or the "no value" sentinel if the key is not present
+   */
+  public long get(long key) {
+    if (key == FREE_KEY) {
+      return mHasFreeKey ? mFreeKeyValue : mNoValue;
+    }
+    int slot = slotFor(key);
+    while (true) {
+      long k = mKeys[slot];
+      if (k == FREE_KEY) {
+        return mNoValue;
+      }
+      if (k == key) {
+        return mValues[slot];
+      }
+      slot = (slot + 1) & mMask;
+    }
+  }
+
+  /**
+   * @param key the key to look up
+   * @return whether the map contains the key
+   */
+  public boolean containsKey(long key) {
+    if (key == FREE_KEY) {
+      return mHasFreeKey;
+    }
+    int slot = slotFor(key);
+    while (true) {
+      long k = mKeys[slot];
+      if (k == FREE_KEY) {
+        return false;
+      }
+      if (k == key) {
+        return true;
+      }
+      slot = (slot + 1) & mMask;
+    }
+  }
+
+  /**
+   * Associates the value with the key, replacing any previous value.
+   *
+   * @param key the key
+   * @param value the value, which must not be the "no value" sentinel
+   * @return the previous value, or the "no value" sentinel if there was none
+   */
+  public long put(long key, long value) {
+    Preconditions.checkArgument(value != mNoValue, "Cannot store the no-value sentinel %s",
+        mNoValue);
+    if (key == FREE_KEY) {
+      long prev = mHasFreeKey ? mFreeKeyValue : mNoValue;
+      if (!mHasFreeKey) {
+        mSize++;
+      }
+      mHasFreeKey = true;
+      mFreeKeyValue = value;
+      return prev;
+    }
+    int slot = slotFor(key);
+    while (true) {
+      long k = mKeys[slot];
+      if (k == FREE_KEY) {
+        mKeys[slot] = key;
+        mValues[slot] = value;
+        if (++mSize > mResizeThreshold) {
+          allocateAndRehash(mKeys.length * 2);
+        }
+        return mNoValue;
+      }
+      if (k == key) {
+        long prev = mValues[slot];
+        mValues[slot] = value;
+        return prev;
+      }
+      slot = (slot + 1) & mMask;
+    }
+  }
+
+  /**
+   * @param key the key to remove
+   * @return the removed value, or the "no value" sentinel if the key was not present
+   */
+  public long remove(long key) {
+    if (key == FREE_KEY) {
+      if (!mHasFreeKey) {
+        return mNoValue;
+      }
+      mHasFreeKey = false;
+      mSize--;
+      return mFreeKeyValue;
+    }
+    int slot = slotFor(key);
+    while (true) {
+      long k = mKeys[slot];
+      if (k == FREE_KEY) {
+        return mNoValue;
+      }
+      if (k == key) {
+        long prev = mValues[slot];
+        shiftKeys(slot);
+        mSize--;
+        return prev;
+      }
+      slot = (slot + 1) & mMask;
+    }
+  }
+
+  /**
+   * @return the number of entries in the map
+   */
+  public int size() {
+    return mSize;
+  }
+
+  /**
+   * @return whether the map is empty
+   */
+  public boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  /**
+   * Removes all entries and shrinks the backing arrays to their minimum size.
+   */
+  public void clear() {
+    mSize = 0;
+    mHasFreeKey = false;
+    allocate(MIN_CAPACITY);
+  }
+
+  /**
+   * Calls the given consumer for every entry in the map. The map must not be modified during
+   * iteration.
+   *
+   * @param consumer the consumer
+   */
+  public void forEach(LongLongConsumer consumer) {
+    if (mHasFreeKey) {
+      consumer.accept(FREE_KEY, mFreeKeyValue);
+    }
+    long[] keys = mKeys;
+    long[] values = mValues;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != FREE_KEY) {
+        consumer.accept(keys[i], values[i]);
+      }
+    }
+  }
+
+  /**
+   * @return the approximate number of bytes used by the backing arrays
+   */
+  public long getMemoryUsage() {
+    return 2L * Long.BYTES * mKeys.length;
+  }
+
+  /**
+   * Removes the entry at the given slot, shifting back any entries in the same probe sequence so
+   * that lookups never encounter a hole before reaching their key.
+   */
+  private void shiftKeys(int pos) {
+    int last;
+    int slot;
+    long k;
+    while (true) {
+      last = pos;
+      pos = (pos + 1) & mMask;
+      while (true) {
+        k = mKeys[pos];
+        if (k == FREE_KEY) {
+          mKeys[last] = FREE_KEY;
+          return;
+        }
+        slot = slotFor(k);
+        // Move the entry back if its home slot is not cyclically within (last, pos].
+        if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+          break;
+        }
+        pos = (pos + 1) & mMask;
+      }
+      mKeys[last] = k;
+      mValues[last] = mValues[pos];
+    }
+  }
+
+  private int slotFor(long key) {
+    // Fibonacci hashing spreads sequential ids, which are common for inode and block ids.
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32)) & mMask;
+  }
+
+  private void allocate(int capacity) {
+    mKeys = new long[capacity];
+    mValues = new long[capacity];
+    mMask = capacity - 1;
+    mResizeThreshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  private void allocateAndRehash(int capacity) {
+    long[] oldKeys = mKeys;
+    long[] oldValues = mValues;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      long k = oldKeys[i];
+      if (k != FREE_KEY) {
+        int slot = slotFor(k);
+        while (mKeys[slot] != FREE_KEY) {
+          slot = (slot + 1) & mMask;
+        }
+        mKeys[slot] = k;
+        mValues[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private static int tableSizeFor(int expectedSize) {
+    long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+    Preconditions.checkArgument(needed <= (1 << 30), "expectedSize %s is too large",
+        expectedSize);
+    int capacity = MIN_CAPACITY;
+    while (capacity < needed) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  /**
+   * A consumer of primitive long key-value pairs.
+   */
+  @FunctionalInterface
+  public interface LongLongConsumer {
+    /**
+     * @param key the key
+     * @param value the value
+     */
+    void accept(long key, long value);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for {@link LongLongHashMap}.
+ */
+public final class LongLongHashMapTest {
+  private static final long NO_VALUE = -1L;
+
+  @Test
+  public void putGetRemove() {
+    LongLongHashMap map = new LongLongHashMap(NO_VALUE);
+    assertEquals(NO_VALUE, map.put(1, 10));
+    assertEquals(10, map.put(1, 11));
+    assertEquals(11, map.get(1));
+    assertTrue(map.containsKey(1));
+    assertEquals(1, map.size());
+    assertEquals(11, map.remove(1));
+    assertEquals(NO_VALUE, map.get(1));
+    assertFalse(map.containsKey(1));
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void zeroKey() {
+    LongLongHashMap map = new LongLongHashMap(NO_VALUE);
+    map.put(0, 5);
+    assertEquals(5, map.get(0));
+    assertEquals(1, map.size());
+    assertEquals(5, map.remove(0));
+    assertEquals(NO_VALUE, map.get(0));
+    assertEquals(0, map.size());
+  }
+
+  @Test
+  public void forEach() {
+    LongLongHashMap map = new LongLongHashMap(NO_VALUE);
+    for (long i = 0; i < 100; i++) {
+      map.put(i, i * 2);
+    }
+    Map<Long, Long> seen = new HashMap<>();
+    map.forEach(seen::put);
+    assertEquals(100, seen.size());
+    for (long i = 0; i < 100; i++) {
+      assertEquals(i * 2, (long) seen.get(i));
+    }
+  }
+
+  @Test
+  public void clear() {
+    LongLongHashMap map = new LongLongHashMap(NO_VALUE);
+    for (long i = 0; i < 1000; i++) {
+      map.put(i, i);
+    }
+    map.clear();
+    assertEquals(0, map.size());
+    assertEquals(NO_VALUE, map.get(10));
+  }
+
+  @Test
+  public void randomOperationsMatchHashMap() {
+    Random random = new Random(0);
+    LongLongHashMap map = new LongLongHashMap(NO_VALUE);
+    Map<Long, Long> expected = new HashMap<>();
+    for (int i = 0; i < 200_000; i++) {
+      long key = random.nextInt(5_000) - 100;
+      switch (random.nextInt(3)) {
+        case 0:
+          long value = random.nextInt(1_000_000);
+          assertEquals(orNoValue(expected.put(key, value)), map.put(key, value));
+          break;
+        case 1:
+          assertEquals(orNoValue(expected.remove(key)), map.remove(key));
+          break;
+        default:
+          assertEquals(orNoValue(expected.get(key)), map.get(key));
+      }
+      assertEquals(expected.size(), map.size());
+    }
+  }
+
+  private static long orNoValue(Long value) {
+    return value == null ? NO_VALUE : value;
+  }
+}
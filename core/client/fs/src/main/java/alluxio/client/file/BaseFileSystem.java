@@ -42,6 +42,7 @@ import alluxio.grpc.CreateFilePOptions;
 import alluxio.grpc.DeletePOptions;
 import alluxio.grpc.ExistsPOptions;
 import alluxio.grpc.FreePOptions;
+import alluxio.grpc.GetContentSummaryPOptions;
 import alluxio.grpc.GetStatusPOptions;
 import alluxio.grpc.GrpcUtils;
 import alluxio.grpc.ListStatusPOptions;
@@ -60,8 +61,10 @@ import alluxio.uri.Authority;
 import alluxio.util.FileSystemOptions;
 import alluxio.wire.BlockLocation;
 import alluxio.wire.BlockLocationInfo;
+import alluxio.wire.ContentSummary;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.MountPointInfo;
+import alluxio.wire.PathResult;
 import alluxio.wire.SyncPointInfo;
 import alluxio.wire.WorkerNetAddress;
 
@@ -76,6 +79,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -216,6 +220,20 @@ public class BaseFileSystem implements FileSystem {
     });
   }
 
+  @Override
+  public List<PathResult<Void>> deleteBatch(List<AlluxioURI> paths, DeletePOptions options)
+      throws IOException, AlluxioException {
+    paths.forEach(this::checkUri);
+    return rpc(client -> {
+      // The options are shared by all paths, so cluster rather than path defaults are merged in.
+      DeletePOptions mergedOptions = FileSystemOptions.deleteDefaults(
+          mFsContext.getClusterConf()).toBuilder().mergeFrom(options).build();
+      List<PathResult<Void>> results = client.deleteBatch(paths, mergedOptions);
+      LOG.debug("Deleted {} paths, options: {}", paths.size(), mergedOptions);
+      return results;
+    });
+  }
+
   @Override
   public boolean exists(AlluxioURI path)
       throws InvalidPathException, IOException, AlluxioException {
@@ -239,6 +257,29 @@ public class BaseFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public List<PathResult<Boolean>> existsBatch(List<AlluxioURI> paths,
+      final ExistsPOptions options) throws IOException, AlluxioException {
+    paths.forEach(this::checkUri);
+    List<PathResult<URIStatus>> statuses = rpc(client -> {
+      ExistsPOptions mergedOptions = FileSystemOptions.existsDefaults(
+          mFsContext.getClusterConf()).toBuilder().mergeFrom(options).build();
+      return client.getStatusBatch(paths, GrpcUtils.toGetStatusOptions(mergedOptions));
+    });
+    List<PathResult<Boolean>> results = new ArrayList<>(statuses.size());
+    for (PathResult<URIStatus> status : statuses) {
+      AlluxioStatusException error = status.getError();
+      if (error == null) {
+        results.add(PathResult.success(status.getPath(), true));
+      } else if (error instanceof NotFoundException || error instanceof InvalidArgumentException) {
+        results.add(PathResult.success(status.getPath(), false));
+      } else {
+        results.add(PathResult.failure(status.getPath(), error));
+      }
+    }
+    return results;
+  }
+
   @Override
   public void free(AlluxioURI path)
       throws FileDoesNotExistException, IOException, AlluxioException {
@@ -301,6 +342,18 @@ public class BaseFileSystem implements FileSystem {
     return mFsContext.getClusterConf();
   }
 
+  @Override
+  public ContentSummary getContentSummary(AlluxioURI path,
+      final GetContentSummaryPOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    checkUri(path);
+    return rpc(client -> {
+      GetContentSummaryPOptions mergedOptions = FileSystemOptions.getContentSummaryDefaults(
+          mFsContext.getPathConf(path)).toBuilder().mergeFrom(options).build();
+      return client.getContentSummary(path, mergedOptions);
+    });
+  }
+
   @Override
   public URIStatus getStatus(AlluxioURI path)
       throws FileDoesNotExistException, IOException, AlluxioException {
@@ -318,6 +371,17 @@ public class BaseFileSystem implements FileSystem {
     });
   }
 
+  @Override
+  public List<PathResult<URIStatus>> getStatusBatch(List<AlluxioURI> paths,
+      final GetStatusPOptions options) throws IOException, AlluxioException {
+    paths.forEach(this::checkUri);
+    return rpc(client -> {
+      GetStatusPOptions mergedOptions = FileSystemOptions.getStatusDefaults(
+          mFsContext.getClusterConf()).toBuilder().mergeFrom(options).build();
+      return client.getStatusBatch(paths, mergedOptions);
+    });
+  }
+
   @Override
   public List<URIStatus> listStatus(AlluxioURI path)
       throws FileDoesNotExistException, IOException, AlluxioException {
@@ -336,6 +400,37 @@ public class BaseFileSystem implements FileSystem {
     });
   }
 
+  @Override
+  public ListStatusPartialResult listStatusPartial(AlluxioURI path,
+      final ListStatusPOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    checkUri(path);
+    return rpc(client -> {
+      ListStatusPOptions mergedOptions = FileSystemOptions.listStatusDefaults(
+          mFsContext.getPathConf(path)).toBuilder().mergeFrom(options).build();
+      return client.listStatusPartial(path, mergedOptions);
+    });
+  }
+
+  @Override
+  public void iterateStatus(AlluxioURI path, Consumer<? super URIStatus> action)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    iterateStatus(path, ListStatusPOptions.getDefaultInstance(), action);
+  }
+
+  @Override
+  public void iterateStatus(AlluxioURI path, final ListStatusPOptions options,
+      Consumer<? super URIStatus> action)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    checkUri(path);
+    rpc(client -> {
+      ListStatusPOptions mergedOptions = FileSystemOptions.listStatusDefaults(
+          mFsContext.getPathConf(path)).toBuilder().mergeFrom(options).build();
+      client.iterateStatus(path, mergedOptions, action);
+      return null;
+    });
+  }
+
   @Override
   public void mount(AlluxioURI alluxioPath, AlluxioURI ufsPath)
       throws IOException, AlluxioException {
@@ -481,6 +576,17 @@ public class BaseFileSystem implements FileSystem {
     });
   }
 
+  @Override
+  public List<PathResult<Void>> setAttributeBatch(List<AlluxioURI> paths,
+      SetAttributePOptions options) throws IOException, AlluxioException {
+    paths.forEach(this::checkUri);
+    return rpc(client -> {
+      List<PathResult<Void>> results = client.setAttributeBatch(paths, options);
+      LOG.debug("Set attributes for {} paths, options: {}", paths.size(), options);
+      return results;
+    });
+  }
+
   /**
    * Starts the active syncing process on an Alluxio path.
    *
@@ -28,6 +28,7 @@ import alluxio.grpc.CreateFilePOptions;
 import alluxio.grpc.DeletePOptions;
 import alluxio.grpc.ExistsPOptions;
 import alluxio.grpc.FreePOptions;
+import alluxio.grpc.GetContentSummaryPOptions;
 import alluxio.grpc.GetStatusPOptions;
 import alluxio.grpc.ListStatusPOptions;
 import alluxio.grpc.MountPOptions;
@@ -44,7 +45,9 @@ import alluxio.security.user.UserState;
 import alluxio.uri.Authority;
 import alluxio.util.ConfigurationUtils;
 import alluxio.wire.BlockLocationInfo;
+import alluxio.wire.ContentSummary;
 import alluxio.wire.MountPointInfo;
+import alluxio.wire.PathResult;
 import alluxio.wire.SyncPointInfo;
 import alluxio.wire.WorkerNetAddress;
 
@@ -62,6 +65,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import javax.security.auth.Subject;
 
@@ -312,6 +316,17 @@ public interface FileSystem extends Closeable {
   void delete(AlluxioURI path, DeletePOptions options)
       throws DirectoryNotEmptyException, FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Deletes many files or directories with a single request to the master. A path that fails
+   * does not fail the others; its error is reported in its result.
+   *
+   * @param paths the paths to delete in Alluxio space
+   * @param options options to associate with this operation, applied to every path
+   * @return one result per path, in the order of the given paths
+   */
+  List<PathResult<Void>> deleteBatch(List<AlluxioURI> paths, DeletePOptions options)
+      throws IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #exists(AlluxioURI, ExistsPOptions)} with default options.
    *
@@ -332,6 +347,17 @@ public interface FileSystem extends Closeable {
   boolean exists(AlluxioURI path, ExistsPOptions options)
       throws InvalidPathException, IOException, AlluxioException;
 
+  /**
+   * Checks whether many paths exist in Alluxio space with a single request to the master. As
+   * with {@link #exists(AlluxioURI, ExistsPOptions)}, invalid paths are reported as missing.
+   *
+   * @param paths the paths in question
+   * @param options options to associate with this operation, applied to every path
+   * @return one result per path, in the order of the given paths, holding whether the path exists
+   */
+  List<PathResult<Boolean>> existsBatch(List<AlluxioURI> paths, ExistsPOptions options)
+      throws IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #free(AlluxioURI, FreePOptions)} with default options.
    *
@@ -378,6 +404,19 @@ public interface FileSystem extends Closeable {
    */
   AlluxioConfiguration getConf();
 
+  /**
+   * Gets the total length, file count and directory count of a file or of the subtree of a
+   * directory in a single RPC. The master answers from its directory totals when they are
+   * enabled, otherwise it walks the subtree itself.
+   *
+   * @param path the path to summarize
+   * @param options options to associate with this operation
+   * @return the {@link ContentSummary} of the path
+   * @throws FileDoesNotExistException if the path does not exist
+   */
+  ContentSummary getContentSummary(AlluxioURI path, GetContentSummaryPOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #getStatus(AlluxioURI, GetStatusPOptions)} with default options.
    *
@@ -399,6 +438,18 @@ public interface FileSystem extends Closeable {
   URIStatus getStatus(AlluxioURI path, GetStatusPOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Gets the {@link URIStatus} of many paths with a single request to the master. A path that
+   * fails, for example because it does not exist, does not fail the others; its error is reported
+   * in its result.
+   *
+   * @param paths the paths to obtain information about
+   * @param options options to associate with this operation, applied to every path
+   * @return one result per path, in the order of the given paths
+   */
+  List<PathResult<URIStatus>> getStatusBatch(List<AlluxioURI> paths, GetStatusPOptions options)
+      throws IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #listStatus(AlluxioURI, ListStatusPOptions)} with default
    * options.
@@ -424,6 +475,47 @@ public interface FileSystem extends Closeable {
   List<URIStatus> listStatus(AlluxioURI path, ListStatusPOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Lists one page of the direct entries of a directory, in name order. The page starts after the
+   * startAfter option and holds at most batchSize entries; if more entries remain, the result's
+   * continuation token can be passed as startAfter to list the next page. This lets clients walk
+   * very large directories without holding the whole listing in memory.
+   *
+   * @param path the directory to list
+   * @param options options to associate with this operation; recursive listings are rejected
+   * @return the page of entries and the token to list the next page
+   * @throws FileDoesNotExistException if the given path does not exist
+   */
+  ListStatusPartialResult listStatusPartial(AlluxioURI path, ListStatusPOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException;
+
+  /**
+   * Convenience method for {@link #iterateStatus(AlluxioURI, ListStatusPOptions, Consumer)} with
+   * default options.
+   *
+   * @param path the path to list information about
+   * @param action the action to apply to each {@link URIStatus}
+   * @throws FileDoesNotExistException if the given path does not exist
+   */
+  void iterateStatus(AlluxioURI path, Consumer<? super URIStatus> action)
+      throws FileDoesNotExistException, IOException, AlluxioException;
+
+  /**
+   * Performs a specific action on each {@link URIStatus} in the result of
+   * {@link #listStatus(AlluxioURI, ListStatusPOptions)}. Entries are passed to the action as they
+   * are streamed from the master, so this method uses a bounded amount of client memory no matter
+   * how large the directory is, and the first entries are available before the whole listing has
+   * been produced.
+   *
+   * @param path the path to list information about
+   * @param options options to associate with this operation
+   * @param action the action to apply to each {@link URIStatus}
+   * @throws FileDoesNotExistException if the given path does not exist
+   */
+  void iterateStatus(AlluxioURI path, ListStatusPOptions options,
+      Consumer<? super URIStatus> action)
+      throws FileDoesNotExistException, IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #mount(AlluxioURI, AlluxioURI, MountPOptions)} with default
    * options.
@@ -591,6 +683,17 @@ public interface FileSystem extends Closeable {
   void setAttribute(AlluxioURI path, SetAttributePOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Sets the same attributes on many paths with a single request to the master. A path that
+   * fails does not fail the others; its error is reported in its result.
+   *
+   * @param paths the paths to set attributes for
+   * @param options options to associate with this operation, applied to every path
+   * @return one result per path, in the order of the given paths
+   */
+  List<PathResult<Void>> setAttributeBatch(List<AlluxioURI> paths, SetAttributePOptions options)
+      throws IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #unmount(AlluxioURI, UnmountPOptions)} with default options.
    *
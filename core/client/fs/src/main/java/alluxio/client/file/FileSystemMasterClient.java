@@ -22,6 +22,7 @@ import alluxio.grpc.CreateDirectoryPOptions;
 import alluxio.grpc.CreateFilePOptions;
 import alluxio.grpc.DeletePOptions;
 import alluxio.grpc.FreePOptions;
+import alluxio.grpc.GetContentSummaryPOptions;
 import alluxio.grpc.GetStatusPOptions;
 import alluxio.grpc.ListStatusPOptions;
 import alluxio.grpc.MountPOptions;
@@ -33,11 +34,14 @@ import alluxio.grpc.SetAttributePOptions;
 import alluxio.grpc.UpdateUfsModePOptions;
 import alluxio.master.MasterClientContext;
 import alluxio.security.authorization.AclEntry;
+import alluxio.wire.ContentSummary;
 import alluxio.wire.MountPointInfo;
+import alluxio.wire.PathResult;
 import alluxio.wire.SyncPointInfo;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * A client to use for interacting with a file system master.
@@ -109,6 +113,16 @@ public interface FileSystemMasterClient extends Client {
    */
   void delete(AlluxioURI path, DeletePOptions options) throws AlluxioStatusException;
 
+  /**
+   * Deletes each of the given files or directories in a single RPC.
+   *
+   * @param paths the paths to delete
+   * @param options method options, applied to every path
+   * @return one result per path, in the order of the given paths
+   */
+  List<PathResult<Void>> deleteBatch(List<AlluxioURI> paths, DeletePOptions options)
+      throws AlluxioStatusException;
+
   /**
    * Frees a file.
    *
@@ -118,6 +132,15 @@ public interface FileSystemMasterClient extends Client {
    */
   void free(AlluxioURI path, FreePOptions options) throws AlluxioStatusException;
 
+  /**
+   * @param path the path of a file or directory
+   * @param options the content summary options
+   * @return the total length, file count and directory count of the path
+   * @throws NotFoundException if the path does not exist
+   */
+  ContentSummary getContentSummary(AlluxioURI path, GetContentSummaryPOptions options)
+      throws AlluxioStatusException;
+
   /**
    * @param fileId a file id
    * @return the file path for the given file id
@@ -132,6 +155,16 @@ public interface FileSystemMasterClient extends Client {
    */
   URIStatus getStatus(AlluxioURI path, GetStatusPOptions options) throws AlluxioStatusException;
 
+  /**
+   * Gets the status of each of the given paths in a single RPC.
+   *
+   * @param paths the file paths
+   * @param options the getStatus options, applied to every path
+   * @return one result per path, in the order of the given paths
+   */
+  List<PathResult<URIStatus>> getStatusBatch(List<AlluxioURI> paths, GetStatusPOptions options)
+      throws AlluxioStatusException;
+
   /**
    * @param path the file path
    * @return the next blockId for the file
@@ -154,6 +187,30 @@ public interface FileSystemMasterClient extends Client {
   List<URIStatus> listStatus(AlluxioURI path, ListStatusPOptions options)
       throws AlluxioStatusException;
 
+  /**
+   * Lists one page of a directory. Entries are returned in name order, starting after the
+   * startAfter option and containing at most batchSize entries.
+   *
+   * @param path the directory to list
+   * @param options the listStatus options
+   * @return the page of entries and the token to list the next page
+   * @throws NotFoundException if the path does not exist
+   */
+  ListStatusPartialResult listStatusPartial(AlluxioURI path, ListStatusPOptions options)
+      throws AlluxioStatusException;
+
+  /**
+   * Performs a listStatus, passing each entry to the given action as soon as it is received from
+   * the master instead of collecting the whole listing first.
+   *
+   * @param path the path to list
+   * @param options the listStatus options
+   * @param action the action to apply to each entry
+   * @throws NotFoundException if the path does not exist
+   */
+  void iterateStatus(AlluxioURI path, ListStatusPOptions options,
+      Consumer<? super URIStatus> action) throws AlluxioStatusException;
+
   /**
    * Mounts the given UFS path under the given Alluxio path.
    *
@@ -219,6 +276,16 @@ public interface FileSystemMasterClient extends Client {
    */
   void setAttribute(AlluxioURI path, SetAttributePOptions options) throws AlluxioStatusException;
 
+  /**
+   * Sets the same attributes on each of the given files or directories in a single RPC.
+   *
+   * @param paths the file or directory paths
+   * @param options the file or directory attribute options to be set, applied to every path
+   * @return one result per path, in the order of the given paths
+   */
+  List<PathResult<Void>> setAttributeBatch(List<AlluxioURI> paths, SetAttributePOptions options)
+      throws AlluxioStatusException;
+
   /**
    * Start the active syncing process for a specified path.
    *
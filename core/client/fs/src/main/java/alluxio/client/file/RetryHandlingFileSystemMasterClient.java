@@ -23,21 +23,26 @@ import alluxio.grpc.CreateDirectoryPOptions;
 import alluxio.grpc.CreateDirectoryPRequest;
 import alluxio.grpc.CreateFilePOptions;
 import alluxio.grpc.CreateFilePRequest;
+import alluxio.grpc.DeleteBatchPRequest;
 import alluxio.grpc.DeletePOptions;
 import alluxio.grpc.DeletePRequest;
 import alluxio.grpc.FileSystemMasterClientServiceGrpc;
 import alluxio.grpc.FreePOptions;
 import alluxio.grpc.FreePRequest;
+import alluxio.grpc.GetContentSummaryPOptions;
+import alluxio.grpc.GetContentSummaryPRequest;
 import alluxio.grpc.GetFilePathPRequest;
 import alluxio.grpc.GetMountTablePRequest;
 import alluxio.grpc.GetNewBlockIdForFilePOptions;
 import alluxio.grpc.GetNewBlockIdForFilePRequest;
+import alluxio.grpc.GetStatusBatchPRequest;
 import alluxio.grpc.GetStatusPOptions;
 import alluxio.grpc.GetStatusPRequest;
 import alluxio.grpc.GetSyncPathListPRequest;
 import alluxio.grpc.GrpcUtils;
 import alluxio.grpc.ListStatusPOptions;
 import alluxio.grpc.ListStatusPRequest;
+import alluxio.grpc.ListStatusPResponse;
 import alluxio.grpc.MountPOptions;
 import alluxio.grpc.MountPRequest;
 import alluxio.grpc.RenamePOptions;
@@ -48,6 +53,7 @@ import alluxio.grpc.ServiceType;
 import alluxio.grpc.SetAclAction;
 import alluxio.grpc.SetAclPOptions;
 import alluxio.grpc.SetAclPRequest;
+import alluxio.grpc.SetAttributeBatchPRequest;
 import alluxio.grpc.SetAttributePOptions;
 import alluxio.grpc.SetAttributePRequest;
 import alluxio.grpc.StartSyncPRequest;
@@ -60,12 +66,21 @@ import alluxio.grpc.UpdateUfsModePRequest;
 import alluxio.master.MasterClientContext;
 import alluxio.security.authorization.AclEntry;
 import alluxio.util.FileSystemOptions;
+import alluxio.wire.ContentSummary;
+import alluxio.wire.PathResult;
 import alluxio.wire.SyncPointInfo;
 
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -156,6 +171,15 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
         .setOptions(options).build()), "Delete");
   }
 
+  @Override
+  public List<PathResult<Void>> deleteBatch(final List<AlluxioURI> paths,
+      final DeletePOptions options) throws AlluxioStatusException {
+    return retryRPC(() -> mClient.removeBatch(DeleteBatchPRequest.newBuilder()
+        .addAllPaths(toPathStrings(paths)).setOptions(options).build())
+        .getResultsList().stream().map(result -> GrpcUtils.<Void>fromProto(result, null))
+        .collect(Collectors.toList()), "DeleteBatch");
+  }
+
   @Override
   public void free(final AlluxioURI path, final FreePOptions options)
       throws AlluxioStatusException {
@@ -169,6 +193,15 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
             .newBuilder().setFileId(fileId).build()).getPath(), "GetFilePath");
   }
 
+  @Override
+  public ContentSummary getContentSummary(final AlluxioURI path,
+      final GetContentSummaryPOptions options) throws AlluxioStatusException {
+    return retryRPC(() -> GrpcUtils.fromProto(mClient.getContentSummary(
+        GetContentSummaryPRequest.newBuilder().setPath(path.getPath()).setOptions(options)
+            .build()).getSummary()),
+        "GetContentSummary");
+  }
+
   @Override
   public URIStatus getStatus(final AlluxioURI path, final GetStatusPOptions options)
       throws AlluxioStatusException {
@@ -178,6 +211,17 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
         "GetStatus");
   }
 
+  @Override
+  public List<PathResult<URIStatus>> getStatusBatch(final List<AlluxioURI> paths,
+      final GetStatusPOptions options) throws AlluxioStatusException {
+    return retryRPC(() -> mClient.getStatusBatch(GetStatusBatchPRequest.newBuilder()
+        .addAllPaths(toPathStrings(paths)).setOptions(options).build())
+        .getResultsList().stream()
+        .map(result -> GrpcUtils.fromProto(result, result.hasFileInfo()
+            ? new URIStatus(GrpcUtils.fromProto(result.getFileInfo())) : null))
+        .collect(Collectors.toList()), "GetStatusBatch");
+  }
+
   @Override
   public synchronized List<SyncPointInfo> getSyncPathList() throws AlluxioStatusException {
     return retryRPC(() -> mClient.getSyncPathList(GetSyncPathListPRequest.getDefaultInstance())
@@ -226,6 +270,63 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
     }, "ListStatus");
   }
 
+  @Override
+  public ListStatusPartialResult listStatusPartial(final AlluxioURI path,
+      final ListStatusPOptions options) throws AlluxioStatusException {
+    return retryRPC(() -> {
+      List<URIStatus> result = new ArrayList<>();
+      String continuationToken = null;
+      Iterator<ListStatusPResponse> responses = mClient.listStatus(
+          ListStatusPRequest.newBuilder().setPath(path.getPath()).setOptions(options).build());
+      while (responses.hasNext()) {
+        ListStatusPResponse response = responses.next();
+        for (alluxio.grpc.FileInfo fileInfo : response.getFileInfosList()) {
+          result.add(new URIStatus(GrpcUtils.fromProto(fileInfo)));
+        }
+        if (response.hasContinuationToken()) {
+          continuationToken = response.getContinuationToken();
+        }
+      }
+      return new ListStatusPartialResult(result, continuationToken);
+    }, "ListStatusPartial");
+  }
+
+  @Override
+  public void iterateStatus(final AlluxioURI path, final ListStatusPOptions options,
+      Consumer<? super URIStatus> action) throws AlluxioStatusException {
+    // Retrying after entries have been passed to the action would pass them to it again, so only
+    // failures which happen before the first entry arrives are retried.
+    AtomicBoolean started = new AtomicBoolean(false);
+    retryRPC(() -> {
+      // Cancel the call when we stop reading, in case the action throws before the stream is
+      // fully consumed.
+      Context.CancellableContext cancellable = Context.current().withCancellation();
+      Context previous = cancellable.attach();
+      try {
+        Iterator<ListStatusPResponse> responses = mClient.listStatus(
+            ListStatusPRequest.newBuilder().setPath(path.getPath()).setOptions(options).build());
+        while (responses.hasNext()) {
+          for (alluxio.grpc.FileInfo fileInfo : responses.next().getFileInfosList()) {
+            started.set(true);
+            action.accept(new URIStatus(GrpcUtils.fromProto(fileInfo)));
+          }
+        }
+      } catch (StatusRuntimeException e) {
+        if (started.get() && (e.getStatus().getCode() == Status.Code.UNAVAILABLE
+            || e.getStatus().getCode() == Status.Code.CANCELLED)) {
+          throw Status.ABORTED.withDescription(String.format(
+              "listStatus stream for %s was interrupted after returning partial results: %s",
+              path, e.getMessage())).withCause(e).asRuntimeException();
+        }
+        throw e;
+      } finally {
+        cancellable.detach(previous);
+        cancellable.cancel(null);
+      }
+      return null;
+    }, "IterateStatus");
+  }
+
   @Override
   public void mount(final AlluxioURI alluxioPath, final AlluxioURI ufsPath,
       final MountPOptions options) throws AlluxioStatusException {
@@ -275,6 +376,15 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
         .setPath(path.getPath()).setOptions(options).build()), "SetAttribute");
   }
 
+  @Override
+  public List<PathResult<Void>> setAttributeBatch(final List<AlluxioURI> paths,
+      final SetAttributePOptions options) throws AlluxioStatusException {
+    return retryRPC(() -> mClient.setAttributeBatch(SetAttributeBatchPRequest.newBuilder()
+        .addAllPaths(toPathStrings(paths)).setOptions(options).build())
+        .getResultsList().stream().map(result -> GrpcUtils.<Void>fromProto(result, null))
+        .collect(Collectors.toList()), "SetAttributeBatch");
+  }
+
   @Override
   public void scheduleAsyncPersist(final AlluxioURI path, ScheduleAsyncPersistencePOptions options)
       throws AlluxioStatusException {
@@ -312,4 +422,12 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
             .setUfsPath(ufsUri.getRootPath()).setOptions(options).build()),
         "UpdateUfsMode");
   }
+
+  /**
+   * @param paths the paths of a batch request
+   * @return the path strings to send to the master
+   */
+  private static List<String> toPathStrings(List<AlluxioURI> paths) {
+    return paths.stream().map(AlluxioURI::getPath).collect(Collectors.toList());
+  }
 }
@@ -21,6 +21,7 @@ import alluxio.grpc.DeletePOptions;
 import alluxio.grpc.ExistsPOptions;
 import alluxio.grpc.FileSystemMasterCommonPOptions;
 import alluxio.grpc.FreePOptions;
+import alluxio.grpc.GetContentSummaryPOptions;
 import alluxio.grpc.GetStatusPOptions;
 import alluxio.grpc.ListStatusPOptions;
 import alluxio.grpc.LoadDescendantPType;
@@ -149,6 +150,17 @@ public class FileSystemOptions {
         .build();
   }
 
+  /**
+   * @param conf Alluxio configuration
+   * @return options based on the configuration
+   */
+  public static GetContentSummaryPOptions getContentSummaryDefaults(AlluxioConfiguration conf) {
+    return GetContentSummaryPOptions.newBuilder()
+        .setCommonOptions(commonDefaults(conf))
+        .setIncludeInAlluxio(false)
+        .build();
+  }
+
   /**
    * @param conf Alluxio configuration
    * @return options based on the configuration
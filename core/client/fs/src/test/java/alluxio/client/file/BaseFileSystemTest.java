@@ -19,8 +19,10 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,6 +58,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
 * Unit test for functionality in {@link BaseFileSystem}.
@@ -273,6 +276,30 @@ public final class BaseFileSystemTest {
     verifyFilesystemContextAcquiredAndReleased();
   }
 
+  /**
+   * Tests for the {@link BaseFileSystem#iterateStatus(AlluxioURI, ListStatusPOptions, Consumer)}
+   * method.
+   */
+  @Test
+  public void iterateStatus() throws Exception {
+    AlluxioURI file = new AlluxioURI("/file");
+    URIStatus status = new URIStatus(new FileInfo());
+    ListStatusPOptions listStatusOptions = ListStatusPOptions.getDefaultInstance();
+    ListStatusPOptions mergedOptions = FileSystemOptions.listStatusDefaults(mConf)
+        .toBuilder().mergeFrom(listStatusOptions).build();
+    doAnswer(invocation -> {
+      invocation.getArgumentAt(2, Consumer.class).accept(status);
+      return null;
+    }).when(mFileSystemMasterClient).iterateStatus(eq(file), eq(mergedOptions),
+        any(Consumer.class));
+    List<URIStatus> received = new ArrayList<>();
+    mFileSystem.iterateStatus(file, listStatusOptions, received::add);
+    assertEquals(1, received.size());
+    assertSame(status, received.get(0));
+
+    verifyFilesystemContextAcquiredAndReleased();
+  }
+
   /**
    * Ensures that an exception is propagated correctly when listing the status.
    */
@@ -614,25 +614,21 @@ abstract class AbstractFileSystem extends org.apache.hadoop.fs.FileSystem {
     }
 
     AlluxioURI uri = new AlluxioURI(HadoopUtils.getPathWithoutScheme(path));
-    List<URIStatus> statuses;
+    // Convert each status as it is streamed from the master, so that the Alluxio statuses for the
+    // whole directory are never held in memory at once.
+    List<FileStatus> ret = new ArrayList<>();
     try {
-      statuses = mFileSystem.listStatus(uri);
+      mFileSystem.iterateStatus(uri, status -> ret.add(new FileStatus(status.getLength(),
+          status.isFolder(), getReplica(status), status.getBlockSizeBytes(),
+          status.getLastModificationTimeMs(), status.getCreationTimeMs(),
+          new FsPermission((short) status.getMode()), status.getOwner(), status.getGroup(),
+          new Path(mAlluxioHeader + status.getPath()))));
     } catch (FileDoesNotExistException e) {
       throw new FileNotFoundException(HadoopUtils.getPathWithoutScheme(path));
     } catch (AlluxioException e) {
       throw new IOException(e);
     }
-
-    FileStatus[] ret = new FileStatus[statuses.size()];
-    for (int k = 0; k < statuses.size(); k++) {
-      URIStatus status = statuses.get(k);
-
-      ret[k] = new FileStatus(status.getLength(), status.isFolder(), getReplica(status),
-          status.getBlockSizeBytes(), status.getLastModificationTimeMs(),
-          status.getCreationTimeMs(), new FsPermission((short) status.getMode()), status.getOwner(),
-          status.getGroup(), new Path(mAlluxioHeader + status.getPath()));
-    }
-    return ret;
+    return ret.toArray(new FileStatus[0]);
   }
 
   /**
@@ -18,7 +18,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -43,7 +46,6 @@ import alluxio.wire.FileInfo;
 import alluxio.wire.WorkerNetAddress;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Lists;
 import com.google.common.net.HostAndPort;
 import org.apache.hadoop.fs.BlockLocation;
 import org.apache.hadoop.fs.FileStatus;
@@ -72,6 +74,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Unit tests for {@link AbstractFileSystem}.
@@ -395,8 +398,13 @@ public class AbstractFileSystemTest {
     Path path = new Path("/dir");
     alluxio.client.file.FileSystem alluxioFs =
         mock(alluxio.client.file.FileSystem.class);
-    when(alluxioFs.listStatus(new AlluxioURI(HadoopUtils.getPathWithoutScheme(path))))
-        .thenReturn(Lists.newArrayList(new URIStatus(fileInfo1), new URIStatus(fileInfo2)));
+    doAnswer(invocation -> {
+      Consumer<URIStatus> action = invocation.getArgumentAt(1, Consumer.class);
+      action.accept(new URIStatus(fileInfo1));
+      action.accept(new URIStatus(fileInfo2));
+      return null;
+    }).when(alluxioFs).iterateStatus(
+        eq(new AlluxioURI(HadoopUtils.getPathWithoutScheme(path))), any(Consumer.class));
     FileSystem alluxioHadoopFs = new FileSystem(alluxioFs);
 
     FileStatus[] fileStatuses = alluxioHadoopFs.listStatus(path);
@@ -415,8 +423,8 @@ public class AbstractFileSystemTest {
     try {
       Path path = new Path("/ALLUXIO-2036");
       alluxio.client.file.FileSystem alluxioFs = mock(alluxio.client.file.FileSystem.class);
-      when(alluxioFs.listStatus(new AlluxioURI(HadoopUtils.getPathWithoutScheme(path))))
-        .thenThrow(new FileNotFoundException("ALLUXIO-2036 not Found"));
+      doThrow(new FileNotFoundException("ALLUXIO-2036 not Found")).when(alluxioFs).iterateStatus(
+          eq(new AlluxioURI(HadoopUtils.getPathWithoutScheme(path))), any(Consumer.class));
       alluxioHadoopFs = new FileSystem(alluxioFs);
       FileStatus[] fileStatuses = alluxioHadoopFs.listStatus(path);
       // if we reach here, FileNotFoundException is not thrown hence Fail the test case
@@ -0,0 +1,73 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file;
+
+import alluxio.annotation.PublicApi;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * One page of a paginated directory listing. If the listing did not reach the end of the
+ * directory, the continuation token can be passed as the startAfter option to list the next page.
+ */
+@PublicApi
+@ThreadSafe
+public class ListStatusPartialResult {
+  private final List<URIStatus> mListings;
+  private final String mContinuationToken;
+
+  /**
+   * @param listings the entries in this page
+   * @param continuationToken the token to list the next page, or null if this is the last page
+   */
+  public ListStatusPartialResult(List<URIStatus> listings, @Nullable String continuationToken) {
+    mListings = Preconditions.checkNotNull(listings, "listings");
+    mContinuationToken = continuationToken;
+  }
+
+  /**
+   * @return the entries in this page, in name order
+   */
+  public List<URIStatus> getListings() {
+    return mListings;
+  }
+
+  /**
+   * @return the token to pass as startAfter to list the next page, or null if this is the last
+   *         page
+   */
+  @Nullable
+  public String getContinuationToken() {
+    return mContinuationToken;
+  }
+
+  /**
+   * @return whether more entries remain after this page
+   */
+  public boolean isTruncated() {
+    return mContinuationToken != null;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("listings", mListings.size())
+        .add("continuationToken", mContinuationToken)
+        .toString();
+  }
+}
@@ -47,7 +47,7 @@ import java.util.function.Function;
  *
  * @param <K> key for the locks
  */
-public class LockPool<K> {
+public class LockPool<K> implements LockTable<K> {
   private static final Logger LOG = LoggerFactory.getLogger(LockPool.class);
   private static final float DEFAULT_LOAD_FACTOR = 0.75f;
   private static final String EVICTOR_THREAD_NAME = "LockPool Evictor";
@@ -172,6 +172,7 @@ public class LockPool<K> {
    * @param mode the mode to lock in
    * @return a lock resource which must be closed to unlock the key
    */
+  @Override
   public LockResource get(K key, LockMode mode) {
     Resource resource = getResource(key);
     ReentrantReadWriteLock lock = resource.mLock;
@@ -192,6 +193,7 @@ public class LockPool<K> {
    * @param mode lockMode to acquire
    * @return either empty or a lock resource which must be closed to unlock the key
    */
+  @Override
   public Optional<LockResource> tryGet(K key, LockMode mode) {
     Resource resource = getResource(key);
     ReentrantReadWriteLock lock = resource.mLock;
@@ -218,6 +220,7 @@ public class LockPool<K> {
    * @param key key to look up the value
    * @return the lock associated with the key
    */
+  @Override
   @VisibleForTesting
   public ReentrantReadWriteLock getRawReadWriteLock(K key) {
     return mPool.getOrDefault(key, new Resource(new ReentrantReadWriteLock())).mLock;
@@ -245,6 +248,19 @@ public class LockPool<K> {
     return resource;
   }
 
+  /**
+   * Returns whether the lock for a key is held in write mode by any thread. Unlike
+   * {@link #get(Object, LockMode)}, this does not add the key to the pool.
+   *
+   * @param key the key to check
+   * @return true if the key is write locked
+   */
+  @Override
+  public boolean isWriteLocked(K key) {
+    Resource resource = mPool.get(key);
+    return resource != null && resource.mLock.isWriteLocked();
+  }
+
   /**
    * Returns whether the pool contains a particular key.
    *
@@ -267,6 +283,7 @@ public class LockPool<K> {
   /**
    * @return all entries in the pool, for debugging purposes
    */
+  @Override
   @VisibleForTesting
   public Map<K, ReentrantReadWriteLock> getEntryMap() {
     Map<K, ReentrantReadWriteLock> entries = new HashMap<>();
@@ -0,0 +1,71 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import alluxio.concurrent.LockMode;
+import alluxio.resource.LockResource;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A set of read-write locks identified by keys. Distinct keys never share a lock while either of
+ * them is locked, so lock ordering between keys is entirely up to the caller.
+ *
+ * @param <K> key for the locks
+ */
+public interface LockTable<K> {
+  /**
+   * Locks the specified key in the specified mode.
+   *
+   * @param key the key to lock
+   * @param mode the mode to lock in
+   * @return a lock resource which must be closed to unlock the key
+   */
+  LockResource get(K key, LockMode mode);
+
+  /**
+   * Attempts to take a lock on the given key.
+   *
+   * @param key the key to lock
+   * @param mode lockMode to acquire
+   * @return either empty or a lock resource which must be closed to unlock the key
+   */
+  Optional<LockResource> tryGet(K key, LockMode mode);
+
+  /**
+   * Returns whether the lock for a key is held in write mode by any thread.
+   *
+   * @param key the key to check
+   * @return true if the key is write locked
+   */
+  boolean isWriteLocked(K key);
+
+  /**
+   * Gets the raw read-write lock for a key. If the key is not locked, the returned lock may not be
+   * the one used the next time the key is locked.
+   *
+   * @param key key to look up the value
+   * @return the lock associated with the key
+   */
+  @VisibleForTesting
+  ReentrantReadWriteLock getRawReadWriteLock(K key);
+
+  /**
+   * @return the locks currently associated with keys, for debugging purposes
+   */
+  @VisibleForTesting
+  Map<K, ReentrantReadWriteLock> getEntryMap();
+}
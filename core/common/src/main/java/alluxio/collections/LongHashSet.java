@@ -0,0 +1,211 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import static alluxio.collections.LongHashing.FREE;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A set of primitive longs, stored in a single open addressing array. Each member costs 8 bytes
+ * divided by the load factor, compared to more than 50 bytes for a boxed member of a
+ * {@link HashSet}. {@link Long#MIN_VALUE} cannot be a member.
+ */
+@NotThreadSafe
+public final class LongHashSet {
+  private long[] mKeys;
+  private int mMask;
+  private int mSize;
+  private int mResizeThreshold;
+
+  /**
+   * Creates an empty set.
+   */
+  public LongHashSet() {
+    this(0);
+  }
+
+  /**
+   * Creates an empty set.
+   *
+   * @param expectedSize the number of members the set should hold without growing
+   */
+  public LongHashSet(int expectedSize) {
+    allocate(LongHashing.capacityFor(expectedSize));
+  }
+
+  /**
+   * @param values the members of the set
+   * @return a new set with the given members
+   */
+  public static LongHashSet of(Iterable<Long> values) {
+    LongHashSet set = new LongHashSet();
+    for (long value : values) {
+      set.add(value);
+    }
+    return set;
+  }
+
+  /**
+   * @param key the key to add
+   * @return whether the key was added, false if it was already a member
+   */
+  public boolean add(long key) {
+    LongHashing.checkKey(key);
+    int slot = LongHashing.hash(key) & mMask;
+    while (mKeys[slot] != FREE) {
+      if (mKeys[slot] == key) {
+        return false;
+      }
+      slot = (slot + 1) & mMask;
+    }
+    mKeys[slot] = key;
+    if (++mSize > mResizeThreshold) {
+      resize(mKeys.length * 2);
+    }
+    return true;
+  }
+
+  /**
+   * @param key the key to look up
+   * @return whether the key is a member
+   */
+  public boolean contains(long key) {
+    return find(key) >= 0;
+  }
+
+  /**
+   * @param key the key to remove
+   * @return whether the key was removed, false if it was not a member
+   */
+  public boolean remove(long key) {
+    int slot = find(key);
+    if (slot < 0) {
+      return false;
+    }
+    int gap = slot;
+    int next = (gap + 1) & mMask;
+    while (mKeys[next] != FREE) {
+      if (LongHashing.canShift(LongHashing.hash(mKeys[next]) & mMask, gap, next, mMask)) {
+        mKeys[gap] = mKeys[next];
+        gap = next;
+      }
+      next = (next + 1) & mMask;
+    }
+    mKeys[gap] = FREE;
+    mSize--;
+    return true;
+  }
+
+  /**
+   * @return the number of members
+   */
+  public int size() {
+    return mSize;
+  }
+
+  /**
+   * @return whether the set has no members
+   */
+  public boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  /**
+   * Removes all members.
+   */
+  public void clear() {
+    Arrays.fill(mKeys, FREE);
+    mSize = 0;
+  }
+
+  /**
+   * Calls the action for every member, in no particular order.
+   *
+   * @param action the action
+   */
+  public void forEach(LongConsumer action) {
+    for (long key : mKeys) {
+      if (key != FREE) {
+        action.accept(key);
+      }
+    }
+  }
+
+  /**
+   * @return the members, in no particular order
+   */
+  public long[] toArray() {
+    long[] values = new long[mSize];
+    int i = 0;
+    for (long key : mKeys) {
+      if (key != FREE) {
+        values[i++] = key;
+      }
+    }
+    return values;
+  }
+
+  /**
+   * @return a boxed copy of the set
+   */
+  public Set<Long> toSet() {
+    Set<Long> set = new HashSet<>(mSize * 2);
+    forEach(set::add);
+    return set;
+  }
+
+  @Override
+  public String toString() {
+    return toSet().toString();
+  }
+
+  private int find(long key) {
+    if (key == FREE) {
+      return -1;
+    }
+    int slot = LongHashing.hash(key) & mMask;
+    while (mKeys[slot] != FREE) {
+      if (mKeys[slot] == key) {
+        return slot;
+      }
+      slot = (slot + 1) & mMask;
+    }
+    return -1;
+  }
+
+  private void allocate(int capacity) {
+    mKeys = new long[capacity];
+    Arrays.fill(mKeys, FREE);
+    mMask = capacity - 1;
+    mResizeThreshold = LongHashing.resizeThreshold(capacity);
+  }
+
+  private void resize(int capacity) {
+    long[] keys = mKeys;
+    allocate(capacity);
+    for (long key : keys) {
+      if (key != FREE) {
+        int slot = LongHashing.hash(key) & mMask;
+        while (mKeys[slot] != FREE) {
+          slot = (slot + 1) & mMask;
+        }
+        mKeys[slot] = key;
+      }
+    }
+  }
+}
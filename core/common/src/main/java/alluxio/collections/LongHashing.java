@@ -0,0 +1,85 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Helpers shared by the open addressing tables keyed by primitive longs, {@link LongHashSet} and
+ * {@link LongLongMultimap}.
+ *
+ * The tables use linear probing over power of two sized arrays, and mark free slots with
+ * {@link #FREE}, which therefore cannot be used as a key. Removal shifts the following entries of
+ * the probe sequence back instead of leaving tombstones, so lookups never slow down with churn.
+ */
+final class LongHashing {
+  /** The key marking a free slot. */
+  static final long FREE = Long.MIN_VALUE;
+  /** Tables are grown once they are this full. */
+  static final float LOAD_FACTOR = 0.75f;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private LongHashing() {} // prevent instantiation
+
+  /**
+   * @param key a key
+   * @return the hash of the key, with the bits of sequential keys spread over the whole int
+   */
+  static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /**
+   * @param expectedSize the number of entries the table should hold without growing
+   * @return the capacity of the table, a power of two
+   */
+  static int capacityFor(int expectedSize) {
+    Preconditions.checkArgument(expectedSize >= 0, "expectedSize must not be negative");
+    long needed = (long) Math.ceil(Math.max(expectedSize, 2) / (double) LOAD_FACTOR);
+    Preconditions.checkArgument(needed <= MAX_CAPACITY, "Too many entries: %s", expectedSize);
+    int capacity = 4;
+    while (capacity < needed) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  /**
+   * @param capacity the capacity of a table
+   * @return the number of entries at which the table must grow
+   */
+  static int resizeThreshold(int capacity) {
+    return capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+  }
+
+  /**
+   * @param key a key to be stored
+   */
+  static void checkKey(long key) {
+    Preconditions.checkArgument(key != FREE, "Key %s is reserved", key);
+  }
+
+  /**
+   * Decides whether the entry at a slot may be moved back into a gap left by a removal, which is
+   * the case when the gap lies between the home slot of the entry and its current slot.
+   *
+   * @param home the slot the key of the entry hashes to
+   * @param gap the free slot
+   * @param slot the current slot of the entry
+   * @param mask the capacity of the table minus one
+   * @return whether the entry can be moved into the gap
+   */
+  static boolean canShift(int home, int gap, int slot, int mask) {
+    return ((slot - home) & mask) >= ((slot - gap) & mask);
+  }
+}
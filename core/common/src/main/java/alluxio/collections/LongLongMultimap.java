@@ -0,0 +1,222 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import static alluxio.collections.LongHashing.FREE;
+
+import alluxio.collections.LongLongHashMap.LongLongConsumer;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A multimap from primitive longs to primitive longs, stored in two parallel open addressing
+ * arrays. Every value of a key is a separate entry in the probe sequence of the key, so a key with
+ * a single value costs no more than in a {@link LongLongHashMap}. This suits keys with few values,
+ * since finding the values of a key scans all of them. {@link Long#MIN_VALUE} cannot be used as a
+ * key.
+ */
+@NotThreadSafe
+public final class LongLongMultimap {
+  private static final long[] EMPTY = new long[0];
+
+  private long[] mKeys;
+  private long[] mValues;
+  private int mMask;
+  private int mSize;
+  private int mResizeThreshold;
+
+  /**
+   * Creates an empty multimap.
+   */
+  public LongLongMultimap() {
+    this(0);
+  }
+
+  /**
+   * Creates an empty multimap.
+   *
+   * @param expectedSize the number of entries the multimap should hold without growing
+   */
+  public LongLongMultimap(int expectedSize) {
+    allocate(LongHashing.capacityFor(expectedSize));
+  }
+
+  /**
+   * Adds an entry. The value is added even if the key already has an equal value.
+   *
+   * @param key the key
+   * @param value the value
+   */
+  public void put(long key, long value) {
+    LongHashing.checkKey(key);
+    int slot = LongHashing.hash(key) & mMask;
+    while (mKeys[slot] != FREE) {
+      slot = (slot + 1) & mMask;
+    }
+    mKeys[slot] = key;
+    mValues[slot] = value;
+    if (++mSize > mResizeThreshold) {
+      resize(mKeys.length * 2);
+    }
+  }
+
+  /**
+   * @param key the key
+   * @return the values of the key, in no particular order
+   */
+  public long[] get(long key) {
+    if (key == FREE) {
+      return EMPTY;
+    }
+    long[] values = EMPTY;
+    int count = 0;
+    int slot = LongHashing.hash(key) & mMask;
+    while (mKeys[slot] != FREE) {
+      if (mKeys[slot] == key) {
+        if (count == values.length) {
+          values = Arrays.copyOf(values, Math.max(2 * count, 2));
+        }
+        values[count++] = mValues[slot];
+      }
+      slot = (slot + 1) & mMask;
+    }
+    return count == values.length ? values : Arrays.copyOf(values, count);
+  }
+
+  /**
+   * @param key the key
+   * @return whether the key has any values
+   */
+  public boolean containsKey(long key) {
+    if (key == FREE) {
+      return false;
+    }
+    int slot = LongHashing.hash(key) & mMask;
+    while (mKeys[slot] != FREE) {
+      if (mKeys[slot] == key) {
+        return true;
+      }
+      slot = (slot + 1) & mMask;
+    }
+    return false;
+  }
+
+  /**
+   * Removes the entries of a key whose values match a predicate.
+   *
+   * @param key the key
+   * @param predicate the predicate on the values
+   * @return the number of entries removed
+   */
+  public int remove(long key, LongPredicate predicate) {
+    if (key == FREE) {
+      return 0;
+    }
+    int removed = 0;
+    int slot = LongHashing.hash(key) & mMask;
+    while (mKeys[slot] != FREE) {
+      if (mKeys[slot] == key && predicate.test(mValues[slot])) {
+        // Another entry is shifted into the slot, so look at the same slot again.
+        removeAt(slot);
+        removed++;
+      } else {
+        slot = (slot + 1) & mMask;
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * @param key the key
+   * @return the number of entries removed
+   */
+  public int removeAll(long key) {
+    return remove(key, value -> true);
+  }
+
+  /**
+   * @return the number of entries
+   */
+  public int size() {
+    return mSize;
+  }
+
+  /**
+   * @return whether the multimap has no entries
+   */
+  public boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  /**
+   * Removes all entries.
+   */
+  public void clear() {
+    Arrays.fill(mKeys, FREE);
+    mSize = 0;
+  }
+
+  /**
+   * Calls the action for every entry, in no particular order.
+   *
+   * @param action the action
+   */
+  public void forEach(LongLongConsumer action) {
+    for (int i = 0; i < mKeys.length; i++) {
+      if (mKeys[i] != FREE) {
+        action.accept(mKeys[i], mValues[i]);
+      }
+    }
+  }
+
+  private void removeAt(int slot) {
+    int gap = slot;
+    int next = (gap + 1) & mMask;
+    while (mKeys[next] != FREE) {
+      if (LongHashing.canShift(LongHashing.hash(mKeys[next]) & mMask, gap, next, mMask)) {
+        mKeys[gap] = mKeys[next];
+        mValues[gap] = mValues[next];
+        gap = next;
+      }
+      next = (next + 1) & mMask;
+    }
+    mKeys[gap] = FREE;
+    mSize--;
+  }
+
+  private void allocate(int capacity) {
+    mKeys = new long[capacity];
+    mValues = new long[capacity];
+    Arrays.fill(mKeys, FREE);
+    mMask = capacity - 1;
+    mResizeThreshold = LongHashing.resizeThreshold(capacity);
+  }
+
+  private void resize(int capacity) {
+    long[] keys = mKeys;
+    long[] values = mValues;
+    allocate(capacity);
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != FREE) {
+        int slot = LongHashing.hash(keys[i]) & mMask;
+        while (mKeys[slot] != FREE) {
+          slot = (slot + 1) & mMask;
+        }
+        mKeys[slot] = keys[i];
+        mValues[slot] = values[i];
+      }
+    }
+  }
+}
@@ -0,0 +1,298 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import alluxio.concurrent.LockMode;
+import alluxio.resource.LockResource;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link LockTable} backed by a fixed table of reusable locks. Keys are hashed to stripes, and
+ * each stripe holds a small array of slots, each with its own lock. A slot is bound to a key while
+ * the key is locked or being locked, and is freed for reuse by any key of the stripe once its
+ * reference count drops to zero. Unlike {@link LockPool}, locking a key allocates nothing apart
+ * from the returned {@link LockResource}, and no eviction thread is needed.
+ *
+ * A stripe grows when all of its slots are bound, so distinct keys never share a lock even when
+ * they hash to the same stripe. This gives the same deadlock and ordering guarantees as having a
+ * separate lock for every key. A grown stripe shrinks back once at most a quarter of its slots
+ * are bound, so a burst of concurrently locked keys does not keep its slots allocated.
+ *
+ * @param <K> key for the locks
+ */
+@ThreadSafe
+public class StripedLockTable<K> implements LockTable<K> {
+  private final Stripe<K>[] mStripes;
+
+  /**
+   * Creates a new lock table.
+   *
+   * @param numStripes the number of stripes, rounded up to a power of two
+   * @param slotsPerStripe the initial number of slots in each stripe
+   */
+  @SuppressWarnings("unchecked")
+  public StripedLockTable(int numStripes, int slotsPerStripe) {
+    Preconditions.checkArgument(numStripes > 0, "numStripes must be positive");
+    Preconditions.checkArgument(slotsPerStripe > 0, "slotsPerStripe must be positive");
+    int size = 1;
+    while (size < numStripes) {
+      size <<= 1;
+    }
+    mStripes = (Stripe<K>[]) new Stripe[size];
+    for (int i = 0; i < size; i++) {
+      mStripes[i] = new Stripe<>(slotsPerStripe);
+    }
+  }
+
+  @Override
+  public LockResource get(K key, LockMode mode) {
+    Slot<K> slot = acquireSlot(key);
+    return new SlotLockResource(getLock(slot, mode), true, slot);
+  }
+
+  @Override
+  public Optional<LockResource> tryGet(K key, LockMode mode) {
+    Slot<K> slot = acquireSlot(key);
+    Lock lock = getLock(slot, mode);
+    if (!lock.tryLock()) {
+      releaseSlot(slot);
+      return Optional.empty();
+    }
+    return Optional.of(new SlotLockResource(lock, false, slot));
+  }
+
+  @Override
+  public boolean isWriteLocked(K key) {
+    Stripe<K> stripe = getStripe(key);
+    synchronized (stripe) {
+      Slot<K> slot = stripe.find(key);
+      return slot != null && slot.mLock.isWriteLocked();
+    }
+  }
+
+  @Override
+  @VisibleForTesting
+  public ReentrantReadWriteLock getRawReadWriteLock(K key) {
+    Stripe<K> stripe = getStripe(key);
+    synchronized (stripe) {
+      Slot<K> slot = stripe.find(key);
+      return slot == null ? new ReentrantReadWriteLock() : slot.mLock;
+    }
+  }
+
+  @Override
+  @VisibleForTesting
+  public Map<K, ReentrantReadWriteLock> getEntryMap() {
+    Map<K, ReentrantReadWriteLock> entries = new HashMap<>();
+    for (Stripe<K> stripe : mStripes) {
+      synchronized (stripe) {
+        for (int i = 0; i < stripe.mSlots.length; i++) {
+          Slot<K> slot = stripe.mSlots[i];
+          if (slot.mKey != null) {
+            entries.put(slot.mKey, slot.mLock);
+          }
+        }
+      }
+    }
+    return entries;
+  }
+
+  /**
+   * @return the total number of slots in the table, for testing
+   */
+  @VisibleForTesting
+  int capacity() {
+    int capacity = 0;
+    for (Stripe<K> stripe : mStripes) {
+      synchronized (stripe) {
+        capacity += stripe.mSlots.length;
+      }
+    }
+    return capacity;
+  }
+
+  private Slot<K> acquireSlot(K key) {
+    Preconditions.checkNotNull(key, "key can not be null");
+    Stripe<K> stripe = getStripe(key);
+    synchronized (stripe) {
+      Slot<K> free = null;
+      for (int i = 0; i < stripe.mSlots.length; i++) {
+        Slot<K> slot = stripe.mSlots[i];
+        if (slot.mKey == null) {
+          if (free == null) {
+            free = slot;
+          }
+        } else if (slot.mKey.equals(key)) {
+          slot.mRefCount++;
+          return slot;
+        }
+      }
+      if (free == null) {
+        free = stripe.grow();
+      }
+      free.mKey = key;
+      free.mRefCount = 1;
+      stripe.mBound++;
+      return free;
+    }
+  }
+
+  private void releaseSlot(Slot<K> slot) {
+    Stripe<K> stripe = slot.mStripe;
+    synchronized (stripe) {
+      slot.mRefCount--;
+      if (slot.mRefCount == 0) {
+        slot.mKey = null;
+        stripe.mBound--;
+        stripe.maybeShrink();
+      }
+    }
+  }
+
+  private Stripe<K> getStripe(K key) {
+    int hash = key.hashCode() * 0x9E3779B9;
+    return mStripes[(hash ^ (hash >>> 16)) & (mStripes.length - 1)];
+  }
+
+  private static Lock getLock(Slot<?> slot, LockMode mode) {
+    switch (mode) {
+      case READ:
+        return slot.mLock.readLock();
+      case WRITE:
+        return slot.mLock.writeLock();
+      default:
+        throw new IllegalStateException("Unknown lock mode: " + mode);
+    }
+  }
+
+  /**
+   * A lock resource which frees its slot after unlocking.
+   */
+  private final class SlotLockResource extends LockResource {
+    private final Slot<K> mSlot;
+
+    private SlotLockResource(Lock lock, boolean acquireLock, Slot<K> slot) {
+      super(lock, acquireLock);
+      mSlot = slot;
+    }
+
+    @Override
+    public void close() {
+      super.close();
+      releaseSlot(mSlot);
+    }
+  }
+
+  /**
+   * A group of slots for the keys hashing to the same stripe. All fields of the stripe and of its
+   * slots are guarded by the stripe's monitor.
+   */
+  private static final class Stripe<K> {
+    private final int mMinSlots;
+    private Slot<K>[] mSlots;
+    /** The number of slots bound to a key. */
+    private int mBound;
+
+    @SuppressWarnings("unchecked")
+    private Stripe(int numSlots) {
+      mMinSlots = numSlots;
+      mSlots = (Slot<K>[]) new Slot[numSlots];
+      for (int i = 0; i < numSlots; i++) {
+        mSlots[i] = new Slot<>(this);
+      }
+    }
+
+    @Nullable
+    private Slot<K> find(K key) {
+      for (int i = 0; i < mSlots.length; i++) {
+        if (key.equals(mSlots[i].mKey)) {
+          return mSlots[i];
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Doubles the number of slots.
+     *
+     * @return a free slot
+     */
+    private Slot<K> grow() {
+      int oldSize = mSlots.length;
+      mSlots = Arrays.copyOf(mSlots, oldSize * 2);
+      for (int i = oldSize; i < mSlots.length; i++) {
+        mSlots[i] = new Slot<>(this);
+      }
+      return mSlots[oldSize];
+    }
+
+    /**
+     * Halves the number of slots, down to the initial number, while at most a quarter of them are
+     * bound. The bound slots are kept, since lock resources refer to them, and are moved to the
+     * front. Shrinking at a quarter rather than at half keeps a stripe whose number of bound
+     * slots hovers around a power of two from growing and shrinking on every lock.
+     */
+    private void maybeShrink() {
+      int size = mSlots.length;
+      while (size > mMinSlots && mBound <= size / 4) {
+        size /= 2;
+      }
+      if (size == mSlots.length) {
+        return;
+      }
+      Slot<K>[] slots = Arrays.copyOf(mSlots, size);
+      int next = 0;
+      for (Slot<K> slot : mSlots) {
+        if (slot.mKey != null) {
+          slots[next++] = slot;
+        }
+      }
+      for (Slot<K> slot : mSlots) {
+        if (next == size) {
+          break;
+        }
+        if (slot.mKey == null) {
+          slots[next++] = slot;
+        }
+      }
+      mSlots = slots;
+    }
+  }
+
+  /**
+   * A reusable lock, bound to a key while it is referenced.
+   */
+  private static final class Slot<K> {
+    private final Stripe<K> mStripe;
+    private final ReentrantReadWriteLock mLock = new ReentrantReadWriteLock();
+    /** The key bound to the slot, or null if the slot is free. */
+    private K mKey;
+    /** The number of lock resources using the slot, including ones still acquiring the lock. */
+    private int mRefCount;
+
+    private Slot(Stripe<K> stripe) {
+      mStripe = stripe;
+    }
+  }
+}
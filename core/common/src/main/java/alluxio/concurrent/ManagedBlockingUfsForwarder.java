@@ -22,6 +22,7 @@ import alluxio.underfs.UfsDirectoryStatus;
 import alluxio.underfs.UfsFileStatus;
 import alluxio.underfs.UfsMode;
 import alluxio.underfs.UfsStatus;
+import alluxio.underfs.UfsStatusIterator;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.underfs.options.CreateOptions;
 import alluxio.underfs.options.DeleteOptions;
@@ -376,6 +377,17 @@ public class ManagedBlockingUfsForwarder implements UnderFileSystem {
     }.get();
   }
 
+  @Override
+  public UfsStatusIterator listStatusIterator(String path, ListOptions options)
+      throws IOException {
+    return new ManagedBlockingUfsMethod<UfsStatusIterator>() {
+      @Override
+      public UfsStatusIterator execute() throws IOException {
+        return mUfs.listStatusIterator(path, options);
+      }
+    }.get();
+  }
+
   @Override
   public boolean mkdirs(String path) throws IOException {
     return new ManagedBlockingUfsMethod<Boolean>() {
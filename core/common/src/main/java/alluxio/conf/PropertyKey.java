@@ -1197,6 +1197,23 @@ public final class PropertyKey implements Comparable<PropertyKey> {
                   + "master receiving any messages, the master will attempt to become the primary.")
           .setDefaultValue("5s")
           .build();
+  public static final PropertyKey MASTER_EMBEDDED_JOURNAL_ENTRY_BATCH_COMPRESSION_ENABLED =
+      new Builder(Name.MASTER_EMBEDDED_JOURNAL_ENTRY_BATCH_COMPRESSION_ENABLED)
+          .setDescription("Whether the embedded journal primary submits the entries of each "
+              + "flush as compressed batches. Masters which do not support compressed batches "
+              + "cannot apply them, so this should only be enabled once all masters support it.")
+          .setDefaultValue(false)
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_EMBEDDED_JOURNAL_ENTRY_BATCH_SIZE_MAX =
+      new Builder(Name.MASTER_EMBEDDED_JOURNAL_ENTRY_BATCH_SIZE_MAX)
+          .setDescription("The maximum uncompressed size of a compressed batch of embedded "
+              + "journal entries. Larger flushes are split into multiple batches.")
+          .setDefaultValue("512KB")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_EMBEDDED_JOURNAL_HEARTBEAT_INTERVAL =
       new Builder(Name.MASTER_EMBEDDED_JOURNAL_HEARTBEAT_INTERVAL)
           .setDescription(
@@ -1246,6 +1263,28 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_FILE_DIRECTORY_AGGREGATES_ENABLED =
+      new Builder(Name.MASTER_FILE_DIRECTORY_AGGREGATES_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether the master maintains the total length, file count and "
+              + "directory count of every directory subtree as the inode tree changes. When "
+              + "enabled, content summaries (used by the du -s and count commands) are answered "
+              + "without walking the subtree. The totals are kept in memory for at most "
+              + "alluxio.master.file.directory.aggregates.max.directories directories, and are "
+              + "checkpointed with the inode tree.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_FILE_DIRECTORY_AGGREGATES_MAX_DIRECTORIES =
+      new Builder(Name.MASTER_FILE_DIRECTORY_AGGREGATES_MAX_DIRECTORIES)
+          .setDefaultValue(1000000)
+          .setDescription("The maximum number of directories whose subtree totals the master "
+              + "keeps in memory when directory aggregates are enabled. Directories are tracked "
+              + "from the root down. The content summary of a directory beyond the limit is "
+              + "computed by walking its subtree.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_FORMAT_FILE_PREFIX =
       new Builder(Name.MASTER_FORMAT_FILE_PREFIX)
           .setDefaultValue("_format_")
@@ -1265,14 +1304,26 @@ public final class PropertyKey implements Comparable<PropertyKey> {
   public static final PropertyKey MASTER_METASTORE =
       new Builder(Name.MASTER_METASTORE)
           .setDefaultValue("HEAP")
-          .setDescription("The type of metastore to use, either HEAP or ROCKS. The heap metastore "
-              + "keeps all metadata on-heap, while the rocks metastore stores some metadata on "
-              + "heap and some metadata on disk. The rocks metastore has the advantage of being "
-              + "able to support a large namespace (1 billion plus files) without needing a "
-              + "massive heap size.")
+          .setDescription("The type of metastore to use, either HEAP, ROCKS or OFF_HEAP. The heap "
+              + "metastore keeps all metadata on-heap, while the rocks metastore stores some "
+              + "metadata on heap and some metadata on disk. The rocks metastore has the advantage "
+              + "of being able to support a large namespace (1 billion plus files) without "
+              + "needing a massive heap size. The off-heap metastore keeps inode metadata in "
+              + "serialized form in direct memory, which avoids garbage collection pauses on "
+              + "large namespaces without needing disk.")
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_METASTORE_BLOCK_COMPACT_ENABLED =
+      new Builder(Name.MASTER_METASTORE_BLOCK_COMPACT_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether the HEAP and OFF_HEAP metastores keep block metadata and block "
+              + "locations in primitive hash tables instead of maps of boxed block ids. This "
+              + "takes a fraction of the heap per block replica. Has no effect on the ROCKS "
+              + "metastore.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_METASTORE_DIR =
       new Builder(Name.MASTER_METASTORE_DIR)
           .setDefaultValue(String.format("${%s}/metastore", Name.WORK_DIR))
@@ -1289,6 +1340,23 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_METASTORE_INODE_CACHE_FLUSH_BATCH_SIZE =
+      new Builder(Name.MASTER_METASTORE_INODE_CACHE_FLUSH_BATCH_SIZE)
+          .setDefaultValue("1000")
+          .setDescription("The maximum number of inode cache entries written to the backing "
+              + "store in a single batch.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_INODE_CACHE_FLUSH_THREADS =
+      new Builder(Name.MASTER_METASTORE_INODE_CACHE_FLUSH_THREADS)
+          .setDefaultValue("4")
+          .setDescription("The number of threads used to write dirty inode cache entries to the "
+              + "backing store during eviction. Entries are partitioned across the threads by "
+              + "key.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_METASTORE_INODE_CACHE_HIGH_WATER_MARK_RATIO =
       new Builder(Name.MASTER_METASTORE_INODE_CACHE_HIGH_WATER_MARK_RATIO)
           .setDefaultValue("0.85")
@@ -1341,6 +1409,68 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_METASTORE_OFF_HEAP_SLAB_SIZE =
+      new Builder(Name.MASTER_METASTORE_OFF_HEAP_SLAB_SIZE)
+          .setDefaultValue("64MB")
+          .setDescription("The size of each direct memory slab allocated by the OFF_HEAP "
+              + "metastore. Slabs are allocated on demand as the namespace grows. Must be less "
+              + "than 2GB.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_BLOCK_CACHE_SIZE =
+      new Builder(Name.MASTER_METASTORE_ROCKS_BLOCK_CACHE_SIZE)
+          .setDefaultValue("256MB")
+          .setDescription("The size of the block cache for each ROCKS metastore database. All "
+              + "column families in a database share the same cache, so inode and edge reads "
+              + "compete for the same memory.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY =
+      new Builder(Name.MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY)
+          .setDefaultValue("10")
+          .setDescription("The number of bits per key to use for the bloom filters of the ROCKS "
+              + "metastore. Bloom filters let point lookups such as child name resolution skip "
+              + "files which cannot contain the key. Set to 0 to disable bloom filters.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_CHECKPOINT_INCREMENTAL =
+      new Builder(Name.MASTER_METASTORE_ROCKS_CHECKPOINT_INCREMENTAL)
+          .setDefaultValue(false)
+          .setDescription("Whether to write ROCKS metastore checkpoints as raw RocksDB files "
+              + "instead of a gzipped tarball. Checksums of unchanged SST files are reused, and "
+              + "restores link SST files which are already present locally instead of writing "
+              + "them again. Masters older than this feature cannot read such checkpoints.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_COMPACTION_STYLE =
+      new Builder(Name.MASTER_METASTORE_ROCKS_COMPACTION_STYLE)
+          .setDefaultValue("LEVEL")
+          .setDescription("The compaction style for the ROCKS metastore, one of LEVEL, UNIVERSAL "
+              + "or FIFO. UNIVERSAL reduces write amplification at the cost of space "
+              + "amplification. FIFO drops old data and should not be used for metadata.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_COMPACTION_THREADS =
+      new Builder(Name.MASTER_METASTORE_ROCKS_COMPACTION_THREADS)
+          .setDefaultValue("2")
+          .setDescription("The maximum number of concurrent background compactions for each "
+              + "ROCKS metastore database.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_LEVEL0_COMPACTION_TRIGGER =
+      new Builder(Name.MASTER_METASTORE_ROCKS_LEVEL0_COMPACTION_TRIGGER)
+          .setDefaultValue("4")
+          .setDescription("The number of level-0 files which triggers a compaction in the ROCKS "
+              + "metastore. Lower values keep reads fast, higher values absorb write bursts.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_METRICS_TIME_SERIES_INTERVAL =
       new Builder(Name.MASTER_METRICS_TIME_SERIES_INTERVAL)
           .setDefaultValue("5min")
@@ -1358,6 +1488,26 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.SERVER)
           .build();
+  public static final PropertyKey MASTER_WORKER_HEARTBEAT_APPLY_THREADS =
+      new Builder(Name.MASTER_WORKER_HEARTBEAT_APPLY_THREADS)
+          .setDefaultValue(0)
+          .setDescription("The number of threads applying the block changes reported by worker "
+              + "heartbeats to the block locations. When greater than 0, heartbeats are answered "
+              + "once their changes are queued, and the changes are applied in batches. When 0, "
+              + "the changes are applied before the heartbeat is answered.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_WORKER_HEARTBEAT_APPLY_QUEUE_SIZE =
+      new Builder(Name.MASTER_WORKER_HEARTBEAT_APPLY_QUEUE_SIZE)
+          .setDefaultValue(1000000)
+          .setDescription("The maximum number of block changes reported by worker heartbeats "
+              + "which may be queued before they are applied. Heartbeats wait while the queue is "
+              + "full. Only used when " + Name.MASTER_WORKER_HEARTBEAT_APPLY_THREADS
+              + " is greater than 0.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_HEARTBEAT_TIMEOUT =
       new Builder(Name.MASTER_HEARTBEAT_TIMEOUT)
           .setDefaultValue("10min")
@@ -1399,6 +1549,68 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDescription("Maximum concurrency level for the lock pool")
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_INODE_PATH_CACHE_CAPACITY =
+      new Builder(Name.MASTER_INODE_PATH_CACHE_CAPACITY)
+          .setDefaultValue(0)
+          .setDescription("The maximum number of directory paths for which the master caches "
+              + "the inode ids along the path. Cached ids let path resolution fetch inodes by id "
+              + "instead of looking up each edge, which saves metastore reads for deep paths, "
+              + "especially with the ROCKS metastore. Set to 0 to disable the cache.")
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_LOCK_TABLE_TYPE =
+      new Builder(Name.MASTER_LOCK_TABLE_TYPE)
+          .setDefaultValue("POOL")
+          .setDescription("The type of table for inode and edge locks, either POOL or STRIPED. "
+              + "The pool creates a lock for each key on demand and evicts unused locks in the "
+              + "background. The striped table reuses a fixed set of locks, which avoids "
+              + "allocating and evicting locks under high lock rates.")
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_LOCK_TABLE_STRIPES =
+      new Builder(Name.MASTER_LOCK_TABLE_STRIPES)
+          .setDefaultValue(4096)
+          .setDescription("The number of stripes in each striped lock table, rounded up to a "
+              + "power of two. Only used when alluxio.master.lock.table.type is STRIPED.")
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_LOCK_TABLE_SLOTS_PER_STRIPE =
+      new Builder(Name.MASTER_LOCK_TABLE_SLOTS_PER_STRIPE)
+          .setDefaultValue(4)
+          .setDescription("The initial number of locks in each stripe of a striped lock table. "
+              + "A stripe grows when more of its keys are locked at the same time.")
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_LOCK_OPTIMISTIC_READ_ENABLED =
+      new Builder(Name.MASTER_LOCK_OPTIMISTIC_READ_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether getStatus and listStatus first resolve paths without taking "
+              + "inode locks. The inodes and edges read are validated against version stamps "
+              + "which writers update when they take write locks, and the operation is retried "
+              + "with locks if validation fails. This reduces locking overhead for read-heavy "
+              + "workloads with deep paths, at a small cost to each write lock.")
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_JOURNAL_APPLY_PARALLELISM =
+      new Builder(Name.MASTER_JOURNAL_APPLY_PARALLELISM)
+          .setDefaultValue(1)
+          .setDescription("The number of threads a standby master uses to apply journal entries. "
+              + "Entries are partitioned by inode or block id, and entries which span "
+              + "partitions, such as renames and mount table changes, wait for all earlier "
+              + "entries to be applied. With a value of 1, entries are applied by the thread "
+              + "reading the journal.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_JOURNAL_APPLY_QUEUE_SIZE =
+      new Builder(Name.MASTER_JOURNAL_APPLY_QUEUE_SIZE)
+          .setDefaultValue(4096)
+          .setDescription("The maximum number of journal entries queued for each journal apply "
+              + "thread. Reading the journal blocks while the queue is full. Only used when "
+              + Name.MASTER_JOURNAL_APPLY_PARALLELISM + " is greater than 1.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_JOURNAL_FLUSH_BATCH_TIME_MS =
       new Builder(Name.MASTER_JOURNAL_FLUSH_BATCH_TIME_MS)
           .setAlias(new String[]{"alluxio.master.journal.flush.batch.time.ms"})
@@ -1416,6 +1628,14 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_JOURNAL_FLUSH_PIPELINED_ENABLED =
+      new Builder(Name.MASTER_JOURNAL_FLUSH_PIPELINED_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether the UFS journal writer buffers new journal entries while "
+              + "the previous batch is being flushed, so that writing and flushing overlap.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_JOURNAL_FLUSH_RETRY_INTERVAL =
       new Builder(Name.MASTER_JOURNAL_FLUSH_RETRY_INTERVAL)
           .setDefaultValue("1sec")
@@ -1488,6 +1708,31 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_JOURNAL_CHECKPOINT_COMPRESSION_BLOCK_RECORDS =
+      new Builder(Name.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_BLOCK_RECORDS)
+          .setDefaultValue(16384)
+          .setDescription("The number of records, such as inodes, in each independently "
+              + "compressed block of a compressed checkpoint.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_JOURNAL_CHECKPOINT_COMPRESSION_ENABLED =
+      new Builder(Name.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether to write the inodes of heap and off-heap inode stores to "
+              + "checkpoints in compressed blocks, which are encoded and decoded in parallel. "
+              + "Checkpoints in either format can be restored regardless of this setting.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_JOURNAL_CHECKPOINT_COMPRESSION_THREADS =
+      new Builder(Name.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_THREADS)
+          .setDefaultValue(4)
+          .setDescription("The number of threads used to compress and decompress the blocks of "
+              + "a compressed checkpoint.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_JOURNAL_CHECKPOINT_PERIOD_ENTRIES =
       new Builder(Name.MASTER_JOURNAL_CHECKPOINT_PERIOD_ENTRIES)
           .setDefaultValue(2000000)
@@ -1496,6 +1741,24 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_JOURNAL_CHECKPOINT_RESTORE_BUFFER_SIZE_MAX =
+      new Builder(Name.MASTER_JOURNAL_CHECKPOINT_RESTORE_BUFFER_SIZE_MAX)
+          .setDefaultValue("64MB")
+          .setDescription("The maximum size of a checkpoint component to buffer in memory when "
+              + "restoring components concurrently. Larger components are restored as they are "
+              + "read, while the components before them go on being restored.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_JOURNAL_CHECKPOINT_RESTORE_PARALLELISM =
+      new Builder(Name.MASTER_JOURNAL_CHECKPOINT_RESTORE_PARALLELISM)
+          .setDefaultValue(1)
+          .setDescription("The number of components of a compound checkpoint, such as the "
+              + "checkpoints of different masters, to restore concurrently. When set to 1, "
+              + "components are restored one after another.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_JOURNAL_GC_PERIOD_MS =
       new Builder(Name.MASTER_JOURNAL_GC_PERIOD_MS)
           .setAlias(new String[] {"alluxio.master.journal.gc.period.ms"})
@@ -1566,6 +1829,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
       new Builder(Name.MASTER_PERSISTENCE_SCHEDULER_INTERVAL_MS)
           .setDefaultValue(1000)
           .build();
+  public static final PropertyKey MASTER_REPLICATION_CHECK_FULL_SCAN_INTERVAL =
+      new Builder(Name.MASTER_REPLICATION_CHECK_FULL_SCAN_INTERVAL)
+          .setDefaultValue("1hour")
+          .setDescription("The interval between checks of the replication of all pinned and "
+              + "replication limited files. Between these scans, the replication checker only "
+              + "checks files whose block replicas or replication settings changed.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_REPLICATION_CHECK_INTERVAL_MS =
       new Builder(Name.MASTER_REPLICATION_CHECK_INTERVAL_MS)
           .setDefaultValue(60000)
@@ -1666,6 +1938,23 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_TTL_CHECKER_BATCH_SIZE =
+      new Builder(Name.MASTER_TTL_CHECKER_BATCH_SIZE)
+          .setDefaultValue(1000)
+          .setDescription("The maximum number of expired inodes the ttl checker deletes or frees "
+              + "with a single journal flush.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_TTL_CHECKER_MAX_OPS_PER_SEC =
+      new Builder(Name.MASTER_TTL_CHECKER_MAX_OPS_PER_SEC)
+          .setDefaultValue(10000)
+          .setDescription("The maximum number of expired inodes the ttl checker deletes or frees "
+              + "per second. Expired inodes that cannot be processed within one ttl check "
+              + "interval are left for the next check. A value of 0 or less means no limit.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_ACTIVE_UFS_SYNC_INTERVAL =
       new Builder(Name.MASTER_ACTIVE_UFS_SYNC_INTERVAL)
           .setDefaultValue("30sec")
@@ -1719,6 +2008,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_METADATA_SYNC_EXECUTOR_POOL_SIZE =
+      new Builder(Name.MASTER_METADATA_SYNC_EXECUTOR_POOL_SIZE)
+          .setDefaultValue(16)
+          .setDescription("The number of threads used to sync sibling subtrees of a directory "
+              + "with the UFS in parallel during a metadata sync. If every thread is busy, the "
+              + "subtree is synced by the calling thread instead.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
 
   public static final PropertyKey MASTER_UFS_BLOCK_LOCATION_CACHE_CAPACITY =
       new Builder(Name.MASTER_UFS_BLOCK_LOCATION_CACHE_CAPACITY)
@@ -1788,6 +2086,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.MASTER)
               .build();
+  public static final PropertyKey MASTER_WORKER_REGISTER_STREAM_CONCURRENCY =
+      new Builder(Name.MASTER_WORKER_REGISTER_STREAM_CONCURRENCY)
+          .setDefaultValue(16)
+          .setDescription("The maximum number of workers which may stream their block lists to "
+              + "the master for registration at the same time. Workers beyond this limit are "
+              + "told to retry later.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_WORKER_TIMEOUT_MS =
       new Builder(Name.MASTER_WORKER_TIMEOUT_MS)
           .setAlias(new String[]{"alluxio.master.worker.timeout.ms"})
@@ -1856,6 +2163,17 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_FILE_SYSTEM_LISTSTATUS_STREAM_TIMEOUT =
+      new Builder(Name.MASTER_FILE_SYSTEM_LISTSTATUS_STREAM_TIMEOUT)
+          .setDefaultValue("30sec")
+          .setDescription("The maximum time the master waits for a client to accept the next "
+              + "list-status response message. The listed directory and its ancestors stay "
+              + "read-locked while the master waits, so a client which consumes a listing more "
+              + "slowly than this fails with a deadline exceeded error instead of blocking "
+              + "writes to those inodes.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
 
   //
   // Worker related properties
@@ -2241,6 +2559,22 @@ public final class PropertyKey implements Comparable<PropertyKey> {
       .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
       .setScope(Scope.WORKER)
       .build();
+  public static final PropertyKey WORKER_REGISTER_STREAM_BATCH_SIZE =
+      new Builder(Name.WORKER_REGISTER_STREAM_BATCH_SIZE)
+          .setDefaultValue(100000)
+          .setDescription("The maximum number of block ids the worker sends to the master in "
+              + "each message when registering.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
+  public static final PropertyKey WORKER_REGISTER_STREAM_TIMEOUT =
+      new Builder(Name.WORKER_REGISTER_STREAM_TIMEOUT)
+          .setDefaultValue("5min")
+          .setDescription("The time a worker waits for the master to process its whole "
+              + "registration stream.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
   public static final PropertyKey WORKER_RPC_PORT =
       new Builder(Name.WORKER_RPC_PORT)
           .setAlias(new String[]{Name.WORKER_DATA_PORT})
@@ -3738,11 +4072,19 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.daily.backup.time";
     public static final String MASTER_FILE_ASYNC_PERSIST_HANDLER =
         "alluxio.master.file.async.persist.handler";
+    public static final String MASTER_FILE_DIRECTORY_AGGREGATES_ENABLED =
+        "alluxio.master.file.directory.aggregates.enabled";
+    public static final String MASTER_FILE_DIRECTORY_AGGREGATES_MAX_DIRECTORIES =
+        "alluxio.master.file.directory.aggregates.max.directories";
     public static final String MASTER_FORMAT_FILE_PREFIX = "alluxio.master.format.file_prefix";
     public static final String MASTER_MASTER_HEARTBEAT_INTERVAL =
         "alluxio.master.master.heartbeat.interval";
     public static final String MASTER_WORKER_HEARTBEAT_INTERVAL =
         "alluxio.master.worker.heartbeat.interval";
+    public static final String MASTER_WORKER_HEARTBEAT_APPLY_THREADS =
+        "alluxio.master.worker.heartbeat.apply.threads";
+    public static final String MASTER_WORKER_HEARTBEAT_APPLY_QUEUE_SIZE =
+        "alluxio.master.worker.heartbeat.apply.queue.size";
     public static final String MASTER_HEARTBEAT_TIMEOUT =
         "alluxio.master.heartbeat.timeout";
     public static final String MASTER_HOSTNAME = "alluxio.master.hostname";
@@ -3754,10 +4096,24 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.lock.pool.high.watermark";
     public static final String MASTER_LOCK_POOL_CONCURRENCY_LEVEL =
         "alluxio.master.lock.pool.concurrency.level";
+    public static final String MASTER_INODE_PATH_CACHE_CAPACITY =
+        "alluxio.master.inode.path.cache.capacity";
+    public static final String MASTER_LOCK_TABLE_TYPE = "alluxio.master.lock.table.type";
+    public static final String MASTER_LOCK_TABLE_STRIPES = "alluxio.master.lock.table.stripes";
+    public static final String MASTER_LOCK_TABLE_SLOTS_PER_STRIPE =
+        "alluxio.master.lock.table.slots.per.stripe";
+    public static final String MASTER_LOCK_OPTIMISTIC_READ_ENABLED =
+        "alluxio.master.lock.optimistic.read.enabled";
+    public static final String MASTER_JOURNAL_APPLY_PARALLELISM =
+        "alluxio.master.journal.apply.parallelism";
+    public static final String MASTER_JOURNAL_APPLY_QUEUE_SIZE =
+        "alluxio.master.journal.apply.queue.size";
     public static final String MASTER_JOURNAL_FLUSH_BATCH_TIME_MS =
         "alluxio.master.journal.flush.batch.time";
     public static final String MASTER_JOURNAL_FLUSH_TIMEOUT_MS =
         "alluxio.master.journal.flush.timeout";
+    public static final String MASTER_JOURNAL_FLUSH_PIPELINED_ENABLED =
+        "alluxio.master.journal.flush.pipelined.enabled";
     public static final String MASTER_JOURNAL_FLUSH_RETRY_INTERVAL =
         "alluxio.master.journal.retry.interval";
     public static final String MASTER_JOURNAL_FOLDER = "alluxio.master.journal.folder";
@@ -3777,6 +4133,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.embedded.journal.addresses";
     public static final String MASTER_EMBEDDED_JOURNAL_ELECTION_TIMEOUT =
         "alluxio.master.embedded.journal.election.timeout";
+    public static final String MASTER_EMBEDDED_JOURNAL_ENTRY_BATCH_COMPRESSION_ENABLED =
+        "alluxio.master.embedded.journal.entry.batch.compression.enabled";
+    public static final String MASTER_EMBEDDED_JOURNAL_ENTRY_BATCH_SIZE_MAX =
+        "alluxio.master.embedded.journal.entry.batch.size.max";
     public static final String MASTER_EMBEDDED_JOURNAL_HEARTBEAT_INTERVAL =
         "alluxio.master.embedded.journal.heartbeat.interval";
     public static final String MASTER_EMBEDDED_JOURNAL_PORT =
@@ -3793,9 +4153,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.embedded.journal.triggered.snapshot.wait.timeout";
     public static final String MASTER_KEYTAB_KEY_FILE = "alluxio.master.keytab.file";
     public static final String MASTER_METASTORE = "alluxio.master.metastore";
+    public static final String MASTER_METASTORE_BLOCK_COMPACT_ENABLED =
+        "alluxio.master.metastore.block.compact.enabled";
     public static final String MASTER_METASTORE_DIR = "alluxio.master.metastore.dir";
     public static final String MASTER_METASTORE_INODE_CACHE_EVICT_BATCH_SIZE =
         "alluxio.master.metastore.inode.cache.evict.batch.size";
+    public static final String MASTER_METASTORE_INODE_CACHE_FLUSH_BATCH_SIZE =
+        "alluxio.master.metastore.inode.cache.flush.batch.size";
+    public static final String MASTER_METASTORE_INODE_CACHE_FLUSH_THREADS =
+        "alluxio.master.metastore.inode.cache.flush.threads";
     public static final String MASTER_METASTORE_INODE_CACHE_HIGH_WATER_MARK_RATIO =
         "alluxio.master.metastore.inode.cache.high.water.mark.ratio";
     public static final String MASTER_METASTORE_INODE_CACHE_LOW_WATER_MARK_RATIO =
@@ -3808,6 +4174,20 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.metastore.inode.enumerator.buffer.count";
     public static final String MASTER_METASTORE_INODE_INHERIT_OWNER_AND_GROUP =
         "alluxio.master.metastore.inode.inherit.owner.and.group";
+    public static final String MASTER_METASTORE_OFF_HEAP_SLAB_SIZE =
+        "alluxio.master.metastore.off.heap.slab.size";
+    public static final String MASTER_METASTORE_ROCKS_BLOCK_CACHE_SIZE =
+        "alluxio.master.metastore.rocks.block.cache.size";
+    public static final String MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY =
+        "alluxio.master.metastore.rocks.bloom.filter.bits.per.key";
+    public static final String MASTER_METASTORE_ROCKS_CHECKPOINT_INCREMENTAL =
+        "alluxio.master.metastore.rocks.checkpoint.incremental";
+    public static final String MASTER_METASTORE_ROCKS_COMPACTION_STYLE =
+        "alluxio.master.metastore.rocks.compaction.style";
+    public static final String MASTER_METASTORE_ROCKS_COMPACTION_THREADS =
+        "alluxio.master.metastore.rocks.compaction.threads";
+    public static final String MASTER_METASTORE_ROCKS_LEVEL0_COMPACTION_TRIGGER =
+        "alluxio.master.metastore.rocks.level0.compaction.trigger";
     public static final String MASTER_PERSISTENCE_CHECKER_INTERVAL_MS =
         "alluxio.master.persistence.checker.interval.ms";
     public static final String MASTER_METRICS_TIME_SERIES_INTERVAL =
@@ -3827,6 +4207,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String MASTER_PERIODIC_BLOCK_INTEGRITY_CHECK_INTERVAL =
         "alluxio.master.periodic.block.integrity.check.interval";
     public static final String MASTER_PRINCIPAL = "alluxio.master.principal";
+    public static final String MASTER_REPLICATION_CHECK_FULL_SCAN_INTERVAL =
+        "alluxio.master.replication.check.full.scan.interval";
     public static final String MASTER_REPLICATION_CHECK_INTERVAL_MS =
         "alluxio.master.replication.check.interval.ms";
     public static final String MASTER_RPC_PORT = "alluxio.master.port";
@@ -3852,6 +4234,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.tieredstore.global.media";
     public static final String MASTER_TTL_CHECKER_INTERVAL_MS =
         "alluxio.master.ttl.checker.interval";
+    public static final String MASTER_TTL_CHECKER_BATCH_SIZE =
+        "alluxio.master.ttl.checker.batch.size";
+    public static final String MASTER_TTL_CHECKER_MAX_OPS_PER_SEC =
+        "alluxio.master.ttl.checker.max.ops.per.sec";
     public static final String MASTER_ACTIVE_UFS_SYNC_INTERVAL =
         "alluxio.master.activesync.interval";
     public static final String MASTER_ACTIVE_UFS_SYNC_MAX_ACTIVITY =
@@ -3866,6 +4252,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.activesync.maxage";
     public static final String MASTER_ACTIVE_UFS_SYNC_INITIAL_SYNC =
         "alluxio.master.activesync.initialsync";
+    public static final String MASTER_METADATA_SYNC_EXECUTOR_POOL_SIZE =
+        "alluxio.master.metadata.sync.executor.pool.size";
     public static final String MASTER_UFS_BLOCK_LOCATION_CACHE_CAPACITY =
         "alluxio.master.ufs.block.location.cache.capacity";
     public static final String MASTER_UFS_PATH_CACHE_CAPACITY =
@@ -3879,9 +4267,21 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String MASTER_WORKER_CONNECT_WAIT_TIME =
         "alluxio.master.worker.connect.wait.time";
     public static final String MASTER_WORKER_THREADS_MAX = "alluxio.master.worker.threads.max";
+    public static final String MASTER_WORKER_REGISTER_STREAM_CONCURRENCY =
+        "alluxio.master.worker.register.stream.concurrency";
     public static final String MASTER_WORKER_TIMEOUT_MS = "alluxio.master.worker.timeout";
+    public static final String MASTER_JOURNAL_CHECKPOINT_COMPRESSION_BLOCK_RECORDS =
+        "alluxio.master.journal.checkpoint.compression.block.records";
+    public static final String MASTER_JOURNAL_CHECKPOINT_COMPRESSION_ENABLED =
+        "alluxio.master.journal.checkpoint.compression.enabled";
+    public static final String MASTER_JOURNAL_CHECKPOINT_COMPRESSION_THREADS =
+        "alluxio.master.journal.checkpoint.compression.threads";
     public static final String MASTER_JOURNAL_CHECKPOINT_PERIOD_ENTRIES =
         "alluxio.master.journal.checkpoint.period.entries";
+    public static final String MASTER_JOURNAL_CHECKPOINT_RESTORE_BUFFER_SIZE_MAX =
+        "alluxio.master.journal.checkpoint.restore.buffer.size.max";
+    public static final String MASTER_JOURNAL_CHECKPOINT_RESTORE_PARALLELISM =
+        "alluxio.master.journal.checkpoint.restore.parallelism";
     public static final String MASTER_JOURNAL_GC_PERIOD_MS = "alluxio.master.journal.gc.period";
     public static final String MASTER_JOURNAL_GC_THRESHOLD_MS =
         "alluxio.master.journal.gc.threshold";
@@ -3893,6 +4293,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     //
     public static final String MASTER_FILE_SYSTEM_LISTSTATUS_RESULTS_PER_MESSAGE =
         "alluxio.master.filesystem.liststatus.result.message.length";
+    public static final String MASTER_FILE_SYSTEM_LISTSTATUS_STREAM_TIMEOUT =
+        "alluxio.master.filesystem.liststatus.stream.timeout";
 
     //
     // Secondary master related properties
@@ -3983,6 +4385,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String WORKER_BLOCK_MASTER_CLIENT_POOL_SIZE =
         "alluxio.worker.block.master.client.pool.size";
     public static final String WORKER_PRINCIPAL = "alluxio.worker.principal";
+    public static final String WORKER_REGISTER_STREAM_BATCH_SIZE =
+        "alluxio.worker.register.stream.batch.size";
+    public static final String WORKER_REGISTER_STREAM_TIMEOUT =
+        "alluxio.worker.register.stream.timeout";
     public static final String WORKER_RPC_PORT = "alluxio.worker.port";
     public static final String WORKER_SESSION_TIMEOUT_MS = "alluxio.worker.session.timeout";
     public static final String WORKER_STORAGE_CHECKER_ENABLED =
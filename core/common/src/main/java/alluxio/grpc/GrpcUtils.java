@@ -13,7 +13,9 @@ package alluxio.grpc;
 
 import static alluxio.util.StreamUtils.map;
 
+import alluxio.AlluxioURI;
 import alluxio.Constants;
+import alluxio.exception.status.AlluxioStatusException;
 import alluxio.file.options.DescendantType;
 import alluxio.proto.journal.File;
 import alluxio.security.authorization.AccessControlList;
@@ -24,11 +26,13 @@ import alluxio.security.authorization.DefaultAccessControlList;
 import alluxio.wire.BlockInfo;
 import alluxio.wire.BlockLocation;
 import alluxio.wire.CommandType;
+import alluxio.wire.ContentSummary;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.FileInfo;
 import alluxio.wire.FileSystemCommand;
 import alluxio.wire.LoadMetadataType;
 import alluxio.wire.MountPointInfo;
+import alluxio.wire.PathResult;
 import alluxio.wire.PersistFile;
 import alluxio.wire.TieredIdentity;
 import alluxio.wire.UfsInfo;
@@ -36,11 +40,13 @@ import alluxio.wire.WorkerInfo;
 import alluxio.wire.WorkerNetAddress;
 
 import com.google.common.net.HostAndPort;
+import io.grpc.Status;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -201,6 +207,19 @@ public final class GrpcUtils {
     return blockInfo;
   }
 
+  /**
+   * Converts a proto type to a wire type.
+   *
+   * @param pSummary the proto type to convert
+   * @return the converted wire type
+   */
+  public static ContentSummary fromProto(alluxio.grpc.ContentSummary pSummary) {
+    return new ContentSummary().setLength(pSummary.getLength())
+        .setFileCount(pSummary.getFileCount()).setDirectoryCount(pSummary.getDirectoryCount())
+        .setInAlluxioLength(pSummary.getInAlluxioLength())
+        .setInMemoryLength(pSummary.getInMemoryLength());
+  }
+
   /**
    * Converts a proto type to a wire type.
    *
@@ -428,6 +447,19 @@ public final class GrpcUtils {
         .build();
   }
 
+  /**
+   * Converts wire type to proto type.
+   *
+   * @param summary the wire type to convert
+   * @return the converted proto type
+   */
+  public static alluxio.grpc.ContentSummary toProto(ContentSummary summary) {
+    return alluxio.grpc.ContentSummary.newBuilder().setLength(summary.getLength())
+        .setFileCount(summary.getFileCount()).setDirectoryCount(summary.getDirectoryCount())
+        .setInAlluxioLength(summary.getInAlluxioLength())
+        .setInMemoryLength(summary.getInMemoryLength()).build();
+  }
+
   /**
    * Converts a wire type to a proto type.
    *
@@ -467,6 +499,45 @@ public final class GrpcUtils {
     return builder.build();
   }
 
+  /**
+   * Converts the result of one path of a batch operation to its proto representation. A
+   * {@link FileInfo} value is included in the proto, other values are dropped.
+   *
+   * @param result the result to convert
+   * @return proto representation of the result
+   */
+  public static BatchPathResult toProto(PathResult<?> result) {
+    BatchPathResult.Builder builder =
+        BatchPathResult.newBuilder().setPath(result.getPath().getPath());
+    AlluxioStatusException error = result.getError();
+    if (error != null) {
+      builder.setErrorCode(error.getStatusCode().value());
+      if (error.getMessage() != null) {
+        builder.setErrorMessage(error.getMessage());
+      }
+    } else if (result.getValue() instanceof FileInfo) {
+      builder.setFileInfo(toProto((FileInfo) result.getValue()));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Converts the proto result of one path of a batch operation to a {@link PathResult}.
+   *
+   * @param result the proto result
+   * @param value the value to use if the result is successful
+   * @param <T> the type of the value
+   * @return the converted result
+   */
+  public static <T> PathResult<T> fromProto(BatchPathResult result, @Nullable T value) {
+    AlluxioURI path = new AlluxioURI(result.getPath());
+    if (result.hasErrorCode()) {
+      return PathResult.failure(path, AlluxioStatusException.from(
+          Status.fromCodeValue(result.getErrorCode()).withDescription(result.getErrorMessage())));
+    }
+    return PathResult.success(path, value);
+  }
+
   /**
    * Converts wire type to proto type.
    *
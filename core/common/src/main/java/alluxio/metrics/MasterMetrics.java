@@ -28,6 +28,25 @@ public final class MasterMetrics {
   public static final String PATHS_MOUNTED = "PathsMounted";
   public static final String PATHS_RENAMED = "PathsRenamed";
   public static final String PATHS_UNMOUNTED = "PathsUnmounted";
+  public static final String METADATA_SYNC_PATHS = "MetadataSyncPaths";
+  public static final String METADATA_SYNC_UFS_CALLS = "MetadataSyncUfsCalls";
+  public static final String OPTIMISTIC_READS = "OptimisticReads";
+  public static final String OPTIMISTIC_READ_FALLBACKS = "OptimisticReadFallbacks";
+  public static final String PATH_CACHE_HITS = "PathCacheHits";
+  public static final String PATH_CACHE_MISSES = "PathCacheMisses";
+  public static final String TTL_BACKLOG = "TtlBacklog";
+  public static final String TTL_SCHEDULED = "TtlScheduled";
+  public static final String WORKER_HEARTBEAT_TIMER = "WorkerHeartbeatTimer";
+  public static final String WORKER_HEARTBEAT_APPLY_PENDING_BLOCKS =
+      "WorkerHeartbeatApplyPendingBlocks";
+  public static final String WORKER_HEARTBEAT_APPLY_LAG_MS = "WorkerHeartbeatApplyLagMs";
+  public static final String JOURNAL_APPLY_PENDING_ENTRIES = "JournalApplyPendingEntries";
+  public static final String JOURNAL_APPLY_LAG_MS = "JournalApplyLagMs";
+  public static final String JOURNAL_FLUSH_BATCH_SIZE = "JournalFlushBatchSize";
+  public static final String JOURNAL_FLUSH_TIMER = "JournalFlushTimer";
+  public static final String JOURNAL_CATCH_UP_TIMER = "JournalCatchUpTimer";
+  public static final String JOURNAL_CHECKPOINT_RESTORE_TIMER = "JournalCheckpointRestoreTimer";
+  public static final String JOURNAL_GAIN_PRIMACY_TIMER = "JournalGainPrimacyTimer";
   public static final String COMPLETE_FILE_OPS = "CompleteFileOps";
   public static final String CREATE_DIRECTORIES_OPS = "CreateDirectoryOps";
   public static final String CREATE_FILES_OPS = "CreateFileOps";
@@ -47,5 +66,9 @@ public final class MasterMetrics {
   public static final String UFS_CAPACITY_USED = "UfsCapacityUsed";
   public static final String UFS_CAPACITY_FREE = "UfsCapacityFree";
 
+  // Tags
+  public static final String TAG_CHECKPOINT = "Checkpoint";
+  public static final String TAG_JOURNAL = "Journal";
+
   private MasterMetrics() {} // prevent instantiation
 }
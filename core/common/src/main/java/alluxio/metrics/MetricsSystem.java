@@ -22,6 +22,7 @@ import alluxio.util.network.NetworkAddressUtils;
 
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.JvmAttributeGaugeSet;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
@@ -385,6 +386,14 @@ public final class MetricsSystem {
     return METRIC_REGISTRY.meter(getMetricName(name));
   }
 
+  /**
+   * @param name the name of the metric
+   * @return a histogram object with the qualified metric name
+   */
+  public static Histogram histogram(String name) {
+    return METRIC_REGISTRY.histogram(getMetricName(name));
+  }
+
   /**
    * @param name the name of the metric
    * @return a timer object with the qualified metric name
@@ -406,6 +415,32 @@ public final class MetricsSystem {
     }
   }
 
+  /**
+   * Registers a gauge, replacing any gauge already registered under the name. This is for gauges
+   * owned by an object which may be recreated, so that the gauge follows the latest instance.
+   *
+   * @param name the gauge name
+   * @param metric the gauge
+   * @param <T> the type
+   */
+  public static synchronized <T> void registerGauge(String name, Gauge<T> metric) {
+    METRIC_REGISTRY.remove(name);
+    METRIC_REGISTRY.register(name, metric);
+  }
+
+  /**
+   * Removes a gauge registered with {@link #registerGauge(String, Gauge)}, unless it has since
+   * been replaced by another gauge.
+   *
+   * @param name the gauge name
+   * @param metric the gauge to remove
+   */
+  public static synchronized void removeGauge(String name, Gauge<?> metric) {
+    if (METRIC_REGISTRY.getGauges().get(name) == metric) {
+      METRIC_REGISTRY.remove(name);
+    }
+  }
+
   /**
    * Resets all the counters to 0 for testing.
    */
@@ -0,0 +1,55 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link UfsStatusIterator} which only needs to compute the next status, or null once the
+ * listing is exhausted.
+ */
+@NotThreadSafe
+public abstract class AbstractUfsStatusIterator implements UfsStatusIterator {
+  private UfsStatus mNext;
+  private boolean mDone;
+
+  /**
+   * Computes the next status. This is not called again once it has returned null.
+   *
+   * @return the next status, or null if the listing is exhausted
+   */
+  @Nullable
+  protected abstract UfsStatus computeNext() throws IOException;
+
+  @Override
+  public boolean hasNext() throws IOException {
+    if (mNext == null && !mDone) {
+      mNext = computeNext();
+      mDone = mNext == null;
+    }
+    return mNext != null;
+  }
+
+  @Override
+  public UfsStatus next() throws IOException {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    UfsStatus next = mNext;
+    mNext = null;
+    return next;
+  }
+}
@@ -35,6 +35,7 @@ import java.io.OutputStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -174,6 +175,27 @@ public abstract class BaseUnderFileSystem implements UnderFileSystem {
     return returnPaths.toArray(new UfsStatus[returnPaths.size()]);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The default implementation materializes each directory listing with
+   * {@link #listStatus(String)}. A recursive listing walks the tree depth first, keeping one
+   * non-recursive iterator open per level, so implementations only need to override the
+   * non-recursive case to stream their listings.
+   */
+  @Override
+  @Nullable
+  public UfsStatusIterator listStatusIterator(String path, ListOptions options)
+      throws IOException {
+    if (!options.isRecursive()) {
+      UfsStatus[] statuses = listStatus(path);
+      return statuses == null ? null : UfsStatusIterator.of(statuses);
+    }
+    path = validatePath(path);
+    UfsStatusIterator children = listStatusIterator(path, ListOptions.defaults());
+    return children == null ? null : new RecursiveStatusIterator(path, children);
+  }
+
   @Override
   public InputStream open(String path) throws IOException {
     return open(path, OpenOptions.defaults());
@@ -216,6 +238,48 @@ public abstract class BaseUnderFileSystem implements UnderFileSystem {
   @Override
   public void stopSync(AlluxioURI uri) { }
 
+  /**
+   * Walks a directory tree depth first. Names are relative to the root of the listing.
+   */
+  private final class RecursiveStatusIterator extends AbstractUfsStatusIterator {
+    private final String mRoot;
+    /** Each element is a pair of (full path of a directory, iterator over its children). */
+    private final Deque<Pair<String, UfsStatusIterator>> mDirectories = new ArrayDeque<>();
+
+    RecursiveStatusIterator(String root, UfsStatusIterator children) {
+      mRoot = root;
+      mDirectories.push(new Pair<>(root, children));
+    }
+
+    @Override
+    protected UfsStatus computeNext() throws IOException {
+      while (!mDirectories.isEmpty()) {
+        Pair<String, UfsStatusIterator> directory = mDirectories.peek();
+        if (!directory.getSecond().hasNext()) {
+          mDirectories.pop().getSecond().close();
+          continue;
+        }
+        UfsStatus status = directory.getSecond().next();
+        String fullPath = PathUtils.concatPath(directory.getFirst(), status.getName());
+        if (status.isDirectory()) {
+          UfsStatusIterator children = listStatusIterator(fullPath, ListOptions.defaults());
+          if (children != null) {
+            mDirectories.push(new Pair<>(fullPath, children));
+          }
+        }
+        return status.setName(fullPath.substring(mRoot.length() + 1));
+      }
+      return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+      while (!mDirectories.isEmpty()) {
+        mDirectories.pop().getSecond().close();
+      }
+    }
+  }
+
   /**
    * Clean the path by creating a URI and turning it back to a string.
    *
@@ -40,10 +40,13 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -600,6 +603,28 @@ public abstract class ObjectUnderFileSystem extends BaseUnderFileSystem {
     return listInternal(path, options);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * The listing is streamed chunk by chunk. Unlike {@link #listStatus(String, ListOptions)}, if a
+   * file and a directory with the same name end up in different chunks, both are returned.
+   */
+  @Override
+  @Nullable
+  public UfsStatusIterator listStatusIterator(String path, ListOptions options)
+      throws IOException {
+    ObjectListingChunk chunk = getObjectListingChunkForPath(path, options.isRecursive());
+    if (chunk == null) {
+      String keyAsFolder = convertToFolderName(stripPrefixIfPresent(path));
+      if (getObjectStatus(keyAsFolder) != null) {
+        // Path is an empty directory
+        return UfsStatusIterator.of();
+      }
+      return null;
+    }
+    return new ObjectStatusIterator(chunk, getListingKeyPrefix(path), options.isRecursive());
+  }
+
   @Override
   public boolean mkdirs(String path, MkdirsOptions options) throws IOException {
     if (path == null) {
@@ -968,96 +993,169 @@ public abstract class ObjectUnderFileSystem extends BaseUnderFileSystem {
       }
       return null;
     }
-    String keyPrefix = PathUtils.normalizePath(stripPrefixIfPresent(path), PATH_SEPARATOR);
-    keyPrefix = keyPrefix.equals(PATH_SEPARATOR) ? "" : keyPrefix;
+    String keyPrefix = getListingKeyPrefix(path);
     Map<String, UfsStatus> children = new HashMap<>();
     while (chunk != null) {
-      // Directories in UFS can be possibly encoded in two different ways:
-      // (1) as file objects with FOLDER_SUFFIX for directories created through Alluxio or
-      // (2) as "common prefixes" of other files objects for directories not created through
-      // Alluxio
-      //
-      // Case (1) (and file objects) is accounted for by iterating over chunk.getObjects() while
-      // case (2) is accounted for by iterating over chunk.getCommonPrefixes().
-      //
-      // An example, with prefix="ufs" and delimiter="/" and LISTING_LENGTH=5
-      // - objects.key = ufs/, child =
-      // - objects.key = ufs/dir1<FOLDER_SUFFIX>, child = dir1
-      // - objects.key = ufs/file, child = file
-      // - commonPrefix = ufs/dir1/, child = dir1
-      // - commonPrefix = ufs/dir2/, child = dir2
-
-      // Handle case (1)
-      for (ObjectStatus status : chunk.getObjectStatuses()) {
-        // Remove parent portion of the key
-        String child = getChildName(status.getName(), keyPrefix);
-        if (child.isEmpty() || child.equals(getFolderSuffix())) {
-          // Removes results equal to the path
-          continue;
+      addChunkStatuses(chunk, keyPrefix, options.isRecursive(), children);
+      chunk = chunk.getNextChunk();
+    }
+    UfsStatus[] ret = new UfsStatus[children.size()];
+    int pos = 0;
+    for (UfsStatus status : children.values()) {
+      ret[pos++] = status;
+    }
+    return ret;
+  }
+
+  /**
+   * @param path the path being listed
+   * @return the key prefix to strip from the keys in the listing of the path
+   */
+  private String getListingKeyPrefix(String path) {
+    String keyPrefix = PathUtils.normalizePath(stripPrefixIfPresent(path), PATH_SEPARATOR);
+    return keyPrefix.equals(PATH_SEPARATOR) ? "" : keyPrefix;
+  }
+
+  /**
+   * Adds the statuses of the children found in a chunk of a listing, keyed by their names.
+   *
+   * @param chunk the chunk of the listing
+   * @param keyPrefix the key prefix of the path being listed
+   * @param recursive whether the listing is recursive
+   * @param children the map to add the statuses to
+   */
+  private void addChunkStatuses(ObjectListingChunk chunk, String keyPrefix, boolean recursive,
+      Map<String, UfsStatus> children) throws IOException {
+    // Directories in UFS can be possibly encoded in two different ways:
+    // (1) as file objects with FOLDER_SUFFIX for directories created through Alluxio or
+    // (2) as "common prefixes" of other files objects for directories not created through
+    // Alluxio
+    //
+    // Case (1) (and file objects) is accounted for by iterating over chunk.getObjects() while
+    // case (2) is accounted for by iterating over chunk.getCommonPrefixes().
+    //
+    // An example, with prefix="ufs" and delimiter="/" and LISTING_LENGTH=5
+    // - objects.key = ufs/, child =
+    // - objects.key = ufs/dir1<FOLDER_SUFFIX>, child = dir1
+    // - objects.key = ufs/file, child = file
+    // - commonPrefix = ufs/dir1/, child = dir1
+    // - commonPrefix = ufs/dir2/, child = dir2
+
+    // Handle case (1)
+    for (ObjectStatus status : chunk.getObjectStatuses()) {
+      // Remove parent portion of the key
+      String child = getChildName(status.getName(), keyPrefix);
+      if (child.isEmpty() || child.equals(getFolderSuffix())) {
+        // Removes results equal to the path
+        continue;
+      }
+      ObjectPermissions permissions = getPermissions();
+      if (child.endsWith(getFolderSuffix())) {
+        // Child is a directory
+        child = CommonUtils.stripSuffixIfPresent(child, getFolderSuffix());
+        children.put(child, new UfsDirectoryStatus(child, permissions.getOwner(),
+            permissions.getGroup(), permissions.getMode()));
+      } else {
+        // Child is a file
+        children.put(child,
+            new UfsFileStatus(child, status.getContentHash(), status.getContentLength(),
+                status.getLastModifiedTimeMs(), permissions.getOwner(), permissions.getGroup(),
+                permissions.getMode()));
+      }
+    }
+    // Handle case (2)
+    String[] commonPrefixes;
+    if (recursive) {
+      // In case of a recursive listing infer pseudo-directories as the commonPrefixes returned
+      // from the object store is empty for an empty delimiter.
+      HashSet<String> prefixes = new HashSet<>();
+      for (ObjectStatus objectStatus : chunk.getObjectStatuses()) {
+        String objectName = objectStatus.getName();
+        while (objectName.startsWith(keyPrefix) && objectName.contains(PATH_SEPARATOR)) {
+          objectName = objectName.substring(0, objectName.lastIndexOf(PATH_SEPARATOR));
+          if (!objectName.isEmpty()) {
+            // include the separator with the prefix, to conform to what object stores return
+            // as common prefixes.
+            prefixes.add(PathUtils.normalizePath(objectName, PATH_SEPARATOR));
+          }
         }
-        ObjectPermissions permissions = getPermissions();
-        if (child.endsWith(getFolderSuffix())) {
-          // Child is a directory
-          child = CommonUtils.stripSuffixIfPresent(child, getFolderSuffix());
+      }
+      commonPrefixes = prefixes.toArray(new String[prefixes.size()]);
+    } else {
+      commonPrefixes = chunk.getCommonPrefixes();
+    }
+    for (String commonPrefix : commonPrefixes) {
+      if (commonPrefix.startsWith(keyPrefix)) {
+        // Remove parent portion of the key
+        String child = getChildName(commonPrefix, keyPrefix);
+        // Remove any portion after the last path delimiter
+        int childNameIndex = child.lastIndexOf(PATH_SEPARATOR);
+        child = childNameIndex != -1 ? child.substring(0, childNameIndex) : child;
+        if (!child.isEmpty() && !children.containsKey(child)) {
+          // This directory has not been created through Alluxio.
+          if (!mUfsConf.isReadOnly()) {
+            mkdirsInternal(commonPrefix);
+          }
+          // If both a file and a directory existed with the same name, the path will be
+          // treated as a directory
+          ObjectPermissions permissions = getPermissions();
           children.put(child, new UfsDirectoryStatus(child, permissions.getOwner(),
               permissions.getGroup(), permissions.getMode()));
-        } else {
-          // Child is a file
-          children.put(child,
-              new UfsFileStatus(child, status.getContentHash(), status.getContentLength(),
-                  status.getLastModifiedTimeMs(), permissions.getOwner(), permissions.getGroup(),
-                  permissions.getMode()));
         }
       }
-      // Handle case (2)
-      String[] commonPrefixes;
-      if (options.isRecursive()) {
-        // In case of a recursive listing infer pseudo-directories as the commonPrefixes returned
-        // from the object store is empty for an empty delimiter.
-        HashSet<String> prefixes = new HashSet<>();
-        for (ObjectStatus objectStatus : chunk.getObjectStatuses()) {
-          String objectName = objectStatus.getName();
-          while (objectName.startsWith(keyPrefix) && objectName.contains(PATH_SEPARATOR)) {
-            objectName = objectName.substring(0, objectName.lastIndexOf(PATH_SEPARATOR));
-            if (!objectName.isEmpty()) {
-              // include the separator with the prefix, to conform to what object stores return
-              // as common prefixes.
-              prefixes.add(PathUtils.normalizePath(objectName, PATH_SEPARATOR));
-            }
+    }
+  }
+
+  /**
+   * Streams a listing chunk by chunk, only fetching the next chunk once the statuses of the
+   * previous one have been consumed.
+   */
+  private final class ObjectStatusIterator extends AbstractUfsStatusIterator {
+    private final String mKeyPrefix;
+    private final boolean mRecursive;
+    /**
+     * Names of the directories returned so far. A pseudo-directory may show up in several chunks,
+     * both as a folder object and as a common prefix.
+     */
+    private final Set<String> mDirectories = new HashSet<>();
+    private ObjectListingChunk mChunk;
+    private boolean mChunkLoaded = false;
+    private Iterator<UfsStatus> mStatuses = Collections.emptyIterator();
+
+    ObjectStatusIterator(ObjectListingChunk chunk, String keyPrefix, boolean recursive) {
+      mChunk = chunk;
+      mKeyPrefix = keyPrefix;
+      mRecursive = recursive;
+    }
+
+    @Override
+    protected UfsStatus computeNext() throws IOException {
+      while (true) {
+        while (mStatuses.hasNext()) {
+          UfsStatus status = mStatuses.next();
+          if (!status.isDirectory() || mDirectories.add(status.getName())) {
+            return status;
           }
         }
-        commonPrefixes = prefixes.toArray(new String[prefixes.size()]);
-      } else {
-        commonPrefixes = chunk.getCommonPrefixes();
-      }
-      for (String commonPrefix : commonPrefixes) {
-        if (commonPrefix.startsWith(keyPrefix)) {
-          // Remove parent portion of the key
-          String child = getChildName(commonPrefix, keyPrefix);
-          // Remove any portion after the last path delimiter
-          int childNameIndex = child.lastIndexOf(PATH_SEPARATOR);
-          child = childNameIndex != -1 ? child.substring(0, childNameIndex) : child;
-          if (!child.isEmpty() && !children.containsKey(child)) {
-            // This directory has not been created through Alluxio.
-            if (!mUfsConf.isReadOnly()) {
-              mkdirsInternal(commonPrefix);
-            }
-            // If both a file and a directory existed with the same name, the path will be
-            // treated as a directory
-            ObjectPermissions permissions = getPermissions();
-            children.put(child, new UfsDirectoryStatus(child, permissions.getOwner(),
-                permissions.getGroup(), permissions.getMode()));
-          }
+        if (mChunkLoaded) {
+          mChunk = mChunk.getNextChunk();
+        }
+        if (mChunk == null) {
+          return null;
         }
+        Map<String, UfsStatus> children = new HashMap<>();
+        addChunkStatuses(mChunk, mKeyPrefix, mRecursive, children);
+        List<UfsStatus> statuses = new ArrayList<>(children.values());
+        if (mRecursive) {
+          // The directories of a chunk are inferred from the keys in the same chunk, so returning
+          // them first, parents before children, returns each directory before its descendants.
+          statuses.sort(Comparator.comparing((UfsStatus status) -> !status.isDirectory())
+              .thenComparing(UfsStatus::getName));
+        }
+        mStatuses = statuses.iterator();
+        mChunkLoaded = true;
       }
-      chunk = chunk.getNextChunk();
-    }
-    UfsStatus[] ret = new UfsStatus[children.size()];
-    int pos = 0;
-    for (UfsStatus status : children.values()) {
-      ret[pos++] = status;
     }
-    return ret;
   }
 
   /**
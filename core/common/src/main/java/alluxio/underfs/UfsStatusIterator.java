@@ -0,0 +1,55 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import alluxio.annotation.PublicApi;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the statuses of a directory listing in an under file system. Statuses are
+ * fetched from the UFS as the iterator advances, so a listing of any size can be walked without
+ * holding it in memory. The iterator must be closed to release the resources held by the listing.
+ */
+@PublicApi
+public interface UfsStatusIterator extends Closeable {
+  /**
+   * @return whether there are more statuses in the listing
+   */
+  boolean hasNext() throws IOException;
+
+  /**
+   * @return the next status in the listing
+   * @throws NoSuchElementException if there are no more statuses
+   */
+  UfsStatus next() throws IOException;
+
+  @Override
+  default void close() throws IOException {}
+
+  /**
+   * @param statuses the statuses to iterate over
+   * @return an iterator over an already materialized listing
+   */
+  static UfsStatusIterator of(UfsStatus... statuses) {
+    return new AbstractUfsStatusIterator() {
+      private int mIndex = 0;
+
+      @Override
+      protected UfsStatus computeNext() {
+        return mIndex < statuses.length ? statuses[mIndex++] : null;
+      }
+    };
+  }
+}
@@ -552,6 +552,27 @@ public interface UnderFileSystem extends Closeable {
   @Nullable
   UfsStatus[] listStatus(String path, ListOptions options) throws IOException;
 
+  /**
+   * Returns an iterator over the statuses of the files and directories in the directory denoted
+   * by this abstract pathname, with options. Unlike {@link #listStatus(String, ListOptions)}, the
+   * listing is fetched from the under file system as the iterator advances, so directories of any
+   * size can be listed without holding the whole listing in memory.
+   *
+   * <p>
+   * If this abstract pathname does not denote a directory, then this method returns {@code null}.
+   * Names are the same as the ones returned by {@link #listStatus(String, ListOptions)}. There is
+   * no guarantee on their order, except that a recursive listing returns each directory before
+   * its descendants. The returned iterator must be closed.
+   *
+   * @param path the abstract pathname to list
+   * @param options for list directory
+   * @return an iterator over the statuses of the files and directories in the directory denoted
+   *         by this abstract pathname, or {@code null} if this abstract pathname does not denote a
+   *         directory
+   */
+  @Nullable
+  UfsStatusIterator listStatusIterator(String path, ListOptions options) throws IOException;
+
   /**
    * Creates the directory named by this abstract pathname. If the folder already exists, the method
    * returns false. The method creates any necessary but nonexistent parent directories.
@@ -591,6 +591,42 @@ public class UnderFileSystemWithLogging implements UnderFileSystem {
     });
   }
 
+  @Override
+  public UfsStatusIterator listStatusIterator(final String path, final ListOptions options)
+      throws IOException {
+    return call(new UfsCallable<UfsStatusIterator>() {
+      @Override
+      public UfsStatusIterator call() throws IOException {
+        UfsStatusIterator statuses = mUnderFileSystem.listStatusIterator(path, options);
+        return statuses == null ? null : new AbstractUfsStatusIterator() {
+          @Override
+          protected UfsStatus computeNext() throws IOException {
+            while (statuses.hasNext()) {
+              UfsStatus status = statuses.next();
+              // Same temporary fix as filterInvalidPaths.
+              if (!status.getName().contains("?")) {
+                return status;
+              }
+              LOG.warn("Ignoring {} while listing {} since it contains '?'", status.getName(),
+                  path);
+            }
+            return null;
+          }
+
+          @Override
+          public void close() throws IOException {
+            statuses.close();
+          }
+        };
+      }
+
+      @Override
+      public String toString() {
+        return String.format("ListStatusIterator: path=%s, options=%s", path, options);
+      }
+    });
+  }
+
   @Nullable
   private UfsStatus[] filterInvalidPaths(UfsStatus[] statuses, String listedPath) {
     // This is a temporary fix to prevent us from choking on paths containing '?'.
@@ -0,0 +1,244 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.util.executor;
+
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Processes tasks on a fixed number of partitions, each of which processes its own queue in order
+ * on its own thread. Callers assign tasks to partitions, usually with {@link #getPartition(long)},
+ * so that the tasks of a key are processed in the order they were added while the tasks of other
+ * keys are processed concurrently.
+ *
+ * A partition thread takes the tasks queued when it becomes idle, up to a maximum batch size, and
+ * passes them to the processor at once.
+ *
+ * @param <T> the type of the tasks
+ */
+@ThreadSafe
+public final class PartitionedExecutor<T> implements Closeable {
+  /** How long blocked callers wait between checks of whether the executor has been closed. */
+  private static final long CLOSE_CHECK_INTERVAL_MS = 100;
+
+  private final Processor<T> mProcessor;
+  private final int mMaxBatchSize;
+  private final List<Partition> mPartitions;
+
+  private volatile boolean mClosed = false;
+
+  /**
+   * @param threadNameFormat the format of the names of the partition threads, as accepted by
+   *        {@link ThreadFactoryUtils#build(String, boolean)}
+   * @param partitions the number of partitions
+   * @param queueSize the maximum number of tasks queued for each partition
+   * @param maxBatchSize the maximum number of tasks passed to the processor at once
+   * @param processor the processor of the tasks; it is responsible for handling failures to
+   *        process them
+   */
+  public PartitionedExecutor(String threadNameFormat, int partitions, int queueSize,
+      int maxBatchSize, Processor<T> processor) {
+    Preconditions.checkArgument(partitions > 0, "partitions must be positive");
+    Preconditions.checkArgument(queueSize > 0, "queueSize must be positive");
+    Preconditions.checkArgument(maxBatchSize > 0, "maxBatchSize must be positive");
+    mProcessor = processor;
+    mMaxBatchSize = maxBatchSize;
+    mPartitions = new ArrayList<>(partitions);
+    ThreadFactory threadFactory = ThreadFactoryUtils.build(threadNameFormat, true);
+    for (int i = 0; i < partitions; i++) {
+      mPartitions.add(new Partition(queueSize, threadFactory));
+    }
+  }
+
+  /**
+   * @return the number of partitions
+   */
+  public int getPartitionCount() {
+    return mPartitions.size();
+  }
+
+  /**
+   * @param key a key, such as an inode, block or worker id
+   * @return the partition of the key
+   */
+  public int getPartition(long key) {
+    // Fibonacci hashing, since ids are often sequential or share their low bits
+    int hash = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+    return Math.floorMod(hash, mPartitions.size());
+  }
+
+  /**
+   * Queues a task on a partition. This blocks while the queue of the partition is full.
+   *
+   * @param partition the partition
+   * @param task the task
+   * @throws IllegalStateException if the executor is closed
+   */
+  public void add(int partition, T task) {
+    Queued<T> queued = new Queued<>(task);
+    BlockingQueue<Queued<T>> queue = mPartitions.get(partition).mQueue;
+    boolean interrupted = false;
+    try {
+      while (true) {
+        Preconditions.checkState(!mClosed, "Partitioned executor is closed");
+        try {
+          if (queue.offer(queued, CLOSE_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+            return;
+          }
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Waits until the latch is counted down or the executor is closed, deferring interrupts until
+   * then. Tasks can count down a latch to let callers wait until they have been processed.
+   *
+   * @param latch the latch
+   * @return whether the latch was counted down, false if the executor was closed first
+   */
+  public boolean await(CountDownLatch latch) {
+    while (!Uninterruptibles.awaitUninterruptibly(latch, CLOSE_CHECK_INTERVAL_MS,
+        TimeUnit.MILLISECONDS)) {
+      if (mClosed) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the time in milliseconds since the oldest task which has not been processed yet was
+   *         added, or 0 if all tasks have been processed
+   */
+  public long getLagMs() {
+    long oldest = Long.MAX_VALUE;
+    for (Partition partition : mPartitions) {
+      oldest = Math.min(oldest, partition.getOldestAddTimeMs());
+    }
+    return oldest == Long.MAX_VALUE ? 0 : Math.max(0, System.currentTimeMillis() - oldest);
+  }
+
+  /**
+   * @return whether the executor is closed
+   */
+  public boolean isClosed() {
+    return mClosed;
+  }
+
+  /**
+   * Stops the partition threads. Tasks which have not been processed yet are discarded, and
+   * callers blocked in {@link #add(int, Object)} or {@link #await(CountDownLatch)} are released.
+   */
+  @Override
+  public void close() {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+    for (Partition partition : mPartitions) {
+      partition.mThread.interrupt();
+    }
+    for (Partition partition : mPartitions) {
+      Uninterruptibles.joinUninterruptibly(partition.mThread);
+    }
+  }
+
+  /**
+   * Processes the tasks of a partition.
+   *
+   * @param <T> the type of the tasks
+   */
+  @FunctionalInterface
+  public interface Processor<T> {
+    /**
+     * @param tasks the tasks taken from the queue of one partition, in the order they were added
+     * @throws InterruptedException if the executor is closed while processing the tasks
+     */
+    void process(List<T> tasks) throws InterruptedException;
+  }
+
+  /**
+   * A task together with the time it was added.
+   */
+  private static final class Queued<T> {
+    private final T mTask;
+    private final long mAddTimeMs = System.currentTimeMillis();
+
+    Queued(T task) {
+      mTask = task;
+    }
+  }
+
+  /**
+   * A queue of tasks processed in order by a single thread.
+   */
+  private final class Partition implements Runnable {
+    private final BlockingQueue<Queued<T>> mQueue;
+    private final Thread mThread;
+    /** The add time of the oldest task being processed, or MAX_VALUE if idle. */
+    private volatile long mProcessingAddTimeMs = Long.MAX_VALUE;
+
+    Partition(int queueSize, ThreadFactory threadFactory) {
+      mQueue = new LinkedBlockingQueue<>(queueSize);
+      mThread = threadFactory.newThread(this);
+      mThread.start();
+    }
+
+    long getOldestAddTimeMs() {
+      long processing = mProcessingAddTimeMs;
+      Queued<T> next = mQueue.peek();
+      return Math.min(processing, next == null ? Long.MAX_VALUE : next.mAddTimeMs);
+    }
+
+    @Override
+    public void run() {
+      List<Queued<T>> queued = new ArrayList<>();
+      List<T> tasks = new ArrayList<>();
+      try {
+        while (!Thread.currentThread().isInterrupted()) {
+          queued.add(mQueue.take());
+          mQueue.drainTo(queued, mMaxBatchSize - 1);
+          mProcessingAddTimeMs = queued.get(0).mAddTimeMs;
+          for (Queued<T> q : queued) {
+            tasks.add(q.mTask);
+          }
+          mProcessor.process(tasks);
+          mProcessingAddTimeMs = Long.MAX_VALUE;
+          queued.clear();
+          tasks.clear();
+        }
+      } catch (InterruptedException e) {
+        // The executor is closed
+      }
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The totals of a file or of a directory subtree: the length and number of the files, the number
+ * of directories and the bytes cached in Alluxio.
+ */
+@NotThreadSafe
+public final class ContentSummary {
+  private long mLength;
+  private long mFileCount;
+  private long mDirectoryCount;
+  private long mInAlluxioLength;
+  private long mInMemoryLength;
+
+  /**
+   * Creates a new instance of {@link ContentSummary}.
+   */
+  public ContentSummary() {}
+
+  /**
+   * @return the total length of the files
+   */
+  public long getLength() {
+    return mLength;
+  }
+
+  /**
+   * @return the number of files
+   */
+  public long getFileCount() {
+    return mFileCount;
+  }
+
+  /**
+   * @return the number of directories, including the summarized directory itself
+   */
+  public long getDirectoryCount() {
+    return mDirectoryCount;
+  }
+
+  /**
+   * @return the number of bytes of the files that are cached in Alluxio, only known if it was
+   *         requested
+   */
+  public long getInAlluxioLength() {
+    return mInAlluxioLength;
+  }
+
+  /**
+   * @return the number of bytes of the files that are cached in memory, only known if the in
+   *         Alluxio length was requested
+   */
+  public long getInMemoryLength() {
+    return mInMemoryLength;
+  }
+
+  /**
+   * @param length the total length of the files to use
+   * @return the content summary
+   */
+  public ContentSummary setLength(long length) {
+    mLength = length;
+    return this;
+  }
+
+  /**
+   * @param fileCount the number of files to use
+   * @return the content summary
+   */
+  public ContentSummary setFileCount(long fileCount) {
+    mFileCount = fileCount;
+    return this;
+  }
+
+  /**
+   * @param directoryCount the number of directories to use
+   * @return the content summary
+   */
+  public ContentSummary setDirectoryCount(long directoryCount) {
+    mDirectoryCount = directoryCount;
+    return this;
+  }
+
+  /**
+   * @param inAlluxioLength the number of bytes cached in Alluxio to use
+   * @return the content summary
+   */
+  public ContentSummary setInAlluxioLength(long inAlluxioLength) {
+    mInAlluxioLength = inAlluxioLength;
+    return this;
+  }
+
+  /**
+   * @param inMemoryLength the number of bytes cached in memory to use
+   * @return the content summary
+   */
+  public ContentSummary setInMemoryLength(long inMemoryLength) {
+    mInMemoryLength = inMemoryLength;
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ContentSummary)) {
+      return false;
+    }
+    ContentSummary that = (ContentSummary) o;
+    return mLength == that.mLength && mFileCount == that.mFileCount
+        && mDirectoryCount == that.mDirectoryCount && mInAlluxioLength == that.mInAlluxioLength
+        && mInMemoryLength == that.mInMemoryLength;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mLength, mFileCount, mDirectoryCount, mInAlluxioLength,
+        mInMemoryLength);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("length", mLength).add("fileCount", mFileCount)
+        .add("directoryCount", mDirectoryCount).add("inAlluxioLength", mInAlluxioLength)
+        .add("inMemoryLength", mInMemoryLength).toString();
+  }
+}
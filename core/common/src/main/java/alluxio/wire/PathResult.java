@@ -0,0 +1,115 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import alluxio.AlluxioURI;
+import alluxio.exception.status.AlluxioStatusException;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The outcome of one path of a batch operation. Either the operation succeeded, in which case the
+ * result may carry a value, or it failed with an error; a failure does not affect the other
+ * paths of the batch.
+ *
+ * @param <T> the type of the value returned for a successful path
+ */
+@ThreadSafe
+public final class PathResult<T> {
+  private final AlluxioURI mPath;
+  @Nullable
+  private final T mValue;
+  @Nullable
+  private final AlluxioStatusException mError;
+
+  private PathResult(AlluxioURI path, @Nullable T value, @Nullable AlluxioStatusException error) {
+    mPath = Preconditions.checkNotNull(path, "path");
+    mValue = value;
+    mError = error;
+  }
+
+  /**
+   * @param path the path
+   * @param value the value for the path, may be null for operations without a return value
+   * @param <T> the type of the value
+   * @return a successful result
+   */
+  public static <T> PathResult<T> success(AlluxioURI path, @Nullable T value) {
+    return new PathResult<>(path, value, null);
+  }
+
+  /**
+   * @param path the path
+   * @param error the error the operation failed with
+   * @param <T> the type of the value
+   * @return a failed result
+   */
+  public static <T> PathResult<T> failure(AlluxioURI path, AlluxioStatusException error) {
+    return new PathResult<>(path, null, Preconditions.checkNotNull(error, "error"));
+  }
+
+  /**
+   * @return the path this result is for
+   */
+  public AlluxioURI getPath() {
+    return mPath;
+  }
+
+  /**
+   * @return whether the operation succeeded for this path
+   */
+  public boolean isSuccess() {
+    return mError == null;
+  }
+
+  /**
+   * @return the error the operation failed with, or null if it succeeded
+   */
+  @Nullable
+  public AlluxioStatusException getError() {
+    return mError;
+  }
+
+  /**
+   * @return the value for the path, or null if the operation failed or has no return value
+   */
+  @Nullable
+  public T getValue() {
+    return mValue;
+  }
+
+  /**
+   * Returns the value for the path, rethrowing the error if the operation failed.
+   *
+   * @return the value for the path
+   */
+  @Nullable
+  public T get() throws AlluxioStatusException {
+    if (mError != null) {
+      throw mError;
+    }
+    return mValue;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("path", mPath)
+        .add("value", mValue)
+        .add("error", mError)
+        .toString();
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import alluxio.Constants;
+import alluxio.concurrent.LockMode;
+import alluxio.resource.LockResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Microbenchmarks comparing {@link StripedLockTable} with {@link LockPool}, both configured with
+ * the master's default settings.
+ */
+public class LockTableBench {
+  private static final long RUN_MS = 3 * Constants.SECOND_MS;
+  private static final int[] THREAD_COUNTS = {1, 4, 16};
+  /** Keys locked at random, like the inodes of many independent paths. */
+  private static final int SPREAD_KEYS = 1_000_000;
+  /** Keys locked by every thread, like the inodes at the top of the tree. */
+  private static final int HOT_KEYS = 16;
+  /** Keys held at once to measure the memory kept after a burst of locking. */
+  private static final int BURST_KEYS = 1_000_000;
+
+  public static void main(String[] args) throws Exception {
+    System.out.printf("Running benchmarks for the lock pool%n");
+    runBenchmarks(() -> new LockPool<>(key -> new ReentrantReadWriteLock(), 1000, 500000,
+        1000000, 100));
+
+    System.out.printf("%nRunning benchmarks for the striped lock table%n");
+    runBenchmarks(() -> new StripedLockTable<>(4096, 4));
+  }
+
+  private static void runBenchmarks(Supplier<LockTable<Long>> tableSupplier) throws Exception {
+    LockTable<Long> table = tableSupplier.get();
+    // warm up
+    throughput(table, 4, SPREAD_KEYS, LockMode.READ);
+    for (int numThreads : THREAD_COUNTS) {
+      printThroughput("spread read", numThreads,
+          throughput(table, numThreads, SPREAD_KEYS, LockMode.READ));
+      printThroughput("spread write", numThreads,
+          throughput(table, numThreads, SPREAD_KEYS, LockMode.WRITE));
+      printThroughput("hot read", numThreads,
+          throughput(table, numThreads, HOT_KEYS, LockMode.READ));
+    }
+    burstBenchmark(tableSupplier.get());
+  }
+
+  private static void printThroughput(String workload, int numThreads, long count) {
+    System.out.printf("%-12s %2d threads: %,d ops/s%n", workload, numThreads,
+        count * Constants.SECOND_MS / RUN_MS);
+  }
+
+  /**
+   * @return the number of keys locked and unlocked by all threads in {@link #RUN_MS}
+   */
+  private static long throughput(LockTable<Long> table, int numThreads, int numKeys,
+      LockMode mode) throws InterruptedException {
+    ExecutorService service = Executors.newFixedThreadPool(numThreads);
+    try {
+      CyclicBarrier barrier = new CyclicBarrier(numThreads);
+      AtomicLong count = new AtomicLong();
+      List<Callable<Void>> threads = new ArrayList<>();
+      for (int i = 0; i < numThreads; i++) {
+        threads.add(() -> {
+          barrier.await();
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          long end = System.nanoTime() + RUN_MS * Constants.MS_NANO;
+          long ops = 0;
+          while (System.nanoTime() < end) {
+            try (LockResource r = table.get((long) random.nextInt(numKeys), mode)) {
+              ops++;
+            }
+          }
+          count.addAndGet(ops);
+          return null;
+        });
+      }
+      service.invokeAll(threads);
+      return count.get();
+    } finally {
+      service.shutdownNow();
+    }
+  }
+
+  /**
+   * Reports the heap used by the table while many keys are locked at once, and once they have
+   * all been unlocked again.
+   */
+  private static void burstBenchmark(LockTable<Long> table) throws InterruptedException {
+    long before = usedHeapBytes();
+    List<LockResource> locks = new ArrayList<>(BURST_KEYS);
+    for (long key = 0; key < BURST_KEYS; key++) {
+      locks.add(table.get(key, LockMode.READ));
+    }
+    long held = usedHeapBytes() - before;
+    for (LockResource lock : locks) {
+      lock.close();
+    }
+    locks = null;
+    // Give an asynchronous eviction time to run.
+    Thread.sleep(Constants.SECOND_MS);
+    long released = usedHeapBytes() - before;
+    System.out.printf("Locked %,d keys at once using %,d heap bytes, %,d heap bytes kept after "
+        + "unlocking them%n", BURST_KEYS, held, released);
+  }
+
+  private static long usedHeapBytes() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
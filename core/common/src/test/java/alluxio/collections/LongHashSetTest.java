@@ -0,0 +1,77 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Tests the {@link LongHashSet} class.
+ */
+public class LongHashSetTest {
+  @Test
+  public void basic() {
+    LongHashSet set = LongHashSet.of(ImmutableList.of(3L, -1L, 0L, 3L));
+    assertEquals(3, set.size());
+    assertTrue(set.contains(-1));
+    assertFalse(set.contains(1));
+    assertFalse(set.add(0));
+    assertTrue(set.remove(3));
+    assertFalse(set.remove(3));
+    assertArrayEquals(new long[] {-1, 0}, sorted(set.toArray()));
+    assertEquals(ImmutableSet.of(-1L, 0L), set.toSet());
+    set.clear();
+    assertTrue(set.isEmpty());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void reservedKey() {
+    new LongHashSet().add(Long.MIN_VALUE);
+  }
+
+  @Test
+  public void matchesHashSet() {
+    Random random = new Random(0);
+    LongHashSet set = new LongHashSet();
+    Set<Long> expected = new HashSet<>();
+    for (int i = 0; i < 100_000; i++) {
+      // A small key range, with keys of the block id layout, makes collisions and removals common.
+      long key = (long) random.nextInt(5000) << 24;
+      if (random.nextInt(3) == 0) {
+        assertEquals(expected.remove(key), set.remove(key));
+      } else {
+        assertEquals(expected.add(key), set.add(key));
+      }
+      assertEquals(expected.size(), set.size());
+    }
+    for (long key = 0; key < 5000; key++) {
+      assertEquals(expected.contains(key << 24), set.contains(key << 24));
+    }
+    assertEquals(expected, set.toSet());
+  }
+
+  private static long[] sorted(long[] values) {
+    Arrays.sort(values);
+    return values;
+  }
+}
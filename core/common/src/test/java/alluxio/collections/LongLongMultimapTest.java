@@ -0,0 +1,76 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests the {@link LongLongMultimap} class.
+ */
+public class LongLongMultimapTest {
+  @Test
+  public void multimap() {
+    LongLongMultimap map = new LongLongMultimap();
+    map.put(7, 1);
+    map.put(7, 2);
+    map.put(7, 1);
+    map.put(8, 3);
+    assertEquals(4, map.size());
+    assertArrayEquals(new long[] {1, 1, 2}, sorted(map.get(7)));
+    assertArrayEquals(new long[0], map.get(9));
+    assertEquals(2, map.remove(7, value -> value == 1));
+    assertArrayEquals(new long[] {2}, map.get(7));
+    assertEquals(1, map.removeAll(8));
+    assertFalse(map.containsKey(8));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void multimapMatchesListMultimap() {
+    Random random = new Random(0);
+    LongLongMultimap map = new LongLongMultimap();
+    ListMultimap<Long, Long> expected = ArrayListMultimap.create();
+    for (int i = 0; i < 100_000; i++) {
+      long key = (long) random.nextInt(2000) << 24;
+      long value = random.nextInt(4);
+      if (random.nextInt(3) == 0) {
+        int removed = 0;
+        while (expected.remove(key, value)) {
+          removed++;
+        }
+        assertEquals(removed, map.remove(key, v -> v == value));
+      } else {
+        expected.put(key, value);
+        map.put(key, value);
+      }
+      assertEquals(expected.size(), map.size());
+    }
+    for (long key = 0; key < 2000; key++) {
+      long[] values = expected.get(key << 24).stream().mapToLong(Long::longValue).toArray();
+      assertArrayEquals(sorted(values), sorted(map.get(key << 24)));
+    }
+  }
+
+  private static long[] sorted(long[] values) {
+    Arrays.sort(values);
+    return values;
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.concurrent.LockMode;
+import alluxio.resource.LockResource;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Tests the {@link StripedLockTable} class.
+ */
+public class StripedLockTableTest {
+  @Test
+  public void reuseSlots() {
+    StripedLockTable<Long> table = new StripedLockTable<>(1, 1);
+    for (long key = 0; key < 100; key++) {
+      try (LockResource r = table.get(key, LockMode.WRITE)) {
+        assertTrue(table.isWriteLocked(key));
+      }
+    }
+    assertEquals(1, table.capacity());
+    assertTrue(table.getEntryMap().isEmpty());
+  }
+
+  @Test
+  public void collidingKeysGetSeparateLocks() {
+    StripedLockTable<Long> table = new StripedLockTable<>(1, 1);
+    try (LockResource r1 = table.get(1L, LockMode.WRITE);
+         LockResource r2 = table.get(2L, LockMode.READ)) {
+      assertTrue(table.isWriteLocked(1L));
+      assertFalse(table.isWriteLocked(2L));
+      assertNotSame(table.getRawReadWriteLock(1L), table.getRawReadWriteLock(2L));
+      assertEquals(2, table.getEntryMap().size());
+      assertFalse(tryLockInOtherThread(table, 1L, LockMode.READ));
+      assertTrue(tryLockInOtherThread(table, 2L, LockMode.READ));
+      assertFalse(tryLockInOtherThread(table, 2L, LockMode.WRITE));
+      assertEquals(2, table.capacity());
+    }
+    assertEquals(1, table.capacity());
+    assertTrue(table.getEntryMap().isEmpty());
+  }
+
+  @Test
+  public void shrinkKeepsLockedSlots() {
+    StripedLockTable<Long> table = new StripedLockTable<>(1, 2);
+    List<LockResource> locks = new ArrayList<>();
+    for (long key = 0; key < 16; key++) {
+      locks.add(table.get(key, key == 15 ? LockMode.WRITE : LockMode.READ));
+    }
+    assertEquals(16, table.capacity());
+    ReentrantReadWriteLock lock = table.getRawReadWriteLock(15L);
+    for (int i = 0; i < 14; i++) {
+      locks.get(i).close();
+    }
+    // The stripe halves while at most a quarter of its slots are bound.
+    assertEquals(4, table.capacity());
+    assertTrue(table.isWriteLocked(15L));
+    assertSame(lock, table.getRawReadWriteLock(15L));
+    assertFalse(tryLockInOtherThread(table, 15L, LockMode.READ));
+    assertFalse(tryLockInOtherThread(table, 14L, LockMode.WRITE));
+    locks.get(14).close();
+    locks.get(15).close();
+    assertEquals(2, table.capacity());
+    assertTrue(table.getEntryMap().isEmpty());
+  }
+
+  @Test
+  public void reentrantLocking() {
+    StripedLockTable<String> table = new StripedLockTable<>(4, 2);
+    try (LockResource r1 = table.get("key", LockMode.WRITE)) {
+      try (LockResource r2 = table.get("key", LockMode.WRITE)) {
+        assertEquals(2, table.getRawReadWriteLock("key").getWriteHoldCount());
+      }
+      assertTrue(table.isWriteLocked("key"));
+    }
+    assertFalse(table.isWriteLocked("key"));
+    assertTrue(table.getEntryMap().isEmpty());
+  }
+
+  @Test
+  public void failedTryGetReleasesSlot() {
+    StripedLockTable<Long> table = new StripedLockTable<>(1, 1);
+    try (LockResource r = table.get(1L, LockMode.WRITE)) {
+      assertFalse(tryLockInOtherThread(table, 1L, LockMode.WRITE));
+      assertEquals(1, table.getEntryMap().size());
+    }
+    assertTrue(table.getEntryMap().isEmpty());
+  }
+
+  private static boolean tryLockInOtherThread(LockTable<Long> table, long key, LockMode mode) {
+    return CompletableFuture.supplyAsync(() -> {
+      Optional<LockResource> lock = table.tryGet(key, mode);
+      lock.ifPresent(LockResource::close);
+      return lock.isPresent();
+    }).join();
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.util.executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tests the {@link PartitionedExecutor} class.
+ */
+public class PartitionedExecutorTest {
+  private PartitionedExecutor<Runnable> mExecutor;
+
+  @After
+  public void after() {
+    if (mExecutor != null) {
+      mExecutor.close();
+    }
+  }
+
+  @Test
+  public void processesTasksOfEachKeyInOrder() {
+    mExecutor = new PartitionedExecutor<>("test-partition-%d", 4, 100, 16,
+        tasks -> tasks.forEach(Runnable::run));
+    Map<Long, List<Long>> processed = new ConcurrentHashMap<>();
+    for (long value = 0; value < 1000; value++) {
+      for (long key = 0; key < 10; key++) {
+        long k = key;
+        long v = value;
+        mExecutor.add(mExecutor.getPartition(key),
+            () -> processed.computeIfAbsent(k, x -> new ArrayList<>()).add(v));
+      }
+    }
+    for (long key = 0; key < 10; key++) {
+      CountDownLatch processedKey = new CountDownLatch(1);
+      mExecutor.add(mExecutor.getPartition(key), processedKey::countDown);
+      assertTrue(mExecutor.await(processedKey));
+      List<Long> values = processed.get(key);
+      assertEquals(1000, values.size());
+      for (int i = 0; i < values.size(); i++) {
+        assertEquals(i, (long) values.get(i));
+      }
+    }
+    assertEquals(0, mExecutor.getLagMs());
+  }
+
+  @Test
+  public void closeReleasesBlockedCallers() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    mExecutor = new PartitionedExecutor<>("test-partition-%d", 1, 1, 1, tasks -> {
+      started.countDown();
+      release.await();
+    });
+    mExecutor.add(0, () -> { });
+    started.await();
+    // The first task is being processed, so the second one fills the queue.
+    mExecutor.add(0, () -> { });
+
+    CompletableFuture<Void> add = CompletableFuture.runAsync(() -> mExecutor.add(0, () -> { }));
+    CompletableFuture<Boolean> await =
+        CompletableFuture.supplyAsync(() -> mExecutor.await(release));
+    try {
+      add.get(200, TimeUnit.MILLISECONDS);
+      fail("Expected add to wait while the queue is full");
+    } catch (TimeoutException e) {
+      // expected
+    }
+    mExecutor.close();
+    try {
+      add.get(1, TimeUnit.SECONDS);
+      fail("Expected the waiting add to fail");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    assertFalse(await.get(1, TimeUnit.SECONDS));
+  }
+}
@@ -17,9 +17,13 @@ import alluxio.conf.ServerConfiguration;
 import alluxio.exception.JournalClosedException;
 import alluxio.exception.status.AlluxioStatusException;
 import alluxio.master.journal.sink.JournalSink;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.resource.LockResource;
 
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.SettableFuture;
@@ -43,9 +47,18 @@ import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * This enables async journal writing, as well as some batched journal flushing.
+ *
+ * If the journal writer supports concurrent flushes (see
+ * {@link JournalWriter#supportsConcurrentFlush()}), flushing is pipelined: a second thread
+ * flushes each written batch while the next batch is being written, and flush tickets are
+ * released as each batch completes.
  */
 @ThreadSafe
 public final class AsyncJournalWriter {
+  private static final Histogram FLUSH_BATCH_SIZE =
+      MetricsSystem.histogram(MasterMetrics.JOURNAL_FLUSH_BATCH_SIZE);
+  private static final Timer FLUSH_TIMER = MetricsSystem.timer(MasterMetrics.JOURNAL_FLUSH_TIMER);
+
   /**
    * Used to manage and keep track of pending callers of ::flush.
    */
@@ -112,10 +125,12 @@ public final class AsyncJournalWriter {
   private final AtomicLong mFlushCounter;
   /**
    * Represents the count of entries written to the journal writer.
-   * This counter is only accessed by the dedicated journal thread.
+   * This counter is only updated by the dedicated journal thread.
    * Invariant: {@code mWriteCounter >= mFlushCounter}
    */
-  private Long mWriteCounter;
+  private final AtomicLong mWriteCounter;
+  /** The count of entries the pipelined flush thread has been asked to flush. */
+  private final AtomicLong mFlushRequestCounter;
   /** Maximum number of nanoseconds for a batch flush. */
   private final long mFlushBatchTimeNs;
 
@@ -141,6 +156,23 @@ public final class AsyncJournalWriter {
    */
   private final Semaphore mFlushSemaphore = new Semaphore(0, true);
 
+  /** Whether writes and flushes are pipelined on separate threads. */
+  private final boolean mPipelined;
+
+  /**
+   * Dedicated thread for flushing batches written by {@code mFlushThread}, when flushing is
+   * pipelined. It releases waiters in {@code mTicketList} after every flush.
+   */
+  private Thread mPipelinedFlushThread;
+
+  /**
+   * Used to give permits to the pipelined flush thread when a new batch has been written.
+   */
+  private final Semaphore mFlushRequestSemaphore = new Semaphore(0);
+
+  /** Serializes appends and flushes to the journal sinks, which may come from both threads. */
+  private final Object mSinkLock = new Object();
+
   /**
    * Control flag that is used to instruct flush thread to exit.
    */
@@ -160,12 +192,19 @@ public final class AsyncJournalWriter {
     mQueue = new ConcurrentLinkedQueue<>();
     mCounter = new AtomicLong(0);
     mFlushCounter = new AtomicLong(0);
-    mWriteCounter = 0L;
+    mWriteCounter = new AtomicLong(0);
+    mFlushRequestCounter = new AtomicLong(0);
     mFlushBatchTimeNs = TimeUnit.NANOSECONDS.convert(
         ServerConfiguration.getMs(PropertyKey.MASTER_JOURNAL_FLUSH_BATCH_TIME_MS),
         TimeUnit.MILLISECONDS);
     mJournalSinks = journalSinks;
+    mPipelined = mJournalWriter.supportsConcurrentFlush();
     mFlushThread.start();
+    if (mPipelined) {
+      mPipelinedFlushThread =
+          new Thread(this::doPipelinedFlush, "AsyncJournalWriterPipelinedFlushThread");
+      mPipelinedFlushThread.start();
+    }
   }
 
   /**
@@ -214,16 +253,22 @@ public final class AsyncJournalWriter {
     mStopFlushing = true;
     // Give a permit for flush thread to run, in case it was blocked on permit.
     mFlushSemaphore.release();
+    mFlushRequestSemaphore.release();
 
     try {
       mFlushThread.join();
+      if (mPipelinedFlushThread != null) {
+        mPipelinedFlushThread.join();
+      }
     } catch (InterruptedException ie) {
       Thread.currentThread().interrupt();
       return;
     } finally {
       mFlushThread = null;
-      // Try to reacquire the permit.
+      mPipelinedFlushThread = null;
+      // Try to reacquire the permits.
       mFlushSemaphore.tryAcquire();
+      mFlushRequestSemaphore.drainPermits();
     }
   }
 
@@ -237,6 +282,10 @@ public final class AsyncJournalWriter {
     // Reset termination flag before starting the new thread.
     mStopFlushing = false;
     mFlushThread.start();
+    if (mPipelined) {
+      mPipelinedFlushThread = new Thread(this::doPipelinedFlush);
+      mPipelinedFlushThread.start();
+    }
   }
 
   /**
@@ -279,10 +328,12 @@ public final class AsyncJournalWriter {
             break;
           }
           mJournalWriter.write(entry);
-          JournalUtils.sinkAppend(mJournalSinks, entry);
+          synchronized (mSinkLock) {
+            JournalUtils.sinkAppend(mJournalSinks, entry);
+          }
           // Remove the head entry, after the entry was successfully written.
           mQueue.poll();
-          mWriteCounter++;
+          mWriteCounter.incrementAndGet();
 
           if (((System.nanoTime() - startTime) >= mFlushBatchTimeNs) && !mStopFlushing) {
             // This thread has been writing to the journal for enough time. Break out of the
@@ -292,36 +343,101 @@ public final class AsyncJournalWriter {
         }
 
         // Either written new entries or previous flush had been failed.
-        if (mFlushCounter.get() < mWriteCounter) {
-          mJournalWriter.flush();
-          JournalUtils.sinkFlush(mJournalSinks);
-          mFlushCounter.set(mWriteCounter);
+        long writeCounter = mWriteCounter.get();
+        if (mFlushCounter.get() < writeCounter) {
+          if (mPipelined) {
+            // Hand the batch to the pipelined flush thread, and go on writing the next batch
+            // while it is being flushed.
+            mFlushRequestCounter.accumulateAndGet(writeCounter, Math::max);
+            mFlushRequestSemaphore.release();
+          } else {
+            flushJournal(writeCounter);
+          }
         }
 
         // Notify tickets that have been served to wake up.
-        try (LockResource lr = new LockResource(mTicketLock)) {
-          ListIterator<FlushTicket> ticketIterator = mTicketList.listIterator();
-          while (ticketIterator.hasNext()) {
-            FlushTicket ticket = ticketIterator.next();
-            if (ticket.getTargetCounter() <= mFlushCounter.get()) {
-              ticket.setCompleted();
-              ticketIterator.remove();
-            }
-          }
-        }
+        releaseFlushedTickets();
       } catch (IOException | JournalClosedException exc) {
-        // Release only tickets that have been flushed. Fail the rest.
-        try (LockResource lr = new LockResource(mTicketLock)) {
-          ListIterator<FlushTicket> ticketIterator = mTicketList.listIterator();
-          while (ticketIterator.hasNext()) {
-            FlushTicket ticket = ticketIterator.next();
-            ticketIterator.remove();
-            if (ticket.getTargetCounter() <= mFlushCounter.get()) {
-              ticket.setCompleted();
-            } else {
-              ticket.setError(exc);
-            }
-          }
+        failUnflushedTickets(exc);
+      }
+    }
+  }
+
+  /**
+   * A dedicated thread that flushes the batches written by {@link #doFlush()} when flushing is
+   * pipelined, and releases the tickets of each batch once it has been flushed.
+   */
+  private void doPipelinedFlush() {
+    // Runs the loop until ::stop() is called.
+    while (!mStopFlushing) {
+      try {
+        mFlushRequestSemaphore.acquire();
+      } catch (InterruptedException ie) {
+        continue;
+      }
+      // Requests are cumulative, so a single flush serves all of them.
+      mFlushRequestSemaphore.drainPermits();
+      long targetCounter = mFlushRequestCounter.get();
+      if (mStopFlushing || targetCounter <= mFlushCounter.get()) {
+        continue;
+      }
+      try {
+        flushJournal(targetCounter);
+        releaseFlushedTickets();
+      } catch (IOException | JournalClosedException exc) {
+        failUnflushedTickets(exc);
+      }
+    }
+  }
+
+  /**
+   * Flushes the journal writer and the journal sinks.
+   *
+   * @param writeCounter the count of entries written to the journal writer before the flush
+   */
+  private void flushJournal(long writeCounter) throws IOException, JournalClosedException {
+    long batchSize = writeCounter - mFlushCounter.get();
+    try (Timer.Context ctx = FLUSH_TIMER.time()) {
+      mJournalWriter.flush();
+      synchronized (mSinkLock) {
+        JournalUtils.sinkFlush(mJournalSinks);
+      }
+    }
+    FLUSH_BATCH_SIZE.update(batchSize);
+    mFlushCounter.set(writeCounter);
+  }
+
+  /**
+   * Releases the tickets which have been flushed.
+   */
+  private void releaseFlushedTickets() {
+    try (LockResource lr = new LockResource(mTicketLock)) {
+      ListIterator<FlushTicket> ticketIterator = mTicketList.listIterator();
+      while (ticketIterator.hasNext()) {
+        FlushTicket ticket = ticketIterator.next();
+        if (ticket.getTargetCounter() <= mFlushCounter.get()) {
+          ticket.setCompleted();
+          ticketIterator.remove();
+        }
+      }
+    }
+  }
+
+  /**
+   * Releases only tickets that have been flushed. Fails the rest.
+   *
+   * @param exc the error to fail tickets with
+   */
+  private void failUnflushedTickets(Throwable exc) {
+    try (LockResource lr = new LockResource(mTicketLock)) {
+      ListIterator<FlushTicket> ticketIterator = mTicketList.listIterator();
+      while (ticketIterator.hasNext()) {
+        FlushTicket ticket = ticketIterator.next();
+        ticketIterator.remove();
+        if (ticket.getTargetCounter() <= mFlushCounter.get()) {
+          ticket.setCompleted();
+        } else {
+          ticket.setError(exc);
         }
       }
     }
@@ -56,6 +56,11 @@ public interface DelegatingJournaled extends Journaled {
     getDelegate().restoreFromCheckpoint(input);
   }
 
+  @Override
+  default boolean dependsOnPrecedingComponents() {
+    return getDelegate().dependsOnPrecedingComponents();
+  }
+
   @Override
   default Iterator<Journal.JournalEntry> getJournalEntryIterator() {
     return getDelegate().getJournalEntryIterator();
@@ -19,12 +19,14 @@ import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.journal.checkpoint.CheckpointOutputStream;
 import alluxio.master.journal.checkpoint.CheckpointType;
 import alluxio.master.journal.checkpoint.Checkpointed;
-import alluxio.master.journal.checkpoint.CompoundCheckpointFormat.CompoundCheckpointReader;
-import alluxio.master.journal.checkpoint.CompoundCheckpointFormat.CompoundCheckpointReader.Entry;
+import alluxio.master.journal.checkpoint.CompoundCheckpointRestorer;
 import alluxio.master.journal.sink.JournalSink;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.Metric;
+import alluxio.metrics.MetricsSystem;
 import alluxio.proto.journal.Journal.JournalEntry;
-import alluxio.util.StreamUtils;
 
+import com.codahale.metrics.Timer;
 import com.esotericsoftware.kryo.io.OutputChunked;
 import com.google.common.base.Preconditions;
 import org.apache.commons.lang.exception.ExceptionUtils;
@@ -35,11 +37,10 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
@@ -137,7 +138,8 @@ public final class JournalUtils {
   }
 
   /**
-   * Restores the given checkpointed components from a composite checkpoint.
+   * Restores the given checkpointed components from a composite checkpoint. Components may be
+   * restored concurrently, see {@link CompoundCheckpointRestorer}.
    *
    * This is the complement of {@link #writeToCheckpoint(OutputStream, List)}.
    *
@@ -146,24 +148,26 @@ public final class JournalUtils {
    */
   public static void restoreFromCheckpoint(CheckpointInputStream input,
       List<? extends Checkpointed> components) throws IOException {
-    CompoundCheckpointReader reader = new CompoundCheckpointReader(input);
-    Optional<Entry> next;
-    while ((next = reader.nextCheckpoint()).isPresent()) {
-      Entry nextEntry = next.get();
-      boolean found = false;
-      for (Checkpointed component : components) {
-        if (component.getCheckpointName().equals(nextEntry.getName())) {
-          component.restoreFromCheckpoint(nextEntry.getStream());
-          found = true;
-          break;
-        }
-      }
-      if (!found) {
-        throw new RuntimeException(String.format(
-            "Unrecognized checkpoint name: %s. Existing components: %s", nextEntry.getName(), Arrays
-                .toString(StreamUtils.map(Checkpointed::getCheckpointName, components).toArray())));
-      }
+    new CompoundCheckpointRestorer(components).restore(input);
+  }
+
+  /**
+   * Restores a checkpointed component, recording how long the restore takes.
+   *
+   * @param component the component to restore
+   * @param input the stream to read from
+   */
+  public static void restoreComponentFromCheckpoint(Checkpointed component,
+      CheckpointInputStream input) throws IOException {
+    String name = component.getCheckpointName().toString();
+    Timer timer = MetricsSystem.timer(Metric.getMetricNameWithTags(
+        MasterMetrics.JOURNAL_CHECKPOINT_RESTORE_TIMER, MasterMetrics.TAG_CHECKPOINT, name));
+    long startNs = System.nanoTime();
+    try (Timer.Context ctx = timer.time()) {
+      component.restoreFromCheckpoint(input);
     }
+    LOG.info("Restored checkpoint for {} in {}ms", name,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs));
   }
 
   /**
@@ -33,4 +33,11 @@ public interface JournalWriter extends Closeable {
    * Flushes all the entries written to the underlying storage.
    */
   void flush() throws IOException, JournalClosedException;
+
+  /**
+   * @return whether {@link #write} may be called while another thread is in {@link #flush}
+   */
+  default boolean supportsConcurrentFlush() {
+    return false;
+  }
 }
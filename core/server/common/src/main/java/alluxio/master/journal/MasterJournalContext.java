@@ -26,12 +26,12 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Context for storing master journal information.
  */
-@NotThreadSafe
+@ThreadSafe
 public final class MasterJournalContext implements JournalContext {
   private static final Logger LOG = LoggerFactory.getLogger(MasterJournalContext.class);
   private static final long INVALID_FLUSH_COUNTER = -1;
@@ -41,7 +41,7 @@ public final class MasterJournalContext implements JournalContext {
       (int) ServerConfiguration.getMs(PropertyKey.MASTER_JOURNAL_FLUSH_RETRY_INTERVAL);
 
   private final AsyncJournalWriter mAsyncJournalWriter;
-  private long mFlushCounter;
+  private volatile long mFlushCounter;
 
   /**
    * Constructs a {@link MasterJournalContext}.
@@ -55,8 +55,9 @@ public final class MasterJournalContext implements JournalContext {
   }
 
   @Override
-  public void append(JournalEntry entry) {
-    mFlushCounter = mAsyncJournalWriter.appendEntry(entry);
+  public synchronized void append(JournalEntry entry) {
+    // The context may be shared by several threads, so only move the counter forward.
+    mFlushCounter = Math.max(mFlushCounter, mAsyncJournalWriter.appendEntry(entry));
   }
 
   /**
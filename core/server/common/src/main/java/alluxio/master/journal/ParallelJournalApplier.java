@@ -0,0 +1,320 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal;
+
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
+import alluxio.proto.journal.File.InodeDirectoryEntry;
+import alluxio.proto.journal.Journal.JournalEntry;
+import alluxio.util.executor.PartitionedExecutor;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Applies journal entries read by a single thread on a pool of apply threads.
+ *
+ * Each entry is assigned to the partitions of the inode and block ids it modifies, and each
+ * partition applies its entries in journal order on its own thread. An entry which modifies
+ * several ids, such as the creation of an inode (which also updates its parent directory), is
+ * applied once every partition it belongs to has reached it, so it is ordered against all entries
+ * for any of its ids. Entries which cannot be partitioned, such as renames and mount table
+ * changes, act as barriers across all partitions.
+ *
+ * Entries for different partitions may be applied out of journal order, so callers must call
+ * {@link #drain()} before reading or checkpointing the state the entries are applied to.
+ *
+ * With a parallelism of 1, entries are applied by the thread which submits them.
+ */
+@ThreadSafe
+public final class ParallelJournalApplier implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(ParallelJournalApplier.class);
+  /** Partition keys of entries which must be ordered against all other entries. */
+  private static final long[] BARRIER = new long[0];
+
+  private static final Set<ParallelJournalApplier> APPLIERS = ConcurrentHashMap.newKeySet();
+
+  static {
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMetricName(MasterMetrics.JOURNAL_APPLY_PENDING_ENTRIES),
+        () -> APPLIERS.stream().mapToLong(ParallelJournalApplier::getPendingEntries).sum());
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMetricName(MasterMetrics.JOURNAL_APPLY_LAG_MS),
+        () -> APPLIERS.stream().mapToLong(ParallelJournalApplier::getApplyLagMs).max()
+            .orElse(0));
+  }
+
+  private final String mName;
+  private final Consumer<JournalEntry> mApplyFunction;
+  /** The apply partitions, null if entries are applied by the submitting thread. */
+  @Nullable
+  private final PartitionedExecutor<Task> mPartitions;
+  /** The number of submitted entries which have not been applied yet. */
+  private final AtomicLong mPendingEntries = new AtomicLong();
+  /** The first error thrown while applying an entry on an apply thread. */
+  private final AtomicReference<Throwable> mFailure = new AtomicReference<>();
+
+  private volatile boolean mClosed = false;
+
+  /**
+   * Creates an applier configured by {@link PropertyKey#MASTER_JOURNAL_APPLY_PARALLELISM} and
+   * {@link PropertyKey#MASTER_JOURNAL_APPLY_QUEUE_SIZE}.
+   *
+   * @param name the name of the journal, used to name the apply threads
+   * @param applyFunction the function applying an entry to master state; it is responsible for
+   *        handling failures to apply the entry
+   * @return the applier
+   */
+  public static ParallelJournalApplier create(String name, Consumer<JournalEntry> applyFunction) {
+    return new ParallelJournalApplier(name, applyFunction,
+        ServerConfiguration.getInt(PropertyKey.MASTER_JOURNAL_APPLY_PARALLELISM),
+        ServerConfiguration.getInt(PropertyKey.MASTER_JOURNAL_APPLY_QUEUE_SIZE));
+  }
+
+  /**
+   * @param name the name of the journal, used to name the apply threads
+   * @param applyFunction the function applying an entry to master state
+   * @param parallelism the number of apply threads; 1 applies entries on the submitting thread
+   * @param queueSize the maximum number of entries queued for each apply thread
+   */
+  public ParallelJournalApplier(String name, Consumer<JournalEntry> applyFunction,
+      int parallelism, int queueSize) {
+    Preconditions.checkArgument(parallelism > 0, "%s must be positive",
+        PropertyKey.Name.MASTER_JOURNAL_APPLY_PARALLELISM);
+    Preconditions.checkArgument(queueSize > 0, "%s must be positive",
+        PropertyKey.Name.MASTER_JOURNAL_APPLY_QUEUE_SIZE);
+    mName = name;
+    mApplyFunction = applyFunction;
+    if (parallelism == 1) {
+      mPartitions = null;
+      return;
+    }
+    // Tasks are taken one at a time, since a task may wait for other partitions to reach it.
+    mPartitions = new PartitionedExecutor<>(name + "-journal-apply-%d", parallelism, queueSize, 1,
+        tasks -> tasks.get(0).run());
+    APPLIERS.add(this);
+  }
+
+  /**
+   * Submits an entry to be applied. Entries must be submitted in journal order by a single thread.
+   * This blocks while the queue of a partition the entry belongs to is full.
+   *
+   * @param entry the entry to apply
+   */
+  public void submit(JournalEntry entry) {
+    Preconditions.checkState(!mClosed, "Journal applier for %s is closed", mName);
+    checkFailure();
+    if (mPartitions == null) {
+      mApplyFunction.accept(entry);
+      return;
+    }
+    BitSet partitions = getPartitions(getPartitionKeys(entry));
+    Task task = new Task(entry, partitions.cardinality());
+    mPendingEntries.incrementAndGet();
+    for (int i = partitions.nextSetBit(0); i >= 0; i = partitions.nextSetBit(i + 1)) {
+      mPartitions.add(i, task);
+    }
+  }
+
+  /**
+   * Waits until all submitted entries have been applied.
+   */
+  public void drain() {
+    if (mPartitions != null && !mClosed) {
+      Task barrier = new Task(null, mPartitions.getPartitionCount());
+      for (int i = 0; i < mPartitions.getPartitionCount(); i++) {
+        mPartitions.add(i, barrier);
+      }
+      // Entries can't be skipped, so interrupts are deferred until the entries are applied.
+      mPartitions.await(barrier.mApplied);
+    }
+    checkFailure();
+  }
+
+  /**
+   * @return the number of submitted entries which have not been applied yet
+   */
+  public long getPendingEntries() {
+    return mPendingEntries.get();
+  }
+
+  /**
+   * @return the time in milliseconds since the oldest entry which has not been applied yet was
+   *         submitted, or 0 if all entries have been applied
+   */
+  public long getApplyLagMs() {
+    return mPartitions == null ? 0 : mPartitions.getLagMs();
+  }
+
+  /**
+   * Stops the apply threads. Entries which have not been applied yet are discarded.
+   */
+  @Override
+  public void close() {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+    APPLIERS.remove(this);
+    if (mPartitions != null) {
+      mPartitions.close();
+    }
+  }
+
+  private void checkFailure() {
+    Throwable t = mFailure.get();
+    if (t != null) {
+      throw new RuntimeException(
+          String.format("Failed to apply journal entry for %s", mName), t);
+    }
+  }
+
+  private BitSet getPartitions(long[] keys) {
+    BitSet partitions = new BitSet(mPartitions.getPartitionCount());
+    if (keys.length == 0) {
+      partitions.set(0, mPartitions.getPartitionCount());
+      return partitions;
+    }
+    for (long key : keys) {
+      partitions.set(mPartitions.getPartition(key));
+    }
+    return partitions;
+  }
+
+  /**
+   * Returns the ids of the inodes or blocks modified by an entry. An entry may only be applied
+   * concurrently with entries which share none of its keys.
+   *
+   * @param entry a journal entry
+   * @return the keys of the entry, or an empty array if the entry must be ordered against all
+   *         other entries
+   */
+  @VisibleForTesting
+  static long[] getPartitionKeys(JournalEntry entry) {
+    if (entry.hasInodeFile()) {
+      return new long[] {entry.getInodeFile().getId(), entry.getInodeFile().getParentId()};
+    }
+    if (entry.hasInodeDirectory()) {
+      InodeDirectoryEntry directory = entry.getInodeDirectory();
+      if (directory.getParentId() < 0) {
+        // Creating the root resets the whole inode tree
+        return BARRIER;
+      }
+      return new long[] {directory.getId(), directory.getParentId()};
+    }
+    if (entry.hasDeleteFile()) {
+      // Entries written before the parent id was journaled don't tell which directory they modify
+      if (entry.getDeleteFile().getRecursive() || !entry.getDeleteFile().hasParentId()) {
+        return BARRIER;
+      }
+      return new long[] {entry.getDeleteFile().getId(), entry.getDeleteFile().getParentId()};
+    }
+    if (entry.hasUpdateInode()) {
+      return new long[] {entry.getUpdateInode().getId()};
+    }
+    if (entry.hasUpdateInodeFile()) {
+      return new long[] {entry.getUpdateInodeFile().getId()};
+    }
+    if (entry.hasUpdateInodeDirectory()) {
+      return new long[] {entry.getUpdateInodeDirectory().getId()};
+    }
+    if (entry.hasNewBlock()) {
+      return new long[] {entry.getNewBlock().getId()};
+    }
+    if (entry.hasSetAcl()) {
+      return new long[] {entry.getSetAcl().getId()};
+    }
+    if (entry.hasCompleteFile()) {
+      return new long[] {entry.getCompleteFile().getId()};
+    }
+    if (entry.hasSetAttribute()) {
+      return new long[] {entry.getSetAttribute().getId()};
+    }
+    if (entry.hasAsyncPersistRequest()) {
+      return new long[] {entry.getAsyncPersistRequest().getFileId()};
+    }
+    if (entry.hasInodeLastModificationTime()) {
+      return new long[] {entry.getInodeLastModificationTime().getId()};
+    }
+    if (entry.hasPersistDirectory()) {
+      return new long[] {entry.getPersistDirectory().getId()};
+    }
+    if (entry.hasBlockInfo()) {
+      return new long[] {entry.getBlockInfo().getBlockId()};
+    }
+    if (entry.hasDeleteBlock()) {
+      return new long[] {entry.getDeleteBlock().getBlockId()};
+    }
+    // Renames, mount points, id generators, path properties, and anything else
+    return BARRIER;
+  }
+
+  /**
+   * An entry queued on one or more partitions. The last partition to reach the task applies it,
+   * and the other partitions wait until it has been applied.
+   */
+  private final class Task {
+    /** The entry to apply, or null for a task which only marks a point in the journal. */
+    @Nullable
+    private final JournalEntry mEntry;
+    private final AtomicInteger mRemainingArrivals;
+    private final CountDownLatch mApplied = new CountDownLatch(1);
+
+    Task(@Nullable JournalEntry entry, int partitions) {
+      mEntry = entry;
+      mRemainingArrivals = new AtomicInteger(partitions);
+    }
+
+    void run() throws InterruptedException {
+      if (mRemainingArrivals.decrementAndGet() > 0) {
+        mApplied.await();
+        return;
+      }
+      try {
+        if (mEntry != null) {
+          mApplyFunction.accept(mEntry);
+        }
+      } catch (Throwable t) {
+        LOG.error("{}: Failed to apply journal entry {}", mName, mEntry, t);
+        mFailure.compareAndSet(null, t);
+      } finally {
+        if (mEntry != null) {
+          mPendingEntries.decrementAndGet();
+        }
+        mApplied.countDown();
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ParallelJournalApplier{name=%s, partitions=%d, pending=%d}", mName,
+        mPartitions == null ? 0 : mPartitions.getPartitionCount(), mPendingEntries.get());
+  }
+}
@@ -19,6 +19,7 @@ public enum CheckpointName {
   ACTIVE_SYNC_MANAGER,
   BLOCK_MASTER,
   CACHING_INODE_STORE,
+  DIRECTORY_AGGREGATES,
   FILE_SYSTEM_MASTER,
   HEAP_INODE_STORE,
   INODE_COUNTER,
@@ -28,6 +29,7 @@ public enum CheckpointName {
   META_MASTER,
   MOUNT_TABLE,
   NOOP,
+  OFF_HEAP_INODE_STORE,
   PATH_PROPERTIES,
   PINNED_INODE_FILE_IDS,
   REPLICATION_LIMITED_FILE_IDS,
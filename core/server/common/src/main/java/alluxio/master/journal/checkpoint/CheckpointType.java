@@ -43,7 +43,17 @@ public enum CheckpointType {
   /**
    * A checkpoint consisting of a single long value written by a data output stream.
    */
-  LONG(5, new LongCheckpointFormat());
+  LONG(5, new LongCheckpointFormat()),
+  /**
+   * A RocksDB checkpoint written as the raw files of the checkpoint directory, each with a CRC32
+   * checksum.
+   */
+  ROCKS_SST(6, new RocksSstCheckpointFormat()),
+  /**
+   * InodeMeta.Inode protocol buffers grouped into independently compressed blocks, followed by
+   * an index of the blocks. See {@link CompressedBlocksWriter}.
+   */
+  COMPRESSED_INODE_PROTOS(7, new CompressedInodeProtosCheckpointFormat());
 
   private final long mId;
   private final CheckpointFormat mCheckpointFormat;
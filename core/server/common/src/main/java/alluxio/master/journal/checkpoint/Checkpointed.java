@@ -39,4 +39,15 @@ public interface Checkpointed {
    * @param input an input stream with checkpoint data
    */
   void restoreFromCheckpoint(CheckpointInputStream input) throws IOException;
+
+  /**
+   * Components of a compound checkpoint may be restored concurrently. A component whose restore
+   * reads the state of the components before it in the compound checkpoint must return true, so
+   * that it is only restored once they are done.
+   *
+   * @return whether restoring this component depends on the components checkpointed before it
+   */
+  default boolean dependsOnPrecedingComponents() {
+    return false;
+  }
 }
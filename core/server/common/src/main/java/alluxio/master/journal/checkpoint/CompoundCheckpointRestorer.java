@@ -0,0 +1,192 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.checkpoint;
+
+import alluxio.Constants;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.master.journal.JournalUtils;
+import alluxio.master.journal.checkpoint.CompoundCheckpointFormat.CompoundCheckpointReader;
+import alluxio.master.journal.checkpoint.CompoundCheckpointFormat.CompoundCheckpointReader.Entry;
+import alluxio.util.StreamUtils;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Restores the components of a compound checkpoint.
+ *
+ * With a parallelism above one, components are restored on a pool of threads while the compound
+ * checkpoint is being read. The part of each component is buffered in memory so that reading can
+ * go on to the next part. A part larger than the buffer limit is instead restored on the reading
+ * thread as it is read, while the parts before it go on being restored in the pool. Components
+ * which read the state of the components before them (see
+ * {@link Checkpointed#dependsOnPrecedingComponents()}) are restored once those are done.
+ */
+public final class CompoundCheckpointRestorer {
+  private static final Logger LOG = LoggerFactory.getLogger(CompoundCheckpointRestorer.class);
+  private static final int COPY_BUFFER_SIZE = 64 * Constants.KB;
+
+  private final List<? extends Checkpointed> mComponents;
+  private final int mParallelism;
+  private final long mMaxBufferBytes;
+
+  /**
+   * Creates a restorer configured by
+   * {@link PropertyKey#MASTER_JOURNAL_CHECKPOINT_RESTORE_PARALLELISM} and
+   * {@link PropertyKey#MASTER_JOURNAL_CHECKPOINT_RESTORE_BUFFER_SIZE_MAX}.
+   *
+   * @param components the components to restore
+   */
+  public CompoundCheckpointRestorer(List<? extends Checkpointed> components) {
+    this(components,
+        ServerConfiguration.getInt(PropertyKey.MASTER_JOURNAL_CHECKPOINT_RESTORE_PARALLELISM),
+        ServerConfiguration.getBytes(
+            PropertyKey.MASTER_JOURNAL_CHECKPOINT_RESTORE_BUFFER_SIZE_MAX));
+  }
+
+  /**
+   * @param components the components to restore
+   * @param parallelism the number of components to restore concurrently
+   * @param maxBufferBytes the maximum number of bytes to buffer for the part of a component
+   */
+  public CompoundCheckpointRestorer(List<? extends Checkpointed> components, int parallelism,
+      long maxBufferBytes) {
+    Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+    Preconditions.checkArgument(maxBufferBytes >= 0, "maxBufferBytes must be non-negative");
+    mComponents = components;
+    mParallelism = parallelism;
+    mMaxBufferBytes = maxBufferBytes;
+  }
+
+  /**
+   * Restores the components from a compound checkpoint.
+   *
+   * @param input the compound checkpoint to read from
+   */
+  public void restore(CheckpointInputStream input) throws IOException {
+    CompoundCheckpointReader reader = new CompoundCheckpointReader(input);
+    if (mParallelism == 1) {
+      Optional<Entry> next;
+      while ((next = reader.nextCheckpoint()).isPresent()) {
+        JournalUtils.restoreComponentFromCheckpoint(getComponent(next.get().getName()),
+            next.get().getStream());
+      }
+      return;
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(mParallelism,
+        ThreadFactoryUtils.build("checkpoint-restore-%d", true));
+    Deque<Future<?>> pending = new ArrayDeque<>();
+    try {
+      Optional<Entry> next;
+      while ((next = reader.nextCheckpoint()).isPresent()) {
+        Checkpointed component = getComponent(next.get().getName());
+        CheckpointInputStream stream = next.get().getStream();
+        if (component.dependsOnPrecedingComponents()) {
+          waitForAll(pending);
+          JournalUtils.restoreComponentFromCheckpoint(component, stream);
+          continue;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        // Rewrite the checkpoint type, which has already been read from the stream
+        new DataOutputStream(buffer).writeLong(stream.getType().getId());
+        if (copyUpTo(stream, buffer, mMaxBufferBytes)) {
+          byte[] part = buffer.toByteArray();
+          pending.add(executor.submit(() -> {
+            JournalUtils.restoreComponentFromCheckpoint(component,
+                new CheckpointInputStream(new ByteArrayInputStream(part)));
+            return null;
+          }));
+        } else {
+          LOG.info("Checkpoint for {} is larger than {} bytes, restoring it as it is read",
+              component.getCheckpointName(), mMaxBufferBytes);
+          InputStream part =
+              new SequenceInputStream(new ByteArrayInputStream(buffer.toByteArray()), stream);
+          JournalUtils.restoreComponentFromCheckpoint(component, new CheckpointInputStream(part));
+        }
+      }
+      waitForAll(pending);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Checkpointed getComponent(CheckpointName name) {
+    for (Checkpointed component : mComponents) {
+      if (component.getCheckpointName().equals(name)) {
+        return component;
+      }
+    }
+    throw new RuntimeException(String.format(
+        "Unrecognized checkpoint name: %s. Existing components: %s", name, Arrays
+            .toString(StreamUtils.map(Checkpointed::getCheckpointName, mComponents).toArray())));
+  }
+
+  /**
+   * Copies bytes from the input to the output until the input ends or the limit is reached.
+   *
+   * @return whether the input ended
+   */
+  private static boolean copyUpTo(InputStream in, ByteArrayOutputStream out, long limit)
+      throws IOException {
+    byte[] buf = new byte[COPY_BUFFER_SIZE];
+    long copied = 0;
+    while (copied < limit) {
+      int read = in.read(buf, 0, (int) Math.min(buf.length, limit - copied));
+      if (read == -1) {
+        return true;
+      }
+      out.write(buf, 0, read);
+      copied += read;
+    }
+    return false;
+  }
+
+  private static void waitForAll(Deque<Future<?>> pending) throws IOException {
+    while (!pending.isEmpty()) {
+      try {
+        pending.poll().get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while restoring checkpoint");
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException) {
+          throw (IOException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        throw new IOException("Failed to restore checkpoint", cause);
+      }
+    }
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.checkpoint;
+
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.protobuf.Parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads checkpoints written by {@link CompressedBlocksWriter}.
+ *
+ * Blocks can be read one at a time with {@link #nextBlock()}, or decoded on a pool of threads
+ * with {@link #readAll}. Once all blocks have been read, the index at the end of the checkpoint
+ * is checked against the blocks which were read.
+ */
+public class CompressedBlocksReader implements CheckpointReader {
+  private final DataInputStream mStream;
+  private long mBytesRead = 0;
+  private long mRecordsRead = 0;
+  private int mBlocksRead = 0;
+  private boolean mDone = false;
+
+  /**
+   * @param in the checkpoint stream to read from, positioned at the first block
+   */
+  public CompressedBlocksReader(DataInputStream in) {
+    mStream = in;
+  }
+
+  /**
+   * @return the next block, or empty if all blocks have been read
+   */
+  public Optional<Block> nextBlock() throws IOException {
+    if (mDone) {
+      return Optional.empty();
+    }
+    int records = mStream.readInt();
+    if (records == CompressedBlocksWriter.END_OF_BLOCKS) {
+      verifyIndex();
+      mDone = true;
+      return Optional.empty();
+    }
+    int uncompressedLength = mStream.readInt();
+    int compressedLength = mStream.readInt();
+    if (records < 0 || uncompressedLength < 0 || compressedLength < 0) {
+      throw new IOException(String.format("Corrupt checkpoint block header at offset %d: "
+          + "records=%d, uncompressedLength=%d, compressedLength=%d", mBytesRead, records,
+          uncompressedLength, compressedLength));
+    }
+    byte[] compressed = new byte[compressedLength];
+    mStream.readFully(compressed);
+    Block block = new Block(mBytesRead, records, uncompressedLength, compressed);
+    mBytesRead += 3 * Integer.BYTES + compressedLength;
+    mRecordsRead += records;
+    mBlocksRead++;
+    return Optional.of(block);
+  }
+
+  /**
+   * Reads all remaining blocks, decoding them on a pool of threads configured by
+   * {@link PropertyKey#MASTER_JOURNAL_CHECKPOINT_COMPRESSION_THREADS}. Records of different
+   * blocks are passed to the consumer concurrently and in no particular order, so the consumer
+   * must be thread-safe.
+   *
+   * @param parser the parser for records
+   * @param consumer the consumer of records
+   * @param <M> the type of records
+   */
+  public <M> void readAll(Parser<M> parser, Consumer<M> consumer)
+      throws IOException, InterruptedException {
+    readAll(parser, consumer,
+        ServerConfiguration.getInt(PropertyKey.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_THREADS));
+  }
+
+  /**
+   * Reads all remaining blocks, decoding them on a pool of threads. Records of different blocks
+   * are passed to the consumer concurrently and in no particular order, so the consumer must be
+   * thread-safe.
+   *
+   * @param parser the parser for records
+   * @param consumer the consumer of records
+   * @param threads the number of decoding threads
+   * @param <M> the type of records
+   */
+  public <M> void readAll(Parser<M> parser, Consumer<M> consumer, int threads)
+      throws IOException, InterruptedException {
+    decodeAll(block -> block.forEachRecord(parser, consumer), threads);
+  }
+
+  /**
+   * Reads all remaining blocks, decoding them on a pool of threads configured by
+   * {@link PropertyKey#MASTER_JOURNAL_CHECKPOINT_COMPRESSION_THREADS}. The records of each block
+   * are passed to the consumer together, so that a consumer which needs a lock to insert them
+   * can take it once per block. Blocks are passed to the consumer concurrently and in no
+   * particular order, so the consumer must be thread-safe.
+   *
+   * @param parser the parser for records
+   * @param consumer the consumer of the records of each block, in block order
+   * @param <M> the type of records
+   */
+  public <M> void readAllBlocks(Parser<M> parser, Consumer<List<M>> consumer)
+      throws IOException, InterruptedException {
+    readAllBlocks(parser, consumer,
+        ServerConfiguration.getInt(PropertyKey.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_THREADS));
+  }
+
+  /**
+   * Like {@link #readAllBlocks(Parser, Consumer)}, with the given number of decoding threads.
+   *
+   * @param parser the parser for records
+   * @param consumer the consumer of the records of each block, in block order
+   * @param threads the number of decoding threads
+   * @param <M> the type of records
+   */
+  public <M> void readAllBlocks(Parser<M> parser, Consumer<List<M>> consumer, int threads)
+      throws IOException, InterruptedException {
+    decodeAll(block -> {
+      List<M> records = new ArrayList<>(block.getRecords());
+      block.forEachRecord(parser, records::add);
+      consumer.accept(records);
+    }, threads);
+  }
+
+  private void decodeAll(BlockDecoder decoder, int threads)
+      throws IOException, InterruptedException {
+    Preconditions.checkArgument(threads > 0, "threads must be positive");
+    ExecutorService executor = Executors.newFixedThreadPool(threads,
+        ThreadFactoryUtils.build("checkpoint-block-decoder-%d", true));
+    // Bounds the memory used by blocks waiting to be decoded
+    int maxPendingBlocks = 2 * threads;
+    Deque<Future<?>> pending = new ArrayDeque<>();
+    try {
+      Optional<Block> block;
+      while ((block = nextBlock()).isPresent()) {
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+        Block b = block.get();
+        pending.add(executor.submit(() -> {
+          decoder.decode(b);
+          return null;
+        }));
+        while (pending.size() > maxPendingBlocks) {
+          waitFor(pending.poll());
+        }
+      }
+      while (!pending.isEmpty()) {
+        waitFor(pending.poll());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void waitFor(Future<?> future) throws IOException, InterruptedException {
+    try {
+      future.get();
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to decode checkpoint block", e.getCause());
+    }
+  }
+
+  private void verifyIndex() throws IOException {
+    int blocks = mStream.readInt();
+    if (blocks != mBlocksRead) {
+      throw new IOException(String.format(
+          "Checkpoint index lists %d blocks, but %d blocks were read", blocks, mBlocksRead));
+    }
+    long expectedOffset = 0;
+    for (int i = 0; i < blocks; i++) {
+      long offset = mStream.readLong();
+      mStream.readInt();
+      if (offset < expectedOffset || offset >= mBytesRead) {
+        throw new IOException(String.format(
+            "Invalid offset %d for block %d in checkpoint index", offset, i));
+      }
+      expectedOffset = offset;
+    }
+    long records = mStream.readLong();
+    if (records != mRecordsRead) {
+      throw new IOException(String.format(
+          "Checkpoint index lists %d records, but %d records were read", records, mRecordsRead));
+    }
+  }
+
+  /**
+   * Decodes a block on a decoding thread.
+   */
+  @FunctionalInterface
+  private interface BlockDecoder {
+    void decode(Block block) throws IOException;
+  }
+
+  /**
+   * A compressed block of records.
+   */
+  public static final class Block {
+    private final long mOffset;
+    private final int mRecords;
+    private final int mUncompressedLength;
+    private final byte[] mCompressed;
+
+    private Block(long offset, int records, int uncompressedLength, byte[] compressed) {
+      mOffset = offset;
+      mRecords = records;
+      mUncompressedLength = uncompressedLength;
+      mCompressed = compressed;
+    }
+
+    /**
+     * @return the offset of the block, relative to the first block
+     */
+    public long getOffset() {
+      return mOffset;
+    }
+
+    /**
+     * @return the number of records in the block
+     */
+    public int getRecords() {
+      return mRecords;
+    }
+
+    /**
+     * @return the uncompressed length of the block in bytes
+     */
+    public int getUncompressedLength() {
+      return mUncompressedLength;
+    }
+
+    /**
+     * @return the compressed length of the block in bytes
+     */
+    public int getCompressedLength() {
+      return mCompressed.length;
+    }
+
+    /**
+     * Decompresses the block and passes each of its records to the consumer, in order.
+     *
+     * @param parser the parser for records
+     * @param consumer the consumer of records
+     * @param <M> the type of records
+     */
+    public <M> void forEachRecord(Parser<M> parser, Consumer<M> consumer) throws IOException {
+      try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(mCompressed))) {
+        for (int i = 0; i < mRecords; i++) {
+          M record = parser.parseDelimitedFrom(in);
+          if (record == null) {
+            throw new IOException(String.format(
+                "Checkpoint block at offset %d ended after %d of %d records", mOffset, i,
+                mRecords));
+          }
+          consumer.accept(record);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.checkpoint;
+
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes records in the compressed block format read by {@link CompressedBlocksReader}.
+ *
+ * Records are grouped into blocks of a fixed number of records. Each block is serialized and
+ * compressed on a pool of encoding threads, and blocks are written to the output in the order
+ * their records were added. The format is
+ *
+ * [block]* [-1 (int)] [index]
+ *
+ * where each block is
+ *
+ * [record count (int), uncompressed length (int), compressed length (int), compressed bytes]
+ *
+ * and the compressed bytes deflate the records of the block, each framed as by
+ * {@link com.google.protobuf.MessageLite#writeDelimitedTo}. The index is
+ *
+ * [block count (int), [offset (long), record count (int)]*, total record count (long)]
+ *
+ * where offsets are relative to the first block.
+ *
+ * @param <T> the type of records to write
+ */
+public final class CompressedBlocksWriter<T> implements AutoCloseable {
+  /** Marks the end of the blocks, in place of a record count. */
+  static final int END_OF_BLOCKS = -1;
+
+  private final DataOutputStream mOutput;
+  private final Function<T, byte[]> mSerializer;
+  private final int mBlockRecords;
+  private final int mMaxPendingBlocks;
+  private final ExecutorService mExecutor;
+  /** Blocks being encoded, in the order they will be written. */
+  private final Deque<Future<EncodedBlock>> mPendingBlocks = new ArrayDeque<>();
+  /** The offsets and record counts of the blocks written so far. */
+  private final List<long[]> mIndex = new ArrayList<>();
+
+  private List<T> mCurrentBlock;
+  private long mBytesWritten = 0;
+  private long mRecordsWritten = 0;
+  private boolean mFinished = false;
+
+  /**
+   * Creates a writer configured by
+   * {@link PropertyKey#MASTER_JOURNAL_CHECKPOINT_COMPRESSION_BLOCK_RECORDS} and
+   * {@link PropertyKey#MASTER_JOURNAL_CHECKPOINT_COMPRESSION_THREADS}.
+   *
+   * @param output the checkpoint stream to write to; it is not closed by the writer
+   * @param serializer serializes a record, called on the encoding threads
+   */
+  public CompressedBlocksWriter(DataOutputStream output, Function<T, byte[]> serializer) {
+    this(output, serializer,
+        ServerConfiguration.getInt(PropertyKey.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_BLOCK_RECORDS),
+        ServerConfiguration.getInt(PropertyKey.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_THREADS));
+  }
+
+  /**
+   * @param output the checkpoint stream to write to; it is not closed by the writer
+   * @param serializer serializes a record, called on the encoding threads
+   * @param blockRecords the number of records in each block
+   * @param threads the number of encoding threads
+   */
+  public CompressedBlocksWriter(DataOutputStream output, Function<T, byte[]> serializer,
+      int blockRecords, int threads) {
+    Preconditions.checkArgument(blockRecords > 0, "blockRecords must be positive");
+    Preconditions.checkArgument(threads > 0, "threads must be positive");
+    mOutput = output;
+    mSerializer = serializer;
+    mBlockRecords = blockRecords;
+    // Bounds the memory used by blocks waiting to be encoded or written
+    mMaxPendingBlocks = 2 * threads;
+    mExecutor = Executors.newFixedThreadPool(threads,
+        ThreadFactoryUtils.build("checkpoint-block-encoder-%d", true));
+    mCurrentBlock = new ArrayList<>(blockRecords);
+  }
+
+  /**
+   * Adds a record to the checkpoint.
+   *
+   * @param record the record to add
+   */
+  public void write(T record) throws IOException, InterruptedException {
+    Preconditions.checkState(!mFinished, "Writer is already finished");
+    mCurrentBlock.add(record);
+    if (mCurrentBlock.size() == mBlockRecords) {
+      submitCurrentBlock();
+    }
+  }
+
+  /**
+   * Writes the remaining blocks and the index. This does not close the underlying stream.
+   */
+  public void finish() throws IOException, InterruptedException {
+    Preconditions.checkState(!mFinished, "Writer is already finished");
+    if (!mCurrentBlock.isEmpty()) {
+      submitCurrentBlock();
+    }
+    while (!mPendingBlocks.isEmpty()) {
+      writeNextBlock();
+    }
+    mOutput.writeInt(END_OF_BLOCKS);
+    mOutput.writeInt(mIndex.size());
+    for (long[] entry : mIndex) {
+      mOutput.writeLong(entry[0]);
+      mOutput.writeInt((int) entry[1]);
+    }
+    mOutput.writeLong(mRecordsWritten);
+    mOutput.flush();
+    mFinished = true;
+  }
+
+  /**
+   * Stops the encoding threads. Blocks which have not been written are discarded.
+   */
+  @Override
+  public void close() {
+    mExecutor.shutdownNow();
+  }
+
+  private void submitCurrentBlock() throws IOException, InterruptedException {
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+    List<T> records = mCurrentBlock;
+    mCurrentBlock = new ArrayList<>(mBlockRecords);
+    mPendingBlocks.add(mExecutor.submit(() -> encode(records)));
+    while (mPendingBlocks.size() > mMaxPendingBlocks) {
+      writeNextBlock();
+    }
+  }
+
+  private void writeNextBlock() throws IOException, InterruptedException {
+    EncodedBlock block;
+    try {
+      block = mPendingBlocks.poll().get();
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to encode checkpoint block", e.getCause());
+    }
+    mIndex.add(new long[] {mBytesWritten, block.mRecords});
+    mOutput.writeInt(block.mRecords);
+    mOutput.writeInt(block.mUncompressedLength);
+    mOutput.writeInt(block.mCompressed.size());
+    block.mCompressed.writeTo(mOutput);
+    mBytesWritten += 3 * Integer.BYTES + block.mCompressed.size();
+    mRecordsWritten += block.mRecords;
+  }
+
+  private EncodedBlock encode(List<T> records) throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    long uncompressedLength = 0;
+    try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(compressed, deflater)) {
+      CodedOutputStream codedOutput = CodedOutputStream.newInstance(deflaterStream);
+      for (T record : records) {
+        byte[] bytes = mSerializer.apply(record);
+        codedOutput.writeUInt32NoTag(bytes.length);
+        codedOutput.writeRawBytes(bytes);
+        uncompressedLength += CodedOutputStream.computeUInt32SizeNoTag(bytes.length)
+            + bytes.length;
+      }
+      codedOutput.flush();
+    } finally {
+      deflater.end();
+    }
+    Preconditions.checkState(uncompressedLength <= Integer.MAX_VALUE,
+        "Checkpoint block of %s records is too large: %s bytes", records.size(),
+        uncompressedLength);
+    return new EncodedBlock(records.size(), (int) uncompressedLength, compressed);
+  }
+
+  private static final class EncodedBlock {
+    private final int mRecords;
+    private final int mUncompressedLength;
+    private final ByteArrayOutputStream mCompressed;
+
+    private EncodedBlock(int records, int uncompressedLength, ByteArrayOutputStream compressed) {
+      mRecords = records;
+      mUncompressedLength = uncompressedLength;
+      mCompressed = compressed;
+    }
+  }
+}
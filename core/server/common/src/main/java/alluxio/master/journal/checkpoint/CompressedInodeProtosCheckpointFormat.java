@@ -0,0 +1,50 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.checkpoint;
+
+import alluxio.proto.meta.InodeMeta;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Optional;
+
+/**
+ * Reads inode proto checkpoints written in blocks by {@link CompressedBlocksWriter}.
+ */
+public class CompressedInodeProtosCheckpointFormat implements CheckpointFormat {
+  private static final String ENTRY_SEPARATOR = Strings.repeat("-", 80);
+
+  @Override
+  public CompressedBlocksReader createReader(CheckpointInputStream in) {
+    Preconditions.checkState(in.getType() == CheckpointType.COMPRESSED_INODE_PROTOS,
+        "Unexpected checkpoint type: %s", in.getType());
+    return new CompressedBlocksReader(in);
+  }
+
+  @Override
+  public void parseToHumanReadable(CheckpointInputStream in, PrintStream out) throws IOException {
+    CompressedBlocksReader reader = createReader(in);
+    Optional<CompressedBlocksReader.Block> block;
+    while ((block = reader.nextBlock()).isPresent()) {
+      out.printf("Block offset=%d records=%d uncompressedLength=%d compressedLength=%d%n",
+          block.get().getOffset(), block.get().getRecords(),
+          block.get().getUncompressedLength(), block.get().getCompressedLength());
+      block.get().forEachRecord(InodeMeta.Inode.parser(), inode -> {
+        out.println(ENTRY_SEPARATOR);
+        out.println(inode);
+      });
+    }
+  }
+}
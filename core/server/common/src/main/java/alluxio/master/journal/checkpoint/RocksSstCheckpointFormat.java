@@ -0,0 +1,230 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.checkpoint;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Format for RocksDB checkpoints which are written as the raw files of a RocksDB checkpoint
+ * directory. SST files are already compressed by RocksDB, so unlike the tarball format the files
+ * are not compressed again. Each file is written as
+ *
+ * [1, name (UTF), length (long), CRC32 (long), bytes]
+ *
+ * and the checkpoint ends with [0]. Since the checksum precedes the contents, a reader which
+ * already has an identical SST file locally can reuse it instead of writing the streamed copy.
+ */
+public class RocksSstCheckpointFormat implements CheckpointFormat {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final byte END = 0;
+  private static final byte FILE = 1;
+
+  @Override
+  public RocksSstCheckpointReader createReader(CheckpointInputStream in) {
+    return new RocksSstCheckpointReader(in);
+  }
+
+  @Override
+  public void parseToHumanReadable(CheckpointInputStream in, PrintStream out) throws IOException {
+    RocksSstCheckpointReader reader = createReader(in);
+    Optional<FileHeader> header;
+    while ((header = reader.nextFile()).isPresent()) {
+      out.printf("%s length=%d crc32=%d%n", header.get().getName(), header.get().getLength(),
+          header.get().getChecksum());
+    }
+  }
+
+  /**
+   * Writes one file of a checkpoint.
+   *
+   * @param out the checkpoint stream to write to
+   * @param file the file to write
+   * @param checksum the CRC32 checksum of the file
+   */
+  public static void writeFile(DataOutputStream out, Path file, long checksum)
+      throws IOException {
+    out.writeByte(FILE);
+    out.writeUTF(file.getFileName().toString());
+    out.writeLong(Files.size(file));
+    out.writeLong(checksum);
+    Files.copy(file, out);
+  }
+
+  /**
+   * Marks the end of a checkpoint.
+   *
+   * @param out the checkpoint stream to write to
+   */
+  public static void writeEnd(DataOutputStream out) throws IOException {
+    out.writeByte(END);
+  }
+
+  /**
+   * @param file a file
+   * @return the CRC32 checksum of the file's contents
+   */
+  public static long checksum(Path file) throws IOException {
+    CRC32 crc = new CRC32();
+    byte[] buf = new byte[BUFFER_SIZE];
+    try (InputStream in = Files.newInputStream(file)) {
+      int read;
+      while ((read = in.read(buf)) != -1) {
+        crc.update(buf, 0, read);
+      }
+    }
+    return crc.getValue();
+  }
+
+  /**
+   * The header of a file in the checkpoint.
+   */
+  public static final class FileHeader {
+    private final String mName;
+    private final long mLength;
+    private final long mChecksum;
+
+    private FileHeader(String name, long length, long checksum) {
+      mName = name;
+      mLength = length;
+      mChecksum = checksum;
+    }
+
+    /**
+     * @return the file name, relative to the checkpoint directory
+     */
+    public String getName() {
+      return mName;
+    }
+
+    /**
+     * @return the length of the file in bytes
+     */
+    public long getLength() {
+      return mLength;
+    }
+
+    /**
+     * @return the CRC32 checksum of the file
+     */
+    public long getChecksum() {
+      return mChecksum;
+    }
+  }
+
+  /**
+   * Reads a checkpoint of RocksDB files. After each call to {@link #nextFile()}, the caller may
+   * either copy the file with {@link #copyTo(Path)} or skip it. Files which are not copied are
+   * skipped by the next call to {@link #nextFile()}.
+   */
+  public static class RocksSstCheckpointReader implements CheckpointReader {
+    private final CheckpointInputStream mStream;
+    private FileHeader mCurrent;
+    /** Bytes of the current file which have not been read from the stream. */
+    private long mRemaining = 0;
+
+    /**
+     * @param in the checkpoint stream to read from
+     */
+    public RocksSstCheckpointReader(CheckpointInputStream in) {
+      Preconditions.checkState(in.getType() == CheckpointType.ROCKS_SST,
+          "Unexpected checkpoint type: %s", in.getType());
+      mStream = in;
+    }
+
+    /**
+     * @return the header of the next file, or empty if the reader has reached the end of the
+     *         checkpoint
+     */
+    public Optional<FileHeader> nextFile() throws IOException {
+      skipFile();
+      byte kind = mStream.readByte();
+      if (kind == END) {
+        mCurrent = null;
+        return Optional.empty();
+      }
+      if (kind != FILE) {
+        throw new IOException("Invalid entry in rocks checkpoint: " + kind);
+      }
+      String name = mStream.readUTF();
+      if (name.isEmpty() || name.contains("/") || name.equals("..") || name.equals(".")) {
+        throw new IOException("Invalid file name in rocks checkpoint: " + name);
+      }
+      mCurrent = new FileHeader(name, mStream.readLong(), mStream.readLong());
+      mRemaining = mCurrent.getLength();
+      return Optional.of(mCurrent);
+    }
+
+    /**
+     * Skips the rest of the current file.
+     */
+    public void skipFile() throws IOException {
+      if (mRemaining > 0) {
+        ByteStreams.skipFully(mStream, mRemaining);
+        mRemaining = 0;
+      }
+    }
+
+    /**
+     * Copies the current file to the given path, verifying its checksum.
+     *
+     * @param path the path to copy to
+     */
+    public void copyTo(Path path) throws IOException {
+      Preconditions.checkState(mCurrent != null && mRemaining == mCurrent.getLength(),
+          "No file to copy");
+      CRC32 crc = new CRC32();
+      byte[] buf = new byte[BUFFER_SIZE];
+      try (OutputStream out = Files.newOutputStream(path)) {
+        while (mRemaining > 0) {
+          int read = mStream.read(buf, 0, (int) Math.min(buf.length, mRemaining));
+          if (read == -1) {
+            throw new IOException(String.format(
+                "Unexpected end of rocks checkpoint while reading %s", mCurrent.getName()));
+          }
+          crc.update(buf, 0, read);
+          out.write(buf, 0, read);
+          mRemaining -= read;
+        }
+      }
+      if (crc.getValue() != mCurrent.getChecksum()) {
+        throw new IOException(String.format(
+            "Checksum mismatch for %s in rocks checkpoint: expected %d, got %d",
+            mCurrent.getName(), mCurrent.getChecksum(), crc.getValue()));
+      }
+    }
+
+    /**
+     * Unpacks all files to the given directory. Parent directories are created as needed.
+     *
+     * @param path the path to unpack to
+     */
+    public void unpackToDirectory(Path path) throws IOException {
+      Files.createDirectories(path);
+      Optional<FileHeader> header;
+      while ((header = nextFile()).isPresent()) {
+        copyTo(path.resolve(header.get().getName()));
+      }
+    }
+  }
+}
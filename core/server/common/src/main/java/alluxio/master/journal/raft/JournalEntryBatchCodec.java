@@ -0,0 +1,149 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.raft;
+
+import alluxio.proto.journal.Journal.JournalEntry;
+
+import com.google.common.base.Preconditions;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Packs journal entries into compressed {@link JournalEntryBatchCommand}s, and unpacks them.
+ *
+ * Entries of a batch are framed as by {@link com.google.protobuf.MessageLite#writeDelimitedTo}
+ * and deflated together, so that many small entries cost a single Raft log entry.
+ */
+public final class JournalEntryBatchCodec {
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  /**
+   * Packs entries into batches, in order. A batch holds as many entries as fit within the given
+   * uncompressed size, and at least one entry.
+   *
+   * @param entries the entries to pack
+   * @param maxBatchBytes the maximum uncompressed size of a batch
+   * @return the batches
+   */
+  public static List<JournalEntryBatchCommand> encode(List<JournalEntry> entries,
+      long maxBatchBytes) throws IOException {
+    Preconditions.checkArgument(maxBatchBytes > 0, "maxBatchBytes must be positive");
+    List<JournalEntryBatchCommand> batches = new ArrayList<>();
+    int start = 0;
+    long batchBytes = 0;
+    for (int i = 0; i < entries.size(); i++) {
+      long entryBytes = framedSize(entries.get(i));
+      if (i > start && batchBytes + entryBytes > maxBatchBytes) {
+        batches.add(encodeBatch(entries.subList(start, i), batchBytes));
+        start = i;
+        batchBytes = 0;
+      }
+      batchBytes += entryBytes;
+    }
+    if (start < entries.size()) {
+      batches.add(encodeBatch(entries.subList(start, entries.size()), batchBytes));
+    }
+    return batches;
+  }
+
+  /**
+   * Unpacks a batch, passing its entries to the consumer in order as they are parsed.
+   *
+   * @param batch the batch to unpack
+   * @param consumer the consumer of entries
+   */
+  public static void decode(JournalEntryBatchCommand batch, Consumer<JournalEntry> consumer)
+      throws IOException {
+    byte[] uncompressed = new byte[batch.getUncompressedLength()];
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(batch.getCompressedEntries());
+      int length = 0;
+      while (length < uncompressed.length) {
+        int inflated = inflater.inflate(uncompressed, length, uncompressed.length - length);
+        if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+          break;
+        }
+        length += inflated;
+      }
+      if (length != uncompressed.length) {
+        throw new IOException(String.format(
+            "Journal entry batch inflated to %d bytes, expected %d", length,
+            uncompressed.length));
+      }
+    } catch (DataFormatException e) {
+      throw new IOException("Corrupt journal entry batch", e);
+    } finally {
+      inflater.end();
+    }
+    CodedInputStream in = CodedInputStream.newInstance(uncompressed);
+    for (int i = 0; i < batch.getEntryCount(); i++) {
+      if (in.isAtEnd()) {
+        throw new IOException(String.format("Journal entry batch ended after %d of %d entries",
+            i, batch.getEntryCount()));
+      }
+      int limit = in.pushLimit(in.readRawVarint32());
+      JournalEntry entry = JournalEntry.parseFrom(in);
+      in.popLimit(limit);
+      consumer.accept(entry);
+    }
+    if (!in.isAtEnd()) {
+      throw new IOException(String.format(
+          "Journal entry batch has unexpected bytes after %d entries", batch.getEntryCount()));
+    }
+  }
+
+  private static JournalEntryBatchCommand encodeBatch(List<JournalEntry> entries, long length)
+      throws IOException {
+    Preconditions.checkState(length <= Integer.MAX_VALUE,
+        "Journal entry batch of %s entries is too large: %s bytes", entries.size(), length);
+    byte[] uncompressed = new byte[(int) length];
+    CodedOutputStream out = CodedOutputStream.newInstance(uncompressed);
+    for (JournalEntry entry : entries) {
+      out.writeUInt32NoTag(entry.getSerializedSize());
+      entry.writeTo(out);
+    }
+    out.checkNoSpaceLeft();
+
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(uncompressed.length / 2 + 64);
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(uncompressed);
+      deflater.finish();
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (!deflater.finished()) {
+        int deflated = deflater.deflate(buffer);
+        compressed.write(buffer, 0, deflated);
+      }
+    } finally {
+      deflater.end();
+    }
+    return new JournalEntryBatchCommand(entries.size(), uncompressed.length,
+        compressed.toByteArray());
+  }
+
+  private static long framedSize(JournalEntry entry) {
+    int size = entry.getSerializedSize();
+    return CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+  }
+
+  private JournalEntryBatchCodec() {} // prevent instantiation
+}
@@ -0,0 +1,86 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.raft;
+
+import io.atomix.catalyst.buffer.BufferInput;
+import io.atomix.catalyst.buffer.BufferOutput;
+import io.atomix.catalyst.serializer.CatalystSerializable;
+import io.atomix.catalyst.serializer.Serializer;
+import io.atomix.copycat.Command;
+
+/**
+ * Command for writing a compressed batch of journal entries, encoded by
+ * {@link JournalEntryBatchCodec}.
+ *
+ * The batch is serialized by writing the number of entries, the uncompressed length and the
+ * compressed length as integers, followed by the compressed bytes.
+ */
+public class JournalEntryBatchCommand implements Command<Void>, CatalystSerializable {
+  private static final long serialVersionUID = -2310952372549412311L;
+
+  private int mEntryCount;
+  private int mUncompressedLength;
+  private byte[] mCompressedEntries;
+
+  /**
+   * No-arg constructor for use by Catalyst deserialization.
+   */
+  public JournalEntryBatchCommand() {}
+
+  /**
+   * @param entryCount the number of entries in the batch
+   * @param uncompressedLength the length of the entries before compression
+   * @param compressedEntries the compressed entries
+   */
+  JournalEntryBatchCommand(int entryCount, int uncompressedLength, byte[] compressedEntries) {
+    mEntryCount = entryCount;
+    mUncompressedLength = uncompressedLength;
+    mCompressedEntries = compressedEntries;
+  }
+
+  @Override
+  public void writeObject(BufferOutput<?> buffer, Serializer serializer) {
+    buffer.writeInt(mEntryCount);
+    buffer.writeInt(mUncompressedLength);
+    buffer.writeInt(mCompressedEntries.length);
+    buffer.write(mCompressedEntries);
+  }
+
+  @Override
+  public void readObject(BufferInput<?> buffer, Serializer serializer) {
+    mEntryCount = buffer.readInt();
+    mUncompressedLength = buffer.readInt();
+    mCompressedEntries = new byte[buffer.readInt()];
+    buffer.read(mCompressedEntries);
+  }
+
+  /**
+   * @return the number of entries in the batch
+   */
+  public int getEntryCount() {
+    return mEntryCount;
+  }
+
+  /**
+   * @return the length of the entries before compression
+   */
+  public int getUncompressedLength() {
+    return mUncompressedLength;
+  }
+
+  /**
+   * @return the compressed entries
+   */
+  public byte[] getCompressedEntries() {
+    return mCompressedEntries;
+  }
+}
@@ -18,6 +18,7 @@ import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.journal.JournalEntryAssociation;
 import alluxio.master.journal.JournalUtils;
 import alluxio.master.journal.Journaled;
+import alluxio.master.journal.ParallelJournalApplier;
 import alluxio.master.journal.sink.JournalSink;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.util.StreamUtils;
@@ -33,6 +34,7 @@ import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
@@ -51,6 +53,10 @@ import javax.annotation.concurrent.GuardedBy;
  * other primary master is serving, then call {@link #upgrade}. Once the state machine is upgraded,
  * it will ignore all entries appended by copycat because those entries are applied to primary
  * master state before being written to copycat.
+ *
+ * Entries are applied by a {@link ParallelJournalApplier}, which may apply independent entries
+ * concurrently. The applier is drained before snapshotting, installing snapshots, resetting state,
+ * and upgrading, so those always see every entry offered so far.
  */
 @ThreadSafe
 public class JournalStateMachine extends StateMachine implements Snapshottable {
@@ -73,6 +79,9 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
 
   /** A supplier of journal sinks for this journal. */
   private final Supplier<Set<JournalSink>> mJournalSinks;
+  /** Serializes appends to the journal sinks, which may come from several apply threads. */
+  private final Object mSinkLock = new Object();
+  private final ParallelJournalApplier mApplier;
 
   /**
    * @param journals master journals; these journals are still owned by the caller, not by the
@@ -83,6 +92,7 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
       Supplier<Set<JournalSink>> journalSinks) {
     mJournals = Collections.unmodifiableMap(journals);
     mJournalSinks = journalSinks;
+    mApplier = ParallelJournalApplier.create("raft", this::applyToMaster);
     resetState();
     LOG.info("Initialized new journal state machine");
   }
@@ -113,6 +123,30 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
     }
   }
 
+  /**
+   * Applies a compressed batch of journal entries to the state machine, applying each entry as it
+   * is unpacked.
+   *
+   * This method is automatically discovered by the Copycat framework.
+   *
+   * @param commit the commit
+   */
+  public synchronized void applyJournalEntryBatchCommand(
+      Commit<JournalEntryBatchCommand> commit) {
+    try {
+      JournalEntryBatchCodec.decode(commit.command(), this::applyEntry);
+    } catch (IOException e) {
+      ProcessUtils.fatalError(LOG, e,
+          "Encountered invalid journal entry batch in commit: %s.", commit);
+      System.exit(-1);
+      throw new IllegalStateException(e); // We should never reach here.
+    } finally {
+      Preconditions.checkState(commit.index() > mLastAppliedCommitIndex);
+      mLastAppliedCommitIndex = commit.index();
+      commit.close();
+    }
+  }
+
   /**
    * Applies the journal entry, ignoring empty entries and expanding multi-entries.
    *
@@ -166,11 +200,11 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
 
     mNextSequenceNumberToRead++;
     if (!mIgnoreApplys) {
-      applyToMaster(entry);
+      mApplier.submit(entry);
     }
   }
 
-  private synchronized void applyToMaster(JournalEntry entry) {
+  private void applyToMaster(JournalEntry entry) {
     String masterName;
     try {
       masterName = JournalEntryAssociation.getMasterForEntry(entry);
@@ -182,7 +216,9 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
       Journaled master = mJournals.get(masterName).getStateMachine();
       LOG.trace("Applying entry to master {}: {} ", masterName, entry);
       master.processJournalEntry(entry);
-      JournalUtils.sinkAppend(mJournalSinks, entry);
+      synchronized (mSinkLock) {
+        JournalUtils.sinkAppend(mJournalSinks, entry);
+      }
     } catch (Throwable t) {
       JournalUtils.handleJournalReplayFailure(LOG, t,
           "Failed to apply journal entry to master %s. Entry: %s", masterName, entry);
@@ -197,6 +233,7 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
     }
     LOG.debug("Calling snapshot");
     Preconditions.checkState(!mSnapshotting, "Cannot call snapshot multiple times concurrently");
+    mApplier.drain();
     mSnapshotting = true;
     mLastSnapshotStartTime = System.currentTimeMillis();
     long snapshotId = mNextSequenceNumberToRead - 1;
@@ -222,6 +259,7 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
       return;
     }
 
+    mApplier.drain();
     long snapshotId = 0L;
     try (InputStream srs = new SnapshotReaderStream(snapshotReader)) {
       snapshotId = snapshotReader.readLong();
@@ -254,6 +292,7 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
       LOG.warn("Unexpected call to resetState() on a read-only journal state machine");
       return;
     }
+    mApplier.drain();
     for (RaftJournal journal : mJournals.values()) {
       journal.getStateMachine().resetState();
     }
@@ -265,12 +304,14 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
    * @return the last sequence number read while in secondary mode
    */
   public synchronized long upgrade() {
+    mApplier.drain();
     mIgnoreApplys = true;
     return mNextSequenceNumberToRead - 1;
   }
 
   /**
-   * @return the sequence number of the last entry applied to the state machine
+   * @return the sequence number of the last entry applied to the state machine; the entry may
+   *         still be queued in the journal applier
    */
   public long getLastAppliedSequenceNumber() {
     return mNextSequenceNumberToRead - 1;
@@ -302,5 +343,6 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
    */
   public synchronized void close() {
     mClosed = true;
+    mApplier.close();
   }
 }
@@ -22,11 +22,14 @@ import alluxio.master.PrimarySelector;
 import alluxio.master.journal.AbstractJournalSystem;
 import alluxio.master.journal.AsyncJournalWriter;
 import alluxio.master.journal.Journal;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.util.CommonUtils;
 import alluxio.util.WaitForOptions;
 import alluxio.util.io.FileUtils;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import io.atomix.catalyst.serializer.Serializer;
 import io.atomix.catalyst.transport.Address;
@@ -261,7 +264,8 @@ public final class RaftJournalSystem extends AbstractJournalSystem {
    * @return the serializer for commands in the {@link StateMachine}
    */
   public static Serializer createSerializer() {
-    return new Serializer().register(JournalEntryCommand.class, 1);
+    return new Serializer().register(JournalEntryCommand.class, 1)
+        .register(JournalEntryBatchCommand.class, 2);
   }
 
   @Override
@@ -274,17 +278,22 @@ public final class RaftJournalSystem extends AbstractJournalSystem {
 
   @Override
   public synchronized void gainPrimacy() {
-    mSnapshotAllowed.set(false);
-    CopycatClient client = createAndConnectClient();
-    try {
-      catchUp(mStateMachine, client);
-    } catch (TimeoutException e) {
-      throw new RuntimeException(e);
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      throw new RuntimeException(e);
+    CopycatClient client;
+    long nextSN;
+    try (Timer.Context gainPrimacyCtx =
+        MetricsSystem.timer(MasterMetrics.JOURNAL_GAIN_PRIMACY_TIMER).time()) {
+      mSnapshotAllowed.set(false);
+      client = createAndConnectClient();
+      try (Timer.Context ctx = MetricsSystem.timer(MasterMetrics.JOURNAL_CATCH_UP_TIMER).time()) {
+        catchUp(mStateMachine, client);
+      } catch (TimeoutException e) {
+        throw new RuntimeException(e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      }
+      nextSN = mStateMachine.upgrade() + 1;
     }
-    long nextSN = mStateMachine.upgrade() + 1;
 
     Preconditions.checkState(mRaftJournalWriter == null);
     mRaftJournalWriter = new RaftJournalWriter(nextSN, client);
@@ -23,6 +23,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -33,6 +36,11 @@ import javax.annotation.concurrent.NotThreadSafe;
 /**
  * Class for writing entries to the Raft journal. Written entries are aggregated until flush is
  * called, then they are submitted as a single unit.
+ *
+ * When {@link PropertyKey#MASTER_EMBEDDED_JOURNAL_ENTRY_BATCH_COMPRESSION_ENABLED} is set, the
+ * aggregated entries are instead packed into compressed batches by
+ * {@link JournalEntryBatchCodec}, each bounded by
+ * {@link PropertyKey#MASTER_EMBEDDED_JOURNAL_ENTRY_BATCH_SIZE_MAX}.
  */
 @NotThreadSafe
 public class RaftJournalWriter implements JournalWriter {
@@ -49,6 +57,13 @@ public class RaftJournalWriter implements JournalWriter {
   private volatile boolean mClosed;
   private JournalEntry.Builder mJournalEntryBuilder;
 
+  /** Whether entries are submitted in compressed batches. */
+  private final boolean mCompressBatches;
+  /** The maximum uncompressed size of a compressed batch. */
+  private final long mMaxBatchBytes;
+  /** Entries written since the last flush, when submitting compressed batches. */
+  private List<JournalEntry> mPendingEntries;
+
   /**
    * @param nextSequenceNumberToWrite the sequence number for the writer to begin writing at
    * @param client client for writing entries to the journal; the constructed journal writer owns
@@ -60,6 +75,10 @@ public class RaftJournalWriter implements JournalWriter {
     mLastCommittedSequenceNumber = new AtomicLong(-1);
     mClient = client;
     mClosed = false;
+    mCompressBatches = ServerConfiguration
+        .getBoolean(PropertyKey.MASTER_EMBEDDED_JOURNAL_ENTRY_BATCH_COMPRESSION_ENABLED);
+    mMaxBatchBytes =
+        ServerConfiguration.getBytes(PropertyKey.MASTER_EMBEDDED_JOURNAL_ENTRY_BATCH_SIZE_MAX);
   }
 
   @Override
@@ -69,11 +88,19 @@ public class RaftJournalWriter implements JournalWriter {
     }
     Preconditions.checkState(entry.getAllFields().size() <= 1,
         "Raft journal entries should never set multiple fields, but found %s", entry);
+    JournalEntry entryToWrite = entry.toBuilder()
+        .setSequenceNumber(mNextSequenceNumberToWrite.getAndIncrement()).build();
+    if (mCompressBatches) {
+      if (mPendingEntries == null) {
+        mPendingEntries = new ArrayList<>();
+      }
+      mPendingEntries.add(entryToWrite);
+      return;
+    }
     if (mJournalEntryBuilder == null) {
       mJournalEntryBuilder = JournalEntry.newBuilder();
     }
-    mJournalEntryBuilder.addJournalEntries(entry.toBuilder()
-        .setSequenceNumber(mNextSequenceNumberToWrite.getAndIncrement()).build());
+    mJournalEntryBuilder.addJournalEntries(entryToWrite);
   }
 
   @Override
@@ -81,15 +108,14 @@ public class RaftJournalWriter implements JournalWriter {
     if (mClosed) {
       throw new JournalClosedException("Cannot flush. Journal writer has been closed");
     }
-    if (mJournalEntryBuilder != null) {
+    if (mJournalEntryBuilder != null || mPendingEntries != null) {
       long flushSN = mNextSequenceNumberToWrite.get() - 1;
       try {
         // It is ok to submit the same entries multiple times because we de-duplicate by sequence
         // number when applying them. This could happen if submit fails and we re-submit the same
         // entry on retry.
         mLastSubmittedSequenceNumber.set(flushSN);
-        mClient.submit(new JournalEntryCommand(mJournalEntryBuilder.build())).get(PROCESS_TIMEOUT_S,
-            TimeUnit.SECONDS);
+        submit().get(PROCESS_TIMEOUT_S, TimeUnit.SECONDS);
         mLastCommittedSequenceNumber.set(flushSN);
       } catch (InterruptedException e) {
         Thread.currentThread().interrupt();
@@ -102,7 +128,27 @@ public class RaftJournalWriter implements JournalWriter {
                 PROCESS_TIMEOUT_S), e);
       }
       mJournalEntryBuilder = null;
+      mPendingEntries = null;
+    }
+  }
+
+  /**
+   * Submits the entries written since the last flush.
+   *
+   * @return a future which completes once all the entries have been committed
+   */
+  private CompletableFuture<Void> submit() throws IOException {
+    if (mPendingEntries == null) {
+      return mClient.submit(new JournalEntryCommand(mJournalEntryBuilder.build()));
+    }
+    // The client submits commands in order, so batches are applied in order.
+    List<JournalEntryBatchCommand> batches =
+        JournalEntryBatchCodec.encode(mPendingEntries, mMaxBatchBytes);
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[batches.size()];
+    for (int i = 0; i < batches.size(); i++) {
+      futures[i] = mClient.submit(batches.get(i));
     }
+    return CompletableFuture.allOf(futures);
   }
 
   @Override
@@ -0,0 +1,55 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.tool;
+
+import alluxio.Constants;
+
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+
+/**
+ * An abstract class for journal benchmarks.
+ */
+public abstract class AbstractJournalBenchmark {
+  /**
+   * Runs the benchmark and prints the results to standard output.
+   */
+  public abstract void run() throws Throwable;
+
+  /**
+   * @param count the number of operations performed
+   * @param durationNs the time taken by the operations in nanoseconds
+   * @return the number of operations per second
+   */
+  protected static double perSecond(long count, long durationNs) {
+    return durationNs == 0 ? 0 : count * (double) Constants.SECOND_NANO / durationNs;
+  }
+
+  /**
+   * Prints the latency percentiles recorded by a timer in milliseconds.
+   *
+   * @param operation the name of the timed operation
+   * @param timer the timer
+   */
+  protected static void printLatencies(String operation, Timer timer) {
+    Snapshot snapshot = timer.getSnapshot();
+    System.out.printf(
+        "%s latency (ms): mean=%.3f p50=%.3f p95=%.3f p99=%.3f p999=%.3f max=%.3f%n", operation,
+        toMs(snapshot.getMean()), toMs(snapshot.getMedian()), toMs(snapshot.get95thPercentile()),
+        toMs(snapshot.get99thPercentile()), toMs(snapshot.get999thPercentile()),
+        toMs(snapshot.getMax()));
+  }
+
+  private static double toMs(double nanos) {
+    return nanos / Constants.MS_NANO;
+  }
+}
@@ -13,6 +13,7 @@ package alluxio.master.journal.tool;
 
 import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.journal.checkpoint.CompoundCheckpointFormat;
+import alluxio.master.journal.checkpoint.RocksSstCheckpointFormat;
 import alluxio.master.journal.checkpoint.TarballCheckpointFormat;
 import alluxio.util.io.PathUtils;
 
@@ -84,6 +85,9 @@ public abstract class AbstractJournalDumper {
       case ROCKS:
         readRocksCheckpoint(checkpoint, path);
         break;
+      case ROCKS_SST:
+        readRocksSstCheckpoint(checkpoint, path);
+        break;
       default:
         readRegularCheckpoint(checkpoint, path);
         break;
@@ -110,6 +114,13 @@ public abstract class AbstractJournalDumper {
     reader.unpackToDirectory(path);
   }
 
+  private void readRocksSstCheckpoint(CheckpointInputStream checkpoint, Path path)
+      throws IOException {
+    RocksSstCheckpointFormat.RocksSstCheckpointReader reader =
+        new RocksSstCheckpointFormat.RocksSstCheckpointReader(checkpoint);
+    reader.unpackToDirectory(path);
+  }
+
   private void readRegularCheckpoint(CheckpointInputStream checkpoint, Path path)
       throws IOException {
     try (PrintStream out =
@@ -15,6 +15,7 @@ import alluxio.RuntimeConstants;
 import alluxio.conf.PropertyKey;
 import alluxio.conf.ServerConfiguration;
 import alluxio.master.journal.JournalType;
+import alluxio.util.CommonUtils;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.cli.CommandLine;
@@ -38,12 +39,18 @@ import javax.annotation.concurrent.NotThreadSafe;
  *   assembly/server/target/alluxio-assembly-server-<ALLUXIO-VERSION>-jar-with-dependencies.jar \
  *   alluxio.master.journal.JournalTool -master FileSystemMaster -outputDir my-journal
  * </pre>
+ *
+ * The tool can also benchmark journal writes with {@code -benchmark write}, or journal replay into
+ * a metastore with {@code -benchmark replay -metastore ROCKS}.
  */
 @NotThreadSafe
 public final class JournalTool {
   private static final Logger LOG = LoggerFactory.getLogger(JournalTool.class);
   private static final int EXIT_FAILED = -1;
   private static final int EXIT_SUCCEEDED = 0;
+  /** The replay benchmark needs the master implementations, which this module cannot depend on. */
+  private static final String REPLAY_BENCHMARK_CLASS =
+      "alluxio.master.journal.tool.JournalReplayBenchmark";
   private static final Options OPTIONS = new Options()
       .addOption("help", false, "Show help for this command.")
       .addOption("master", true,
@@ -58,7 +65,24 @@ public final class JournalTool {
               + "(Default: Read from system configuration.)")
       .addOption("outputDir", true,
           "The output directory to write journal content to. "
-          + "(Default: journal_dump-${timestamp})");
+          + "(Default: journal_dump-${timestamp})")
+      .addOption("benchmark", true,
+          "Run a benchmark instead of dumping the journal. 'write' writes a synthetic workload "
+              + "to a new journal in the output directory. 'replay' replays the input journal "
+              + "into new masters, keeping on-disk metastore state in the output directory.")
+      .addOption("entries", true,
+          "The number of entries to write in the write benchmark. Set to 1000000 by default.")
+      .addOption("threads", true,
+          "The number of writing threads in the write benchmark. Set to 16 by default.")
+      .addOption("entriesPerFlush", true,
+          "The number of entries written between flushes by each thread in the write benchmark. "
+              + "Set to 1 by default.")
+      .addOption("mix", true,
+          "The workload of the write benchmark as comma-separated operation=weight pairs. Set to "
+              + "create=4,rename=1,delete=1,updateInode=4 by default.")
+      .addOption("metastore", true,
+          "The metastore type to replay into in the replay benchmark, e.g. HEAP or ROCKS. "
+              + "(Default: Read from system configuration.)");
 
   private static boolean sHelp;
   private static String sMaster;
@@ -66,6 +90,12 @@ public final class JournalTool {
   private static long sEnd;
   private static String sInputDir;
   private static String sOutputDir;
+  private static String sBenchmark;
+  private static long sEntries;
+  private static int sThreads;
+  private static int sEntriesPerFlush;
+  private static String sMix;
+  private static String sMetastore;
 
   private JournalTool() {} // prevent instantiation
 
@@ -85,7 +115,11 @@ public final class JournalTool {
     }
 
     try {
-      dumpJournal();
+      if (sBenchmark != null) {
+        runBenchmark();
+      } else {
+        dumpJournal();
+      }
     } catch (Exception exc) {
       System.out.println(String.format("Journal tool failed: %s", exc));
     }
@@ -114,6 +148,28 @@ public final class JournalTool {
     journalDumper.dumpJournal();
   }
 
+  private static void runBenchmark() throws Throwable {
+    AbstractJournalBenchmark benchmark;
+    switch (sBenchmark) {
+      case "write":
+        System.out.println(String.format("Writing journal benchmark to %s", sOutputDir));
+        benchmark = new JournalWriteBenchmark(sOutputDir, sEntries, sThreads, sEntriesPerFlush,
+            sMix);
+        break;
+      case "replay":
+        System.out.println(String.format("Replaying journal from %s", sInputDir));
+        benchmark = CommonUtils.createNewClassInstance(
+            Class.forName(REPLAY_BENCHMARK_CLASS).asSubclass(AbstractJournalBenchmark.class),
+            new Class[] {String.class, String.class, String.class},
+            new Object[] {sInputDir, sOutputDir, sMetastore});
+        break;
+      default:
+        System.err.println(String.format("Unsupported benchmark: %s", sBenchmark));
+        return;
+    }
+    benchmark.run();
+  }
+
   /**
    * Parses the input args with a command line format, using
    * {@link org.apache.commons.cli.CommandLineParser}.
@@ -137,9 +193,17 @@ public final class JournalTool {
     sInputDir = new File(
         cmd.getOptionValue("inputDir", ServerConfiguration.get(PropertyKey.MASTER_JOURNAL_FOLDER)))
             .getAbsolutePath();
+    sBenchmark = cmd.getOptionValue("benchmark");
+    String outputPrefix = sBenchmark == null ? "journal_dump-" : "journal_benchmark-";
     sOutputDir =
-        new File(cmd.getOptionValue("outputDir", "journal_dump-" + System.currentTimeMillis()))
+        new File(cmd.getOptionValue("outputDir", outputPrefix + System.currentTimeMillis()))
             .getAbsolutePath();
+    sEntries = Long.decode(cmd.getOptionValue("entries", "1000000"));
+    sThreads = Integer.decode(cmd.getOptionValue("threads", "16"));
+    sEntriesPerFlush = Integer.decode(cmd.getOptionValue("entriesPerFlush", "1"));
+    sMix = cmd.getOptionValue("mix", "create=4,rename=1,delete=1,updateInode=4");
+    sMetastore =
+        cmd.getOptionValue("metastore", ServerConfiguration.get(PropertyKey.MASTER_METASTORE));
     return true;
   }
 
@@ -0,0 +1,261 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.tool;
+
+import alluxio.AlluxioURI;
+import alluxio.Constants;
+import alluxio.master.NoopMaster;
+import alluxio.master.journal.Journal;
+import alluxio.master.journal.JournalContext;
+import alluxio.master.journal.JournalSystem;
+import alluxio.proto.journal.File.DeleteFileEntry;
+import alluxio.proto.journal.File.InodeFileEntry;
+import alluxio.proto.journal.File.RenameEntry;
+import alluxio.proto.journal.File.UpdateInodeEntry;
+import alluxio.proto.journal.Journal.JournalEntry;
+import alluxio.util.CommonUtils;
+import alluxio.util.ThreadFactoryUtils;
+import alluxio.util.io.PathUtils;
+
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark which writes a synthetic metadata workload to a new journal of the configured type and
+ * reports the sustained write throughput and the flush latency seen by journal contexts.
+ *
+ * The entries only approximate the sizes and mix of real file system operations. They reference
+ * synthetic inode ids, so the resulting journal is not meant to be replayed by a real master.
+ */
+public final class JournalWriteBenchmark extends AbstractJournalBenchmark {
+  /** The master which the synthetic entries are written for. */
+  private static final String MASTER_NAME = "FileSystemMaster";
+  /** Synthetic inodes are allocated from here to stay clear of real inode ids. */
+  private static final long FIRST_INODE_ID = 1L << 40;
+
+  private final String mJournalDir;
+  private final long mNumEntries;
+  private final int mNumThreads;
+  private final int mEntriesPerFlush;
+  private final Map<Operation, Integer> mWeights;
+  private final int mTotalWeight;
+  private final AtomicLong mEntriesClaimed = new AtomicLong();
+  private final AtomicLong mNextInodeId = new AtomicLong(FIRST_INODE_ID);
+  private final Timer mFlushTimer = new Timer();
+
+  /**
+   * Operations in the synthetic workload.
+   */
+  enum Operation {
+    CREATE("create"),
+    RENAME("rename"),
+    DELETE("delete"),
+    UPDATE_INODE("updateInode");
+
+    private final String mName;
+
+    Operation(String name) {
+      mName = name;
+    }
+
+    /**
+     * @param name the name of the operation in a workload mix
+     * @return the operation
+     */
+    static Operation fromName(String name) {
+      for (Operation operation : values()) {
+        if (operation.mName.equals(name)) {
+          return operation;
+        }
+      }
+      throw new IllegalArgumentException(String.format("Unknown journal benchmark operation %s. "
+          + "Valid operations are create, rename, delete and updateInode", name));
+    }
+  }
+
+  /**
+   * Creates a new journal write benchmark.
+   *
+   * @param journalDir the directory to create the journal in
+   * @param numEntries the number of entries to write
+   * @param numThreads the number of writing threads
+   * @param entriesPerFlush the number of entries written in each journal context
+   * @param mix the workload mix as comma-separated operation=weight pairs, e.g.
+   *        "create=4,rename=1,delete=1,updateInode=4"
+   */
+  public JournalWriteBenchmark(String journalDir, long numEntries, int numThreads,
+      int entriesPerFlush, String mix) {
+    Preconditions.checkArgument(numEntries > 0, "numEntries must be positive");
+    Preconditions.checkArgument(numThreads > 0, "numThreads must be positive");
+    Preconditions.checkArgument(entriesPerFlush > 0, "entriesPerFlush must be positive");
+    mJournalDir = journalDir;
+    mNumEntries = numEntries;
+    mNumThreads = numThreads;
+    mEntriesPerFlush = entriesPerFlush;
+    mWeights = parseMix(mix);
+    mTotalWeight = mWeights.values().stream().mapToInt(Integer::intValue).sum();
+    Preconditions.checkArgument(mTotalWeight > 0, "Workload mix %s has no operations", mix);
+  }
+
+  @Override
+  public void run() throws Throwable {
+    Files.createDirectories(Paths.get(mJournalDir));
+    JournalSystem journalSystem = new JournalSystem.Builder()
+        .setLocation(new URI(PathUtils.normalizePath(mJournalDir, AlluxioURI.SEPARATOR)))
+        .build(CommonUtils.ProcessType.MASTER);
+    Journal journal = journalSystem.createJournal(new NoopMaster(MASTER_NAME));
+    journalSystem.format();
+    journalSystem.start();
+    journalSystem.gainPrimacy();
+    ExecutorService executor = Executors.newFixedThreadPool(mNumThreads,
+        ThreadFactoryUtils.build("journal-write-benchmark-%d", true));
+    try {
+      List<Callable<Void>> writers = new ArrayList<>();
+      for (int i = 0; i < mNumThreads; i++) {
+        writers.add(() -> {
+          writeEntries(journal);
+          return null;
+        });
+      }
+      long startNs = System.nanoTime();
+      for (Future<Void> future : executor.invokeAll(writers)) {
+        future.get();
+      }
+      long durationNs = System.nanoTime() - startNs;
+      System.out.printf("Wrote %d entries with %d threads in %dms: %.1f entries/sec, "
+              + "%.1f flushes/sec%n", mNumEntries, mNumThreads, durationNs / Constants.MS_NANO,
+          perSecond(mNumEntries, durationNs), perSecond(mFlushTimer.getCount(), durationNs));
+      printLatencies("Flush", mFlushTimer);
+    } finally {
+      executor.shutdownNow();
+      journalSystem.stop();
+    }
+  }
+
+  /**
+   * Writes batches of entries until the benchmark has claimed all of its entries.
+   *
+   * @param journal the journal to write to
+   */
+  private void writeEntries(Journal journal) throws Exception {
+    while (true) {
+      long claimed = mEntriesClaimed.getAndAdd(mEntriesPerFlush);
+      if (claimed >= mNumEntries) {
+        return;
+      }
+      long count = Math.min(mEntriesPerFlush, mNumEntries - claimed);
+      JournalContext context = journal.createJournalContext();
+      for (long i = 0; i < count; i++) {
+        context.append(nextEntry());
+      }
+      long startNs = System.nanoTime();
+      context.close();
+      mFlushTimer.update(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private JournalEntry nextEntry() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long now = System.currentTimeMillis();
+    long lastId = mNextInodeId.get() - 1;
+    Operation operation = lastId < FIRST_INODE_ID ? Operation.CREATE : nextOperation(random);
+    long id = operation == Operation.CREATE ? mNextInodeId.getAndIncrement()
+        : random.nextLong(FIRST_INODE_ID, lastId + 1);
+    long parentId = id / 1000;
+    String name = "file-" + id;
+    String path = "/benchmark/dir-" + parentId + "/" + name;
+    switch (operation) {
+      case CREATE:
+        return JournalEntry.newBuilder().setInodeFile(InodeFileEntry.newBuilder()
+            .setId(id)
+            .setParentId(parentId)
+            .setName(name)
+            .setPath(path)
+            .setPersistenceState("NOT_PERSISTED")
+            .setCreationTimeMs(now)
+            .setLastModificationTimeMs(now)
+            .setBlockSizeBytes(64 * Constants.MB)
+            .setCacheable(true)
+            .setOwner("alluxio")
+            .setGroup("alluxio")
+            .setMode(0644))
+            .build();
+      case RENAME:
+        return JournalEntry.newBuilder().setRename(RenameEntry.newBuilder()
+            .setId(id)
+            .setOpTimeMs(now)
+            .setNewParentId(parentId)
+            .setNewName(name + "-renamed")
+            .setPath(path)
+            .setNewPath(path + "-renamed"))
+            .build();
+      case DELETE:
+        return JournalEntry.newBuilder().setDeleteFile(DeleteFileEntry.newBuilder()
+            .setId(id)
+            .setRecursive(false)
+            .setOpTimeMs(now)
+            .setPath(path))
+            .build();
+      case UPDATE_INODE:
+        return JournalEntry.newBuilder().setUpdateInode(UpdateInodeEntry.newBuilder()
+            .setId(id)
+            .setLastModificationTimeMs(now)
+            .setPinned(random.nextBoolean()))
+            .build();
+      default:
+        throw new IllegalStateException("Unknown operation: " + operation);
+    }
+  }
+
+  private Operation nextOperation(ThreadLocalRandom random) {
+    int choice = random.nextInt(mTotalWeight);
+    for (Map.Entry<Operation, Integer> weight : mWeights.entrySet()) {
+      choice -= weight.getValue();
+      if (choice < 0) {
+        return weight.getKey();
+      }
+    }
+    throw new IllegalStateException("Operation weights changed during the benchmark");
+  }
+
+  /**
+   * @param mix comma-separated operation=weight pairs
+   * @return the weight of each operation in the mix
+   */
+  static Map<Operation, Integer> parseMix(String mix) {
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    for (String pair : mix.split(",")) {
+      String[] parts = pair.trim().split("=");
+      Preconditions.checkArgument(parts.length == 2,
+          "Workload mix entries must have the form operation=weight, but found %s", pair);
+      int weight = Integer.parseInt(parts[1].trim());
+      Preconditions.checkArgument(weight >= 0, "Operation weights must not be negative: %s", pair);
+      weights.put(Operation.fromName(parts[0].trim()), weight);
+    }
+    return weights;
+  }
+}
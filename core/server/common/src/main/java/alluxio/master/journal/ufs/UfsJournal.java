@@ -23,7 +23,11 @@ import alluxio.master.journal.JournalContext;
 import alluxio.master.journal.JournalReader;
 import alluxio.master.journal.JournalUtils;
 import alluxio.master.journal.MasterJournalContext;
+import alluxio.master.journal.ParallelJournalApplier;
 import alluxio.master.journal.sink.JournalSink;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.Metric;
+import alluxio.metrics.MetricsSystem;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.retry.ExponentialTimeBoundedRetry;
 import alluxio.retry.RetryPolicy;
@@ -34,6 +38,7 @@ import alluxio.underfs.options.DeleteOptions;
 import alluxio.util.URIUtils;
 import alluxio.util.UnderFileSystemUtils;
 
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
@@ -112,6 +117,8 @@ public class UfsJournal implements Journal {
 
   /** A supplier of journal sinks for this journal. */
   private final Supplier<Set<JournalSink>> mJournalSinks;
+  /** Serializes appends to the journal sinks, which may come from several apply threads. */
+  private final Object mSinkLock = new Object();
 
   /**
    * @return the ufs configuration to use for the journal operations
@@ -215,10 +222,15 @@ public class UfsJournal implements Journal {
     Preconditions.checkState(mWriter == null, "writer must be null in secondary mode");
     Preconditions.checkState(mTailerThread != null,
         "tailer thread must not be null in secondary mode");
-    mTailerThread.awaitTermination(true);
-    long nextSequenceNumber = mTailerThread.getNextSequenceNumber();
-    mTailerThread = null;
-    nextSequenceNumber = catchUp(nextSequenceNumber);
+    long nextSequenceNumber;
+    try (Timer.Context ctx = MetricsSystem.timer(Metric.getMetricNameWithTags(
+        MasterMetrics.JOURNAL_CATCH_UP_TIMER, MasterMetrics.TAG_JOURNAL, mMaster.getName()))
+        .time()) {
+      mTailerThread.awaitTermination(true);
+      nextSequenceNumber = mTailerThread.getNextSequenceNumber();
+      mTailerThread = null;
+      nextSequenceNumber = catchUp(nextSequenceNumber);
+    }
     mWriter = new UfsJournalLogWriter(this, nextSequenceNumber);
     mAsyncWriter = new AsyncJournalWriter(mWriter, mJournalSinks);
     mState = State.PRIMARY;
@@ -394,6 +406,13 @@ public class UfsJournal implements Journal {
   }
 
   private long catchUp(JournalReader journalReader) {
+    try (ParallelJournalApplier applier =
+        ParallelJournalApplier.create(mMaster.getName(), this::applyEntry)) {
+      return replay(journalReader, applier);
+    }
+  }
+
+  private long replay(JournalReader journalReader, ParallelJournalApplier applier) {
     RetryPolicy retry =
         ExponentialTimeBoundedRetry.builder()
             .withInitialSleep(Duration.ofSeconds(1))
@@ -404,19 +423,14 @@ public class UfsJournal implements Journal {
       try {
         switch (journalReader.advance()) {
           case CHECKPOINT:
-            mMaster.restoreFromCheckpoint(journalReader.getCheckpoint());
+            applier.drain();
+            JournalUtils.restoreComponentFromCheckpoint(mMaster, journalReader.getCheckpoint());
             break;
           case LOG:
-            JournalEntry entry = journalReader.getEntry();
-            try {
-              mMaster.processJournalEntry(entry);
-              JournalUtils.sinkAppend(mJournalSinks, entry);
-            }  catch (Throwable t) {
-              JournalUtils.handleJournalReplayFailure(LOG, t,
-                    "%s: Failed to process journal entry %s", mMaster.getName(), entry);
-            }
+            applier.submit(journalReader.getEntry());
             break;
           default:
+            applier.drain();
             return journalReader.getNextSequenceNumber();
         }
       } catch (IOException e) {
@@ -429,6 +443,18 @@ public class UfsJournal implements Journal {
     }
   }
 
+  private void applyEntry(JournalEntry entry) {
+    try {
+      mMaster.processJournalEntry(entry);
+      synchronized (mSinkLock) {
+        JournalUtils.sinkAppend(mJournalSinks, entry);
+      }
+    } catch (Throwable t) {
+      JournalUtils.handleJournalReplayFailure(LOG, t,
+          "%s: Failed to process journal entry %s", mMaster.getName(), entry);
+    }
+  }
+
   @Override
   public String toString() {
     return "UfsJournal(" + mLocation + ")";
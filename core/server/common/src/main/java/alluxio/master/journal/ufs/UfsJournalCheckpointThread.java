@@ -17,6 +17,7 @@ import alluxio.conf.ServerConfiguration;
 import alluxio.master.Master;
 import alluxio.master.journal.JournalReader;
 import alluxio.master.journal.JournalUtils;
+import alluxio.master.journal.ParallelJournalApplier;
 import alluxio.master.journal.sink.JournalSink;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.util.CommonUtils;
@@ -81,6 +82,8 @@ public final class UfsJournalCheckpointThread extends Thread {
 
   /** A supplier of journal sinks for this journal. */
   private final Supplier<Set<JournalSink>> mJournalSinks;
+  /** Serializes appends to the journal sinks, which may come from several apply threads. */
+  private final Object mSinkLock = new Object();
 
   /**
    * Creates a new instance of {@link UfsJournalCheckpointThread}.
@@ -156,6 +159,13 @@ public final class UfsJournalCheckpointThread extends Thread {
   }
 
   private void runInternal() {
+    try (ParallelJournalApplier applier =
+        ParallelJournalApplier.create(mMaster.getName(), this::applyEntry)) {
+      replay(applier);
+    }
+  }
+
+  private void replay(ParallelJournalApplier applier) {
     // Keeps reading journal entries. If none is found, sleep for sometime. Periodically write
     // checkpoints if some conditions are met. When a shutdown signal is received, wait until
     // no new journal entries.
@@ -169,18 +179,13 @@ public final class UfsJournalCheckpointThread extends Thread {
         switch (mJournalReader.advance()) {
           case CHECKPOINT:
             LOG.debug("{}: Restoring from checkpoint", mMaster.getName());
-            mMaster.restoreFromCheckpoint(mJournalReader.getCheckpoint());
+            applier.drain();
+            JournalUtils.restoreComponentFromCheckpoint(mMaster, mJournalReader.getCheckpoint());
             LOG.debug("{}: Finished restoring from checkpoint", mMaster.getName());
             break;
           case LOG:
             entry = mJournalReader.getEntry();
-            try {
-              mMaster.processJournalEntry(entry);
-              JournalUtils.sinkAppend(mJournalSinks, entry);
-            } catch (Throwable t) {
-              JournalUtils.handleJournalReplayFailure(LOG, t,
-                  "%s: Failed to read or process journal entry %s.", mMaster.getName(), entry);
-            }
+            applier.submit(entry);
             if (quietPeriodWaited) {
               LOG.info("Quiet period interrupted by new journal entry");
               quietPeriodWaited = false;
@@ -207,6 +212,7 @@ public final class UfsJournalCheckpointThread extends Thread {
       // Sleep for a while if no entry is found.
       if (entry == null) {
         // Only try to checkpoint when it can keep up.
+        applier.drain();
         maybeCheckpoint();
         if (mShutdownInitiated) {
           if (quietPeriodWaited || !mWaitQuietPeriod) {
@@ -230,11 +236,24 @@ public final class UfsJournalCheckpointThread extends Thread {
       }
       if (Thread.interrupted() && !mShutdownInitiated) {
         LOG.info("{}: Checkpoint thread interrupted, shutting down", mMaster.getName());
+        applier.drain();
         return;
       }
     }
   }
 
+  private void applyEntry(JournalEntry entry) {
+    try {
+      mMaster.processJournalEntry(entry);
+      synchronized (mSinkLock) {
+        JournalUtils.sinkAppend(mJournalSinks, entry);
+      }
+    } catch (Throwable t) {
+      JournalUtils.handleJournalReplayFailure(LOG, t,
+          "%s: Failed to read or process journal entry %s.", mMaster.getName(), entry);
+    }
+  }
+
   /**
    * Creates a new checkpoint if necessary.
    */
@@ -31,14 +31,17 @@ import com.google.common.io.Closer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
 
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -49,6 +52,10 @@ import javax.annotation.concurrent.ThreadSafe;
  *
  * A journal garbage collector thread is created when the writer is created, and is stopped when the
  * writer is closed.
+ *
+ * When {@link PropertyKey#MASTER_JOURNAL_FLUSH_PIPELINED_ENABLED} is set, entries are serialized
+ * into an in-memory batch instead of the log, so that they can be written while the previous
+ * batch is being flushed. Each flush writes the current batch to the log and flushes it.
  */
 @ThreadSafe
 final class UfsJournalLogWriter implements JournalWriter {
@@ -73,7 +80,7 @@ final class UfsJournalLogWriter implements JournalWriter {
   /** The garbage collector. */
   private UfsJournalGarbageCollector mGarbageCollector;
   /** Whether the journal log writer is closed. */
-  private boolean mClosed;
+  private volatile boolean mClosed;
 
   /**
    * Set mNeedsRecovery to true when an IOException is thrown when trying to write journal entries.
@@ -88,6 +95,17 @@ final class UfsJournalLogWriter implements JournalWriter {
    */
   private Queue<JournalEntry> mEntriesToFlush;
 
+  /** Whether entries are buffered in {@link #mBatch} so that writes can overlap flushes. */
+  private final boolean mPipelined;
+  /** Guards the batch of entries being buffered, when writes are pipelined. */
+  private final Object mBatchLock = new Object();
+  /** The entries which have been written but not yet passed to the log, when pipelined. */
+  @GuardedBy("mBatchLock")
+  private Batch mBatch;
+  /** The sequence number of the next entry added to {@link #mBatch}. */
+  @GuardedBy("mBatchLock")
+  private long mNextBatchSequenceNumber;
+
   /**
    * Creates a new instance of {@link UfsJournalLogWriter}.
    *
@@ -107,9 +125,33 @@ final class UfsJournalLogWriter implements JournalWriter {
     }
     mGarbageCollector = new UfsJournalGarbageCollector(mJournal);
     mEntriesToFlush = new ArrayDeque<>();
+    mPipelined = ServerConfiguration.getBoolean(PropertyKey.MASTER_JOURNAL_FLUSH_PIPELINED_ENABLED);
+    mBatch = new Batch();
+    mNextBatchSequenceNumber = nextSequenceNumber;
+  }
+
+  @Override
+  public void write(JournalEntry entry) throws IOException, JournalClosedException {
+    if (mPipelined) {
+      if (mClosed) {
+        throw new JournalClosedException("Journal writer is closed");
+      }
+      synchronized (mBatchLock) {
+        mBatch.add(entry.toBuilder().setSequenceNumber(mNextBatchSequenceNumber).build());
+        mNextBatchSequenceNumber++;
+      }
+      return;
+    }
+    writeToLog(entry);
+  }
+
+  @Override
+  public boolean supportsConcurrentFlush() {
+    return mPipelined;
   }
 
-  public synchronized void write(JournalEntry entry) throws IOException, JournalClosedException {
+  private synchronized void writeToLog(JournalEntry entry)
+      throws IOException, JournalClosedException {
     try {
       maybeRecoverFromUfsFailures();
       maybeRotateLog();
@@ -314,7 +356,56 @@ final class UfsJournalLogWriter implements JournalWriter {
     }
   }
 
+  /**
+   * Writes the buffered batch of entries to the log. If the batch cannot be passed to the log, it
+   * is put back in front of the entries buffered since, to be written by the next flush.
+   */
+  private synchronized void writeBatchToLog() throws IOException, JournalClosedException {
+    Batch batch;
+    synchronized (mBatchLock) {
+      if (mBatch.isEmpty()) {
+        return;
+      }
+      batch = mBatch;
+      mBatch = new Batch();
+    }
+    boolean accepted = false;
+    try {
+      maybeRecoverFromUfsFailures();
+      maybeRotateLog();
+      Preconditions.checkState(batch.firstSequenceNumber() == mNextSequenceNumber,
+          "Journal batch starts at sequence number %s, expected %s", batch.firstSequenceNumber(),
+          mNextSequenceNumber);
+      // Once accepted, the entries are retried by maybeRecoverFromUfsFailures on failure.
+      mEntriesToFlush.addAll(batch.entries());
+      mNextSequenceNumber += batch.entries().size();
+      accepted = true;
+      batch.writeTo(mJournalOutputStream);
+    } catch (IOJournalClosedException e) {
+      throw e.toJournalClosedException();
+    } catch (IOException e) {
+      if (!accepted) {
+        throw e;
+      }
+      mNeedsRecovery = true;
+      throw new IOException(ExceptionMessage.JOURNAL_WRITE_FAILURE
+          .getMessageWithUrl(RuntimeConstants.ALLUXIO_DEBUG_DOCS_URL,
+              mJournalOutputStream.currentLog(), e.getMessage()), e);
+    } finally {
+      if (!accepted) {
+        synchronized (mBatchLock) {
+          batch.append(mBatch);
+          mBatch = batch;
+        }
+      }
+    }
+  }
+
+  @Override
   public synchronized void flush() throws IOException, JournalClosedException {
+    if (mPipelined) {
+      writeBatchToLog();
+    }
     maybeRecoverFromUfsFailures();
 
     if (mJournalOutputStream == null || mJournalOutputStream.bytesWritten() == 0) {
@@ -351,6 +442,14 @@ final class UfsJournalLogWriter implements JournalWriter {
 
   @Override
   public synchronized void close() throws IOException {
+    if (mPipelined && !mClosed && mJournalOutputStream != null && !mNeedsRecovery) {
+      // Pass the buffered entries to the log, so that they are persisted when it is closed.
+      try {
+        writeBatchToLog();
+      } catch (IOException | JournalClosedException e) {
+        LOG.warn("Failed to write buffered journal entries before closing: {}", e.toString());
+      }
+    }
     Closer closer = Closer.create();
     if (mJournalOutputStream != null) {
       closer.register(mJournalOutputStream);
@@ -449,11 +548,65 @@ final class UfsJournalLogWriter implements JournalWriter {
     }
   }
 
+  /**
+   * A batch of serialized journal entries, buffered while the previous batch is flushed.
+   */
+  private static final class Batch {
+    private final List<JournalEntry> mEntries = new ArrayList<>();
+    private final ByteArrayOutputStream mBytes = new ByteArrayOutputStream();
+
+    /**
+     * @param entry the entry to add, with its sequence number set
+     */
+    void add(JournalEntry entry) {
+      try {
+        entry.writeDelimitedTo(mBytes);
+      } catch (IOException e) {
+        // ByteArrayOutputStream does not throw.
+        throw new IllegalStateException(e);
+      }
+      mEntries.add(entry);
+    }
+
+    /**
+     * Appends the entries of a later batch to this one.
+     *
+     * @param other the batch to append
+     */
+    void append(Batch other) {
+      mEntries.addAll(other.mEntries);
+      mBytes.write(other.mBytes.toByteArray(), 0, other.mBytes.size());
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+      mBytes.writeTo(out);
+    }
+
+    List<JournalEntry> entries() {
+      return mEntries;
+    }
+
+    long firstSequenceNumber() {
+      return mEntries.get(0).getSequenceNumber();
+    }
+
+    boolean isEmpty() {
+      return mEntries.isEmpty();
+    }
+  }
+
   /**
    * @return the next sequence number to write
    */
-  public synchronized long getNextSequenceNumber() {
-    return mNextSequenceNumber;
+  public long getNextSequenceNumber() {
+    if (mPipelined) {
+      synchronized (mBatchLock) {
+        return mNextBatchSequenceNumber;
+      }
+    }
+    synchronized (this) {
+      return mNextSequenceNumber;
+    }
   }
 
   @VisibleForTesting
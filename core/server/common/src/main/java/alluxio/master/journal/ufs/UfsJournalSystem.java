@@ -15,11 +15,14 @@ import alluxio.Constants;
 import alluxio.master.Master;
 import alluxio.master.journal.AbstractJournalSystem;
 import alluxio.master.journal.sink.JournalSink;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
 import alluxio.retry.ExponentialTimeBoundedRetry;
 import alluxio.retry.RetryPolicy;
 import alluxio.util.CommonUtils;
 import alluxio.util.URIUtils;
 
+import com.codahale.metrics.Timer;
 import com.google.common.io.Closer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -84,7 +87,7 @@ public class UfsJournalSystem extends AbstractJournalSystem {
         return null;
       });
     }
-    try {
+    try (Timer.Context ctx = MetricsSystem.timer(MasterMetrics.JOURNAL_GAIN_PRIMACY_TIMER).time()) {
       CommonUtils.invokeAll(callables, 365 * Constants.DAY_MS);
     } catch (TimeoutException | ExecutionException e) {
       throw new RuntimeException(e);
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import alluxio.conf.ServerConfiguration;
 import alluxio.conf.PropertyKey;
@@ -38,6 +39,7 @@ public class AsyncJournalWriterTest {
 
   private JournalWriter mMockJournalWriter;
   private AsyncJournalWriter mAsyncJournalWriter;
+  private boolean mPipelined = false;
 
   @After
   public void after() throws Exception {
@@ -54,6 +56,7 @@ public class AsyncJournalWriterTest {
     mMockJournalWriter = PowerMockito.mock(JournalWriter.class);
     doNothing().when(mMockJournalWriter).write(any(JournalEntry.class));
     doNothing().when(mMockJournalWriter).flush();
+    when(mMockJournalWriter.supportsConcurrentFlush()).thenReturn(mPipelined);
     mAsyncJournalWriter = new AsyncJournalWriter(mMockJournalWriter, Collections::emptySet);
   }
 
@@ -136,6 +139,12 @@ public class AsyncJournalWriterTest {
     verify(mMockJournalWriter, atLeastOnce()).flush();
   }
 
+  @Test(timeout = 10000)
+  public void writesAndFlushesPipelined() throws Exception {
+    mPipelined = true;
+    writesAndFlushesInternal(true);
+  }
+
   @Test(timeout = 10000)
   public void failedWrite() throws Exception {
     failedWriteInternal(false);
@@ -201,4 +210,10 @@ public class AsyncJournalWriterTest {
   public void failedFlushWithBatching() throws Exception {
     failedFlushInternal(true);
   }
+
+  @Test(timeout = 10000)
+  public void failedFlushPipelined() throws Exception {
+    mPipelined = true;
+    failedFlushInternal(true);
+  }
 }
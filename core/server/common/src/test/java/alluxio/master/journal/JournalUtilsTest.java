@@ -17,6 +17,7 @@ import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.journal.checkpoint.CheckpointName;
 import alluxio.master.journal.checkpoint.CheckpointOutputStream;
 import alluxio.master.journal.checkpoint.CheckpointType;
+import alluxio.master.journal.checkpoint.CompoundCheckpointRestorer;
 import alluxio.proto.journal.File.AddMountPointEntry;
 import alluxio.proto.journal.Journal.JournalEntry;
 
@@ -75,6 +76,45 @@ public final class JournalUtilsTest {
     components.forEach(c -> assertEquals(1, c.getNumEntriesProcessed()));
   }
 
+  @Test
+  public void restoreBufferedComponentsConcurrently() throws Exception {
+    restoreComponentsConcurrently(1024 * 1024);
+  }
+
+  @Test
+  public void restoreStreamedComponentsConcurrently() throws Exception {
+    // With no buffer, every component is restored as it is read
+    restoreComponentsConcurrently(0);
+  }
+
+  private void restoreComponentsConcurrently(long maxBufferBytes) throws Exception {
+    List<TestJournaled> components = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      components.add(new TestJournaled(i));
+    }
+    List<Integer> processedBeforeDependent = new ArrayList<>();
+    components.add(new TestJournaled(3) {
+      @Override
+      public boolean dependsOnPrecedingComponents() {
+        return true;
+      }
+
+      @Override
+      public boolean processJournalEntry(JournalEntry entry) {
+        processedBeforeDependent.add(components.subList(0, 3).stream()
+            .mapToInt(TestJournaled::getNumEntriesProcessed).sum());
+        return super.processJournalEntry(entry);
+      }
+    });
+    components.add(new TestJournaled(4));
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    JournalUtils.writeToCheckpoint(baos, components);
+    new CompoundCheckpointRestorer(components, 3, maxBufferBytes).restore(
+        new CheckpointInputStream(new ByteArrayInputStream(baos.toByteArray())));
+    components.forEach(c -> assertEquals(1, c.getNumEntriesProcessed()));
+    assertEquals(Arrays.asList(3), processedBeforeDependent);
+  }
+
   private static class TestJournaled implements Journaled {
     private final CheckpointName mName;
     private int mNumEntriesProcessed;
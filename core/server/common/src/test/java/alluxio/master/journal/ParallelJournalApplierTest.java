@@ -0,0 +1,153 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import alluxio.proto.journal.Block.BlockInfoEntry;
+import alluxio.proto.journal.File.DeleteFileEntry;
+import alluxio.proto.journal.File.InodeDirectoryEntry;
+import alluxio.proto.journal.File.InodeFileEntry;
+import alluxio.proto.journal.File.RenameEntry;
+import alluxio.proto.journal.File.UpdateInodeEntry;
+import alluxio.proto.journal.Journal.JournalEntry;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for {@link ParallelJournalApplier}.
+ */
+public final class ParallelJournalApplierTest {
+  private static final int IDS = 16;
+
+  @Rule
+  public ExpectedException mThrown = ExpectedException.none();
+
+  @Test
+  public void partitionKeys() {
+    assertArrayEquals(new long[] {5L, 1L}, ParallelJournalApplier.getPartitionKeys(
+        JournalEntry.newBuilder()
+            .setInodeFile(InodeFileEntry.newBuilder().setId(5L).setParentId(1L)).build()));
+    assertArrayEquals(new long[] {5L}, ParallelJournalApplier.getPartitionKeys(update(5L, 0)));
+    assertArrayEquals(new long[] {7L}, ParallelJournalApplier.getPartitionKeys(
+        JournalEntry.newBuilder().setBlockInfo(BlockInfoEntry.newBuilder().setBlockId(7L))
+            .build()));
+    assertArrayEquals(new long[] {5L, 1L}, ParallelJournalApplier.getPartitionKeys(
+        JournalEntry.newBuilder()
+            .setDeleteFile(DeleteFileEntry.newBuilder().setId(5L).setParentId(1L)).build()));
+  }
+
+  @Test
+  public void partitionKeysOfBarriers() {
+    // Renames move inodes between directories
+    assertEquals(0, ParallelJournalApplier.getPartitionKeys(rename(5L)).length);
+    // Deletes journaled without the parent id
+    assertEquals(0, ParallelJournalApplier.getPartitionKeys(JournalEntry.newBuilder()
+        .setDeleteFile(DeleteFileEntry.newBuilder().setId(5L)).build()).length);
+    // Creating the root resets the inode tree
+    assertEquals(0, ParallelJournalApplier.getPartitionKeys(JournalEntry.newBuilder()
+        .setInodeDirectory(InodeDirectoryEntry.newBuilder().setId(0L).setParentId(-1L))
+        .build()).length);
+  }
+
+  @Test
+  public void serialAppliesOnSubmittingThread() {
+    List<Thread> threads = new ArrayList<>();
+    try (ParallelJournalApplier applier = new ParallelJournalApplier("test",
+        entry -> threads.add(Thread.currentThread()), 1, 1)) {
+      applier.submit(update(1L, 0));
+      assertEquals(Collections.singletonList(Thread.currentThread()), threads);
+      assertEquals(0, applier.getPendingEntries());
+    }
+  }
+
+  @Test
+  public void preservesOrderPerInode() {
+    Map<Long, List<Long>> applied = new ConcurrentHashMap<>();
+    try (ParallelJournalApplier applier = new ParallelJournalApplier("test",
+        entry -> applied.computeIfAbsent(entry.getUpdateInode().getId(),
+            id -> Collections.synchronizedList(new ArrayList<>()))
+            .add(entry.getUpdateInode().getLastModificationTimeMs()), 4, 8)) {
+      for (int i = 0; i < 100; i++) {
+        for (long id = 0; id < IDS; id++) {
+          applier.submit(update(id, i));
+        }
+      }
+      applier.drain();
+      assertEquals(0, applier.getPendingEntries());
+      assertEquals(0, applier.getApplyLagMs());
+    }
+    assertEquals(IDS, applied.size());
+    for (List<Long> times : applied.values()) {
+      assertEquals(100, times.size());
+      for (int i = 0; i < times.size(); i++) {
+        assertEquals(i, (long) times.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void barrierWaitsForEarlierEntries() {
+    AtomicLong updates = new AtomicLong();
+    List<Long> updatesSeenByRenames = Collections.synchronizedList(new ArrayList<>());
+    try (ParallelJournalApplier applier = new ParallelJournalApplier("test", entry -> {
+      if (entry.hasRename()) {
+        updatesSeenByRenames.add(updates.get());
+      } else {
+        updates.incrementAndGet();
+      }
+    }, 4, 8)) {
+      for (int i = 0; i < 10; i++) {
+        for (long id = 0; id < IDS; id++) {
+          applier.submit(update(id, i));
+        }
+        applier.submit(rename(i));
+      }
+      applier.drain();
+    }
+    assertEquals(10, updatesSeenByRenames.size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals((i + 1) * IDS, (long) updatesSeenByRenames.get(i));
+    }
+  }
+
+  @Test
+  public void failureIsRethrown() {
+    try (ParallelJournalApplier applier = new ParallelJournalApplier("test", entry -> {
+      throw new IllegalStateException("inode not found");
+    }, 4, 8)) {
+      applier.submit(update(1L, 0));
+      mThrown.expect(RuntimeException.class);
+      applier.drain();
+    }
+  }
+
+  private static JournalEntry update(long id, long opTimeMs) {
+    return JournalEntry.newBuilder().setUpdateInode(
+        UpdateInodeEntry.newBuilder().setId(id).setLastModificationTimeMs(opTimeMs)).build();
+  }
+
+  private static JournalEntry rename(long id) {
+    return JournalEntry.newBuilder().setRename(
+        RenameEntry.newBuilder().setId(id).setNewParentId(0L).setNewName("f" + id)).build();
+  }
+}
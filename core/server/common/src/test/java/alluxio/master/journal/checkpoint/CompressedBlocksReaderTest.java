@@ -0,0 +1,100 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.checkpoint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import alluxio.proto.meta.InodeMeta.Inode;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unit tests for {@link CompressedBlocksWriter} and {@link CompressedBlocksReader}.
+ */
+public final class CompressedBlocksReaderTest {
+  @Rule
+  public ExpectedException mThrown = ExpectedException.none();
+
+  @Test
+  public void readBlocksInOrder() throws Exception {
+    byte[] checkpoint = write(100, 32);
+    CompressedBlocksReader reader = reader(checkpoint);
+    List<Long> ids = new ArrayList<>();
+    List<Integer> blockSizes = new ArrayList<>();
+    Optional<CompressedBlocksReader.Block> block;
+    while ((block = reader.nextBlock()).isPresent()) {
+      blockSizes.add(block.get().getRecords());
+      block.get().forEachRecord(Inode.parser(), inode -> ids.add(inode.getId()));
+    }
+    assertEquals(Arrays.asList(32, 32, 32, 4), blockSizes);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i, (long) ids.get(i));
+    }
+    assertFalse(reader.nextBlock().isPresent());
+  }
+
+  @Test
+  public void readAllInParallel() throws Exception {
+    byte[] checkpoint = write(1000, 16);
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+    reader(checkpoint).readAll(Inode.parser(), inode -> ids.add(inode.getId()), 4);
+    assertEquals(1000, ids.size());
+  }
+
+  @Test
+  public void emptyCheckpoint() throws Exception {
+    List<Inode> inodes = Collections.synchronizedList(new ArrayList<>());
+    reader(write(0, 16)).readAll(Inode.parser(), inodes::add, 2);
+    assertEquals(0, inodes.size());
+  }
+
+  @Test
+  public void truncatedIndex() throws Exception {
+    byte[] checkpoint = write(10, 4);
+    byte[] truncated = Arrays.copyOf(checkpoint, checkpoint.length - Long.BYTES);
+    mThrown.expect(IOException.class);
+    reader(truncated).readAll(Inode.parser(), inode -> { }, 2);
+  }
+
+  private static byte[] write(int inodes, int blockRecords) throws Exception {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (CompressedBlocksWriter<Inode> writer = new CompressedBlocksWriter<>(
+        new DataOutputStream(bytes), Inode::toByteArray, blockRecords, 3)) {
+      for (long i = 0; i < inodes; i++) {
+        writer.write(Inode.newBuilder().setId(i).setName("file" + i).setParentId(0L).build());
+      }
+      writer.finish();
+    }
+    return bytes.toByteArray();
+  }
+
+  private static CompressedBlocksReader reader(byte[] checkpoint) {
+    return new CompressedBlocksReader(
+        new DataInputStream(new ByteArrayInputStream(checkpoint)));
+  }
+}
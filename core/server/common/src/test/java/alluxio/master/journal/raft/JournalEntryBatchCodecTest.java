@@ -0,0 +1,101 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.raft;
+
+import static org.junit.Assert.assertEquals;
+
+import alluxio.proto.journal.File.UpdateInodeEntry;
+import alluxio.proto.journal.Journal.JournalEntry;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for {@link JournalEntryBatchCodec}.
+ */
+public final class JournalEntryBatchCodecTest {
+  @Rule
+  public ExpectedException mThrown = ExpectedException.none();
+
+  @Test
+  public void roundTrip() throws Exception {
+    List<JournalEntry> entries = entries(100);
+    List<JournalEntryBatchCommand> batches = JournalEntryBatchCodec.encode(entries, Long.MAX_VALUE);
+    assertEquals(1, batches.size());
+    assertEquals(entries, decode(batches));
+  }
+
+  @Test
+  public void splitsBySize() throws Exception {
+    List<JournalEntry> entries = entries(100);
+    long entrySize = entries.get(0).getSerializedSize() + 1;
+    List<JournalEntryBatchCommand> batches =
+        JournalEntryBatchCodec.encode(entries, 30 * entrySize);
+    assertEquals(4, batches.size());
+    assertEquals(30, batches.get(0).getEntryCount());
+    assertEquals(10, batches.get(3).getEntryCount());
+    assertEquals(entries, decode(batches));
+  }
+
+  @Test
+  public void oversizedEntryGetsItsOwnBatch() throws Exception {
+    List<JournalEntry> entries = entries(3);
+    List<JournalEntryBatchCommand> batches = JournalEntryBatchCodec.encode(entries, 1);
+    assertEquals(3, batches.size());
+    assertEquals(entries, decode(batches));
+  }
+
+  @Test
+  public void emptyEntries() throws Exception {
+    assertEquals(0, JournalEntryBatchCodec.encode(Collections.emptyList(), 1024).size());
+    List<JournalEntry> entries = Arrays.asList(JournalEntry.getDefaultInstance(),
+        JournalEntry.newBuilder().setSequenceNumber(-5L).build());
+    assertEquals(entries, decode(JournalEntryBatchCodec.encode(entries, 1024)));
+  }
+
+  @Test
+  public void corruptBatch() throws Exception {
+    JournalEntryBatchCommand batch = JournalEntryBatchCodec.encode(entries(10), 1024).get(0);
+    byte[] compressed = Arrays.copyOf(batch.getCompressedEntries(),
+        batch.getCompressedEntries().length / 2);
+    mThrown.expect(IOException.class);
+    decode(Collections.singletonList(new JournalEntryBatchCommand(batch.getEntryCount(),
+        batch.getUncompressedLength(), compressed)));
+  }
+
+  private static List<JournalEntry> entries(int count) {
+    List<JournalEntry> entries = new ArrayList<>();
+    for (long i = 0; i < count; i++) {
+      entries.add(JournalEntry.newBuilder().setSequenceNumber(1000 + i)
+          .setUpdateInode(UpdateInodeEntry.newBuilder().setId(1000 + i)
+              .setLastModificationTimeMs(1000 + i))
+          .build());
+    }
+    return entries;
+  }
+
+  private static List<JournalEntry> decode(List<JournalEntryBatchCommand> batches)
+      throws IOException {
+    List<JournalEntry> entries = new ArrayList<>();
+    for (JournalEntryBatchCommand batch : batches) {
+      JournalEntryBatchCodec.decode(batch, entries::add);
+    }
+    return entries;
+  }
+}
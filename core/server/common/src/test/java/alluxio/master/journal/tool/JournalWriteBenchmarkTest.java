@@ -0,0 +1,52 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.tool;
+
+import static org.junit.Assert.assertEquals;
+
+import alluxio.master.journal.tool.JournalWriteBenchmark.Operation;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Map;
+
+/**
+ * Unit tests for {@link JournalWriteBenchmark}.
+ */
+public final class JournalWriteBenchmarkTest {
+  @Rule
+  public ExpectedException mThrown = ExpectedException.none();
+
+  @Test
+  public void parseMix() {
+    Map<Operation, Integer> weights =
+        JournalWriteBenchmark.parseMix("create=4, rename=1,delete=0,updateInode=5");
+    assertEquals(4, (int) weights.get(Operation.CREATE));
+    assertEquals(1, (int) weights.get(Operation.RENAME));
+    assertEquals(0, (int) weights.get(Operation.DELETE));
+    assertEquals(5, (int) weights.get(Operation.UPDATE_INODE));
+  }
+
+  @Test
+  public void parseMixUnknownOperation() {
+    mThrown.expect(IllegalArgumentException.class);
+    JournalWriteBenchmark.parseMix("create=1,mkdir=1");
+  }
+
+  @Test
+  public void emptyMix() {
+    mThrown.expect(IllegalArgumentException.class);
+    new JournalWriteBenchmark("/tmp/unused", 1, 1, 1, "create=0");
+  }
+}
@@ -19,8 +19,10 @@ import alluxio.master.metastore.BlockStore;
 import alluxio.master.metastore.InodeStore;
 import alluxio.master.metastore.MetastoreType;
 import alluxio.master.metastore.caching.CachingInodeStore;
+import alluxio.master.metastore.heap.CompactHeapBlockStore;
 import alluxio.master.metastore.heap.HeapBlockStore;
 import alluxio.master.metastore.heap.HeapInodeStore;
+import alluxio.master.metastore.offheap.OffHeapInodeStore;
 import alluxio.master.metastore.rocks.RocksBlockStore;
 import alluxio.master.metastore.rocks.RocksInodeStore;
 import alluxio.util.CommonUtils;
@@ -32,7 +34,7 @@ import java.util.concurrent.Callable;
 /**
  * This class encapsulates the different master services that are configured to run.
  */
-final class MasterUtils {
+public final class MasterUtils {
   private MasterUtils() {}  // prevent instantiation
 
   /**
@@ -67,6 +69,10 @@ final class MasterUtils {
         ServerConfiguration.getEnum(PropertyKey.MASTER_METASTORE, MetastoreType.class);
     switch (type) {
       case HEAP:
+      case OFF_HEAP:
+        if (ServerConfiguration.getBoolean(PropertyKey.MASTER_METASTORE_BLOCK_COMPACT_ENABLED)) {
+          return CompactHeapBlockStore::new;
+        }
         return HeapBlockStore::new;
       case ROCKS:
         return () -> new RocksBlockStore(baseDir);
@@ -85,6 +91,8 @@ final class MasterUtils {
     switch (type) {
       case HEAP:
         return lockManager -> new HeapInodeStore();
+      case OFF_HEAP:
+        return lockManager -> new OffHeapInodeStore();
       case ROCKS:
         InstancedConfiguration conf = ServerConfiguration.global();
         if (conf.getInt(PropertyKey.MASTER_METASTORE_INODE_CACHE_MAX_SIZE) == 0) {
@@ -150,6 +150,15 @@ public interface BlockMaster extends Master, ContainerIdGenerable {
    */
   List<BlockInfo> getBlockInfoList(List<Long> blockIds) throws UnavailableException;
 
+  /**
+   * Retrieves information for the given block ids.
+   *
+   * @param blockIds the block ids to retrieve the information for
+   * @return A list of {@link BlockInfo} objects corresponding to the given block ids, in the same
+   *         order. Blocks unknown to the block master are skipped
+   */
+  List<BlockInfo> getBlockInfoList(long[] blockIds) throws UnavailableException;
+
   /**
    * @return the total bytes on each storage tier
    */
@@ -187,6 +196,54 @@ public interface BlockMaster extends Master, ContainerIdGenerable {
       Map<String, StorageList> lostStorage, RegisterWorkerPOptions options)
       throws NotFoundException;
 
+  /**
+   * Starts a registration whose blocks are streamed to the master in chunks. At most
+   * {@link alluxio.conf.PropertyKey#MASTER_WORKER_REGISTER_STREAM_CONCURRENCY} such registrations
+   * may be in progress at once. The returned context must be closed once the registration has
+   * finished or failed.
+   *
+   * @param workerId the worker id of the worker registering
+   * @param storageTiers a list of storage tier aliases in order of their position in the worker's
+   *        hierarchy
+   * @param totalBytesOnTiers a mapping from storage tier alias to total bytes
+   * @param usedBytesOnTiers a mapping from storage tier alias to the used byes
+   * @param lostStorage a mapping from storage tier alias to a list of lost storage paths
+   * @param options the options that may contain worker configuration
+   * @return the context of the registration
+   * @throws NotFoundException if workerId cannot be found
+   * @throws UnavailableException if too many workers are already registering
+   */
+  WorkerRegisterContext workerRegisterStart(long workerId, List<String> storageTiers,
+      Map<String, Long> totalBytesOnTiers, Map<String, Long> usedBytesOnTiers,
+      Map<String, StorageList> lostStorage, RegisterWorkerPOptions options)
+      throws NotFoundException, UnavailableException;
+
+  /**
+   * Applies a chunk of the blocks reported by a registering worker.
+   *
+   * @param context the context of the registration
+   * @param currentBlocksOnLocation a mapping from storage location to a list of blocks
+   */
+  void workerRegisterAddBlocks(WorkerRegisterContext context,
+      Map<Block.BlockLocation, List<Long>> currentBlocksOnLocation);
+
+  /**
+   * Completes a registration once the worker has reported all of its blocks. Blocks previously
+   * known on the worker which were not reported are removed from it.
+   *
+   * @param context the context of the registration
+   */
+  void workerRegisterFinish(WorkerRegisterContext context);
+
+  /**
+   * Rolls back a registration which will not be finished, e.g. because its stream failed. Blocks
+   * reported by the registration which were not previously known on the worker are removed from
+   * it again, so that no locations point at a worker whose registration never completed.
+   *
+   * @param context the context of the registration
+   */
+  void workerRegisterAbort(WorkerRegisterContext context);
+
   /**
    * Updates metadata when a worker periodically heartbeats with the master.
    *
@@ -237,4 +294,21 @@ public interface BlockMaster extends Master, ContainerIdGenerable {
    * @param function the function to register
    */
   void registerNewWorkerConfListener(BiConsumer<Address, List<ConfigProperty>> function);
+
+  /**
+   * Registers a callback function to use when a replica of a block is added to or removed from a
+   * worker. The function is called with the block id while the block is locked, so it must be
+   * fast and must not call back into the block master.
+   *
+   * @param function the function to register
+   */
+  void registerBlockReplicaChangeListener(Consumer<Long> function);
+
+  /**
+   * Removes a callback function registered with
+   * {@link #registerBlockReplicaChangeListener(Consumer)}.
+   *
+   * @param function the function to remove
+   */
+  void removeBlockReplicaChangeListener(Consumer<Long> function);
 }
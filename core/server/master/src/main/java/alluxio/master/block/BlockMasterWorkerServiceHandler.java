@@ -12,6 +12,8 @@
 package alluxio.master.block;
 
 import alluxio.RpcUtils;
+import alluxio.exception.status.AlluxioStatusException;
+import alluxio.exception.status.InvalidArgumentException;
 import alluxio.grpc.BlockHeartbeatPRequest;
 import alluxio.grpc.BlockHeartbeatPResponse;
 import alluxio.grpc.BlockMasterWorkerServiceGrpc;
@@ -21,6 +23,7 @@ import alluxio.grpc.CommitBlockPRequest;
 import alluxio.grpc.CommitBlockPResponse;
 import alluxio.grpc.GetWorkerIdPRequest;
 import alluxio.grpc.GetWorkerIdPResponse;
+import alluxio.grpc.LocationBlockIdListEntry;
 import alluxio.grpc.RegisterWorkerPOptions;
 import alluxio.grpc.RegisterWorkerPRequest;
 import alluxio.grpc.RegisterWorkerPResponse;
@@ -34,10 +37,13 @@ import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import javax.annotation.concurrent.NotThreadSafe;
+
 /**
  * This class is a gRPC handler for block master RPCs invoked by an Alluxio worker.
  */
@@ -69,15 +75,7 @@ public final class BlockMasterWorkerServiceHandler
     final Map<String, StorageList> lostStorageMap = request.getLostStorageMap();
 
     final Map<Block.BlockLocation, List<Long>> addedBlocksMap =
-        request.getAddedBlocksList().stream()
-            .collect(Collectors.toMap(e -> Block.BlockLocation.newBuilder()
-                    .setTier(e.getKey().getTierAlias())
-                    .setMediumType(e.getKey().getMediumType()).build(),
-                e -> e.getValue().getBlockIdList(),
-                (e1, e2) -> {
-                  e1.addAll(e2);
-                  return e1;
-                }));
+        toBlockLocationMap(request.getAddedBlocksList());
 
     final List<Metric> metrics = request.getOptions().getMetricsList()
         .stream().map(Metric::fromProto).collect(Collectors.toList());
@@ -138,15 +136,7 @@ public final class BlockMasterWorkerServiceHandler
     final Map<String, StorageList> lostStorageMap = request.getLostStorageMap();
 
     final Map<Block.BlockLocation, List<Long>> currBlocksOnLocationMap =
-        request.getCurrentBlocksList().stream()
-            .collect(Collectors.toMap(e -> Block.BlockLocation.newBuilder()
-                    .setTier(e.getKey().getTierAlias())
-                    .setMediumType(e.getKey().getMediumType()).build(),
-                e -> e.getValue().getBlockIdList(),
-                (e1, e2) -> {
-                e1.addAll(e2);
-                return e1;
-                }));
+        toBlockLocationMap(request.getCurrentBlocksList());
 
     RegisterWorkerPOptions options = request.getOptions();
     RpcUtils.call(LOG,
@@ -156,4 +146,129 @@ public final class BlockMasterWorkerServiceHandler
           return RegisterWorkerPResponse.getDefaultInstance();
         }, "registerWorker", "request=%s", responseObserver, request);
   }
+
+  @Override
+  public StreamObserver<RegisterWorkerPRequest> registerWorkerStream(
+      StreamObserver<RegisterWorkerPResponse> responseObserver) {
+    return new RegisterStreamObserver(responseObserver);
+  }
+
+  /**
+   * Converts the block lists of a worker request, merging the lists of entries which share a
+   * location.
+   *
+   * @param entries the block list entries
+   * @return a mapping from block location to a list of block ids
+   */
+  private static Map<Block.BlockLocation, List<Long>> toBlockLocationMap(
+      List<LocationBlockIdListEntry> entries) {
+    return entries.stream()
+        .collect(Collectors.toMap(e -> Block.BlockLocation.newBuilder()
+                .setTier(e.getKey().getTierAlias())
+                .setMediumType(e.getKey().getMediumType()).build(),
+            e -> e.getValue().getBlockIdList(),
+            (e1, e2) -> {
+              List<Long> merged = new ArrayList<>(e1);
+              merged.addAll(e2);
+              return merged;
+            }));
+  }
+
+  /**
+   * Receives a streamed worker registration. The first request starts the registration, and the
+   * block lists of every request are applied as soon as they arrive, so the master never holds
+   * the whole block report of the worker in one message. gRPC delivers the events of one call
+   * serially, so no synchronization is needed.
+   */
+  @NotThreadSafe
+  private final class RegisterStreamObserver implements StreamObserver<RegisterWorkerPRequest> {
+    private final StreamObserver<RegisterWorkerPResponse> mResponseObserver;
+    private WorkerRegisterContext mContext;
+    /** Whether the response has been sent, after which further requests are ignored. */
+    private boolean mDone = false;
+
+    RegisterStreamObserver(StreamObserver<RegisterWorkerPResponse> responseObserver) {
+      mResponseObserver = responseObserver;
+    }
+
+    @Override
+    public void onNext(RegisterWorkerPRequest request) {
+      if (mDone) {
+        return;
+      }
+      try {
+        if (mContext == null) {
+          mContext = mBlockMaster.workerRegisterStart(request.getWorkerId(),
+              request.getStorageTiersList(), request.getTotalBytesOnTiersMap(),
+              request.getUsedBytesOnTiersMap(), request.getLostStorageMap(),
+              request.getOptions());
+        } else if (request.getWorkerId() != mContext.getWorkerId()) {
+          throw new InvalidArgumentException(String.format(
+              "Registration stream of worker %d received a request for worker %d",
+              mContext.getWorkerId(), request.getWorkerId()));
+        }
+        mBlockMaster.workerRegisterAddBlocks(mContext,
+            toBlockLocationMap(request.getCurrentBlocksList()));
+      } catch (Exception e) {
+        fail(e);
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      LOG.warn("Registration stream of worker {} failed: {}",
+          mContext == null ? "unknown" : mContext.getWorkerId(), t.toString());
+      mDone = true;
+      abortContext();
+    }
+
+    @Override
+    public void onCompleted() {
+      if (mDone) {
+        return;
+      }
+      try {
+        if (mContext == null) {
+          throw new InvalidArgumentException("Registration stream contained no requests");
+        }
+        mBlockMaster.workerRegisterFinish(mContext);
+        mDone = true;
+        closeContext();
+        mResponseObserver.onNext(RegisterWorkerPResponse.getDefaultInstance());
+        mResponseObserver.onCompleted();
+      } catch (Exception e) {
+        fail(e);
+      }
+    }
+
+    private void fail(Exception e) {
+      LOG.warn("Failed to register worker {}: {}",
+          mContext == null ? "unknown" : mContext.getWorkerId(), e.toString());
+      mDone = true;
+      abortContext();
+      mResponseObserver.onError(AlluxioStatusException.fromThrowable(e).toGrpcStatusException());
+    }
+
+    /**
+     * Rolls back the blocks added by an unfinished registration, and releases its permit.
+     */
+    private void abortContext() {
+      if (mContext == null) {
+        return;
+      }
+      try {
+        mBlockMaster.workerRegisterAbort(mContext);
+      } catch (RuntimeException e) {
+        LOG.error("Failed to roll back the registration of worker {}", mContext.getWorkerId(), e);
+      } finally {
+        closeContext();
+      }
+    }
+
+    private void closeContext() {
+      if (mContext != null) {
+        mContext.close();
+      }
+    }
+  }
 }
@@ -48,6 +48,7 @@ import alluxio.master.journal.checkpoint.CheckpointName;
 import alluxio.master.metastore.BlockStore;
 import alluxio.master.metastore.BlockStore.Block;
 import alluxio.master.metrics.MetricsMaster;
+import alluxio.metrics.MasterMetrics;
 import alluxio.metrics.Metric;
 import alluxio.metrics.MetricsSystem;
 import alluxio.proto.journal.Block.BlockContainerIdGeneratorEntry;
@@ -68,10 +69,11 @@ import alluxio.wire.WorkerInfo;
 import alluxio.wire.WorkerNetAddress;
 
 import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
-import com.google.common.util.concurrent.Striped;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jersey.repackaged.com.google.common.base.Preconditions;
 import org.slf4j.Logger;
@@ -93,8 +95,11 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -110,6 +115,8 @@ import javax.annotation.concurrent.NotThreadSafe;
 @NotThreadSafe // TODO(jiri): make thread-safe (c.f. ALLUXIO-1664)
 public final class DefaultBlockMaster extends CoreMaster implements BlockMaster {
   private static final Logger LOG = LoggerFactory.getLogger(DefaultBlockMaster.class);
+  private static final Timer HEARTBEAT_TIMER =
+      MetricsSystem.timer(MasterMetrics.WORKER_HEARTBEAT_TIMER);
   private static final Set<Class<? extends Server>> DEPS =
       ImmutableSet.<Class<? extends Server>>of(MetricsMaster.class);
 
@@ -119,6 +126,11 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
    * the journal.
    */
   private static final long CONTAINER_ID_RESERVATION_SIZE = 1000;
+  /**
+   * The number of queued heartbeat block changes applied under one acquisition of the worker
+   * lock.
+   */
+  private static final int HEARTBEAT_APPLY_CHUNK_SIZE = 1024;
 
   // Worker metadata management.
   private static final IndexDefinition<MasterWorkerInfo, Long> ID_INDEX =
@@ -166,12 +178,14 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
    */
 
   /**
-   * 10k locks balances between keeping a small memory footprint and avoiding unnecessary lock
-   * contention. Each stripe is around 100 bytes, so this takes about 1MB. Block locking critical
+   * 16k locks balances between keeping a small memory footprint and avoiding unnecessary lock
+   * contention. Each stripe is around 60 bytes, so this takes about 1MB. Block locking critical
    * sections are short, so it is acceptable to occasionally have conflicts where two different
-   * blocks want to lock the same stripe.
+   * blocks want to lock the same stripe. The stripe of a block is exposed by
+   * {@link #getBlockLockStripe(long)}, so that batches of blocks can be grouped by stripe.
    */
-  private final Striped<Lock> mBlockLocks = Striped.lock(10_000);
+  private static final int BLOCK_LOCK_STRIPE_BITS = 14;
+  private final Lock[] mBlockLocks = new Lock[1 << BLOCK_LOCK_STRIPE_BITS];
   /** Manages block metadata and block locations. */
   private final BlockStore mBlockStore;
 
@@ -211,9 +225,22 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
   private final List<BiConsumer<Address, List<ConfigProperty>>> mWorkerRegisteredListeners
       = new ArrayList<>();
 
+  /** Listeners to call when a replica of a block is added or removed. */
+  private final List<Consumer<Long>> mBlockReplicaChangeListeners = new CopyOnWriteArrayList<>();
+
   /** Handle to the metrics master. */
   private final MetricsMaster mMetricsMaster;
 
+  /** Permits for the streamed worker registrations which may be in progress at once. */
+  private final Semaphore mRegisterPermits;
+
+  /**
+   * Applies the block changes reported by worker heartbeats while this master is the primary, or
+   * null if they are applied before the heartbeats are answered.
+   */
+  @Nullable
+  private volatile WorkerHeartbeatApplier mHeartbeatApplier;
+
   /**
    * The service that detects lost worker nodes, and tries to restart the failed workers.
    * We store it here so that it can be accessed from tests.
@@ -252,7 +279,22 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
     mBlockStore = masterContext.getBlockStoreFactory().get();
     mGlobalStorageTierAssoc = new MasterStorageTierAssoc();
     mMetricsMaster = metricsMaster;
+    mRegisterPermits = new Semaphore(
+        ServerConfiguration.getInt(PropertyKey.MASTER_WORKER_REGISTER_STREAM_CONCURRENCY));
+    for (int i = 0; i < mBlockLocks.length; i++) {
+      mBlockLocks[i] = new ReentrantLock();
+    }
     Metrics.registerGauges(this);
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMetricName(MasterMetrics.WORKER_HEARTBEAT_APPLY_PENDING_BLOCKS), () -> {
+          WorkerHeartbeatApplier applier = mHeartbeatApplier;
+          return applier == null ? 0 : applier.getPendingBlocks();
+        });
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMetricName(MasterMetrics.WORKER_HEARTBEAT_APPLY_LAG_MS), () -> {
+          WorkerHeartbeatApplier applier = mHeartbeatApplier;
+          return applier == null ? 0 : applier.getApplyLagMs();
+        });
   }
 
   @Override
@@ -349,9 +391,26 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
           HeartbeatContext.MASTER_LOST_WORKER_DETECTION, new LostWorkerDetectionHeartbeatExecutor(),
           (int) ServerConfiguration.getMs(PropertyKey.MASTER_WORKER_HEARTBEAT_INTERVAL),
           ServerConfiguration.global(), mMasterContext.getUserState()));
+      int applyThreads =
+          ServerConfiguration.getInt(PropertyKey.MASTER_WORKER_HEARTBEAT_APPLY_THREADS);
+      if (applyThreads > 0) {
+        mHeartbeatApplier = new WorkerHeartbeatApplier(applyThreads,
+            ServerConfiguration.getInt(PropertyKey.MASTER_WORKER_HEARTBEAT_APPLY_QUEUE_SIZE),
+            this::applyHeartbeatChanges);
+      }
     }
   }
 
+  @Override
+  public void stop() throws IOException {
+    WorkerHeartbeatApplier applier = mHeartbeatApplier;
+    if (applier != null) {
+      mHeartbeatApplier = null;
+      applier.close();
+    }
+    super.stop();
+  }
+
   @Override
   public int getWorkerCount() {
     return mWorkers.size();
@@ -617,6 +676,9 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
     if (worker == null) {
       throw new NotFoundException(ExceptionMessage.NO_WORKER_FOUND.getMessage(workerId));
     }
+    // A queued heartbeat may still remove an earlier replica of the block from the worker, which
+    // must not be applied after the commit adds the block again.
+    drainHeartbeatChanges(workerId);
 
     // Lock the worker metadata first.
     try (JournalContext journalContext = createJournalContext()) {
@@ -642,6 +704,7 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
               .build());
           // This worker has this block, so it is no longer lost.
           mLostBlocks.remove(blockId);
+          notifyBlockReplicaChanged(blockId);
 
           // Update the worker information for this new block.
           // TODO(binfan): when retry commitBlock on master is expected, make sure metrics are not
@@ -685,6 +748,15 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
     return ret;
   }
 
+  @Override
+  public List<BlockInfo> getBlockInfoList(long[] blockIds) throws UnavailableException {
+    List<BlockInfo> ret = new ArrayList<>(blockIds.length);
+    for (long blockId : blockIds) {
+      generateBlockInfo(blockId).ifPresent(info -> ret.add(info));
+    }
+    return ret;
+  }
+
   @Override
   public Map<String, Long> getTotalBytesOnTiers() {
     Map<String, Long> ret = new HashMap<>();
@@ -821,6 +893,9 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
       throw new NotFoundException(ExceptionMessage.NO_WORKER_FOUND.getMessage(workerId));
     }
 
+    // Changes from earlier heartbeats must not be applied on top of the registration.
+    drainHeartbeatChanges(workerId);
+
     // Gather all blocks on this worker.
     HashSet<Long> blocks = new HashSet<>();
     for (List<Long> blockIds : currentBlocksOnLocation.values()) {
@@ -837,6 +912,99 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
       processWorkerOrphanedBlocks(worker);
       worker.addLostStorage(lostStorage);
     }
+    notifyWorkerRegistered(worker, options);
+
+    registerWorkerInternal(workerId);
+
+    LOG.info("registerWorker(): {}", worker);
+  }
+
+  @Override
+  public WorkerRegisterContext workerRegisterStart(long workerId, List<String> storageTiers,
+      Map<String, Long> totalBytesOnTiers, Map<String, Long> usedBytesOnTiers,
+      Map<String, StorageList> lostStorage, RegisterWorkerPOptions options)
+      throws NotFoundException, UnavailableException {
+    MasterWorkerInfo worker = mWorkers.getFirstByField(ID_INDEX, workerId);
+
+    if (worker == null) {
+      worker = findUnregisteredWorker(workerId);
+    }
+
+    if (worker == null) {
+      throw new NotFoundException(ExceptionMessage.NO_WORKER_FOUND.getMessage(workerId));
+    }
+
+    drainHeartbeatChanges(workerId);
+    if (!mRegisterPermits.tryAcquire()) {
+      throw new UnavailableException(String.format(
+          "Too many workers are registering, worker %d should retry later", workerId));
+    }
+    try {
+      Set<Long> previousBlocks;
+      synchronized (worker) {
+        worker.updateLastUpdatedTimeMs();
+        previousBlocks = worker.startRegister(mGlobalStorageTierAssoc, storageTiers,
+            totalBytesOnTiers, usedBytesOnTiers);
+      }
+      return new WorkerRegisterContext(worker, previousBlocks, lostStorage, options,
+          mRegisterPermits);
+    } catch (RuntimeException e) {
+      mRegisterPermits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public void workerRegisterAddBlocks(WorkerRegisterContext context,
+      Map<BlockLocation, List<Long>> currentBlocksOnLocation) {
+    MasterWorkerInfo worker = context.getWorker();
+    synchronized (worker) {
+      worker.updateLastUpdatedTimeMs();
+      // Blocks unknown to the master are tracked too, so that they are freed as orphans.
+      for (List<Long> blockIds : currentBlocksOnLocation.values()) {
+        for (long blockId : blockIds) {
+          worker.addBlock(blockId);
+        }
+      }
+      processWorkerAddedBlocks(worker, currentBlocksOnLocation);
+    }
+    for (List<Long> blockIds : currentBlocksOnLocation.values()) {
+      context.markReported(blockIds);
+    }
+  }
+
+  @Override
+  public void workerRegisterFinish(WorkerRegisterContext context) {
+    MasterWorkerInfo worker = context.getWorker();
+    synchronized (worker) {
+      worker.updateLastUpdatedTimeMs();
+      processWorkerRemovedBlocks(worker, context.getUnreportedBlocks());
+      processWorkerOrphanedBlocks(worker);
+      worker.addLostStorage(context.getLostStorage());
+      worker.finishRegister();
+    }
+    notifyWorkerRegistered(worker, context.getOptions());
+
+    registerWorkerInternal(worker.getId());
+
+    LOG.info("registerWorker(): {}", worker);
+  }
+
+  @Override
+  public void workerRegisterAbort(WorkerRegisterContext context) {
+    MasterWorkerInfo worker = context.getWorker();
+    LOG.info("Rolling back {} blocks reported by the unfinished registration of worker {}",
+        context.getNewBlocks().size(), worker.getId());
+    // Removed in chunks, so that heartbeats and commits of the worker can interleave.
+    for (List<Long> chunk : Iterables.partition(context.getNewBlocks(),
+        HEARTBEAT_APPLY_CHUNK_SIZE)) {
+      synchronized (worker) {
+        processWorkerRemovedBlocks(worker, chunk);
+      }
+    }
+  }
+
+  private void notifyWorkerRegistered(MasterWorkerInfo worker, RegisterWorkerPOptions options) {
     if (options.getConfigsCount() > 0) {
       for (BiConsumer<Address, List<ConfigProperty>> function : mWorkerRegisteredListeners) {
         WorkerNetAddress workerAddress = worker.getWorkerAddress();
@@ -844,10 +1012,6 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
             options.getConfigsList());
       }
     }
-
-    registerWorkerInternal(workerId);
-
-    LOG.info("registerWorker(): {}", worker);
   }
 
   @Override
@@ -856,18 +1020,37 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
       Map<BlockLocation, List<Long>> addedBlocks,
       Map<String, StorageList> lostStorage,
       List<Metric> metrics) {
+    try (Timer.Context ctx = HEARTBEAT_TIMER.time()) {
+      return workerHeartbeatInternal(workerId, capacityBytesOnTiers, usedBytesOnTiers,
+          removedBlockIds, addedBlocks, lostStorage, metrics);
+    }
+  }
+
+  private Command workerHeartbeatInternal(long workerId, Map<String, Long> capacityBytesOnTiers,
+      Map<String, Long> usedBytesOnTiers, List<Long> removedBlockIds,
+      Map<BlockLocation, List<Long>> addedBlocks,
+      Map<String, StorageList> lostStorage,
+      List<Metric> metrics) {
     MasterWorkerInfo worker = mWorkers.getFirstByField(ID_INDEX, workerId);
     if (worker == null) {
       LOG.warn("Could not find worker id: {} for heartbeat.", workerId);
       return Command.newBuilder().setCommandType(CommandType.Register).build();
     }
 
+    WorkerHeartbeatApplier applier = mHeartbeatApplier;
+    if (applier != null) {
+      // Queued before locking the worker, since the apply threads lock the worker to drain the
+      // queue when it is full. The worker lock is then only held to update the worker metadata.
+      applier.submit(workerId, removedBlockIds, addedBlocks);
+    }
     synchronized (worker) {
       // Technically, 'worker' should be confirmed to still be in the data structure. Lost worker
       // detection can remove it. However, we are intentionally ignoring this race, since the worker
       // will just re-register regardless.
-      processWorkerRemovedBlocks(worker, removedBlockIds);
-      processWorkerAddedBlocks(worker, addedBlocks);
+      if (applier == null) {
+        processWorkerRemovedBlocks(worker, removedBlockIds);
+        processWorkerAddedBlocks(worker, addedBlocks);
+      }
       processWorkerMetrics(worker.getWorkerAddress().getHost(), metrics);
 
       worker.addLostStorage(lostStorage);
@@ -905,20 +1088,32 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
       Collection<Long> removedBlockIds) {
     for (long removedBlockId : removedBlockIds) {
       try (LockResource lr = lockBlock(removedBlockId)) {
-        Optional<BlockMeta> block = mBlockStore.getBlock(removedBlockId);
-        if (block.isPresent()) {
-          LOG.info("Block {} is removed on worker {}.", removedBlockId, workerInfo.getId());
-          mBlockStore.removeLocation(removedBlockId, workerInfo.getId());
-          if (mBlockStore.getLocations(removedBlockId).size() == 0) {
-            mLostBlocks.add(removedBlockId);
-          }
-        }
-        // Remove the block even if its metadata has been deleted already.
-        workerInfo.removeBlock(removedBlockId);
+        removeBlockFromWorker(workerInfo, removedBlockId);
       }
     }
   }
 
+  /**
+   * Updates the worker and block metadata for a block removed from a worker.
+   *
+   * @param workerInfo The worker metadata object
+   * @param removedBlockId the id of the removed block, whose lock must be held
+   */
+  @GuardedBy("workerInfo")
+  private void removeBlockFromWorker(MasterWorkerInfo workerInfo, long removedBlockId) {
+    Optional<BlockMeta> block = mBlockStore.getBlock(removedBlockId);
+    if (block.isPresent()) {
+      LOG.info("Block {} is removed on worker {}.", removedBlockId, workerInfo.getId());
+      mBlockStore.removeLocation(removedBlockId, workerInfo.getId());
+      if (mBlockStore.getLocations(removedBlockId).size() == 0) {
+        mLostBlocks.add(removedBlockId);
+      }
+      notifyBlockReplicaChanged(removedBlockId);
+    }
+    // Remove the block even if its metadata has been deleted already.
+    workerInfo.removeBlock(removedBlockId);
+  }
+
   /**
    * Updates the worker and block metadata for blocks added to a worker.
    *  @param workerInfo The worker metadata object
@@ -928,27 +1123,129 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
   private void processWorkerAddedBlocks(MasterWorkerInfo workerInfo,
       Map<BlockLocation, List<Long>> addedBlockIds) {
     for (Map.Entry<BlockLocation, List<Long>> entry : addedBlockIds.entrySet()) {
+      BlockLocation blockLocation = toWorkerLocation(workerInfo, entry.getKey());
       for (long blockId : entry.getValue()) {
         try (LockResource lr = lockBlock(blockId)) {
-          Optional<BlockMeta> block = mBlockStore.getBlock(blockId);
-          if (block.isPresent()) {
-            workerInfo.addBlock(blockId);
-            BlockLocation blockLocation = BlockLocation.newBuilder()
-                .setWorkerId(workerInfo.getId())
-                .setTier(entry.getKey().getTier())
-                .setMediumType(entry.getKey().getMediumType())
-                .build();
-            mBlockStore.addLocation(blockId, blockLocation);
-            mLostBlocks.remove(blockId);
-          } else {
-            LOG.warn("Invalid block: {} from worker {}.", blockId,
-                workerInfo.getWorkerAddress().getHost());
+          addBlockToWorker(workerInfo, blockId, blockLocation);
+        }
+      }
+    }
+  }
+
+  /**
+   * Updates the worker and block metadata for a block added to a worker.
+   *
+   * @param workerInfo The worker metadata object
+   * @param blockId the id of the added block, whose lock must be held
+   * @param blockLocation the location of the block on the worker
+   */
+  @GuardedBy("workerInfo")
+  private void addBlockToWorker(MasterWorkerInfo workerInfo, long blockId,
+      BlockLocation blockLocation) {
+    Optional<BlockMeta> block = mBlockStore.getBlock(blockId);
+    if (block.isPresent()) {
+      workerInfo.addBlock(blockId);
+      mBlockStore.addLocation(blockId, blockLocation);
+      mLostBlocks.remove(blockId);
+      notifyBlockReplicaChanged(blockId);
+    } else {
+      LOG.warn("Invalid block: {} from worker {}.", blockId,
+          workerInfo.getWorkerAddress().getHost());
+    }
+  }
+
+  private static BlockLocation toWorkerLocation(MasterWorkerInfo workerInfo,
+      BlockLocation location) {
+    return BlockLocation.newBuilder()
+        .setWorkerId(workerInfo.getId())
+        .setTier(location.getTier())
+        .setMediumType(location.getMediumType())
+        .build();
+  }
+
+  /**
+   * Applies the block changes of heartbeats queued by the {@link WorkerHeartbeatApplier}.
+   *
+   * The changes of all heartbeats are applied together, grouped by block lock stripe so that each
+   * stripe is locked once, in stripe order. The worker lock is held for at most
+   * {@link #HEARTBEAT_APPLY_CHUNK_SIZE} changes at a time, so that heartbeats and other requests
+   * of the worker do not wait for the whole batch. The changes of each block are still applied in
+   * the order they were reported, removals of a heartbeat before its additions, as they are when
+   * the changes are applied by the heartbeat.
+   *
+   * @param workerId the id of the worker which sent the heartbeats
+   * @param heartbeats the changes reported by the heartbeats, in the order they were reported
+   */
+  private void applyHeartbeatChanges(long workerId,
+      List<WorkerHeartbeatApplier.BlockChanges> heartbeats) {
+    MasterWorkerInfo worker = mWorkers.getFirstByField(ID_INDEX, workerId);
+    if (worker == null) {
+      // The worker was lost, and reports all of its blocks again when it registers.
+      LOG.debug("Discarding block changes from heartbeats of lost worker {}", workerId);
+      return;
+    }
+    int count = 0;
+    for (WorkerHeartbeatApplier.BlockChanges changes : heartbeats) {
+      count += changes.getBlockCount();
+    }
+    long[] blockIds = new long[count];
+    // The location of each added block, or null for a removed block.
+    BlockLocation[] locations = new BlockLocation[count];
+    int index = 0;
+    for (WorkerHeartbeatApplier.BlockChanges changes : heartbeats) {
+      for (long blockId : changes.getRemovedBlockIds()) {
+        blockIds[index++] = blockId;
+      }
+      for (Map.Entry<BlockLocation, List<Long>> entry : changes.getAddedBlocks().entrySet()) {
+        BlockLocation location = toWorkerLocation(worker, entry.getKey());
+        for (long blockId : entry.getValue()) {
+          locations[index] = location;
+          blockIds[index++] = blockId;
+        }
+      }
+    }
+    // Each key holds the stripe of a change above its position, so sorting the keys orders the
+    // changes by stripe and keeps the reported order within each stripe.
+    long[] order = new long[count];
+    for (int i = 0; i < count; i++) {
+      order[i] = ((long) getBlockLockStripe(blockIds[i]) << 32) | i;
+    }
+    Arrays.sort(order);
+    int i = 0;
+    while (i < count) {
+      // Chunks end at stripe boundaries, so that each stripe is still locked once.
+      int chunkEnd = i + HEARTBEAT_APPLY_CHUNK_SIZE;
+      synchronized (worker) {
+        while (i < count && i < chunkEnd) {
+          int stripe = (int) (order[i] >>> 32);
+          try (LockResource lr = new LockResource(mBlockLocks[stripe])) {
+            for (; i < count && (int) (order[i] >>> 32) == stripe; i++) {
+              int change = (int) order[i];
+              if (locations[change] == null) {
+                removeBlockFromWorker(worker, blockIds[change]);
+              } else {
+                addBlockToWorker(worker, blockIds[change], locations[change]);
+              }
+            }
           }
         }
       }
     }
   }
 
+  /**
+   * Waits until the queued block changes of a worker's heartbeats have been applied. This must be
+   * called without holding the worker lock.
+   *
+   * @param workerId the id of the worker
+   */
+  private void drainHeartbeatChanges(long workerId) {
+    WorkerHeartbeatApplier applier = mHeartbeatApplier;
+    if (applier != null) {
+      applier.drain(workerId);
+    }
+  }
+
   @GuardedBy("workerInfo")
   private void processWorkerOrphanedBlocks(MasterWorkerInfo workerInfo) {
     for (long block : workerInfo.getBlocks()) {
@@ -1057,7 +1354,12 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
   }
 
   private LockResource lockBlock(long blockId) {
-    return new LockResource(mBlockLocks.get(blockId));
+    return new LockResource(mBlockLocks[getBlockLockStripe(blockId)]);
+  }
+
+  private static int getBlockLockStripe(long blockId) {
+    // Fibonacci hashing, since the block ids of a file share their high bits (see BlockId)
+    return (int) ((blockId * 0x9E3779B97F4A7C15L) >>> (64 - BLOCK_LOCK_STRIPE_BITS));
   }
 
   /**
@@ -1112,6 +1414,22 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
     mWorkerRegisteredListeners.add(function);
   }
 
+  @Override
+  public void registerBlockReplicaChangeListener(Consumer<Long> function) {
+    mBlockReplicaChangeListeners.add(function);
+  }
+
+  @Override
+  public void removeBlockReplicaChangeListener(Consumer<Long> function) {
+    mBlockReplicaChangeListeners.remove(function);
+  }
+
+  private void notifyBlockReplicaChanged(long blockId) {
+    for (Consumer<Long> function : mBlockReplicaChangeListeners) {
+      function.accept(blockId);
+    }
+  }
+
   /**
    * Class that contains metrics related to BlockMaster.
    */
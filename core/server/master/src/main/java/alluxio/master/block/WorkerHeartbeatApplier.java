@@ -0,0 +1,251 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.block;
+
+import alluxio.proto.meta.Block.BlockLocation;
+import alluxio.util.executor.PartitionedExecutor;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Applies the block changes reported by worker heartbeats on a pool of apply threads, so that a
+ * heartbeat can be answered as soon as its changes are queued.
+ *
+ * Each worker is assigned to one apply thread, which applies the changes of the worker in the
+ * order they were reported. An apply thread takes all changes queued when it becomes idle and
+ * passes the changes of each worker to the apply function at once, so that the function can apply
+ * them in a single batch. The number of queued block changes is bounded, and submitting waits
+ * while the bound is reached, which slows down heartbeats until the apply threads catch up.
+ */
+@ThreadSafe
+final class WorkerHeartbeatApplier implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(WorkerHeartbeatApplier.class);
+  /** The maximum number of heartbeats an apply thread takes from its queue at once. */
+  private static final int MAX_BATCH_HEARTBEATS = 256;
+  /** How long a blocked submitter waits between checks of whether the applier is closed. */
+  private static final long CLOSE_CHECK_INTERVAL_MS = 100;
+
+  private final BiConsumer<Long, List<BlockChanges>> mApplyFunction;
+  private final PartitionedExecutor<BlockChanges> mPartitions;
+  private final int mQueueSize;
+  /** Permits for the block changes which may be queued. */
+  private final Semaphore mPermits;
+  private final AtomicLong mPendingBlocks = new AtomicLong();
+  /** The number of heartbeats of each worker which have been submitted but not applied yet. */
+  private final Map<Long, Integer> mPendingHeartbeats = new ConcurrentHashMap<>();
+
+  /**
+   * @param threads the number of apply threads
+   * @param queueSize the maximum number of block changes which may be queued
+   * @param applyFunction the function applying the changes of a worker, given the worker id and
+   *        the changes in the order they were reported; it is called with the changes of one
+   *        worker at a time
+   */
+  WorkerHeartbeatApplier(int threads, int queueSize,
+      BiConsumer<Long, List<BlockChanges>> applyFunction) {
+    Preconditions.checkArgument(threads > 0, "threads must be positive");
+    Preconditions.checkArgument(queueSize > 0, "queueSize must be positive");
+    mApplyFunction = applyFunction;
+    mQueueSize = queueSize;
+    mPermits = new Semaphore(queueSize);
+    // The queues are bounded by the permits rather than by the number of heartbeats.
+    mPartitions = new PartitionedExecutor<>("worker-heartbeat-apply-%d", threads,
+        Integer.MAX_VALUE, MAX_BATCH_HEARTBEATS, this::apply);
+  }
+
+  /**
+   * Queues the block changes of a heartbeat. This blocks while the queue is full.
+   *
+   * @param workerId the id of the worker which sent the heartbeat
+   * @param removedBlockIds the ids of the blocks removed from the worker
+   * @param addedBlocks a mapping from location to the ids of the blocks added at the location
+   * @throws IllegalStateException if the applier is closed, including while waiting
+   */
+  void submit(long workerId, List<Long> removedBlockIds,
+      Map<BlockLocation, List<Long>> addedBlocks) {
+    Preconditions.checkState(!mPartitions.isClosed(), "Worker heartbeat applier is closed");
+    int blocks = removedBlockIds.size();
+    for (List<Long> blockIds : addedBlocks.values()) {
+      blocks += blockIds.size();
+    }
+    if (blocks == 0) {
+      return;
+    }
+    // A heartbeat larger than the queue is admitted once the queue is empty.
+    int permits = Math.min(blocks, mQueueSize);
+    while (!Uninterruptibles.tryAcquireUninterruptibly(mPermits, permits,
+        CLOSE_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+      Preconditions.checkState(!mPartitions.isClosed(), "Worker heartbeat applier is closed");
+    }
+    mPendingBlocks.addAndGet(blocks);
+    mPendingHeartbeats.merge(workerId, 1, Integer::sum);
+    try {
+      mPartitions.add(mPartitions.getPartition(workerId),
+          new BlockChanges(workerId, removedBlockIds, addedBlocks, blocks, permits));
+    } catch (IllegalStateException e) {
+      release(workerId, blocks, permits);
+      throw e;
+    }
+  }
+
+  /**
+   * Waits until the changes submitted so far for a worker have been applied, or returns at once
+   * if there are none. This must not be called while holding the lock of the worker, since
+   * applying the changes takes it.
+   *
+   * @param workerId the id of the worker
+   */
+  void drain(long workerId) {
+    if (mPartitions.isClosed() || !mPendingHeartbeats.containsKey(workerId)) {
+      return;
+    }
+    BlockChanges marker = new BlockChanges(workerId, null, null, 0, 0);
+    try {
+      mPartitions.add(mPartitions.getPartition(workerId), marker);
+    } catch (IllegalStateException e) {
+      // The applier was closed, and the queued changes are discarded
+      return;
+    }
+    mPartitions.await(marker.mApplied);
+  }
+
+  /**
+   * @return the number of block changes which have been submitted but not applied yet
+   */
+  long getPendingBlocks() {
+    return mPendingBlocks.get();
+  }
+
+  /**
+   * @return the time in milliseconds since the oldest changes which have not been applied yet
+   *         were submitted, or 0 if all changes have been applied
+   */
+  long getApplyLagMs() {
+    return mPartitions.getLagMs();
+  }
+
+  /**
+   * Stops the apply threads. Changes which have not been applied yet are discarded, since workers
+   * report all of their blocks again when they register with the next primary master. Heartbeats
+   * waiting for the queue to have room fail.
+   */
+  @Override
+  public void close() {
+    mPartitions.close();
+  }
+
+  /**
+   * Applies a batch of heartbeats taken by an apply thread, grouped by worker. Changes queued
+   * before a drain marker are applied before the marker is released.
+   */
+  private void apply(List<BlockChanges> batch) {
+    Map<Long, List<BlockChanges>> byWorker = new LinkedHashMap<>();
+    for (BlockChanges changes : batch) {
+      if (changes.isMarker()) {
+        applyAll(byWorker);
+        changes.mApplied.countDown();
+      } else {
+        byWorker.computeIfAbsent(changes.mWorkerId, id -> new ArrayList<>()).add(changes);
+      }
+    }
+    applyAll(byWorker);
+  }
+
+  private void applyAll(Map<Long, List<BlockChanges>> byWorker) {
+    for (Map.Entry<Long, List<BlockChanges>> entry : byWorker.entrySet()) {
+      try {
+        mApplyFunction.accept(entry.getKey(), entry.getValue());
+      } catch (Throwable t) {
+        LOG.error("Failed to apply block changes from the heartbeats of worker {}",
+            entry.getKey(), t);
+      } finally {
+        for (BlockChanges changes : entry.getValue()) {
+          release(changes.mWorkerId, changes.mBlockCount, changes.mPermits);
+        }
+      }
+    }
+    byWorker.clear();
+  }
+
+  private void release(long workerId, int blocks, int permits) {
+    mPendingHeartbeats.computeIfPresent(workerId, (id, count) -> count == 1 ? null : count - 1);
+    mPendingBlocks.addAndGet(-blocks);
+    mPermits.release(permits);
+  }
+
+  /**
+   * The block changes reported by one heartbeat.
+   */
+  static final class BlockChanges {
+    private final long mWorkerId;
+    @Nullable
+    private final List<Long> mRemovedBlockIds;
+    @Nullable
+    private final Map<BlockLocation, List<Long>> mAddedBlocks;
+    private final int mBlockCount;
+    private final int mPermits;
+    /** Counted down once the changes are applied, only used by drain markers. */
+    private final CountDownLatch mApplied = new CountDownLatch(1);
+
+    private BlockChanges(long workerId, @Nullable List<Long> removedBlockIds,
+        @Nullable Map<BlockLocation, List<Long>> addedBlocks, int blockCount, int permits) {
+      mWorkerId = workerId;
+      mRemovedBlockIds = removedBlockIds;
+      mAddedBlocks = addedBlocks;
+      mBlockCount = blockCount;
+      mPermits = permits;
+    }
+
+    /**
+     * @return the ids of the blocks removed from the worker
+     */
+    List<Long> getRemovedBlockIds() {
+      return mRemovedBlockIds;
+    }
+
+    /**
+     * @return a mapping from location to the ids of the blocks added at the location
+     */
+    Map<BlockLocation, List<Long>> getAddedBlocks() {
+      return mAddedBlocks;
+    }
+
+    /**
+     * @return the number of block changes
+     */
+    int getBlockCount() {
+      return mBlockCount;
+    }
+
+    private boolean isMarker() {
+      return mRemovedBlockIds == null;
+    }
+  }
+}
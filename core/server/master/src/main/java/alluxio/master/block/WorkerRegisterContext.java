@@ -0,0 +1,129 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.block;
+
+import alluxio.grpc.RegisterWorkerPOptions;
+import alluxio.grpc.StorageList;
+import alluxio.master.block.meta.MasterWorkerInfo;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The state of a worker registration whose blocks are streamed to the master in chunks. The
+ * context holds one of the master's registration permits, which is released when the context is
+ * closed.
+ */
+@NotThreadSafe
+public final class WorkerRegisterContext implements Closeable {
+  private final MasterWorkerInfo mWorker;
+  /** Blocks previously known on the worker which have not been reported again yet. */
+  private final Set<Long> mUnreportedBlocks;
+  /** Reported blocks which were not previously known on the worker. */
+  private final Set<Long> mNewBlocks = new HashSet<>();
+  private final Map<String, StorageList> mLostStorage;
+  private final RegisterWorkerPOptions mOptions;
+  private final Semaphore mPermits;
+
+  private boolean mClosed = false;
+
+  /**
+   * @param worker the registering worker
+   * @param previousBlocks a mutable copy of the blocks previously known on the worker
+   * @param lostStorage a mapping from storage tier alias to a list of lost storage paths
+   * @param options the options that may contain worker configuration
+   * @param permits the semaphore the registration permit was acquired from
+   */
+  WorkerRegisterContext(MasterWorkerInfo worker, Set<Long> previousBlocks,
+      Map<String, StorageList> lostStorage, RegisterWorkerPOptions options, Semaphore permits) {
+    mWorker = worker;
+    mUnreportedBlocks = previousBlocks;
+    mLostStorage = lostStorage;
+    mOptions = options;
+    mPermits = permits;
+  }
+
+  /**
+   * @return the registering worker
+   */
+  MasterWorkerInfo getWorker() {
+    return mWorker;
+  }
+
+  /**
+   * @return the id of the registering worker
+   */
+  public long getWorkerId() {
+    return mWorker.getId();
+  }
+
+  /**
+   * Records that the given blocks have been reported by the worker.
+   *
+   * @param blockIds the reported block ids
+   */
+  void markReported(Collection<Long> blockIds) {
+    // Not removeAll, which may call contains() on the (list) argument for every element of the set
+    for (long blockId : blockIds) {
+      if (!mUnreportedBlocks.remove(blockId)) {
+        mNewBlocks.add(blockId);
+      }
+    }
+  }
+
+  /**
+   * @return the reported blocks which were not previously known on the worker, i.e. the blocks
+   *         to remove if the registration is aborted
+   */
+  Set<Long> getNewBlocks() {
+    return mNewBlocks;
+  }
+
+  /**
+   * @return the previously known blocks which the worker did not report, i.e. the blocks removed
+   *         from the worker
+   */
+  Set<Long> getUnreportedBlocks() {
+    return mUnreportedBlocks;
+  }
+
+  /**
+   * @return a mapping from storage tier alias to a list of lost storage paths
+   */
+  Map<String, StorageList> getLostStorage() {
+    return mLostStorage;
+  }
+
+  /**
+   * @return the options that may contain worker configuration
+   */
+  RegisterWorkerPOptions getOptions() {
+    return mOptions;
+  }
+
+  /**
+   * Releases the registration permit. Closing the context more than once has no effect.
+   */
+  @Override
+  public void close() {
+    if (!mClosed) {
+      mClosed = true;
+      mPermits.release();
+    }
+  }
+}
@@ -15,6 +15,7 @@ import alluxio.Constants;
 import alluxio.StorageTierAssoc;
 import alluxio.WorkerStorageTierAssoc;
 import alluxio.client.block.options.GetWorkerReportOptions.WorkerInfoField;
+import alluxio.collections.LongHashSet;
 import alluxio.grpc.StorageList;
 import alluxio.util.CommonUtils;
 import alluxio.wire.WorkerInfo;
@@ -22,13 +23,11 @@ import alluxio.wire.WorkerNetAddress;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Sets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -67,8 +66,8 @@ public final class MasterWorkerInfo {
   /** Mapping from storage tier alias to used bytes. */
   private Map<String, Long> mUsedBytesOnTiers;
 
-  /** ids of blocks the worker contains. */
-  private Set<Long> mBlocks;
+  /** ids of blocks the worker contains, kept unboxed since a worker may hold millions. */
+  private LongHashSet mBlocks;
   /** ids of blocks the worker should remove. */
   private Set<Long> mToRemoveBlocks;
   /** Mapping from tier alias to lost storage paths. */
@@ -89,7 +88,7 @@ public final class MasterWorkerInfo {
     mStorageTierAssoc = null;
     mTotalBytesOnTiers = new HashMap<>();
     mUsedBytesOnTiers = new HashMap<>();
-    mBlocks = new HashSet<>();
+    mBlocks = new LongHashSet();
     mToRemoveBlocks = new HashSet<>();
     mLostStorage = new HashMap<>();
   }
@@ -108,6 +107,34 @@ public final class MasterWorkerInfo {
   public Set<Long> register(final StorageTierAssoc globalStorageTierAssoc,
       final List<String> storageTierAliases, final Map<String, Long> totalBytesOnTiers,
       final Map<String, Long> usedBytesOnTiers, final Set<Long> blocks) {
+    // Compute the difference between the existing block data, and the new data.
+    Set<Long> removedBlocks = startRegister(globalStorageTierAssoc, storageTierAliases,
+        totalBytesOnTiers, usedBytesOnTiers);
+    removedBlocks.removeAll(blocks);
+
+    // Set the new block information.
+    mBlocks = LongHashSet.of(blocks);
+
+    mIsRegistered = true;
+    return removedBlocks;
+  }
+
+  /**
+   * Starts a registration whose blocks are reported incrementally, updating the storage metadata
+   * of the worker. The reported blocks are then added with {@link #addBlock(long)}, and the
+   * registration is completed with {@link #finishRegister()}.
+   *
+   * @param globalStorageTierAssoc global mapping between storage aliases and ordinal position
+   * @param storageTierAliases list of storage tier aliases in order of their position in the
+   *        hierarchy
+   * @param totalBytesOnTiers mapping from storage tier alias to total bytes
+   * @param usedBytesOnTiers mapping from storage tier alias to used byes
+   * @return a copy of the blocks previously known on this worker if it is
+   *         re-registering, otherwise an empty set
+   */
+  public Set<Long> startRegister(final StorageTierAssoc globalStorageTierAssoc,
+      final List<String> storageTierAliases, final Map<String, Long> totalBytesOnTiers,
+      final Map<String, Long> usedBytesOnTiers) {
     // If the storage aliases do not have strictly increasing ordinal value based on the total
     // ordering, throw an error
     for (int i = 0; i < storageTierAliases.size() - 1; i++) {
@@ -141,23 +168,22 @@ public final class MasterWorkerInfo {
       mUsedBytes += bytes;
     }
 
-    Set<Long> removedBlocks;
     if (mIsRegistered) {
       // This is a re-register of an existing worker. Assume the new block ownership data is more
       // up-to-date and update the existing block information.
       LOG.info("re-registering an existing workerId: {}", mId);
-
-      // Compute the difference between the existing block data, and the new data.
-      removedBlocks = Sets.difference(mBlocks, blocks);
-    } else {
-      removedBlocks = Collections.emptySet();
+      return mBlocks.toSet();
     }
+    mBlocks = new LongHashSet();
+    return new HashSet<>();
+  }
 
-    // Set the new block information.
-    mBlocks = new HashSet<>(blocks);
-
+  /**
+   * Marks the worker as registered once all of its blocks have been reported after
+   * {@link #startRegister}.
+   */
+  public void finishRegister() {
     mIsRegistered = true;
-    return removedBlocks;
   }
 
   /**
@@ -274,7 +300,7 @@ public final class MasterWorkerInfo {
    * @return ids of all blocks the worker contains
    */
   public Set<Long> getBlocks() {
-    return new HashSet<>(mBlocks);
+    return mBlocks.toSet();
   }
 
   /**
@@ -15,24 +15,28 @@ import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * Class for tracking which blocks need to be deleted, and deleting them on close.
+ * Class for tracking which blocks need to be deleted, and deleting them on close. Blocks may be
+ * registered concurrently, e.g. by the threads of a parallel metadata sync.
  */
+@ThreadSafe
 public final class DefaultBlockDeletionContext implements BlockDeletionContext {
   private final List<BlockDeletionListener> mListeners;
-  private final List<Long> mBlocks;
+  private final Collection<Long> mBlocks;
 
   /**
    * @param listeners listeners to call for each deleted block when the context is closed
    */
   public DefaultBlockDeletionContext(BlockDeletionListener... listeners) {
     mListeners = Arrays.asList(listeners);
-    mBlocks = new ArrayList<>();
+    mBlocks = new ConcurrentLinkedQueue<>();
   }
 
   @Override
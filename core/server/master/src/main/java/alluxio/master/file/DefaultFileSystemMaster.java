@@ -35,6 +35,7 @@ import alluxio.exception.InvalidFileSizeException;
 import alluxio.exception.InvalidPathException;
 import alluxio.exception.PreconditionMessage;
 import alluxio.exception.UnexpectedAlluxioException;
+import alluxio.exception.status.AlluxioStatusException;
 import alluxio.exception.status.FailedPreconditionException;
 import alluxio.exception.status.InvalidArgumentException;
 import alluxio.exception.status.NotFoundException;
@@ -45,8 +46,10 @@ import alluxio.file.options.DescendantType;
 import alluxio.grpc.CompleteFilePOptions;
 import alluxio.grpc.DeletePOptions;
 import alluxio.grpc.FileSystemMasterCommonPOptions;
+import alluxio.grpc.GetStatusPOptions;
 import alluxio.grpc.GrpcService;
 import alluxio.grpc.GrpcUtils;
+import alluxio.grpc.ListStatusPOptions;
 import alluxio.grpc.LoadDescendantPType;
 import alluxio.grpc.LoadMetadataPOptions;
 import alluxio.grpc.LoadMetadataPType;
@@ -72,6 +75,7 @@ import alluxio.master.file.contexts.CreateDirectoryContext;
 import alluxio.master.file.contexts.CreateFileContext;
 import alluxio.master.file.contexts.DeleteContext;
 import alluxio.master.file.contexts.FreeContext;
+import alluxio.master.file.contexts.GetContentSummaryContext;
 import alluxio.master.file.contexts.GetStatusContext;
 import alluxio.master.file.contexts.ListStatusContext;
 import alluxio.master.file.contexts.LoadMetadataContext;
@@ -110,6 +114,7 @@ import alluxio.master.journal.checkpoint.CheckpointName;
 import alluxio.master.metastore.DelegatingReadOnlyInodeStore;
 import alluxio.master.metastore.InodeStore;
 import alluxio.master.metastore.ReadOnlyInodeStore;
+import alluxio.master.metastore.ReadOption;
 import alluxio.master.metrics.TimeSeriesStore;
 import alluxio.metrics.MasterMetrics;
 import alluxio.metrics.MetricsSystem;
@@ -143,6 +148,7 @@ import alluxio.underfs.UfsFileStatus;
 import alluxio.underfs.UfsManager;
 import alluxio.underfs.UfsMode;
 import alluxio.underfs.UfsStatus;
+import alluxio.underfs.UfsStatusIterator;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.underfs.UnderFileSystemConfiguration;
 import alluxio.underfs.options.ListOptions;
@@ -151,6 +157,8 @@ import alluxio.util.IdUtils;
 import alluxio.util.ModeUtils;
 import alluxio.util.SecurityUtils;
 import alluxio.util.StreamUtils;
+import alluxio.util.ThreadFactoryUtils;
+import alluxio.util.ThreadUtils;
 import alluxio.util.executor.ExecutorServiceFactories;
 import alluxio.util.executor.ExecutorServiceFactory;
 import alluxio.util.interfaces.Scoped;
@@ -160,11 +168,13 @@ import alluxio.util.UnderFileSystemUtils;
 import alluxio.wire.BlockInfo;
 import alluxio.wire.BlockLocation;
 import alluxio.wire.CommandType;
+import alluxio.wire.ContentSummary;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.FileInfo;
 import alluxio.wire.FileSystemCommand;
 import alluxio.wire.FileSystemCommandOptions;
 import alluxio.wire.MountPointInfo;
+import alluxio.wire.PathResult;
 import alluxio.wire.PersistCommandOptions;
 import alluxio.wire.PersistFile;
 import alluxio.wire.SyncPointInfo;
@@ -174,6 +184,7 @@ import alluxio.worker.job.JobMasterClientContext;
 
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
@@ -182,6 +193,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Uninterruptibles;
 import io.grpc.ServerInterceptors;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
@@ -206,8 +218,13 @@ import java.util.SortedMap;
 import java.util.Stack;
 import java.util.TreeMap;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -226,6 +243,12 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
   /** The number of threads to use in the {@link #mPersistCheckerPool}. */
   private static final int PERSIST_CHECKER_POOL_THREADS = 128;
 
+  /** How long to wait for running metadata syncs to finish when the master stops. */
+  private static final long SYNC_METADATA_SHUTDOWN_TIMEOUT_MS = 10 * Constants.SECOND_MS;
+
+  /** The most entries an optimistic listStatus will buffer before validating its path. */
+  private static final int OPTIMISTIC_LIST_STATUS_MAX_ENTRIES = 1000;
+
   /**
    * Locking in DefaultFileSystemMaster
    *
@@ -379,6 +402,13 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
 
   private ActiveSyncManager mSyncManager;
 
+  /**
+   * Thread pool which syncs sibling subtrees with the UFS in parallel. It never queues; when all
+   * of its threads are busy, or once it is shut down, the subtree is synced by the submitting
+   * thread. It is created when the master starts and shut down when it stops.
+   */
+  private ThreadPoolExecutor mSyncMetadataExecutor;
+
   /** Log writer for user access audit log. */
   private AsyncUserAccessAuditLogWriter mAsyncAuditLogWriter;
 
@@ -524,6 +554,14 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
   @Override
   public void start(Boolean isPrimary) throws IOException {
     super.start(isPrimary);
+    int syncThreads =
+        ServerConfiguration.getInt(PropertyKey.MASTER_METADATA_SYNC_EXECUTOR_POOL_SIZE);
+    // Unlike CallerRunsPolicy, also run tasks submitted after shutdown, since the submitting sync
+    // waits for them.
+    mSyncMetadataExecutor = new ThreadPoolExecutor(syncThreads, syncThreads, 1, TimeUnit.MINUTES,
+        new SynchronousQueue<>(), ThreadFactoryUtils.build("Metadata-Sync-%d", true),
+        (task, executor) -> task.run());
+    mSyncMetadataExecutor.allowCoreThreadTimeOut(true);
     if (isPrimary) {
       LOG.info("Starting fs master as primary");
 
@@ -665,6 +703,10 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
       mAsyncAuditLogWriter = null;
     }
     mSyncManager.stop();
+    if (mSyncMetadataExecutor != null) {
+      ThreadUtils.shutdownAndAwaitTermination(mSyncMetadataExecutor,
+          SYNC_METADATA_SHUTDOWN_TIMEOUT_MS);
+    }
     super.stop();
   }
 
@@ -723,6 +765,12 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
     Metrics.GET_FILE_INFO_OPS.inc();
     LockingScheme lockingScheme =
         createLockingScheme(path, context.getOptions().getCommonOptions(), LockPattern.READ);
+    if (!lockingScheme.shouldSync() && mInodeLockManager.isOptimisticReadEnabled()) {
+      FileInfo fileInfo = getFileInfoOptimistic(path);
+      if (fileInfo != null) {
+        return fileInfo;
+      }
+    }
     try (RpcContext rpcContext = createRpcContext();
          LockedInodePath inodePath = mInodeTree
              .lockInodePath(lockingScheme.getPath(), lockingScheme.getPattern());
@@ -757,6 +805,232 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
     }
   }
 
+  @Override
+  public List<PathResult<FileInfo>> getFileInfoBatch(List<AlluxioURI> paths,
+      GetStatusContext context) {
+    List<PathResult<FileInfo>> results = new ArrayList<>(Collections.nCopies(paths.size(), null));
+    // Siblings are adjacent in this order, so each group of siblings can share a parent lock.
+    List<Integer> order = sortedIndices(paths, Comparator
+        .comparing(DefaultFileSystemMaster::parentPathOf)
+        .thenComparing(AlluxioURI::getPath));
+    int start = 0;
+    while (start < order.size()) {
+      String parent = parentPathOf(paths.get(order.get(start)));
+      int end = start + 1;
+      while (end < order.size() && parent.equals(parentPathOf(paths.get(order.get(end))))) {
+        end++;
+      }
+      List<Integer> siblings = order.subList(start, end);
+      if (siblings.size() > 1 && !parent.isEmpty()) {
+        getFileInfoSiblings(new AlluxioURI(parent), siblings, paths, context, results);
+      }
+      // Anything the shared parent lock could not serve is handled one path at a time.
+      for (int i : siblings) {
+        if (results.get(i) != null) {
+          continue;
+        }
+        AlluxioURI path = paths.get(i);
+        try {
+          results.set(i, PathResult.success(path,
+              getFileInfo(path, GetStatusContext.create(context.getOptions().clone()))));
+        } catch (AlluxioException | IOException e) {
+          results.set(i, PathResult.failure(path, AlluxioStatusException.fromCheckedException(e)));
+        }
+      }
+      start = end;
+    }
+    return results;
+  }
+
+  /**
+   * Gets the file info for sibling paths while holding a single read lock on their parent. Paths
+   * that need a metadata sync or do not exist are skipped and their results are left unset, since
+   * serving them may require loading metadata under stronger locks.
+   *
+   * @param parent the parent of the siblings
+   * @param siblings the indices of the siblings within paths
+   * @param paths all paths of the batch
+   * @param context the method context
+   * @param results the results of the batch, updated for every sibling served
+   */
+  private void getFileInfoSiblings(AlluxioURI parent, List<Integer> siblings,
+      List<AlluxioURI> paths, GetStatusContext context, List<PathResult<FileInfo>> results) {
+    try (LockedInodePath parentPath = mInodeTree.lockInodePath(parent, LockPattern.READ)) {
+      if (!parentPath.fullPathExists() || !parentPath.getInode().isDirectory()) {
+        return;
+      }
+      for (int i : siblings) {
+        AlluxioURI path = paths.get(i);
+        if (createLockingScheme(path, context.getOptions().getCommonOptions(), LockPattern.READ)
+            .shouldSync()) {
+          continue;
+        }
+        try (LockedInodePath inodePath = parentPath.lockDescendant(path, LockPattern.READ)) {
+          if (!inodePath.fullPathExists()) {
+            continue;
+          }
+          Metrics.GET_FILE_INFO_OPS.inc();
+          try (FileSystemMasterAuditContext auditContext =
+              createAuditContext("getFileInfo", path, null, inodePath.getInode())) {
+            try {
+              mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+            } catch (AccessControlException e) {
+              auditContext.setAllowed(false);
+              throw e;
+            }
+            results.set(i, PathResult.success(path, getFileInfoInternal(inodePath)));
+            auditContext.setSucceeded(true);
+          }
+        } catch (AlluxioException | IOException e) {
+          results.set(i, PathResult.failure(path, AlluxioStatusException.fromCheckedException(e)));
+        }
+      }
+    } catch (AlluxioException e) {
+      LOG.debug("Failed to lock {} for a batch of its children", parent, e);
+    }
+  }
+
+  /**
+   * @param path a path
+   * @return the path of its parent, or the empty string for the root
+   */
+  private static String parentPathOf(AlluxioURI path) {
+    AlluxioURI parent = path.getParent();
+    return parent == null ? "" : parent.getPath();
+  }
+
+  /**
+   * @param paths the paths of a batch
+   * @param comparator the order to process the paths in
+   * @return the indices of the paths, sorted by the comparator
+   */
+  private static List<Integer> sortedIndices(List<AlluxioURI> paths,
+      Comparator<AlluxioURI> comparator) {
+    List<Integer> indices = new ArrayList<>(paths.size());
+    for (int i = 0; i < paths.size(); i++) {
+      indices.add(i);
+    }
+    indices.sort(Comparator.comparing(paths::get, comparator));
+    return indices;
+  }
+
+  @Override
+  public ContentSummary getContentSummary(AlluxioURI path, GetContentSummaryContext context)
+      throws FileDoesNotExistException, InvalidPathException, AccessControlException,
+      UnavailableException, IOException {
+    Metrics.GET_FILE_INFO_OPS.inc();
+    FileSystemMasterCommonPOptions commonOptions = context.getOptions().getCommonOptions();
+    // The bytes cached in Alluxio come from worker block reports, so only the walk knows them.
+    // The aggregates include subtrees the caller may not be allowed to traverse, which the walk
+    // skips, so they are only used when every subtree would be walked.
+    if (!context.getOptions().getIncludeInAlluxio() && mInodeTree.isDirectoryAggregatesEnabled()
+        && canTraverseAll()
+        && !createLockingScheme(path, commonOptions, LockPattern.READ).shouldSync()) {
+      try (LockedInodePath inodePath = mInodeTree.lockInodePath(path, LockPattern.READ);
+           FileSystemMasterAuditContext auditContext =
+               createAuditContext("getContentSummary", path, null, inodePath.getInodeOrNull())) {
+        try {
+          mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+        } catch (AccessControlException e) {
+          auditContext.setAllowed(false);
+          throw e;
+        }
+        if (inodePath.fullPathExists()) {
+          ContentSummary summary = mInodeTree.getContentSummary(inodePath.getInode());
+          if (summary != null) {
+            auditContext.setSucceeded(true);
+            return summary;
+          }
+        }
+      }
+    }
+    // Walk the subtree on the master, with the same metadata sync and loading as a recursive
+    // listing, so that only the summary is sent back to the client.
+    ContentSummaryStream summaryStream = new ContentSummaryStream();
+    FileInfo fileInfo = getFileInfo(path,
+        GetStatusContext.mergeFrom(GetStatusPOptions.newBuilder().setCommonOptions(commonOptions)));
+    summaryStream.submit(fileInfo);
+    if (fileInfo.isFolder()) {
+      listStatus(path, ListStatusContext.mergeFrom(ListStatusPOptions.newBuilder()
+          .setRecursive(true).setCommonOptions(commonOptions)), summaryStream);
+    }
+    return summaryStream.getSummary();
+  }
+
+  /**
+   * @return whether the client user can traverse every directory, i.e. permission checking is
+   *         disabled or the user is the superuser or in the supergroup
+   */
+  private boolean canTraverseAll() {
+    try {
+      mPermissionChecker.checkSuperUser();
+      return true;
+    } catch (AccessControlException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Adds up the {@link FileInfo} of a walk into a {@link ContentSummary}.
+   */
+  private static final class ContentSummaryStream implements ResultStream<FileInfo> {
+    private final ContentSummary mSummary = new ContentSummary();
+
+    @Override
+    public void submit(FileInfo fileInfo) {
+      if (fileInfo.isFolder()) {
+        mSummary.setDirectoryCount(mSummary.getDirectoryCount() + 1);
+        return;
+      }
+      long length = fileInfo.getLength();
+      mSummary.setFileCount(mSummary.getFileCount() + 1)
+          .setLength(mSummary.getLength() + length)
+          .setInAlluxioLength(mSummary.getInAlluxioLength()
+              + length * fileInfo.getInAlluxioPercentage() / 100)
+          .setInMemoryLength(mSummary.getInMemoryLength()
+              + length * fileInfo.getInMemoryPercentage() / 100);
+    }
+
+    /**
+     * @return the summary of the submitted file infos
+     */
+    ContentSummary getSummary() {
+      return mSummary;
+    }
+  }
+
+  /**
+   * Gets the file info for an existing path without locking the path, see
+   * {@link InodeTree#traverseInodePathOptimistic(AlluxioURI)}. Anything unusual, such as a
+   * missing path, a permission failure, or a concurrent modification of the path, is left to the
+   * locked code path.
+   *
+   * @param path the path to get the file info for
+   * @return the file info, or null if the file info must be read under locks
+   */
+  @Nullable
+  private FileInfo getFileInfoOptimistic(AlluxioURI path) {
+    try (LockedInodePath inodePath = mInodeTree.traverseInodePathOptimistic(path)) {
+      if (inodePath.fullPathExists()) {
+        mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+        FileInfo fileInfo = getFileInfoInternal(inodePath);
+        if (inodePath.validate()) {
+          try (FileSystemMasterAuditContext auditContext =
+              createAuditContext("getFileInfo", path, null, inodePath.getInode())) {
+            auditContext.setSucceeded(true);
+          }
+          Metrics.OPTIMISTIC_READS.inc();
+          return fileInfo;
+        }
+      }
+    } catch (Exception e) {
+      // Inodes read without locks may be inconsistent, so any failure is retried with locks.
+      LOG.debug("Optimistic getFileInfo of {} failed, retrying with locks", path, e);
+    }
+    Metrics.OPTIMISTIC_READ_FALLBACKS.inc();
+    return null;
+  }
+
   /**
    * @param inodePath the {@link LockedInodePath} to get the {@link FileInfo} for
    * @return the {@link FileInfo} for the given inode
@@ -802,9 +1076,24 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
   public List<FileInfo> listStatus(AlluxioURI path, ListStatusContext context)
       throws AccessControlException, FileDoesNotExistException, InvalidPathException,
       UnavailableException {
+    List<FileInfo> fileInfos = new ArrayList<>();
+    listStatus(path, context, fileInfos::add);
+    return fileInfos;
+  }
+
+  @Override
+  public void listStatus(AlluxioURI path, ListStatusContext context,
+      ResultStream<FileInfo> resultStream)
+      throws AccessControlException, FileDoesNotExistException, InvalidPathException,
+      UnavailableException {
     Metrics.GET_FILE_INFO_OPS.inc();
     LockingScheme lockingScheme =
         createLockingScheme(path, context.getOptions().getCommonOptions(), LockPattern.READ);
+    if (!lockingScheme.shouldSync() && mInodeLockManager.isOptimisticReadEnabled()
+        && !context.getOptions().getRecursive()
+        && listStatusOptimistic(path, context, resultStream)) {
+      return;
+    }
     try (RpcContext rpcContext = createRpcContext();
          LockedInodePath inodePath = mInodeTree
              .lockInodePath(lockingScheme.getPath(), lockingScheme.getPattern());
@@ -864,35 +1153,102 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
       ensureFullPathAndUpdateCache(inodePath);
       inode = inodePath.getInode();
       auditContext.setSrcInode(inode);
-      List<FileInfo> ret = new ArrayList<>();
-      DescendantType descendantTypeForListStatus = (context.getOptions().getRecursive())
-          ? DescendantType.ALL : DescendantType.ONE;
-      listStatusInternal(inodePath, auditContext, descendantTypeForListStatus, ret);
-
-      // If we are listing the status of a directory, we remove the directory info that we inserted
-      if (inode.isDirectory() && ret.size() >= 1) {
-        ret.remove(ret.size() - 1);
+      if (context.isPaginated() && inode.isDirectory()) {
+        listStatusPage(inodePath, auditContext, context, resultStream);
+      } else {
+        DescendantType descendantTypeForListStatus = (context.getOptions().getRecursive())
+            ? DescendantType.ALL : DescendantType.ONE;
+        listStatusInternal(inodePath, auditContext, descendantTypeForListStatus, resultStream, 0);
       }
 
       auditContext.setSucceeded(true);
       Metrics.FILE_INFOS_GOT.inc();
-      return ret;
     }
   }
 
+  /**
+   * Lists the direct children of an existing path without locking the path itself, see
+   * {@link #getFileInfoOptimistic(AlluxioURI)}. The children are still read locked while they are
+   * listed. Results are buffered until the path has been validated, so only listings of at most
+   * {@link #OPTIMISTIC_LIST_STATUS_MAX_ENTRIES} entries are attempted.
+   *
+   * @param path the path to list
+   * @param context the list status context
+   * @param resultStream to receive the status of the children once the listing is validated
+   * @return whether the listing was submitted, otherwise it must be done under locks
+   */
+  private boolean listStatusOptimistic(AlluxioURI path, ListStatusContext context,
+      ResultStream<FileInfo> resultStream) {
+    if (context.getOptions().getLoadMetadataType() == LoadMetadataPType.ALWAYS) {
+      return false;
+    }
+    List<FileInfo> fileInfos = new ArrayList<>();
+    try (LockedInodePath inodePath = mInodeTree.traverseInodePathOptimistic(path)) {
+      Inode inode = inodePath.getInodeOrNull();
+      if (inode != null && inodePath.fullPathExists() && isOptimisticListable(inode, context)) {
+        FileSystemMasterAuditContext auditContext =
+            createAuditContext("listStatus", path, null, inode);
+        mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+        if (context.isPaginated() && inode.isDirectory()) {
+          listStatusPage(inodePath, auditContext, context, fileInfos::add);
+        } else {
+          listStatusInternal(inodePath, auditContext, DescendantType.ONE, fileInfos::add, 0);
+        }
+        if (inodePath.validate()) {
+          auditContext.setSucceeded(true);
+          auditContext.close();
+          for (FileInfo fileInfo : fileInfos) {
+            resultStream.submit(fileInfo);
+          }
+          Metrics.FILE_INFOS_GOT.inc();
+          Metrics.OPTIMISTIC_READS.inc();
+          return true;
+        }
+      }
+    } catch (Exception e) {
+      // Inodes read without locks may be inconsistent, so any failure is retried with locks.
+      LOG.debug("Optimistic listStatus of {} failed, retrying with locks", path, e);
+    }
+    context.setContinuationToken(null);
+    Metrics.OPTIMISTIC_READ_FALLBACKS.inc();
+    return false;
+  }
+
+  /**
+   * @param inode the inode being listed
+   * @param context the list status context
+   * @return whether the listing is small enough to buffer, and needs no metadata loading
+   */
+  private boolean isOptimisticListable(Inode inode, ListStatusContext context) {
+    if (!inode.isDirectory()) {
+      return true;
+    }
+    InodeDirectory directory = inode.asDirectory();
+    if (!directory.isDirectChildrenLoaded()
+        && context.getOptions().getLoadMetadataType() != LoadMetadataPType.NEVER) {
+      return false;
+    }
+    int batchSize = context.getOptions().getBatchSize();
+    if (context.isPaginated() && batchSize > 0) {
+      return batchSize <= OPTIMISTIC_LIST_STATUS_MAX_ENTRIES;
+    }
+    return directory.getChildCount() <= OPTIMISTIC_LIST_STATUS_MAX_ENTRIES;
+  }
+
   /**
    * Lists the status of the path in {@link LockedInodePath}, possibly recursively depending on
-   * the descendantType. The result is returned via a list specified by statusList, in postorder
-   * traversal order.
+   * the descendantType. The results are submitted to resultStream in postorder traversal order.
+   * The status of the directory being listed (at depth 0) is not submitted.
    *
    * @param currInodePath the inode path to find the status
    * @param auditContext the audit context to return any access exceptions
    * @param descendantType if the currInodePath is a directory, how many levels of its descendant
    *                       should be returned
-   * @param statusList To be populated with the status of the files and directories requested
+   * @param resultStream To receive the status of the files and directories requested
+   * @param depth the depth of currInodePath below the path being listed
    */
   private void listStatusInternal(LockedInodePath currInodePath, AuditContext auditContext,
-      DescendantType descendantType, List<FileInfo> statusList)
+      DescendantType descendantType, ResultStream<FileInfo> resultStream, int depth)
       throws FileDoesNotExistException, UnavailableException,
       AccessControlException, InvalidPathException {
     Inode inode = currInodePath.getInode();
@@ -923,14 +1279,81 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
 
         try (LockedInodePath childInodePath =
             currInodePath.lockChild(child, LockPattern.READ, childComponentsHint)) {
-          listStatusInternal(childInodePath, auditContext, nextDescendantType, statusList);
+          listStatusInternal(childInodePath, auditContext, nextDescendantType, resultStream,
+              depth + 1);
         } catch (InvalidPathException | FileDoesNotExistException e) {
           LOG.debug("Path \"{0}\" is invalid, has been ignored.",
               PathUtils.concatPath("/", childComponentsHint));
         }
       }
     }
-    statusList.add(getFileInfoInternal(currInodePath));
+    // The directory being listed is not part of its own listing.
+    if (depth != 0 || !inode.isDirectory()) {
+      resultStream.submit(getFileInfoInternal(currInodePath));
+    }
+  }
+
+  /**
+   * Lists one page of the direct children of the directory in {@link LockedInodePath}. Children
+   * are listed in name order, starting after the startAfter option and stopping after batchSize
+   * entries. If more children remain, the name of the last listed child is recorded as the
+   * continuation token of the context.
+   *
+   * @param dirInodePath the inode path of the directory to list
+   * @param auditContext the audit context to return any access exceptions
+   * @param context the list status context
+   * @param resultStream To receive the status of the children
+   */
+  private void listStatusPage(LockedInodePath dirInodePath, AuditContext auditContext,
+      ListStatusContext context, ResultStream<FileInfo> resultStream)
+      throws FileDoesNotExistException, UnavailableException, AccessControlException,
+      InvalidPathException {
+    try {
+      mPermissionChecker.checkPermission(Mode.Bits.EXECUTE, dirInodePath);
+    } catch (AccessControlException e) {
+      auditContext.setAllowed(false);
+      throw e;
+    }
+    String startAfter = context.getOptions().getStartAfter();
+    String start = startAfter.isEmpty() ? null : startAfter;
+    int limit = context.getOptions().getBatchSize() > 0 ? context.getOptions().getBatchSize()
+        : Integer.MAX_VALUE;
+    String[] parentComponents = PathUtils.getPathComponents(dirInodePath.getUri().getPath());
+    String[] childComponentsHint = Arrays.copyOf(parentComponents, parentComponents.length + 1);
+    int listed = 0;
+    String lastListed = null;
+    // Fetch one more child than the page still needs, to know whether the listing continues.
+    // Children which can no longer be locked are skipped, so keep fetching until the page fills.
+    while (true) {
+      int fetchLimit = limit == Integer.MAX_VALUE ? limit : limit - listed + 1;
+      ReadOption readOption = ReadOption.newBuilder()
+          .setStartAfter(start)
+          .setLimit(fetchLimit)
+          .build();
+      int fetched = 0;
+      for (Inode child : mInodeStore.getChildren(dirInodePath.getInode().asDirectory(),
+          readOption)) {
+        if (listed >= limit) {
+          context.setContinuationToken(lastListed);
+          return;
+        }
+        fetched++;
+        start = child.getName();
+        childComponentsHint[childComponentsHint.length - 1] = child.getName();
+        try (LockedInodePath childInodePath =
+            dirInodePath.lockChild(child, LockPattern.READ, childComponentsHint)) {
+          resultStream.submit(getFileInfoInternal(childInodePath));
+          listed++;
+          lastListed = child.getName();
+        } catch (InvalidPathException | FileDoesNotExistException e) {
+          LOG.debug("Path \"{0}\" is invalid, has been ignored.",
+              PathUtils.concatPath("/", childComponentsHint));
+        }
+      }
+      if (fetched < fetchLimit) {
+        return;
+      }
+    }
   }
 
   /**
@@ -1125,9 +1548,8 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
     }
 
     InodeFile fileInode = inode.asFile();
-    List<Long> blockIdList = fileInode.getBlockIds();
-    List<BlockInfo> blockInfoList = mBlockMaster.getBlockInfoList(blockIdList);
-    if (!fileInode.isPersisted() && blockInfoList.size() != blockIdList.size()) {
+    List<BlockInfo> blockInfoList = mBlockMaster.getBlockInfoList(fileInode.getBlockIdArray());
+    if (!fileInode.isPersisted() && blockInfoList.size() != fileInode.getBlockCount()) {
       throw new BlockInfoException("Cannot complete a file without all the blocks committed");
     }
 
@@ -1382,11 +1804,47 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
   public void delete(AlluxioURI path, DeleteContext context)
       throws IOException, FileDoesNotExistException, DirectoryNotEmptyException,
       InvalidPathException, AccessControlException {
+    try (RpcContext rpcContext = createRpcContext()) {
+      deletePath(rpcContext, path, context);
+    }
+  }
+
+  @Override
+  public List<PathResult<Void>> deleteBatch(List<AlluxioURI> paths, DeleteContext context)
+      throws UnavailableException {
+    List<PathResult<Void>> results = new ArrayList<>(Collections.nCopies(paths.size(), null));
+    // Deepest paths first, so that deleting a directory does not fail its listed descendants.
+    List<Integer> order = sortedIndices(paths, Comparator
+        .comparingInt(AlluxioURI::getDepth).reversed()
+        .thenComparing(AlluxioURI::getPath));
+    try (RpcContext rpcContext = createRpcContext()) {
+      for (int i : order) {
+        AlluxioURI path = paths.get(i);
+        try {
+          deletePath(rpcContext, path, context);
+          results.set(i, PathResult.success(path, null));
+        } catch (AlluxioException | IOException e) {
+          results.set(i, PathResult.failure(path, AlluxioStatusException.fromCheckedException(e)));
+        }
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Deletes a given path, journaling the deletion to the given rpc context.
+   *
+   * @param rpcContext the rpc context
+   * @param path the path to delete
+   * @param context method context
+   */
+  private void deletePath(RpcContext rpcContext, AlluxioURI path, DeleteContext context)
+      throws IOException, FileDoesNotExistException, DirectoryNotEmptyException,
+      InvalidPathException, AccessControlException {
     Metrics.DELETE_PATHS_OPS.inc();
     LockingScheme lockingScheme =
         createLockingScheme(path, context.getOptions().getCommonOptions(), LockPattern.WRITE_EDGE);
-    try (RpcContext rpcContext = createRpcContext();
-        LockedInodePath inodePath =
+    try (LockedInodePath inodePath =
             mInodeTree.lockInodePath(lockingScheme.getPath(), lockingScheme.getPattern());
         FileSystemMasterAuditContext auditContext =
             createAuditContext("delete", path, null, inodePath.getInodeOrNull())) {
@@ -1591,7 +2049,7 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
   private List<FileBlockInfo> getFileBlockInfoListInternal(LockedInodePath inodePath)
       throws InvalidPathException, FileDoesNotExistException, UnavailableException {
     InodeFile file = inodePath.getInodeFile();
-    List<BlockInfo> blockInfoList = mBlockMaster.getBlockInfoList(file.getBlockIds());
+    List<BlockInfo> blockInfoList = mBlockMaster.getBlockInfoList(file.getBlockIdArray());
 
     List<FileBlockInfo> ret = new ArrayList<>();
     for (BlockInfo blockInfo : blockInfoList) {
@@ -1769,7 +2227,7 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
     }
 
     long inMemoryLength = 0;
-    for (BlockInfo info : mBlockMaster.getBlockInfoList(inodeFile.getBlockIds())) {
+    for (BlockInfo info : mBlockMaster.getBlockInfoList(inodeFile.getBlockIdArray())) {
       if (isInTopStorageTier(info)) {
         inMemoryLength += info.getLength();
       }
@@ -1796,7 +2254,7 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
     }
 
     long inAlluxioLength = 0;
-    for (BlockInfo info : mBlockMaster.getBlockInfoList(inodeFile.getBlockIds())) {
+    for (BlockInfo info : mBlockMaster.getBlockInfoList(inodeFile.getBlockIdArray())) {
       if (!info.getLocations().isEmpty()) {
         inAlluxioLength += info.getLength();
       }
@@ -2340,50 +2798,55 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
           } else {
             listOptions.setRecursive(false);
           }
-          UfsStatus[] children = ufs.listStatus(ufsUri.toString(), listOptions);
-          // children can be null if the pathname does not denote a directory
-          // or if the we do not have permission to listStatus on the directory in the ufs.
-          if (children == null) {
-            throw new IOException("Failed to loadMetadata because ufs can not listStatus at path "
-                + ufsUri.toString());
-          }
-          Arrays.sort(children, Comparator.comparing(UfsStatus::getName));
-
-          for (UfsStatus childStatus : children) {
-            if (PathUtils.isTemporaryFileName(childStatus.getName())) {
-              continue;
-            }
-            AlluxioURI childURI = new AlluxioURI(
-                PathUtils.concatPath(inodePath.getUri(), childStatus.getName()));
-            if (mInodeTree.inodePathExists(childURI) && (childStatus.isFile()
-                || context.getOptions().getLoadDescendantType() != LoadDescendantPType.ALL)) {
-              // stop traversing if this is an existing file, or an existing directory without
-              // loading all descendants.
-              continue;
+          // The listing is streamed, so that directories of any size are loaded without holding
+          // the whole listing in memory. A recursive listing returns each directory before its
+          // descendants, which is the order they need to be loaded in.
+          try (UfsStatusIterator children =
+              ufs.listStatusIterator(ufsUri.toString(), listOptions)) {
+            // children can be null if the pathname does not denote a directory
+            // or if the we do not have permission to listStatus on the directory in the ufs.
+            if (children == null) {
+              throw new IOException("Failed to loadMetadata because ufs can not listStatus at "
+                  + "path " + ufsUri.toString());
             }
-
-            try (LockedInodePath descendant = inodePath.lockDescendant(
-                inodePath.getUri().joinUnsafe(childStatus.getName()), LockPattern.READ)) {
-              LoadMetadataContext loadMetadataContext = LoadMetadataContext
-                  .mergeFrom(LoadMetadataPOptions.newBuilder()
-                      .setLoadDescendantType(LoadDescendantPType.NONE).setCreateAncestors(false))
-                  .setUfsStatus(childStatus);
-              try {
-                loadMetadataInternal(rpcContext, descendant, loadMetadataContext);
-              } catch (FileNotFoundException e) {
-                LOG.debug(
-                    "Failed to loadMetadata because file is not in ufs:"
-                        + " inodePath={}, options={}.",
-                    descendant.getUri(), loadMetadataContext, e);
+            while (children.hasNext()) {
+              UfsStatus childStatus = children.next();
+              if (PathUtils.isTemporaryFileName(childStatus.getName())) {
                 continue;
-              } catch (Exception e) {
-                LOG.info("Failed to loadMetadata: inodePath={}, options={}.", descendant.getUri(),
-                    loadMetadataContext, e);
+              }
+              AlluxioURI childURI = new AlluxioURI(
+                  PathUtils.concatPath(inodePath.getUri(), childStatus.getName()));
+              if (mInodeTree.inodePathExists(childURI) && (childStatus.isFile()
+                  || context.getOptions().getLoadDescendantType() != LoadDescendantPType.ALL)) {
+                // stop traversing if this is an existing file, or an existing directory without
+                // loading all descendants.
                 continue;
               }
-              if (context.getOptions().getLoadDescendantType() == LoadDescendantPType.ALL
-                  && descendant.getInode().isDirectory()) {
-                mInodeTree.setDirectChildrenLoaded(rpcContext, descendant.getInode().asDirectory());
+
+              try (LockedInodePath descendant = inodePath.lockDescendant(
+                  inodePath.getUri().joinUnsafe(childStatus.getName()), LockPattern.READ)) {
+                LoadMetadataContext loadMetadataContext = LoadMetadataContext
+                    .mergeFrom(LoadMetadataPOptions.newBuilder()
+                        .setLoadDescendantType(LoadDescendantPType.NONE).setCreateAncestors(false))
+                    .setUfsStatus(childStatus);
+                try {
+                  loadMetadataInternal(rpcContext, descendant, loadMetadataContext);
+                } catch (FileNotFoundException e) {
+                  LOG.debug(
+                      "Failed to loadMetadata because file is not in ufs:"
+                          + " inodePath={}, options={}.",
+                      descendant.getUri(), loadMetadataContext, e);
+                  continue;
+                } catch (Exception e) {
+                  LOG.info("Failed to loadMetadata: inodePath={}, options={}.",
+                      descendant.getUri(), loadMetadataContext, e);
+                  continue;
+                }
+                if (context.getOptions().getLoadDescendantType() == LoadDescendantPType.ALL
+                    && descendant.getInode().isDirectory()) {
+                  mInodeTree.setDirectChildrenLoaded(rpcContext,
+                      descendant.getInode().asDirectory());
+                }
               }
             }
           }
@@ -2991,6 +3454,39 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
   @Override
   public void setAttribute(AlluxioURI path, SetAttributeContext context)
       throws FileDoesNotExistException, AccessControlException, InvalidPathException, IOException {
+    try (RpcContext rpcContext = createRpcContext()) {
+      setAttributePath(rpcContext, path, context);
+    }
+  }
+
+  @Override
+  public List<PathResult<Void>> setAttributeBatch(List<AlluxioURI> paths,
+      SetAttributeContext context) throws UnavailableException {
+    List<PathResult<Void>> results = new ArrayList<>(Collections.nCopies(paths.size(), null));
+    try (RpcContext rpcContext = createRpcContext()) {
+      for (int i : sortedIndices(paths, Comparator.comparing(AlluxioURI::getPath))) {
+        AlluxioURI path = paths.get(i);
+        try {
+          setAttributePath(rpcContext, path, context);
+          results.set(i, PathResult.success(path, null));
+        } catch (AlluxioException | IOException e) {
+          results.set(i, PathResult.failure(path, AlluxioStatusException.fromCheckedException(e)));
+        }
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Sets the file attributes of a given path, journaling the update to the given rpc context.
+   *
+   * @param rpcContext the rpc context
+   * @param path the path to set attributes for
+   * @param context master operation context
+   */
+  private void setAttributePath(RpcContext rpcContext, AlluxioURI path,
+      SetAttributeContext context)
+      throws FileDoesNotExistException, AccessControlException, InvalidPathException, IOException {
     SetAttributePOptions.Builder options = context.getOptions();
     Metrics.SET_ATTRIBUTE_OPS.inc();
     // for chown
@@ -3017,8 +3513,7 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
     }
     LockingScheme lockingScheme =
         createLockingScheme(path, options.getCommonOptions(), LockPattern.WRITE_INODE);
-    try (RpcContext rpcContext = createRpcContext();
-         LockedInodePath inodePath = mInodeTree
+    try (LockedInodePath inodePath = mInodeTree
              .lockInodePath(lockingScheme.getPath(), lockingScheme.getPattern());
          FileSystemMasterAuditContext auditContext =
              createAuditContext(commandName, path, null, inodePath.getInodeOrNull())) {
@@ -3131,15 +3626,12 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
       return;
     }
 
-    Map<AlluxioURI, UfsStatus> statusCache;
     try (RpcContext rpcContext = createRpcContext()) {
-      statusCache = populateStatusCache(path, DescendantType.ALL);
       if (changedFiles == null) {
         LockingScheme lockingScheme = new LockingScheme(path, LockPattern.READ, true);
         try (LockedInodePath inodePath =
             mInodeTree.lockInodePath(lockingScheme.getPath(), lockingScheme.getPattern())) {
-          syncMetadataInternal(rpcContext, inodePath, lockingScheme, DescendantType.ALL,
-              statusCache);
+          syncMetadataInternal(rpcContext, inodePath, lockingScheme, DescendantType.ALL);
         }
         LOG.info("Ended an active full sync of {}", path.toString());
         return;
@@ -3150,8 +3642,7 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
             LockingScheme lockingScheme = new LockingScheme(path, LockPattern.READ, true);
             try (LockedInodePath changedFilePath =
                 mInodeTree.lockInodePath(changedFile, lockingScheme.getPattern())) {
-              syncMetadataInternal(rpcContext, changedFilePath, lockingScheme, DescendantType.NONE,
-                  statusCache);
+              syncMetadataInternal(rpcContext, changedFilePath, lockingScheme, DescendantType.NONE);
             } catch (InvalidPathException e) {
               LOG.info("forceSyncMetadata processed an invalid path {}", changedFile.getPath());
             }
@@ -3200,8 +3691,7 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
       return false;
     }
     try {
-      result = syncMetadataInternal(rpcContext, inodePath, lockingScheme,
-          syncDescendantType, populateStatusCache(inodePath.getUri(), syncDescendantType));
+      result = syncMetadataInternal(rpcContext, inodePath, lockingScheme, syncDescendantType);
     } catch (Exception e) {
       LOG.warn("Sync metadata for path {} encountered exception {}", inodePath.getUri(),
           Throwables.getStackTraceAsString(e));
@@ -3210,36 +3700,6 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
     return result;
   }
 
-  private Map<AlluxioURI, UfsStatus> populateStatusCache(AlluxioURI path,
-      DescendantType syncDescendantType) {
-    Map<AlluxioURI, UfsStatus> statusCache = new HashMap<>();
-    try {
-      MountTable.Resolution resolution = mMountTable.resolve(path);
-      AlluxioURI ufsUri = resolution.getUri();
-      try (CloseableResource<UnderFileSystem> ufsResource = resolution.acquireUfsResource()) {
-        UnderFileSystem ufs = ufsResource.get();
-        ListOptions listOptions = ListOptions.defaults();
-        // statusCache stores uri to ufsstatus mapping that is used to construct fingerprint
-
-        listOptions.setRecursive(syncDescendantType == DescendantType.ALL);
-        try {
-          UfsStatus[] children = ufs.listStatus(ufsUri.toString(), listOptions);
-          if (children != null) {
-            for (UfsStatus childStatus : children) {
-              statusCache.put(path.joinUnsafe(childStatus.getName()),
-                  childStatus);
-            }
-          }
-        } catch (Exception e) {
-          LOG.debug("ListStatus failed as an preparation step for syncMetadata {}", path, e);
-        }
-        return statusCache;
-      }
-    } catch (InvalidPathException e) {
-      return statusCache;
-    }
-  }
-
   /**
    * Syncs the Alluxio metadata with UFS.
    *
@@ -3249,12 +3709,10 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
    * @param inodePath the Alluxio inode path to sync with UFS
    * @param lockingScheme the locking scheme used to lock the inode path
    * @param syncDescendantType how to sync descendants
-   * @param statusCache a cache provided to the sync method which stores the UfsStatus of files
    * @return true if the sync was performed successfully, false otherwise (including errors)
    */
   private boolean syncMetadataInternal(RpcContext rpcContext, LockedInodePath inodePath,
-      LockingScheme lockingScheme, DescendantType syncDescendantType,
-      Map<AlluxioURI, UfsStatus> statusCache)
+      LockingScheme lockingScheme, DescendantType syncDescendantType)
       throws IOException {
     Preconditions.checkState(inodePath.getLockPattern() == LockPattern.WRITE_EDGE);
 
@@ -3275,8 +3733,8 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
         // The requested path does not exist in Alluxio, so just load metadata.
         pathsToLoad.add(inodePath.getUri().getPath());
       } else {
-        SyncResult result =
-            syncInodeMetadata(rpcContext, inodePath, syncDescendantType, statusCache);
+        SyncResult result = syncInodeMetadata(rpcContext, inodePath, syncDescendantType,
+            Collections.emptyMap());
         if (result.getDeletedInode()) {
           // If the inode was deleted, then the inode path should reflect the delete.
           inodePath.removeLastInode();
@@ -3380,8 +3838,8 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
    * @param rpcContext the rpc context
    * @param inodePath the Alluxio inode path to sync with UFS
    * @param syncDescendantType how to sync descendants
-   * @param statusCache a pre-populated cache of ufs statuses that can be used to construct
-   *                    fingerprint
+   * @param statusCache the statuses from the listing of the parent directory, used to construct
+   *                    the fingerprint without another UFS call
    * @return the result of the sync, including if the inode was deleted, and if further load
    *         metadata is required
    */
@@ -3413,6 +3871,7 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
       return SyncResult.defaults();
     }
     persistingLock.get().close();
+    Metrics.METADATA_SYNC_PATHS.mark();
 
     MountTable.Resolution resolution = mMountTable.resolve(inodePath.getUri());
     AlluxioURI ufsUri = resolution.getUri();
@@ -3424,10 +3883,12 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
       if (cachedStatus == null) {
         // TODO(david): change the interface so that getFingerprint returns a parsed fingerprint
         ufsFingerprint = ufs.getFingerprint(ufsUri.toString());
+        Metrics.METADATA_SYNC_UFS_CALLS.mark();
         ufsFpParsed = Fingerprint.parse(ufsFingerprint);
       } else {
         Pair<AccessControlList, DefaultAccessControlList> aclPair
             = ufs.getAclPair(ufsUri.toString());
+        Metrics.METADATA_SYNC_UFS_CALLS.mark();
 
         if (aclPair == null || aclPair.getFirst() == null || !aclPair.getFirst().hasExtended()) {
           ufsFpParsed = Fingerprint.create(ufs.getUnderFSType(), cachedStatus);
@@ -3478,46 +3939,89 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
           inodeChildren.put(child.getName(), child);
         }
 
-        UfsStatus[] listStatus = ufs.listStatus(ufsUri.toString(),
-            ListOptions.defaults());
-        // Iterate over UFS listings and process UFS children.
-        if (listStatus != null) {
-          for (UfsStatus ufsChildStatus : listStatus) {
-            if (!inodeChildren.containsKey(ufsChildStatus.getName()) && !PathUtils
-                .isTemporaryFileName(ufsChildStatus.getName())) {
+        // The statuses of this listing are handed down to the children, so that each child can
+        // build its fingerprint without another listing of the UFS. The listing is streamed, and
+        // only the statuses of children which exist in Alluxio are kept.
+        Map<AlluxioURI, UfsStatus> childStatusCache = new HashMap<>();
+        try (UfsStatusIterator listStatus =
+            ufs.listStatusIterator(ufsUri.toString(), ListOptions.defaults())) {
+          Metrics.METADATA_SYNC_UFS_CALLS.mark();
+          // Iterate over UFS listings and process UFS children.
+          boolean loadChildren = false;
+          while (listStatus != null && listStatus.hasNext()) {
+            UfsStatus ufsChildStatus = listStatus.next();
+            if (inodeChildren.containsKey(ufsChildStatus.getName())) {
+              childStatusCache.put(inodePath.getUri().joinUnsafe(ufsChildStatus.getName()),
+                  ufsChildStatus);
+            } else if (!loadChildren && !PathUtils.isTemporaryFileName(ufsChildStatus.getName())) {
               // Ufs child exists, but Alluxio child does not. Must load metadata.
               AlluxioURI mountUri = new AlluxioURI(mMountTable.getMountPoint(inodePath.getUri()));
               pathsToLoad.add(mountUri.getPath());
-              break;
+              loadChildren = true;
             }
           }
         }
 
-        // Iterate over Alluxio children and process persisted children.
-        for (Map.Entry<String, Inode> inodeEntry : inodeChildren.entrySet()) {
-          if (!inodeEntry.getValue().isPersisted()) {
+        // Iterate over Alluxio children and process persisted children. Sibling subtrees are
+        // disjoint, so each one is locked and synced on its own thread when one is available.
+        DescendantType childDescendantType =
+            syncDescendantType == DescendantType.ALL ? DescendantType.ALL : DescendantType.NONE;
+        List<Future<Set<String>>> childSyncs = new ArrayList<>();
+        for (Inode child : inodeChildren.values()) {
+          if (!child.isPersisted()) {
             // Ignore non-persisted inodes.
             continue;
           }
-
-          // Technically we don't need to lock here since inodePath is already write-locked. We can
-          // improve this by implementing a way to traverse an inode path without locking.
-          try (LockedInodePath descendant = inodePath.lockDescendant(
-              inodePath.getUri().joinUnsafe(inodeEntry.getKey()), LockPattern.WRITE_EDGE)) {
-            // Recursively sync children
-            if (syncDescendantType != DescendantType.ALL) {
-              syncDescendantType = DescendantType.NONE;
+          childSyncs.add(mSyncMetadataExecutor.submit(() -> syncChildMetadata(rpcContext,
+              inodePath, child.getName(), childDescendantType, childStatusCache)));
+        }
+        // Wait for every child, even after a failure, so that no child still holds locks under
+        // this path once it is released.
+        Throwable failure = null;
+        for (Future<Set<String>> childSync : childSyncs) {
+          try {
+            pathsToLoad.addAll(Uninterruptibles.getUninterruptibly(childSync));
+          } catch (ExecutionException e) {
+            if (failure == null) {
+              failure = e.getCause();
+            } else {
+              failure.addSuppressed(e.getCause());
             }
-            SyncResult syncResult =
-                syncInodeMetadata(rpcContext, descendant, syncDescendantType, statusCache);
-            pathsToLoad.addAll(syncResult.getPathsToLoad());
           }
         }
+        if (failure != null) {
+          Throwables.propagateIfPossible(failure, FileDoesNotExistException.class,
+              InvalidPathException.class);
+          Throwables.propagateIfPossible(failure, IOException.class, AccessControlException.class);
+          throw new RuntimeException(failure);
+        }
       }
     }
     return new SyncResult(deletedInode, pathsToLoad);
   }
 
+  /**
+   * Locks a child of a write-locked directory and syncs it with the UFS.
+   *
+   * @param rpcContext the rpc context
+   * @param inodePath the locked path of the parent directory
+   * @param childName the name of the child to sync
+   * @param syncDescendantType how to sync the descendants of the child
+   * @param statusCache the statuses from the listing of the parent directory
+   * @return the paths that need to be loaded from the UFS
+   */
+  private Set<String> syncChildMetadata(RpcContext rpcContext, LockedInodePath inodePath,
+      String childName, DescendantType syncDescendantType, Map<AlluxioURI, UfsStatus> statusCache)
+      throws FileDoesNotExistException, InvalidPathException, IOException, AccessControlException {
+    // Technically we don't need to lock here since inodePath is already write-locked. We can
+    // improve this by implementing a way to traverse an inode path without locking.
+    try (LockedInodePath descendant = inodePath.lockDescendant(
+        inodePath.getUri().joinUnsafe(childName), LockPattern.WRITE_EDGE)) {
+      return syncInodeMetadata(rpcContext, descendant, syncDescendantType, statusCache)
+          .getPathsToLoad();
+    }
+  }
+
   @Override
   public FileSystemCommand workerHeartbeat(long workerId, List<Long> persistedFiles,
       WorkerHeartbeatContext context) throws IOException {
@@ -4348,6 +4852,14 @@ public final class DefaultFileSystemMaster extends CoreMaster implements FileSys
         = MetricsSystem.counter(MasterMetrics.PATHS_RENAMED);
     private static final Counter PATHS_UNMOUNTED
         = MetricsSystem.counter(MasterMetrics.PATHS_UNMOUNTED);
+    private static final Meter METADATA_SYNC_PATHS
+        = MetricsSystem.meter(MasterMetrics.METADATA_SYNC_PATHS);
+    private static final Meter METADATA_SYNC_UFS_CALLS
+        = MetricsSystem.meter(MasterMetrics.METADATA_SYNC_UFS_CALLS);
+    private static final Counter OPTIMISTIC_READS
+        = MetricsSystem.counter(MasterMetrics.OPTIMISTIC_READS);
+    private static final Counter OPTIMISTIC_READ_FALLBACKS
+        = MetricsSystem.counter(MasterMetrics.OPTIMISTIC_READ_FALLBACKS);
 
     // TODO(peis): Increment the RPCs OPs at the place where we receive the RPCs.
     private static final Counter COMPLETE_FILE_OPS
@@ -33,6 +33,7 @@ import alluxio.master.file.contexts.CreateDirectoryContext;
 import alluxio.master.file.contexts.CreateFileContext;
 import alluxio.master.file.contexts.DeleteContext;
 import alluxio.master.file.contexts.FreeContext;
+import alluxio.master.file.contexts.GetContentSummaryContext;
 import alluxio.master.file.contexts.GetStatusContext;
 import alluxio.master.file.contexts.ListStatusContext;
 import alluxio.master.file.contexts.MountContext;
@@ -46,10 +47,12 @@ import alluxio.master.file.meta.PersistenceState;
 import alluxio.metrics.TimeSeries;
 import alluxio.security.authorization.AclEntry;
 import alluxio.underfs.UfsMode;
+import alluxio.wire.ContentSummary;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.FileInfo;
 import alluxio.wire.FileSystemCommand;
 import alluxio.wire.MountPointInfo;
+import alluxio.wire.PathResult;
 import alluxio.wire.SyncPointInfo;
 import alluxio.wire.UfsInfo;
 import alluxio.wire.WorkerInfo;
@@ -111,6 +114,35 @@ public interface FileSystemMaster extends Master {
       throws FileDoesNotExistException, InvalidPathException, AccessControlException,
       UnavailableException, IOException;
 
+  /**
+   * Returns the {@link FileInfo} for each of the given paths. Paths are processed in sorted order
+   * so that siblings share the locks on their common parent. A path that fails does not fail the
+   * others.
+   *
+   * @param paths the paths to get the {@link FileInfo} for
+   * @param context the method context, applied to every path
+   * @return one result per path, in the order of the given paths
+   */
+  List<PathResult<FileInfo>> getFileInfoBatch(List<AlluxioURI> paths, GetStatusContext context);
+
+  /**
+   * Returns the total length, file count and directory count of a file or of the subtree of a
+   * directory. If the directory totals are maintained and the bytes cached in Alluxio are not
+   * requested, the summary is answered without walking the subtree.
+   *
+   * This operation requires users to have READ permission on the path.
+   *
+   * @param path the path to summarize
+   * @param context the method context
+   * @return the content summary of the path
+   * @throws FileDoesNotExistException if the file does not exist
+   * @throws InvalidPathException if the file path is not valid
+   * @throws AccessControlException if permission checking fails
+   */
+  ContentSummary getContentSummary(AlluxioURI path, GetContentSummaryContext context)
+      throws FileDoesNotExistException, InvalidPathException, AccessControlException,
+      UnavailableException, IOException;
+
   /**
    * Returns the persistence state for a file id.
    *
@@ -140,6 +172,30 @@ public interface FileSystemMaster extends Master {
       throws AccessControlException, FileDoesNotExistException, InvalidPathException,
       UnavailableException, IOException;
 
+  /**
+   * Enumerates the {@link FileInfo}s for a given path to the given result stream, in the same
+   * order that {@link #listStatus(AlluxioURI, ListStatusContext)} would return them. Entries are
+   * produced lazily while the path is locked, so the full listing is never held in memory.
+   * <p>
+   * Non-recursive listings of a directory may be paginated with the startAfter and batchSize
+   * options, in which case children are listed in name order and
+   * {@link ListStatusContext#getContinuationToken()} is set if more children remain.
+   * <p>
+   * This operation requires users to have READ permission on the path, and also
+   * EXECUTE permission on the path if it is a directory.
+   *
+   * @param path the path to get the {@link FileInfo}s for
+   * @param context the method context
+   * @param resultStream the stream to receive the results
+   * @throws AccessControlException if permission checking fails
+   * @throws FileDoesNotExistException if the file does not exist
+   * @throws InvalidPathException if the path is invalid
+   */
+  void listStatus(AlluxioURI path, ListStatusContext context,
+      ResultStream<FileInfo> resultStream)
+      throws AccessControlException, FileDoesNotExistException, InvalidPathException,
+      UnavailableException, IOException;
+
   /**
    * @return a read-only view of the file system master
    */
@@ -250,6 +306,18 @@ public interface FileSystemMaster extends Master {
       throws IOException, FileDoesNotExistException, DirectoryNotEmptyException,
       InvalidPathException, AccessControlException;
 
+  /**
+   * Deletes each of the given paths. Descendants are deleted before their ancestors, and the
+   * journal entries of the whole batch are flushed once. A path that fails does not fail the
+   * others.
+   *
+   * @param paths the paths to delete
+   * @param context method context, applied to every path
+   * @return one result per path, in the order of the given paths
+   */
+  List<PathResult<Void>> deleteBatch(List<AlluxioURI> paths, DeleteContext context)
+      throws UnavailableException;
+
   /**
    * Gets the {@link FileBlockInfo} for all blocks of a file. If path is a directory, an exception
    * is thrown.
@@ -449,6 +517,17 @@ public interface FileSystemMaster extends Master {
       throws FileDoesNotExistException, AccessControlException, InvalidPathException,
       IOException;
 
+  /**
+   * Sets the same file attributes on each of the given paths. The journal entries of the whole
+   * batch are flushed once. A path that fails does not fail the others.
+   *
+   * @param paths the paths to set attributes for
+   * @param context master operation context, applied to every path
+   * @return one result per path, in the order of the given paths
+   */
+  List<PathResult<Void>> setAttributeBatch(List<AlluxioURI> paths, SetAttributeContext context)
+      throws UnavailableException;
+
   /**
    * Schedules a file for async persistence.
    *
@@ -15,6 +15,8 @@ import alluxio.AlluxioURI;
 import alluxio.RpcUtils;
 import alluxio.conf.PropertyKey;
 import alluxio.conf.ServerConfiguration;
+import alluxio.exception.status.InvalidArgumentException;
+import alluxio.grpc.BatchPathResult;
 import alluxio.grpc.CheckConsistencyPOptions;
 import alluxio.grpc.CheckConsistencyPRequest;
 import alluxio.grpc.CheckConsistencyPResponse;
@@ -27,6 +29,8 @@ import alluxio.grpc.CreateDirectoryPResponse;
 import alluxio.grpc.CreateFilePOptions;
 import alluxio.grpc.CreateFilePRequest;
 import alluxio.grpc.CreateFilePResponse;
+import alluxio.grpc.DeleteBatchPRequest;
+import alluxio.grpc.DeleteBatchPResponse;
 import alluxio.grpc.DeletePOptions;
 import alluxio.grpc.DeletePRequest;
 import alluxio.grpc.DeletePResponse;
@@ -34,6 +38,9 @@ import alluxio.grpc.FileSystemMasterClientServiceGrpc;
 import alluxio.grpc.FreePOptions;
 import alluxio.grpc.FreePRequest;
 import alluxio.grpc.FreePResponse;
+import alluxio.grpc.GetContentSummaryPOptions;
+import alluxio.grpc.GetContentSummaryPRequest;
+import alluxio.grpc.GetContentSummaryPResponse;
 import alluxio.grpc.GetFilePathPRequest;
 import alluxio.grpc.GetFilePathPResponse;
 import alluxio.grpc.GetMountTablePRequest;
@@ -41,11 +48,14 @@ import alluxio.grpc.GetMountTablePResponse;
 import alluxio.grpc.GetNewBlockIdForFilePOptions;
 import alluxio.grpc.GetNewBlockIdForFilePRequest;
 import alluxio.grpc.GetNewBlockIdForFilePResponse;
+import alluxio.grpc.GetStatusBatchPRequest;
+import alluxio.grpc.GetStatusBatchPResponse;
 import alluxio.grpc.GetStatusPOptions;
 import alluxio.grpc.GetStatusPRequest;
 import alluxio.grpc.GetStatusPResponse;
 import alluxio.grpc.GetSyncPathListPRequest;
 import alluxio.grpc.GetSyncPathListPResponse;
+import alluxio.grpc.ListStatusPOptions;
 import alluxio.grpc.ListStatusPRequest;
 import alluxio.grpc.ListStatusPResponse;
 import alluxio.grpc.MountPOptions;
@@ -61,6 +71,8 @@ import alluxio.grpc.ScheduleAsyncPersistencePResponse;
 import alluxio.grpc.SetAclPOptions;
 import alluxio.grpc.SetAclPRequest;
 import alluxio.grpc.SetAclPResponse;
+import alluxio.grpc.SetAttributeBatchPRequest;
+import alluxio.grpc.SetAttributeBatchPResponse;
 import alluxio.grpc.SetAttributePOptions;
 import alluxio.grpc.SetAttributePRequest;
 import alluxio.grpc.SetAttributePResponse;
@@ -82,6 +94,7 @@ import alluxio.master.file.contexts.CreateDirectoryContext;
 import alluxio.master.file.contexts.CreateFileContext;
 import alluxio.master.file.contexts.DeleteContext;
 import alluxio.master.file.contexts.FreeContext;
+import alluxio.master.file.contexts.GetContentSummaryContext;
 import alluxio.master.file.contexts.GetStatusContext;
 import alluxio.master.file.contexts.ListStatusContext;
 import alluxio.master.file.contexts.MountContext;
@@ -92,16 +105,17 @@ import alluxio.master.file.contexts.SetAttributeContext;
 import alluxio.underfs.UfsMode;
 import alluxio.grpc.GrpcUtils;
 import alluxio.wire.MountPointInfo;
+import alluxio.wire.PathResult;
 import alluxio.grpc.SetAclAction;
 import alluxio.wire.SyncPointInfo;
 
 import com.google.common.base.Preconditions;
-import com.google.common.util.concurrent.SettableFuture;
 import io.grpc.StatusException;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -214,6 +228,20 @@ public final class FileSystemMasterClientServiceHandler
         "GetFilePath", true, "id=%s", responseObserver, fileId);
   }
 
+  @Override
+  public void getContentSummary(GetContentSummaryPRequest request,
+      StreamObserver<GetContentSummaryPResponse> responseObserver) {
+    String path = request.getPath();
+    GetContentSummaryPOptions options = request.getOptions();
+    RpcUtils.call(LOG,
+        (RpcUtils.RpcCallableThrowsIOException<GetContentSummaryPResponse>) () ->
+            GetContentSummaryPResponse.newBuilder()
+                .setSummary(GrpcUtils.toProto(mFileSystemMaster.getContentSummary(
+                    new AlluxioURI(path), GetContentSummaryContext.create(options.toBuilder()))))
+                .build(),
+        "GetContentSummary", "path=%s, options=%s", responseObserver, path, options);
+  }
+
   @Override
   public void getStatus(GetStatusPRequest request,
       StreamObserver<GetStatusPResponse> responseObserver) {
@@ -228,71 +256,49 @@ public final class FileSystemMasterClientServiceHandler
         "GetStatus", true, "path=%s, options=%s", responseObserver, path, options);
   }
 
+  @Override
+  public void getStatusBatch(GetStatusBatchPRequest request,
+      StreamObserver<GetStatusBatchPResponse> responseObserver) {
+    List<String> paths = request.getPathsList();
+    GetStatusPOptions options = request.getOptions();
+    RpcUtils.call(LOG, (RpcUtils.RpcCallableThrowsIOException<GetStatusBatchPResponse>) () ->
+        GetStatusBatchPResponse.newBuilder()
+            .addAllResults(toProto(mFileSystemMaster.getFileInfoBatch(toUris(paths),
+                GetStatusContext.create(options.toBuilder()))))
+            .build(),
+        "GetStatusBatch", true, "numPaths=%s, options=%s", responseObserver, paths.size(), options);
+  }
+
   @Override
   public void listStatus(ListStatusPRequest request,
       StreamObserver<ListStatusPResponse> responseObserver) {
-
-    // Receive {@link alluxio.wire.FileInfo} items from master.
-    List<alluxio.wire.FileInfo> fileInfoList;
+    // Results are sent to the client in chunks as the master produces them, so the full listing
+    // never needs to be held in memory.
+    ListStatusResultStream resultStream = new ListStatusResultStream(
+        ServerConfiguration.getInt(PropertyKey.MASTER_FILE_SYSTEM_LISTSTATUS_RESULTS_PER_MESSAGE),
+        ServerConfiguration.getMs(PropertyKey.MASTER_FILE_SYSTEM_LISTSTATUS_STREAM_TIMEOUT),
+        responseObserver);
+    ListStatusContext context = ListStatusContext.create(request.getOptions().toBuilder());
     try {
-      fileInfoList = RpcUtils.callAndReturn(LOG,
-          () -> mFileSystemMaster.listStatus(new AlluxioURI(request.getPath()),
-              ListStatusContext.create(request.getOptions().toBuilder())),
-          "ListStatus", false, "request: %s", request);
+      RpcUtils.callAndReturn(LOG, () -> {
+        ListStatusPOptions.Builder options = context.getOptions();
+        if (options.getRecursive()
+            && (!options.getStartAfter().isEmpty() || options.getBatchSize() > 0)) {
+          throw new InvalidArgumentException("Recursive listings cannot be paginated");
+        }
+        try {
+          mFileSystemMaster.listStatus(new AlluxioURI(request.getPath()), context, resultStream);
+        } catch (UncheckedIOException e) {
+          // The result stream fails this way when the client cancels the call or stops reading.
+          throw e.getCause();
+        }
+        return null;
+      }, "ListStatus", false, "request: %s", request);
     } catch (StatusException se) {
-      responseObserver.onError(se);
+      resultStream.fail(se);
       return;
     }
-
-    // Stream results back in chunks.
-    final int resultMessageLength = ServerConfiguration.getInt(
-        PropertyKey.MASTER_FILE_SYSTEM_LISTSTATUS_RESULTS_PER_MESSAGE);
-
-    // Abort condition for message streaming.
-    SettableFuture<Void> abortCondition = SettableFuture.create();
-    // Current position in the master fileInfo list.
-    int currentIdx = 0;
-    do {
-      // Abort the packet if cancellation was signaled in previous message.
-      if (abortCondition.isCancelled()) {
-        break;
-      }
-
-      // How many remaining items to stream.
-      int remainingItemCount = fileInfoList.size() - currentIdx;
-      // Start index in the master fileInfo list for the next packet.
-      int messageStartIdx = currentIdx;
-      // How many results to stream in this round.
-      int messageItemCount = Math.min(resultMessageLength, remainingItemCount);
-      // Whether this is the last message.
-      boolean isLastPacket = (remainingItemCount == messageItemCount);
-
-      String packetDescription =
-          String.format("ListStatus message. Item count: %s, Remaining item count: %s",
-              messageItemCount, remainingItemCount);
-
-      // Stream back the next packet.
-      RpcUtils.streamingRPCAndLog(LOG, new RpcUtils.StreamingRpcCallable<ListStatusPResponse>() {
-        @Override
-        public ListStatusPResponse call() throws Exception {
-          return ListStatusPResponse.newBuilder()
-              .addAllFileInfos(
-                  fileInfoList.subList(messageStartIdx, messageStartIdx + messageItemCount).stream()
-                      .map(GrpcUtils::toProto).collect(Collectors.toList()))
-              .build();
-        }
-
-        @Override
-        public void exceptionCaught(Throwable throwable) {
-          responseObserver.onError(throwable);
-          // Notify the abort condition for bailing out after this message.
-          abortCondition.cancel(false);
-        }
-      }, "ListStatus", true, isLastPacket, responseObserver, packetDescription);
-
-      // Update current index to fileInfo master list.
-      currentIdx += messageItemCount;
-    } while (currentIdx < fileInfoList.size());
+    resultStream.complete(context.getContinuationToken());
   }
 
   @Override
@@ -355,6 +361,19 @@ public final class FileSystemMasterClientServiceHandler
     }, "Remove", "path=%s, options=%s", responseObserver, path, options);
   }
 
+  @Override
+  public void removeBatch(DeleteBatchPRequest request,
+      StreamObserver<DeleteBatchPResponse> responseObserver) {
+    List<String> paths = request.getPathsList();
+    DeletePOptions options = request.getOptions();
+    RpcUtils.call(LOG, (RpcUtils.RpcCallableThrowsIOException<DeleteBatchPResponse>) () ->
+        DeleteBatchPResponse.newBuilder()
+            .addAllResults(toProto(mFileSystemMaster.deleteBatch(toUris(paths),
+                DeleteContext.create(options.toBuilder()))))
+            .build(),
+        "RemoveBatch", "numPaths=%s, options=%s", responseObserver, paths.size(), options);
+  }
+
   @Override
   public void rename(RenamePRequest request, StreamObserver<RenamePResponse> responseObserver) {
     String srcPath = request.getPath();
@@ -392,6 +411,19 @@ public final class FileSystemMasterClientServiceHandler
     }, "SetAttribute", "path=%s, options=%s", responseObserver, path, options);
   }
 
+  @Override
+  public void setAttributeBatch(SetAttributeBatchPRequest request,
+      StreamObserver<SetAttributeBatchPResponse> responseObserver) {
+    List<String> paths = request.getPathsList();
+    SetAttributePOptions options = request.getOptions();
+    RpcUtils.call(LOG, (RpcUtils.RpcCallableThrowsIOException<SetAttributeBatchPResponse>) () ->
+        SetAttributeBatchPResponse.newBuilder()
+            .addAllResults(toProto(mFileSystemMaster.setAttributeBatch(toUris(paths),
+                SetAttributeContext.create(options.toBuilder()))))
+            .build(),
+        "SetAttributeBatch", "numPaths=%s, options=%s", responseObserver, paths.size(), options);
+  }
+
   @Override
   public void startSync(StartSyncPRequest request,
       StreamObserver<StartSyncPResponse> responseObserver) {
@@ -460,4 +492,20 @@ public final class FileSystemMasterClientServiceHandler
     }, "setAcl", "alluxioPath=%s, setAclAction=%s, aclEntries=%s, options=%s", responseObserver,
         alluxioPath, aclAction.name(), aclList, options);
   }
+
+  /**
+   * @param paths the paths of a batch request
+   * @return the paths as {@link AlluxioURI}s
+   */
+  private static List<AlluxioURI> toUris(List<String> paths) {
+    return paths.stream().map(AlluxioURI::new).collect(Collectors.toList());
+  }
+
+  /**
+   * @param results the results of a batch operation
+   * @return the results in their proto representation
+   */
+  private static List<BatchPathResult> toProto(List<? extends PathResult<?>> results) {
+    return results.stream().map(GrpcUtils::toProto).collect(Collectors.toList());
+  }
 }
@@ -13,7 +13,10 @@ package alluxio.master.file;
 
 import alluxio.AlluxioURI;
 import alluxio.Constants;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.exception.FileDoesNotExistException;
+import alluxio.exception.status.NotFoundException;
 import alluxio.grpc.DeletePOptions;
 import alluxio.grpc.FreePOptions;
 import alluxio.heartbeat.HeartbeatExecutor;
@@ -23,22 +26,34 @@ import alluxio.master.file.meta.InodeTree.LockPattern;
 import alluxio.master.file.meta.LockedInodePath;
 import alluxio.master.file.meta.Inode;
 import alluxio.master.file.meta.TtlBucket;
-import alluxio.master.file.meta.TtlBucketList;
+import alluxio.master.file.meta.TtlTimingWheel;
 import alluxio.master.file.contexts.DeleteContext;
 import alluxio.master.file.contexts.FreeContext;
 import alluxio.master.journal.JournalContext;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
 import alluxio.proto.journal.File.UpdateInodeEntry;
 import alluxio.grpc.TtlAction;
+import alluxio.wire.PathResult;
 
+import com.google.common.util.concurrent.RateLimiter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
  * This class represents the executor for periodic inode ttl check.
+ *
+ * Expired inodes are processed in chunks of at most
+ * {@link PropertyKey#MASTER_TTL_CHECKER_BATCH_SIZE} inodes, and the journal entries of each chunk
+ * are flushed together. The rate is capped by
+ * {@link PropertyKey#MASTER_TTL_CHECKER_MAX_OPS_PER_SEC}, and inodes which cannot be processed
+ * within one check interval are left for the next check.
  */
 @NotThreadSafe
 final class InodeTtlChecker implements HeartbeatExecutor {
@@ -46,7 +61,11 @@ final class InodeTtlChecker implements HeartbeatExecutor {
 
   private final FileSystemMaster mFileSystemMaster;
   private final InodeTree mInodeTree;
-  private final TtlBucketList mTtlBuckets;
+  private final TtlTimingWheel mTtlWheel;
+  private final int mBatchSize;
+  /** Limits the number of expired inodes processed per second, or null if there is no limit. */
+  @Nullable
+  private final RateLimiter mRateLimiter;
 
   /**
    * Constructs a new {@link InodeTtlChecker}.
@@ -54,70 +73,112 @@ final class InodeTtlChecker implements HeartbeatExecutor {
   public InodeTtlChecker(FileSystemMaster fileSystemMaster, InodeTree inodeTree) {
     mFileSystemMaster = fileSystemMaster;
     mInodeTree = inodeTree;
-    mTtlBuckets = inodeTree.getTtlBuckets();
+    mTtlWheel = inodeTree.getTtlWheel();
+    mBatchSize = Math.max(ServerConfiguration.getInt(PropertyKey.MASTER_TTL_CHECKER_BATCH_SIZE), 1);
+    int maxOpsPerSec = ServerConfiguration.getInt(PropertyKey.MASTER_TTL_CHECKER_MAX_OPS_PER_SEC);
+    mRateLimiter = maxOpsPerSec > 0 ? RateLimiter.create(maxOpsPerSec) : null;
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMetricName(MasterMetrics.TTL_BACKLOG), mTtlWheel::getBacklogCount);
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMetricName(MasterMetrics.TTL_SCHEDULED), mTtlWheel::getScheduledCount);
   }
 
   @Override
   public void heartbeat() {
-    Set<TtlBucket> expiredBuckets = mTtlBuckets.getExpiredBuckets(System.currentTimeMillis());
-    for (TtlBucket bucket : expiredBuckets) {
-      for (Inode inode : bucket.getInodes()) {
-        AlluxioURI path = null;
-        try (LockedInodePath inodePath =
-            mInodeTree.lockFullInodePath(inode.getId(), LockPattern.READ)) {
-          path = inodePath.getUri();
-        } catch (FileDoesNotExistException e) {
-          // The inode has already been deleted, nothing needs to be done.
-          continue;
-        } catch (Exception e) {
-          LOG.error("Exception trying to clean up {} for ttl check: {}", inode.toString(),
-              e.toString());
-        }
-        if (path != null) {
+    long startMs = System.currentTimeMillis();
+    mTtlWheel.advance(startMs);
+    // Stop at the next check, whatever is left over is processed then.
+    long intervalMs = TtlBucket.getTtlIntervalMs();
+    while (mTtlWheel.getBacklogCount() > 0
+        && (intervalMs == 0 || System.currentTimeMillis() - startMs < intervalMs)) {
+      List<Inode> expired = mTtlWheel.pollExpired(mBatchSize);
+      if (expired.isEmpty()) {
+        continue;
+      }
+      if (mRateLimiter != null) {
+        mRateLimiter.acquire(expired.size());
+      }
+      processExpired(expired);
+    }
+  }
+
+  /**
+   * Deletes or frees a chunk of expired inodes, depending on their ttl action.
+   *
+   * @param expired the expired inodes
+   */
+  private void processExpired(List<Inode> expired) {
+    List<AlluxioURI> deletePaths = new ArrayList<>();
+    List<Inode> freed = new ArrayList<>();
+    for (Inode inode : expired) {
+      AlluxioURI path;
+      try (LockedInodePath inodePath =
+          mInodeTree.lockFullInodePath(inode.getId(), LockPattern.READ)) {
+        path = inodePath.getUri();
+      } catch (FileDoesNotExistException e) {
+        // The inode has already been deleted, nothing needs to be done.
+        continue;
+      } catch (Exception e) {
+        LOG.error("Exception trying to clean up {} for ttl check: {}", inode.toString(),
+            e.toString());
+        continue;
+      }
+      TtlAction ttlAction = inode.getTtlAction();
+      LOG.info("Path {} TTL has expired, performing action {}", path.getPath(), ttlAction);
+      switch (ttlAction) {
+        case FREE:
           try {
-            TtlAction ttlAction = inode.getTtlAction();
-            LOG.info("Path {} TTL has expired, performing action {}", path.getPath(), ttlAction);
-            switch (ttlAction) {
-              case FREE:
-                // public free method will lock the path, and check WRITE permission required at
-                // parent of file
-                if (inode.isDirectory()) {
-                  mFileSystemMaster.free(path, FreeContext
-                      .mergeFrom(FreePOptions.newBuilder().setForced(true).setRecursive(true)));
-                } else {
-                  mFileSystemMaster.free(path,
-                      FreeContext.mergeFrom(FreePOptions.newBuilder().setForced(true)));
-                }
-                try (JournalContext journalContext = mFileSystemMaster.createJournalContext()) {
-                  // Reset state
-                  mInodeTree.updateInode(journalContext, UpdateInodeEntry.newBuilder()
-                      .setId(inode.getId())
-                      .setTtl(Constants.NO_TTL)
-                      .setTtlAction(ProtobufUtils.toProtobuf(TtlAction.DELETE))
-                      .build());
-                }
-                mTtlBuckets.remove(inode);
-                break;
-              case DELETE:// Default if not set is DELETE
-                // public delete method will lock the path, and check WRITE permission required at
-                // parent of file
-                if (inode.isDirectory()) {
-                  mFileSystemMaster.delete(path,
-                      DeleteContext.mergeFrom(DeletePOptions.newBuilder().setRecursive(true)));
-                } else {
-                  mFileSystemMaster.delete(path, DeleteContext.defaults());
-                }
-                break;
-              default:
-                LOG.error("Unknown ttl action {}", ttlAction);
+            // public free method will lock the path, and check WRITE permission required at
+            // parent of file
+            if (inode.isDirectory()) {
+              mFileSystemMaster.free(path, FreeContext
+                  .mergeFrom(FreePOptions.newBuilder().setForced(true).setRecursive(true)));
+            } else {
+              mFileSystemMaster.free(path,
+                  FreeContext.mergeFrom(FreePOptions.newBuilder().setForced(true)));
             }
+            freed.add(inode);
           } catch (Exception e) {
             LOG.error("Exception trying to clean up {} for ttl check", inode.toString(), e);
           }
+          break;
+        case DELETE:// Default if not set is DELETE
+          deletePaths.add(path);
+          break;
+        default:
+          LOG.error("Unknown ttl action {}", ttlAction);
+      }
+    }
+    if (!freed.isEmpty()) {
+      // Reset state of all freed inodes with a single journal flush.
+      try (JournalContext journalContext = mFileSystemMaster.createJournalContext()) {
+        for (Inode inode : freed) {
+          mInodeTree.updateInode(journalContext, UpdateInodeEntry.newBuilder()
+              .setId(inode.getId())
+              .setTtl(Constants.NO_TTL)
+              .setTtlAction(ProtobufUtils.toProtobuf(TtlAction.DELETE))
+              .build());
+        }
+      } catch (Exception e) {
+        LOG.error("Exception trying to reset the ttl of {} freed inodes", freed.size(), e);
+      }
+    }
+    if (!deletePaths.isEmpty()) {
+      // public delete method will lock the path, and check WRITE permission required at
+      // parent of file. Directories are deleted recursively.
+      try {
+        for (PathResult<Void> result : mFileSystemMaster.deleteBatch(deletePaths,
+            DeleteContext.mergeFrom(DeletePOptions.newBuilder().setRecursive(true)))) {
+          // The path may have been deleted concurrently, nothing needs to be done then.
+          if (!result.isSuccess() && !(result.getError() instanceof NotFoundException)) {
+            LOG.error("Exception trying to clean up {} for ttl check", result.getPath(),
+                result.getError());
+          }
         }
+      } catch (Exception e) {
+        LOG.error("Exception trying to clean up {} paths for ttl check", deletePaths.size(), e);
       }
     }
-    mTtlBuckets.removeBuckets(expiredBuckets);
   }
 
   @Override
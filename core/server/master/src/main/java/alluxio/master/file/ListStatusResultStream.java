@@ -0,0 +1,190 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.exception.status.CancelledException;
+import alluxio.exception.status.DeadlineExceededException;
+import alluxio.grpc.GrpcUtils;
+import alluxio.grpc.ListStatusPResponse;
+import alluxio.resource.LockResource;
+import alluxio.wire.FileInfo;
+
+import com.google.common.base.Preconditions;
+import io.grpc.Context;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link ResultStream} which sends listStatus results to a gRPC response observer as they are
+ * produced, grouping them into messages of a fixed number of entries.
+ *
+ * When the observer is a {@link ServerCallStreamObserver}, sending waits until the call is ready
+ * for more messages, so a slow client pauses the listing instead of having its results buffered
+ * in the master. The caller holds inode locks while submitting, so the wait is bounded:
+ * submitting fails with a {@link DeadlineExceededException} if the client does not accept the
+ * message within the stream timeout, and with a {@link CancelledException} if the call is
+ * cancelled while waiting (both wrapped in an {@link UncheckedIOException}).
+ */
+@NotThreadSafe
+public final class ListStatusResultStream implements ResultStream<FileInfo> {
+  private static final Logger LOG = LoggerFactory.getLogger(ListStatusResultStream.class);
+  /** How often to check whether the call is ready while waiting to send a message. */
+  private static final long READY_POLL_INTERVAL_MS = 10;
+
+  private final int mBatchSize;
+  private final long mTimeoutMs;
+  private final StreamObserver<ListStatusPResponse> mClientObserver;
+  /** The observer as a server call observer, or null if it has no flow control. */
+  @Nullable
+  private final ServerCallStreamObserver<ListStatusPResponse> mServerObserver;
+  private final Context mContext;
+  private final Lock mReadyLock = new ReentrantLock();
+  private final Condition mReady = mReadyLock.newCondition();
+
+  private List<alluxio.grpc.FileInfo> mInfoBatch;
+  private boolean mSentBatch = false;
+  private boolean mCompleted = false;
+
+  /**
+   * @param batchSize the number of entries to send in each message
+   * @param timeoutMs the maximum time to wait for the client to accept a message
+   * @param clientObserver the client's response observer
+   */
+  public ListStatusResultStream(int batchSize, long timeoutMs,
+      StreamObserver<ListStatusPResponse> clientObserver) {
+    Preconditions.checkArgument(batchSize > 0, "batchSize must be positive");
+    Preconditions.checkArgument(timeoutMs > 0, "timeoutMs must be positive");
+    mBatchSize = batchSize;
+    mTimeoutMs = timeoutMs;
+    mClientObserver = clientObserver;
+    mInfoBatch = new ArrayList<>(batchSize);
+    mContext = Context.current();
+    if (clientObserver instanceof ServerCallStreamObserver) {
+      mServerObserver = (ServerCallStreamObserver<ListStatusPResponse>) clientObserver;
+      mServerObserver.setOnReadyHandler(() -> {
+        try (LockResource lr = new LockResource(mReadyLock)) {
+          mReady.signalAll();
+        }
+      });
+    } else {
+      mServerObserver = null;
+    }
+  }
+
+  @Override
+  public void submit(FileInfo item) {
+    Preconditions.checkState(!mCompleted, "Cannot submit to a completed stream");
+    mInfoBatch.add(GrpcUtils.toProto(item));
+    if (mInfoBatch.size() >= mBatchSize) {
+      sendCurrentBatch();
+    }
+  }
+
+  /**
+   * Sends any remaining entries and completes the stream. Does nothing if the stream has already
+   * been completed or failed.
+   */
+  public void complete() {
+    complete(null);
+  }
+
+  /**
+   * Sends any remaining entries and completes the stream, attaching the given continuation token
+   * to the last message. Does nothing if the stream has already been completed or failed.
+   *
+   * @param continuationToken the continuation token of a paginated listing, or null
+   */
+  public void complete(@Nullable String continuationToken) {
+    if (mCompleted) {
+      return;
+    }
+    // Empty listings still get one (empty) message, and the token always goes in a final message.
+    if (!mInfoBatch.isEmpty() || !mSentBatch || continuationToken != null) {
+      ListStatusPResponse.Builder response =
+          ListStatusPResponse.newBuilder().addAllFileInfos(mInfoBatch);
+      if (continuationToken != null) {
+        response.setContinuationToken(continuationToken);
+      }
+      mClientObserver.onNext(response.build());
+    }
+    mCompleted = true;
+    mClientObserver.onCompleted();
+  }
+
+  /**
+   * Fails the stream with the given error. Entries which have not been sent yet are dropped.
+   *
+   * @param error the error
+   */
+  public void fail(Throwable error) {
+    if (mCompleted) {
+      LOG.debug("Ignoring error for completed listStatus stream", error);
+      return;
+    }
+    mCompleted = true;
+    mClientObserver.onError(error);
+  }
+
+  private void sendCurrentBatch() {
+    awaitReady();
+    mClientObserver.onNext(
+        ListStatusPResponse.newBuilder().addAllFileInfos(mInfoBatch).build());
+    mInfoBatch = new ArrayList<>(mBatchSize);
+    mSentBatch = true;
+  }
+
+  /**
+   * Waits until the call can take another message without buffering it, for at most the stream
+   * timeout.
+   *
+   * gRPC runs the ready handler on the call's serialized executor, which is busy running the
+   * listing when it is invoked from the call itself, so the readiness is also polled.
+   */
+  private void awaitReady() {
+    if (mServerObserver == null) {
+      return;
+    }
+    long deadlineNs = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(mTimeoutMs);
+    try (LockResource lr = new LockResource(mReadyLock)) {
+      while (!mServerObserver.isReady()) {
+        if (mServerObserver.isCancelled() || mContext.isCancelled()) {
+          throw new UncheckedIOException(
+              new CancelledException("listStatus call was cancelled by the client"));
+        }
+        long remainingNs = deadlineNs - System.nanoTime();
+        if (remainingNs <= 0) {
+          throw new UncheckedIOException(new DeadlineExceededException(String.format(
+              "Client did not accept listStatus results within %dms", mTimeoutMs)));
+        }
+        mReady.await(Math.min(remainingNs, TimeUnit.MILLISECONDS.toNanos(READY_POLL_INTERVAL_MS)),
+            TimeUnit.NANOSECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UncheckedIOException(
+          new CancelledException("Interrupted while waiting to send listStatus results", e));
+    }
+  }
+}
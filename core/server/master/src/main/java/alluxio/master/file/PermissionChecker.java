@@ -54,6 +54,14 @@ public interface PermissionChecker {
    */
   Mode.Bits getPermission(LockedInodePath inodePath);
 
+  /**
+   * Checks whether the client user is the superuser or in the supergroup. This check will pass if
+   * permission checking is disabled.
+   *
+   * @throws AccessControlException if the user is not the superuser or in the supergroup
+   */
+  void checkSuperUser() throws AccessControlException;
+
   /**
    * Checks whether a user has permission to edit the attribute of a given path.
    *
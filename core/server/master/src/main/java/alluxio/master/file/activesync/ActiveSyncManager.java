@@ -709,6 +709,12 @@ public class ActiveSyncManager implements Journaled {
     return CheckpointName.ACTIVE_SYNC_MANAGER;
   }
 
+  @Override
+  public boolean dependsOnPrecedingComponents() {
+    // Stopping existing sync points on reset resolves them through the mount table.
+    return true;
+  }
+
   @Override
   public Iterator<JournalEntry> getJournalEntryIterator() {
     return Iterators.concat(getSyncPathIterator(), getTxIdIterator());
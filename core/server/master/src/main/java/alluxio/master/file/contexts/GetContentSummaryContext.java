@@ -0,0 +1,72 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.contexts;
+
+import alluxio.conf.ServerConfiguration;
+import alluxio.grpc.GetContentSummaryPOptions;
+import alluxio.util.FileSystemOptions;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Used to merge and wrap {@link GetContentSummaryPOptions}.
+ */
+public class GetContentSummaryContext extends OperationContext<GetContentSummaryPOptions.Builder> {
+  /**
+   * Creates context with given option data.
+   *
+   * @param optionsBuilder options builder
+   */
+  private GetContentSummaryContext(GetContentSummaryPOptions.Builder optionsBuilder) {
+    super(optionsBuilder);
+  }
+
+  /**
+   * @param optionsBuilder Builder for proto {@link GetContentSummaryPOptions}
+   * @return the instance of {@link GetContentSummaryContext} with the given options
+   */
+  public static GetContentSummaryContext create(GetContentSummaryPOptions.Builder optionsBuilder) {
+    return new GetContentSummaryContext(optionsBuilder);
+  }
+
+  /**
+   * Merges and embeds the given {@link GetContentSummaryPOptions} with the corresponding master
+   * options.
+   *
+   * @param optionsBuilder Builder for proto {@link GetContentSummaryPOptions} to merge with
+   *        defaults
+   * @return the instance of {@link GetContentSummaryContext} with default values for master
+   */
+  public static GetContentSummaryContext mergeFrom(
+      GetContentSummaryPOptions.Builder optionsBuilder) {
+    GetContentSummaryPOptions masterOptions =
+        FileSystemOptions.getContentSummaryDefaults(ServerConfiguration.global());
+    GetContentSummaryPOptions.Builder mergedOptionsBuilder =
+        masterOptions.toBuilder().mergeFrom(optionsBuilder.build());
+    return create(mergedOptionsBuilder);
+  }
+
+  /**
+   * @return the instance of {@link GetContentSummaryContext} with default values for master
+   */
+  public static GetContentSummaryContext defaults() {
+    return create(
+        FileSystemOptions.getContentSummaryDefaults(ServerConfiguration.global()).toBuilder());
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("ProtoOptions", getOptions().build())
+        .toString();
+  }
+}
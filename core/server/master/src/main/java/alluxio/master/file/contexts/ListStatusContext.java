@@ -17,10 +17,13 @@ import alluxio.util.FileSystemOptions;
 
 import com.google.common.base.MoreObjects;
 
+import javax.annotation.Nullable;
+
 /**
  * Used to merge and wrap {@link ListStatusPOptions}.
  */
 public class ListStatusContext extends OperationContext<ListStatusPOptions.Builder> {
+  private String mContinuationToken;
 
   /**
    * Creates context with given option data.
@@ -60,10 +63,41 @@ public class ListStatusContext extends OperationContext<ListStatusPOptions.Build
     return create(FileSystemOptions.listStatusDefaults(ServerConfiguration.global()).toBuilder());
   }
 
+  /**
+   * @return whether the listing is paginated; only non-recursive listings can be paginated
+   */
+  public boolean isPaginated() {
+    ListStatusPOptions.Builder options = getOptions();
+    return !options.getRecursive()
+        && (!options.getStartAfter().isEmpty() || options.getBatchSize() > 0);
+  }
+
+  /**
+   * @return the name to pass as startAfter to list the next page, or null if the listing reached
+   *         the end of the directory
+   */
+  @Nullable
+  public String getContinuationToken() {
+    return mContinuationToken;
+  }
+
+  /**
+   * Sets the continuation token. This is set by the master when a paginated listing stops
+   * before the end of the directory.
+   *
+   * @param continuationToken the name of the last listed entry
+   * @return the updated context instance
+   */
+  public ListStatusContext setContinuationToken(@Nullable String continuationToken) {
+    mContinuationToken = continuationToken;
+    return this;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
         .add("ProtoOptions", getOptions().build())
+        .add("ContinuationToken", mContinuationToken)
         .toString();
   }
 }
@@ -168,6 +168,11 @@ public class CompositeInodeLockList implements InodeLockList {
     return mBaseLockList.getInodeLockManager();
   }
 
+  @Override
+  public boolean validate() {
+    return mBaseLockList.validate() && mSubLockList.validate();
+  }
+
   @Override
   public void close() {
     mSubLockList.close();
@@ -0,0 +1,426 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.master.journal.checkpoint.CheckpointInputStream;
+import alluxio.master.journal.checkpoint.CheckpointName;
+import alluxio.master.journal.checkpoint.CheckpointOutputStream;
+import alluxio.master.journal.checkpoint.CheckpointType;
+import alluxio.master.journal.checkpoint.Checkpointed;
+import alluxio.master.journal.checkpoint.LongsCheckpointFormat.LongsCheckpointReader;
+import alluxio.master.metastore.ReadOnlyInodeStore;
+import alluxio.wire.ContentSummary;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Keeps the total length, file count and directory count of the descendants of directories, so
+ * that the content summary of a directory does not require a walk of its subtree.
+ *
+ * The totals are derived from the inode tree. {@link InodeTreePersistentState} updates them
+ * whenever it applies a change to the tree, both during regular operation and during journal
+ * replay, and checkpoints them with the tree. Changes to independent inodes may be applied
+ * concurrently, so every total is updated atomically.
+ *
+ * At most a configured number of directories are tracked, so that the totals stay bounded in
+ * memory when the inodes themselves are kept off heap. The tracked directories always include
+ * the parent of every tracked directory other than the root. Changes below an untracked
+ * directory are added to its nearest tracked ancestor, which is found through the inode store,
+ * and the content summary of an untracked directory is left to a walk of its subtree.
+ */
+@ThreadSafe
+public final class DirectoryAggregates implements Checkpointed {
+  /** The number of longs checkpointed for each directory. */
+  private static final int CHECKPOINT_RECORD_LENGTH = 5;
+
+  private final boolean mEnabled;
+  private final long mMaxDirectories;
+  private final ReadOnlyInodeStore mInodeStore;
+  /** Maps the id of every tracked directory to the totals of its descendants. */
+  private final Map<Long, Aggregate> mAggregates = new ConcurrentHashMap<>();
+  /** Whether the aggregates were restored by the last checkpoint restore. */
+  private volatile boolean mRestored;
+
+  /**
+   * @param enabled whether to maintain the aggregates, if false all updates are ignored
+   * @param maxDirectories the maximum number of directories to track
+   * @param inodeStore the inode store holding the tree
+   */
+  public DirectoryAggregates(boolean enabled, long maxDirectories,
+      ReadOnlyInodeStore inodeStore) {
+    Preconditions.checkArgument(maxDirectories > 0, "maxDirectories must be positive");
+    mEnabled = enabled;
+    mMaxDirectories = maxDirectories;
+    mInodeStore = inodeStore;
+  }
+
+  /**
+   * @return whether the aggregates are maintained
+   */
+  public boolean isEnabled() {
+    return mEnabled;
+  }
+
+  /**
+   * Removes all aggregates.
+   */
+  public void clear() {
+    mAggregates.clear();
+    mRestored = false;
+  }
+
+  /**
+   * Removes all aggregates and starts a new tree with an empty root directory.
+   *
+   * @param rootId the id of the root directory
+   */
+  public void setRoot(long rootId) {
+    mAggregates.clear();
+    if (mEnabled) {
+      mAggregates.put(rootId, new Aggregate(InodeTree.NO_PARENT));
+    }
+  }
+
+  /**
+   * Adds a newly created inode to the totals of its ancestors.
+   *
+   * @param inode the created inode, already attached to its parent
+   */
+  public void created(InodeView inode) {
+    if (!mEnabled) {
+      return;
+    }
+    if (inode.isDirectory()) {
+      if (mAggregates.containsKey(inode.getParentId())
+          && mAggregates.size() < mMaxDirectories) {
+        mAggregates.putIfAbsent(inode.getId(), new Aggregate(inode.getParentId()));
+      }
+      add(inode.getParentId(), 0, 0, 1);
+    } else {
+      add(inode.getParentId(), getLength(inode), 1, 0);
+    }
+  }
+
+  /**
+   * Removes a deleted inode, and anything still below it, from the totals of its ancestors. This
+   * must be called before the inode and its descendants are removed from the inode store.
+   *
+   * @param inode the deleted inode
+   */
+  public void deleted(InodeView inode) {
+    if (!mEnabled) {
+      return;
+    }
+    long[] totals = getTotals(inode);
+    untrack(inode.getId());
+    add(inode.getParentId(), -totals[0], -totals[1], -totals[2]);
+  }
+
+  /**
+   * Moves the totals of a renamed inode from its old ancestors to its new ancestors.
+   *
+   * @param inode the renamed inode
+   * @param oldParentId the id of the parent before the rename
+   * @param newParentId the id of the parent after the rename
+   */
+  public void moved(InodeView inode, long oldParentId, long newParentId) {
+    if (!mEnabled || oldParentId == newParentId) {
+      return;
+    }
+    long[] totals = getTotals(inode);
+    add(oldParentId, -totals[0], -totals[1], -totals[2]);
+    add(newParentId, totals[0], totals[1], totals[2]);
+    Aggregate aggregate = mAggregates.get(inode.getId());
+    if (aggregate != null) {
+      if (mAggregates.containsKey(newParentId)) {
+        aggregate.mParentId = newParentId;
+      } else {
+        // Only directories below tracked directories may be tracked.
+        untrack(inode.getId());
+      }
+    }
+  }
+
+  /**
+   * Applies a change of a file's length to the totals of its ancestors.
+   *
+   * @param file the file
+   * @param delta the new length minus the old length
+   */
+  public void resized(InodeView file, long delta) {
+    if (mEnabled && delta != 0) {
+      add(file.getParentId(), delta, 0, 0);
+    }
+  }
+
+  /**
+   * Recomputes the aggregates from the inode tree, unless they were restored by the last
+   * checkpoint restore. Checkpoints written without the aggregates, or with more directories
+   * than may be tracked, do not restore them.
+   *
+   * @param root the root directory, or null if the tree is empty
+   */
+  public void rebuildIfNotRestored(@Nullable InodeDirectoryView root) {
+    if (!mRestored) {
+      rebuild(root);
+    }
+  }
+
+  /**
+   * Recomputes all aggregates from the inode tree.
+   *
+   * @param root the root directory, or null if the tree is empty
+   */
+  public void rebuild(@Nullable InodeDirectoryView root) {
+    mAggregates.clear();
+    if (!mEnabled || root == null) {
+      return;
+    }
+    // Visit the tracked directories breadth first, adding the files of each directory to its own
+    // totals. The subtrees of directories beyond the limit are walked and added whole.
+    List<Long> directories = new ArrayList<>();
+    directories.add(root.getId());
+    mAggregates.put(root.getId(), new Aggregate(InodeTree.NO_PARENT));
+    for (int i = 0; i < directories.size(); i++) {
+      long id = directories.get(i);
+      Aggregate aggregate = mAggregates.get(id);
+      for (Inode child : mInodeStore.getChildren(id)) {
+        if (!child.isDirectory()) {
+          aggregate.add(child.asFile().getLength(), 1, 0);
+        } else if (directories.size() < mMaxDirectories) {
+          directories.add(child.getId());
+          mAggregates.put(child.getId(), new Aggregate(id));
+        } else {
+          long[] totals = walk(child.getId());
+          aggregate.add(totals[0], totals[1], totals[2]);
+        }
+      }
+    }
+    // Every directory comes after its parent, so folding the directories into their parents in
+    // reverse order only folds a directory once its whole subtree has been folded into it.
+    for (int i = directories.size() - 1; i > 0; i--) {
+      Aggregate aggregate = mAggregates.get(directories.get(i));
+      mAggregates.get(aggregate.mParentId).add(aggregate.mLength.get(),
+          aggregate.mFileCount.get(), aggregate.mDirectoryCount.get() + 1);
+    }
+  }
+
+  /**
+   * @param directoryId the id of a directory
+   * @return the content summary of the directory including the directory itself, or null if
+   *         the aggregates are disabled or the directory is not tracked
+   */
+  @Nullable
+  public ContentSummary getContentSummary(long directoryId) {
+    Aggregate aggregate = mAggregates.get(directoryId);
+    if (aggregate == null) {
+      return null;
+    }
+    return new ContentSummary().setLength(aggregate.mLength.get())
+        .setFileCount(aggregate.mFileCount.get())
+        .setDirectoryCount(aggregate.mDirectoryCount.get() + 1);
+  }
+
+  @Override
+  public CheckpointName getCheckpointName() {
+    return CheckpointName.DIRECTORY_AGGREGATES;
+  }
+
+  @Override
+  public void writeToCheckpoint(OutputStream output) throws IOException, InterruptedException {
+    CheckpointOutputStream stream = new CheckpointOutputStream(output, CheckpointType.LONGS);
+    for (Map.Entry<Long, Aggregate> entry : mAggregates.entrySet()) {
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      Aggregate aggregate = entry.getValue();
+      stream.writeLong(entry.getKey());
+      stream.writeLong(aggregate.mParentId);
+      stream.writeLong(aggregate.mLength.get());
+      stream.writeLong(aggregate.mFileCount.get());
+      stream.writeLong(aggregate.mDirectoryCount.get());
+    }
+    stream.flush();
+  }
+
+  @Override
+  public void restoreFromCheckpoint(CheckpointInputStream input) throws IOException {
+    clear();
+    LongsCheckpointReader reader = new LongsCheckpointReader(input);
+    long[] record = new long[CHECKPOINT_RECORD_LENGTH];
+    // The whole checkpoint is read even when it is not used, so that it is consumed.
+    boolean restore = mEnabled;
+    while (readRecord(reader, record)) {
+      if (!restore) {
+        continue;
+      }
+      if (mAggregates.size() >= mMaxDirectories) {
+        mAggregates.clear();
+        restore = false;
+        continue;
+      }
+      Aggregate aggregate = new Aggregate(record[1]);
+      aggregate.add(record[2], record[3], record[4]);
+      mAggregates.put(record[0], aggregate);
+    }
+    mRestored = restore;
+  }
+
+  /**
+   * Reads the longs of one directory from a checkpoint.
+   *
+   * @param reader the reader to read from
+   * @param record the array to fill
+   * @return whether a record was read, false at the end of the checkpoint
+   */
+  private static boolean readRecord(LongsCheckpointReader reader, long[] record)
+      throws IOException {
+    for (int i = 0; i < record.length; i++) {
+      Optional<Long> value = reader.nextLong();
+      if (!value.isPresent()) {
+        if (i != 0) {
+          throw new IOException("Directory aggregates checkpoint ended in the middle of a record");
+        }
+        return false;
+      }
+      record[i] = value.get();
+    }
+    return true;
+  }
+
+  /**
+   * @param inode an inode
+   * @return the length, file count and directory count of the inode and its descendants
+   */
+  private long[] getTotals(InodeView inode) {
+    if (!inode.isDirectory()) {
+      return new long[] {getLength(inode), 1, 0};
+    }
+    Aggregate aggregate = mAggregates.get(inode.getId());
+    if (aggregate == null) {
+      return walk(inode.getId());
+    }
+    return new long[] {aggregate.mLength.get(), aggregate.mFileCount.get(),
+        aggregate.mDirectoryCount.get() + 1};
+  }
+
+  /**
+   * Adds up an untracked directory from the inode store. An untracked directory has no tracked
+   * descendants, so the whole subtree is walked.
+   *
+   * @param directoryId the id of the directory
+   * @return the length, file count and directory count of the directory and its descendants
+   */
+  private long[] walk(long directoryId) {
+    long[] totals = new long[] {0, 0, 1};
+    Deque<Long> directories = new ArrayDeque<>();
+    directories.push(directoryId);
+    while (!directories.isEmpty()) {
+      for (Inode child : mInodeStore.getChildren(directories.pop())) {
+        if (child.isDirectory()) {
+          totals[2]++;
+          directories.push(child.getId());
+        } else {
+          totals[0] += child.asFile().getLength();
+          totals[1]++;
+        }
+      }
+    }
+    return totals;
+  }
+
+  /**
+   * Stops tracking a directory and all tracked directories below it.
+   *
+   * @param directoryId the id of the directory
+   */
+  private void untrack(long directoryId) {
+    Deque<Long> directories = new ArrayDeque<>();
+    directories.push(directoryId);
+    while (!directories.isEmpty()) {
+      long id = directories.pop();
+      // Only tracked directories have tracked children.
+      if (mAggregates.remove(id) != null) {
+        for (long childId : mInodeStore.getChildIds(id)) {
+          directories.push(childId);
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds to the totals of a directory and all of its tracked ancestors.
+   *
+   * @param directoryId the id of the directory
+   * @param length the change in total length
+   * @param fileCount the change in file count
+   * @param directoryCount the change in directory count
+   */
+  private void add(long directoryId, long length, long fileCount, long directoryCount) {
+    long id = directoryId;
+    while (id != InodeTree.NO_PARENT) {
+      Aggregate aggregate = mAggregates.get(id);
+      if (aggregate == null) {
+        // Untracked directories are below the tracked ones, walk up to the nearest tracked one.
+        id = mInodeStore.get(id).map(Inode::getParentId).orElse(InodeTree.NO_PARENT);
+        continue;
+      }
+      aggregate.add(length, fileCount, directoryCount);
+      id = aggregate.mParentId;
+    }
+  }
+
+  private static long getLength(InodeView inode) {
+    return inode.isFile() ? ((InodeFileView) inode).getLength() : 0;
+  }
+
+  /**
+   * The totals of the descendants of one directory.
+   */
+  private static final class Aggregate {
+    /** The parent is stored so that ancestors can be walked without reading the inode store. */
+    private volatile long mParentId;
+    private final AtomicLong mLength = new AtomicLong();
+    private final AtomicLong mFileCount = new AtomicLong();
+    private final AtomicLong mDirectoryCount = new AtomicLong();
+
+    Aggregate(long parentId) {
+      mParentId = parentId;
+    }
+
+    void add(long length, long fileCount, long directoryCount) {
+      if (length != 0) {
+        mLength.addAndGet(length);
+      }
+      if (fileCount != 0) {
+        mFileCount.addAndGet(fileCount);
+      }
+      if (directoryCount != 0) {
+        mDirectoryCount.addAndGet(directoryCount);
+      }
+    }
+  }
+}
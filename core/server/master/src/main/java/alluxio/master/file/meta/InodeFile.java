@@ -64,6 +64,16 @@ public class InodeFile extends Inode implements InodeFileView {
     return mDelegate.getBlockIds();
   }
 
+  @Override
+  public long[] getBlockIdArray() {
+    return mDelegate.getBlockIdArray();
+  }
+
+  @Override
+  public int getBlockCount() {
+    return mDelegate.getBlockCount();
+  }
+
   @Override
   public long getBlockSizeBytes() {
     return mDelegate.getBlockSizeBytes();
@@ -55,6 +55,16 @@ public interface InodeFileView extends InodeView {
    */
   List<Long> getBlockIds();
 
+  /**
+   * @return a copy of all the block ids of the file, without boxing them
+   */
+  long[] getBlockIdArray();
+
+  /**
+   * @return the number of blocks of the file
+   */
+  int getBlockCount();
+
   /**
    * @return the block size in bytes
    */
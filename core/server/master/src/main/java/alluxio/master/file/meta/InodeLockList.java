@@ -207,6 +207,17 @@ public interface InodeLockList extends AutoCloseable {
    */
   InodeLockManager getInodeLockManager();
 
+  /**
+   * Checks that the inodes and edges in the list have not been modified since they were added.
+   * Lists which lock what they contain are always valid. Lists which do not, such as
+   * {@link OptimisticInodeLockList}, must be validated before results read through them are used.
+   *
+   * @return true if no inode or edge in the list may have been modified
+   */
+  default boolean validate() {
+    return true;
+  }
+
   /**
    * Closes the lock list, releasing all locks.
    */
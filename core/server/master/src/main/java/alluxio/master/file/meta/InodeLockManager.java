@@ -12,6 +12,8 @@
 package alluxio.master.file.meta;
 
 import alluxio.collections.LockPool;
+import alluxio.collections.LockTable;
+import alluxio.collections.StripedLockTable;
 import alluxio.concurrent.LockMode;
 import alluxio.conf.PropertyKey;
 import alluxio.conf.ServerConfiguration;
@@ -29,11 +31,14 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * Class for managing inode locking. We manage locks centrally instead of embedded in the inode
  * tree. This allows us to create locks only as needed, and garbage collect locks that aren't in
- * use. As a result, we save memory when the inode tree contains many millions of files.
+ * use. As a result, we save memory when the inode tree contains many millions of files. Locks
+ * come either from a {@link LockPool}, or from a {@link StripedLockTable} which reuses a fixed set
+ * of locks, depending on {@link PropertyKey#MASTER_LOCK_TABLE_TYPE}.
  *
  * We use WeakSafeReentrantReadWriteLock instead of ReentrantReadWriteLock because the read locks
  * and write locks returned by ReentrantReadWriteLock do not contain a reference to the original
@@ -43,27 +48,38 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  */
 public class InodeLockManager {
   /**
-   * Pool for supplying inode locks. To lock an inode, its inode id must be searched in this
-   * pool to get the appropriate read lock.
+   * Table for supplying inode locks. To lock an inode, its inode id must be searched in this
+   * table to get the appropriate read lock.
    *
-   * We use weak values so that when nothing holds a reference to
-   * a lock, the garbage collector can remove the lock's entry from the pool.
+   * Locks are only kept while they are referenced, so that the table does not grow with the
+   * number of inodes.
    */
-  public final LockPool<Long> mInodeLocks =
-      new LockPool<>((key)-> new ReentrantReadWriteLock(),
-          ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_POOL_INITSIZE),
-          ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_POOL_LOW_WATERMARK),
-          ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_POOL_HIGH_WATERMARK),
-          ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_POOL_CONCURRENCY_LEVEL));
+  public final LockTable<Long> mInodeLocks = newLockTable();
   /**
-   * Cache for supplying edge locks, similar to mInodeLocks.
+   * Table for supplying edge locks, similar to mInodeLocks.
    */
-  public final LockPool<Edge> mEdgeLocks =
-      new LockPool<>((key)-> new ReentrantReadWriteLock(),
-          ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_POOL_INITSIZE),
-          ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_POOL_LOW_WATERMARK),
-          ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_POOL_HIGH_WATERMARK),
-          ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_POOL_CONCURRENCY_LEVEL));
+  public final LockTable<Edge> mEdgeLocks = newLockTable();
+
+  /** The number of stripes for inode and edge version stamps. */
+  private static final int NUM_STAMP_STRIPES = 1 << 12;
+
+  /**
+   * Whether optimistic reads are enabled. When disabled, write locks do not update version stamps.
+   */
+  private final boolean mOptimisticReadEnabled =
+      ServerConfiguration.getBoolean(PropertyKey.MASTER_LOCK_OPTIMISTIC_READ_ENABLED);
+
+  /**
+   * Version stamps for validating optimistic reads of inodes and edges, striped by key.
+   *
+   * A stripe's stamp changes whenever a write lock is taken on one of its keys. The stamped locks
+   * are only write locked for an instant to change the stamp, so they never block while another
+   * lock is held. An optimistic read of a key is valid if the key's stamp is unchanged and the key
+   * is not write locked, both at the start and at the end of the read. Stripe collisions can only
+   * cause spurious validation failures.
+   */
+  private final StampedLock[] mInodeStamps = newStampStripes();
+  private final StampedLock[] mEdgeStamps = newStampStripes();
 
   /**
    * Locks for guarding changes to last modified time and size on read-locked parent inodes.
@@ -123,8 +139,8 @@ public class InodeLockManager {
     assertAllLocksReleased(mInodeLocks);
   }
 
-  private <T> void assertAllLocksReleased(LockPool<T> pool) {
-    for (Entry<T, ReentrantReadWriteLock> entry : pool.getEntryMap().entrySet()) {
+  private <T> void assertAllLocksReleased(LockTable<T> table) {
+    for (Entry<T, ReentrantReadWriteLock> entry : table.getEntryMap().entrySet()) {
       ReentrantReadWriteLock lock = entry.getValue();
       if (lock.isWriteLocked()) {
         throw new RuntimeException(
@@ -145,7 +161,9 @@ public class InodeLockManager {
    * @return a lock resource which must be closed to release the lock
    */
   public LockResource lockInode(InodeView inode, LockMode mode) {
-    return mInodeLocks.get(inode.getId(), mode);
+    LockResource lock = mInodeLocks.get(inode.getId(), mode);
+    onLocked(mInodeStamps, inode.getId(), mode);
+    return lock;
   }
 
   /**
@@ -156,7 +174,11 @@ public class InodeLockManager {
    * @return either an empty optional, or a lock resource which must be closed to release the lock
    */
   public Optional<LockResource> tryLockInode(Long inodeId, LockMode mode) {
-    return mInodeLocks.tryGet(inodeId, mode);
+    Optional<LockResource> lock = mInodeLocks.tryGet(inodeId, mode);
+    if (lock.isPresent()) {
+      onLocked(mInodeStamps, inodeId, mode);
+    }
+    return lock;
   }
 
   /**
@@ -167,7 +189,9 @@ public class InodeLockManager {
    * @return a lock resource which must be closed to release the lock
    */
   public LockResource lockEdge(Edge edge, LockMode mode) {
-    return mEdgeLocks.get(edge, mode);
+    LockResource lock = mEdgeLocks.get(edge, mode);
+    onLocked(mEdgeStamps, edge, mode);
+    return lock;
   }
 
   /**
@@ -178,7 +202,108 @@ public class InodeLockManager {
    * @return either an empty optional, or a lock resource which must be closed to release the lock
    */
   public Optional<LockResource> tryLockEdge(Edge edge, LockMode mode) {
-    return mEdgeLocks.tryGet(edge, mode);
+    Optional<LockResource> lock = mEdgeLocks.tryGet(edge, mode);
+    if (lock.isPresent()) {
+      onLocked(mEdgeStamps, edge, mode);
+    }
+    return lock;
+  }
+
+  /**
+   * @return whether optimistic reads are enabled
+   */
+  public boolean isOptimisticReadEnabled() {
+    return mOptimisticReadEnabled;
+  }
+
+  /**
+   * Gets a version stamp for reading an inode without locking it. The read must be validated with
+   * {@link #validateInodeStamp(long, long)} after it completes.
+   *
+   * @param inodeId the id of the inode to read
+   * @return the stamp, or 0 if the inode is being modified
+   */
+  public long getInodeStamp(long inodeId) {
+    return getStamp(mInodeStamps, mInodeLocks, inodeId);
+  }
+
+  /**
+   * @param inodeId the id of the inode which was read
+   * @param stamp the stamp returned by {@link #getInodeStamp(long)} before the read
+   * @return true if the inode has not been modified since the stamp was taken
+   */
+  public boolean validateInodeStamp(long inodeId, long stamp) {
+    return validateStamp(mInodeStamps, mInodeLocks, inodeId, stamp);
+  }
+
+  /**
+   * Gets a version stamp for reading an edge without locking it. The read must be validated with
+   * {@link #validateEdgeStamp(Edge, long)} after it completes.
+   *
+   * @param edge the edge to read
+   * @return the stamp, or 0 if the edge is being modified
+   */
+  public long getEdgeStamp(Edge edge) {
+    return getStamp(mEdgeStamps, mEdgeLocks, edge);
+  }
+
+  /**
+   * @param edge the edge which was read
+   * @param stamp the stamp returned by {@link #getEdgeStamp(Edge)} before the read
+   * @return true if the edge has not been modified since the stamp was taken
+   */
+  public boolean validateEdgeStamp(Edge edge, long stamp) {
+    return validateStamp(mEdgeStamps, mEdgeLocks, edge, stamp);
+  }
+
+  private void onLocked(StampedLock[] stamps, Object key, LockMode mode) {
+    if (mOptimisticReadEnabled && mode == LockMode.WRITE) {
+      StampedLock stripe = stripe(stamps, key);
+      stripe.unlockWrite(stripe.writeLock());
+    }
+  }
+
+  private static <T> long getStamp(StampedLock[] stamps, LockTable<T> locks, T key) {
+    // The stamp must be taken before checking the lock, so that a writer which takes the lock
+    // after the check changes the stamp.
+    long stamp = stripe(stamps, key).tryOptimisticRead();
+    return locks.isWriteLocked(key) ? 0 : stamp;
+  }
+
+  private static <T> boolean validateStamp(StampedLock[] stamps, LockTable<T> locks, T key,
+      long stamp) {
+    return stamp != 0 && stripe(stamps, key).validate(stamp) && !locks.isWriteLocked(key);
+  }
+
+  private static StampedLock stripe(StampedLock[] stamps, Object key) {
+    int hash = key.hashCode();
+    return stamps[(hash ^ (hash >>> 16)) & (stamps.length - 1)];
+  }
+
+  private static <T> LockTable<T> newLockTable() {
+    switch (ServerConfiguration.getEnum(PropertyKey.MASTER_LOCK_TABLE_TYPE, LockTableType.class)) {
+      case POOL:
+        return new LockPool<>((key) -> new ReentrantReadWriteLock(),
+            ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_POOL_INITSIZE),
+            ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_POOL_LOW_WATERMARK),
+            ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_POOL_HIGH_WATERMARK),
+            ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_POOL_CONCURRENCY_LEVEL));
+      case STRIPED:
+        return new StripedLockTable<>(
+            ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_TABLE_STRIPES),
+            ServerConfiguration.getInt(PropertyKey.MASTER_LOCK_TABLE_SLOTS_PER_STRIPE));
+      default:
+        throw new IllegalStateException("Unknown lock table type: "
+            + ServerConfiguration.get(PropertyKey.MASTER_LOCK_TABLE_TYPE));
+    }
+  }
+
+  private static StampedLock[] newStampStripes() {
+    StampedLock[] stamps = new StampedLock[NUM_STAMP_STRIPES];
+    for (int i = 0; i < stamps.length; i++) {
+      stamps[i] = new StampedLock();
+    }
+    return stamps;
   }
 
   /**
@@ -0,0 +1,118 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
+
+import com.codahale.metrics.Counter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache from directory paths to the ids of the inodes along them, starting from the
+ * root. When resolving a path, the ids cached for its parent directory let each inode be fetched
+ * directly by id instead of looking up the edge from its parent.
+ *
+ * Cached ids are only hints. An inode reached through a cached id is used only if its parent id
+ * and name still match the edge being traversed, which is locked at that point, so stale entries
+ * are detected and dropped. Renames and deletes also invalidate the entries they affect, to avoid
+ * paying for stale lookups.
+ */
+@ThreadSafe
+public final class InodePathCache {
+  private static final Counter HITS = MetricsSystem.counter(MasterMetrics.PATH_CACHE_HITS);
+  private static final Counter MISSES = MetricsSystem.counter(MasterMetrics.PATH_CACHE_MISSES);
+
+  private final Cache<String, long[]> mCache;
+
+  /**
+   * @param capacity the maximum number of directory paths to cache
+   */
+  public InodePathCache(long capacity) {
+    mCache = CacheBuilder.newBuilder().maximumSize(capacity).build();
+  }
+
+  /**
+   * @param pathComponents the components of a path
+   * @return the ids of the inodes from the root to the parent of the path, or null if they are not
+   *         cached
+   */
+  @Nullable
+  public long[] getParentIds(String[] pathComponents) {
+    long[] ids = mCache.getIfPresent(parentPath(pathComponents));
+    if (ids == null) {
+      MISSES.inc();
+    } else {
+      HITS.inc();
+    }
+    return ids;
+  }
+
+  /**
+   * Caches the ids of the inodes from the root to the parent of a path. The inodes must be locked
+   * by the caller.
+   *
+   * @param pathComponents the components of a path
+   * @param ids the ids of the inodes along the path, starting from the root
+   */
+  public void putParentIds(String[] pathComponents, long[] ids) {
+    mCache.put(parentPath(pathComponents), ids);
+  }
+
+  /**
+   * Removes the ids cached for the parent of a path.
+   *
+   * @param pathComponents the components of a path
+   */
+  public void invalidateParent(String[] pathComponents) {
+    mCache.invalidate(parentPath(pathComponents));
+  }
+
+  /**
+   * Removes the ids cached for a directory. Entries for its descendants are left to be detected as
+   * stale when used.
+   *
+   * @param path the path of the directory
+   */
+  public void invalidate(String path) {
+    mCache.invalidate(path);
+  }
+
+  /**
+   * Removes the ids cached for a directory and all of its descendants.
+   *
+   * @param path the path of the directory
+   */
+  public void invalidateSubtree(String path) {
+    String prefix = path.endsWith("/") ? path : path + "/";
+    mCache.asMap().keySet().removeIf(key -> key.equals(path) || key.startsWith(prefix));
+  }
+
+  /**
+   * Removes all entries.
+   */
+  public void clear() {
+    mCache.invalidateAll();
+  }
+
+  private static String parentPath(String[] pathComponents) {
+    StringBuilder path = new StringBuilder();
+    for (int i = 1; i < pathComponents.length - 1; i++) {
+      path.append('/').append(pathComponents[i]);
+    }
+    return path.toString();
+  }
+}
@@ -54,6 +54,7 @@ import alluxio.underfs.UfsStatus;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.underfs.options.MkdirsOptions;
 import alluxio.util.interfaces.Scoped;
+import alluxio.wire.ContentSummary;
 
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
@@ -66,6 +67,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -173,13 +175,17 @@ public class InodeTree implements DelegatingJournaled {
   /** Mount table manages the file system mount points. */
   private final MountTable mMountTable;
 
-  private final TtlBucketList mTtlBuckets;
+  private final TtlTimingWheel mTtlWheel;
 
   /** Manager for inode locking. */
   private final InodeLockManager mInodeLockManager;
 
   private final ReadOnlyInodeStore mInodeStore;
 
+  /** Cache of inode ids along directory paths, or null if disabled. */
+  @Nullable
+  private final InodePathCache mPathCache;
+
   /**
    * Class for managing the persistent state of the inode tree. All metadata changes must go
    * through this class by calling mState.applyAndJournal(context, entry).
@@ -209,12 +215,15 @@ public class InodeTree implements DelegatingJournaled {
       InodeDirectoryIdGenerator directoryIdGenerator, MountTable mountTable,
       InodeLockManager lockManager) {
     mInodeStore = new DelegatingReadOnlyInodeStore(inodeStore);
-    mTtlBuckets = new TtlBucketList(mInodeStore);
+    mTtlWheel = new TtlTimingWheel(mInodeStore);
     mInodeLockManager = lockManager;
-    mState = new InodeTreePersistentState(inodeStore, mInodeLockManager, mTtlBuckets);
+    mState = new InodeTreePersistentState(inodeStore, mInodeLockManager, mTtlWheel);
     mContainerIdGenerator = containerIdGenerator;
     mDirectoryIdGenerator = directoryIdGenerator;
     mMountTable = mountTable;
+    long pathCacheCapacity =
+        ServerConfiguration.getLong(PropertyKey.MASTER_INODE_PATH_CACHE_CAPACITY);
+    mPathCache = pathCacheCapacity > 0 ? new InodePathCache(pathCacheCapacity) : null;
   }
 
   /**
@@ -239,10 +248,10 @@ public class InodeTree implements DelegatingJournaled {
   }
 
   /**
-   * @return the list of TTL buckets for tracking inode TTLs
+   * @return the timing wheel for tracking inode TTLs
    */
-  public TtlBucketList getTtlBuckets() {
-    return mTtlBuckets;
+  public TtlTimingWheel getTtlWheel() {
+    return mTtlWheel;
   }
 
   /**
@@ -252,6 +261,30 @@ public class InodeTree implements DelegatingJournaled {
     return mState.getInodeCount();
   }
 
+  /**
+   * @return whether the subtree totals of directories are maintained
+   */
+  public boolean isDirectoryAggregatesEnabled() {
+    return mState.getDirectoryAggregates().isEnabled();
+  }
+
+  /**
+   * Returns the content summary of an inode from the maintained directory totals.
+   *
+   * @param inode the inode, which should be locked
+   * @return the content summary of the inode, or null if the directory totals are not maintained
+   */
+  @Nullable
+  public ContentSummary getContentSummary(InodeView inode) {
+    if (!isDirectoryAggregatesEnabled()) {
+      return null;
+    }
+    if (inode.isFile()) {
+      return new ContentSummary().setLength(((InodeFileView) inode).getLength()).setFileCount(1);
+    }
+    return mState.getDirectoryAggregates().getContentSummary(inode.getId());
+  }
+
   /**
    * Marks an inode directory as having its direct children loaded.
    *
@@ -296,6 +329,10 @@ public class InodeTree implements DelegatingJournaled {
    */
   public void rename(Supplier<JournalContext> context, RenameEntry entry) {
     mState.applyAndJournal(context, entry);
+    if (mPathCache != null && entry.hasPath()
+        && mInodeStore.get(entry.getId()).map(Inode::isDirectory).orElse(false)) {
+      mPathCache.invalidateSubtree(entry.getPath());
+    }
   }
 
   /**
@@ -343,8 +380,8 @@ public class InodeTree implements DelegatingJournaled {
    */
   public LockedInodePath lockInodePath(AlluxioURI uri, LockPattern lockPattern)
       throws InvalidPathException {
-    LockedInodePath inodePath =
-        new LockedInodePath(uri, mInodeStore, mInodeLockManager, getRoot(), lockPattern);
+    LockedInodePath inodePath = new LockedInodePath(uri, mInodeStore,
+        new SimpleInodeLockList(mInodeLockManager), getRoot(), lockPattern, mPathCache);
     try {
       inodePath.traverse();
     } catch (InvalidPathException e) {
@@ -354,6 +391,26 @@ public class InodeTree implements DelegatingJournaled {
     return inodePath;
   }
 
+  /**
+   * Traverses existing inodes on the specified path without locking them. The returned path must
+   * be validated with {@link LockedInodePath#validate()} after reading through it, and anything
+   * read must be discarded if validation fails. Descendants locked from the path are locked
+   * normally.
+   *
+   * @param uri the uri to traverse
+   * @return the traversed path, in the {@link LockPattern#READ} pattern
+   * @throws InvalidPathException if the path is invalid
+   */
+  public LockedInodePath traverseInodePathOptimistic(AlluxioURI uri) throws InvalidPathException {
+    Preconditions.checkState(mInodeLockManager.isOptimisticReadEnabled(),
+        "Optimistic reads are not enabled");
+    LockedInodePath inodePath = new LockedInodePath(uri, mInodeStore,
+        new OptimisticInodeLockList(mInodeLockManager, mInodeStore), getRoot(), LockPattern.READ,
+        mPathCache);
+    inodePath.traverse();
+    return inodePath;
+  }
+
   /**
    * @param uri the {@link AlluxioURI} to check for existence
    * @return whether the inode exists
@@ -868,10 +925,14 @@ public class InodeTree implements DelegatingJournaled {
 
     mState.applyAndJournal(rpcContext, DeleteFileEntry.newBuilder()
         .setId(inode.getId())
+        .setParentId(inode.getParentId())
         .setRecursive(false)
         .setOpTimeMs(opTimeMs)
         .setPath(inodePath.getUri().getPath())
         .build());
+    if (mPathCache != null && inode.isDirectory()) {
+      mPathCache.invalidate(inodePath.getUri().getPath());
+    }
 
     if (inode.isFile()) {
       rpcContext.getBlockDeletionContext().registerBlocksForDeletion(inode.asFile().getBlockIds());
@@ -1004,6 +1065,34 @@ public class InodeTree implements DelegatingJournaled {
     return new HashSet<>(mState.getPinnedInodeFileIds());
   }
 
+  /**
+   * @param fileId a file id
+   * @return whether the file is pinned
+   */
+  public boolean isPinnedFile(long fileId) {
+    return mState.getPinnedInodeFileIds().contains(fileId);
+  }
+
+  /**
+   * Registers a callback function to use when the pinning, pinned media, persistence state or
+   * replication limits of a file change. The function is called with the file id.
+   *
+   * @param function the function to register
+   */
+  public void registerReplicationChangeListener(Consumer<Long> function) {
+    mState.registerReplicationChangeListener(function);
+  }
+
+  /**
+   * Removes a callback function registered with
+   * {@link #registerReplicationChangeListener(Consumer)}.
+   *
+   * @param function the function to remove
+   */
+  public void removeReplicationChangeListener(Consumer<Long> function) {
+    mState.removeReplicationChangeListener(function);
+  }
+
   /**
    * @return the inode lock manager for the inode tree
    */
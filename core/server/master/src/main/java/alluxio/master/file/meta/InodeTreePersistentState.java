@@ -19,6 +19,7 @@ import alluxio.master.journal.JournalUtils;
 import alluxio.master.journal.Journaled;
 import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.journal.checkpoint.CheckpointName;
+import alluxio.master.journal.checkpoint.Checkpointed;
 import alluxio.master.metastore.InodeStore;
 import alluxio.proto.journal.File.AsyncPersistRequestEntry;
 import alluxio.proto.journal.File.CompleteFileEntry;
@@ -53,6 +54,7 @@ import java.io.OutputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -66,6 +68,7 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
@@ -75,6 +78,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -109,23 +113,63 @@ public class InodeTreePersistentState implements Journaled {
   private final ToBePersistedFileIds mToBePersistedIds = new ToBePersistedFileIds();
 
   /**
-   * TTL bucket list. The list is owned by InodeTree, and is only shared with
-   * InodeTreePersistentState so that the list can be updated whenever inode tree state changes.
+   * Subtree totals of directories. These are not journaled, they follow the applied changes and
+   * are checkpointed with the tree.
    */
-  // TODO(andrew): Move ownership of the ttl bucket list to this class
-  private final TtlBucketList mTtlBuckets;
+  private final DirectoryAggregates mDirectoryAggregates;
+
+  /**
+   * TTL timing wheel. The wheel is owned by InodeTree, and is only shared with
+   * InodeTreePersistentState so that the wheel can be updated whenever inode tree state changes.
+   */
+  // TODO(andrew): Move ownership of the ttl timing wheel to this class
+  private final TtlTimingWheel mTtlWheel;
+
+  /** Listeners to call with the id of a file whose replication settings may have changed. */
+  private final List<Consumer<Long>> mReplicationChangeListeners = new CopyOnWriteArrayList<>();
 
   /**
    * @param inodeStore file store which holds inode metadata
    * @param lockManager manager for inode locks
-   * @param ttlBucketList reference to the ttl bucket list so that the list can be updated when the
+   * @param ttlWheel reference to the ttl timing wheel so that the wheel can be updated when the
    *        inode tree is modified
    */
   public InodeTreePersistentState(InodeStore inodeStore, InodeLockManager lockManager,
-      TtlBucketList ttlBucketList) {
+      TtlTimingWheel ttlWheel) {
     mInodeStore = inodeStore;
     mInodeLockManager = lockManager;
-    mTtlBuckets = ttlBucketList;
+    mTtlWheel = ttlWheel;
+    mDirectoryAggregates = new DirectoryAggregates(
+        ServerConfiguration.getBoolean(PropertyKey.MASTER_FILE_DIRECTORY_AGGREGATES_ENABLED),
+        ServerConfiguration.getInt(PropertyKey.MASTER_FILE_DIRECTORY_AGGREGATES_MAX_DIRECTORIES),
+        inodeStore);
+  }
+
+  /**
+   * Registers a callback function to use when the pinning, pinned media, persistence state or
+   * replication limits of a file change. The function is called with the file id.
+   *
+   * @param function the function to register
+   */
+  public void registerReplicationChangeListener(Consumer<Long> function) {
+    mReplicationChangeListeners.add(function);
+  }
+
+  /**
+   * Removes a callback function registered with
+   * {@link #registerReplicationChangeListener(Consumer)}.
+   *
+   * @param function the function to remove
+   */
+  public void removeReplicationChangeListener(Consumer<Long> function) {
+    mReplicationChangeListeners.remove(function);
+  }
+
+  /**
+   * @return the subtree totals of the directories in the tree
+   */
+  public DirectoryAggregates getDirectoryAggregates() {
+    return mDirectoryAggregates;
   }
 
   /**
@@ -315,6 +359,7 @@ public class InodeTreePersistentState implements Journaled {
   private void applyDelete(DeleteFileEntry entry) {
     long id = entry.getId();
     Inode inode = mInodeStore.get(id).get();
+    mDirectoryAggregates.deleted(inode);
 
     // The recursive option is only used by old versions.
     if (inode.isDirectory() && entry.getRecursive()) {
@@ -322,13 +367,15 @@ public class InodeTreePersistentState implements Journaled {
       dirsToDelete.add(inode.asDirectory());
       while (!dirsToDelete.isEmpty()) {
         InodeDirectory dir = dirsToDelete.poll();
-        mInodeStore.removeInodeAndParentEdge(inode);
+        mInodeStore.removeInodeAndParentEdge(dir);
+        mTtlWheel.remove(dir.getId());
         mInodeCounter.decrementAndGet();
         for (Inode child : mInodeStore.getChildren(dir)) {
           if (child.isDirectory()) {
             dirsToDelete.add(child.asDirectory());
           } else {
-            mInodeStore.removeInodeAndParentEdge(inode);
+            mInodeStore.removeInodeAndParentEdge(child);
+            mTtlWheel.remove(child.getId());
             mInodeCounter.decrementAndGet();
           }
         }
@@ -342,6 +389,7 @@ public class InodeTreePersistentState implements Journaled {
     mPinnedInodeFileIds.remove(id);
     mReplicationLimitedFileIds.remove(id);
     mToBePersistedIds.remove(id);
+    mTtlWheel.remove(id);
   }
 
   private void applyCreateDirectory(InodeDirectoryEntry entry) {
@@ -391,14 +439,10 @@ public class InodeTreePersistentState implements Journaled {
       throw new IllegalStateException("Inode " + entry.getId() + " not found");
     }
     MutableInode<?> inode = inodeOpt.get();
-    if (entry.hasTtl()) {
-      // Remove before updating the inode. #remove relies on the inode having the same
-      // TTL as when it was inserted.
-      mTtlBuckets.remove(inode);
-    }
     inode.updateFromEntry(entry);
     if (entry.hasTtl()) {
-      mTtlBuckets.insert(Inode.wrap(inode));
+      // Replaces the schedule for the previous TTL, or unschedules the inode if the TTL is removed.
+      mTtlWheel.insert(inode);
     }
     if (entry.hasPinned() && inode.isFile()) {
       if (entry.getPinned()) {
@@ -433,6 +477,10 @@ public class InodeTreePersistentState implements Journaled {
     }
     mInodeStore.writeInode(inode);
     updateToBePersistedIds(inode);
+    if (inode.isFile() && (entry.hasPinned() || entry.getMediumTypeCount() > 0
+        || entry.hasPersistenceState())) {
+      notifyReplicationChanged(inode.getId());
+    }
   }
 
   private void applyUpdateInodeDirectory(UpdateInodeDirectoryEntry entry) {
@@ -455,8 +503,19 @@ public class InodeTreePersistentState implements Journaled {
         mReplicationLimitedFileIds.add(inode.getId());
       }
     }
+    long oldLength = inode.asFile().getLength();
     inode.asFile().updateFromEntry(entry);
     mInodeStore.writeInode(inode);
+    mDirectoryAggregates.resized(inode, inode.asFile().getLength() - oldLength);
+    if (entry.hasReplicationMax() || entry.hasReplicationMin()) {
+      notifyReplicationChanged(inode.getId());
+    }
+  }
+
+  private void notifyReplicationChanged(long fileId) {
+    for (Consumer<Long> function : mReplicationChangeListeners) {
+      function.accept(fileId);
+    }
   }
 
   ////
@@ -536,6 +595,7 @@ public class InodeTreePersistentState implements Journaled {
       mPinnedInodeFileIds.clear();
       mReplicationLimitedFileIds.clear();
       mToBePersistedIds.clear();
+      mDirectoryAggregates.setRoot(inode.getId());
 
       updateToBePersistedIds(inode);
       return;
@@ -547,6 +607,7 @@ public class InodeTreePersistentState implements Journaled {
     mInodeStore.addChild(inode.getParentId(), inode);
     // Only update size, last modified time is updated separately.
     updateLastModifiedAndChildCount(inode.getParentId(), Long.MIN_VALUE, 1);
+    mDirectoryAggregates.created(inode);
     if (inode.isFile()) {
       MutableInodeFile file = inode.asFile();
       if (file.getReplicationMin() > 0) {
@@ -561,8 +622,8 @@ public class InodeTreePersistentState implements Journaled {
     if (inode.isFile() && inode.isPinned()) {
       mPinnedInodeFileIds.add(inode.getId());
     }
-    // Add the file to TTL buckets, the insert automatically rejects files w/ Constants.NO_TTL
-    mTtlBuckets.insert(Inode.wrap(inode));
+    // Add the file to the TTL wheel, the insert automatically rejects files w/ Constants.NO_TTL
+    mTtlWheel.insert(inode);
     updateToBePersistedIds(inode);
   }
 
@@ -580,6 +641,7 @@ public class InodeTreePersistentState implements Journaled {
     mInodeStore.addChild(newParent, inode);
     inode.setParentId(newParent);
     mInodeStore.writeInode(inode);
+    mDirectoryAggregates.moved(inode, oldParent, newParent);
 
     if (oldParent == newParent) {
       updateLastModifiedAndChildCount(oldParent, entry.getOpTimeMs(), 0);
@@ -687,22 +749,33 @@ public class InodeTreePersistentState implements Journaled {
     mInodeStore.clear();
     mReplicationLimitedFileIds.clear();
     mPinnedInodeFileIds.clear();
+    mDirectoryAggregates.clear();
+    mTtlWheel.clear();
   }
 
   @Override
   public void writeToCheckpoint(OutputStream output) throws IOException, InterruptedException {
-    // mTtlBuckets must come after mInodeStore so that it can query the inode store to resolve inode
+    // mTtlWheel must come after mInodeStore so that it can query the inode store to resolve inode
     // ids to inodes.
-    JournalUtils.writeToCheckpoint(output, Arrays.asList(mInodeStore, mPinnedInodeFileIds,
-        mReplicationLimitedFileIds, mToBePersistedIds, mTtlBuckets, mInodeCounter));
+    List<Checkpointed> components = new ArrayList<>(Arrays.asList(mInodeStore,
+        mPinnedInodeFileIds, mReplicationLimitedFileIds, mToBePersistedIds, mTtlWheel,
+        mInodeCounter));
+    if (mDirectoryAggregates.isEnabled()) {
+      components.add(mDirectoryAggregates);
+    }
+    JournalUtils.writeToCheckpoint(output, components);
   }
 
   @Override
   public void restoreFromCheckpoint(CheckpointInputStream input) throws IOException {
-    // mTtlBuckets must come after mInodeStore so that it can query the inode store to resolve inode
+    // mTtlWheel must come after mInodeStore so that it can query the inode store to resolve inode
     // ids to inodes.
+    // The directory aggregates are only in checkpoints written with them enabled.
+    mDirectoryAggregates.clear();
     JournalUtils.restoreFromCheckpoint(input, Arrays.asList(mInodeStore, mPinnedInodeFileIds,
-        mReplicationLimitedFileIds, mToBePersistedIds, mTtlBuckets, mInodeCounter));
+        mReplicationLimitedFileIds, mToBePersistedIds, mTtlWheel, mInodeCounter,
+        mDirectoryAggregates));
+    mDirectoryAggregates.rebuildIfNotRestored(getRoot());
   }
 
   @Override
@@ -60,6 +60,12 @@ public class LockedInodePath implements Closeable {
   private final Inode mRoot;
   /** Inode store for looking up children. */
   private final ReadOnlyInodeStore mInodeStore;
+  /** Cache of inode ids along parent paths, or null if the cache is disabled. */
+  @Nullable
+  private final InodePathCache mPathCache;
+  /** Inode ids along the parent path cached for the current traversal, if any. */
+  @Nullable
+  private long[] mCachedIds;
 
   /** Uri for the path represented. */
   protected final AlluxioURI mUri;
@@ -82,10 +88,43 @@ public class LockedInodePath implements Closeable {
   public LockedInodePath(AlluxioURI uri, ReadOnlyInodeStore inodeStore,
       InodeLockManager inodeLockManager, InodeDirectory root, LockPattern lockPattern)
       throws InvalidPathException {
+    this(uri, inodeStore, new SimpleInodeLockList(inodeLockManager), root, lockPattern);
+  }
+
+  /**
+   * Creates a new inode path which is locked by the given lock list.
+   *
+   * @param uri the uri for the path
+   * @param inodeStore the inode store for looking up inode children
+   * @param lockList the empty lock list to lock the path with
+   * @param root the root inode
+   * @param lockPattern the pattern to lock in
+   */
+  public LockedInodePath(AlluxioURI uri, ReadOnlyInodeStore inodeStore, InodeLockList lockList,
+      InodeDirectory root, LockPattern lockPattern) throws InvalidPathException {
+    this(uri, inodeStore, lockList, root, lockPattern, null);
+  }
+
+  /**
+   * Creates a new inode path which is locked by the given lock list, and resolved with the help
+   * of a path cache.
+   *
+   * @param uri the uri for the path
+   * @param inodeStore the inode store for looking up inode children
+   * @param lockList the empty lock list to lock the path with
+   * @param root the root inode
+   * @param lockPattern the pattern to lock in
+   * @param pathCache the cache of inode ids along parent paths, or null to look up every child
+   */
+  public LockedInodePath(AlluxioURI uri, ReadOnlyInodeStore inodeStore, InodeLockList lockList,
+      InodeDirectory root, LockPattern lockPattern, @Nullable InodePathCache pathCache)
+      throws InvalidPathException {
+    Preconditions.checkState(lockList.isEmpty());
     mUri = uri;
     mPathComponents = PathUtils.getPathComponents(uri.getPath());
     mInodeStore = inodeStore;
-    mLockList = new SimpleInodeLockList(inodeLockManager);
+    mPathCache = pathCache;
+    mLockList = lockList;
     mLockPattern = lockPattern;
     mRoot = root;
   }
@@ -104,6 +143,7 @@ public class LockedInodePath implements Closeable {
     mUri = uri;
     mPathComponents = pathComponents;
     mInodeStore = path.mInodeStore;
+    mPathCache = path.mPathCache;
     mLockList = new CompositeInodeLockList(path.mLockList);
     mLockPattern = lockPattern;
     mRoot = path.mLockList.get(0);
@@ -415,6 +455,31 @@ public class LockedInodePath implements Closeable {
     // This locks the root edge and inode.
     bootstrapTraversal();
 
+    int parentIndex = mPathComponents.length - 2;
+    if (mPathCache == null || mLockList.numInodes() > parentIndex) {
+      traverseRemaining();
+      return;
+    }
+    mCachedIds = mPathCache.getParentIds(mPathComponents);
+    boolean cacheHit = mCachedIds != null;
+    try {
+      traverseRemaining();
+      // The cached ids are dropped if any of them turned out to be stale.
+      if (mCachedIds == null && mLockList.numInodes() > parentIndex) {
+        long[] ids = new long[parentIndex + 1];
+        for (int i = 0; i < ids.length; i++) {
+          ids[i] = mLockList.get(i).getId();
+        }
+        mPathCache.putParentIds(mPathComponents, ids);
+      } else if (cacheHit && mCachedIds == null) {
+        mPathCache.invalidateParent(mPathComponents);
+      }
+    } finally {
+      mCachedIds = null;
+    }
+  }
+
+  private void traverseRemaining() throws InvalidPathException {
     // Each iteration either locks a new inode/edge or hits a missing inode and returns.
     while (!fullPathExists()) {
       int lastInodeIndex = mLockList.numInodes() - 1;
@@ -434,8 +499,16 @@ public class LockedInodePath implements Closeable {
               "Traversal failed for path %s. Component %s(%s) is a file, not a directory.", mUri,
               lastInodeIndex, lastInode.getName()));
         }
-        Optional<Inode> nextInodeOpt =
-            mInodeStore.getChild(lastInode.asDirectory(), nextComponent);
+        if (mLockList instanceof OptimisticInodeLockList) {
+          // Optimistic lock lists only support the READ pattern.
+          if (!lockChildOptimistic((OptimisticInodeLockList) mLockList, lastInode,
+              lastInodeIndex + 1)) {
+            mLockList.unlockLastEdge();
+            return;
+          }
+          continue;
+        }
+        Optional<Inode> nextInodeOpt = getChild(lastInode, lastInodeIndex + 1);
         if (!nextInodeOpt.isPresent() && mLockPattern == LockPattern.WRITE_EDGE
             && !isFinalComponent) {
           // This pattern requires that we obtain a write lock on the final edge, so we must
@@ -467,6 +540,53 @@ public class LockedInodePath implements Closeable {
     }
   }
 
+  /**
+   * Looks up the child of the given inode on the path, using the cached inode ids if possible.
+   *
+   * @param parent the locked parent inode
+   * @param index the index of the child's path component, whose edge must be locked
+   * @return the child inode, if it exists
+   */
+  private Optional<Inode> getChild(Inode parent, int index) {
+    if (mCachedIds != null && index < mCachedIds.length) {
+      Optional<Inode> child = mInodeStore.get(mCachedIds[index]);
+      // Names are unique within a directory, so a match means the locked edge leads to the child.
+      if (child.isPresent() && child.get().getParentId() == parent.getId()
+          && child.get().getName().equals(mPathComponents[index])) {
+        return child;
+      }
+      mCachedIds = null;
+    }
+    return mInodeStore.getChild(parent.asDirectory(), mPathComponents[index]);
+  }
+
+  /**
+   * Adds the child of the given inode on the path to an optimistic lock list. The child is
+   * resolved to an id and stamped before it is read, see {@link OptimisticInodeLockList}, so a
+   * child read through {@link #getChild} is never used.
+   *
+   * @param lockList the lock list, which must end in the edge to the child
+   * @param parent the parent inode
+   * @param index the index of the child's path component
+   * @return whether the child exists
+   */
+  private boolean lockChildOptimistic(OptimisticInodeLockList lockList, Inode parent, int index) {
+    if (mCachedIds != null && index < mCachedIds.length) {
+      Optional<Inode> child = lockList.lockInode(mCachedIds[index]);
+      if (child.isPresent() && child.get().getParentId() == parent.getId()
+          && child.get().getName().equals(mPathComponents[index])) {
+        return true;
+      }
+      if (child.isPresent()) {
+        // The stamp of the wrong inode is kept, which can only make validation stricter.
+        lockList.unlockLastInode();
+      }
+      mCachedIds = null;
+    }
+    Optional<Long> childId = mInodeStore.getChildId(parent.asDirectory(), mPathComponents[index]);
+    return childId.isPresent() && lockList.lockInode(childId.get()).isPresent();
+  }
+
   private void bootstrapTraversal() {
     if (!mLockList.isEmpty()) {
       return;
@@ -485,6 +605,17 @@ public class LockedInodePath implements Closeable {
     mLockList.lockInode(mRoot, inodeLock);
   }
 
+  /**
+   * Checks that the inodes and edges on the path have not been modified since they were traversed.
+   * This is always true for paths which hold locks. For paths traversed optimistically, anything
+   * read through the path must be discarded if this returns false.
+   *
+   * @return true if the path is still valid
+   */
+  public boolean validate() {
+    return mLockList.validate();
+  }
+
   @Override
   public void close() {
     mLockList.close();
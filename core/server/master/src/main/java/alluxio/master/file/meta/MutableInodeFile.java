@@ -31,9 +31,11 @@ import alluxio.wire.FileInfo;
 import com.google.common.base.Preconditions;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -42,7 +44,17 @@ import javax.annotation.concurrent.NotThreadSafe;
 @NotThreadSafe
 public final class MutableInodeFile extends MutableInode<MutableInodeFile>
     implements InodeFileView {
-  private List<Long> mBlocks;
+  /**
+   * The number of blocks of the file. The id of block i is derived from the block container id
+   * and i, see {@link BlockId#createBlockId(long, long)}, so the ids themselves are not stored.
+   */
+  private int mBlockCount;
+  /**
+   * The block ids if they cannot be derived from the block container id, otherwise null. This is
+   * only the case for block lists which were not created by {@link #getNewBlockId()}.
+   */
+  @Nullable
+  private long[] mBlockIds;
   private long mBlockContainerId;
   private long mBlockSizeBytes;
   private boolean mCacheable;
@@ -62,7 +74,8 @@ public final class MutableInodeFile extends MutableInode<MutableInodeFile>
    */
   private MutableInodeFile(long blockContainerId) {
     super(BlockId.createBlockId(blockContainerId, BlockId.getMaxSequenceNumber()), false);
-    mBlocks = new ArrayList<>(1);
+    mBlockCount = 0;
+    mBlockIds = null;
     mBlockContainerId = blockContainerId;
     mBlockSizeBytes = 0;
     mCacheable = false;
@@ -118,7 +131,8 @@ public final class MutableInodeFile extends MutableInode<MutableInodeFile>
    * Resets the file inode.
    */
   public void reset() {
-    mBlocks = new ArrayList<>();
+    mBlockCount = 0;
+    mBlockIds = null;
     mLength = 0;
     mCompleted = false;
     mCacheable = false;
@@ -137,7 +151,28 @@ public final class MutableInodeFile extends MutableInode<MutableInodeFile>
 
   @Override
   public List<Long> getBlockIds() {
-    return new ArrayList<>(mBlocks);
+    List<Long> blockIds = new ArrayList<>(mBlockCount);
+    for (int i = 0; i < mBlockCount; i++) {
+      blockIds.add(getBlockId(i));
+    }
+    return blockIds;
+  }
+
+  @Override
+  public long[] getBlockIdArray() {
+    if (mBlockIds != null) {
+      return Arrays.copyOf(mBlockIds, mBlockCount);
+    }
+    long[] blockIds = new long[mBlockCount];
+    for (int i = 0; i < mBlockCount; i++) {
+      blockIds[i] = BlockId.createBlockId(mBlockContainerId, i);
+    }
+    return blockIds;
+  }
+
+  @Override
+  public int getBlockCount() {
+    return mBlockCount;
   }
 
   @Override
@@ -157,11 +192,20 @@ public final class MutableInodeFile extends MutableInode<MutableInodeFile>
 
   @Override
   public long getBlockIdByIndex(int blockIndex) throws BlockInfoException {
-    if (blockIndex < 0 || blockIndex >= mBlocks.size()) {
+    if (blockIndex < 0 || blockIndex >= mBlockCount) {
       throw new BlockInfoException(
-          "blockIndex " + blockIndex + " is out of range. File blocks: " + mBlocks.size());
+          "blockIndex " + blockIndex + " is out of range. File blocks: " + mBlockCount);
     }
-    return mBlocks.get(blockIndex);
+    return getBlockId(blockIndex);
+  }
+
+  /**
+   * @param blockIndex the index of a block of the file
+   * @return the id of the block
+   */
+  private long getBlockId(int blockIndex) {
+    return mBlockIds != null ? mBlockIds[blockIndex]
+        : BlockId.createBlockId(mBlockContainerId, blockIndex);
   }
 
   @Override
@@ -208,10 +252,16 @@ public final class MutableInodeFile extends MutableInode<MutableInodeFile>
    * @return the id of a new block of the file
    */
   public long getNewBlockId() {
-    long blockId = BlockId.createBlockId(mBlockContainerId, mBlocks.size());
+    long blockId = BlockId.createBlockId(mBlockContainerId, mBlockCount);
     // TODO(gene): Check for max block sequence number, and sanity check the sequence number.
     // TODO(gene): Check isComplete?
-    mBlocks.add(blockId);
+    if (mBlockIds != null) {
+      if (mBlockCount == mBlockIds.length) {
+        mBlockIds = Arrays.copyOf(mBlockIds, Math.max(2 * mBlockCount, 1));
+      }
+      mBlockIds[mBlockCount] = blockId;
+    }
+    mBlockCount++;
     return blockId;
   }
 
@@ -230,7 +280,18 @@ public final class MutableInodeFile extends MutableInode<MutableInodeFile>
    * @return the updated object
    */
   public MutableInodeFile setBlockIds(List<Long> blockIds) {
-    mBlocks = new ArrayList<>(Preconditions.checkNotNull(blockIds, "blockIds"));
+    Preconditions.checkNotNull(blockIds, "blockIds");
+    mBlockCount = blockIds.size();
+    mBlockIds = null;
+    for (int i = 0; i < mBlockCount; i++) {
+      if (blockIds.get(i) != BlockId.createBlockId(mBlockContainerId, i)) {
+        mBlockIds = new long[mBlockCount];
+        for (int j = 0; j < mBlockCount; j++) {
+          mBlockIds[j] = blockIds.get(j);
+        }
+        break;
+      }
+    }
     return getThis();
   }
 
@@ -354,7 +415,7 @@ public final class MutableInodeFile extends MutableInode<MutableInodeFile>
   @Override
   public String toString() {
     return toStringHelper()
-        .add("blocks", mBlocks)
+        .add("blocks", getBlockIds())
         .add("blockContainerId", mBlockContainerId)
         .add("blockSizeBytes", mBlockSizeBytes)
         .add("cacheable", mCacheable)
@@ -458,7 +519,6 @@ public final class MutableInodeFile extends MutableInode<MutableInodeFile>
   @Override
   public JournalEntry toJournalEntry() {
     InodeFileEntry.Builder inodeFile = InodeFileEntry.newBuilder()
-        .addAllBlocks(getBlockIds())
         .addAllMediumType(getMediumTypes())
         .setBlockSizeBytes(getBlockSizeBytes())
         .setCacheable(isCacheable())
@@ -480,6 +540,9 @@ public final class MutableInodeFile extends MutableInode<MutableInodeFile>
         .setTtlAction(ProtobufUtils.toProtobuf(getTtlAction()))
         .setUfsFingerprint(getUfsFingerprint())
         .setAcl(ProtoUtils.toProto(mAcl));
+    for (int i = 0; i < mBlockCount; i++) {
+      inodeFile.addBlocks(getBlockId(i));
+    }
     if (getXAttr() != null) {
       inodeFile.putAllXAttr(CommonUtils.convertToByteString(getXAttr()));
     }
@@ -494,9 +557,12 @@ public final class MutableInodeFile extends MutableInode<MutableInodeFile>
 
   @Override
   public InodeMeta.Inode toProto() {
-    return super.toProtoBuilder()
+    InodeMeta.Inode.Builder inode = super.toProtoBuilder();
+    for (int i = 0; i < mBlockCount; i++) {
+      inode.addBlocks(getBlockId(i));
+    }
+    return inode
         .setBlockSizeBytes(getBlockSizeBytes())
-        .addAllBlocks(getBlockIds())
         .setIsCacheable(isCacheable())
         .setIsCompleted(isCompleted())
         .setLength(getLength())
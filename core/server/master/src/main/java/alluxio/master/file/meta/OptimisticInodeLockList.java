@@ -0,0 +1,248 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.concurrent.LockMode;
+import alluxio.master.metastore.ReadOnlyInodeStore;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A lock list which takes no locks. Instead of locking inodes and edges, it records their version
+ * stamps from the {@link InodeLockManager}, and {@link #validate()} checks that none of them have
+ * been write locked since. Only read locking is supported.
+ *
+ * Inodes in the list may be modified concurrently, so anything read through the list may be
+ * inconsistent, and must be discarded if validation fails. Inodes are read from the inode store
+ * after their stamp is taken, since a modification between reading an inode and stamping it
+ * would not be seen by validation.
+ */
+@NotThreadSafe
+public class OptimisticInodeLockList implements InodeLockList {
+  private static final Edge ROOT_EDGE = new Edge(-1, "");
+
+  private final InodeLockManager mInodeLockManager;
+  private final ReadOnlyInodeStore mInodeStore;
+  private final List<Inode> mInodes = new ArrayList<>();
+  /** The stamped inode ids and edges, in the order they were added. */
+  private final List<Object> mKeys = new ArrayList<>();
+  private final List<Long> mStamps = new ArrayList<>();
+  /** The last edge if the list ends in an edge, otherwise null. */
+  private Edge mLastEdge;
+  /** Whether a stamp was taken while its inode or edge was being modified. */
+  private boolean mInvalid = false;
+
+  /**
+   * Creates a new empty optimistic lock list.
+   *
+   * @param inodeLockManager manager for inode locks and version stamps
+   * @param inodeStore the inode store to read stamped inodes from
+   */
+  public OptimisticInodeLockList(InodeLockManager inodeLockManager,
+      ReadOnlyInodeStore inodeStore) {
+    mInodeLockManager = inodeLockManager;
+    mInodeStore = inodeStore;
+  }
+
+  @Override
+  public void lockRootEdge(LockMode mode) {
+    Preconditions.checkState(isEmpty(),
+        "Cannot lock root edge when lock list %s is nonempty", this);
+    addEdge(ROOT_EDGE, mode);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The given inode may have been read before its stamp is taken, so the inode added to the list
+   * is read again from the inode store.
+   */
+  @Override
+  public void lockInode(Inode inode, LockMode mode) {
+    checkReadMode(mode);
+    if (!lockInode(inode.getId()).isPresent()) {
+      // The inode has been removed since it was read, so the list can no longer be valid.
+      mInvalid = true;
+      mInodes.add(inode);
+      mLastEdge = null;
+    }
+  }
+
+  /**
+   * Stamps the inode with the given id and then reads it from the inode store, so that any
+   * modification of the inode after it is read fails validation. The inode is added to the list
+   * if it exists. Otherwise only its stamp is recorded, and the list still ends in an edge.
+   *
+   * @param id the id of the inode
+   * @return the inode, or empty if it does not exist
+   */
+  public Optional<Inode> lockInode(long id) {
+    Preconditions.checkState(isEmpty() || !endsInInode(),
+        "Cannot lock inode %s for lock list %s because the lock list already ends in an inode",
+        id, this);
+    long stamp = mInodeLockManager.getInodeStamp(id);
+    mInvalid |= stamp == 0;
+    mKeys.add(id);
+    mStamps.add(stamp);
+    Optional<Inode> inode = mInodeStore.get(id);
+    if (inode.isPresent()) {
+      mInodes.add(inode.get());
+      mLastEdge = null;
+    }
+    return inode;
+  }
+
+  @Override
+  public void lockEdge(Inode inode, String childName, LockMode mode) {
+    Preconditions.checkState(isEmpty() || endsInInode(),
+        "Cannot lock edge %s->%s when lock list %s already ends in an edge", inode.getName(),
+        childName, this);
+    addEdge(new Edge(inode.getId(), childName), mode);
+  }
+
+  private void addEdge(Edge edge, LockMode mode) {
+    checkReadMode(mode);
+    long stamp = mInodeLockManager.getEdgeStamp(edge);
+    mInvalid |= stamp == 0;
+    mKeys.add(edge);
+    mStamps.add(stamp);
+    mLastEdge = edge;
+  }
+
+  /**
+   * Removes the last inode. Its stamp is kept, so that validation still covers it.
+   */
+  @Override
+  public void unlockLastInode() {
+    Preconditions.checkState(!isEmpty() && endsInInode(),
+        "Cannot unlock last inode when the lock list %s does not end in an inode", this);
+    Inode last = mInodes.remove(mInodes.size() - 1);
+    mLastEdge = mInodes.isEmpty() ? ROOT_EDGE : new Edge(lastInode().getId(), last.getName());
+  }
+
+  /**
+   * Removes the last edge. Its stamp is kept, so that validation still covers the absence of the
+   * edge's child.
+   */
+  @Override
+  public void unlockLastEdge() {
+    Preconditions.checkState(!isEmpty() && !endsInInode(),
+        "Cannot unlock last edge when the lock list %s does not end in an edge", this);
+    mLastEdge = null;
+  }
+
+  @Override
+  public void downgradeLastInode() {
+    throw unsupportedWrite();
+  }
+
+  @Override
+  public void downgradeLastEdge() {
+    throw unsupportedWrite();
+  }
+
+  @Override
+  public void pushWriteLockedEdge(Inode inode, String childName) {
+    throw unsupportedWrite();
+  }
+
+  @Override
+  public void downgradeEdgeToInode(Inode inode, LockMode mode) {
+    throw unsupportedWrite();
+  }
+
+  @Override
+  public LockMode getLockMode() {
+    return LockMode.READ;
+  }
+
+  @Override
+  public List<Inode> getLockedInodes() {
+    return new ArrayList<>(mInodes);
+  }
+
+  @Override
+  public Inode get(int index) {
+    return mInodes.get(index);
+  }
+
+  @Override
+  public int numInodes() {
+    return mInodes.size();
+  }
+
+  @Override
+  public boolean endsInInode() {
+    return mLastEdge == null;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return mInodes.isEmpty() && mLastEdge == null;
+  }
+
+  @Override
+  public InodeLockManager getInodeLockManager() {
+    return mInodeLockManager;
+  }
+
+  @Override
+  public boolean validate() {
+    if (mInvalid) {
+      return false;
+    }
+    for (int i = 0; i < mKeys.size(); i++) {
+      Object key = mKeys.get(i);
+      boolean valid = key instanceof Edge
+          ? mInodeLockManager.validateEdgeStamp((Edge) key, mStamps.get(i))
+          : mInodeLockManager.validateInodeStamp((Long) key, mStamps.get(i));
+      if (!valid) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void close() {
+    mInodes.clear();
+    mKeys.clear();
+    mStamps.clear();
+    mLastEdge = null;
+  }
+
+  private Inode lastInode() {
+    return mInodes.get(mInodes.size() - 1);
+  }
+
+  private static void checkReadMode(LockMode mode) {
+    Preconditions.checkState(mode == LockMode.READ,
+        "Optimistic lock lists only support read locks, but got %s", mode);
+  }
+
+  private static UnsupportedOperationException unsupportedWrite() {
+    return new UnsupportedOperationException("Optimistic lock lists cannot hold write locks");
+  }
+
+  @Override
+  public String toString() {
+    String path = mInodes.stream().map(Inode::getName).collect(Collectors.joining("/"));
+    return String.format("Optimistic path: %s, Last edge -> %s", path, mLastEdge);
+  }
+}
@@ -0,0 +1,498 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.Constants;
+import alluxio.collections.LongLongHashMap;
+import alluxio.master.journal.checkpoint.CheckpointInputStream;
+import alluxio.master.journal.checkpoint.CheckpointName;
+import alluxio.master.journal.checkpoint.CheckpointOutputStream;
+import alluxio.master.journal.checkpoint.CheckpointType;
+import alluxio.master.journal.checkpoint.Checkpointed;
+import alluxio.master.metastore.ReadOnlyInodeStore;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Schedules the expiration of inodes with a ttl on a hierarchical timing wheel.
+ * <p>
+ * Time is divided into ticks of one ttl check interval, see {@link TtlBucket#getTtlIntervalMs()}.
+ * The wheel has {@link #LEVELS} levels of {@link #SLOTS} slots each; a slot of level k covers
+ * SLOTS^k ticks. An inode is placed in the lowest level whose current rotation contains its
+ * expiration tick, and is moved down a level each time the wheel reaches the slot holding it.
+ * Slots store inode ids and expiration times in primitive arrays, so scheduling an inode is an
+ * amortized constant time append and costs 16 bytes, plus about 16 bytes in the schedule map.
+ * <p>
+ * Entries are never searched for. The expiration time each inode is currently scheduled for is
+ * kept in a primitive map instead: when the ttl of an inode changes the map is updated and the
+ * inode is scheduled again, and when an inode is deleted it is removed from the map. Entries
+ * which do not match the map are stale, and are dropped when they expire. Once stale entries
+ * outnumber the scheduled inodes, they are compacted away, so the memory used by the wheel is
+ * proportional to the number of inodes with a ttl rather than to the number of ttl changes.
+ * <p>
+ * Expired entries are not returned all at once. {@link #advance(long)} moves the entries that
+ * have expired into a backlog, from which {@link #pollExpired(int)} takes bounded chunks.
+ */
+@ThreadSafe
+public final class TtlTimingWheel implements Checkpointed {
+  private static final Logger LOG = LoggerFactory.getLogger(TtlTimingWheel.class);
+
+  private static final int SLOT_BITS = 6;
+  /** The number of slots in each level, one bit of a long per slot. */
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final long SLOT_MASK = SLOTS - 1;
+  /** With one millisecond ticks, the levels cover more than a hundred years. */
+  private static final int LEVELS = 7;
+  /** The number of stale entries below which the wheel is never compacted. */
+  private static final int MIN_STALE_ENTRIES_TO_COMPACT = 1024;
+  /** The sentinel for inodes which are not scheduled, no expiration time is this early. */
+  private static final long NOT_SCHEDULED = Long.MIN_VALUE;
+
+  private final ReadOnlyInodeStore mInodeStore;
+  private final long mTickMs;
+
+  /** The expiration time each scheduled inode is due at, keyed by inode id. */
+  private final LongLongHashMap mExpirations = new LongLongHashMap(NOT_SCHEDULED);
+  /** The slots of each level, a slot is null when it is empty. */
+  private final Slot[][] mWheel = new Slot[LEVELS][SLOTS];
+  /** For each level, bit j is set if and only if slot j is not empty. */
+  private final long[] mOccupied = new long[LEVELS];
+  /** Entries expiring after the last rotation of the top level. */
+  private Slot mOverflow = new Slot();
+  /** The expired entries which have not been polled yet. */
+  private final ArrayDeque<Slot> mBacklog = new ArrayDeque<>();
+  /** The index of the next entry to poll in the first slot of the backlog. */
+  private int mBacklogHead;
+  /** All ticks before this one have expired. */
+  private long mCurrentTick;
+  private long mScheduledCount;
+  private long mBacklogCount;
+
+  /**
+   * Creates a new timing wheel starting at the current time.
+   *
+   * @param inodeStore the inode store
+   */
+  public TtlTimingWheel(ReadOnlyInodeStore inodeStore) {
+    this(inodeStore, System.currentTimeMillis());
+  }
+
+  /**
+   * Creates a new timing wheel.
+   *
+   * @param inodeStore the inode store
+   * @param startTimeMs the time before which all inodes are considered expired
+   */
+  @VisibleForTesting
+  TtlTimingWheel(ReadOnlyInodeStore inodeStore, long startTimeMs) {
+    mInodeStore = inodeStore;
+    mTickMs = Math.max(TtlBucket.getTtlIntervalMs(), 1);
+    mCurrentTick = startTimeMs / mTickMs;
+  }
+
+  /**
+   * Schedules an inode to expire at the end of its ttl, replacing any previous schedule of the
+   * inode. Inodes with {@link Constants#NO_TTL} are unscheduled.
+   *
+   * @param inode the inode to schedule
+   */
+  public void insert(InodeView inode) {
+    if (inode.getTtl() == Constants.NO_TTL) {
+      remove(inode.getId());
+      return;
+    }
+    long expirationMs = getExpirationMs(inode);
+    synchronized (this) {
+      if (mExpirations.put(inode.getId(), expirationMs) == expirationMs) {
+        return;
+      }
+      schedule(inode.getId(), expirationMs);
+      mScheduledCount++;
+      maybeCompact();
+    }
+  }
+
+  /**
+   * Unschedules an inode, for example because it has been deleted.
+   *
+   * @param id the inode id
+   */
+  public synchronized void remove(long id) {
+    if (mExpirations.remove(id) != NOT_SCHEDULED) {
+      maybeCompact();
+    }
+  }
+
+  /**
+   * Moves all entries which have expired at the given time to the backlog. An entry expires once
+   * the whole tick containing its expiration time has passed.
+   *
+   * @param timeMs the current time
+   */
+  public synchronized void advance(long timeMs) {
+    long lastTick = TtlBucket.getTtlIntervalMs() == 0 ? timeMs : timeMs / mTickMs - 1;
+    while (mCurrentTick <= lastTick) {
+      cascade(mCurrentTick);
+      int index = (int) (mCurrentTick & SLOT_MASK);
+      Slot slot = mWheel[0][index];
+      if (slot != null) {
+        clear(0, index);
+        mScheduledCount -= slot.mSize;
+        mBacklogCount += slot.mSize;
+        mBacklog.add(slot);
+      }
+      mCurrentTick = Math.min(nextEventTick(mCurrentTick), lastTick + 1);
+    }
+  }
+
+  /**
+   * Takes up to the given number of entries from the backlog and returns the inodes which are
+   * still due to expire. Returned inodes are unscheduled. Stale entries are dropped, so fewer
+   * inodes than entries may be returned even when the backlog is not empty.
+   *
+   * @param maxEntries the maximum number of entries to take
+   * @return the expired inodes
+   */
+  public List<Inode> pollExpired(int maxEntries) {
+    Preconditions.checkArgument(maxEntries > 0, "maxEntries must be positive");
+    long[] ids;
+    long[] expirations;
+    int count = 0;
+    synchronized (this) {
+      int size = (int) Math.min(maxEntries, mBacklogCount);
+      ids = new long[size];
+      expirations = new long[size];
+      while (count < size) {
+        Slot slot = mBacklog.peek();
+        int n = Math.min(size - count, slot.mSize - mBacklogHead);
+        System.arraycopy(slot.mIds, mBacklogHead, ids, count, n);
+        System.arraycopy(slot.mExpirations, mBacklogHead, expirations, count, n);
+        count += n;
+        mBacklogHead += n;
+        if (mBacklogHead == slot.mSize) {
+          mBacklog.poll();
+          mBacklogHead = 0;
+        }
+      }
+      mBacklogCount -= count;
+      // Keep the entries which match the schedule, removing the inodes from it so that a
+      // duplicate entry for the same schedule is dropped as well.
+      int due = 0;
+      for (int i = 0; i < count; i++) {
+        if (mExpirations.get(ids[i]) == expirations[i]) {
+          mExpirations.remove(ids[i]);
+          ids[due] = ids[i];
+          expirations[due] = expirations[i];
+          due++;
+        }
+      }
+      count = due;
+    }
+    List<Inode> expired = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Optional<Inode> inode = mInodeStore.get(ids[i]);
+      if (inode.isPresent() && inode.get().getTtl() != Constants.NO_TTL
+          && getExpirationMs(inode.get()) == expirations[i]) {
+        expired.add(inode.get());
+      }
+    }
+    return expired;
+  }
+
+  /**
+   * @return the number of entries which have not expired yet, including stale entries
+   */
+  public synchronized long getScheduledCount() {
+    return mScheduledCount;
+  }
+
+  /**
+   * @return the number of expired entries which have not been polled yet
+   */
+  public synchronized long getBacklogCount() {
+    return mBacklogCount;
+  }
+
+  /**
+   * Removes all entries.
+   */
+  public synchronized void clear() {
+    for (int level = 0; level < LEVELS; level++) {
+      for (int index = 0; index < SLOTS; index++) {
+        mWheel[level][index] = null;
+      }
+      mOccupied[level] = 0;
+    }
+    mOverflow = new Slot();
+    mBacklog.clear();
+    mBacklogHead = 0;
+    mScheduledCount = 0;
+    mBacklogCount = 0;
+    mExpirations.clear();
+  }
+
+  /**
+   * Drops all stale entries once they outnumber the scheduled inodes, so that compacting takes
+   * amortized constant time per stale entry.
+   */
+  private void maybeCompact() {
+    long stale = mScheduledCount + mBacklogCount - mExpirations.size();
+    if (stale < Math.max(mExpirations.size(), MIN_STALE_ENTRIES_TO_COMPACT)) {
+      return;
+    }
+    // The inodes which already have an entry, so that duplicates of an entry are dropped too.
+    LongLongHashMap kept = new LongLongHashMap(mExpirations.size(), NOT_SCHEDULED);
+    mScheduledCount = 0;
+    for (int level = 0; level < LEVELS; level++) {
+      for (int index = 0; index < SLOTS; index++) {
+        Slot slot = mWheel[level][index];
+        if (slot != null) {
+          slot = compact(slot, 0, kept);
+          if (slot == null) {
+            clear(level, index);
+          } else {
+            mWheel[level][index] = slot;
+            mScheduledCount += slot.mSize;
+          }
+        }
+      }
+    }
+    Slot overflow = compact(mOverflow, 0, kept);
+    mOverflow = overflow == null ? new Slot() : overflow;
+    mScheduledCount += mOverflow.mSize;
+    ArrayDeque<Slot> backlog = new ArrayDeque<>();
+    mBacklogCount = 0;
+    int head = mBacklogHead;
+    for (Slot slot : mBacklog) {
+      slot = compact(slot, head, kept);
+      head = 0;
+      if (slot != null) {
+        backlog.add(slot);
+        mBacklogCount += slot.mSize;
+      }
+    }
+    mBacklog.clear();
+    mBacklog.addAll(backlog);
+    mBacklogHead = 0;
+  }
+
+  /**
+   * @param slot a slot
+   * @param from the index of the first entry of the slot to keep
+   * @param kept the inodes whose entry has already been kept, updated with the kept entries
+   * @return a slot with the entries of the given slot which match the schedule and have not been
+   *         kept yet, or null if there are none
+   */
+  @Nullable
+  private Slot compact(Slot slot, int from, LongLongHashMap kept) {
+    Slot compacted = new Slot();
+    for (int i = from; i < slot.mSize; i++) {
+      long id = slot.mIds[i];
+      if (mExpirations.get(id) == slot.mExpirations[i] && kept.put(id, 1) == NOT_SCHEDULED) {
+        compacted.add(id, slot.mExpirations[i]);
+      }
+    }
+    return compacted.mSize == 0 ? null : compacted;
+  }
+
+  /**
+   * Adds an entry to the slot for its expiration time, or to the backlog if that time has
+   * already passed.
+   *
+   * @param id the inode id
+   * @param expirationMs the expiration time
+   */
+  private void schedule(long id, long expirationMs) {
+    long tick = expirationMs / mTickMs;
+    if (tick < mCurrentTick) {
+      Slot last = mBacklog.peekLast();
+      if (last == null) {
+        last = new Slot();
+        mBacklog.add(last);
+      }
+      last.add(id, expirationMs);
+      mBacklogCount++;
+      mScheduledCount--;
+      return;
+    }
+    for (int level = 0; level < LEVELS; level++) {
+      int shift = SLOT_BITS * (level + 1);
+      if (tick >>> shift == mCurrentTick >>> shift) {
+        int index = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Slot slot = mWheel[level][index];
+        if (slot == null) {
+          slot = new Slot();
+          mWheel[level][index] = slot;
+          mOccupied[level] |= 1L << index;
+        }
+        slot.add(id, expirationMs);
+        return;
+      }
+    }
+    mOverflow.add(id, expirationMs);
+  }
+
+  /**
+   * Moves the entries of every slot which starts at the given tick to the lower levels.
+   *
+   * @param tick the tick the wheel has reached
+   */
+  private void cascade(long tick) {
+    for (int level = LEVELS; level >= 1; level--) {
+      long mask = (1L << (SLOT_BITS * level)) - 1;
+      if ((tick & mask) != 0) {
+        continue;
+      }
+      Slot slot;
+      if (level == LEVELS) {
+        if (mOverflow.mSize == 0) {
+          continue;
+        }
+        slot = mOverflow;
+        mOverflow = new Slot();
+      } else {
+        int index = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        slot = mWheel[level][index];
+        if (slot == null) {
+          continue;
+        }
+        clear(level, index);
+      }
+      for (int i = 0; i < slot.mSize; i++) {
+        schedule(slot.mIds[i], slot.mExpirations[i]);
+      }
+    }
+  }
+
+  /**
+   * @param tick the tick which has just been processed
+   * @return the next tick at which a slot must be expired or cascaded
+   */
+  private long nextEventTick(long tick) {
+    long next = Long.MAX_VALUE;
+    for (int level = 0; level < LEVELS; level++) {
+      int position = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+      // Slots at or before the current position have already been expired or cascaded.
+      long later = position == SLOTS - 1 ? 0 : mOccupied[level] & (-1L << (position + 1));
+      if (later != 0) {
+        int shift = SLOT_BITS * (level + 1);
+        long rotationStart = (tick >>> shift) << shift;
+        next = Math.min(next,
+            rotationStart + ((long) Long.numberOfTrailingZeros(later) << (SLOT_BITS * level)));
+      }
+    }
+    if (mOverflow.mSize > 0) {
+      int shift = SLOT_BITS * LEVELS;
+      next = Math.min(next, ((tick >>> shift) + 1) << shift);
+    }
+    return next;
+  }
+
+  private void clear(int level, int index) {
+    mWheel[level][index] = null;
+    mOccupied[level] &= ~(1L << index);
+  }
+
+  private static long getExpirationMs(InodeView inode) {
+    long creationTimeMs = inode.getCreationTimeMs();
+    long ttl = inode.getTtl();
+    return ttl > Long.MAX_VALUE - Math.max(creationTimeMs, 0) ? Long.MAX_VALUE
+        : creationTimeMs + ttl;
+  }
+
+  @Override
+  public CheckpointName getCheckpointName() {
+    return CheckpointName.TTL_BUCKET_LIST;
+  }
+
+  @Override
+  public boolean dependsOnPrecedingComponents() {
+    // Inode ids are resolved through the inode store, which is restored first.
+    return true;
+  }
+
+  @Override
+  public void writeToCheckpoint(OutputStream output) throws IOException, InterruptedException {
+    // Only ids are written, once per inode. The expiration times are read from the inode store on
+    // restore.
+    long[] ids;
+    synchronized (this) {
+      ids = new long[mExpirations.size()];
+      int[] count = new int[1];
+      mExpirations.forEach((id, expirationMs) -> ids[count[0]++] = id);
+    }
+    CheckpointOutputStream cos = new CheckpointOutputStream(output, CheckpointType.LONGS);
+    for (long id : ids) {
+      cos.writeLong(id);
+    }
+  }
+
+  @Override
+  public void restoreFromCheckpoint(CheckpointInputStream input) throws IOException {
+    clear();
+    Preconditions.checkState(input.getType() == CheckpointType.LONGS,
+        "Unexpected checkpoint type: %s", input.getType());
+    while (true) {
+      try {
+        long id = input.readLong();
+        Optional<Inode> inode = mInodeStore.get(id);
+        if (inode.isPresent()) {
+          // Checkpoints written by older versions may list an inode more than once, inserting
+          // an inode again with the same ttl has no effect.
+          insert(inode.get());
+        } else {
+          LOG.debug("Dropping ttl entry of deleted inode {}", id);
+        }
+      } catch (EOFException e) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * A growable array of inode ids and their expiration times.
+   */
+  private static final class Slot {
+    private long[] mIds = new long[4];
+    private long[] mExpirations = new long[4];
+    private int mSize;
+
+    void add(long id, long expirationMs) {
+      if (mSize == mIds.length) {
+        int capacity = mSize * 2;
+        long[] ids = new long[capacity];
+        long[] expirations = new long[capacity];
+        System.arraycopy(mIds, 0, ids, 0, mSize);
+        System.arraycopy(mExpirations, 0, expirations, 0, mSize);
+        mIds = ids;
+        mExpirations = expirations;
+      }
+      mIds[mSize] = id;
+      mExpirations[mSize] = expirationMs;
+      mSize++;
+    }
+  }
+}
@@ -13,6 +13,9 @@ package alluxio.master.file.replication;
 
 import alluxio.AlluxioURI;
 import alluxio.client.job.JobMasterClientPool;
+import alluxio.collections.ConcurrentHashSet;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.exception.BlockInfoException;
 import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.JobDoesNotExistException;
@@ -28,6 +31,7 @@ import alluxio.master.file.meta.InodeTree;
 import alluxio.master.file.meta.InodeTree.LockPattern;
 import alluxio.master.file.meta.LockedInodePath;
 import alluxio.master.file.meta.PersistenceState;
+import alluxio.util.IdUtils;
 import alluxio.wire.BlockInfo;
 import alluxio.wire.BlockLocation;
 
@@ -42,14 +46,22 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * The executor to check block replication level periodically and handle over-replicated and
  * under-replicated blocks correspondingly.
+ *
+ * All pinned and replication limited files are checked at the first heartbeat, and then once every
+ * {@link PropertyKey#MASTER_REPLICATION_CHECK_FULL_SCAN_INTERVAL}. The other heartbeats only check
+ * the files which became dirty since the previous heartbeat: the files with a block replica added
+ * or removed, including the replicas of lost workers, and the files whose replication settings
+ * changed.
  */
 @ThreadSafe
 public final class ReplicationChecker implements HeartbeatExecutor {
@@ -64,6 +76,16 @@ public final class ReplicationChecker implements HeartbeatExecutor {
   private final ReplicationHandler mReplicationHandler;
   /** Manager of master safe mode state. */
   private final SafeModeManager mSafeModeManager;
+  private final long mFullScanIntervalMs;
+
+  /** Ids of the files which may need to be checked since the previous heartbeat. */
+  private final ConcurrentHashSet<Long> mDirtyFileIds = new ConcurrentHashSet<>();
+  private final Consumer<Long> mBlockReplicaChangeListener =
+      blockId -> mDirtyFileIds.add(IdUtils.fileIdFromBlockId(blockId));
+  private final Consumer<Long> mReplicationChangeListener = mDirtyFileIds::add;
+
+  /** The time of the next check of all files, 0 for the first heartbeat. */
+  private long mNextFullScanMs = 0;
 
   /**
    * Quiet period for job service flow control (in seconds). When job service refuses starting new
@@ -107,6 +129,10 @@ public final class ReplicationChecker implements HeartbeatExecutor {
     mSafeModeManager = safeModeManager;
     mReplicationHandler = replicationHandler;
     mQuietPeriodSeconds = 0;
+    mFullScanIntervalMs =
+        ServerConfiguration.getMs(PropertyKey.MASTER_REPLICATION_CHECK_FULL_SCAN_INTERVAL);
+    mBlockMaster.registerBlockReplicaChangeListener(mBlockReplicaChangeListener);
+    mInodeTree.registerReplicationChangeListener(mReplicationChangeListener);
   }
 
   /**
@@ -119,6 +145,9 @@ public final class ReplicationChecker implements HeartbeatExecutor {
    * failures), and schedule replicate jobs to increase the replication level when found;
    *
    * (2) Is there any blocks over replicated, schedule evict jobs to reduce the replication level.
+   *
+   * All pinned and replication limited files are checked when a full scan is due, otherwise only
+   * the files marked dirty since the previous heartbeat are checked.
    */
   @Override
   public void heartbeat() throws InterruptedException {
@@ -128,24 +157,67 @@ public final class ReplicationChecker implements HeartbeatExecutor {
     }
 
     TimeUnit.SECONDS.sleep(mQuietPeriodSeconds);
-    Set<Long> inodes;
+    long nowMs = System.currentTimeMillis();
+    if (nowMs >= mNextFullScanMs) {
+      // Files which become dirty during the scan are checked again by the next heartbeat.
+      mDirtyFileIds.clear();
+      if (checkAll()) {
+        mNextFullScanMs = nowMs + mFullScanIntervalMs;
+      }
+      return;
+    }
 
+    Set<Long> pinned = new HashSet<>();
+    Set<Long> replicationLimited = new HashSet<>();
+    Set<Long> replicationLimitedIds = mInodeTree.getReplicationLimitedFileIds();
+    Iterator<Long> it = mDirtyFileIds.iterator();
+    while (it.hasNext()) {
+      long fileId = it.next();
+      it.remove();
+      if (mInodeTree.isPinnedFile(fileId)) {
+        pinned.add(fileId);
+      }
+      if (replicationLimitedIds.contains(fileId)) {
+        replicationLimited.add(fileId);
+      }
+    }
+    boolean checked = check(pinned, mReplicationHandler, Mode.REPLICATE)
+        && check(replicationLimited, mReplicationHandler, Mode.EVICT)
+        && checkMisreplicated(pinned, mReplicationHandler);
+    if (!checked) {
+      // Check the files again by the next heartbeat.
+      mDirtyFileIds.addAll(pinned);
+      mDirtyFileIds.addAll(replicationLimited);
+    }
+  }
+
+  /**
+   * Checks all files which could be under-replicated, over-replicated or mis-replicated.
+   *
+   * @return whether all files were checked
+   */
+  private boolean checkAll() {
     // Check the set of files that could possibly be under-replicated
-    inodes = mInodeTree.getPinIdSet();
-    check(inodes, mReplicationHandler, Mode.REPLICATE);
+    Set<Long> inodes = mInodeTree.getPinIdSet();
+    if (!check(inodes, mReplicationHandler, Mode.REPLICATE)) {
+      return false;
+    }
 
     // Check the set of files that could possibly be over-replicated
     inodes = mInodeTree.getReplicationLimitedFileIds();
-    check(inodes, mReplicationHandler, Mode.EVICT);
+    if (!check(inodes, mReplicationHandler, Mode.EVICT)) {
+      return false;
+    }
 
     // Check the set of files that could possibly be mis-replicated
     inodes = mInodeTree.getPinIdSet();
-    checkMisreplicated(inodes, mReplicationHandler);
+    return checkMisreplicated(inodes, mReplicationHandler);
   }
 
   @Override
   public void close() {
-    // Nothing to clean up
+    mBlockMaster.removeBlockReplicaChangeListener(mBlockReplicaChangeListener);
+    mInodeTree.removeReplicationChangeListener(mReplicationChangeListener);
   }
 
   /**
@@ -194,11 +266,14 @@ public final class ReplicationChecker implements HeartbeatExecutor {
     return movement;
   }
 
-  private void checkMisreplicated(Set<Long> inodes, ReplicationHandler handler) {
+  /**
+   * @return whether all files were checked
+   */
+  private boolean checkMisreplicated(Set<Long> inodes, ReplicationHandler handler) {
     for (long inodeId : inodes) {
       try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(inodeId, LockPattern.READ)) {
         InodeFile file = inodePath.getInodeFile();
-        for (long blockId : file.getBlockIds()) {
+        for (long blockId : file.getBlockIdArray()) {
           BlockInfo blockInfo = null;
           try {
             blockInfo = mBlockMaster.getBlockInfo(blockId);
@@ -207,12 +282,12 @@ public final class ReplicationChecker implements HeartbeatExecutor {
           } catch (UnavailableException e) {
             // The block master is not available, wait for the next heartbeat
             LOG.warn("The block master is not available: {}", e.getMessage());
-            return;
+            return false;
           }
           if (blockInfo == null) {
-            // no block info available, we simply log and return;
+            // no block info available, we simply log and move on to the next block
             LOG.warn("Block info is null");
-            return;
+            continue;
           }
 
           for (Map.Entry<String, String> entry
@@ -232,9 +307,13 @@ public final class ReplicationChecker implements HeartbeatExecutor {
         LOG.warn("Failed to check replication level for inode id {} : {}", inodeId, e.getMessage());
       }
     }
+    return true;
   }
 
-  private void check(Set<Long> inodes, ReplicationHandler handler, Mode mode) {
+  /**
+   * @return whether all files were checked and all jobs were started
+   */
+  private boolean check(Set<Long> inodes, ReplicationHandler handler, Mode mode) {
     Set<Long> lostBlocks = mBlockMaster.getLostBlocks();
     Set<Triple<AlluxioURI, Long, Integer>> requests = new HashSet<>();
     for (long inodeId : inodes) {
@@ -243,7 +322,7 @@ public final class ReplicationChecker implements HeartbeatExecutor {
       // locking the entire path but just the inode file since this access is read-only.
       try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(inodeId, LockPattern.READ)) {
         InodeFile file = inodePath.getInodeFile();
-        for (long blockId : file.getBlockIds()) {
+        for (long blockId : file.getBlockIdArray()) {
           BlockInfo blockInfo = null;
           try {
             blockInfo = mBlockMaster.getBlockInfo(blockId);
@@ -252,7 +331,7 @@ public final class ReplicationChecker implements HeartbeatExecutor {
           } catch (UnavailableException e) {
             // The block master is not available, wait for the next heartbeat
             LOG.warn("The block master is not available: {}", e.getMessage());
-            return;
+            return false;
           }
           int currentReplicas = (blockInfo == null) ? 0 : blockInfo.getLocations().size();
           switch (mode) {
@@ -311,11 +390,11 @@ public final class ReplicationChecker implements HeartbeatExecutor {
         LOG.warn("The job service is busy, will retry later. {}", e.toString());
         mQuietPeriodSeconds = (mQuietPeriodSeconds == 0) ? 1 :
             Math.min(MAX_QUIET_PERIOD_SECONDS, mQuietPeriodSeconds * 2);
-        return;
+        return false;
       } catch (UnavailableException e) {
         LOG.warn("Unable to complete the replication check: {}, will retry later.",
             e.getMessage());
-        return;
+        return false;
       } catch (Exception e) {
         LOG.warn(
             "Unexpected exception encountered when starting a replication / eviction job (uri={},"
@@ -324,5 +403,6 @@ public final class ReplicationChecker implements HeartbeatExecutor {
         LOG.debug("Exception: ", e);
       }
     }
+    return true;
   }
 }
@@ -0,0 +1,332 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.tool;
+
+import alluxio.AlluxioURI;
+import alluxio.Constants;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.master.BackupManager;
+import alluxio.master.CoreMasterContext;
+import alluxio.master.DefaultSafeModeManager;
+import alluxio.master.Master;
+import alluxio.master.MasterRegistry;
+import alluxio.master.MasterUtils;
+import alluxio.master.journal.JournalEntryAssociation;
+import alluxio.master.journal.JournalReader;
+import alluxio.master.journal.JournalType;
+import alluxio.master.journal.JournalUtils;
+import alluxio.master.journal.ParallelJournalApplier;
+import alluxio.master.journal.checkpoint.CheckpointInputStream;
+import alluxio.master.journal.noop.NoopJournalSystem;
+import alluxio.master.journal.raft.JournalEntryBatchCodec;
+import alluxio.master.journal.raft.JournalEntryBatchCommand;
+import alluxio.master.journal.raft.JournalEntryCommand;
+import alluxio.master.journal.raft.RaftJournalSystem;
+import alluxio.master.journal.raft.SnapshotReaderStream;
+import alluxio.master.journal.ufs.UfsJournal;
+import alluxio.master.journal.ufs.UfsJournalReader;
+import alluxio.master.journal.ufs.UfsJournalSystem;
+import alluxio.master.metastore.MetastoreType;
+import alluxio.proto.journal.Journal.JournalEntry;
+import alluxio.util.io.FileUtils;
+import alluxio.util.io.PathUtils;
+
+import io.atomix.catalyst.concurrent.SingleThreadContext;
+import io.atomix.catalyst.serializer.Serializer;
+import io.atomix.copycat.Command;
+import io.atomix.copycat.protocol.ClientRequestTypeResolver;
+import io.atomix.copycat.protocol.ClientResponseTypeResolver;
+import io.atomix.copycat.server.storage.Log;
+import io.atomix.copycat.server.storage.Storage;
+import io.atomix.copycat.server.storage.entry.CommandEntry;
+import io.atomix.copycat.server.storage.entry.Entry;
+import io.atomix.copycat.server.storage.snapshot.SnapshotReader;
+import io.atomix.copycat.server.storage.snapshot.SnapshotStore;
+import io.atomix.copycat.server.storage.util.StorageSerialization;
+import io.atomix.copycat.server.util.ServerSerialization;
+import io.atomix.copycat.util.ProtocolSerialization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Benchmark which replays an existing journal into newly created masters backed by the chosen
+ * {@link MetastoreType}, and reports how quickly the entries are applied. This approximates the
+ * catch-up work of a master during failover. The journal being replayed is only read.
+ */
+@NotThreadSafe
+public final class JournalReplayBenchmark extends AbstractJournalBenchmark {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalReplayBenchmark.class);
+
+  private final String mInputDir;
+  private final String mOutputDir;
+  private final MetastoreType mMetastoreType;
+
+  /**
+   * Creates a new journal replay benchmark.
+   *
+   * @param inputDir the directory of the journal to replay
+   * @param outputDir the directory to keep on-disk metastore state in
+   * @param metastoreType the name of the metastore type to replay into
+   */
+  public JournalReplayBenchmark(String inputDir, String outputDir, String metastoreType) {
+    mInputDir = inputDir;
+    mOutputDir = outputDir;
+    mMetastoreType = MetastoreType.valueOf(metastoreType.toUpperCase());
+  }
+
+  @Override
+  public void run() throws Throwable {
+    ServerConfiguration.set(PropertyKey.MASTER_METASTORE, mMetastoreType);
+    String metastoreDir = PathUtils.concatPath(mOutputDir, "metastore");
+    MasterRegistry registry = new MasterRegistry();
+    MasterUtils.createMasters(registry, CoreMasterContext.newBuilder()
+        .setJournalSystem(new NoopJournalSystem())
+        .setSafeModeManager(new DefaultSafeModeManager())
+        .setBackupManager(new BackupManager(registry))
+        .setBlockStoreFactory(MasterUtils.getBlockStoreFactory(metastoreDir))
+        .setInodeStoreFactory(MasterUtils.getInodeStoreFactory(metastoreDir))
+        .setStartTimeMs(System.currentTimeMillis())
+        .setPort(ServerConfiguration.getInt(PropertyKey.MASTER_RPC_PORT))
+        .build());
+    List<Master> masters = registry.getServers();
+
+    JournalType journalType =
+        ServerConfiguration.getEnum(PropertyKey.MASTER_JOURNAL_TYPE, JournalType.class);
+    long startNs = System.nanoTime();
+    long entries = 0;
+    switch (journalType) {
+      case UFS:
+        for (Master master : masters) {
+          entries += replayUfsJournal(master);
+        }
+        break;
+      case EMBEDDED:
+        entries = replayRaftJournal(masters);
+        break;
+      default:
+        throw new IllegalStateException("Cannot replay journal of type " + journalType);
+    }
+    long durationNs = System.nanoTime() - startNs;
+    System.out.printf("Replayed %d entries into the %s metastore in %dms: %.1f entries/sec%n",
+        entries, mMetastoreType, durationNs / Constants.MS_NANO, perSecond(entries, durationNs));
+  }
+
+  /**
+   * Replays the UFS journal of a master the same way a standby master catches up.
+   *
+   * @param master the master to replay into
+   * @return the number of log entries replayed
+   */
+  private long replayUfsJournal(Master master) throws IOException {
+    long entries = 0;
+    long checkpointNs = 0;
+    long startNs = System.nanoTime();
+    try (UfsJournal journal = new UfsJournalSystem(getJournalLocation(), 0).createJournal(master);
+        JournalReader reader = new UfsJournalReader(journal, 0, true);
+        ParallelJournalApplier applier = ParallelJournalApplier.create(master.getName(),
+            entry -> applyEntry(master, entry))) {
+      JournalReader.State state;
+      while ((state = reader.advance()) != JournalReader.State.DONE) {
+        if (state == JournalReader.State.CHECKPOINT) {
+          applier.drain();
+          long checkpointStartNs = System.nanoTime();
+          JournalUtils.restoreComponentFromCheckpoint(master, reader.getCheckpoint());
+          checkpointNs += System.nanoTime() - checkpointStartNs;
+        } else {
+          applier.submit(reader.getEntry());
+          entries++;
+        }
+      }
+      applier.drain();
+    }
+    long durationNs = System.nanoTime() - startNs;
+    System.out.printf("%s: restored checkpoints in %dms and replayed %d entries in %dms: "
+            + "%.1f entries/sec%n", master.getName(), checkpointNs / Constants.MS_NANO, entries,
+        (durationNs - checkpointNs) / Constants.MS_NANO,
+        perSecond(entries, durationNs - checkpointNs));
+    return entries;
+  }
+
+  /**
+   * Replays the snapshot and log of an embedded journal directly from disk.
+   *
+   * @param masters the masters to replay into
+   * @return the number of log entries replayed
+   */
+  private long replayRaftJournal(List<Master> masters) throws Throwable {
+    // Copycat does not check that the directory holds a journal, so at least check it exists.
+    if (!FileUtils.exists(mInputDir)) {
+      throw new FileNotFoundException(String.format("Input dir does not exist: %s", mInputDir));
+    }
+    Serializer serializer = RaftJournalSystem.createSerializer();
+    serializer.resolve(new ClientRequestTypeResolver());
+    serializer.resolve(new ClientResponseTypeResolver());
+    serializer.resolve(new ProtocolSerialization());
+    serializer.resolve(new ServerSerialization());
+    serializer.resolve(new StorageSerialization());
+    SingleThreadContext context = new SingleThreadContext("replayJournal", serializer);
+    try (RaftReplayer replayer = new RaftReplayer(masters)) {
+      context.execute(replayer::replay).get();
+      return replayer.getEntriesReplayed();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw e;
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    } finally {
+      context.close();
+    }
+  }
+
+  private URI getJournalLocation() {
+    try {
+      return new URI(PathUtils.normalizePath(mInputDir, AlluxioURI.SEPARATOR));
+    } catch (URISyntaxException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static void applyEntry(Master master, JournalEntry entry) {
+    try {
+      master.processJournalEntry(entry);
+    } catch (Throwable t) {
+      JournalUtils.handleJournalReplayFailure(LOG, t, "%s: Failed to apply journal entry %s",
+          master.getName(), entry);
+    }
+  }
+
+  /**
+   * Replays an embedded journal, applying entries the way the journal state machine does.
+   */
+  private final class RaftReplayer implements AutoCloseable {
+    private final List<Master> mMasters;
+    private final Map<String, Master> mMastersByName;
+    private final ParallelJournalApplier mApplier;
+    private long mNextSequenceNumber = 0;
+    private long mEntriesReplayed = 0;
+
+    RaftReplayer(List<Master> masters) {
+      mMasters = masters;
+      mMastersByName =
+          masters.stream().collect(Collectors.toMap(Master::getName, Function.identity()));
+      mApplier = ParallelJournalApplier.create("JournalReplayBenchmark", this::applyRoutedEntry);
+    }
+
+    /**
+     * Installs the latest snapshot and replays the log after it.
+     */
+    void replay() {
+      Storage storage = Storage.builder().withDirectory(mInputDir).build();
+      try {
+        long startNs = System.nanoTime();
+        installSnapshot(storage.openSnapshotStore("copycat"));
+        long snapshotNs = System.nanoTime() - startNs;
+        System.out.printf("Installed snapshot in %dms%n", snapshotNs / Constants.MS_NANO);
+        replayLog(storage.openLog("copycat"));
+        long logNs = System.nanoTime() - startNs - snapshotNs;
+        System.out.printf("Replayed %d log entries in %dms: %.1f entries/sec%n", mEntriesReplayed,
+            logNs / Constants.MS_NANO, perSecond(mEntriesReplayed, logNs));
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    long getEntriesReplayed() {
+      return mEntriesReplayed;
+    }
+
+    private void installSnapshot(SnapshotStore snapshotStore) throws IOException {
+      if (snapshotStore.snapshots().isEmpty()) {
+        LOG.debug("No snapshot found.");
+        return;
+      }
+      try (SnapshotReader snapshotReader = snapshotStore.currentSnapshot().reader();
+          InputStream srs = new SnapshotReaderStream(snapshotReader)) {
+        long snapshotId = snapshotReader.readLong();
+        JournalUtils.restoreFromCheckpoint(new CheckpointInputStream(srs), mMasters);
+        mNextSequenceNumber = snapshotId + 1;
+      }
+    }
+
+    private void replayLog(Log log) throws IOException {
+      try {
+        for (long i = log.firstIndex(); i <= log.lastIndex(); i++) {
+          Entry entry = log.get(i);
+          if (!(entry instanceof CommandEntry)) {
+            continue;
+          }
+          Command command = ((CommandEntry) entry).getCommand();
+          if (command instanceof JournalEntryCommand) {
+            submit(JournalEntry
+                .parseFrom(((JournalEntryCommand) command).getSerializedJournalEntry()));
+          } else if (command instanceof JournalEntryBatchCommand) {
+            JournalEntryBatchCodec.decode((JournalEntryBatchCommand) command, this::submit);
+          }
+        }
+        mApplier.drain();
+      } finally {
+        log.close();
+      }
+    }
+
+    /**
+     * Submits an entry for replay, expanding multi-entries and skipping special, empty, and
+     * duplicate entries.
+     *
+     * @param entry the entry to submit
+     */
+    private void submit(JournalEntry entry) {
+      if (entry.getJournalEntriesCount() > 0) {
+        for (JournalEntry e : entry.getJournalEntriesList()) {
+          submit(e);
+        }
+      } else if (entry.getSequenceNumber() < mNextSequenceNumber
+          || entry.toBuilder().clearSequenceNumber().build()
+              .equals(JournalEntry.getDefaultInstance())) {
+        // Negative sequence numbers mark primary changes, empty entries are created during
+        // snapshotting, and lower sequence numbers are retried writes.
+      } else {
+        mNextSequenceNumber = entry.getSequenceNumber() + 1;
+        mApplier.submit(entry);
+        mEntriesReplayed++;
+      }
+    }
+
+    private void applyRoutedEntry(JournalEntry entry) {
+      Master master = mMastersByName.get(JournalEntryAssociation.getMasterForEntry(entry));
+      if (master == null) {
+        LOG.debug("Skipping journal entry for an unknown master: {}", entry);
+        return;
+      }
+      applyEntry(master, entry);
+    }
+
+    @Override
+    public void close() {
+      mApplier.close();
+    }
+  }
+}
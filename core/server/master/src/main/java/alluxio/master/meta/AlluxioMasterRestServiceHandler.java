@@ -493,6 +493,30 @@ public final class AlluxioMasterRestServiceHandler {
         return response;
       }
 
+      // Only the entries on the requested page are converted, since looking up the block
+      // locations of every file in a large directory is expensive.
+      filesInfo.sort(Comparator.comparing(FileInfo::getPath));
+      response.setNTotalFile(filesInfo.size());
+
+      try {
+        int offset = Integer.parseInt(requestOffset);
+        int limit = Integer.parseInt(requestLimit);
+        limit = offset == 0 && limit > filesInfo.size() ? filesInfo.size() : limit;
+        limit = offset + limit > filesInfo.size() ? filesInfo.size() - offset : limit;
+        int sum = Math.addExact(offset, limit);
+        filesInfo = filesInfo.subList(offset, sum);
+      } catch (NumberFormatException e) {
+        response.setFatalError("Error: offset or limit parse error, " + e.getLocalizedMessage());
+        return response;
+      } catch (ArithmeticException e) {
+        response.setFatalError(
+            "Error: offset or offset + limit is out of bound, " + e.getLocalizedMessage());
+        return response;
+      } catch (IllegalArgumentException e) {
+        response.setFatalError(e.getLocalizedMessage());
+        return response;
+      }
+
       List<UIFileInfo> fileInfos = new ArrayList<>(filesInfo.size());
       for (FileInfo fileInfo : filesInfo) {
         UIFileInfo toAdd = new UIFileInfo(fileInfo, ServerConfiguration.global(),
@@ -525,29 +549,7 @@ public final class AlluxioMasterRestServiceHandler {
         }
         fileInfos.add(toAdd);
       }
-      Collections.sort(fileInfos, UIFileInfo.PATH_STRING_COMPARE);
-
-      response.setNTotalFile(fileInfos.size());
-
-      try {
-        int offset = Integer.parseInt(requestOffset);
-        int limit = Integer.parseInt(requestLimit);
-        limit = offset == 0 && limit > fileInfos.size() ? fileInfos.size() : limit;
-        limit = offset + limit > fileInfos.size() ? fileInfos.size() - offset : limit;
-        int sum = Math.addExact(offset, limit);
-        fileInfos = fileInfos.subList(offset, sum);
-        response.setFileInfos(fileInfos);
-      } catch (NumberFormatException e) {
-        response.setFatalError("Error: offset or limit parse error, " + e.getLocalizedMessage());
-        return response;
-      } catch (ArithmeticException e) {
-        response.setFatalError(
-            "Error: offset or offset + limit is out of bound, " + e.getLocalizedMessage());
-        return response;
-      } catch (IllegalArgumentException e) {
-        response.setFatalError(e.getLocalizedMessage());
-        return response;
-      }
+      response.setFileInfos(fileInfos);
 
       return response;
     }, ServerConfiguration.global());
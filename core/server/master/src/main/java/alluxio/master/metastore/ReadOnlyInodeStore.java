@@ -44,7 +44,10 @@ public interface ReadOnlyInodeStore extends Closeable {
   }
 
   /**
-   * Returns an iterable for the ids of the children of the given directory.
+   * Returns an iterable for the ids of the children of the given directory. Children are ordered
+   * by name, only children whose names sort after {@link ReadOption#getStartAfter()} are
+   * returned, and at most {@link ReadOption#getLimit()} of them. Implementations should make a
+   * limited listing cost the size of the listing rather than the size of the directory.
    *
    * @param inodeId an inode id to list child ids for
    * @param option the options
@@ -11,16 +11,24 @@
 
 package alluxio.master.metastore;
 
+import com.google.common.base.Preconditions;
+
+import javax.annotation.Nullable;
+
 /**
  * Options for reading from the inode store.
  */
 public class ReadOption {
-  private static final ReadOption DEFAULT = new ReadOption(false);
+  private static final ReadOption DEFAULT = new ReadOption(false, null, Integer.MAX_VALUE);
 
   private final boolean mSkipCache;
+  private final String mStartAfter;
+  private final int mLimit;
 
-  private ReadOption(boolean skipCache) {
+  private ReadOption(boolean skipCache, @Nullable String startAfter, int limit) {
     mSkipCache = skipCache;
+    mStartAfter = startAfter;
+    mLimit = limit;
   }
 
   /**
@@ -30,6 +38,28 @@ public class ReadOption {
     return mSkipCache;
   }
 
+  /**
+   * @return the name after which child listings start (exclusive), or null to list all children
+   */
+  @Nullable
+  public String getStartAfter() {
+    return mStartAfter;
+  }
+
+  /**
+   * @return the maximum number of children returned by child listings
+   */
+  public int getLimit() {
+    return mLimit;
+  }
+
+  /**
+   * @return whether child listings only return part of the children
+   */
+  public boolean isPartialListing() {
+    return mStartAfter != null || mLimit != Integer.MAX_VALUE;
+  }
+
   /**
    * @return a new builder
    */
@@ -49,6 +79,8 @@ public class ReadOption {
    */
   public static class Builder {
     private boolean mSkipCache = false;
+    private String mStartAfter = null;
+    private int mLimit = Integer.MAX_VALUE;
 
     /**
      * Sets whether to skip caching.
@@ -61,11 +93,36 @@ public class ReadOption {
       return this;
     }
 
+    /**
+     * Sets the name after which child listings start. Only children whose names sort strictly
+     * after this name are returned.
+     *
+     * @param startAfter the exclusive start name, or null to list all children
+     * @return the builder
+     */
+    public Builder setStartAfter(@Nullable String startAfter) {
+      mStartAfter = startAfter;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of children returned by child listings, so that listing a page of
+     * a large directory only costs the size of the page.
+     *
+     * @param limit the maximum number of children, or {@link Integer#MAX_VALUE} for no limit
+     * @return the builder
+     */
+    public Builder setLimit(int limit) {
+      Preconditions.checkArgument(limit > 0, "limit must be positive");
+      mLimit = limit;
+      return this;
+    }
+
     /**
      * @return the built option
      */
     public ReadOption build() {
-      return new ReadOption(mSkipCache);
+      return new ReadOption(mSkipCache, mStartAfter, mLimit);
     }
   }
 }
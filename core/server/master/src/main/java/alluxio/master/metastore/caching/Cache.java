@@ -14,9 +14,13 @@ package alluxio.master.metastore.caching;
 import alluxio.Constants;
 import alluxio.master.metastore.ReadOption;
 import alluxio.metrics.MetricsSystem;
+import alluxio.util.ThreadFactoryUtils;
 import alluxio.util.logging.SamplingLogger;
 
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,7 +35,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
@@ -46,6 +56,10 @@ import javax.annotation.concurrent.ThreadSafe;
  * best performance, maximum capacity should never be reached. This requires that the eviction
  * thread can keep up cache writes.
  *
+ * To help the eviction thread keep up, backing store writes can be spread across multiple flush
+ * threads. Dirty entries are partitioned by key hash, and each partition is written to the backing
+ * store in batches of bounded size on its own thread.
+ *
  * Cache hit reads are served without any locking. Writes and cache miss reads take locks on their
  * cache key.
  *
@@ -63,13 +77,23 @@ public abstract class Cache<K, V> implements Closeable {
   private final int mHighWaterMark;
   private final int mLowWaterMark;
   private final int mEvictBatchSize;
+  private final int mFlushThreads;
+  private final int mFlushBatchSize;
   private final String mName;
   @VisibleForTesting
   final ConcurrentHashMap<K, Entry> mMap;
-  // TODO(andrew): Support using multiple threads to speed up backing store writes.
   // Thread for performing eviction to the backing store.
   @VisibleForTesting
   final EvictionThread mEvictionThread;
+  // Threads for writing partitions of dirty entries to the backing store. This is null when only
+  // one flush thread is configured, in which case the calling thread performs the writes.
+  @Nullable
+  private final ExecutorService mFlushExecutor;
+
+  // Time between an entry becoming dirty and it being written to the backing store.
+  private final Timer mFlushLag;
+  // Writes which bypass the cache because it is full, and therefore block on the backing store.
+  private final Meter mSyncWrites;
 
   /**
    * @param conf cache configuration
@@ -80,13 +104,19 @@ public abstract class Cache<K, V> implements Closeable {
     mHighWaterMark = conf.getHighWaterMark();
     mLowWaterMark = conf.getLowWaterMark();
     mEvictBatchSize = conf.getEvictBatchSize();
+    mFlushThreads = Math.max(1, conf.getFlushThreads());
+    mFlushBatchSize = conf.getFlushBatchSize();
     mName = name;
     mMap = new ConcurrentHashMap<>(mMaxSize);
     mEvictionThread = new EvictionThread();
     mEvictionThread.setDaemon(true);
     // The eviction thread is started lazily when we first reach the high water mark.
+    mFlushExecutor = mFlushThreads == 1 ? null : Executors.newFixedThreadPool(mFlushThreads,
+        ThreadFactoryUtils.build(mName + "-flush-thread-%d", true));
 
     MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMetricName(mName + "-size"), mMap::size);
+    mFlushLag = MetricsSystem.timer(mName + "-flush-lag");
+    mSyncWrites = MetricsSystem.meter(mName + "-sync-writes");
   }
 
   /**
@@ -160,6 +190,7 @@ public abstract class Cache<K, V> implements Closeable {
     mMap.compute(key, (k, entry) -> {
       onPut(key, value);
       if (entry == null && cacheIsFull()) {
+        mSyncWrites.mark();
         writeToBackingStore(key, value);
         return null;
       }
@@ -169,7 +200,7 @@ public abstract class Cache<K, V> implements Closeable {
       }
       entry.mValue = value;
       entry.mReferenced = true;
-      entry.mDirty = true;
+      entry.markDirty();
       return entry;
     });
     wakeEvictionThreadIfNecessary();
@@ -191,6 +222,7 @@ public abstract class Cache<K, V> implements Closeable {
     mMap.compute(key, (k, entry) -> {
       onRemove(key);
       if (entry == null && cacheIsFull()) {
+        mSyncWrites.mark();
         removeFromBackingStore(k);
         return null;
       }
@@ -201,7 +233,7 @@ public abstract class Cache<K, V> implements Closeable {
         entry.mValue = null;
       }
       entry.mReferenced = false;
-      entry.mDirty = true;
+      entry.markDirty();
       return entry;
     });
     wakeEvictionThreadIfNecessary();
@@ -211,23 +243,77 @@ public abstract class Cache<K, V> implements Closeable {
    * Flushes all data to the backing store.
    */
   public void flush() throws InterruptedException {
-    List<Entry> toFlush = new ArrayList<>(mEvictBatchSize);
+    int roundSize = mEvictBatchSize * mFlushThreads;
+    List<Entry> toFlush = new ArrayList<>(roundSize);
     Iterator<Entry> it = mMap.values().iterator();
     while (it.hasNext()) {
       if (Thread.interrupted()) {
         throw new InterruptedException();
       }
-      while (toFlush.size() < mEvictBatchSize && it.hasNext()) {
+      while (toFlush.size() < roundSize && it.hasNext()) {
         Entry candidate = it.next();
         if (candidate.mDirty) {
           toFlush.add(candidate);
         }
       }
-      flushEntries(toFlush);
+      flushPartitioned(toFlush);
       toFlush.clear();
     }
   }
 
+  /**
+   * Writes the given dirty entries to the backing store. When multiple flush threads are
+   * configured, the entries are partitioned by key hash and each partition is written on its own
+   * thread. Within a partition, entries are written in batches of at most the flush batch size.
+   *
+   * @param entries the entries to flush
+   */
+  private void flushPartitioned(List<Entry> entries) throws InterruptedException {
+    if (entries.isEmpty()) {
+      return;
+    }
+    if (mFlushExecutor == null || entries.size() <= mFlushBatchSize) {
+      flushInBatches(entries);
+      return;
+    }
+    List<List<Entry>> partitions = new ArrayList<>(mFlushThreads);
+    for (int i = 0; i < mFlushThreads; i++) {
+      partitions.add(new ArrayList<>(entries.size() / mFlushThreads + 1));
+    }
+    for (Entry entry : entries) {
+      partitions.get(Math.floorMod(entry.mKey.hashCode(), mFlushThreads)).add(entry);
+    }
+    List<Callable<Void>> tasks = new ArrayList<>(mFlushThreads);
+    for (List<Entry> partition : partitions) {
+      if (!partition.isEmpty()) {
+        tasks.add(() -> {
+          flushInBatches(partition);
+          return null;
+        });
+      }
+    }
+    for (Future<Void> future : mFlushExecutor.invokeAll(tasks)) {
+      try {
+        future.get();
+      } catch (ExecutionException e) {
+        throw new RuntimeException(
+            String.format("Failed to flush %s entries to the backing store", mName), e.getCause());
+      }
+    }
+  }
+
+  private void flushInBatches(List<Entry> entries) {
+    for (List<Entry> batch : Lists.partition(entries, mFlushBatchSize)) {
+      flushEntries(batch);
+      long now = System.currentTimeMillis();
+      for (Entry entry : batch) {
+        if (!entry.mDirty) {
+          mFlushLag.update(Math.max(0, now - entry.mDirtyTimeMs), TimeUnit.MILLISECONDS);
+        }
+      }
+    }
+  }
+
   /**
    * Clears all entries from the map. This is not threadsafe, and requires external synchronization
    * to prevent concurrent modifications to the cache.
@@ -266,6 +352,9 @@ public abstract class Cache<K, V> implements Closeable {
   @Override
   public void close() {
     mEvictionThread.interrupt();
+    if (mFlushExecutor != null) {
+      mFlushExecutor.shutdownNow();
+    }
     try {
       mEvictionThread.join(10 * Constants.SECOND_MS);
       if (mEvictionThread.isAlive()) {
@@ -286,6 +375,8 @@ public abstract class Cache<K, V> implements Closeable {
     // to keep re-allocating the list.
     private final List<Entry> mEvictionCandidates = new ArrayList<>(mEvictBatchSize);
     private final List<Entry> mDirtyEvictionCandidates = new ArrayList<>(mEvictBatchSize);
+    // Each eviction round gathers enough candidates to give every flush thread a full batch.
+    private final int mRoundSize = mEvictBatchSize * mFlushThreads;
     private final Logger mCacheFullLogger = new SamplingLogger(LOG, 10 * Constants.SECOND_MS);
 
     private Iterator<Entry> mEvictionHead = Collections.emptyIterator();
@@ -326,6 +417,9 @@ public abstract class Cache<K, V> implements Closeable {
       int toEvict = mMap.size() - mLowWaterMark;
       int evictionCount = 0;
       while (evictionCount < toEvict) {
+        if (Thread.currentThread().isInterrupted()) {
+          return;
+        }
         if (!mEvictionHead.hasNext()) {
           mEvictionHead = mMap.values().iterator();
         }
@@ -339,13 +433,13 @@ public abstract class Cache<K, V> implements Closeable {
     }
 
     /**
-     * Attempts to fill mEvictionCandidates with up to min(count, mEvictBatchSize) candidates for
+     * Attempts to fill mEvictionCandidates with up to min(count, mRoundSize) candidates for
      * eviction.
      *
      * @param count maximum number of entries to store in the batch
      */
     private void fillBatch(int count) {
-      int targetSize = Math.min(count, mEvictBatchSize);
+      int targetSize = Math.min(count, mRoundSize);
       while (mEvictionCandidates.size() < targetSize && mEvictionHead.hasNext()) {
         Entry candidate = mEvictionHead.next();
         if (candidate.mReferenced) {
@@ -369,7 +463,14 @@ public abstract class Cache<K, V> implements Closeable {
       if (mEvictionCandidates.isEmpty()) {
         return evicted;
       }
-      flushEntries(mDirtyEvictionCandidates);
+      try {
+        flushPartitioned(mDirtyEvictionCandidates);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        mEvictionCandidates.clear();
+        mDirtyEvictionCandidates.clear();
+        return evicted;
+      }
       for (Entry entry : mEvictionCandidates) {
         if (evictIfClean(entry)) {
           evicted++;
@@ -481,6 +582,9 @@ public abstract class Cache<K, V> implements Closeable {
     // flushed to the backing store before it can be evicted.
     protected volatile boolean mDirty = true;
 
+    // When the entry last went from clean to dirty. Used to measure flush lag.
+    private volatile long mDirtyTimeMs = System.currentTimeMillis();
+
     // Whether the entry has been recently accessed. Accesses set the bit to true, while the
     // eviction thread sets it to false. This is the same as the "referenced" bit described in the
     // CLOCK algorithm.
@@ -490,5 +594,12 @@ public abstract class Cache<K, V> implements Closeable {
       mKey = key;
       mValue = value;
     }
+
+    private void markDirty() {
+      if (!mDirty) {
+        mDirtyTimeMs = System.currentTimeMillis();
+        mDirty = true;
+      }
+    }
   }
 }
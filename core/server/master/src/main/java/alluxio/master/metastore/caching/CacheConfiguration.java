@@ -19,12 +19,17 @@ public class CacheConfiguration {
   private final int mHighWaterMark;
   private final int mLowWaterMark;
   private final int mEvictBatchSize;
+  private final int mFlushThreads;
+  private final int mFlushBatchSize;
 
-  private CacheConfiguration(int maxSize, int highWaterMark, int lowWaterMark, int evictBatchSize) {
+  private CacheConfiguration(int maxSize, int highWaterMark, int lowWaterMark, int evictBatchSize,
+      int flushThreads, int flushBatchSize) {
     mMaxSize = maxSize;
     mHighWaterMark = highWaterMark;
     mLowWaterMark = lowWaterMark;
     mEvictBatchSize = evictBatchSize;
+    mFlushThreads = flushThreads;
+    mFlushBatchSize = flushBatchSize;
   }
 
   /**
@@ -55,6 +60,20 @@ public class CacheConfiguration {
     return mEvictBatchSize;
   }
 
+  /**
+   * @return the number of threads used to write dirty entries to the backing store
+   */
+  public int getFlushThreads() {
+    return mFlushThreads;
+  }
+
+  /**
+   * @return the maximum number of entries written to the backing store in a single batch
+   */
+  public int getFlushBatchSize() {
+    return mFlushBatchSize;
+  }
+
   /**
    * @return a cache configuration builder
    */
@@ -70,6 +89,8 @@ public class CacheConfiguration {
     private int mHighWaterMark;
     private int mLowWaterMark;
     private int mEvictBatchSize;
+    private int mFlushThreads = 1;
+    private int mFlushBatchSize;
 
     /**
      * @param maxSize the target max cache size
@@ -107,11 +128,31 @@ public class CacheConfiguration {
       return this;
     }
 
+    /**
+     * @param flushThreads the number of threads used to write dirty entries to the backing store
+     * @return the builder
+     */
+    public Builder setFlushThreads(int flushThreads) {
+      mFlushThreads = flushThreads;
+      return this;
+    }
+
+    /**
+     * @param flushBatchSize the maximum number of entries to write to the backing store in a
+     *        single batch. If unset, the eviction batch size is used
+     * @return the builder
+     */
+    public Builder setFlushBatchSize(int flushBatchSize) {
+      mFlushBatchSize = flushBatchSize;
+      return this;
+    }
+
     /**
      * @return a cache configuration based on the values passed to the builder
      */
     public CacheConfiguration build() {
-      return new CacheConfiguration(mMaxSize, mHighWaterMark, mLowWaterMark, mEvictBatchSize);
+      return new CacheConfiguration(mMaxSize, mHighWaterMark, mLowWaterMark, mEvictBatchSize,
+          mFlushThreads, mFlushBatchSize > 0 ? mFlushBatchSize : mEvictBatchSize);
     }
   }
 }
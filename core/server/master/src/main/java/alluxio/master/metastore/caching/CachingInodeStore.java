@@ -35,6 +35,7 @@ import alluxio.util.ConfigurationUtils;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import com.google.common.io.Closer;
 import org.slf4j.Logger;
@@ -45,15 +46,17 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -136,6 +139,8 @@ public final class CachingInodeStore implements InodeStore, Closeable {
     CacheConfiguration cacheConf = CacheConfiguration.newBuilder().setMaxSize(maxSize)
         .setHighWaterMark(highWaterMark).setLowWaterMark(lowWaterMark)
         .setEvictBatchSize(conf.getInt(PropertyKey.MASTER_METASTORE_INODE_CACHE_EVICT_BATCH_SIZE))
+        .setFlushThreads(conf.getInt(PropertyKey.MASTER_METASTORE_INODE_CACHE_FLUSH_THREADS))
+        .setFlushBatchSize(conf.getInt(PropertyKey.MASTER_METASTORE_INODE_CACHE_FLUSH_BATCH_SIZE))
         .build();
     mInodeCache = new InodeCache(cacheConf);
     mEdgeCache = new EdgeCache(cacheConf);
@@ -336,6 +341,12 @@ public final class CachingInodeStore implements InodeStore, Closeable {
     }
   }
 
+  private static NavigableMap<String, Long> tail(NavigableMap<String, Long> children,
+      ReadOption option) {
+    return option.getStartAfter() == null ? children
+        : children.tailMap(option.getStartAfter(), false);
+  }
+
   /**
    * Cache for edge metadata.
    *
@@ -349,10 +360,11 @@ public final class CachingInodeStore implements InodeStore, Closeable {
    */
   @VisibleForTesting
   class EdgeCache extends Cache<Edge, Long> {
-    // Indexes non-removed cache entries by parent id. The inner map is from child name to child id
+    // Indexes non-removed cache entries by parent id. The inner map is from child name to child id,
+    // ordered by child name.
     @VisibleForTesting
-    TwoKeyConcurrentMap<Long, String, Long, Map<String, Long>>
-        mIdToChildMap = new TwoKeyConcurrentMap<>(() -> new ConcurrentHashMap<>(4));
+    TwoKeyConcurrentMap<Long, String, Long, NavigableMap<String, Long>>
+        mIdToChildMap = new TwoKeyConcurrentMap<>(ConcurrentSkipListMap::new);
     // Indexes removed cache entries by parent id. The inner set contains the names of deleted
     // children.
     @VisibleForTesting
@@ -374,28 +386,44 @@ public final class CachingInodeStore implements InodeStore, Closeable {
      * invoked. If a child is concurrently added during the call to getChildIds, it is undefined
      * whether it gets found.
      *
+     * Children are ordered by name, and only children after {@link ReadOption#getStartAfter()}
+     * are returned. When the backing store is used, at most {@link ReadOption#getLimit()}
+     * children are returned, and only that many are read from the cache and the backing store;
+     * otherwise the result is a view of the cache which callers may limit while iterating.
+     *
      * @param inodeId the inode to get the children for
      * @param option the read options
      * @return the children
      */
-    public Map<String, Long> getChildIds(Long inodeId, ReadOption option) {
+    public NavigableMap<String, Long> getChildIds(Long inodeId, ReadOption option) {
       if (mBackingStoreEmpty) {
-        return mIdToChildMap.getOrDefault(inodeId, Collections.emptyMap());
+        return tail(mIdToChildMap.getOrDefault(inodeId, Collections.emptyNavigableMap()), option);
       }
       // This implementation must be careful because edges can be asynchronously evicted from the
       // cache to the backing store. To account for this, we read from the cache before consulting
       // the backing store.
-      Map<String, Long> childIds = new HashMap<>();
-      mIdToChildMap.getOrDefault(inodeId, Collections.emptyMap()).forEach((name, id) -> {
-        childIds.put(name, id);
-      });
+      int limit = option.getLimit();
+      NavigableMap<String, Long> childIds = new TreeMap<>();
+      for (Map.Entry<String, Long> child : tail(
+          mIdToChildMap.getOrDefault(inodeId, Collections.emptyNavigableMap()), option)
+          .entrySet()) {
+        if (childIds.size() >= limit) {
+          break;
+        }
+        childIds.put(child.getKey(), child.getValue());
+      }
       // Copy the list of unflushed deletes before reading the backing store to prevent racing async
       // deletion.
       Set<String> unflushedDeletes =
           new HashSet<>(mUnflushedDeletes.getOrDefault(inodeId, Collections.EMPTY_SET));
       // Cannot use mBackingStore.getChildren because it only returns inodes cached in the backing
-      // store, causing us to lose inodes stored only in the cache.
-      mBackingStore.getChildIds(inodeId).forEach(childId -> {
+      // store, causing us to lose inodes stored only in the cache. Each unflushed delete may hide
+      // one of the children read from the backing store, so read that many more.
+      ReadOption backingOption = ReadOption.newBuilder()
+          .setStartAfter(option.getStartAfter())
+          .setLimit((int) Math.min(Integer.MAX_VALUE, (long) limit + unflushedDeletes.size()))
+          .build();
+      mBackingStore.getChildIds(inodeId, backingOption).forEach(childId -> {
         CachingInodeStore.this.get(childId, option).map(inode -> {
           if (!unflushedDeletes.contains(inode.getName())) {
             childIds.put(inode.getName(), inode.getId());
@@ -403,6 +431,9 @@ public final class CachingInodeStore implements InodeStore, Closeable {
           return null;
         });
       });
+      while (childIds.size() > limit) {
+        childIds.pollLastEntry();
+      }
       return childIds;
     }
 
@@ -609,7 +640,7 @@ public final class CachingInodeStore implements InodeStore, Closeable {
       mMap.computeIfAbsent(inodeId, x -> {
         mWeight.incrementAndGet();
         ListingCacheEntry entry = new ListingCacheEntry();
-        entry.mChildren = new ConcurrentHashMap<>(4);
+        entry.mChildren = new ConcurrentSkipListMap<>();
         return entry;
       });
     }
@@ -659,13 +690,24 @@ public final class CachingInodeStore implements InodeStore, Closeable {
     }
 
     /**
-     * Gets all children of an inode, falling back on the edge cache if the listing isn't cached.
+     * Gets the children of an inode, falling back on the edge cache if the listing isn't cached.
      *
      * @param inodeId the inode directory id
      * @param option the read options
-     * @return the ids of all children of the directory
+     * @return the ids of the children of the directory selected by the options
      */
-    public Collection<Long> getChildIds(Long inodeId, ReadOption option) {
+    public Iterable<Long> getChildIds(Long inodeId, ReadOption option) {
+      if (option.isPartialListing()) {
+        // Partial listings are never cached, but they can be served from a cached full listing.
+        // Both are views or bounded by the limit, so a page only costs its own size.
+        ListingCacheEntry entry = mMap.get(inodeId);
+        if (entry != null && entry.mChildren != null) {
+          entry.mReferenced = true;
+          return Iterables.limit(tail(entry.mChildren, option).values(), option.getLimit());
+        }
+        return Iterables.limit(mEdgeCache.getChildIds(inodeId, option).values(),
+            option.getLimit());
+      }
       evictIfNecessary();
       AtomicBoolean createdNewEntry = new AtomicBoolean(false);
       ListingCacheEntry entry = mMap.compute(inodeId, (key, value) -> {
@@ -699,12 +741,12 @@ public final class CachingInodeStore implements InodeStore, Closeable {
         ReadOption option) {
       evictIfNecessary();
       entry.mModified = false;
-      Map<String, Long> listing = mEdgeCache.getChildIds(inodeId, option);
+      NavigableMap<String, Long> listing = mEdgeCache.getChildIds(inodeId, option);
       mMap.computeIfPresent(inodeId, (key, value) -> {
         // Perform the update inside computeIfPresent to prevent concurrent modification to the
         // cache entry.
         if (!entry.mModified) {
-          entry.mChildren = new ConcurrentHashMap<>(listing);
+          entry.mChildren = new ConcurrentSkipListMap<>(listing);
           mWeight.addAndGet(weight(entry));
           return entry;
         }
@@ -767,7 +809,7 @@ public final class CachingInodeStore implements InodeStore, Closeable {
       private volatile boolean mReferenced = true;
       // null indicates that we are in the process of loading the children.
       @Nullable
-      private volatile Map<String, Long> mChildren = null;
+      private volatile NavigableMap<String, Long> mChildren = null;
 
       public void addChild(String name, Long id) {
         if (mChildren != null && mChildren.put(name, id) == null) {
@@ -0,0 +1,300 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.heap;
+
+import alluxio.collections.LongLongHashMap;
+import alluxio.collections.LongLongMultimap;
+import alluxio.master.metastore.BlockStore;
+import alluxio.proto.meta.Block.BlockLocation;
+import alluxio.proto.meta.Block.BlockMeta;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A heap block store which keeps block metadata and locations in primitive hash tables instead of
+ * maps of boxed ids and protocol buffers.
+ *
+ * Block lengths, the only field of {@link BlockMeta}, are stored in a {@link LongLongHashMap}.
+ * Each location is packed into a single long holding the index of the worker and codes for the
+ * tier and the medium type, which are interned, and stored in a {@link LongLongMultimap} keyed by
+ * block id. A block and each of its replicas cost 16 bytes divided by the load of their table,
+ * between 21 and 43 bytes, compared to well over 100 bytes each in {@link HeapBlockStore}.
+ * Protocol buffers are only created when blocks and locations are read.
+ *
+ * The tables are split into segments by block id, and each segment is guarded by its own monitor.
+ * Like {@link HeapBlockStore}, this class requires external synchronization for operations on the
+ * same block id.
+ */
+@ThreadSafe
+public class CompactHeapBlockStore implements BlockStore {
+  private static final int SEGMENT_BITS = 6;
+  /** Returned by the length tables for blocks which are not in the store. */
+  private static final long NO_BLOCK = Long.MIN_VALUE;
+  /** Marks a block whose metadata has no length. */
+  private static final long NO_LENGTH = Long.MIN_VALUE + 1;
+
+  private final Segment[] mSegments = new Segment[1 << SEGMENT_BITS];
+  private final Dictionary<Long> mWorkers = new Dictionary<>(Integer.MAX_VALUE);
+  private final Dictionary<String> mTiers = new Dictionary<>(0xFFFF);
+  private final Dictionary<String> mMediumTypes = new Dictionary<>(0xFFFF);
+
+  /**
+   * Creates a new {@link CompactHeapBlockStore}.
+   */
+  public CompactHeapBlockStore() {
+    for (int i = 0; i < mSegments.length; i++) {
+      mSegments[i] = new Segment();
+    }
+  }
+
+  @Override
+  public Optional<BlockMeta> getBlock(long id) {
+    Segment segment = getSegment(id);
+    long length;
+    synchronized (segment) {
+      length = segment.mLengths.get(id);
+    }
+    if (length == NO_BLOCK) {
+      return Optional.empty();
+    }
+    return Optional.of(toBlockMeta(length));
+  }
+
+  @Override
+  public void putBlock(long id, BlockMeta meta) {
+    Segment segment = getSegment(id);
+    synchronized (segment) {
+      segment.mLengths.put(id, meta.hasLength() ? meta.getLength() : NO_LENGTH);
+    }
+  }
+
+  @Override
+  public void removeBlock(long id) {
+    Segment segment = getSegment(id);
+    synchronized (segment) {
+      segment.mLengths.remove(id);
+    }
+  }
+
+  @Override
+  public Iterator<Block> iterator() {
+    return new Iterator<Block>() {
+      private int mNextSegment = 0;
+      private long[] mIds = new long[0];
+      private long[] mLengths = new long[0];
+      private int mIndex = 0;
+
+      @Override
+      public boolean hasNext() {
+        // Copy the blocks of one segment at a time, so that the segment need not stay locked.
+        while (mIndex == mIds.length && mNextSegment < mSegments.length) {
+          Segment segment = mSegments[mNextSegment++];
+          synchronized (segment) {
+            mIds = new long[segment.mLengths.size()];
+            mLengths = new long[mIds.length];
+            mIndex = 0;
+            segment.mLengths.forEach((id, length) -> {
+              mIds[mIndex] = id;
+              mLengths[mIndex++] = length;
+            });
+            mIndex = 0;
+          }
+        }
+        return mIndex < mIds.length;
+      }
+
+      @Override
+      public Block next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        Block block = new Block(mIds[mIndex], toBlockMeta(mLengths[mIndex]));
+        mIndex++;
+        return block;
+      }
+    };
+  }
+
+  @Override
+  public void clear() {
+    for (Segment segment : mSegments) {
+      synchronized (segment) {
+        segment.mLengths.clear();
+        segment.mLocations.clear();
+      }
+    }
+  }
+
+  @Override
+  public List<BlockLocation> getLocations(long id) {
+    Segment segment = getSegment(id);
+    long[] locations;
+    synchronized (segment) {
+      locations = segment.mLocations.get(id);
+    }
+    if (locations.length == 0) {
+      return Collections.emptyList();
+    }
+    List<BlockLocation> ret = new ArrayList<>(locations.length);
+    for (long location : locations) {
+      ret.add(decode(location));
+    }
+    return ret;
+  }
+
+  @Override
+  public void addLocation(long id, BlockLocation location) {
+    long encoded = encode(location);
+    int worker = getWorker(encoded);
+    Segment segment = getSegment(id);
+    synchronized (segment) {
+      // A worker holds at most one location of a block.
+      segment.mLocations.remove(id, existing -> getWorker(existing) == worker);
+      segment.mLocations.put(id, encoded);
+    }
+  }
+
+  @Override
+  public void removeLocation(long blockId, long workerId) {
+    int worker = mWorkers.find(workerId);
+    if (worker == Dictionary.NOT_FOUND) {
+      return;
+    }
+    Segment segment = getSegment(blockId);
+    synchronized (segment) {
+      segment.mLocations.remove(blockId, existing -> getWorker(existing) == worker);
+    }
+  }
+
+  private Segment getSegment(long id) {
+    return mSegments[(int) ((id * 0x9E3779B97F4A7C15L) >>> (64 - SEGMENT_BITS))];
+  }
+
+  private static BlockMeta toBlockMeta(long length) {
+    BlockMeta.Builder meta = BlockMeta.newBuilder();
+    if (length != NO_LENGTH) {
+      meta.setLength(length);
+    }
+    return meta.build();
+  }
+
+  /**
+   * Packs a location into a long. The worker index takes the upper 32 bits, and the tier and
+   * medium type codes 16 bits each. A code of 0 means that the field is not set.
+   */
+  private long encode(BlockLocation location) {
+    long worker = mWorkers.intern(location.getWorkerId());
+    long tier = location.hasTier() ? mTiers.intern(location.getTier()) : 0;
+    long medium = location.hasMediumType() ? mMediumTypes.intern(location.getMediumType()) : 0;
+    return worker << 32 | tier << 16 | medium;
+  }
+
+  private BlockLocation decode(long location) {
+    BlockLocation.Builder builder =
+        BlockLocation.newBuilder().setWorkerId(mWorkers.get(getWorker(location)));
+    int tier = (int) ((location >>> 16) & 0xFFFF);
+    if (tier != 0) {
+      builder.setTier(mTiers.get(tier));
+    }
+    int medium = (int) (location & 0xFFFF);
+    if (medium != 0) {
+      builder.setMediumType(mMediumTypes.get(medium));
+    }
+    return builder.build();
+  }
+
+  private static int getWorker(long location) {
+    return (int) (location >>> 32);
+  }
+
+  /**
+   * The blocks and locations of one segment of block ids.
+   */
+  private static final class Segment {
+    private final LongLongHashMap mLengths = new LongLongHashMap(NO_BLOCK);
+    private final LongLongMultimap mLocations = new LongLongMultimap();
+  }
+
+  /**
+   * Assigns small positive codes to values. Values are never removed, so a dictionary is only
+   * suitable for the few distinct workers, tiers and medium types of a cluster.
+   *
+   * @param <T> the type of the values
+   */
+  @ThreadSafe
+  private static final class Dictionary<T> {
+    static final int NOT_FOUND = 0;
+
+    private final int mMaxCode;
+    private final Map<T, Integer> mCodes = new ConcurrentHashMap<>();
+    /** The value of each code, at the index of the code. Replaced whenever a value is added. */
+    private volatile Object[] mValues = new Object[] {null};
+
+    Dictionary(int maxCode) {
+      mMaxCode = maxCode;
+    }
+
+    /**
+     * @param value a value
+     * @return the code of the value, a new code if the value has none yet
+     */
+    int intern(T value) {
+      Integer code = mCodes.get(value);
+      if (code != null) {
+        return code;
+      }
+      synchronized (this) {
+        code = mCodes.get(value);
+        if (code != null) {
+          return code;
+        }
+        int newCode = mValues.length;
+        Preconditions.checkState(newCode <= mMaxCode, "Too many distinct values: %s", newCode);
+        Object[] values = Arrays.copyOf(mValues, newCode + 1);
+        values[newCode] = value;
+        mValues = values;
+        mCodes.put(value, newCode);
+        return newCode;
+      }
+    }
+
+    /**
+     * @param value a value
+     * @return the code of the value, or {@link #NOT_FOUND} if the value has no code
+     */
+    int find(T value) {
+      Integer code = mCodes.get(value);
+      return code == null ? NOT_FOUND : code;
+    }
+
+    /**
+     * @param code a code returned by {@link #intern(Object)}
+     * @return the value with the code
+     */
+    @SuppressWarnings("unchecked")
+    T get(int code) {
+      return (T) mValues[code];
+    }
+  }
+}
@@ -11,9 +11,9 @@
 
 package alluxio.master.metastore.heap;
 
-import static java.util.stream.Collectors.toList;
-
 import alluxio.collections.TwoKeyConcurrentMap;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.master.file.meta.EdgeEntry;
 import alluxio.master.file.meta.Inode;
 import alluxio.master.file.meta.InodeDirectoryView;
@@ -22,20 +22,25 @@ import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.journal.checkpoint.CheckpointName;
 import alluxio.master.journal.checkpoint.CheckpointOutputStream;
 import alluxio.master.journal.checkpoint.CheckpointType;
+import alluxio.master.journal.checkpoint.CompressedBlocksReader;
+import alluxio.master.journal.checkpoint.CompressedBlocksWriter;
 import alluxio.master.metastore.InodeStore;
 import alluxio.master.metastore.ReadOption;
 import alluxio.proto.meta.InodeMeta;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -46,8 +51,8 @@ import javax.annotation.concurrent.ThreadSafe;
 public class HeapInodeStore implements InodeStore {
   private final Map<Long, MutableInode<?>> mInodes = new ConcurrentHashMap<>();
   // Map from inode id to ids of children of that inode. The inner maps are ordered by child name.
-  private final TwoKeyConcurrentMap<Long, String, Long, Map<String, Long>> mEdges =
-      new TwoKeyConcurrentMap<>(() -> new ConcurrentHashMap<>(4));
+  private final TwoKeyConcurrentMap<Long, String, Long, NavigableMap<String, Long>> mEdges =
+      new TwoKeyConcurrentMap<>(ConcurrentSkipListMap::new);
 
   @Override
   public void remove(Long inodeId) {
@@ -76,17 +81,20 @@ public class HeapInodeStore implements InodeStore {
 
   @Override
   public Iterable<Long> getChildIds(Long inodeId, ReadOption option) {
-    return children(inodeId).values();
+    return Iterables.limit(children(inodeId, option).values(), option.getLimit());
   }
 
   @Override
   public Iterable<? extends Inode> getChildren(Long inodeId, ReadOption option) {
-    return children(inodeId).values().stream()
+    // Lazily map ids to inodes so that listing a large directory does not copy all of its
+    // children up front.
+    return () -> children(inodeId, option).values().stream()
+        .limit(option.getLimit())
         .map(this::get)
         .filter(Optional::isPresent)
         .map(Optional::get)
         .map(Inode::wrap)
-        .collect(toList());
+        .iterator();
   }
 
   @Override
@@ -122,12 +130,30 @@ public class HeapInodeStore implements InodeStore {
     mEdges.clear();
   }
 
-  private Map<String, Long> children(long id) {
-    return mEdges.getOrDefault(id, Collections.emptyMap());
+  private NavigableMap<String, Long> children(long id) {
+    return mEdges.getOrDefault(id, Collections.emptyNavigableMap());
+  }
+
+  private NavigableMap<String, Long> children(long id, ReadOption option) {
+    NavigableMap<String, Long> children = children(id);
+    return option.getStartAfter() == null ? children
+        : children.tailMap(option.getStartAfter(), false);
   }
 
   @Override
   public void writeToCheckpoint(OutputStream output) throws IOException, InterruptedException {
+    if (ServerConfiguration.getBoolean(PropertyKey.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_ENABLED)) {
+      CheckpointOutputStream cos =
+          new CheckpointOutputStream(output, CheckpointType.COMPRESSED_INODE_PROTOS);
+      try (CompressedBlocksWriter<MutableInode<?>> writer =
+          new CompressedBlocksWriter<>(cos, inode -> inode.toProto().toByteArray())) {
+        for (MutableInode<?> inode : mInodes.values()) {
+          writer.write(inode);
+        }
+        writer.finish();
+      }
+      return;
+    }
     output = new CheckpointOutputStream(output, CheckpointType.INODE_PROTOS);
     for (MutableInode<?> inode : mInodes.values()) {
       if (Thread.interrupted()) {
@@ -139,16 +165,29 @@ public class HeapInodeStore implements InodeStore {
 
   @Override
   public void restoreFromCheckpoint(CheckpointInputStream input) throws IOException {
+    if (input.getType() == CheckpointType.COMPRESSED_INODE_PROTOS) {
+      try {
+        new CompressedBlocksReader(input).readAll(InodeMeta.Inode.parser(), this::restoreInode);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while restoring heap inode store", e);
+      }
+      return;
+    }
     Preconditions.checkState(input.getType() == CheckpointType.INODE_PROTOS,
         "Unexpected checkpoint type in heap inode store: " + input.getType());
     InodeMeta.Inode inodeProto;
     while ((inodeProto = InodeMeta.Inode.parseDelimitedFrom(input)) != null) {
-      MutableInode<?> inode = MutableInode.fromProto(inodeProto);
-      mInodes.put(inode.getId(), inode);
-      mEdges.addInnerValue(inode.getParentId(), inode.getName(), inode.getId());
+      restoreInode(inodeProto);
     }
   }
 
+  private void restoreInode(InodeMeta.Inode inodeProto) {
+    MutableInode<?> inode = MutableInode.fromProto(inodeProto);
+    mInodes.put(inode.getId(), inode);
+    mEdges.addInnerValue(inode.getParentId(), inode.getName(), inode.getId());
+  }
+
   @Override
   public CheckpointName getCheckpointName() {
     return CheckpointName.HEAP_INODE_STORE;
@@ -0,0 +1,689 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.offheap;
+
+import static alluxio.master.metastore.offheap.SlabAllocator.NULL_ADDRESS;
+
+import alluxio.collections.LongLongHashMap;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.master.file.meta.EdgeEntry;
+import alluxio.master.file.meta.Inode;
+import alluxio.master.file.meta.InodeDirectoryView;
+import alluxio.master.file.meta.MutableInode;
+import alluxio.master.journal.checkpoint.CheckpointInputStream;
+import alluxio.master.journal.checkpoint.CheckpointName;
+import alluxio.master.journal.checkpoint.CheckpointOutputStream;
+import alluxio.master.journal.checkpoint.CheckpointType;
+import alluxio.master.journal.checkpoint.CompressedBlocksReader;
+import alluxio.master.journal.checkpoint.CompressedBlocksWriter;
+import alluxio.master.metastore.InodeStore;
+import alluxio.master.metastore.ReadOption;
+import alluxio.metrics.MetricsSystem;
+import alluxio.proto.meta.InodeMeta;
+import alluxio.resource.LockResource;
+
+import com.codahale.metrics.Gauge;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.primitives.Ints;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Inode store which keeps all inodes and edges in off-heap memory.
+ *
+ * Inodes are stored as serialized {@link InodeMeta.Inode} protocol buffers in direct-memory slabs,
+ * and are only turned into {@link MutableInode} objects when they are read. This means the heap
+ * only holds a few primitive arrays per store, regardless of the number of inodes, so garbage
+ * collection pauses don't grow with the size of the namespace.
+ *
+ * <h1>Layout</h1>
+ *
+ * An inode record is a 4 byte length followed by the serialized inode. Inode records are located
+ * through a primitive map from inode id to record address.
+ *
+ * An edge record has the layout
+ *
+ * <pre>
+ * [next in bucket][previous sibling][next sibling][parent id][child id][name length][name]
+ * </pre>
+ *
+ * Edges are located through a primitive map from a 64-bit hash of (parent id, child name) to the
+ * first edge record with that hash. Records with colliding hashes are chained through the "next in
+ * bucket" field. All children of a directory are linked into a doubly-linked list through the
+ * sibling fields, with the head of each list kept in a primitive map from parent id to record
+ * address.
+ *
+ * Like the rocks inode store, modifications to {@link MutableInode}s returned by this store are
+ * only visible after they are written back with {@link #writeInode(MutableInode)}.
+ */
+@ThreadSafe
+public class OffHeapInodeStore implements InodeStore {
+  // Inode record fields.
+  private static final int INODE_LENGTH = 0;
+  private static final int INODE_DATA = INODE_LENGTH + Ints.BYTES;
+
+  // Edge record fields.
+  private static final int EDGE_NEXT_IN_BUCKET = 0;
+  private static final int EDGE_PREV_SIBLING = EDGE_NEXT_IN_BUCKET + Long.BYTES;
+  private static final int EDGE_NEXT_SIBLING = EDGE_PREV_SIBLING + Long.BYTES;
+  private static final int EDGE_PARENT_ID = EDGE_NEXT_SIBLING + Long.BYTES;
+  private static final int EDGE_CHILD_ID = EDGE_PARENT_ID + Long.BYTES;
+  private static final int EDGE_NAME_LENGTH = EDGE_CHILD_ID + Long.BYTES;
+  private static final int EDGE_NAME = EDGE_NAME_LENGTH + Ints.BYTES;
+
+  private static final String ALLOCATED_BYTES_GAUGE =
+      MetricsSystem.getMetricName("off-heap-inode-store-allocated-bytes");
+  private static final String USED_BYTES_GAUGE =
+      MetricsSystem.getMetricName("off-heap-inode-store-used-bytes");
+
+  /** The maximum number of edge records held by the cache of sorted child listings. */
+  private static final long MAX_SORTED_CHILDREN = 1L << 22;
+  /** The number of inodes added under one write lock when restoring an uncompressed checkpoint. */
+  private static final int RESTORE_BATCH_SIZE = 1024;
+
+  private final ReadWriteLock mLock = new ReentrantReadWriteLock();
+
+  private final SlabAllocator mInodeSlabs;
+  private final SlabAllocator mEdgeSlabs;
+  // Map from inode id to inode record address.
+  private final LongLongHashMap mInodes = new LongLongHashMap(NULL_ADDRESS);
+  // Map from edge hash to the first edge record with that hash.
+  private final LongLongHashMap mEdges = new LongLongHashMap(NULL_ADDRESS);
+  // Map from parent id to the first edge record in its list of children.
+  private final LongLongHashMap mChildren = new LongLongHashMap(NULL_ADDRESS);
+  // Edge records of recently paged directories, ordered by name. Entries are removed whenever a
+  // child of the directory is added or removed, under the write lock. Directories with more
+  // children than the cache holds are sorted again for every page.
+  private final Cache<Long, long[]> mSortedChildren = CacheBuilder.newBuilder()
+      .concurrencyLevel(1)
+      .maximumWeight(MAX_SORTED_CHILDREN)
+      .weigher((Long parentId, long[] children) -> children.length + 1)
+      .build();
+
+  // Gauges of this store, unregistered when it is closed.
+  private final Gauge<Long> mAllocatedBytesGauge = this::getOffHeapAllocatedBytes;
+  private final Gauge<Long> mUsedBytesGauge = this::getOffHeapUsedBytes;
+
+  /**
+   * Creates an off-heap inode store using the configured slab size.
+   */
+  public OffHeapInodeStore() {
+    this(configuredSlabSize());
+  }
+
+  /**
+   * @param slabSize the size of each off-heap slab in bytes
+   */
+  public OffHeapInodeStore(int slabSize) {
+    mInodeSlabs = new SlabAllocator(slabSize);
+    mEdgeSlabs = new SlabAllocator(slabSize);
+    MetricsSystem.registerGauge(ALLOCATED_BYTES_GAUGE, mAllocatedBytesGauge);
+    MetricsSystem.registerGauge(USED_BYTES_GAUGE, mUsedBytesGauge);
+  }
+
+  private static int configuredSlabSize() {
+    long slabSize = ServerConfiguration.getBytes(PropertyKey.MASTER_METASTORE_OFF_HEAP_SLAB_SIZE);
+    Preconditions.checkArgument(slabSize > 0 && slabSize <= SlabAllocator.MAX_SLAB_SIZE
+        && slabSize % SlabAllocator.ALIGNMENT == 0,
+        "%s must be a multiple of %s bytes between %s and %s bytes, but was %s",
+        PropertyKey.Name.MASTER_METASTORE_OFF_HEAP_SLAB_SIZE, SlabAllocator.ALIGNMENT,
+        SlabAllocator.ALIGNMENT, SlabAllocator.MAX_SLAB_SIZE, slabSize);
+    return (int) slabSize;
+  }
+
+  @Override
+  public Optional<MutableInode<?>> getMutable(long id, ReadOption option) {
+    byte[] bytes;
+    try (LockResource lr = new LockResource(mLock.readLock())) {
+      long address = mInodes.get(id);
+      if (address == NULL_ADDRESS) {
+        return Optional.empty();
+      }
+      bytes = mInodeSlabs.getBytes(address, INODE_DATA,
+          mInodeSlabs.getInt(address, INODE_LENGTH));
+    }
+    return Optional.of(parseInode(bytes));
+  }
+
+  @Override
+  public void remove(Long inodeId) {
+    try (LockResource lr = new LockResource(mLock.writeLock())) {
+      long address = mInodes.remove(inodeId);
+      if (address != NULL_ADDRESS) {
+        mInodeSlabs.free(address, inodeRecordSize(mInodeSlabs.getInt(address, INODE_LENGTH)));
+      }
+    }
+  }
+
+  @Override
+  public void writeInode(MutableInode<?> inode) {
+    byte[] bytes = inode.toProto().toByteArray();
+    try (LockResource lr = new LockResource(mLock.writeLock())) {
+      writeInodeBytes(inode.getId(), bytes);
+    }
+  }
+
+  @Override
+  public void clear() {
+    try (LockResource lr = new LockResource(mLock.writeLock())) {
+      mInodes.clear();
+      mEdges.clear();
+      mChildren.clear();
+      mSortedChildren.invalidateAll();
+      mInodeSlabs.reset();
+      mEdgeSlabs.reset();
+    }
+  }
+
+  @Override
+  public void addChild(long parentId, String childName, Long childId) {
+    byte[] name = childName.getBytes(StandardCharsets.UTF_8);
+    checkRecordSize(mEdgeSlabs, (long) EDGE_NAME + name.length, "Edge to " + childName);
+    long hash = edgeHash(parentId, name);
+    try (LockResource lr = new LockResource(mLock.writeLock())) {
+      addEdge(parentId, name, hash, childId);
+    }
+  }
+
+  @Override
+  public void removeChild(long parentId, String childName) {
+    byte[] name = childName.getBytes(StandardCharsets.UTF_8);
+    long hash = edgeHash(parentId, name);
+    try (LockResource lr = new LockResource(mLock.writeLock())) {
+      // Find the edge and its predecessor within the bucket chain.
+      long prevInBucket = NULL_ADDRESS;
+      long address = mEdges.get(hash);
+      while (address != NULL_ADDRESS && !edgeMatches(address, parentId, name)) {
+        prevInBucket = address;
+        address = mEdgeSlabs.getLong(address, EDGE_NEXT_IN_BUCKET);
+      }
+      if (address == NULL_ADDRESS) {
+        return;
+      }
+      // Unlink from the bucket chain.
+      long nextInBucket = mEdgeSlabs.getLong(address, EDGE_NEXT_IN_BUCKET);
+      if (prevInBucket != NULL_ADDRESS) {
+        mEdgeSlabs.putLong(prevInBucket, EDGE_NEXT_IN_BUCKET, nextInBucket);
+      } else if (nextInBucket != NULL_ADDRESS) {
+        mEdges.put(hash, nextInBucket);
+      } else {
+        mEdges.remove(hash);
+      }
+      // Unlink from the sibling list.
+      long prevSibling = mEdgeSlabs.getLong(address, EDGE_PREV_SIBLING);
+      long nextSibling = mEdgeSlabs.getLong(address, EDGE_NEXT_SIBLING);
+      if (nextSibling != NULL_ADDRESS) {
+        mEdgeSlabs.putLong(nextSibling, EDGE_PREV_SIBLING, prevSibling);
+      }
+      if (prevSibling != NULL_ADDRESS) {
+        mEdgeSlabs.putLong(prevSibling, EDGE_NEXT_SIBLING, nextSibling);
+      } else if (nextSibling != NULL_ADDRESS) {
+        mChildren.put(parentId, nextSibling);
+      } else {
+        mChildren.remove(parentId);
+      }
+      mEdgeSlabs.free(address, edgeRecordSize(name.length));
+      mSortedChildren.invalidate(parentId);
+    }
+  }
+
+  @Override
+  public Iterable<Long> getChildIds(Long inodeId, ReadOption option) {
+    List<Long> ids = new ArrayList<>();
+    try (LockResource lr = new LockResource(mLock.readLock())) {
+      long[] sorted = sortedChildren(inodeId, option.isPartialListing());
+      int start = option.getStartAfter() == null ? 0 : firstAfter(sorted, option.getStartAfter());
+      for (int i = start; i < sorted.length && ids.size() < option.getLimit(); i++) {
+        ids.add(mEdgeSlabs.getLong(sorted[i], EDGE_CHILD_ID));
+      }
+    }
+    return ids;
+  }
+
+  @Override
+  public Optional<Long> getChildId(Long inodeId, String name, ReadOption option) {
+    byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+    long hash = edgeHash(inodeId, nameBytes);
+    try (LockResource lr = new LockResource(mLock.readLock())) {
+      long address = findEdge(hash, inodeId, nameBytes);
+      if (address == NULL_ADDRESS) {
+        return Optional.empty();
+      }
+      return Optional.of(mEdgeSlabs.getLong(address, EDGE_CHILD_ID));
+    }
+  }
+
+  @Override
+  public Optional<Inode> getChild(Long inodeId, String name, ReadOption option) {
+    return getChildId(inodeId, name, option).flatMap(id -> get(id, option));
+  }
+
+  @Override
+  public boolean hasChildren(InodeDirectoryView inode, ReadOption option) {
+    try (LockResource lr = new LockResource(mLock.readLock())) {
+      return mChildren.containsKey(inode.getId());
+    }
+  }
+
+  @Override
+  public Set<EdgeEntry> allEdges() {
+    Set<EdgeEntry> edges = new HashSet<>();
+    try (LockResource lr = new LockResource(mLock.readLock())) {
+      mChildren.forEach((parentId, head) -> {
+        long address = head;
+        while (address != NULL_ADDRESS) {
+          byte[] name = mEdgeSlabs.getBytes(address, EDGE_NAME,
+              mEdgeSlabs.getInt(address, EDGE_NAME_LENGTH));
+          edges.add(new EdgeEntry(parentId, new String(name, StandardCharsets.UTF_8),
+              mEdgeSlabs.getLong(address, EDGE_CHILD_ID)));
+          address = mEdgeSlabs.getLong(address, EDGE_NEXT_SIBLING);
+        }
+      });
+    }
+    return edges;
+  }
+
+  @Override
+  public Set<MutableInode<?>> allInodes() {
+    Set<MutableInode<?>> inodes = new HashSet<>();
+    try (LockResource lr = new LockResource(mLock.readLock())) {
+      mInodes.forEach((id, address) -> inodes.add(parseInode(
+          mInodeSlabs.getBytes(address, INODE_DATA, mInodeSlabs.getInt(address, INODE_LENGTH)))));
+    }
+    return inodes;
+  }
+
+  /**
+   * @return the number of inodes in the store
+   */
+  public int size() {
+    try (LockResource lr = new LockResource(mLock.readLock())) {
+      return mInodes.size();
+    }
+  }
+
+  /**
+   * @return the number of bytes of direct memory reserved by the store
+   */
+  public long getOffHeapAllocatedBytes() {
+    try (LockResource lr = new LockResource(mLock.readLock())) {
+      return mInodeSlabs.getAllocatedBytes() + mEdgeSlabs.getAllocatedBytes();
+    }
+  }
+
+  /**
+   * @return the number of bytes of direct memory used by live inode and edge records
+   */
+  public long getOffHeapUsedBytes() {
+    try (LockResource lr = new LockResource(mLock.readLock())) {
+      return mInodeSlabs.getUsedBytes() + mEdgeSlabs.getUsedBytes();
+    }
+  }
+
+  /**
+   * @return the number of heap bytes used by the store's primitive indexes
+   */
+  public long getIndexHeapBytes() {
+    try (LockResource lr = new LockResource(mLock.readLock())) {
+      return mInodes.getMemoryUsage() + mEdges.getMemoryUsage() + mChildren.getMemoryUsage();
+    }
+  }
+
+  @Override
+  public CheckpointName getCheckpointName() {
+    return CheckpointName.OFF_HEAP_INODE_STORE;
+  }
+
+  @Override
+  public void writeToCheckpoint(OutputStream output) throws IOException, InterruptedException {
+    // Inodes are written straight from the slabs, holding the read lock so that records can't be
+    // freed while they are written.
+    try (LockResource lr = new LockResource(mLock.readLock())) {
+      if (ServerConfiguration.getBoolean(
+          PropertyKey.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_ENABLED)) {
+        CheckpointOutputStream cos =
+            new CheckpointOutputStream(output, CheckpointType.COMPRESSED_INODE_PROTOS);
+        // Records are copied as they are added, since the encoding threads may outlive the lock
+        // if writing fails. The writer bounds the number of records waiting to be encoded.
+        try (CompressedBlocksWriter<byte[]> writer =
+            new CompressedBlocksWriter<>(cos, bytes -> bytes)) {
+          forEachInodeRecord(record -> {
+            byte[] bytes = new byte[record.remaining()];
+            record.get(bytes);
+            writer.write(bytes);
+          });
+          writer.finish();
+        }
+        return;
+      }
+      output = new CheckpointOutputStream(output, CheckpointType.INODE_PROTOS);
+      // Inodes are already serialized, so we write them with the same framing as
+      // MessageLite#writeDelimitedTo without re-encoding them.
+      CodedOutputStream codedOutput = CodedOutputStream.newInstance(output);
+      forEachInodeRecord(record -> {
+        codedOutput.writeUInt32NoTag(record.remaining());
+        codedOutput.writeRawBytes(record);
+      });
+      codedOutput.flush();
+    }
+  }
+
+  @Override
+  public void restoreFromCheckpoint(CheckpointInputStream input) throws IOException {
+    if (input.getType() == CheckpointType.COMPRESSED_INODE_PROTOS) {
+      try {
+        new CompressedBlocksReader(input)
+            .readAllBlocks(InodeMeta.Inode.parser(), this::restoreInodes);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while restoring off-heap inode store", e);
+      }
+      return;
+    }
+    Preconditions.checkState(input.getType() == CheckpointType.INODE_PROTOS,
+        "Unexpected checkpoint type in off-heap inode store: " + input.getType());
+    List<InodeMeta.Inode> batch = new ArrayList<>(RESTORE_BATCH_SIZE);
+    InodeMeta.Inode inodeProto;
+    while ((inodeProto = InodeMeta.Inode.parseDelimitedFrom(input)) != null) {
+      batch.add(inodeProto);
+      if (batch.size() == RESTORE_BATCH_SIZE) {
+        restoreInodes(batch);
+        batch.clear();
+      }
+    }
+    restoreInodes(batch);
+  }
+
+  /**
+   * Adds restored inodes and their parent edges. The records are serialized, hashed and checked
+   * before the write lock is taken, and the lock is then taken once for the whole batch, so that
+   * concurrent restore threads only contend for copying the records into the slabs. A batch with
+   * a record that does not fit in a slab leaves the store unchanged.
+   *
+   * @param inodes the inodes to add
+   */
+  private void restoreInodes(List<InodeMeta.Inode> inodes) {
+    int count = inodes.size();
+    byte[][] records = new byte[count][];
+    byte[][] names = new byte[count][];
+    long[] hashes = new long[count];
+    for (int i = 0; i < count; i++) {
+      InodeMeta.Inode inode = inodes.get(i);
+      records[i] = inode.toByteArray();
+      names[i] = inode.getName().getBytes(StandardCharsets.UTF_8);
+      checkRecordSize(mInodeSlabs, (long) INODE_DATA + records[i].length,
+          "Inode " + inode.getId());
+      checkRecordSize(mEdgeSlabs, (long) EDGE_NAME + names[i].length,
+          "Edge to " + inode.getName());
+      hashes[i] = edgeHash(inode.getParentId(), names[i]);
+    }
+    try (LockResource lr = new LockResource(mLock.writeLock())) {
+      for (int i = 0; i < count; i++) {
+        InodeMeta.Inode inode = inodes.get(i);
+        writeInodeBytes(inode.getId(), records[i]);
+        addEdge(inode.getParentId(), names[i], hashes[i], inode.getId());
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    clear();
+    MetricsSystem.removeGauge(ALLOCATED_BYTES_GAUGE, mAllocatedBytesGauge);
+    MetricsSystem.removeGauge(USED_BYTES_GAUGE, mUsedBytesGauge);
+  }
+
+  private void writeInodeBytes(long id, byte[] bytes) {
+    // Checked before anything is freed, so that a rejected inode leaves the store unchanged.
+    checkRecordSize(mInodeSlabs, (long) INODE_DATA + bytes.length, "Inode " + id);
+    long address = mInodes.get(id);
+    if (address != NULL_ADDRESS) {
+      int oldSize = inodeRecordSize(mInodeSlabs.getInt(address, INODE_LENGTH));
+      if (SlabAllocator.roundUp(oldSize) != SlabAllocator.roundUp(inodeRecordSize(bytes.length))) {
+        mInodeSlabs.free(address, oldSize);
+        address = NULL_ADDRESS;
+      }
+    }
+    if (address == NULL_ADDRESS) {
+      address = mInodeSlabs.allocate(inodeRecordSize(bytes.length));
+      mInodes.put(id, address);
+    }
+    mInodeSlabs.putInt(address, INODE_LENGTH, bytes.length);
+    mInodeSlabs.putBytes(address, INODE_DATA, bytes);
+  }
+
+  /**
+   * Adds an edge, or points an existing edge at a new child. Must be called with the write lock
+   * held.
+   *
+   * @param parentId the id of the parent
+   * @param name the encoded name of the child
+   * @param hash the {@link #edgeHash} of the edge
+   * @param childId the id of the child
+   */
+  private void addEdge(long parentId, byte[] name, long hash, long childId) {
+    long existing = findEdge(hash, parentId, name);
+    if (existing != NULL_ADDRESS) {
+      mEdgeSlabs.putLong(existing, EDGE_CHILD_ID, childId);
+      return;
+    }
+    long address = mEdgeSlabs.allocate(edgeRecordSize(name.length));
+    long firstSibling = mChildren.get(parentId);
+    mEdgeSlabs.putLong(address, EDGE_NEXT_IN_BUCKET, mEdges.get(hash));
+    mEdgeSlabs.putLong(address, EDGE_PREV_SIBLING, NULL_ADDRESS);
+    mEdgeSlabs.putLong(address, EDGE_NEXT_SIBLING, firstSibling);
+    mEdgeSlabs.putLong(address, EDGE_PARENT_ID, parentId);
+    mEdgeSlabs.putLong(address, EDGE_CHILD_ID, childId);
+    mEdgeSlabs.putInt(address, EDGE_NAME_LENGTH, name.length);
+    mEdgeSlabs.putBytes(address, EDGE_NAME, name);
+    if (firstSibling != NULL_ADDRESS) {
+      mEdgeSlabs.putLong(firstSibling, EDGE_PREV_SIBLING, address);
+    }
+    mEdges.put(hash, address);
+    mChildren.put(parentId, address);
+    mSortedChildren.invalidate(parentId);
+  }
+
+  /**
+   * Passes a view of each serialized inode to the given writer. Must be called with the lock
+   * held, and the views are only valid until it is released.
+   *
+   * @param writer the writer
+   */
+  private void forEachInodeRecord(RecordWriter writer) throws IOException, InterruptedException {
+    try {
+      mInodes.forEach((id, address) -> {
+        try {
+          if (Thread.interrupted()) {
+            throw new InterruptedException();
+          }
+          writer.write(mInodeSlabs.getBuffer(address, INODE_DATA,
+              mInodeSlabs.getInt(address, INODE_LENGTH)));
+        } catch (IOException | InterruptedException e) {
+          throw new RecordWriteException(e);
+        }
+      });
+    } catch (RecordWriteException e) {
+      if (e.getCause() instanceof InterruptedException) {
+        throw (InterruptedException) e.getCause();
+      }
+      throw (IOException) e.getCause();
+    }
+  }
+
+  /**
+   * Rejects records which can never be allocated, because they are larger than a slab.
+   *
+   * @param slabs the allocator for the record
+   * @param size the size of the record
+   * @param description a description of the record for the error message
+   */
+  private static void checkRecordSize(SlabAllocator slabs, long size, String description) {
+    if (size > slabs.getSlabSize()) {
+      throw new IllegalArgumentException(String.format(
+          "%s needs a %s byte record, which is larger than the off-heap slab size of %s bytes. "
+              + "Increase %s to store it.", description, size, slabs.getSlabSize(),
+          PropertyKey.Name.MASTER_METASTORE_OFF_HEAP_SLAB_SIZE));
+    }
+  }
+
+  /**
+   * Returns the edge records of the children of a directory, ordered by name. Sibling lists are
+   * kept in insertion order, so this sorts them, and caches the result for paged listings so that
+   * each further page only costs a binary search and the size of the page.
+   *
+   * @param parentId the id of the directory
+   * @param cache whether to cache the sorted records
+   * @return the addresses of the edge records of the children, ordered by child name
+   */
+  private long[] sortedChildren(long parentId, boolean cache) {
+    long[] sorted = mSortedChildren.getIfPresent(parentId);
+    if (sorted != null) {
+      return sorted;
+    }
+    List<EdgeName> children = new ArrayList<>();
+    long address = mChildren.get(parentId);
+    while (address != NULL_ADDRESS) {
+      children.add(new EdgeName(edgeName(address), address));
+      address = mEdgeSlabs.getLong(address, EDGE_NEXT_SIBLING);
+    }
+    children.sort(Comparator.comparing(child -> child.mName));
+    sorted = new long[children.size()];
+    for (int i = 0; i < sorted.length; i++) {
+      sorted[i] = children.get(i).mAddress;
+    }
+    if (cache) {
+      // Holding the read lock, so no edge of the directory can change before the entry is added.
+      mSortedChildren.put(parentId, sorted);
+    }
+    return sorted;
+  }
+
+  /**
+   * @param sorted edge record addresses ordered by name
+   * @param name a name
+   * @return the index of the first record whose name sorts after the given name
+   */
+  private int firstAfter(long[] sorted, String name) {
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (edgeName(sorted[mid]).compareTo(name) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private String edgeName(long address) {
+    return new String(mEdgeSlabs.getBytes(address, EDGE_NAME,
+        mEdgeSlabs.getInt(address, EDGE_NAME_LENGTH)), StandardCharsets.UTF_8);
+  }
+
+  private long findEdge(long hash, long parentId, byte[] name) {
+    long address = mEdges.get(hash);
+    while (address != NULL_ADDRESS && !edgeMatches(address, parentId, name)) {
+      address = mEdgeSlabs.getLong(address, EDGE_NEXT_IN_BUCKET);
+    }
+    return address;
+  }
+
+  private boolean edgeMatches(long address, long parentId, byte[] name) {
+    return mEdgeSlabs.getLong(address, EDGE_PARENT_ID) == parentId
+        && mEdgeSlabs.getInt(address, EDGE_NAME_LENGTH) == name.length
+        && mEdgeSlabs.bytesEqual(address, EDGE_NAME, name);
+  }
+
+  private static MutableInode<?> parseInode(byte[] bytes) {
+    try {
+      return MutableInode.fromProto(InodeMeta.Inode.parseFrom(bytes));
+    } catch (InvalidProtocolBufferException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Writes a serialized inode to a checkpoint.
+   */
+  @FunctionalInterface
+  private interface RecordWriter {
+    /**
+     * @param record a view of the serialized inode
+     */
+    void write(ByteBuffer record) throws IOException, InterruptedException;
+  }
+
+  /**
+   * Carries a checked exception of a {@link RecordWriter} out of a map iteration.
+   */
+  private static final class RecordWriteException extends RuntimeException {
+    private static final long serialVersionUID = 0;
+
+    RecordWriteException(Exception cause) {
+      super(cause);
+    }
+  }
+
+  /**
+   * The name of an edge record, used to sort the children of a directory.
+   */
+  private static final class EdgeName {
+    private final String mName;
+    private final long mAddress;
+
+    EdgeName(String name, long address) {
+      mName = name;
+      mAddress = address;
+    }
+  }
+
+  private static int inodeRecordSize(int length) {
+    return INODE_DATA + length;
+  }
+
+  private static int edgeRecordSize(int nameLength) {
+    return EDGE_NAME + nameLength;
+  }
+
+  /**
+   * Computes a 64-bit hash for an edge. Collisions are allowed since edge records are compared
+   * in full during lookup.
+   */
+  private static long edgeHash(long parentId, byte[] name) {
+    long h = parentId * 0x9E3779B97F4A7C15L;
+    for (byte b : name) {
+      h = (h ^ b) * 0x100000001B3L;
+    }
+    return h ^ (h >>> 29);
+  }
+}
@@ -0,0 +1,264 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.offheap;
+
+import alluxio.util.io.BufferUtils;
+
+import com.google.common.base.Preconditions;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Allocates variable-sized records from large direct-memory slabs.
+ *
+ * Records are identified by a long address, with the slab index in the upper 32 bits and the
+ * offset within the slab in the lower 32 bits. Record sizes are rounded up to a multiple of
+ * {@link #ALIGNMENT} bytes, and freed records are kept in per-size free lists so that later
+ * allocations of the same rounded size can reuse them. This keeps fragmentation bounded without
+ * ever needing to move records, which means addresses stay valid until they are freed.
+ */
+@NotThreadSafe
+final class SlabAllocator {
+  /** Address used to represent the absence of a record. */
+  static final long NULL_ADDRESS = -1L;
+  /** Record sizes are rounded up to a multiple of this value. */
+  static final int ALIGNMENT = 8;
+  /** The largest supported slab size, since offsets within a slab are 32-bit. */
+  static final int MAX_SLAB_SIZE = Integer.MAX_VALUE & -ALIGNMENT;
+
+  private final int mSlabSize;
+  private final List<ByteBuffer> mSlabs = new ArrayList<>();
+  /** Free lists keyed by rounded record size. */
+  private final Map<Integer, LongStack> mFreeLists = new HashMap<>();
+
+  private int mCurrentOffset;
+  private long mUsedBytes;
+
+  /**
+   * @param slabSize the size of each slab in bytes
+   */
+  SlabAllocator(int slabSize) {
+    Preconditions.checkArgument(slabSize > 0 && slabSize % ALIGNMENT == 0,
+        "Slab size must be a positive multiple of %s, but was %s", ALIGNMENT, slabSize);
+    Preconditions.checkArgument(slabSize <= MAX_SLAB_SIZE,
+        "Slab size must be at most %s, but was %s", MAX_SLAB_SIZE, slabSize);
+    mSlabSize = slabSize;
+    mCurrentOffset = slabSize;
+  }
+
+  /**
+   * @param size the number of bytes needed
+   * @return the size which will actually be reserved for a record of the given size
+   */
+  static int roundUp(int size) {
+    return (size + ALIGNMENT - 1) & -ALIGNMENT;
+  }
+
+  /**
+   * Allocates space for a record. The record must later be freed with the same size.
+   *
+   * @param size the size of the record in bytes
+   * @return the address of the allocated record
+   */
+  long allocate(int size) {
+    int rounded = roundUp(size);
+    Preconditions.checkArgument(rounded <= mSlabSize,
+        "Record of size %s does not fit in slabs of size %s", size, mSlabSize);
+    mUsedBytes += rounded;
+    LongStack freeList = mFreeLists.get(rounded);
+    if (freeList != null && !freeList.isEmpty()) {
+      return freeList.pop();
+    }
+    if ((long) mCurrentOffset + rounded > mSlabSize) {
+      // The tail of the previous slab is wasted. Records are small relative to slabs, so this
+      // costs little.
+      mSlabs.add(ByteBuffer.allocateDirect(mSlabSize));
+      mCurrentOffset = 0;
+    }
+    long address = ((long) (mSlabs.size() - 1) << 32) | mCurrentOffset;
+    mCurrentOffset += rounded;
+    return address;
+  }
+
+  /**
+   * Frees a record so that its space may be reused.
+   *
+   * @param address the record address
+   * @param size the size the record was allocated with
+   */
+  void free(long address, int size) {
+    int rounded = roundUp(size);
+    mUsedBytes -= rounded;
+    mFreeLists.computeIfAbsent(rounded, k -> new LongStack()).push(address);
+  }
+
+  /**
+   * @param address a record address
+   * @return the slab containing the record
+   */
+  ByteBuffer slab(long address) {
+    return mSlabs.get((int) (address >>> 32));
+  }
+
+  /**
+   * @param address a record address
+   * @return the offset of the record within its slab
+   */
+  static int offset(long address) {
+    return (int) address;
+  }
+
+  long getLong(long address, int field) {
+    return slab(address).getLong(offset(address) + field);
+  }
+
+  void putLong(long address, int field, long value) {
+    slab(address).putLong(offset(address) + field, value);
+  }
+
+  int getInt(long address, int field) {
+    return slab(address).getInt(offset(address) + field);
+  }
+
+  void putInt(long address, int field, int value) {
+    slab(address).putInt(offset(address) + field, value);
+  }
+
+  /**
+   * Copies bytes out of a record.
+   *
+   * @param address the record address
+   * @param field the offset within the record to start copying from
+   * @param length the number of bytes to copy
+   * @return the copied bytes
+   */
+  byte[] getBytes(long address, int field, int length) {
+    byte[] bytes = new byte[length];
+    ByteBuffer buf = slab(address).duplicate();
+    buf.position(offset(address) + field);
+    buf.get(bytes);
+    return bytes;
+  }
+
+  /**
+   * Returns a read-only view of bytes in a record, without copying them. The view is only valid
+   * until the record is freed.
+   *
+   * @param address the record address
+   * @param field the offset within the record where the view starts
+   * @param length the number of bytes in the view
+   * @return the view, with its position at 0 and its capacity equal to the length
+   */
+  ByteBuffer getBuffer(long address, int field, int length) {
+    ByteBuffer buf = slab(address).asReadOnlyBuffer();
+    buf.position(offset(address) + field);
+    buf.limit(offset(address) + field + length);
+    return buf.slice();
+  }
+
+  /**
+   * Copies bytes into a record.
+   *
+   * @param address the record address
+   * @param field the offset within the record to start copying to
+   * @param bytes the bytes to copy
+   */
+  void putBytes(long address, int field, byte[] bytes) {
+    ByteBuffer buf = slab(address).duplicate();
+    buf.position(offset(address) + field);
+    buf.put(bytes);
+  }
+
+  /**
+   * Compares bytes in a record against the given bytes.
+   *
+   * @param address the record address
+   * @param field the offset within the record to start comparing from
+   * @param bytes the bytes to compare against
+   * @return whether the record bytes equal the given bytes
+   */
+  boolean bytesEqual(long address, int field, byte[] bytes) {
+    ByteBuffer slab = slab(address);
+    int start = offset(address) + field;
+    for (int i = 0; i < bytes.length; i++) {
+      if (slab.get(start + i) != bytes[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the size of each slab, which is also the largest record size
+   */
+  int getSlabSize() {
+    return mSlabSize;
+  }
+
+  /**
+   * @return the number of bytes reserved by live records
+   */
+  long getUsedBytes() {
+    return mUsedBytes;
+  }
+
+  /**
+   * @return the number of bytes of direct memory held by the allocator
+   */
+  long getAllocatedBytes() {
+    return (long) mSlabs.size() * mSlabSize;
+  }
+
+  /**
+   * Releases all slabs. All previously returned addresses become invalid.
+   */
+  void reset() {
+    for (ByteBuffer slab : mSlabs) {
+      BufferUtils.cleanDirectBuffer(slab);
+    }
+    mSlabs.clear();
+    mFreeLists.clear();
+    mCurrentOffset = mSlabSize;
+    mUsedBytes = 0;
+  }
+
+  /**
+   * A growable stack of primitive longs.
+   */
+  private static final class LongStack {
+    private long[] mValues = new long[16];
+    private int mSize;
+
+    void push(long value) {
+      if (mSize == mValues.length) {
+        long[] values = new long[mValues.length * 2];
+        System.arraycopy(mValues, 0, values, 0, mSize);
+        mValues = values;
+      }
+      mValues[mSize++] = value;
+    }
+
+    long pop() {
+      return mValues[--mSize];
+    }
+
+    boolean isEmpty() {
+      return mSize == 0;
+    }
+  }
+}
@@ -14,15 +14,13 @@ package alluxio.master.metastore.rocks;
 import alluxio.master.metastore.BlockStore;
 import alluxio.proto.meta.Block.BlockLocation;
 import alluxio.proto.meta.Block.BlockMeta;
+import alluxio.resource.CloseableResource;
 import alluxio.util.io.PathUtils;
 
 import com.google.common.primitives.Longs;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
-import org.rocksdb.CompressionType;
-import org.rocksdb.DBOptions;
-import org.rocksdb.HashLinkedListMemTableConfig;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -65,30 +63,22 @@ public class RocksBlockStore implements BlockStore {
   public RocksBlockStore(String baseDir) {
     RocksDB.loadLibrary();
     mDisableWAL = new WriteOptions().setDisableWAL(true);
-    ColumnFamilyOptions cfOpts = new ColumnFamilyOptions()
-        .setMemTableConfig(new HashLinkedListMemTableConfig())
-        .setCompressionType(CompressionType.NO_COMPRESSION)
-        .useFixedLengthPrefixExtractor(8); // We always search using the initial long key
+    // We always search using the initial long key
+    ColumnFamilyOptions cfOpts = RocksUtils.createColumnFamilyOptions(Longs.BYTES);
     List<ColumnFamilyDescriptor> columns =
         Arrays.asList(new ColumnFamilyDescriptor(BLOCK_META_COLUMN.getBytes(), cfOpts),
             new ColumnFamilyDescriptor(BLOCK_LOCATIONS_COLUMN.getBytes(), cfOpts));
-    DBOptions dbOpts = new DBOptions()
-        // Concurrent memtable write is not supported for hash linked list memtable
-        .setAllowConcurrentMemtableWrite(false)
-        .setMaxOpenFiles(-1)
-        .setCreateIfMissing(true)
-        .setCreateMissingColumnFamilies(true);
     String dbPath = PathUtils.concatPath(baseDir, BLOCKS_DB_NAME);
     String backupPath = PathUtils.concatPath(baseDir, BLOCKS_DB_NAME + "-backups");
-    mRocksStore = new RocksStore(dbPath, backupPath, columns, dbOpts,
+    mRocksStore = new RocksStore(dbPath, backupPath, columns, RocksUtils.createDbOptions(),
         Arrays.asList(mBlockMetaColumn, mBlockLocationsColumn));
   }
 
   @Override
   public Optional<BlockMeta> getBlock(long id) {
     byte[] meta;
-    try {
-      meta = db().get(mBlockMetaColumn.get(), Longs.toByteArray(id));
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb()) {
+      meta = db.get().get(mBlockMetaColumn.get(), Longs.toByteArray(id));
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
     }
@@ -104,9 +94,9 @@ public class RocksBlockStore implements BlockStore {
 
   @Override
   public void putBlock(long id, BlockMeta meta) {
-    try {
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb()) {
       // Overwrites the key if it already exists.
-      db().put(mBlockMetaColumn.get(), mDisableWAL, Longs.toByteArray(id), meta.toByteArray());
+      db.get().put(mBlockMetaColumn.get(), mDisableWAL, Longs.toByteArray(id), meta.toByteArray());
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
     }
@@ -114,8 +104,8 @@ public class RocksBlockStore implements BlockStore {
 
   @Override
   public void removeBlock(long id) {
-    try {
-      db().delete(mBlockMetaColumn.get(), mDisableWAL, Longs.toByteArray(id));
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb()) {
+      db.get().delete(mBlockMetaColumn.get(), mDisableWAL, Longs.toByteArray(id));
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
     }
@@ -128,8 +118,9 @@ public class RocksBlockStore implements BlockStore {
 
   @Override
   public List<BlockLocation> getLocations(long id) {
-    try (RocksIterator iter = db().newIterator(mBlockLocationsColumn.get(),
-        new ReadOptions().setPrefixSameAsStart(true))) {
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb();
+         RocksIterator iter = db.get().newIterator(mBlockLocationsColumn.get(),
+             new ReadOptions().setPrefixSameAsStart(true))) {
       iter.seek(Longs.toByteArray(id));
       List<BlockLocation> locations = new ArrayList<>();
       for (; iter.isValid(); iter.next()) {
@@ -146,8 +137,8 @@ public class RocksBlockStore implements BlockStore {
   @Override
   public void addLocation(long id, BlockLocation location) {
     byte[] key = RocksUtils.toByteArray(id, location.getWorkerId());
-    try {
-      db().put(mBlockLocationsColumn.get(), mDisableWAL, key, location.toByteArray());
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb()) {
+      db.get().put(mBlockLocationsColumn.get(), mDisableWAL, key, location.toByteArray());
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
     }
@@ -156,8 +147,8 @@ public class RocksBlockStore implements BlockStore {
   @Override
   public void removeLocation(long blockId, long workerId) {
     byte[] key = RocksUtils.toByteArray(blockId, workerId);
-    try {
-      db().delete(mBlockLocationsColumn.get(), mDisableWAL, key);
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb()) {
+      db.get().delete(mBlockLocationsColumn.get(), mDisableWAL, key);
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
     }
@@ -166,8 +157,9 @@ public class RocksBlockStore implements BlockStore {
   @Override
   public Iterator<Block> iterator() {
     List<Block> blocks = new ArrayList<>();
-    try (RocksIterator iter =
-        db().newIterator(mBlockMetaColumn.get(), new ReadOptions().setPrefixSameAsStart(true))) {
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb();
+         RocksIterator iter = db.get()
+             .newIterator(mBlockMetaColumn.get(), new ReadOptions().setPrefixSameAsStart(true))) {
       iter.seekToFirst();
       while (iter.isValid()) {
         try {
@@ -180,8 +172,4 @@ public class RocksBlockStore implements BlockStore {
     }
     return blocks.iterator();
   }
-
-  private RocksDB db() {
-    return mRocksStore.getDb();
-  }
 }
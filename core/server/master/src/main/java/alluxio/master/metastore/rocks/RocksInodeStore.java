@@ -20,15 +20,13 @@ import alluxio.master.journal.checkpoint.CheckpointName;
 import alluxio.master.metastore.InodeStore;
 import alluxio.master.metastore.ReadOption;
 import alluxio.proto.meta.InodeMeta;
+import alluxio.resource.CloseableResource;
 import alluxio.util.io.PathUtils;
 
 import com.google.common.primitives.Longs;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
-import org.rocksdb.CompressionType;
-import org.rocksdb.DBOptions;
-import org.rocksdb.HashLinkedListMemTableConfig;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -79,28 +77,22 @@ public class RocksInodeStore implements InodeStore {
     mReadPrefixSameAsStart = new ReadOptions().setPrefixSameAsStart(true);
     String dbPath = PathUtils.concatPath(baseDir, INODES_DB_NAME);
     String backupPath = PathUtils.concatPath(baseDir, INODES_DB_NAME + "-backup");
-    ColumnFamilyOptions cfOpts = new ColumnFamilyOptions()
-        .setMemTableConfig(new HashLinkedListMemTableConfig())
-        .setCompressionType(CompressionType.NO_COMPRESSION)
-        .useFixedLengthPrefixExtractor(Longs.BYTES); // We always search using the initial long key
+    // We always search using the initial long key. Both columns share the options, and with them
+    // the block cache. The edges column's keys are the parent id followed by the child name, so
+    // its bloom filter holds both parent id prefixes and full edge keys.
+    ColumnFamilyOptions cfOpts = RocksUtils.createColumnFamilyOptions(Longs.BYTES);
     List<ColumnFamilyDescriptor> columns = Arrays.asList(
         new ColumnFamilyDescriptor(INODES_COLUMN.getBytes(), cfOpts),
         new ColumnFamilyDescriptor(EDGES_COLUMN.getBytes(), cfOpts));
-    DBOptions dbOpts = new DBOptions()
-        // Concurrent memtable write is not supported for hash linked list memtable
-        .setAllowConcurrentMemtableWrite(false)
-        .setMaxOpenFiles(-1)
-        .setCreateIfMissing(true)
-        .setCreateMissingColumnFamilies(true);
-    mRocksStore = new RocksStore(dbPath, backupPath, columns, dbOpts,
+    mRocksStore = new RocksStore(dbPath, backupPath, columns, RocksUtils.createDbOptions(),
         Arrays.asList(mInodesColumn, mEdgesColumn));
   }
 
   @Override
   public void remove(Long inodeId) {
-    try {
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb()) {
       byte[] id = Longs.toByteArray(inodeId);
-      db().delete(mInodesColumn.get(), mDisableWAL, id);
+      db.get().delete(mInodesColumn.get(), mDisableWAL, id);
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
     }
@@ -108,8 +100,8 @@ public class RocksInodeStore implements InodeStore {
 
   @Override
   public void writeInode(MutableInode<?> inode) {
-    try {
-      db().put(mInodesColumn.get(), mDisableWAL, Longs.toByteArray(inode.getId()),
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb()) {
+      db.get().put(mInodesColumn.get(), mDisableWAL, Longs.toByteArray(inode.getId()),
           inode.toProto().toByteArray());
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
@@ -128,8 +120,8 @@ public class RocksInodeStore implements InodeStore {
 
   @Override
   public void addChild(long parentId, String childName, Long childId) {
-    try {
-      db().put(mEdgesColumn.get(), mDisableWAL, RocksUtils.toByteArray(parentId, childName),
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb()) {
+      db.get().put(mEdgesColumn.get(), mDisableWAL, RocksUtils.toByteArray(parentId, childName),
           Longs.toByteArray(childId));
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
@@ -138,8 +130,8 @@ public class RocksInodeStore implements InodeStore {
 
   @Override
   public void removeChild(long parentId, String name) {
-    try {
-      db().delete(mEdgesColumn.get(), mDisableWAL, RocksUtils.toByteArray(parentId, name));
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb()) {
+      db.get().delete(mEdgesColumn.get(), mDisableWAL, RocksUtils.toByteArray(parentId, name));
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
     }
@@ -148,8 +140,8 @@ public class RocksInodeStore implements InodeStore {
   @Override
   public Optional<MutableInode<?>> getMutable(long id, ReadOption option) {
     byte[] inode;
-    try {
-      inode = db().get(mInodesColumn.get(), Longs.toByteArray(id));
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb()) {
+      inode = db.get().get(mInodesColumn.get(), Longs.toByteArray(id));
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
     }
@@ -166,9 +158,21 @@ public class RocksInodeStore implements InodeStore {
   @Override
   public Iterable<Long> getChildIds(Long inodeId, ReadOption option) {
     List<Long> ids = new ArrayList<>();
-    try (RocksIterator iter = db().newIterator(mEdgesColumn.get(), mReadPrefixSameAsStart)) {
-      iter.seek(Longs.toByteArray(inodeId));
-      while (iter.isValid()) {
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb();
+         RocksIterator iter = db.get().newIterator(mEdgesColumn.get(), mReadPrefixSameAsStart)) {
+      String startAfter = option.getStartAfter();
+      if (startAfter == null) {
+        iter.seek(Longs.toByteArray(inodeId));
+      } else {
+        // Edge keys are ordered by name within a parent, so seek straight to the start name and
+        // skip it if it is present.
+        byte[] startKey = RocksUtils.toByteArray(inodeId, startAfter);
+        iter.seek(startKey);
+        if (iter.isValid() && Arrays.equals(iter.key(), startKey)) {
+          iter.next();
+        }
+      }
+      while (iter.isValid() && ids.size() < option.getLimit()) {
         ids.add(Longs.fromByteArray(iter.value()));
         iter.next();
       }
@@ -179,8 +183,8 @@ public class RocksInodeStore implements InodeStore {
   @Override
   public Optional<Long> getChildId(Long inodeId, String name, ReadOption option) {
     byte[] id;
-    try {
-      id = db().get(mEdgesColumn.get(), RocksUtils.toByteArray(inodeId, name));
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb()) {
+      id = db.get().get(mEdgesColumn.get(), RocksUtils.toByteArray(inodeId, name));
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
     }
@@ -204,7 +208,8 @@ public class RocksInodeStore implements InodeStore {
 
   @Override
   public boolean hasChildren(InodeDirectoryView inode, ReadOption option) {
-    try (RocksIterator iter = db().newIterator(mEdgesColumn.get(), mReadPrefixSameAsStart)) {
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb();
+         RocksIterator iter = db.get().newIterator(mEdgesColumn.get(), mReadPrefixSameAsStart)) {
       iter.seek(Longs.toByteArray(inode.getId()));
       return iter.isValid();
     }
@@ -213,7 +218,8 @@ public class RocksInodeStore implements InodeStore {
   @Override
   public Set<EdgeEntry> allEdges() {
     Set<EdgeEntry> edges = new HashSet<>();
-    try (RocksIterator iter = db().newIterator(mEdgesColumn.get())) {
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb();
+         RocksIterator iter = db.get().newIterator(mEdgesColumn.get())) {
       iter.seekToFirst();
       while (iter.isValid()) {
         long parentId = RocksUtils.readLong(iter.key(), 0);
@@ -229,10 +235,17 @@ public class RocksInodeStore implements InodeStore {
   @Override
   public Set<MutableInode<?>> allInodes() {
     Set<MutableInode<?>> inodes = new HashSet<>();
-    try (RocksIterator iter = db().newIterator(mInodesColumn.get())) {
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb();
+         RocksIterator iter = db.get().newIterator(mInodesColumn.get())) {
       iter.seekToFirst();
       while (iter.isValid()) {
-        inodes.add(getMutable(Longs.fromByteArray(iter.key()), ReadOption.defaults()).get());
+        // Parse the value directly instead of calling getMutable, which would acquire the
+        // database a second time.
+        try {
+          inodes.add(MutableInode.fromProto(InodeMeta.Inode.parseFrom(iter.value())));
+        } catch (Exception e) {
+          throw new RuntimeException(e);
+        }
         iter.next();
       }
     }
@@ -302,8 +315,8 @@ public class RocksInodeStore implements InodeStore {
 
     @Override
     public void commit() {
-      try {
-        db().write(mDisableWAL, mBatch);
+      try (CloseableResource<RocksDB> db = mRocksStore.acquireDb()) {
+        db.get().write(mDisableWAL, mBatch);
       } catch (RocksDBException e) {
         throw new RuntimeException(e);
       }
@@ -320,18 +333,15 @@ public class RocksInodeStore implements InodeStore {
     mRocksStore.close();
   }
 
-  private RocksDB db() {
-    return mRocksStore.getDb();
-  }
-
   /**
    * @return a newline-delimited string representing the state of the inode store. This is useful
    *         for debugging purposes
    */
   public String toStringEntries() {
     StringBuilder sb = new StringBuilder();
-    try (RocksIterator inodeIter =
-        db().newIterator(mInodesColumn.get(), new ReadOptions().setTotalOrderSeek(true))) {
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb();
+         RocksIterator inodeIter =
+             db.get().newIterator(mInodesColumn.get(), new ReadOptions().setTotalOrderSeek(true))) {
       inodeIter.seekToFirst();
       while (inodeIter.isValid()) {
         MutableInode<?> inode;
@@ -344,7 +354,8 @@ public class RocksInodeStore implements InodeStore {
         inodeIter.next();
       }
     }
-    try (RocksIterator edgeIter = db().newIterator(mEdgesColumn.get())) {
+    try (CloseableResource<RocksDB> db = mRocksStore.acquireDb();
+         RocksIterator edgeIter = db.get().newIterator(mEdgesColumn.get())) {
       edgeIter.seekToFirst();
       while (edgeIter.isValid()) {
         byte[] key = edgeIter.key();
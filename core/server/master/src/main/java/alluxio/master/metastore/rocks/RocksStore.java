@@ -12,9 +12,15 @@
 package alluxio.master.metastore.rocks;
 
 import alluxio.Constants;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.journal.checkpoint.CheckpointOutputStream;
 import alluxio.master.journal.checkpoint.CheckpointType;
+import alluxio.master.journal.checkpoint.RocksSstCheckpointFormat;
+import alluxio.master.journal.checkpoint.RocksSstCheckpointFormat.FileHeader;
+import alluxio.master.journal.checkpoint.RocksSstCheckpointFormat.RocksSstCheckpointReader;
+import alluxio.resource.CloseableResource;
 import alluxio.util.TarUtils;
 import alluxio.util.io.FileUtils;
 
@@ -32,19 +38,42 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Class for managing a rocksdb database. This class handles common functionality such as
  * initializing the database and performing database backup/restore.
  *
- * Thread safety is achieved by synchronizing all public methods.
+ * Reads and writes go through {@link #acquireDb()}, which does not take any locks. Operations
+ * which replace the database ({@link #clear()}, {@link #restoreFromCheckpoint} and
+ * {@link #close()}) are synchronized with each other. Before replacing the database they stop new
+ * callers from acquiring it and wait for existing callers to release it, so that no caller ever
+ * sees a closed database or column family handle.
+ *
+ * When {@link PropertyKey#MASTER_METASTORE_ROCKS_CHECKPOINT_INCREMENTAL} is enabled, checkpoints
+ * are written in the {@link CheckpointType#ROCKS_SST} format. Checksums of unchanged SST files are
+ * then remembered instead of being recomputed, and restores link SST files which are already
+ * present locally instead of writing them again. The cost of computing checksums and of writing
+ * files on restore then mostly depends on how much of the database changed.
  */
 @ThreadSafe
 public final class RocksStore implements Closeable {
@@ -54,8 +83,21 @@ public final class RocksStore implements Closeable {
   private final String mDbCheckpointPath;
   private final Collection<ColumnFamilyDescriptor> mColumnFamilyDescriptors;
   private final DBOptions mDbOpts;
+  private final boolean mIncrementalCheckpoints;
+
+  /**
+   * Checksums of SST files, keyed by file key (i.e. inode). SST files are immutable and hard links
+   * share a file key, so a checksum stays valid across checkpoints while the file exists.
+   */
+  @GuardedBy("this")
+  private Map<Object, FileChecksum> mChecksums = new HashMap<>();
+
+  /** The number of callers currently using the database. */
+  private final AtomicLong mRefCount = new AtomicLong();
+  /** Whether the database is being replaced. New callers must wait until it is reopened. */
+  private volatile boolean mClosing = false;
 
-  private RocksDB mDb;
+  private volatile RocksDB mDb;
   private Checkpoint mCheckpoint;
   // When we create the database, we must set these handles.
   private List<AtomicReference<ColumnFamilyHandle>> mColumnHandles;
@@ -76,6 +118,8 @@ public final class RocksStore implements Closeable {
     mColumnFamilyDescriptors = columnFamilyDescriptors;
     mDbOpts = dbOpts;
     mColumnHandles = columnHandles;
+    mIncrementalCheckpoints =
+        ServerConfiguration.getBoolean(PropertyKey.MASTER_METASTORE_ROCKS_CHECKPOINT_INCREMENTAL);
     try {
       resetDb();
     } catch (RocksDBException e) {
@@ -85,20 +129,87 @@ public final class RocksStore implements Closeable {
 
   /**
    * @return the underlying rocksdb instance. The instance changes when clear() is called, so if the
-   *         caller caches the returned db, they must reset it after calling clear()
+   *         caller caches the returned db, they must reset it after calling clear(). Callers which
+   *         may run concurrently with clear() should use {@link #acquireDb()} instead
    */
-  public synchronized RocksDB getDb() {
+  public RocksDB getDb() {
     return mDb;
   }
 
+  /**
+   * Acquires the database for a single operation. The database and its column family handles
+   * will not be closed or replaced until the returned resource is closed. Callers must not acquire
+   * the database again while holding it, since a concurrent {@link #clear()} would then wait for
+   * the outer reference while the inner acquisition waits for the clear.
+   *
+   * @return a resource wrapping the database, which must be closed after use
+   */
+  public CloseableResource<RocksDB> acquireDb() {
+    while (true) {
+      mRefCount.incrementAndGet();
+      if (!mClosing) {
+        return new CloseableResource<RocksDB>(mDb) {
+          @Override
+          public void close() {
+            mRefCount.decrementAndGet();
+          }
+        };
+      }
+      mRefCount.decrementAndGet();
+      awaitReopen();
+    }
+  }
+
+  private synchronized void awaitReopen() {
+    // The monitor is held for the whole time the database is being replaced, so by the time we
+    // get here the replacement is usually already done.
+    while (mClosing) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while waiting for rocks database to reopen", e);
+      }
+    }
+  }
+
+  /**
+   * Stops new callers from acquiring the database and waits for current callers to release it.
+   * Must be called while holding the monitor, and must be followed by {@link #reopened()}.
+   */
+  private void blockAndDrain() {
+    mClosing = true;
+    long startMs = System.currentTimeMillis();
+    boolean warned = false;
+    while (mRefCount.get() > 0) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+      if (!warned && System.currentTimeMillis() - startMs > Constants.MINUTE_MS) {
+        LOG.warn("Waited over a minute for {} rocks database references to be released",
+            mRefCount.get());
+        warned = true;
+      }
+    }
+  }
+
+  /**
+   * Allows callers to acquire the database again and wakes up waiting callers.
+   */
+  private void reopened() {
+    mClosing = false;
+    notifyAll();
+  }
+
   /**
    * Clears and re-initializes the database.
    */
   public synchronized void clear() {
+    blockAndDrain();
     try {
       resetDb();
     } catch (RocksDBException e) {
       throw new RuntimeException(e);
+    } finally {
+      reopened();
     }
   }
 
@@ -152,7 +263,8 @@ public final class RocksStore implements Closeable {
   }
 
   /**
-   * Writes a checkpoint of the database's content to the given output stream.
+   * Writes a checkpoint of the database's content to the given output stream. Reads and writes
+   * may continue while the checkpoint is written.
    *
    * @param output the stream to write to
    */
@@ -161,7 +273,8 @@ public final class RocksStore implements Closeable {
     LOG.info("Creating rocksdb checkpoint at {}", mDbCheckpointPath);
     long startNano = System.nanoTime();
 
-    CheckpointOutputStream out = new CheckpointOutputStream(output, CheckpointType.ROCKS);
+    CheckpointOutputStream out = new CheckpointOutputStream(output,
+        mIncrementalCheckpoints ? CheckpointType.ROCKS_SST : CheckpointType.ROCKS);
     try {
       // createCheckpoint requires that the directory not already exist.
       FileUtils.deletePathRecursively(mDbCheckpointPath);
@@ -169,11 +282,41 @@ public final class RocksStore implements Closeable {
     } catch (RocksDBException e) {
       throw new IOException(e);
     }
-    LOG.info("Checkpoint complete, creating tarball");
-    TarUtils.writeTarGz(Paths.get(mDbCheckpointPath), out);
+    try {
+      if (mIncrementalCheckpoints) {
+        LOG.info("Checkpoint complete, writing checkpoint files");
+        writeSstFiles(out);
+      } else {
+        LOG.info("Checkpoint complete, creating tarball");
+        TarUtils.writeTarGz(Paths.get(mDbCheckpointPath), out);
+      }
+    } finally {
+      // Checkpoint is no longer needed, delete to save space. Its hard links would otherwise
+      // keep SST files alive after the database compacts them away.
+      FileUtils.deletePathRecursively(mDbCheckpointPath);
+    }
     LOG.info("Completed rocksdb checkpoint in {}ms", (System.nanoTime() - startNano) / 1_000_000);
-    // Checkpoint is no longer needed, delete to save space.
-    FileUtils.deletePathRecursively(mDbCheckpointPath);
+  }
+
+  private void writeSstFiles(CheckpointOutputStream out) throws IOException {
+    Map<Object, FileChecksum> checksums = new HashMap<>();
+    int reusedChecksums = 0;
+    List<Path> files = listFiles(Paths.get(mDbCheckpointPath));
+    for (Path file : files) {
+      FileChecksum checksum = getChecksum(file);
+      if (checksum.mKey != null && mChecksums.get(checksum.mKey) == checksum) {
+        reusedChecksums++;
+      }
+      if (checksum.mKey != null) {
+        checksums.put(checksum.mKey, checksum);
+      }
+      RocksSstCheckpointFormat.writeFile(out, file, checksum.mChecksum);
+    }
+    RocksSstCheckpointFormat.writeEnd(out);
+    out.flush();
+    mChecksums = checksums;
+    LOG.info("Wrote {} checkpoint files, reusing the checksums of {} unchanged files",
+        files.size(), reusedChecksums);
   }
 
   /**
@@ -184,22 +327,158 @@ public final class RocksStore implements Closeable {
   public synchronized void restoreFromCheckpoint(CheckpointInputStream input) throws IOException {
     LOG.info("Restoring rocksdb from checkpoint");
     long startNano = System.nanoTime();
-    Preconditions.checkState(input.getType() == CheckpointType.ROCKS,
+    Preconditions.checkState(input.getType() == CheckpointType.ROCKS
+            || input.getType() == CheckpointType.ROCKS_SST,
         "Unexpected checkpoint type in RocksStore: " + input.getType());
-    stopDb();
-    FileUtils.deletePathRecursively(mDbPath);
-    TarUtils.readTarGz(Paths.get(mDbPath), input);
+    blockAndDrain();
     try {
+      stopDb();
+      if (input.getType() == CheckpointType.ROCKS_SST) {
+        restoreSstFiles(input);
+      } else {
+        FileUtils.deletePathRecursively(mDbPath);
+        TarUtils.readTarGz(Paths.get(mDbPath), input);
+      }
       createDb();
     } catch (RocksDBException e) {
       throw new IOException(e);
+    } finally {
+      reopened();
     }
     LOG.info("Restored rocksdb checkpoint in {}ms",
         (System.nanoTime() - startNano) / Constants.MS_NANO);
   }
 
+  /**
+   * Restores the database files from a {@link CheckpointType#ROCKS_SST} checkpoint. SST files
+   * which are identical to files in the old database are hard linked instead of being written
+   * from the stream.
+   */
+  private void restoreSstFiles(CheckpointInputStream input) throws IOException {
+    Path dbPath = Paths.get(mDbPath);
+    Path restorePath = Paths.get(mDbPath + ".restore");
+    FileUtils.deletePathRecursively(restorePath.toString());
+    Files.createDirectories(restorePath);
+
+    Map<String, Path> localSstFiles = new HashMap<>();
+    if (Files.isDirectory(dbPath)) {
+      for (Path file : listFiles(dbPath)) {
+        if (isSstFile(file)) {
+          localSstFiles.put(file.getFileName().toString(), file);
+        }
+      }
+    }
+
+    Map<Object, FileChecksum> checksums = new HashMap<>();
+    int linked = 0;
+    int copied = 0;
+    RocksSstCheckpointReader reader = new RocksSstCheckpointReader(input);
+    Optional<FileHeader> headerOpt;
+    while ((headerOpt = reader.nextFile()).isPresent()) {
+      FileHeader header = headerOpt.get();
+      Path target = restorePath.resolve(header.getName());
+      Path local = localSstFiles.get(header.getName());
+      if (local != null && Files.size(local) == header.getLength()) {
+        FileChecksum checksum = getChecksum(local);
+        if (checksum.mChecksum == header.getChecksum() && tryLink(target, local)) {
+          if (checksum.mKey != null) {
+            checksums.put(checksum.mKey, checksum);
+          }
+          linked++;
+          // The streamed copy is skipped by the next call to nextFile().
+          continue;
+        }
+      }
+      reader.copyTo(target);
+      if (isSstFile(target)) {
+        FileChecksum checksum = FileChecksum.of(target, header.getChecksum());
+        if (checksum.mKey != null) {
+          checksums.put(checksum.mKey, checksum);
+        }
+      }
+      copied++;
+    }
+    FileUtils.deletePathRecursively(mDbPath);
+    Files.move(restorePath, dbPath);
+    mChecksums = checksums;
+    LOG.info("Restored {} rocks files from the checkpoint and linked {} identical local files",
+        copied, linked);
+  }
+
+  private static boolean tryLink(Path link, Path existing) {
+    try {
+      Files.createLink(link, existing);
+      return true;
+    } catch (IOException | UnsupportedOperationException e) {
+      LOG.debug("Failed to link {} to {}, copying it from the checkpoint instead", link, existing,
+          e);
+      return false;
+    }
+  }
+
+  /**
+   * Gets the checksum of a file, reusing the remembered checksum of an unchanged SST file.
+   */
+  private FileChecksum getChecksum(Path file) throws IOException {
+    if (isSstFile(file)) {
+      BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+      FileChecksum cached = attrs.fileKey() == null ? null : mChecksums.get(attrs.fileKey());
+      if (cached != null && cached.matches(attrs)) {
+        return cached;
+      }
+      return FileChecksum.of(file, RocksSstCheckpointFormat.checksum(file));
+    }
+    // Other files such as the MANIFEST may be rewritten in place, so they are not cached.
+    return new FileChecksum(null, 0, 0, RocksSstCheckpointFormat.checksum(file));
+  }
+
+  private static boolean isSstFile(Path file) {
+    return file.getFileName().toString().endsWith(".sst");
+  }
+
+  private static List<Path> listFiles(Path dir) throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * The checksum of a file, along with the attributes identifying the file version it was
+   * computed for.
+   */
+  private static final class FileChecksum {
+    @Nullable
+    private final Object mKey;
+    private final long mSize;
+    private final long mModifiedMs;
+    private final long mChecksum;
+
+    private FileChecksum(@Nullable Object key, long size, long modifiedMs, long checksum) {
+      mKey = key;
+      mSize = size;
+      mModifiedMs = modifiedMs;
+      mChecksum = checksum;
+    }
+
+    private static FileChecksum of(Path file, long checksum) throws IOException {
+      BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+      return new FileChecksum(attrs.fileKey(), attrs.size(), attrs.lastModifiedTime().toMillis(),
+          checksum);
+    }
+
+    private boolean matches(BasicFileAttributes attrs) {
+      // File keys may be reused once a file is deleted, so the size and time must match too.
+      return mSize == attrs.size() && mModifiedMs == attrs.lastModifiedTime().toMillis();
+    }
+  }
+
   @Override
   public synchronized void close() {
-    stopDb();
+    blockAndDrain();
+    try {
+      stopDb();
+    } finally {
+      reopened();
+    }
   }
 }
@@ -11,9 +11,18 @@
 
 package alluxio.master.metastore.rocks;
 
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.util.io.PathUtils;
 
 import com.google.common.primitives.Longs;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
+import org.rocksdb.DBOptions;
+import org.rocksdb.HashLinkedListMemTableConfig;
 
 /**
  * Convenience methods for working with RocksDB.
@@ -33,6 +42,50 @@ public final class RocksUtils {
     return PathUtils.concatPath(baseDir, dbName);
   }
 
+  /**
+   * Creates column family options tuned according to the master configuration. All column
+   * families created with the same options object share a single block cache.
+   *
+   * @param prefixLength the length of the key prefix used for prefix seeks and bloom filters
+   * @return the column family options
+   */
+  public static ColumnFamilyOptions createColumnFamilyOptions(int prefixLength) {
+    BlockBasedTableConfig tableConfig = new BlockBasedTableConfig()
+        .setBlockCacheSize(
+            ServerConfiguration.getBytes(PropertyKey.MASTER_METASTORE_ROCKS_BLOCK_CACHE_SIZE));
+    int bitsPerKey =
+        ServerConfiguration.getInt(PropertyKey.MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY);
+    if (bitsPerKey > 0) {
+      // Since a prefix extractor is set, the filter holds both whole keys and key prefixes. Whole
+      // keys serve point lookups like child name resolution, and prefixes serve prefix seeks like
+      // listing children.
+      tableConfig.setFilter(new BloomFilter(bitsPerKey, false));
+    }
+    return new ColumnFamilyOptions()
+        .setMemTableConfig(new HashLinkedListMemTableConfig())
+        .setCompressionType(CompressionType.NO_COMPRESSION)
+        .useFixedLengthPrefixExtractor(prefixLength)
+        .setTableFormatConfig(tableConfig)
+        .setCompactionStyle(ServerConfiguration.getEnum(
+            PropertyKey.MASTER_METASTORE_ROCKS_COMPACTION_STYLE, CompactionStyle.class))
+        .setLevel0FileNumCompactionTrigger(ServerConfiguration.getInt(
+            PropertyKey.MASTER_METASTORE_ROCKS_LEVEL0_COMPACTION_TRIGGER));
+  }
+
+  /**
+   * @return database options tuned according to the master configuration
+   */
+  public static DBOptions createDbOptions() {
+    return new DBOptions()
+        // Concurrent memtable write is not supported for hash linked list memtable
+        .setAllowConcurrentMemtableWrite(false)
+        .setMaxOpenFiles(-1)
+        .setMaxBackgroundCompactions(
+            ServerConfiguration.getInt(PropertyKey.MASTER_METASTORE_ROCKS_COMPACTION_THREADS))
+        .setCreateIfMissing(true)
+        .setCreateMissingColumnFamilies(true);
+  }
+
   /**
    * @param long1 a long value
    * @param long2 a long value
@@ -13,11 +13,14 @@ package alluxio.master.block;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import alluxio.conf.ServerConfiguration;
+import alluxio.ConfigurationRule;
 import alluxio.Constants;
 import alluxio.conf.PropertyKey;
 import alluxio.clock.ManualClock;
+import alluxio.exception.status.UnavailableException;
 import alluxio.grpc.Command;
 import alluxio.grpc.CommandType;
 import alluxio.grpc.RegisterWorkerPOptions;
@@ -37,6 +40,7 @@ import alluxio.master.metrics.MetricsMaster;
 import alluxio.master.metrics.MetricsMasterFactory;
 import alluxio.metrics.Metric;
 import alluxio.proto.meta.Block;
+import alluxio.util.CommonUtils;
 import alluxio.util.ThreadFactoryUtils;
 import alluxio.util.executor.ExecutorServiceFactories;
 import alluxio.wire.BlockInfo;
@@ -56,6 +60,8 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -247,6 +253,95 @@ public class BlockMasterTest {
     assertEquals(orphanedBlocks, heartBeat.getDataList());
   }
 
+  @Test
+  public void streamedRegisterAppliesBlocksIncrementally() throws Exception {
+    long worker = mBlockMaster.getWorkerId(NET_ADDRESS_1);
+    mBlockMaster.workerRegister(worker, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
+        ImmutableMap.of("MEM", 0L), NO_BLOCKS_ON_LOCATION, NO_LOST_STORAGE,
+        RegisterWorkerPOptions.getDefaultInstance());
+    mBlockMaster.commitBlock(worker, 20L, "MEM", "MEM", 1L, 10L);
+    mBlockMaster.commitBlock(worker, 40L, "MEM", "MEM", 2L, 20L);
+
+    // Re-register reporting block 2, and block 3 which the master does not know, in two chunks.
+    try (WorkerRegisterContext context = mBlockMaster.workerRegisterStart(worker,
+        Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L), ImmutableMap.of("MEM", 20L),
+        NO_LOST_STORAGE, RegisterWorkerPOptions.getDefaultInstance())) {
+      mBlockMaster.workerRegisterAddBlocks(context,
+          ImmutableMap.of(BLOCK_LOCATION, ImmutableList.of(2L)));
+      assertEquals(1, mBlockMaster.getBlockInfo(2L).getLocations().size());
+      mBlockMaster.workerRegisterAddBlocks(context,
+          ImmutableMap.of(BLOCK_LOCATION, ImmutableList.of(3L)));
+      mBlockMaster.workerRegisterFinish(context);
+    }
+
+    // Block 1 was not reported, so it is no longer on the worker.
+    assertTrue(mBlockMaster.getBlockInfo(1L).getLocations().isEmpty());
+    assertEquals(1, mBlockMaster.getBlockInfo(2L).getLocations().size());
+    // The unknown block is freed as an orphan.
+    alluxio.grpc.Command heartBeat = mBlockMaster.workerHeartbeat(worker, null,
+        ImmutableMap.of("MEM", 20L), NO_BLOCKS, NO_BLOCKS_ON_LOCATION, NO_LOST_STORAGE, mMetrics);
+    assertEquals(ImmutableList.of(3L), heartBeat.getDataList());
+    assertEquals(20L, Iterables.getOnlyElement(mBlockMaster.getWorkerInfoList()).getUsedBytes());
+  }
+
+  @Test
+  public void abortedStreamedRegisterRemovesReportedBlocks() throws Exception {
+    long worker1 = mBlockMaster.getWorkerId(NET_ADDRESS_1);
+    long worker2 = mBlockMaster.getWorkerId(NET_ADDRESS_2);
+    for (long worker : Arrays.asList(worker1, worker2)) {
+      mBlockMaster.workerRegister(worker, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
+          ImmutableMap.of("MEM", 0L), NO_BLOCKS_ON_LOCATION, NO_LOST_STORAGE,
+          RegisterWorkerPOptions.getDefaultInstance());
+    }
+    mBlockMaster.commitBlock(worker1, 10L, "MEM", "MEM", 1L, 10L);
+
+    // Worker 2 re-registers reporting block 1, but the registration does not finish.
+    try (WorkerRegisterContext context = mBlockMaster.workerRegisterStart(worker2,
+        Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L), ImmutableMap.of("MEM", 10L),
+        NO_LOST_STORAGE, RegisterWorkerPOptions.getDefaultInstance())) {
+      mBlockMaster.workerRegisterAddBlocks(context,
+          ImmutableMap.of(BLOCK_LOCATION, ImmutableList.of(1L)));
+      assertEquals(2, getLocationCount(1L));
+      mBlockMaster.workerRegisterAbort(context);
+    }
+
+    List<BlockLocation> locations = mBlockMaster.getBlockInfo(1L).getLocations();
+    assertEquals(1, locations.size());
+    assertEquals(worker1, locations.get(0).getWorkerId());
+  }
+
+  @Test
+  public void streamedRegisterLimitsConcurrentRegistrations() throws Exception {
+    long worker = mBlockMaster.getWorkerId(NET_ADDRESS_1);
+    int concurrency =
+        ServerConfiguration.getInt(PropertyKey.MASTER_WORKER_REGISTER_STREAM_CONCURRENCY);
+    List<WorkerRegisterContext> contexts = new ArrayList<>();
+    for (int i = 0; i < concurrency; i++) {
+      contexts.add(mBlockMaster.workerRegisterStart(worker, Arrays.asList("MEM"),
+          ImmutableMap.of("MEM", 100L), ImmutableMap.of("MEM", 0L), NO_LOST_STORAGE,
+          RegisterWorkerPOptions.getDefaultInstance()));
+    }
+    try {
+      mBlockMaster.workerRegisterStart(worker, Arrays.asList("MEM"),
+          ImmutableMap.of("MEM", 100L), ImmutableMap.of("MEM", 0L), NO_LOST_STORAGE,
+          RegisterWorkerPOptions.getDefaultInstance());
+      fail("Registration should be rejected while all permits are taken");
+    } catch (UnavailableException e) {
+      // expected
+    }
+
+    // Finishing a registration frees its permit.
+    WorkerRegisterContext context = contexts.remove(0);
+    mBlockMaster.workerRegisterFinish(context);
+    context.close();
+    mBlockMaster.workerRegisterStart(worker, Arrays.asList("MEM"),
+        ImmutableMap.of("MEM", 100L), ImmutableMap.of("MEM", 0L), NO_LOST_STORAGE,
+        RegisterWorkerPOptions.getDefaultInstance()).close();
+    for (WorkerRegisterContext c : contexts) {
+      c.close();
+    }
+  }
+
   @Test
   public void workerHeartbeatUpdatesMemoryCount() throws Exception {
     // Create a worker.
@@ -307,6 +402,55 @@ public class BlockMasterTest {
     assertEquals(2, mBlockMaster.getBlockInfo(blockId).getLocations().size());
   }
 
+  @Test
+  public void asyncWorkerHeartbeatAppliesBlockChanges() throws Exception {
+    try (Closeable c = new ConfigurationRule(PropertyKey.MASTER_WORKER_HEARTBEAT_APPLY_THREADS,
+        "2", ServerConfiguration.global()).toResource()) {
+      // Restart the master with heartbeat apply threads.
+      after();
+      before();
+      long worker1 = mBlockMaster.getWorkerId(NET_ADDRESS_1);
+      mBlockMaster.workerRegister(worker1, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
+          ImmutableMap.of("MEM", 0L), NO_BLOCKS_ON_LOCATION, NO_LOST_STORAGE,
+          RegisterWorkerPOptions.getDefaultInstance());
+      long worker2 = mBlockMaster.getWorkerId(NET_ADDRESS_2);
+      mBlockMaster.workerRegister(worker2, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
+          ImmutableMap.of("MEM", 0L), NO_BLOCKS_ON_LOCATION, NO_LOST_STORAGE,
+          RegisterWorkerPOptions.getDefaultInstance());
+      List<Long> blockIds = new ArrayList<>();
+      for (long blockId = 1; blockId <= 100; blockId++) {
+        mBlockMaster.commitBlock(worker1, 50L, "MEM", "MEM", blockId, 20L);
+        blockIds.add(blockId);
+      }
+
+      // worker2 adds all blocks, then removes the first half of them.
+      mBlockMaster.workerHeartbeat(worker2, null, ImmutableMap.of("MEM", 0L), NO_BLOCKS,
+          ImmutableMap.of(BLOCK_LOCATION, blockIds), NO_LOST_STORAGE, mMetrics);
+      mBlockMaster.workerHeartbeat(worker2, null, ImmutableMap.of("MEM", 0L),
+          blockIds.subList(0, 50), NO_BLOCKS_ON_LOCATION, NO_LOST_STORAGE, mMetrics);
+
+      CommonUtils.waitFor("heartbeat block changes to be applied",
+          () -> getLocationCount(100) == 2 && getLocationCount(1) == 1);
+      for (long blockId = 1; blockId <= 100; blockId++) {
+        assertEquals(blockId <= 50 ? 1 : 2, getLocationCount(blockId));
+      }
+
+      // worker2 evicts a block and caches it again, which must not lose the new replica.
+      mBlockMaster.workerHeartbeat(worker2, null, ImmutableMap.of("MEM", 0L),
+          ImmutableList.of(100L), NO_BLOCKS_ON_LOCATION, NO_LOST_STORAGE, mMetrics);
+      mBlockMaster.commitBlock(worker2, 50L, "MEM", "MEM", 100L, 20L);
+      assertEquals(2, getLocationCount(100));
+    }
+  }
+
+  private int getLocationCount(long blockId) {
+    try {
+      return mBlockMaster.getBlockInfo(blockId).getLocations().size();
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   @Test
   public void workerHeartbeatUpdatesLostStorage() throws Exception {
     // Create two workers.
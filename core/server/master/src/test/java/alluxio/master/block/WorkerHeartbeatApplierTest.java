@@ -0,0 +1,171 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.block;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import alluxio.master.block.WorkerHeartbeatApplier.BlockChanges;
+import alluxio.proto.meta.Block.BlockLocation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+
+/**
+ * Tests the {@link WorkerHeartbeatApplier} class.
+ */
+public class WorkerHeartbeatApplierTest {
+  private static final BlockLocation LOCATION =
+      BlockLocation.newBuilder().setTier("MEM").setMediumType("MEM").build();
+
+  private WorkerHeartbeatApplier mApplier;
+
+  @After
+  public void after() {
+    if (mApplier != null) {
+      mApplier.close();
+    }
+  }
+
+  @Test
+  public void appliesChangesOfEachWorkerInOrder() {
+    Map<Long, List<Long>> applied = new ConcurrentHashMap<>();
+    mApplier = new WorkerHeartbeatApplier(3, 1000, (workerId, heartbeats) -> {
+      List<Long> blocks = applied.computeIfAbsent(workerId, id -> new ArrayList<>());
+      for (BlockChanges changes : heartbeats) {
+        blocks.addAll(changes.getRemovedBlockIds());
+        changes.getAddedBlocks().values().forEach(blocks::addAll);
+      }
+    });
+    for (long block = 0; block < 1000; block++) {
+      for (long worker = 0; worker < 10; worker++) {
+        mApplier.submit(worker, ImmutableList.of(block),
+            ImmutableMap.of(LOCATION, ImmutableList.of(-block)));
+      }
+    }
+    for (long worker = 0; worker < 10; worker++) {
+      mApplier.drain(worker);
+      List<Long> blocks = applied.get(worker);
+      assertEquals(2000, blocks.size());
+      for (int i = 0; i < 1000; i++) {
+        assertEquals(i, (long) blocks.get(2 * i));
+        assertEquals(-i, (long) blocks.get(2 * i + 1));
+      }
+    }
+    assertEquals(0, mApplier.getPendingBlocks());
+    assertEquals(0, mApplier.getApplyLagMs());
+  }
+
+  @Test
+  public void drainWaitsForQueuedChanges() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    mApplier = new WorkerHeartbeatApplier(1, 1000, blockingApplyFunction(release));
+    mApplier.submit(1, ImmutableList.of(1L, 2L), Collections.emptyMap());
+    assertEquals(2, mApplier.getPendingBlocks());
+
+    CompletableFuture<Void> drain = CompletableFuture.runAsync(() -> mApplier.drain(1));
+    assertFalse(completes(drain));
+    release.countDown();
+    assertTrue(completes(drain));
+    assertEquals(0, mApplier.getPendingBlocks());
+  }
+
+  @Test
+  public void submitWaitsWhileQueueIsFull() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    mApplier = new WorkerHeartbeatApplier(1, 10, blockingApplyFunction(release));
+    mApplier.submit(1, ImmutableList.of(1L, 2L, 3L, 4L, 5L, 6L), Collections.emptyMap());
+    mApplier.submit(2, ImmutableList.of(7L, 8L, 9L, 10L), Collections.emptyMap());
+
+    CompletableFuture<Void> submit = CompletableFuture.runAsync(
+        () -> mApplier.submit(3, ImmutableList.of(11L), Collections.emptyMap()));
+    assertFalse(completes(submit));
+    release.countDown();
+    assertTrue(completes(submit));
+  }
+
+  @Test
+  public void heartbeatLargerThanQueue() {
+    List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+    mApplier = new WorkerHeartbeatApplier(1, 2,
+        (workerId, heartbeats) -> heartbeats.forEach(h -> applied.add(h.getBlockCount())));
+    mApplier.submit(1, ImmutableList.of(1L, 2L, 3L), Collections.emptyMap());
+    mApplier.submit(1, ImmutableList.of(4L, 5L, 6L), Collections.emptyMap());
+    mApplier.drain(1);
+    assertEquals(ImmutableList.of(3, 3), applied);
+  }
+
+  @Test
+  public void drainWithoutQueuedChangesReturns() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    mApplier = new WorkerHeartbeatApplier(1, 1000, blockingApplyFunction(release));
+    mApplier.submit(1, ImmutableList.of(1L), Collections.emptyMap());
+
+    // Worker 2 shares the only apply thread, but has nothing queued.
+    assertTrue(completes(CompletableFuture.runAsync(() -> mApplier.drain(2))));
+    release.countDown();
+  }
+
+  @Test
+  public void closeReleasesWaitingSubmit() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    mApplier = new WorkerHeartbeatApplier(1, 1, blockingApplyFunction(release));
+    mApplier.submit(1, ImmutableList.of(1L), Collections.emptyMap());
+
+    CompletableFuture<Void> submit = CompletableFuture.runAsync(
+        () -> mApplier.submit(2, ImmutableList.of(2L), Collections.emptyMap()));
+    assertFalse(completes(submit));
+    mApplier.close();
+    try {
+      submit.get(1, TimeUnit.SECONDS);
+      fail("Expected the waiting submit to fail");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+
+  private static BiConsumer<Long, List<BlockChanges>> blockingApplyFunction(
+      CountDownLatch release) {
+    return (workerId, heartbeats) -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+  }
+
+  private static boolean completes(CompletableFuture<Void> future) throws Exception {
+    try {
+      future.get(200, TimeUnit.MILLISECONDS);
+      return true;
+    } catch (TimeoutException e) {
+      return false;
+    }
+  }
+}
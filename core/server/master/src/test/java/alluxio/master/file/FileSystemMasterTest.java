@@ -38,6 +38,7 @@ import alluxio.exception.FileAlreadyExistsException;
 import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.InvalidPathException;
 import alluxio.exception.UnexpectedAlluxioException;
+import alluxio.exception.status.NotFoundException;
 import alluxio.grpc.Command;
 import alluxio.grpc.CommandType;
 import alluxio.grpc.CompleteFilePOptions;
@@ -46,6 +47,7 @@ import alluxio.grpc.CreateFilePOptions;
 import alluxio.grpc.DeletePOptions;
 import alluxio.grpc.FileSystemMasterCommonPOptions;
 import alluxio.grpc.FreePOptions;
+import alluxio.grpc.GetContentSummaryPOptions;
 import alluxio.grpc.GetStatusPOptions;
 import alluxio.grpc.ListStatusPOptions;
 import alluxio.grpc.LoadMetadataPType;
@@ -68,6 +70,7 @@ import alluxio.master.file.contexts.CreateDirectoryContext;
 import alluxio.master.file.contexts.CreateFileContext;
 import alluxio.master.file.contexts.DeleteContext;
 import alluxio.master.file.contexts.FreeContext;
+import alluxio.master.file.contexts.GetContentSummaryContext;
 import alluxio.master.file.contexts.GetStatusContext;
 import alluxio.master.file.contexts.ListStatusContext;
 import alluxio.master.file.contexts.MountContext;
@@ -89,14 +92,17 @@ import alluxio.security.GroupMappingServiceTestUtils;
 import alluxio.security.authorization.AclEntry;
 import alluxio.security.authorization.Mode;
 import alluxio.security.user.TestUserState;
+import alluxio.util.CommonUtils;
 import alluxio.util.FileSystemOptions;
 import alluxio.util.IdUtils;
 import alluxio.util.ThreadFactoryUtils;
 import alluxio.util.executor.ExecutorServiceFactories;
 import alluxio.util.io.FileUtils;
+import alluxio.wire.ContentSummary;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.FileInfo;
 import alluxio.wire.FileSystemCommand;
+import alluxio.wire.PathResult;
 import alluxio.wire.UfsInfo;
 import alluxio.wire.WorkerNetAddress;
 
@@ -572,6 +578,48 @@ public final class FileSystemMasterTest {
     checkPersistedDirectoriesDeleted(3, ufsMount, Collections.EMPTY_LIST);
   }
 
+  /**
+   * Tests that a recursive metadata sync picks up UFS deletions in every one of the sibling
+   * subtrees, which are synced in parallel, and that the sync threads stop with the master.
+   */
+  @Test
+  public void syncMetadataSiblingSubtrees() throws Exception {
+    AlluxioURI ufsMount = createPersistedDirectories(3);
+    mountPersistedDirectories(ufsMount);
+    loadPersistedDirectories(3);
+    AlluxioURI top = new AlluxioURI(MOUNT_URI).join(DIR_TOP_LEVEL);
+    for (int i = 0; i < DIR_WIDTH; ++i) {
+      Files.delete(Paths.get(
+          ufsMount.join(DIR_TOP_LEVEL).join(DIR_PREFIX + i).join(FILE_PREFIX + 0).getPath()));
+    }
+    mFileSystemMaster.listStatus(top, ListStatusContext.mergeFrom(ListStatusPOptions.newBuilder()
+        .setRecursive(true).setCommonOptions(
+            FileSystemMasterCommonPOptions.newBuilder().setSyncIntervalMs(0))));
+    for (int i = 0; i < DIR_WIDTH; ++i) {
+      AlluxioURI dir = top.join(DIR_PREFIX + i);
+      assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(dir.join(FILE_PREFIX + 0)));
+      assertNotEquals(IdUtils.INVALID_FILE_ID,
+          mFileSystemMaster.getFileId(dir.join(FILE_PREFIX + 1)));
+    }
+
+    // Stopping the master stops the sync threads, and starting it again brings new ones.
+    stopServices();
+    CommonUtils.waitFor("metadata sync threads to exit", () -> Thread.getAllStackTraces()
+        .keySet().stream().noneMatch(t -> t.getName().startsWith("Metadata-Sync-")));
+    startServices();
+    for (int i = 0; i < DIR_WIDTH; ++i) {
+      Files.delete(Paths.get(
+          ufsMount.join(DIR_TOP_LEVEL).join(DIR_PREFIX + i).join(FILE_PREFIX + 1).getPath()));
+    }
+    mFileSystemMaster.listStatus(top, ListStatusContext.mergeFrom(ListStatusPOptions.newBuilder()
+        .setRecursive(true).setCommonOptions(
+            FileSystemMasterCommonPOptions.newBuilder().setSyncIntervalMs(0))));
+    for (int i = 0; i < DIR_WIDTH; ++i) {
+      assertEquals(IdUtils.INVALID_FILE_ID,
+          mFileSystemMaster.getFileId(top.join(DIR_PREFIX + i).join(FILE_PREFIX + 1)));
+    }
+  }
+
   // Helper method to check if expected entries were deleted.
   private void checkPersistedDirectoriesDeleted(int levels, AlluxioURI ufsMount,
       List<AlluxioURI> except) throws Exception {
@@ -778,6 +826,30 @@ public final class FileSystemMasterTest {
     }
   }
 
+  /**
+   * Tests the {@link FileSystemMaster#getFileInfoBatch(List, GetStatusContext)} method.
+   */
+  @Test
+  public void getFileInfoBatch() throws Exception {
+    createFileWithSingleBlock(NESTED_FILE_URI);
+    mFileSystemMaster.createDirectory(NESTED_DIR_URI, CreateDirectoryContext.defaults());
+    List<AlluxioURI> paths = Arrays.asList(NESTED_FILE_URI, ROOT_URI, NESTED_URI.join("DNE"),
+        NESTED_DIR_URI, NESTED_URI);
+
+    List<PathResult<FileInfo>> results =
+        mFileSystemMaster.getFileInfoBatch(paths, GET_STATUS_CONTEXT);
+    assertEquals(paths.size(), results.size());
+    for (int i = 0; i < paths.size(); i++) {
+      assertEquals(paths.get(i), results.get(i).getPath());
+    }
+    assertEquals(NESTED_FILE_URI.getPath(), results.get(0).get().getPath());
+    assertEquals(ROOT_URI.getPath(), results.get(1).get().getPath());
+    assertFalse(results.get(2).isSuccess());
+    assertTrue(results.get(2).getError() instanceof NotFoundException);
+    assertEquals(NESTED_DIR_URI.getPath(), results.get(3).get().getPath());
+    assertEquals(NESTED_URI.getPath(), results.get(4).get().getPath());
+  }
+
   @Test
   public void getFileInfoWithLoadMetadata() throws Exception {
     AlluxioURI ufsMount = new AlluxioURI(mTestFolder.newFolder().getAbsolutePath());
@@ -982,6 +1054,38 @@ public final class FileSystemMasterTest {
             .isPersisted());
   }
 
+  @Test
+  public void listStatusPaginated() throws Exception {
+    final int files = 10;
+    for (int i = 0; i < files; i++) {
+      createFileWithSingleBlock(ROOT_URI.join("file" + String.format("%05d", i)));
+    }
+    List<String> listed = new ArrayList<>();
+    String startAfter = null;
+    int pages = 0;
+    do {
+      ListStatusPOptions.Builder options = ListStatusPOptions.newBuilder()
+          .setLoadMetadataType(LoadMetadataPType.NEVER).setBatchSize(4);
+      if (startAfter != null) {
+        options.setStartAfter(startAfter);
+      }
+      ListStatusContext context = ListStatusContext.mergeFrom(options);
+      List<FileInfo> page = mFileSystemMaster.listStatus(ROOT_URI, context);
+      assertTrue(page.size() <= 4);
+      for (FileInfo info : page) {
+        listed.add(info.getName());
+      }
+      startAfter = context.getContinuationToken();
+      pages++;
+    } while (startAfter != null);
+    assertEquals(3, pages);
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < files; i++) {
+      expected.add("file" + String.format("%05d", i));
+    }
+    assertEquals(expected, listed);
+  }
+
   @Test
   public void listStatus() throws Exception {
     final int files = 10;
@@ -1941,6 +2045,143 @@ public final class FileSystemMasterTest {
         mFileSystemMaster.getFileInfo(NESTED_URI, GET_STATUS_CONTEXT).getName());
   }
 
+  /**
+   * Tests that {@link FileSystemMaster#deleteBatch(List, DeleteContext)} deletes descendants
+   * before their ancestors and reports failed paths without failing the batch.
+   */
+  @Test
+  public void deleteBatch() throws Exception {
+    createFileWithSingleBlock(NESTED_FILE_URI);
+    mFileSystemMaster.createDirectory(NESTED_DIR_URI, CreateDirectoryContext.defaults());
+    // The non-recursive delete of the parent only succeeds if its children are deleted first.
+    List<AlluxioURI> paths = Arrays.asList(NESTED_URI, NESTED_FILE_URI, TEST_URI, NESTED_DIR_URI);
+
+    List<PathResult<Void>> results =
+        mFileSystemMaster.deleteBatch(paths, DeleteContext.defaults());
+    assertTrue(results.get(0).isSuccess());
+    assertTrue(results.get(1).isSuccess());
+    assertTrue(results.get(2).getError() instanceof NotFoundException);
+    assertTrue(results.get(3).isSuccess());
+    assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(NESTED_URI));
+  }
+
+  /**
+   * Tests the {@link FileSystemMaster#setAttributeBatch(List, SetAttributeContext)} method.
+   */
+  @Test
+  public void setAttributeBatch() throws Exception {
+    mFileSystemMaster.createFile(NESTED_FILE_URI, mNestedFileContext);
+    mFileSystemMaster.createDirectory(NESTED_DIR_URI, CreateDirectoryContext.defaults());
+    List<AlluxioURI> paths = Arrays.asList(NESTED_FILE_URI, TEST_URI, NESTED_DIR_URI);
+
+    List<PathResult<Void>> results = mFileSystemMaster.setAttributeBatch(paths,
+        SetAttributeContext.mergeFrom(SetAttributePOptions.newBuilder().setPinned(true)));
+    assertTrue(results.get(0).isSuccess());
+    assertTrue(results.get(1).getError() instanceof NotFoundException);
+    assertTrue(results.get(2).isSuccess());
+    assertTrue(mFileSystemMaster.getFileInfo(NESTED_FILE_URI, GET_STATUS_CONTEXT).isPinned());
+    assertTrue(mFileSystemMaster.getFileInfo(NESTED_DIR_URI, GET_STATUS_CONTEXT).isPinned());
+  }
+
+  /**
+   * Tests that {@link FileSystemMaster#getContentSummary(AlluxioURI, GetContentSummaryContext)}
+   * answers from the directory aggregates with the same totals as a walk of the tree, and that
+   * the aggregates follow creates, renames, deletes and journal replay.
+   */
+  @Test
+  public void getContentSummary() throws Exception {
+    stopServices();
+    ServerConfiguration.set(PropertyKey.MASTER_FILE_DIRECTORY_AGGREGATES_ENABLED, true);
+    try {
+      startServices();
+      createFileWithSingleBlock(NESTED_FILE_URI);
+      createFileWithSingleBlock(NESTED_FILE2_URI);
+      mFileSystemMaster.createDirectory(NESTED_DIR_URI, CreateDirectoryContext.defaults());
+      createFileWithSingleBlock(ROOT_FILE_URI);
+
+      ContentSummary summary = getContentSummary(NESTED_URI);
+      assertEquals(2 * Constants.KB, summary.getLength());
+      assertEquals(2, summary.getFileCount());
+      assertEquals(2, summary.getDirectoryCount());
+      assertEquals(2 * Constants.KB, mFileSystemMaster.getContentSummary(NESTED_URI,
+          GetContentSummaryContext.mergeFrom(GetContentSummaryPOptions.newBuilder()
+              .setIncludeInAlluxio(true))).getInAlluxioLength());
+      summary = getContentSummary(NESTED_FILE_URI);
+      assertEquals(Constants.KB, summary.getLength());
+      assertEquals(1, summary.getFileCount());
+      assertEquals(0, summary.getDirectoryCount());
+
+      mFileSystemMaster.rename(NESTED_FILE_URI, NESTED_DIR_URI.join("file"),
+          RenameContext.defaults());
+      mFileSystemMaster.delete(NESTED_FILE2_URI, DeleteContext.defaults());
+      summary = getContentSummary(NESTED_DIR_URI);
+      assertEquals(Constants.KB, summary.getLength());
+      assertEquals(1, summary.getFileCount());
+      assertEquals(1, summary.getDirectoryCount());
+      ContentSummary rootSummary = getContentSummary(ROOT_URI);
+      assertEquals(2 * Constants.KB, rootSummary.getLength());
+      assertEquals(2, rootSummary.getFileCount());
+      assertEquals(4, rootSummary.getDirectoryCount());
+
+      // Simulate restart, the aggregates are rebuilt by replaying the journal.
+      stopServices();
+      startServices();
+      assertEquals(summary, getContentSummary(NESTED_DIR_URI));
+      assertEquals(rootSummary, getContentSummary(ROOT_URI));
+    } finally {
+      ServerConfiguration.unset(PropertyKey.MASTER_FILE_DIRECTORY_AGGREGATES_ENABLED);
+    }
+  }
+
+  /**
+   * Tests that with directory aggregates enabled, the content summary for a user who cannot
+   * traverse part of the subtree only counts what a walk of the tree would list.
+   */
+  @Test
+  public void getContentSummaryWithoutTraversePermission() throws Exception {
+    stopServices();
+    ServerConfiguration.set(PropertyKey.MASTER_FILE_DIRECTORY_AGGREGATES_ENABLED, true);
+    try {
+      startServices();
+      createFileWithSingleBlock(NESTED_FILE_URI);
+      createFileWithSingleBlock(NESTED_DIR_URI.join("file"));
+      mFileSystemMaster.setAttribute(new AlluxioURI("/nested"), SetAttributeContext
+          .mergeFrom(SetAttributePOptions.newBuilder().setMode(new Mode((short) 0777).toProto())
+              .setRecursive(true)));
+      mFileSystemMaster.setAttribute(NESTED_DIR_URI, SetAttributeContext
+          .mergeFrom(SetAttributePOptions.newBuilder().setMode(new Mode((short) 0700).toProto())));
+      assertEquals(2, getContentSummary(NESTED_URI).getFileCount());
+
+      try (AuthenticatedClientUserResource userA = new AuthenticatedClientUserResource("userA",
+          ServerConfiguration.global())) {
+        ContentSummary summary =
+            mFileSystemMaster.getContentSummary(NESTED_URI, GetContentSummaryContext.defaults());
+        assertEquals(Constants.KB, summary.getLength());
+        assertEquals(1, summary.getFileCount());
+        assertEquals(1, summary.getDirectoryCount());
+      }
+    } finally {
+      ServerConfiguration.unset(PropertyKey.MASTER_FILE_DIRECTORY_AGGREGATES_ENABLED);
+    }
+  }
+
+  /**
+   * @param path the path to summarize
+   * @return the content summary of the path from the directory aggregates, after checking that
+   *         it matches the totals of a walk of the tree
+   */
+  private ContentSummary getContentSummary(AlluxioURI path) throws Exception {
+    ContentSummary summary =
+        mFileSystemMaster.getContentSummary(path, GetContentSummaryContext.defaults());
+    ContentSummary walked = mFileSystemMaster.getContentSummary(path,
+        GetContentSummaryContext.mergeFrom(
+            GetContentSummaryPOptions.newBuilder().setIncludeInAlluxio(true)));
+    assertEquals(walked.getLength(), summary.getLength());
+    assertEquals(walked.getFileCount(), summary.getFileCount());
+    assertEquals(walked.getDirectoryCount(), summary.getDirectoryCount());
+    return summary;
+  }
+
   /**
    * Tests the {@link FileSystemMaster#setAttribute(AlluxioURI, SetAttributeContext)} method and
    * that an exception is thrown when trying to set a TTL for a directory.
@@ -0,0 +1,147 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import alluxio.Constants;
+import alluxio.exception.status.CancelledException;
+import alluxio.exception.status.DeadlineExceededException;
+import alluxio.grpc.ListStatusPResponse;
+import alluxio.wire.FileInfo;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Unit tests for {@link ListStatusResultStream}.
+ */
+public final class ListStatusResultStreamTest {
+  private static final long TIMEOUT_MS = 10 * Constants.SECOND_MS;
+
+  @Test
+  public void sendsInBatches() {
+    StreamObserver<ListStatusPResponse> observer = mock(StreamObserver.class);
+    ListStatusResultStream stream = new ListStatusResultStream(2, TIMEOUT_MS, observer);
+    for (int i = 0; i < 5; i++) {
+      stream.submit(new FileInfo().setPath("/file" + i));
+    }
+    stream.complete();
+
+    ArgumentCaptor<ListStatusPResponse> captor =
+        ArgumentCaptor.forClass(ListStatusPResponse.class);
+    verify(observer, times(3)).onNext(captor.capture());
+    List<ListStatusPResponse> responses = captor.getAllValues();
+    assertEquals(2, responses.get(0).getFileInfosCount());
+    assertEquals(2, responses.get(1).getFileInfosCount());
+    assertEquals(1, responses.get(2).getFileInfosCount());
+    assertEquals("/file4", responses.get(2).getFileInfos(0).getPath());
+    verify(observer).onCompleted();
+  }
+
+  @Test
+  public void emptyListingSendsOneMessage() {
+    StreamObserver<ListStatusPResponse> observer = mock(StreamObserver.class);
+    ListStatusResultStream stream = new ListStatusResultStream(2, TIMEOUT_MS, observer);
+    stream.complete();
+
+    verify(observer).onNext(ListStatusPResponse.getDefaultInstance());
+    verify(observer).onCompleted();
+  }
+
+  @Test
+  public void continuationTokenInLastMessage() {
+    StreamObserver<ListStatusPResponse> observer = mock(StreamObserver.class);
+    ListStatusResultStream stream = new ListStatusResultStream(2, TIMEOUT_MS, observer);
+    stream.submit(new FileInfo().setPath("/file0"));
+    stream.submit(new FileInfo().setPath("/file1"));
+    stream.complete("file1");
+
+    ArgumentCaptor<ListStatusPResponse> captor =
+        ArgumentCaptor.forClass(ListStatusPResponse.class);
+    verify(observer, times(2)).onNext(captor.capture());
+    List<ListStatusPResponse> responses = captor.getAllValues();
+    assertFalse(responses.get(0).hasContinuationToken());
+    assertEquals(0, responses.get(1).getFileInfosCount());
+    assertEquals("file1", responses.get(1).getContinuationToken());
+    verify(observer).onCompleted();
+  }
+
+  @Test
+  public void failDoesNotComplete() {
+    StreamObserver<ListStatusPResponse> observer = mock(StreamObserver.class);
+    ListStatusResultStream stream = new ListStatusResultStream(2, TIMEOUT_MS, observer);
+    stream.submit(new FileInfo().setPath("/file"));
+    RuntimeException error = new RuntimeException("failed");
+    stream.fail(error);
+    stream.complete();
+
+    verify(observer, never()).onNext(any(ListStatusPResponse.class));
+    verify(observer).onError(error);
+    verify(observer, never()).onCompleted();
+  }
+
+  @Test
+  public void waitsUntilReady() {
+    ServerCallStreamObserver<ListStatusPResponse> observer = mock(ServerCallStreamObserver.class);
+    when(observer.isReady()).thenReturn(false, false, true);
+    ListStatusResultStream stream = new ListStatusResultStream(1, TIMEOUT_MS, observer);
+    stream.submit(new FileInfo().setPath("/file"));
+
+    verify(observer).setOnReadyHandler(any(Runnable.class));
+    verify(observer, times(3)).isReady();
+    verify(observer).onNext(any(ListStatusPResponse.class));
+  }
+
+  @Test
+  public void cancelledWhileWaiting() {
+    ServerCallStreamObserver<ListStatusPResponse> observer = mock(ServerCallStreamObserver.class);
+    when(observer.isReady()).thenReturn(false);
+    when(observer.isCancelled()).thenReturn(true);
+    ListStatusResultStream stream = new ListStatusResultStream(1, TIMEOUT_MS, observer);
+    try {
+      stream.submit(new FileInfo().setPath("/file"));
+      fail("Submitting to a cancelled stream should fail");
+    } catch (UncheckedIOException e) {
+      assertTrue(e.getCause() instanceof CancelledException);
+    }
+    verify(observer, never()).onNext(any(ListStatusPResponse.class));
+  }
+
+  @Test
+  public void timesOutWhileWaiting() {
+    ServerCallStreamObserver<ListStatusPResponse> observer = mock(ServerCallStreamObserver.class);
+    when(observer.isReady()).thenReturn(false);
+    ListStatusResultStream stream = new ListStatusResultStream(1, 50, observer);
+    try {
+      stream.submit(new FileInfo().setPath("/file"));
+      fail("Submitting to a stream the client does not read should time out");
+    } catch (UncheckedIOException e) {
+      assertTrue(e.getCause() instanceof DeadlineExceededException);
+    }
+    verify(observer, never()).onNext(any(ListStatusPResponse.class));
+  }
+}
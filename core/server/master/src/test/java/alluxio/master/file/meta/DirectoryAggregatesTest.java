@@ -0,0 +1,197 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import alluxio.master.file.contexts.CreateDirectoryContext;
+import alluxio.master.file.contexts.CreateFileContext;
+import alluxio.master.journal.checkpoint.CheckpointInputStream;
+import alluxio.master.metastore.InodeStore;
+import alluxio.master.metastore.heap.HeapInodeStore;
+import alluxio.wire.ContentSummary;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Unit tests for {@link DirectoryAggregates}.
+ */
+public final class DirectoryAggregatesTest {
+  private static final long ROOT_ID = 0;
+
+  private InodeStore mInodeStore;
+  private MutableInodeDirectory mRoot;
+
+  /**
+   * Sets up an inode store holding only the root directory before a test runs.
+   */
+  @Before
+  public void before() {
+    mInodeStore = new HeapInodeStore();
+    mRoot = MutableInodeDirectory.create(ROOT_ID, InodeTree.NO_PARENT,
+        InodeTree.ROOT_INODE_NAME, CreateDirectoryContext.defaults());
+    mInodeStore.writeNewInode(mRoot);
+  }
+
+  private DirectoryAggregates newAggregates(long maxDirectories) {
+    DirectoryAggregates aggregates = new DirectoryAggregates(true, maxDirectories, mInodeStore);
+    aggregates.setRoot(ROOT_ID);
+    return aggregates;
+  }
+
+  private MutableInodeDirectory createDirectory(DirectoryAggregates aggregates, long id,
+      long parentId) {
+    MutableInodeDirectory dir = MutableInodeDirectory.create(id, parentId, "dir" + id,
+        CreateDirectoryContext.defaults());
+    mInodeStore.writeNewInode(dir);
+    mInodeStore.addChild(parentId, dir);
+    aggregates.created(dir);
+    return dir;
+  }
+
+  private MutableInodeFile createFile(DirectoryAggregates aggregates, long containerId,
+      long parentId, long length) {
+    MutableInodeFile file = MutableInodeFile.create(containerId, parentId, "file" + containerId,
+        0, CreateFileContext.defaults()).setLength(length);
+    mInodeStore.writeNewInode(file);
+    mInodeStore.addChild(parentId, file);
+    aggregates.created(file);
+    return file;
+  }
+
+  private static void assertSummary(long length, long fileCount, long directoryCount,
+      ContentSummary summary) {
+    assertEquals(length, summary.getLength());
+    assertEquals(fileCount, summary.getFileCount());
+    assertEquals(directoryCount, summary.getDirectoryCount());
+  }
+
+  /**
+   * Tests that directories beyond the limit are not tracked, and that changes below them still
+   * reach the totals of their tracked ancestors.
+   */
+  @Test
+  public void limitsTrackedDirectories() {
+    DirectoryAggregates aggregates = newAggregates(3);
+    createDirectory(aggregates, 1, ROOT_ID);
+    createDirectory(aggregates, 2, 1);
+    createDirectory(aggregates, 3, 2);
+    createDirectory(aggregates, 4, 3);
+    MutableInodeFile file = createFile(aggregates, 5, 4, 10);
+    assertNull(aggregates.getContentSummary(3));
+    assertNull(aggregates.getContentSummary(4));
+    assertSummary(10, 1, 3, aggregates.getContentSummary(2));
+    assertSummary(10, 1, 5, aggregates.getContentSummary(ROOT_ID));
+
+    file.setLength(15);
+    aggregates.resized(file, 5);
+    assertSummary(15, 1, 5, aggregates.getContentSummary(ROOT_ID));
+    aggregates.rebuild(mRoot);
+    assertNull(aggregates.getContentSummary(3));
+    assertSummary(15, 1, 3, aggregates.getContentSummary(2));
+    assertSummary(15, 1, 5, aggregates.getContentSummary(ROOT_ID));
+  }
+
+  /**
+   * Tests that moving a tracked directory below an untracked one stops tracking it and its
+   * tracked descendants, and that moving an untracked directory carries its whole subtree.
+   */
+  @Test
+  public void moveAcrossLimit() {
+    DirectoryAggregates aggregates = newAggregates(3);
+    createDirectory(aggregates, 1, ROOT_ID);
+    createDirectory(aggregates, 2, 1);
+    createDirectory(aggregates, 3, ROOT_ID);
+    createFile(aggregates, 4, 3, 10);
+    createFile(aggregates, 5, 2, 20);
+
+    // Move the untracked directory 3 below directory 2.
+    MutableInodeDirectory dir3 = mInodeStore.getMutable(3).get().asDirectory();
+    mInodeStore.removeChild(ROOT_ID, dir3.getName());
+    mInodeStore.addChild(2, dir3);
+    dir3.setParentId(2);
+    aggregates.moved(dir3, ROOT_ID, 2);
+    assertSummary(30, 2, 2, aggregates.getContentSummary(2));
+    assertSummary(30, 2, 4, aggregates.getContentSummary(ROOT_ID));
+
+    // Move the tracked directory 1 below the untracked directory 3.
+    createDirectory(aggregates, 6, ROOT_ID);
+    assertNull(aggregates.getContentSummary(6));
+    MutableInodeDirectory dir1 = mInodeStore.getMutable(1).get().asDirectory();
+    mInodeStore.removeChild(ROOT_ID, dir1.getName());
+    mInodeStore.addChild(6, dir1);
+    dir1.setParentId(6);
+    aggregates.moved(dir1, ROOT_ID, 6);
+    assertNull(aggregates.getContentSummary(1));
+    assertNull(aggregates.getContentSummary(2));
+    assertSummary(30, 2, 5, aggregates.getContentSummary(ROOT_ID));
+  }
+
+  /**
+   * Tests that deleting a directory with descendants stops tracking all of them.
+   */
+  @Test
+  public void deleteUntracksDescendants() {
+    DirectoryAggregates aggregates = newAggregates(100);
+    MutableInodeDirectory dir1 = createDirectory(aggregates, 1, ROOT_ID);
+    createDirectory(aggregates, 2, 1);
+    createDirectory(aggregates, 3, 2);
+    createFile(aggregates, 4, 3, 10);
+    createFile(aggregates, 5, ROOT_ID, 20);
+
+    aggregates.deleted(dir1);
+    assertNull(aggregates.getContentSummary(1));
+    assertNull(aggregates.getContentSummary(2));
+    assertNull(aggregates.getContentSummary(3));
+    assertSummary(20, 1, 1, aggregates.getContentSummary(ROOT_ID));
+  }
+
+  /**
+   * Tests that the aggregates are restored from a checkpoint, and rebuilt from the tree when the
+   * checkpoint holds more directories than may be tracked.
+   */
+  @Test
+  public void checkpoint() throws Exception {
+    DirectoryAggregates aggregates = newAggregates(100);
+    createDirectory(aggregates, 1, ROOT_ID);
+    createDirectory(aggregates, 2, 1);
+    createFile(aggregates, 3, 2, 10);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    aggregates.writeToCheckpoint(output);
+
+    // A file the aggregates are not told about shows whether they are rebuilt from the tree.
+    MutableInodeFile file = MutableInodeFile.create(4, 2, "file4", 0,
+        CreateFileContext.defaults()).setLength(5);
+    mInodeStore.writeNewInode(file);
+    mInodeStore.addChild(2, file);
+
+    DirectoryAggregates restored = new DirectoryAggregates(true, 100, mInodeStore);
+    restored.restoreFromCheckpoint(
+        new CheckpointInputStream(new ByteArrayInputStream(output.toByteArray())));
+    restored.rebuildIfNotRestored(mRoot);
+    assertSummary(10, 1, 2, restored.getContentSummary(1));
+    assertSummary(10, 1, 3, restored.getContentSummary(ROOT_ID));
+
+    DirectoryAggregates limited = new DirectoryAggregates(true, 2, mInodeStore);
+    limited.restoreFromCheckpoint(
+        new CheckpointInputStream(new ByteArrayInputStream(output.toByteArray())));
+    limited.rebuildIfNotRestored(mRoot);
+    assertNull(limited.getContentSummary(2));
+    assertSummary(15, 2, 2, limited.getContentSummary(1));
+    assertSummary(15, 2, 3, limited.getContentSummary(ROOT_ID));
+  }
+}
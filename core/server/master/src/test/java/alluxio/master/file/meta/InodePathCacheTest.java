@@ -0,0 +1,96 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import alluxio.AlluxioURI;
+import alluxio.exception.InvalidPathException;
+import alluxio.master.file.meta.InodeTree.LockPattern;
+import alluxio.util.io.PathUtils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * Unit tests for {@link InodePathCache}.
+ */
+public class InodePathCacheTest extends BaseInodeLockingTest {
+  private static final String[] PATH_C = components("/a/b/c");
+
+  private final InodePathCache mCache = new InodePathCache(100);
+
+  @Test
+  public void cacheParentIds() throws Exception {
+    assertNull(mCache.getParentIds(PATH_C));
+    traverseAndCheck("/a/b/c");
+    assertArrayEquals(new long[] {0, 1, 2}, mCache.getParentIds(PATH_C));
+    traverseAndCheck("/a/b/c");
+    assertArrayEquals(new long[] {0, 1, 2}, mCache.getParentIds(PATH_C));
+  }
+
+  @Test
+  public void replaceStaleIds() throws Exception {
+    // Id 3 is the file c, which does not match the edge from / to a.
+    mCache.putParentIds(PATH_C, new long[] {0, 3, 2});
+    traverseAndCheck("/a/b/c");
+    assertArrayEquals(new long[] {0, 1, 2}, mCache.getParentIds(PATH_C));
+  }
+
+  @Test
+  public void dropStaleIdsForMissingPath() throws Exception {
+    String[] missing = components("/a/x/y");
+    mCache.putParentIds(missing, new long[] {0, 1, 2});
+    try (LockedInodePath path = create("/a/x/y")) {
+      assertFalse(path.fullPathExists());
+      assertEquals(Arrays.asList(mRootDir, mDirA), path.getInodeList());
+    }
+    assertNull(mCache.getParentIds(missing));
+  }
+
+  @Test
+  public void invalidateSubtree() {
+    mCache.putParentIds(components("/a/b/c"), new long[] {0, 1, 2});
+    mCache.putParentIds(components("/a/c"), new long[] {0, 1});
+    mCache.putParentIds(components("/ab/c"), new long[] {0, 5});
+    mCache.invalidateSubtree("/a");
+    assertNull(mCache.getParentIds(components("/a/b/c")));
+    assertNull(mCache.getParentIds(components("/a/c")));
+    assertNotNull(mCache.getParentIds(components("/ab/c")));
+  }
+
+  private void traverseAndCheck(String path) throws Exception {
+    try (LockedInodePath inodePath = create(path)) {
+      assertEquals(Arrays.asList(mRootDir, mDirA, mDirB, mFileC), inodePath.getInodeList());
+    }
+  }
+
+  private LockedInodePath create(String path) throws Exception {
+    LockedInodePath inodePath = new LockedInodePath(new AlluxioURI(path), mInodeStore,
+        new SimpleInodeLockList(mInodeLockManager), mRootDir, LockPattern.READ, mCache);
+    inodePath.traverse();
+    return inodePath;
+  }
+
+  private static String[] components(String path) {
+    try {
+      return PathUtils.getPathComponents(path);
+    } catch (InvalidPathException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+}
@@ -28,6 +28,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -112,6 +113,33 @@ public final class MutableInodeFileTest extends AbstractInodeTest {
     }
   }
 
+  /**
+   * Tests that block ids survive the journal and proto conversions whether or not they can be
+   * derived from the block container id.
+   */
+  @Test
+  public void blockIds() {
+    MutableInodeFile derived = createInodeFile(1);
+    derived.getNewBlockId();
+    derived.getNewBlockId();
+    assertEquals(2, derived.getBlockCount());
+    assertEquals(derived.getBlockIds(),
+        MutableInodeFile.fromProto(derived.toProto()).getBlockIds());
+    assertEquals(derived.getBlockIds(), MutableInodeFile
+        .fromJournalEntry(derived.toJournalEntry().getInodeFile()).getBlockIds());
+
+    MutableInodeFile explicit = createInodeFile(1);
+    explicit.setBlockIds(Arrays.asList(5L, 3L));
+    long newBlockId = explicit.getNewBlockId();
+    assertEquals(Arrays.asList(5L, 3L, newBlockId), explicit.getBlockIds());
+    Assert.assertArrayEquals(new long[] {5L, 3L, newBlockId}, explicit.getBlockIdArray());
+    assertEquals(explicit.getBlockIds(),
+        MutableInodeFile.fromProto(explicit.toProto()).getBlockIds());
+
+    explicit.reset();
+    assertEquals(0, explicit.getBlockIdArray().length);
+  }
+
   /**
    * Tests the {@link MutableInodeFile#setCompleted(boolean)} method.
    */
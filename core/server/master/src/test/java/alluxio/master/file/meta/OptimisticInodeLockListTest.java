@@ -0,0 +1,157 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.ConfigurationRule;
+import alluxio.concurrent.LockMode;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.master.file.contexts.CreateDirectoryContext;
+import alluxio.resource.LockResource;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+
+/**
+ * Unit tests for {@link OptimisticInodeLockList}.
+ */
+public class OptimisticInodeLockListTest extends BaseInodeLockingTest {
+  @Rule
+  public ConfigurationRule mConfigurationRule = new ConfigurationRule(
+      ImmutableMap.of(PropertyKey.MASTER_LOCK_OPTIMISTIC_READ_ENABLED, "true"),
+      ServerConfiguration.global());
+
+  @Rule
+  public ExpectedException mThrown = ExpectedException.none();
+
+  private InodeLockList mLockList;
+
+  @Before
+  public void before() {
+    mInodeLockManager = new InodeLockManager();
+    mLockList = new OptimisticInodeLockList(mInodeLockManager, mInodeStore);
+  }
+
+  @After
+  public void after() {
+    mLockList.close();
+    super.after();
+  }
+
+  @Test
+  public void traverseWithoutLocking() {
+    traverseToDirA();
+    assertEquals(LockMode.READ, mLockList.getLockMode());
+    assertTrue(mLockList.endsInInode());
+    assertEquals(Arrays.asList(mRootDir, mDirA), mLockList.getLockedInodes());
+    checkOnlyNodesReadLocked();
+    checkOnlyIncomingEdgesReadLocked();
+    assertTrue(mLockList.validate());
+  }
+
+  @Test
+  public void readLockKeepsValid() {
+    traverseToDirA();
+    mInodeLockManager.lockInode(mDirA, LockMode.READ).close();
+    mInodeLockManager.lockEdge(new Edge(mRootDir.getId(), mDirA.getName()), LockMode.READ)
+        .close();
+    assertTrue(mLockList.validate());
+  }
+
+  @Test
+  public void inodeWriteLockInvalidates() {
+    traverseToDirA();
+    mInodeLockManager.lockInode(mDirA, LockMode.WRITE).close();
+    assertFalse(mLockList.validate());
+  }
+
+  @Test
+  public void edgeWriteLockInvalidates() {
+    traverseToDirA();
+    mInodeLockManager.lockEdge(new Edge(mRootDir.getId(), mDirA.getName()), LockMode.WRITE)
+        .close();
+    assertFalse(mLockList.validate());
+  }
+
+  @Test
+  public void unlockedEdgeStillValidated() {
+    traverseToDirA();
+    mLockList.lockEdge(mDirA, mDirB.getName(), LockMode.READ);
+    mLockList.unlockLastEdge();
+    mInodeLockManager.lockEdge(new Edge(mDirA.getId(), mDirB.getName()), LockMode.WRITE)
+        .close();
+    assertFalse(mLockList.validate());
+  }
+
+  @Test
+  public void heldWriteLockInvalidates() {
+    mLockList.lockRootEdge(LockMode.READ);
+    mLockList.lockInode(mRootDir, LockMode.READ);
+    try (LockResource lr = mInodeLockManager.lockInode(mDirA, LockMode.WRITE)) {
+      mLockList.lockEdge(mRootDir, mDirA.getName(), LockMode.READ);
+      mLockList.lockInode(mDirA, LockMode.READ);
+    }
+    assertFalse(mLockList.validate());
+  }
+
+  @Test
+  public void readsInodeAfterStamp() {
+    mLockList.lockRootEdge(LockMode.READ);
+    mLockList.lockInode(mRootDir, LockMode.READ);
+    mLockList.lockEdge(mRootDir, mDirA.getName(), LockMode.READ);
+    // An update completed between reading the inode and stamping it.
+    mInodeStore.writeInode(MutableInodeDirectory.create(mDirA.getId(), mRootDir.getId(),
+        mDirA.getName(), CreateDirectoryContext.defaults()).setOwner("updated"));
+    mLockList.lockInode(mDirA, LockMode.READ);
+    assertEquals("updated", mLockList.get(1).getOwner());
+    assertTrue(mLockList.validate());
+  }
+
+  @Test
+  public void lockMissingInodeById() {
+    mLockList.lockRootEdge(LockMode.READ);
+    mLockList.lockInode(mRootDir, LockMode.READ);
+    mLockList.lockEdge(mRootDir, "missing", LockMode.READ);
+    assertFalse(((OptimisticInodeLockList) mLockList).lockInode(100L).isPresent());
+    assertFalse(mLockList.endsInInode());
+    assertEquals(1, mLockList.numInodes());
+    mLockList.unlockLastEdge();
+    assertTrue(mLockList.validate());
+    // The stamp of the missing inode is still validated.
+    mInodeLockManager.lockInode(inodeFile(100, mRootDir.getId(), "missing"), LockMode.WRITE)
+        .close();
+    assertFalse(mLockList.validate());
+  }
+
+  @Test
+  public void writeLockNotSupported() {
+    mThrown.expect(IllegalStateException.class);
+    mLockList.lockRootEdge(LockMode.WRITE);
+  }
+
+  private void traverseToDirA() {
+    mLockList.lockRootEdge(LockMode.READ);
+    mLockList.lockInode(mRootDir, LockMode.READ);
+    mLockList.lockEdge(mRootDir, mDirA.getName(), LockMode.READ);
+    mLockList.lockInode(mDirA, LockMode.READ);
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.Constants;
+import alluxio.grpc.CreateFilePOptions;
+import alluxio.grpc.FileSystemMasterCommonPOptions;
+import alluxio.master.file.contexts.CreateFileContext;
+import alluxio.master.journal.checkpoint.CheckpointInputStream;
+import alluxio.master.metastore.InodeStore;
+import alluxio.master.metastore.heap.HeapInodeStore;
+
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Unit tests for {@link TtlTimingWheel}.
+ */
+public final class TtlTimingWheelTest {
+  private static final long INTERVAL = 10;
+
+  @ClassRule
+  public static TtlIntervalRule sTtlIntervalRule = new TtlIntervalRule(INTERVAL);
+
+  private InodeStore mInodeStore;
+  private TtlTimingWheel mWheel;
+
+  /**
+   * Sets up a new {@link TtlTimingWheel} starting at time 0 before a test runs.
+   */
+  @Before
+  public void before() {
+    mInodeStore = new HeapInodeStore();
+    mWheel = new TtlTimingWheel(mInodeStore, 0);
+  }
+
+  /**
+   * Creates a file created at time 0 with the given ttl, and schedules it.
+   */
+  private MutableInodeFile createFile(long id, long ttl) {
+    MutableInodeFile file = MutableInodeFile.create(id, 0, "file" + id, 0,
+        CreateFileContext.mergeFrom(CreateFilePOptions.newBuilder()
+            .setCommonOptions(FileSystemMasterCommonPOptions.newBuilder().setTtl(ttl))));
+    mInodeStore.writeInode(file);
+    mWheel.insert(file);
+    return file;
+  }
+
+  private Set<Long> pollAll() {
+    Set<Long> ids = new HashSet<>();
+    while (mWheel.getBacklogCount() > 0) {
+      for (Inode inode : mWheel.pollExpired(3)) {
+        assertTrue(ids.add(inode.getId()));
+      }
+    }
+    return ids;
+  }
+
+  private static Set<Long> ids(long... ids) {
+    Set<Long> set = new HashSet<>();
+    for (long id : ids) {
+      set.add(id);
+    }
+    return set;
+  }
+
+  /**
+   * Tests that inodes expire once the interval containing their expiration time has passed.
+   */
+  @Test
+  public void expire() {
+    createFile(1, 0);
+    createFile(2, INTERVAL - 1);
+    createFile(3, INTERVAL);
+    createFile(4, 1000000);
+    assertEquals(4, mWheel.getScheduledCount());
+
+    mWheel.advance(INTERVAL - 1);
+    assertEquals(ids(), pollAll());
+    mWheel.advance(INTERVAL);
+    assertEquals(ids(1, 2), pollAll());
+    mWheel.advance(2 * INTERVAL - 1);
+    assertEquals(ids(), pollAll());
+    mWheel.advance(2 * INTERVAL);
+    assertEquals(ids(3), pollAll());
+    mWheel.advance(1000000 + INTERVAL - 1);
+    assertEquals(ids(), pollAll());
+    mWheel.advance(1000000 + INTERVAL);
+    assertEquals(ids(4), pollAll());
+    assertEquals(0, mWheel.getScheduledCount());
+  }
+
+  /**
+   * Tests that an inode scheduled after its expiration time expires at the next advance.
+   */
+  @Test
+  public void insertExpired() {
+    mWheel.advance(100 * INTERVAL);
+    createFile(1, INTERVAL);
+    assertEquals(1, mWheel.getBacklogCount());
+    assertEquals(ids(1), pollAll());
+  }
+
+  /**
+   * Tests that the entries for an old ttl, a removed ttl or a deleted inode are dropped.
+   */
+  @Test
+  public void staleEntries() {
+    MutableInodeFile updated = createFile(1, INTERVAL);
+    updated.setTtl(5 * INTERVAL);
+    mWheel.insert(updated);
+    MutableInodeFile cleared = createFile(2, INTERVAL);
+    cleared.setTtl(Constants.NO_TTL);
+    mWheel.insert(cleared);
+    createFile(3, INTERVAL);
+    mInodeStore.remove(3L);
+
+    mWheel.advance(2 * INTERVAL);
+    assertEquals(3, mWheel.getBacklogCount());
+    assertEquals(ids(), pollAll());
+    mWheel.advance(6 * INTERVAL);
+    assertEquals(ids(1), pollAll());
+  }
+
+  /**
+   * Tests that polling takes at most the requested number of entries.
+   */
+  @Test
+  public void pollIsBounded() {
+    for (long id = 0; id < 10; id++) {
+      createFile(id, INTERVAL);
+    }
+    mWheel.advance(2 * INTERVAL);
+    assertEquals(10, mWheel.getBacklogCount());
+    assertEquals(4, mWheel.pollExpired(4).size());
+    assertEquals(6, mWheel.getBacklogCount());
+    assertEquals(6, mWheel.pollExpired(100).size());
+    assertEquals(0, mWheel.getBacklogCount());
+  }
+
+  /**
+   * Tests that inodes spread over all levels of the wheel expire exactly when they are due,
+   * with the wheel advanced in random steps.
+   */
+  @Test
+  public void randomExpirations() {
+    Random random = new Random(42);
+    List<MutableInodeFile> files = new ArrayList<>();
+    for (long id = 0; id < 2000; id++) {
+      long ttl = (long) Math.pow(10, random.nextInt(12)) + random.nextInt(1000);
+      files.add(createFile(id, ttl));
+    }
+    long time = 0;
+    Set<Long> expired = new HashSet<>();
+    while (expired.size() < files.size()) {
+      time += (long) Math.pow(10, random.nextInt(13));
+      mWheel.advance(time);
+      Set<Long> polled = pollAll();
+      for (MutableInodeFile file : files) {
+        boolean due = (file.getTtl() / INTERVAL + 1) * INTERVAL <= time;
+        assertEquals(due && !expired.contains(file.getId()), polled.contains(file.getId()));
+      }
+      expired.addAll(polled);
+    }
+    assertEquals(0, mWheel.getScheduledCount());
+  }
+
+  /**
+   * Tests that the scheduled inodes survive a checkpoint.
+   */
+  @Test
+  public void checkpoint() throws Exception {
+    createFile(1, INTERVAL);
+    createFile(2, 100 * INTERVAL);
+    mWheel.advance(2 * INTERVAL);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    mWheel.writeToCheckpoint(output);
+
+    mWheel = new TtlTimingWheel(mInodeStore, 2 * INTERVAL);
+    mWheel.restoreFromCheckpoint(
+        new CheckpointInputStream(new ByteArrayInputStream(output.toByteArray())));
+    assertEquals(ids(1), pollAll());
+    mWheel.advance(101 * INTERVAL);
+    assertEquals(ids(2), pollAll());
+  }
+
+  /**
+   * Tests that an inode whose ttl keeps changing expires once, that its stale entries are
+   * compacted away, and that it is checkpointed once.
+   */
+  @Test
+  public void ttlChurn() throws Exception {
+    MutableInodeFile file = createFile(1, INTERVAL);
+    for (int i = 0; i < 10000; i++) {
+      file.setTtl((2 + i % 2) * INTERVAL);
+      mWheel.insert(file);
+      assertTrue(mWheel.getScheduledCount() <= 1024);
+    }
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    mWheel.writeToCheckpoint(output);
+    TtlTimingWheel restored = new TtlTimingWheel(mInodeStore, 0);
+    restored.restoreFromCheckpoint(
+        new CheckpointInputStream(new ByteArrayInputStream(output.toByteArray())));
+    assertEquals(1, restored.getScheduledCount());
+
+    mWheel.advance(10 * INTERVAL);
+    assertEquals(ids(1), pollAll());
+  }
+
+  /**
+   * Tests that removed inodes are neither returned nor checkpointed.
+   */
+  @Test
+  public void remove() throws Exception {
+    createFile(1, INTERVAL);
+    createFile(2, INTERVAL);
+    mWheel.remove(2);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    mWheel.writeToCheckpoint(output);
+    TtlTimingWheel restored = new TtlTimingWheel(mInodeStore, 0);
+    restored.restoreFromCheckpoint(
+        new CheckpointInputStream(new ByteArrayInputStream(output.toByteArray())));
+    assertEquals(1, restored.getScheduledCount());
+
+    mWheel.advance(2 * INTERVAL);
+    assertEquals(ids(1), pollAll());
+  }
+}
@@ -25,6 +25,7 @@ import alluxio.job.replicate.ReplicationHandler;
 import alluxio.master.CoreMasterContext;
 import alluxio.master.MasterRegistry;
 import alluxio.master.MasterTestUtils;
+import alluxio.master.SafeModeManager;
 import alluxio.master.block.BlockMaster;
 import alluxio.master.block.BlockMasterFactory;
 import alluxio.master.file.RpcContext;
@@ -48,6 +49,7 @@ import alluxio.metrics.Metric;
 import alluxio.proto.meta.Block;
 import alluxio.security.authorization.Mode;
 import alluxio.underfs.UfsManager;
+import alluxio.util.IdUtils;
 import alluxio.wire.WorkerNetAddress;
 
 import com.google.common.collect.ImmutableList;
@@ -130,6 +132,7 @@ public final class ReplicationCheckerTest {
   private InodeTree mInodeTree;
   private BlockMaster mBlockMaster;
   private ReplicationChecker mReplicationChecker;
+  private SafeModeManager mSafeModeManager;
   private MockHandler mMockReplicationHandler;
   private CreateFileContext mFileContext =
       CreateFileContext.mergeFrom(CreateFilePOptions.newBuilder().setBlockSizeBytes(Constants.KB)
@@ -166,8 +169,9 @@ public final class ReplicationCheckerTest {
     mInodeTree.initializeRoot(TEST_OWNER, TEST_GROUP, TEST_MODE, NoopJournalContext.INSTANCE);
 
     mMockReplicationHandler = new MockHandler();
+    mSafeModeManager = context.getSafeModeManager();
     mReplicationChecker = new ReplicationChecker(mInodeTree, mBlockMaster,
-        context.getSafeModeManager(), mMockReplicationHandler);
+        mSafeModeManager, mMockReplicationHandler);
   }
 
   @After
@@ -281,6 +285,65 @@ public final class ReplicationCheckerTest {
     Assert.assertEquals(EMPTY, mMockReplicationHandler.getReplicateRequests());
   }
 
+  @Test
+  public void heartbeatChecksFileWithAddedReplicas() throws Exception {
+    mFileContext.getOptions().setReplicationMin(1).setReplicationMax(2);
+    long blockId = createBlockHelper(TEST_FILE_1, mFileContext, "");
+    addBlockLocationHelper(blockId, 1);
+    mReplicationChecker.heartbeat();
+    Assert.assertEquals(EMPTY, mMockReplicationHandler.getEvictRequests());
+
+    // Only the file with new replicas is checked after the first full scan
+    heartbeatToAddLocationHelper(blockId, createWorkerHelper(1));
+    heartbeatToAddLocationHelper(blockId, createWorkerHelper(2));
+    mReplicationChecker.heartbeat();
+    Map<Long, Integer> expected = ImmutableMap.of(blockId, 1);
+    Assert.assertEquals(expected, mMockReplicationHandler.getEvictRequests());
+    Assert.assertEquals(EMPTY, mMockReplicationHandler.getReplicateRequests());
+  }
+
+  @Test
+  public void heartbeatChecksFileWithChangedReplication() throws Exception {
+    mFileContext.getOptions().setReplicationMin(1);
+    long blockId = createBlockHelper(TEST_FILE_1, mFileContext, "");
+    addBlockLocationHelper(blockId, 1);
+    mReplicationChecker.heartbeat();
+    Assert.assertEquals(EMPTY, mMockReplicationHandler.getReplicateRequests());
+
+    try (LockedInodePath inodePath =
+        mInodeTree.lockFullInodePath(TEST_FILE_1, LockPattern.WRITE_INODE)) {
+      mInodeTree.setReplication(RpcContext.NOOP, inodePath, null, 3, 0);
+    }
+    mReplicationChecker.heartbeat();
+    Map<Long, Integer> expected = ImmutableMap.of(blockId, 2);
+    Assert.assertEquals(EMPTY, mMockReplicationHandler.getEvictRequests());
+    Assert.assertEquals(expected, mMockReplicationHandler.getReplicateRequests());
+  }
+
+  @Test
+  public void heartbeatChecksUnchangedFilesOnFullScan() throws Exception {
+    mFileContext.getOptions().setReplicationMin(1);
+    long blockId = createBlockHelper(TEST_FILE_1, mFileContext, "");
+    addBlockLocationHelper(blockId, 1);
+    mReplicationChecker.heartbeat();
+
+    // Changing the inode store directly does not mark the file dirty
+    MutableInodeFile inodeFile =
+        mInodeStore.getMutable(IdUtils.fileIdFromBlockId(blockId)).get().asFile();
+    inodeFile.setReplicationMin(2);
+    mInodeStore.writeInode(inodeFile);
+    mReplicationChecker.heartbeat();
+    Assert.assertEquals(EMPTY, mMockReplicationHandler.getReplicateRequests());
+
+    // The first heartbeat of a new checker is a full scan
+    mReplicationChecker.close();
+    mReplicationChecker = new ReplicationChecker(mInodeTree, mBlockMaster,
+        mSafeModeManager, mMockReplicationHandler);
+    mReplicationChecker.heartbeat();
+    Map<Long, Integer> expected = ImmutableMap.of(blockId, 1);
+    Assert.assertEquals(expected, mMockReplicationHandler.getReplicateRequests());
+  }
+
   @Test
   public void heartbeatFileUnderReplicatedBy1() throws Exception {
     mFileContext.getOptions().setReplicationMin(1);
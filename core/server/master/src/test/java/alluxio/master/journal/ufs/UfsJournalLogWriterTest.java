@@ -268,6 +268,67 @@ public final class UfsJournalLogWriterTest {
     writer.close();
   }
 
+  /**
+   * Tests that pipelined writes are buffered until the next flush.
+   */
+  @Test
+  public void pipelinedWritesBufferedUntilFlush() throws Exception {
+    Mockito.when(mUfs.supportsFlush()).thenReturn(true);
+    ServerConfiguration.set(PropertyKey.MASTER_JOURNAL_FLUSH_PIPELINED_ENABLED, "true");
+    long startSN = 0x20;
+    UfsJournalLogWriter writer = new UfsJournalLogWriter(mJournal, startSN);
+    Assert.assertTrue(writer.supportsConcurrentFlush());
+
+    long nextSN = startSN;
+    for (int i = 0; i < 5; i++) {
+      writer.write(newEntry(nextSN));
+      nextSN++;
+    }
+    Assert.assertEquals(nextSN, writer.getNextSequenceNumber());
+    Assert.assertNull(writer.getJournalOutputStream());
+    writer.flush();
+    Assert.assertNotNull(writer.getJournalOutputStream());
+    checkJournalEntries(startSN, nextSN);
+
+    // Entries which are still buffered are written to the log when the writer is closed.
+    nextSN = writeJournalEntries(writer, nextSN, 5);
+    writer.close();
+    checkJournalEntries(startSN, nextSN);
+  }
+
+  /**
+   * Tests that a pipelined flush recovers the batch it failed to write to the log.
+   */
+  @Test
+  public void pipelinedFlushRecoversFromUfsFailure() throws Exception {
+    Mockito.when(mUfs.supportsFlush()).thenReturn(true);
+    ServerConfiguration.set(PropertyKey.MASTER_JOURNAL_FLUSH_PIPELINED_ENABLED, "true");
+    long startSN = 0x10;
+    UfsJournalLogWriter writer = new UfsJournalLogWriter(mJournal, startSN);
+    long nextSN = startSN;
+    for (int i = 0; i < 10; i++) {
+      writer.write(newEntry(nextSN));
+      nextSN++;
+    }
+    writer.flush();
+
+    DataOutputStream badOut = createMockDataOutputStream(writer);
+    Mockito.doThrow(new IOException(INJECTED_IO_ERROR_MESSAGE)).when(badOut)
+        .write(Mockito.any(byte[].class), Mockito.anyInt(), Mockito.anyInt());
+    nextSN = writeJournalEntries(writer, nextSN, 3);
+    try {
+      writer.flush();
+      Assert.fail("Should not reach here.");
+    } catch (IOException e) {
+      Assert.assertThat(e.getMessage(), containsString(INJECTED_IO_ERROR_MESSAGE));
+    }
+
+    // The failed batch is rewritten to a new log during recovery.
+    writer.flush();
+    writer.close();
+    checkJournalEntries(startSN, nextSN);
+  }
+
   /**
    * Tests that {@link UfsJournalLogWriter} can detect the failure in which some flushed journal
    * entries are missing from the journal during recovery.
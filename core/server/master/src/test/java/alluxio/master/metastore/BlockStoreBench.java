@@ -0,0 +1,103 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore;
+
+import alluxio.collections.LongHashSet;
+import alluxio.master.block.BlockId;
+import alluxio.master.metastore.heap.CompactHeapBlockStore;
+import alluxio.master.metastore.heap.HeapBlockStore;
+import alluxio.proto.meta.Block.BlockLocation;
+import alluxio.proto.meta.Block.BlockMeta;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Memory benchmark for the block store and the per-worker block index of the block master.
+ *
+ * Each run stores blocks with several replicas spread across workers, both in a block store and
+ * in one block id set per worker, as the block master does. The measured heap bytes per replica
+ * are then projected to a billion replicas.
+ */
+public class BlockStoreBench {
+  private static final int BLOCKS_MILLIONS = 4;
+  private static final int REPLICAS = 3;
+  private static final int WORKERS = 100;
+  private static final long PROJECTED_REPLICAS = 1_000_000_000L;
+
+  public static void main(String[] args) {
+    System.out.printf("Running memory benchmark for heap block store%n");
+    memoryBenchmark(HeapBlockStore::new, () -> {
+      Set<Long> blocks = new HashSet<>();
+      return blocks::add;
+    });
+
+    System.out.printf("%nRunning memory benchmark for compact heap block store%n");
+    memoryBenchmark(CompactHeapBlockStore::new, () -> {
+      LongHashSet blocks = new LongHashSet();
+      return blocks::add;
+    });
+  }
+
+  /**
+   * Reports the number of heap bytes needed per block replica.
+   *
+   * @param storeFactory creates the block store
+   * @param indexFactory creates the block index of one worker, returned as its add method
+   */
+  private static void memoryBenchmark(BlockStore.Factory storeFactory,
+      Supplier<LongConsumer> indexFactory) {
+    BlockStore store = storeFactory.get();
+    List<LongConsumer> workerIndexes = new ArrayList<>(WORKERS);
+    for (int i = 0; i < WORKERS; i++) {
+      workerIndexes.add(indexFactory.get());
+    }
+    long heapEmpty = usedHeapBytes();
+
+    int numBlocks = BLOCKS_MILLIONS * 1_000_000;
+    BlockMeta meta = BlockMeta.newBuilder().setLength(64 * 1024 * 1024).build();
+    for (int i = 0; i < numBlocks; i++) {
+      // Files of 16 blocks, as a 1GB file of 64MB blocks would have.
+      long blockId = BlockId.createBlockId(i / 16, i % 16);
+      store.putBlock(blockId, meta);
+      for (int r = 0; r < REPLICAS; r++) {
+        int worker = (i + r) % WORKERS;
+        store.addLocation(blockId, BlockLocation.newBuilder().setWorkerId(worker).setTier("MEM")
+            .setMediumType("MEM").build());
+        workerIndexes.get(worker).accept(blockId);
+      }
+    }
+    long heapBytes = usedHeapBytes() - heapEmpty;
+    long numReplicas = (long) numBlocks * REPLICAS;
+    long bytesPerReplica = heapBytes / numReplicas;
+    System.out.printf("Stored %d million blocks with %d replicas each using %d heap bytes per "
+        + "replica%n", BLOCKS_MILLIONS, REPLICAS, bytesPerReplica);
+    System.out.printf("Projected heap for %d replicas: %d GB%n", PROJECTED_REPLICAS,
+        bytesPerReplica * PROJECTED_REPLICAS / (1L << 30));
+    // Keep the structures reachable until they have been measured.
+    if (store.getLocations(BlockId.createBlockId(0, 0)).isEmpty() || workerIndexes.isEmpty()) {
+      throw new IllegalStateException("Blocks were not stored");
+    }
+  }
+
+  private static long usedHeapBytes() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
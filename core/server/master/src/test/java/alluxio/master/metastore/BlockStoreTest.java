@@ -0,0 +1,113 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.master.metastore.BlockStore.Block;
+import alluxio.master.metastore.heap.CompactHeapBlockStore;
+import alluxio.master.metastore.heap.HeapBlockStore;
+import alluxio.proto.meta.Block.BlockLocation;
+import alluxio.proto.meta.Block.BlockMeta;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+
+@RunWith(Parameterized.class)
+public class BlockStoreTest {
+  @Parameters
+  public static Iterable<BlockStore.Factory> parameters() {
+    return Arrays.asList(HeapBlockStore::new, CompactHeapBlockStore::new);
+  }
+
+  private final BlockStore mStore;
+
+  public BlockStoreTest(BlockStore.Factory factory) {
+    mStore = factory.get();
+  }
+
+  @Test
+  public void putGetRemoveBlock() {
+    mStore.putBlock(1, BlockMeta.newBuilder().setLength(100).build());
+    mStore.putBlock(2, BlockMeta.getDefaultInstance());
+    assertEquals(Optional.of(BlockMeta.newBuilder().setLength(100).build()), mStore.getBlock(1));
+    assertEquals(Optional.of(BlockMeta.getDefaultInstance()), mStore.getBlock(2));
+    assertEquals(Optional.empty(), mStore.getBlock(3));
+
+    mStore.putBlock(1, BlockMeta.newBuilder().setLength(0).build());
+    assertEquals(Optional.of(BlockMeta.newBuilder().setLength(0).build()), mStore.getBlock(1));
+    mStore.removeBlock(1);
+    mStore.removeBlock(3);
+    assertEquals(Optional.empty(), mStore.getBlock(1));
+    assertEquals(Optional.of(BlockMeta.getDefaultInstance()), mStore.getBlock(2));
+  }
+
+  @Test
+  public void iterate() {
+    Map<Long, BlockMeta> expected = new HashMap<>();
+    for (long id = 0; id < 1000; id++) {
+      BlockMeta meta = BlockMeta.newBuilder().setLength(id * 7).build();
+      mStore.putBlock(id << 24, meta);
+      expected.put(id << 24, meta);
+    }
+    Map<Long, BlockMeta> actual = new HashMap<>();
+    for (Block block : mStore) {
+      actual.put(block.getId(), block.getMeta());
+    }
+    assertEquals(expected, actual);
+
+    mStore.clear();
+    assertFalse(mStore.iterator().hasNext());
+  }
+
+  @Test
+  public void locations() {
+    BlockLocation mem = location(1, "MEM", "MEM");
+    BlockLocation ssd = location(2, "SSD", "SSD");
+    BlockLocation noTier = BlockLocation.newBuilder().setWorkerId(3).build();
+    mStore.addLocation(10, mem);
+    mStore.addLocation(10, ssd);
+    mStore.addLocation(10, noTier);
+    mStore.addLocation(10, mem);
+    assertEquals(ImmutableSet.of(mem, ssd, noTier), new HashSet<>(mStore.getLocations(10)));
+    assertTrue(mStore.getLocations(11).isEmpty());
+
+    // A worker has at most one location for a block.
+    BlockLocation moved = location(1, "HDD", "HDD");
+    mStore.addLocation(10, moved);
+    assertEquals(ImmutableSet.of(moved, ssd, noTier), new HashSet<>(mStore.getLocations(10)));
+
+    mStore.removeLocation(10, 2);
+    mStore.removeLocation(10, 4);
+    mStore.removeLocation(11, 1);
+    assertEquals(ImmutableSet.of(moved, noTier), new HashSet<>(mStore.getLocations(10)));
+    mStore.removeLocation(10, 1);
+    mStore.removeLocation(10, 3);
+    assertTrue(mStore.getLocations(10).isEmpty());
+  }
+
+  private static BlockLocation location(long workerId, String tier, String mediumType) {
+    return BlockLocation.newBuilder().setWorkerId(workerId).setTier(tier)
+        .setMediumType(mediumType).build();
+  }
+}
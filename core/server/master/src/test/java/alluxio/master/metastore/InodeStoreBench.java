@@ -18,6 +18,7 @@ import alluxio.master.file.contexts.CreateDirectoryContext;
 import alluxio.master.file.meta.MutableInodeDirectory;
 import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.metastore.heap.HeapInodeStore;
+import alluxio.master.metastore.offheap.OffHeapInodeStore;
 import alluxio.master.metastore.rocks.RocksInodeStore;
 import alluxio.util.CommonUtils;
 
@@ -47,6 +48,7 @@ import java.util.stream.IntStream;
  */
 public class InodeStoreBench {
   private static final int CHECKPOINT_INODES_MILLIONS = 1;
+  private static final int MEMORY_INODES_MILLIONS = 1;
   private static InodeStore sStore;
   private static final AtomicInteger NEXT_INODE_ID = new AtomicInteger(1);
 
@@ -62,11 +64,45 @@ public class InodeStoreBench {
     System.out.printf("%nRunning benchmarks for heap inode store%n");
     sStore = new HeapInodeStore();
     runBenchmarks();
+
+    System.out.printf("%nRunning benchmarks for off-heap inode store%n");
+    sStore = new OffHeapInodeStore();
+    runBenchmarks();
   }
 
   private static void runBenchmarks() throws Exception {
     writeBenchmark();
     checkpointBenchmark();
+    memoryBenchmark();
+  }
+
+  /**
+   * Reports the number of heap and off-heap bytes needed per inode.
+   */
+  private static void memoryBenchmark() {
+    sStore.clear();
+    long heapBefore = usedHeapBytes();
+    int numInodes = (int) (1e6 * MEMORY_INODES_MILLIONS);
+    for (int i = 0; i < numInodes; i++) {
+      writeInode();
+    }
+    long heapBytes = usedHeapBytes() - heapBefore;
+    long offHeapBytes = 0;
+    if (sStore instanceof OffHeapInodeStore) {
+      offHeapBytes = ((OffHeapInodeStore) sStore).getOffHeapUsedBytes();
+    }
+    System.out.printf("Stored %d million inodes using %d heap bytes per inode and %d off-heap "
+        + "bytes per inode%n", MEMORY_INODES_MILLIONS, heapBytes / numInodes,
+        offHeapBytes / numInodes);
+    sStore.clear();
+  }
+
+  private static long usedHeapBytes() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
   }
 
   private static void writeBenchmark() throws InterruptedException {
@@ -18,6 +18,7 @@ import static org.junit.Assume.assumeTrue;
 
 import alluxio.AlluxioTestDirectory;
 import alluxio.ConfigurationRule;
+import alluxio.Constants;
 import alluxio.concurrent.LockMode;
 import alluxio.conf.PropertyKey;
 import alluxio.conf.ServerConfiguration;
@@ -30,13 +31,16 @@ import alluxio.master.file.meta.InodeView;
 import alluxio.master.file.meta.MutableInode;
 import alluxio.master.file.meta.MutableInodeDirectory;
 import alluxio.master.file.meta.MutableInodeFile;
+import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.metastore.InodeStore.WriteBatch;
 import alluxio.master.metastore.caching.CachingInodeStore;
 import alluxio.master.metastore.heap.HeapInodeStore;
+import alluxio.master.metastore.offheap.OffHeapInodeStore;
 import alluxio.master.metastore.rocks.RocksInodeStore;
 import alluxio.resource.LockResource;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
@@ -44,10 +48,14 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.function.Function;
 
 @RunWith(Parameterized.class)
@@ -60,6 +68,7 @@ public class InodeStoreTest {
         AlluxioTestDirectory.createTemporaryDirectory("inode-store-test").getAbsolutePath();
     return Arrays.asList(
         lockManager -> new HeapInodeStore(),
+        lockManager -> new OffHeapInodeStore(Constants.MB),
         lockManager -> new RocksInodeStore(dir),
         lockManager -> new CachingInodeStore(new RocksInodeStore(dir), lockManager));
   }
@@ -197,6 +206,68 @@ public class InodeStoreTest {
     assertEquals(1, Iterables.size(mStore.getChildren(mRoot)));
   }
 
+  @Test
+  public void listChildrenInOrderAfterName() {
+    writeInode(mRoot);
+    List<Integer> ids = new ArrayList<>();
+    for (int i = 10; i < 10 + 2 * CACHE_SIZE; i++) {
+      ids.add(i);
+    }
+    Collections.shuffle(ids, new Random(0));
+    for (int id : ids) {
+      MutableInodeFile file = inodeFile(id, 0, "file" + id);
+      writeInode(file);
+      writeEdge(mRoot, file);
+    }
+    Collections.sort(ids);
+    List<Long> expected = new ArrayList<>();
+    for (int id : ids) {
+      expected.add((long) id);
+    }
+    assertEquals(expected, Lists.newArrayList(mStore.getChildIds(mRoot)));
+
+    ReadOption option = ReadOption.newBuilder().setStartAfter("file20").build();
+    assertEquals(expected.subList(expected.indexOf(21L), expected.size()),
+        Lists.newArrayList(mStore.getChildIds(mRoot, option)));
+    // A name which is not a child starts the listing at the next child.
+    option = ReadOption.newBuilder().setStartAfter("file205").build();
+    assertEquals(expected.subList(expected.indexOf(21L), expected.size()),
+        Lists.newArrayList(mStore.getChildIds(mRoot, option)));
+  }
+
+  @Test
+  public void listChildrenInPages() {
+    writeInode(mRoot);
+    List<Long> expected = new ArrayList<>();
+    for (int id = 10; id < 10 + 2 * CACHE_SIZE; id++) {
+      MutableInodeFile file = inodeFile(id, 0, "file" + id);
+      writeInode(file);
+      writeEdge(mRoot, file);
+      expected.add((long) id);
+    }
+    List<Long> listed = new ArrayList<>();
+    String startAfter = null;
+    while (true) {
+      ReadOption option = ReadOption.newBuilder().setStartAfter(startAfter).setLimit(5).build();
+      List<Long> page = Lists.newArrayList(mStore.getChildIds(mRoot, option));
+      assertTrue(page.size() <= 5);
+      if (page.isEmpty()) {
+        break;
+      }
+      listed.addAll(page);
+      startAfter = "file" + page.get(page.size() - 1);
+      if (listed.size() == 10) {
+        // Changes between pages are seen by the following pages.
+        removeParentEdge(mStore.get(expected.remove(expected.size() - 1)).get());
+        MutableInodeFile file = inodeFile(60, 0, "file60");
+        writeInode(file);
+        writeEdge(mRoot, file);
+        expected.add(60L);
+      }
+    }
+    assertEquals(expected, listed);
+  }
+
   @Test
   public void manyOperations() {
     writeInode(mRoot);
@@ -243,6 +314,32 @@ public class InodeStoreTest {
         Iterables.size(mStore.getChildren(mStore.get(middleDir - 1).get().asDirectory())));
   }
 
+  @Test
+  public void checkpointRoundTrip() throws Exception {
+    writeInode(mRoot);
+    List<Long> expected = new ArrayList<>();
+    for (int id = 10; id < 10 + 2 * CACHE_SIZE; id++) {
+      MutableInodeFile file = inodeFile(id, 0, "file" + id);
+      writeInode(file);
+      writeEdge(mRoot, file);
+      expected.add((long) id);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    mStore.writeToCheckpoint(out);
+    mStore.clear();
+    assertFalse(mStore.get(0).isPresent());
+
+    mStore.restoreFromCheckpoint(
+        new CheckpointInputStream(new ByteArrayInputStream(out.toByteArray())));
+    assertEquals(Inode.wrap(mRoot), mStore.get(0).get());
+    List<Long> children = Lists.newArrayList(mStore.getChildIds(mRoot));
+    Collections.sort(children);
+    assertEquals(expected, children);
+    for (long id : expected) {
+      assertEquals(id, (long) mStore.getChildId(0L, "file" + id).get());
+    }
+  }
+
   private void writeInode(MutableInode<?> inode) {
     try (LockResource lr = mLockManager.lockInode(inode, LockMode.WRITE)) {
       mStore.writeInode(inode);
@@ -46,6 +46,7 @@ import org.mockito.Mockito;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -299,6 +300,31 @@ public class CachingInodeStoreMockedBackingStoreTest {
     assertEquals(CACHE_SIZE / 2, Iterables.size(mBackingStore.getChildren(0L)));
   }
 
+  @Test
+  public void parallelFlushToBackingStore() throws Exception {
+    try (Closeable c = new ConfigurationRule(ImmutableMap.of(
+        PropertyKey.MASTER_METASTORE_INODE_CACHE_FLUSH_THREADS, "4",
+        PropertyKey.MASTER_METASTORE_INODE_CACHE_FLUSH_BATCH_SIZE, "2"),
+        ServerConfiguration.global()).toResource()) {
+      InodeStore backingStore = spy(new HeapInodeStore());
+      CachingInodeStore store = new CachingInodeStore(backingStore, new InodeLockManager());
+      try {
+        for (long inodeId = 10; inodeId < 10 + CACHE_SIZE / 2; inodeId++) {
+          MutableInodeDirectory dir = MutableInodeDirectory.create(inodeId, 0,
+              Long.toString(inodeId), CreateDirectoryContext.defaults());
+          store.writeNewInode(dir);
+          store.addChild(0, dir);
+        }
+        store.mEdgeCache.flush();
+        store.mInodeCache.flush();
+        assertEquals(CACHE_SIZE / 2, Iterables.size(backingStore.getChildren(0L)));
+        verify(backingStore, times((int) CACHE_SIZE / 2)).writeInode(any());
+      } finally {
+        store.close();
+      }
+    }
+  }
+
   private MutableInodeDirectory createInodeDir(long id, long parentId) {
     MutableInodeDirectory dir = MutableInodeDirectory.create(id, parentId, Long.toString(id),
         CreateDirectoryContext.defaults());
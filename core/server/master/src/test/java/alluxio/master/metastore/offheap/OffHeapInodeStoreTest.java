@@ -0,0 +1,168 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.offheap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import alluxio.ConfigurationRule;
+import alluxio.Constants;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.master.file.contexts.CreateDirectoryContext;
+import alluxio.master.file.meta.MutableInodeDirectory;
+import alluxio.master.journal.checkpoint.CheckpointInputStream;
+import alluxio.master.journal.checkpoint.CheckpointType;
+import alluxio.metrics.MetricsSystem;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+
+public class OffHeapInodeStoreTest {
+  private final OffHeapInodeStore mStore = new OffHeapInodeStore(Constants.KB);
+
+  @After
+  public void after() {
+    mStore.close();
+  }
+
+  @Test
+  public void spansSlabs() {
+    for (int i = 1; i < 100; i++) {
+      mStore.writeInode(dir(i, 0, "dir" + i));
+      mStore.addChild(0, "dir" + i, (long) i);
+    }
+    for (int i = 1; i < 100; i++) {
+      assertEquals("dir" + i, mStore.get(i).get().getName());
+      assertEquals(i, (long) mStore.getChildId(0L, "dir" + i).get());
+    }
+    assertEquals(99, Iterables.size(mStore.getChildIds(0L)));
+  }
+
+  @Test
+  public void reusesFreedSpace() {
+    for (int i = 1; i < 100; i++) {
+      mStore.writeInode(dir(i, 0, "dir" + i));
+    }
+    long used = mStore.getOffHeapUsedBytes();
+    long allocated = mStore.getOffHeapAllocatedBytes();
+    for (int round = 0; round < 10; round++) {
+      for (int i = 1; i < 100; i++) {
+        mStore.remove((long) i);
+      }
+      for (int i = 1; i < 100; i++) {
+        mStore.writeInode(dir(i, 0, "dir" + i));
+      }
+    }
+    assertEquals(used, mStore.getOffHeapUsedBytes());
+    assertEquals(allocated, mStore.getOffHeapAllocatedBytes());
+  }
+
+  @Test
+  public void removeMiddleSibling() {
+    for (int i = 1; i <= 3; i++) {
+      mStore.writeInode(dir(i, 0, "dir" + i));
+      mStore.addChild(0, "dir" + i, (long) i);
+    }
+    mStore.removeChild(0, "dir2");
+    assertFalse(mStore.getChildId(0L, "dir2").isPresent());
+    assertEquals(2, Iterables.size(mStore.getChildIds(0L)));
+    mStore.removeChild(0, "dir1");
+    mStore.removeChild(0, "dir3");
+    assertEquals(0, Iterables.size(mStore.getChildIds(0L)));
+  }
+
+  @Test
+  public void checkpointRoundTrip() throws Exception {
+    checkpointRoundTrip(CheckpointType.INODE_PROTOS);
+  }
+
+  @Test
+  public void compressedCheckpointRoundTrip() throws Exception {
+    try (Closeable c = new ConfigurationRule(ImmutableMap.of(
+        PropertyKey.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_ENABLED, "true",
+        PropertyKey.MASTER_JOURNAL_CHECKPOINT_COMPRESSION_BLOCK_RECORDS, "8"),
+        ServerConfiguration.global()).toResource()) {
+      checkpointRoundTrip(CheckpointType.COMPRESSED_INODE_PROTOS);
+    }
+  }
+
+  @Test
+  public void rejectsRecordLargerThanSlab() {
+    mStore.writeInode(dir(1, 0, "dir1"));
+    MutableInodeDirectory large = dir(1, 0, Strings.repeat("a", Constants.KB));
+    try {
+      mStore.writeInode(large);
+      fail("Inodes larger than a slab should be rejected");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains(PropertyKey.Name.MASTER_METASTORE_OFF_HEAP_SLAB_SIZE));
+    }
+    // The rejected write leaves the previous inode in place.
+    assertEquals("dir1", mStore.get(1).get().getName());
+  }
+
+  @Test
+  public void gaugesFollowOpenStore() {
+    String name = MetricsSystem.getMetricName("off-heap-inode-store-used-bytes");
+    OffHeapInodeStore other = new OffHeapInodeStore(Constants.KB);
+    other.writeInode(dir(1, 0, "dir1"));
+    assertEquals(other.getOffHeapUsedBytes(),
+        MetricsSystem.METRIC_REGISTRY.getGauges().get(name).getValue());
+    other.close();
+    assertFalse(MetricsSystem.METRIC_REGISTRY.getGauges().containsKey(name));
+    OffHeapInodeStore another = new OffHeapInodeStore(Constants.KB);
+    try {
+      assertEquals(0L, MetricsSystem.METRIC_REGISTRY.getGauges().get(name).getValue());
+    } finally {
+      another.close();
+    }
+  }
+
+  private void checkpointRoundTrip(CheckpointType type) throws Exception {
+    mStore.writeInode(dir(0, -1, ""));
+    mStore.addChild(-1, "", 0L);
+    for (int i = 1; i < 50; i++) {
+      mStore.writeInode(dir(i, 0, "dir" + i));
+      mStore.addChild(0, "dir" + i, (long) i);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    mStore.writeToCheckpoint(out);
+
+    OffHeapInodeStore restored = new OffHeapInodeStore(Constants.KB);
+    try {
+      CheckpointInputStream in =
+          new CheckpointInputStream(new ByteArrayInputStream(out.toByteArray()));
+      assertEquals(type, in.getType());
+      restored.restoreFromCheckpoint(in);
+      assertEquals(mStore.allInodes(), restored.allInodes());
+      assertEquals(mStore.allEdges().size(), restored.allEdges().size());
+      for (int i = 1; i < 50; i++) {
+        assertEquals(i, (long) restored.getChildId(0L, "dir" + i).get());
+      }
+    } finally {
+      restored.close();
+    }
+  }
+
+  private static MutableInodeDirectory dir(long id, long parentId, String name) {
+    return MutableInodeDirectory.create(id, parentId, name, CreateDirectoryContext.defaults());
+  }
+}
@@ -12,8 +12,15 @@
 package alluxio.master.metastore.rocks;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.master.journal.checkpoint.CheckpointInputStream;
+import alluxio.master.journal.checkpoint.CheckpointType;
+import alluxio.resource.CloseableResource;
 
 import com.google.common.primitives.Longs;
 import org.junit.Rule;
@@ -24,14 +31,21 @@ import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
+import org.rocksdb.FlushOptions;
 import org.rocksdb.HashLinkedListMemTableConfig;
 import org.rocksdb.RocksDB;
 import org.rocksdb.WriteOptions;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class RocksStoreTest {
@@ -77,4 +91,157 @@ public class RocksStoreTest {
       assertArrayEquals("b".getBytes(), db.get(testColumn.get(), ("a" + i).getBytes()));
     }
   }
+
+  @Test
+  public void incrementalBackupRestore() throws Exception {
+    ServerConfiguration.set(PropertyKey.MASTER_METASTORE_ROCKS_CHECKPOINT_INCREMENTAL, true);
+    try {
+      ColumnFamilyOptions cfOpts = new ColumnFamilyOptions()
+          .setCompressionType(CompressionType.NO_COMPRESSION);
+      DBOptions dbOpts = new DBOptions()
+          .setCreateIfMissing(true)
+          .setCreateMissingColumnFamilies(true);
+      List<ColumnFamilyDescriptor> columnDescriptors =
+          Arrays.asList(new ColumnFamilyDescriptor("test".getBytes(), cfOpts));
+      String dbDir = mFolder.newFolder("rocks").getAbsolutePath();
+      String backupsDir = mFolder.newFolder("rocks-backups").getAbsolutePath();
+      AtomicReference<ColumnFamilyHandle> testColumn = new AtomicReference<>();
+      RocksStore store =
+          new RocksStore(dbDir, backupsDir, columnDescriptors, dbOpts, Arrays.asList(testColumn));
+      RocksDB db = store.getDb();
+      int count = 10;
+      for (int i = 0; i < count; i++) {
+        db.put(testColumn.get(), ("a" + i).getBytes(), "b".getBytes());
+      }
+      // Flush so that the data is in an SST file which the restore can reuse.
+      db.flush(new FlushOptions().setWaitForFlush(true), testColumn.get());
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      store.writeToCheckpoint(baos);
+      CheckpointInputStream checkpoint =
+          new CheckpointInputStream(new ByteArrayInputStream(baos.toByteArray()));
+      assertEquals(CheckpointType.ROCKS_SST, checkpoint.getType());
+
+      // Restore into the same store, whose local SST files match the checkpoint.
+      store.getDb().put(testColumn.get(), "c".getBytes(), "d".getBytes());
+      store.restoreFromCheckpoint(checkpoint);
+      db = store.getDb();
+      for (int i = 0; i < count; i++) {
+        assertArrayEquals("b".getBytes(), db.get(testColumn.get(), ("a" + i).getBytes()));
+      }
+      assertNull(db.get(testColumn.get(), "c".getBytes()));
+      store.close();
+
+      // Restore into a store without any local files.
+      String newDbDir = mFolder.newFolder("rocks-new").getAbsolutePath();
+      String newBackupsDir = mFolder.newFolder("rocks-new-backups").getAbsolutePath();
+      store = new RocksStore(newDbDir, newBackupsDir, columnDescriptors, dbOpts,
+          Arrays.asList(testColumn));
+      store.restoreFromCheckpoint(
+          new CheckpointInputStream(new ByteArrayInputStream(baos.toByteArray())));
+      db = store.getDb();
+      for (int i = 0; i < count; i++) {
+        assertArrayEquals("b".getBytes(), db.get(testColumn.get(), ("a" + i).getBytes()));
+      }
+      store.close();
+    } finally {
+      ServerConfiguration.reset();
+    }
+  }
+
+  @Test
+  public void incrementalCheckpointRestore() throws Exception {
+    ServerConfiguration.set(PropertyKey.MASTER_METASTORE_ROCKS_CHECKPOINT_INCREMENTAL, true);
+    try {
+      ColumnFamilyOptions cfOpts = new ColumnFamilyOptions()
+          .setCompressionType(CompressionType.NO_COMPRESSION);
+      DBOptions dbOpts = new DBOptions()
+          .setCreateIfMissing(true)
+          .setCreateMissingColumnFamilies(true);
+      List<ColumnFamilyDescriptor> columnDescriptors =
+          Arrays.asList(new ColumnFamilyDescriptor("test".getBytes(), cfOpts));
+      String backupsDir = mFolder.newFolder("rocks-backups").getAbsolutePath();
+      AtomicReference<ColumnFamilyHandle> testColumn = new AtomicReference<>();
+      RocksStore writer = new RocksStore(mFolder.newFolder("rocks").getAbsolutePath(),
+          backupsDir, columnDescriptors, dbOpts, Arrays.asList(testColumn));
+      RocksDB db = writer.getDb();
+      db.put(testColumn.get(), "a".getBytes(), "b".getBytes());
+      db.flush(new FlushOptions().setWaitForFlush(true), testColumn.get());
+      ByteArrayOutputStream first = new ByteArrayOutputStream();
+      writer.writeToCheckpoint(first);
+      // The hard-linked checkpoint directory is removed once the checkpoint is written.
+      assertFalse(new File(backupsDir).exists());
+
+      AtomicReference<ColumnFamilyHandle> readerColumn = new AtomicReference<>();
+      RocksStore reader = new RocksStore(mFolder.newFolder("rocks-reader").getAbsolutePath(),
+          mFolder.newFolder("rocks-reader-backups").getAbsolutePath(), columnDescriptors,
+          dbOpts, Arrays.asList(readerColumn));
+      reader.restoreFromCheckpoint(
+          new CheckpointInputStream(new ByteArrayInputStream(first.toByteArray())));
+
+      // The second restore links the SST file it already holds from the first one.
+      db = writer.getDb();
+      db.put(testColumn.get(), "c".getBytes(), "d".getBytes());
+      db.flush(new FlushOptions().setWaitForFlush(true), testColumn.get());
+      ByteArrayOutputStream second = new ByteArrayOutputStream();
+      writer.writeToCheckpoint(second);
+      reader.restoreFromCheckpoint(
+          new CheckpointInputStream(new ByteArrayInputStream(second.toByteArray())));
+      db = reader.getDb();
+      assertArrayEquals("b".getBytes(), db.get(readerColumn.get(), "a".getBytes()));
+      assertArrayEquals("d".getBytes(), db.get(readerColumn.get(), "c".getBytes()));
+      writer.close();
+      reader.close();
+    } finally {
+      ServerConfiguration.reset();
+    }
+  }
+
+  @Test
+  public void readDuringClear() throws Exception {
+    ColumnFamilyOptions cfOpts = new ColumnFamilyOptions()
+        .setMemTableConfig(new HashLinkedListMemTableConfig())
+        .useFixedLengthPrefixExtractor(Longs.BYTES);
+    DBOptions dbOpts = new DBOptions()
+        .setAllowConcurrentMemtableWrite(false)
+        .setCreateIfMissing(true)
+        .setCreateMissingColumnFamilies(true);
+    List<ColumnFamilyDescriptor> columnDescriptors =
+        Arrays.asList(new ColumnFamilyDescriptor("test".getBytes(), cfOpts));
+    String dbDir = mFolder.newFolder("rocks").getAbsolutePath();
+    String backupsDir = mFolder.newFolder("rocks-backups").getAbsolutePath();
+    AtomicReference<ColumnFamilyHandle> testColumn = new AtomicReference<>();
+    RocksStore store =
+        new RocksStore(dbDir, backupsDir, columnDescriptors, dbOpts, Arrays.asList(testColumn));
+
+    AtomicBoolean done = new AtomicBoolean(false);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> readers = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        readers.add(executor.submit(() -> {
+          while (!done.get()) {
+            // Each read must see an open database and column handle.
+            try (CloseableResource<RocksDB> db = store.acquireDb()) {
+              db.get().get(testColumn.get(), "missing".getBytes());
+            }
+          }
+          return null;
+        }));
+      }
+      for (int i = 0; i < 20; i++) {
+        store.clear();
+      }
+      done.set(true);
+      for (Future<?> reader : readers) {
+        reader.get();
+      }
+      try (CloseableResource<RocksDB> db = store.acquireDb()) {
+        assertNull(db.get().get(testColumn.get(), "missing".getBytes()));
+      }
+    } finally {
+      done.set(true);
+      executor.shutdownNow();
+      store.close();
+    }
+  }
 }
@@ -107,7 +107,7 @@ public class ListBucketResult {
         mNextContinuationToken = objectKey;
         return;
       }
-      if (mContinuationToken != null && objectKey.compareTo(mContinuationToken) < 0) {
+      if (mContinuationToken != null && compareKeys(objectKey, mContinuationToken) < 0) {
         continue;
       }
       if (mPrefix != null && !objectKey.startsWith(mPrefix)) {
@@ -385,10 +385,31 @@ public class ListBucketResult {
     }
   }
 
+  /**
+   * Compares object keys one path segment at a time, which is the order in which the objects of
+   * a bucket are listed.
+   *
+   * @param key1 the first key
+   * @param key2 the second key
+   * @return a negative number, zero, or a positive number as key1 is before, equal to, or after
+   *         key2
+   */
+  private static int compareKeys(String key1, String key2) {
+    String[] segments1 = key1.split(AlluxioURI.SEPARATOR, -1);
+    String[] segments2 = key2.split(AlluxioURI.SEPARATOR, -1);
+    for (int i = 0; i < Math.min(segments1.length, segments2.length); i++) {
+      int cmp = segments1[i].compareTo(segments2[i]);
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+    return Integer.compare(segments1.length, segments2.length);
+  }
+
   private class URIStatusComparator implements Comparator<URIStatus> {
     @Override
     public int compare(URIStatus o1, URIStatus o2) {
-      return o1.getPath().compareTo(o2.getPath());
+      return compareKeys(o1.getPath(), o2.getPath());
     }
 
     /**
@@ -19,6 +19,7 @@ import alluxio.client.WriteType;
 import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileOutStream;
 import alluxio.client.file.FileSystem;
+import alluxio.client.file.ListStatusPartialResult;
 import alluxio.client.file.URIStatus;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.DirectoryNotEmptyException;
@@ -28,6 +29,7 @@ import alluxio.exception.InvalidPathException;
 import alluxio.grpc.CreateDirectoryPOptions;
 import alluxio.grpc.CreateFilePOptions;
 import alluxio.grpc.DeletePOptions;
+import alluxio.grpc.ListStatusPOptions;
 import alluxio.grpc.WritePType;
 import alluxio.web.ProxyWebServer;
 
@@ -40,14 +42,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
-import java.util.Queue;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 import javax.servlet.ServletContext;
 import javax.ws.rs.Consumes;
@@ -188,7 +189,10 @@ public final class S3RestServiceHandler {
             .setMaxKeys(maxKeys)
             .setPrefix(prefix);
         try {
-          objects = listObjects(new AlluxioURI(bucketPath), listBucketOptions);
+          int limit =
+              maxKeys == null ? S3Constants.S3_DEFAULT_MAX_KEYS : Integer.parseInt(maxKeys);
+          // One extra object tells the result whether the listing is truncated.
+          objects = listObjects(new AlluxioURI(bucketPath), listBucketOptions, limit + 1);
           ListBucketResult response = new ListBucketResult(bucketPath, objects, listBucketOptions);
           return response;
         } catch (Exception e) {
@@ -626,40 +630,133 @@ public final class S3RestServiceHandler {
     }
   }
 
-  private List<URIStatus> listObjects(AlluxioURI uri, ListBucketOptions listBucketOptions)
-      throws FileDoesNotExistException, IOException, AlluxioException {
+  // Lists the objects of a bucket in key order, where keys are compared one path segment at a
+  // time. Only objects that match the prefix and are not before the continuation token are
+  // listed, and the walk stops once limit objects have been found. Directories are listed a page
+  // at a time, so each request reads a bounded part of the bucket no matter how large it is.
+  private List<URIStatus> listObjects(AlluxioURI uri, ListBucketOptions listBucketOptions,
+      int limit) throws IOException, AlluxioException {
     List<URIStatus> objects = new ArrayList<>();
-    Queue<URIStatus> traverseQueue = new ArrayDeque<>();
-
-    List<URIStatus> children;
-    String prefix = listBucketOptions.getPrefix();
-    if (prefix != null && prefix.contains(AlluxioURI.SEPARATOR)) {
-      AlluxioURI prefixDirUri = new AlluxioURI(uri.getPath() + AlluxioURI.SEPARATOR
-          + prefix.substring(0, prefix.lastIndexOf(AlluxioURI.SEPARATOR)));
-      children = mFileSystem.listStatus(prefixDirUri);
-    } else {
-      children = mFileSystem.listStatus(uri);
+    String prefix = listBucketOptions.getPrefix() == null ? "" : listBucketOptions.getPrefix();
+    String token = listBucketOptions.getContinuationToken();
+    String[] tokenSegments = token == null ? null : token.split(AlluxioURI.SEPARATOR, -1);
+    listObjects(uri, "", prefix, tokenSegments, limit, objects);
+    return objects;
+  }
+
+  // Walks the directory whose objects have keys starting with dirKey. The token segments are the
+  // ones left after descending to this directory, or null once every remaining key is after the
+  // token. Returns whether the directory has any entries.
+  private boolean listObjects(AlluxioURI dir, String dirKey, String prefix,
+      @Nullable String[] token, int limit, List<URIStatus> objects)
+      throws IOException, AlluxioException {
+    int depth = dirKey.isEmpty() ? 0 : dirKey.split(AlluxioURI.SEPARATOR).length;
+    String tokenSegment = token != null && depth < token.length ? token[depth] : null;
+    String prefixRemainder = prefix.length() > dirKey.length()
+        ? prefix.substring(dirKey.length()) : "";
+    int separator = prefixRemainder.indexOf(AlluxioURI.SEPARATOR);
+    if (separator >= 0) {
+      // The prefix names a single child directory at this level, so only that child can hold
+      // matching keys.
+      String name = prefixRemainder.substring(0, separator);
+      if (tokenSegment != null) {
+        int cmp = name.compareTo(tokenSegment);
+        if (cmp < 0) {
+          return false;
+        }
+        if (cmp > 0) {
+          token = null;
+        }
+      }
+      URIStatus child = getStatusOrNull(new AlluxioURI(dir.getPath() + AlluxioURI.SEPARATOR
+          + name));
+      if (child != null && child.isFolder()) {
+        listChildObjects(child, dirKey, prefix, token, limit, objects);
+      }
+      return child != null;
     }
-    traverseQueue.addAll(children);
-    while (!traverseQueue.isEmpty()) {
-      URIStatus cur = traverseQueue.remove();
-      if (!cur.isFolder()) {
-        // Alluxio file is an object.
-        objects.add(cur);
-      } else if (!cur.getName().endsWith(Constants.S3_MULTIPART_TEMPORARY_DIR_SUFFIX)) {
-        // The directory is not a temporary directory of multipart upload, list recursively.
-        List<URIStatus> curChildren = mFileSystem.listStatus(new AlluxioURI(cur.getPath()));
-        if (curChildren.isEmpty()) {
-          // An empty Alluxio directory is considered as a valid object.
-          objects.add(cur);
+
+    boolean hasEntries = false;
+    String startAfter = null;
+    if (tokenSegment != null && !tokenSegment.isEmpty()) {
+      // Entries named before the token segment only hold keys before the token. Listings start
+      // strictly after a name, so the entry named by the token segment is looked up directly.
+      URIStatus child = getStatusOrNull(new AlluxioURI(dir.getPath() + AlluxioURI.SEPARATOR
+          + tokenSegment));
+      if (child != null) {
+        hasEntries = true;
+        if (child.isFolder()) {
+          listChildObjects(child, dirKey, prefix, token, limit, objects);
+        } else if (depth == token.length - 1) {
+          addObject(child, dirKey, prefix, objects);
+        }
+      }
+      startAfter = tokenSegment;
+    }
+    while (objects.size() < limit) {
+      ListStatusPOptions.Builder options = ListStatusPOptions.newBuilder()
+          .setBatchSize(limit - objects.size());
+      if (startAfter != null) {
+        options.setStartAfter(startAfter);
+      }
+      ListStatusPartialResult page = mFileSystem.listStatusPartial(dir, options.build());
+      for (URIStatus child : page.getListings()) {
+        if (objects.size() >= limit) {
+          break;
+        }
+        hasEntries = true;
+        if (child.isFolder()) {
+          listChildObjects(child, dirKey, prefix, null, limit, objects);
         } else {
-          traverseQueue.addAll(curChildren);
+          addObject(child, dirKey, prefix, objects);
         }
       }
+      if (!page.isTruncated()) {
+        break;
+      }
+      startAfter = page.getContinuationToken();
+    }
+    return hasEntries;
+  }
+
+  private void listChildObjects(URIStatus child, String dirKey, String prefix,
+      @Nullable String[] token, int limit, List<URIStatus> objects)
+      throws IOException, AlluxioException {
+    if (child.getName().endsWith(Constants.S3_MULTIPART_TEMPORARY_DIR_SUFFIX)) {
+      // The directory is a temporary directory of multipart upload.
+      return;
+    }
+    String key = dirKey + child.getName();
+    String childDirKey = key + AlluxioURI.SEPARATOR;
+    if (!childDirKey.startsWith(prefix) && !prefix.startsWith(childDirKey)) {
+      return;
+    }
+    boolean hasEntries = listObjects(new AlluxioURI(child.getPath()), childDirKey, prefix, token,
+        limit, objects);
+    int depth = childDirKey.split(AlluxioURI.SEPARATOR).length;
+    if (!hasEntries && (token == null || depth >= token.length) && objects.size() < limit) {
+      // An empty Alluxio directory is considered as a valid object.
+      addObject(child, dirKey, prefix, objects);
     }
-    return objects;
   }
 
+  private void addObject(URIStatus status, String dirKey, String prefix,
+      List<URIStatus> objects) {
+    if ((dirKey + status.getName()).startsWith(prefix)) {
+      objects.add(status);
+    }
+  }
+
+  @Nullable
+  private URIStatus getStatusOrNull(AlluxioURI uri) throws IOException, AlluxioException {
+    try {
+      return mFileSystem.getStatus(uri);
+    } catch (FileDoesNotExistException e) {
+      return null;
+    }
+  }
+
+
   private WritePType getS3WriteType() {
     return ServerConfiguration.getEnum(PropertyKey.PROXY_S3_WRITE_TYPE, WriteType.class).toProto();
   }
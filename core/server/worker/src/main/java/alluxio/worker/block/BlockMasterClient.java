@@ -13,6 +13,7 @@ package alluxio.worker.block;
 
 import alluxio.AbstractMasterClient;
 import alluxio.Constants;
+import alluxio.conf.PropertyKey;
 import alluxio.grpc.BlockHeartbeatPOptions;
 import alluxio.grpc.BlockHeartbeatPRequest;
 import alluxio.grpc.BlockIdList;
@@ -27,16 +28,34 @@ import alluxio.grpc.LocationBlockIdListEntry;
 import alluxio.grpc.Metric;
 import alluxio.grpc.RegisterWorkerPOptions;
 import alluxio.grpc.RegisterWorkerPRequest;
+import alluxio.grpc.RegisterWorkerPResponse;
 import alluxio.grpc.ServiceType;
 import alluxio.grpc.StorageList;
 import alluxio.master.MasterClientContext;
 import alluxio.grpc.GrpcUtils;
+import alluxio.resource.LockResource;
 import alluxio.wire.WorkerNetAddress;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.SettableFuture;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -47,7 +66,10 @@ import javax.annotation.concurrent.ThreadSafe;
  */
 @ThreadSafe
 public final class BlockMasterClient extends AbstractMasterClient {
+  private static final Logger LOG = LoggerFactory.getLogger(BlockMasterClient.class);
+
   private BlockMasterWorkerServiceGrpc.BlockMasterWorkerServiceBlockingStub mClient = null;
+  private BlockMasterWorkerServiceGrpc.BlockMasterWorkerServiceStub mAsyncClient = null;
 
   /**
    * Creates a new instance of {@link BlockMasterClient} for the worker.
@@ -76,6 +98,7 @@ public final class BlockMasterClient extends AbstractMasterClient {
   @Override
   protected void afterConnect() throws IOException {
     mClient = BlockMasterWorkerServiceGrpc.newBlockingStub(mChannel);
+    mAsyncClient = BlockMasterWorkerServiceGrpc.newStub(mChannel);
   }
 
   /**
@@ -185,7 +208,9 @@ public final class BlockMasterClient extends AbstractMasterClient {
   }
 
   /**
-   * The method the worker should execute to register with the block master.
+   * The method the worker should execute to register with the block master. The block lists are
+   * streamed to the master in messages of at most
+   * {@link PropertyKey#WORKER_REGISTER_STREAM_BATCH_SIZE} block ids each.
    *
    * @param workerId the worker id of the worker registering
    * @param storageTierAliases a list of storage tier aliases in ordinal order
@@ -205,23 +230,176 @@ public final class BlockMasterClient extends AbstractMasterClient {
     final RegisterWorkerPOptions options =
         RegisterWorkerPOptions.newBuilder().addAllConfigs(configList).build();
 
-    final List<LocationBlockIdListEntry> currentBlocks
-        = convertBlockListMapToProto(currentBlocksOnLocation);
+    final List<LocationBlockIdListEntry> currentBlocks =
+        convertBlockListMapToProto(currentBlocksOnLocation);
+    final List<List<LocationBlockIdListEntry>> currentBlockChunks = partitionBlockLists(
+        currentBlocks,
+        mContext.getClusterConf().getInt(PropertyKey.WORKER_REGISTER_STREAM_BATCH_SIZE));
 
     final Map<String, StorageList> lostStorageMap = lostStorage.entrySet().stream()
         .collect(Collectors.toMap(Map.Entry::getKey,
             e -> StorageList.newBuilder().addAllStorage(e.getValue()).build()));
 
-    final RegisterWorkerPRequest request = RegisterWorkerPRequest.newBuilder().setWorkerId(workerId)
+    // Only the first request carries the worker metadata, later ones just carry more blocks.
+    final List<RegisterWorkerPRequest> requests = new ArrayList<>(currentBlockChunks.size());
+    requests.add(RegisterWorkerPRequest.newBuilder().setWorkerId(workerId)
         .addAllStorageTiers(storageTierAliases).putAllTotalBytesOnTiers(totalBytesOnTiers)
         .putAllUsedBytesOnTiers(usedBytesOnTiers)
-        .addAllCurrentBlocks(currentBlocks)
+        .addAllCurrentBlocks(currentBlockChunks.get(0))
         .putAllLostStorage(lostStorageMap)
-        .setOptions(options).build();
+        .setOptions(options).build());
+    for (List<LocationBlockIdListEntry> chunk
+        : currentBlockChunks.subList(1, currentBlockChunks.size())) {
+      requests.add(RegisterWorkerPRequest.newBuilder().setWorkerId(workerId)
+          .addAllCurrentBlocks(chunk).build());
+    }
 
+    final long timeoutMs =
+        mContext.getClusterConf().getMs(PropertyKey.WORKER_REGISTER_STREAM_TIMEOUT);
     retryRPC(() -> {
-      mClient.registerWorker(request);
+      try {
+        registerStream(requests, timeoutMs);
+      } catch (StatusRuntimeException e) {
+        if (e.getStatus().getCode() != Status.Code.UNIMPLEMENTED) {
+          throw e;
+        }
+        // Masters older than the streamed registration only take the whole report at once. The
+        // unsplit block lists are sent, since those masters expect one list per location.
+        LOG.info("Master does not support streamed registration, registering worker {} with a "
+            + "single request", workerId);
+        mClient.registerWorker(requests.get(0).toBuilder().clearCurrentBlocks()
+            .addAllCurrentBlocks(currentBlocks).build());
+      }
       return null;
     });
   }
+
+  /**
+   * Sends the given requests over one registration stream and waits for the master to complete
+   * the registration.
+   *
+   * @param requests the requests to send
+   * @param timeoutMs the deadline of the stream
+   */
+  private void registerStream(List<RegisterWorkerPRequest> requests, long timeoutMs)
+      throws StatusRuntimeException {
+    RegisterResponseObserver responseObserver = new RegisterResponseObserver();
+    StreamObserver<RegisterWorkerPRequest> requestObserver =
+        mAsyncClient.withDeadlineAfter(timeoutMs, TimeUnit.MILLISECONDS)
+            .registerWorkerStream(responseObserver);
+    try {
+      for (RegisterWorkerPRequest request : requests) {
+        // Only send when the stream can take the request without buffering it, and stop sending
+        // early if the master has already failed the registration.
+        if (!responseObserver.awaitReady()) {
+          break;
+        }
+        requestObserver.onNext(request);
+      }
+      requestObserver.onCompleted();
+      responseObserver.mRegistered.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      requestObserver.onError(e);
+      throw Status.CANCELLED.withDescription("Interrupted while registering with the master")
+          .withCause(e).asRuntimeException();
+    } catch (ExecutionException e) {
+      throw Status.fromThrowable(e.getCause()).asRuntimeException();
+    } catch (RuntimeException e) {
+      requestObserver.onError(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Observes the response of a registration stream, and tracks whether the stream is ready for
+   * more requests.
+   */
+  private static final class RegisterResponseObserver
+      implements ClientResponseObserver<RegisterWorkerPRequest, RegisterWorkerPResponse> {
+    private final SettableFuture<Void> mRegistered = SettableFuture.create();
+    private final Lock mLock = new ReentrantLock();
+    /** Signalled when the stream becomes ready or the registration completes. */
+    private final Condition mReadyOrDone = mLock.newCondition();
+    private ClientCallStreamObserver<RegisterWorkerPRequest> mRequestStream;
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<RegisterWorkerPRequest> requestStream) {
+      mRequestStream = requestStream;
+      requestStream.setOnReadyHandler(this::signal);
+    }
+
+    /**
+     * Waits until the stream is ready for another request. The stream deadline bounds the wait,
+     * since it completes the registration with an error.
+     *
+     * @return true if the stream is ready, false if the registration has already completed
+     */
+    boolean awaitReady() throws InterruptedException {
+      try (LockResource lr = new LockResource(mLock)) {
+        while (!mRegistered.isDone() && !mRequestStream.isReady()) {
+          mReadyOrDone.await();
+        }
+      }
+      return !mRegistered.isDone();
+    }
+
+    @Override
+    public void onNext(RegisterWorkerPResponse response) {}
+
+    @Override
+    public void onError(Throwable t) {
+      mRegistered.setException(t);
+      signal();
+    }
+
+    @Override
+    public void onCompleted() {
+      mRegistered.set(null);
+      signal();
+    }
+
+    private void signal() {
+      try (LockResource lr = new LockResource(mLock)) {
+        mReadyOrDone.signalAll();
+      }
+    }
+  }
+
+  /**
+   * Splits block lists into chunks holding at most the given number of block ids in total. A
+   * location's block list may be spread over consecutive chunks. There is always at least one
+   * chunk, which may be empty.
+   *
+   * @param entries the block lists of each location
+   * @param batchSize the maximum number of block ids in a chunk
+   * @return the chunks
+   */
+  @VisibleForTesting
+  static List<List<LocationBlockIdListEntry>> partitionBlockLists(
+      List<LocationBlockIdListEntry> entries, int batchSize) {
+    Preconditions.checkArgument(batchSize > 0, "batchSize must be positive");
+    List<List<LocationBlockIdListEntry>> chunks = new ArrayList<>();
+    List<LocationBlockIdListEntry> chunk = new ArrayList<>();
+    int chunkBlocks = 0;
+    for (LocationBlockIdListEntry entry : entries) {
+      List<Long> blockIds = entry.getValue().getBlockIdList();
+      int start = 0;
+      while (start < blockIds.size()) {
+        if (chunkBlocks == batchSize) {
+          chunks.add(chunk);
+          chunk = new ArrayList<>();
+          chunkBlocks = 0;
+        }
+        int end = Math.min(blockIds.size(), start + batchSize - chunkBlocks);
+        chunk.add(LocationBlockIdListEntry.newBuilder().setKey(entry.getKey())
+            .setValue(BlockIdList.newBuilder().addAllBlockId(blockIds.subList(start, end)))
+            .build());
+        chunkBlocks += end - start;
+        start = end;
+      }
+    }
+    chunks.add(chunk);
+    return chunks;
+  }
 }
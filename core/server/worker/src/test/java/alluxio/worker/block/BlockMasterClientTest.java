@@ -0,0 +1,60 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.grpc.BlockIdList;
+import alluxio.grpc.BlockStoreLocationProto;
+import alluxio.grpc.LocationBlockIdListEntry;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link BlockMasterClient}.
+ */
+public final class BlockMasterClientTest {
+  private static final BlockStoreLocationProto MEM =
+      BlockStoreLocationProto.newBuilder().setTierAlias("MEM").setMediumType("MEM").build();
+  private static final BlockStoreLocationProto SSD =
+      BlockStoreLocationProto.newBuilder().setTierAlias("SSD").setMediumType("SSD").build();
+
+  @Test
+  public void partitionEmptyBlockLists() {
+    List<List<LocationBlockIdListEntry>> chunks =
+        BlockMasterClient.partitionBlockLists(ImmutableList.of(), 2);
+    assertEquals(1, chunks.size());
+    assertTrue(chunks.get(0).isEmpty());
+  }
+
+  @Test
+  public void partitionSplitsLocationsAcrossChunks() {
+    List<List<LocationBlockIdListEntry>> chunks = BlockMasterClient.partitionBlockLists(
+        ImmutableList.of(entry(MEM, 1L, 2L, 3L), entry(SSD, 4L, 5L)), 2);
+
+    assertEquals(3, chunks.size());
+    assertEquals(ImmutableList.of(entry(MEM, 1L, 2L)), chunks.get(0));
+    assertEquals(ImmutableList.of(entry(MEM, 3L), entry(SSD, 4L)), chunks.get(1));
+    assertEquals(ImmutableList.of(entry(SSD, 5L)), chunks.get(2));
+  }
+
+  private static LocationBlockIdListEntry entry(BlockStoreLocationProto location,
+      Long... blockIds) {
+    return LocationBlockIdListEntry.newBuilder().setKey(location)
+        .setValue(BlockIdList.newBuilder().addAllBlockId(ImmutableList.copyOf(blockIds)))
+        .build();
+  }
+}
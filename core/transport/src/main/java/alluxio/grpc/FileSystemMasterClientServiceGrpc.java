@@ -735,6 +735,134 @@ public final class FileSystemMasterClientServiceGrpc {
      return getUpdateUfsModeMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<alluxio.grpc.GetStatusBatchPRequest,
+      alluxio.grpc.GetStatusBatchPResponse> getGetStatusBatchMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetStatusBatch",
+      requestType = alluxio.grpc.GetStatusBatchPRequest.class,
+      responseType = alluxio.grpc.GetStatusBatchPResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<alluxio.grpc.GetStatusBatchPRequest,
+      alluxio.grpc.GetStatusBatchPResponse> getGetStatusBatchMethod() {
+    io.grpc.MethodDescriptor<alluxio.grpc.GetStatusBatchPRequest, alluxio.grpc.GetStatusBatchPResponse> getGetStatusBatchMethod;
+    if ((getGetStatusBatchMethod = FileSystemMasterClientServiceGrpc.getGetStatusBatchMethod) == null) {
+      synchronized (FileSystemMasterClientServiceGrpc.class) {
+        if ((getGetStatusBatchMethod = FileSystemMasterClientServiceGrpc.getGetStatusBatchMethod) == null) {
+          FileSystemMasterClientServiceGrpc.getGetStatusBatchMethod = getGetStatusBatchMethod = 
+              io.grpc.MethodDescriptor.<alluxio.grpc.GetStatusBatchPRequest, alluxio.grpc.GetStatusBatchPResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "alluxio.grpc.file.FileSystemMasterClientService", "GetStatusBatch"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  alluxio.grpc.GetStatusBatchPRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  alluxio.grpc.GetStatusBatchPResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new FileSystemMasterClientServiceMethodDescriptorSupplier("GetStatusBatch"))
+                  .build();
+          }
+        }
+     }
+     return getGetStatusBatchMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<alluxio.grpc.DeleteBatchPRequest,
+      alluxio.grpc.DeleteBatchPResponse> getRemoveBatchMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "RemoveBatch",
+      requestType = alluxio.grpc.DeleteBatchPRequest.class,
+      responseType = alluxio.grpc.DeleteBatchPResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<alluxio.grpc.DeleteBatchPRequest,
+      alluxio.grpc.DeleteBatchPResponse> getRemoveBatchMethod() {
+    io.grpc.MethodDescriptor<alluxio.grpc.DeleteBatchPRequest, alluxio.grpc.DeleteBatchPResponse> getRemoveBatchMethod;
+    if ((getRemoveBatchMethod = FileSystemMasterClientServiceGrpc.getRemoveBatchMethod) == null) {
+      synchronized (FileSystemMasterClientServiceGrpc.class) {
+        if ((getRemoveBatchMethod = FileSystemMasterClientServiceGrpc.getRemoveBatchMethod) == null) {
+          FileSystemMasterClientServiceGrpc.getRemoveBatchMethod = getRemoveBatchMethod = 
+              io.grpc.MethodDescriptor.<alluxio.grpc.DeleteBatchPRequest, alluxio.grpc.DeleteBatchPResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "alluxio.grpc.file.FileSystemMasterClientService", "RemoveBatch"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  alluxio.grpc.DeleteBatchPRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  alluxio.grpc.DeleteBatchPResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new FileSystemMasterClientServiceMethodDescriptorSupplier("RemoveBatch"))
+                  .build();
+          }
+        }
+     }
+     return getRemoveBatchMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<alluxio.grpc.SetAttributeBatchPRequest,
+      alluxio.grpc.SetAttributeBatchPResponse> getSetAttributeBatchMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "SetAttributeBatch",
+      requestType = alluxio.grpc.SetAttributeBatchPRequest.class,
+      responseType = alluxio.grpc.SetAttributeBatchPResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<alluxio.grpc.SetAttributeBatchPRequest,
+      alluxio.grpc.SetAttributeBatchPResponse> getSetAttributeBatchMethod() {
+    io.grpc.MethodDescriptor<alluxio.grpc.SetAttributeBatchPRequest, alluxio.grpc.SetAttributeBatchPResponse> getSetAttributeBatchMethod;
+    if ((getSetAttributeBatchMethod = FileSystemMasterClientServiceGrpc.getSetAttributeBatchMethod) == null) {
+      synchronized (FileSystemMasterClientServiceGrpc.class) {
+        if ((getSetAttributeBatchMethod = FileSystemMasterClientServiceGrpc.getSetAttributeBatchMethod) == null) {
+          FileSystemMasterClientServiceGrpc.getSetAttributeBatchMethod = getSetAttributeBatchMethod = 
+              io.grpc.MethodDescriptor.<alluxio.grpc.SetAttributeBatchPRequest, alluxio.grpc.SetAttributeBatchPResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "alluxio.grpc.file.FileSystemMasterClientService", "SetAttributeBatch"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  alluxio.grpc.SetAttributeBatchPRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  alluxio.grpc.SetAttributeBatchPResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new FileSystemMasterClientServiceMethodDescriptorSupplier("SetAttributeBatch"))
+                  .build();
+          }
+        }
+     }
+     return getSetAttributeBatchMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<alluxio.grpc.GetContentSummaryPRequest,
+      alluxio.grpc.GetContentSummaryPResponse> getGetContentSummaryMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "GetContentSummary",
+      requestType = alluxio.grpc.GetContentSummaryPRequest.class,
+      responseType = alluxio.grpc.GetContentSummaryPResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<alluxio.grpc.GetContentSummaryPRequest,
+      alluxio.grpc.GetContentSummaryPResponse> getGetContentSummaryMethod() {
+    io.grpc.MethodDescriptor<alluxio.grpc.GetContentSummaryPRequest, alluxio.grpc.GetContentSummaryPResponse> getGetContentSummaryMethod;
+    if ((getGetContentSummaryMethod = FileSystemMasterClientServiceGrpc.getGetContentSummaryMethod) == null) {
+      synchronized (FileSystemMasterClientServiceGrpc.class) {
+        if ((getGetContentSummaryMethod = FileSystemMasterClientServiceGrpc.getGetContentSummaryMethod) == null) {
+          FileSystemMasterClientServiceGrpc.getGetContentSummaryMethod = getGetContentSummaryMethod = 
+              io.grpc.MethodDescriptor.<alluxio.grpc.GetContentSummaryPRequest, alluxio.grpc.GetContentSummaryPResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(
+                  "alluxio.grpc.file.FileSystemMasterClientService", "GetContentSummary"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  alluxio.grpc.GetContentSummaryPRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  alluxio.grpc.GetContentSummaryPResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new FileSystemMasterClientServiceMethodDescriptorSupplier("GetContentSummary"))
+                  .build();
+          }
+        }
+     }
+     return getGetContentSummaryMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -1013,6 +1141,52 @@ public final class FileSystemMasterClientServiceGrpc {
       asyncUnimplementedUnaryCall(getUpdateUfsModeMethod(), responseObserver);
     }
 
+    /**
+     * <pre>
+     **
+     * Returns the status of each of the given files or directories. A path that fails does not
+     * fail the others; its error is reported in its own result.
+     * </pre>
+     */
+    public void getStatusBatch(alluxio.grpc.GetStatusBatchPRequest request,
+        io.grpc.stub.StreamObserver<alluxio.grpc.GetStatusBatchPResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getGetStatusBatchMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Deletes each of the given files or directories, reporting a result per path.
+     * </pre>
+     */
+    public void removeBatch(alluxio.grpc.DeleteBatchPRequest request,
+        io.grpc.stub.StreamObserver<alluxio.grpc.DeleteBatchPResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getRemoveBatchMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Sets the same attributes on each of the given files or directories, reporting a result per
+     * path.
+     * </pre>
+     */
+    public void setAttributeBatch(alluxio.grpc.SetAttributeBatchPRequest request,
+        io.grpc.stub.StreamObserver<alluxio.grpc.SetAttributeBatchPResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getSetAttributeBatchMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Returns the total length, file count and directory count of a file or directory subtree.
+     * </pre>
+     */
+    public void getContentSummary(alluxio.grpc.GetContentSummaryPRequest request,
+        io.grpc.stub.StreamObserver<alluxio.grpc.GetContentSummaryPResponse> responseObserver) {
+      asyncUnimplementedUnaryCall(getGetContentSummaryMethod(), responseObserver);
+    }
+
     @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -1169,6 +1343,34 @@ public final class FileSystemMasterClientServiceGrpc {
                 alluxio.grpc.UpdateUfsModePRequest,
                 alluxio.grpc.UpdateUfsModePResponse>(
                   this, METHODID_UPDATE_UFS_MODE)))
+          .addMethod(
+            getGetStatusBatchMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                alluxio.grpc.GetStatusBatchPRequest,
+                alluxio.grpc.GetStatusBatchPResponse>(
+                  this, METHODID_GET_STATUS_BATCH)))
+          .addMethod(
+            getRemoveBatchMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                alluxio.grpc.DeleteBatchPRequest,
+                alluxio.grpc.DeleteBatchPResponse>(
+                  this, METHODID_REMOVE_BATCH)))
+          .addMethod(
+            getSetAttributeBatchMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                alluxio.grpc.SetAttributeBatchPRequest,
+                alluxio.grpc.SetAttributeBatchPResponse>(
+                  this, METHODID_SET_ATTRIBUTE_BATCH)))
+          .addMethod(
+            getGetContentSummaryMethod(),
+            asyncUnaryCall(
+              new MethodHandlers<
+                alluxio.grpc.GetContentSummaryPRequest,
+                alluxio.grpc.GetContentSummaryPResponse>(
+                  this, METHODID_GET_CONTENT_SUMMARY)))
           .build();
     }
   }
@@ -1463,6 +1665,56 @@ public final class FileSystemMasterClientServiceGrpc {
       asyncUnaryCall(
           getChannel().newCall(getUpdateUfsModeMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     **
+     * Returns the status of each of the given files or directories. A path that fails does not
+     * fail the others; its error is reported in its own result.
+     * </pre>
+     */
+    public void getStatusBatch(alluxio.grpc.GetStatusBatchPRequest request,
+        io.grpc.stub.StreamObserver<alluxio.grpc.GetStatusBatchPResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getGetStatusBatchMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Deletes each of the given files or directories, reporting a result per path.
+     * </pre>
+     */
+    public void removeBatch(alluxio.grpc.DeleteBatchPRequest request,
+        io.grpc.stub.StreamObserver<alluxio.grpc.DeleteBatchPResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getRemoveBatchMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Sets the same attributes on each of the given files or directories, reporting a result per
+     * path.
+     * </pre>
+     */
+    public void setAttributeBatch(alluxio.grpc.SetAttributeBatchPRequest request,
+        io.grpc.stub.StreamObserver<alluxio.grpc.SetAttributeBatchPResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getSetAttributeBatchMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     **
+     * Returns the total length, file count and directory count of a file or directory subtree.
+     * </pre>
+     */
+    public void getContentSummary(alluxio.grpc.GetContentSummaryPRequest request,
+        io.grpc.stub.StreamObserver<alluxio.grpc.GetContentSummaryPResponse> responseObserver) {
+      asyncUnaryCall(
+          getChannel().newCall(getGetContentSummaryMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -1734,6 +1986,52 @@ public final class FileSystemMasterClientServiceGrpc {
       return blockingUnaryCall(
           getChannel(), getUpdateUfsModeMethod(), getCallOptions(), request);
     }
+
+    /**
+     * <pre>
+     **
+     * Returns the status of each of the given files or directories. A path that fails does not
+     * fail the others; its error is reported in its own result.
+     * </pre>
+     */
+    public alluxio.grpc.GetStatusBatchPResponse getStatusBatch(alluxio.grpc.GetStatusBatchPRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getGetStatusBatchMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     **
+     * Deletes each of the given files or directories, reporting a result per path.
+     * </pre>
+     */
+    public alluxio.grpc.DeleteBatchPResponse removeBatch(alluxio.grpc.DeleteBatchPRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getRemoveBatchMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     **
+     * Sets the same attributes on each of the given files or directories, reporting a result per
+     * path.
+     * </pre>
+     */
+    public alluxio.grpc.SetAttributeBatchPResponse setAttributeBatch(alluxio.grpc.SetAttributeBatchPRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getSetAttributeBatchMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     **
+     * Returns the total length, file count and directory count of a file or directory subtree.
+     * </pre>
+     */
+    public alluxio.grpc.GetContentSummaryPResponse getContentSummary(alluxio.grpc.GetContentSummaryPRequest request) {
+      return blockingUnaryCall(
+          getChannel(), getGetContentSummaryMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -2012,6 +2310,56 @@ public final class FileSystemMasterClientServiceGrpc {
       return futureUnaryCall(
           getChannel().newCall(getUpdateUfsModeMethod(), getCallOptions()), request);
     }
+
+    /**
+     * <pre>
+     **
+     * Returns the status of each of the given files or directories. A path that fails does not
+     * fail the others; its error is reported in its own result.
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<alluxio.grpc.GetStatusBatchPResponse> getStatusBatch(
+        alluxio.grpc.GetStatusBatchPRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getGetStatusBatchMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     **
+     * Deletes each of the given files or directories, reporting a result per path.
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<alluxio.grpc.DeleteBatchPResponse> removeBatch(
+        alluxio.grpc.DeleteBatchPRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getRemoveBatchMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     **
+     * Sets the same attributes on each of the given files or directories, reporting a result per
+     * path.
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<alluxio.grpc.SetAttributeBatchPResponse> setAttributeBatch(
+        alluxio.grpc.SetAttributeBatchPRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getSetAttributeBatchMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     **
+     * Returns the total length, file count and directory count of a file or directory subtree.
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<alluxio.grpc.GetContentSummaryPResponse> getContentSummary(
+        alluxio.grpc.GetContentSummaryPRequest request) {
+      return futureUnaryCall(
+          getChannel().newCall(getGetContentSummaryMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_CHECK_CONSISTENCY = 0;
@@ -2036,6 +2384,10 @@ public final class FileSystemMasterClientServiceGrpc {
   private static final int METHODID_UNMOUNT = 19;
   private static final int METHODID_UPDATE_MOUNT = 20;
   private static final int METHODID_UPDATE_UFS_MODE = 21;
+  private static final int METHODID_GET_STATUS_BATCH = 22;
+  private static final int METHODID_REMOVE_BATCH = 23;
+  private static final int METHODID_SET_ATTRIBUTE_BATCH = 24;
+  private static final int METHODID_GET_CONTENT_SUMMARY = 25;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -2142,6 +2494,22 @@ public final class FileSystemMasterClientServiceGrpc {
           serviceImpl.updateUfsMode((alluxio.grpc.UpdateUfsModePRequest) request,
               (io.grpc.stub.StreamObserver<alluxio.grpc.UpdateUfsModePResponse>) responseObserver);
           break;
+        case METHODID_GET_STATUS_BATCH:
+          serviceImpl.getStatusBatch((alluxio.grpc.GetStatusBatchPRequest) request,
+              (io.grpc.stub.StreamObserver<alluxio.grpc.GetStatusBatchPResponse>) responseObserver);
+          break;
+        case METHODID_REMOVE_BATCH:
+          serviceImpl.removeBatch((alluxio.grpc.DeleteBatchPRequest) request,
+              (io.grpc.stub.StreamObserver<alluxio.grpc.DeleteBatchPResponse>) responseObserver);
+          break;
+        case METHODID_SET_ATTRIBUTE_BATCH:
+          serviceImpl.setAttributeBatch((alluxio.grpc.SetAttributeBatchPRequest) request,
+              (io.grpc.stub.StreamObserver<alluxio.grpc.SetAttributeBatchPResponse>) responseObserver);
+          break;
+        case METHODID_GET_CONTENT_SUMMARY:
+          serviceImpl.getContentSummary((alluxio.grpc.GetContentSummaryPRequest) request,
+              (io.grpc.stub.StreamObserver<alluxio.grpc.GetContentSummaryPResponse>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -2225,6 +2593,10 @@ public final class FileSystemMasterClientServiceGrpc {
               .addMethod(getUnmountMethod())
               .addMethod(getUpdateMountMethod())
               .addMethod(getUpdateUfsModeMethod())
+              .addMethod(getGetStatusBatchMethod())
+              .addMethod(getRemoveBatchMethod())
+              .addMethod(getSetAttributeBatchMethod())
+              .addMethod(getGetContentSummaryMethod())
               .build();
         }
       }
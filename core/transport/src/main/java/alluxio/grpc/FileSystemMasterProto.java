@@ -475,6 +475,61 @@ public final class FileSystemMasterProto {
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_alluxio_grpc_file_GetUfsInfoPRequest_fieldAccessorTable;
 
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_file_BatchPathResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_file_BatchPathResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_file_GetStatusBatchPResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_file_GetStatusBatchPResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_file_GetStatusBatchPRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_file_GetStatusBatchPRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_file_DeleteBatchPResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_file_DeleteBatchPResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_file_DeleteBatchPRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_file_DeleteBatchPRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_file_SetAttributeBatchPResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_file_SetAttributeBatchPResponse_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_file_SetAttributeBatchPRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_file_SetAttributeBatchPRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_file_ContentSummary_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_file_ContentSummary_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_file_GetContentSummaryPOptions_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_file_GetContentSummaryPOptions_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_file_GetContentSummaryPRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_file_GetContentSummaryPRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_file_GetContentSummaryPResponse_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_file_GetContentSummaryPResponse_fieldAccessorTable;
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
     return descriptor;
@@ -562,246 +617,286 @@ public final class FileSystemMasterProto {
       "le.SyncPointStatus\"O\n\030GetSyncPathListPRe" +
       "sponse\0223\n\tsyncPaths\030\001 \003(\0132 .alluxio.grpc" +
       ".file.SyncPointInfo\"\031\n\027GetSyncPathListPR" +
-      "equest\"E\n\023ListStatusPResponse\022.\n\tfileInf" +
-      "os\030\001 \003(\0132\033.alluxio.grpc.file.FileInfo\"\315\001" +
-      "\n\022ListStatusPOptions\022\032\n\022loadDirectChildr" +
-      "en\030\001 \001(\010\022>\n\020loadMetadataType\030\002 \001(\0162$.all" +
-      "uxio.grpc.file.LoadMetadataPType\022H\n\rcomm" +
-      "onOptions\030\003 \001(\01321.alluxio.grpc.file.File" +
-      "SystemMasterCommonPOptions\022\021\n\trecursive\030" +
-      "\004 \001(\010\"Z\n\022ListStatusPRequest\022\014\n\004path\030\001 \001(" +
-      "\t\0226\n\007options\030\002 \001(\0132%.alluxio.grpc.file.L" +
-      "istStatusPOptions\"\324\001\n\024LoadMetadataPOptio" +
-      "ns\022\021\n\trecursive\030\001 \001(\010\022\027\n\017createAncestors" +
-      "\030\002 \001(\010\022F\n\022loadDescendantType\030\003 \001(\0162*.all" +
-      "uxio.grpc.fscommon.LoadDescendantPType\022H" +
-      "\n\rcommonOptions\030\004 \001(\01321.alluxio.grpc.fil" +
-      "e.FileSystemMasterCommonPOptions\"\217\001\n\tPAc" +
-      "lEntry\022.\n\004type\030\001 \001(\0162 .alluxio.grpc.file" +
-      ".PAclEntryType\022\017\n\007subject\030\002 \001(\t\022.\n\007actio" +
-      "ns\030\003 \003(\0162\035.alluxio.grpc.file.PAclAction\022" +
-      "\021\n\tisDefault\030\004 \001(\010\"\222\001\n\004PAcl\022\r\n\005owner\030\001 \001" +
-      "(\t\022\023\n\013owningGroup\030\002 \001(\t\022-\n\007entries\030\003 \003(\013" +
-      "2\034.alluxio.grpc.file.PAclEntry\022\014\n\004mode\030\004" +
-      " \001(\005\022\021\n\tisDefault\030\005 \001(\010\022\026\n\016isDefaultEmpt" +
-      "y\030\006 \001(\010\"\235\001\n\rFileBlockInfo\022*\n\tblockInfo\030\001" +
-      " \001(\0132\027.alluxio.grpc.BlockInfo\022\016\n\006offset\030" +
-      "\002 \001(\003\0224\n\014ufsLocations\030\003 \003(\0132\036.alluxio.gr" +
-      "pc.WorkerNetAddress\022\032\n\022ufsStringLocation" +
-      "s\030\004 \003(\t\"\304\005\n\010FileInfo\022\016\n\006fileId\030\001 \001(\003\022\014\n\004" +
-      "name\030\002 \001(\t\022\014\n\004path\030\003 \001(\t\022\017\n\007ufsPath\030\004 \001(" +
-      "\t\022\016\n\006length\030\005 \001(\003\022\026\n\016blockSizeBytes\030\006 \001(" +
-      "\003\022\026\n\016creationTimeMs\030\007 \001(\003\022\021\n\tcompleted\030\010" +
-      " \001(\010\022\016\n\006folder\030\t \001(\010\022\016\n\006pinned\030\n \001(\010\022\021\n\t" +
-      "cacheable\030\013 \001(\010\022\021\n\tpersisted\030\014 \001(\010\022\020\n\010bl" +
-      "ockIds\030\r \003(\003\022\036\n\026lastModificationTimeMs\030\016" +
-      " \001(\003\022\013\n\003ttl\030\017 \001(\003\022\r\n\005owner\030\020 \001(\t\022\r\n\005grou" +
-      "p\030\021 \001(\t\022\014\n\004mode\030\022 \001(\005\022\030\n\020persistenceStat" +
-      "e\030\023 \001(\t\022\022\n\nmountPoint\030\024 \001(\010\0228\n\016fileBlock" +
-      "Infos\030\025 \003(\0132 .alluxio.grpc.file.FileBloc" +
-      "kInfo\022*\n\tttlAction\030\026 \001(\0162\027.alluxio.grpc." +
-      "TtlAction\022\017\n\007mountId\030\027 \001(\003\022\033\n\023inAlluxioP" +
-      "ercentage\030\030 \001(\005\022\032\n\022inMemoryPercentage\030\031 " +
-      "\001(\005\022\026\n\016ufsFingerprint\030\032 \001(\t\022$\n\003acl\030\033 \001(\013" +
-      "2\027.alluxio.grpc.file.PAcl\022+\n\ndefaultAcl\030" +
-      "\034 \001(\0132\027.alluxio.grpc.file.PAcl\022\026\n\016replic" +
-      "ationMax\030\035 \001(\005\022\026\n\016replicationMin\030\036 \001(\005\"$" +
-      "\n\024GetFilePathPResponse\022\014\n\004path\030\001 \001(\t\"%\n\023" +
-      "GetFilePathPRequest\022\016\n\006fileId\030\001 \001(\003\"\020\n\016M" +
-      "ountPResponse\"\364\001\n\rMountPOptions\022\020\n\010readO" +
-      "nly\030\001 \001(\010\022D\n\nproperties\030\002 \003(\01320.alluxio." +
-      "grpc.file.MountPOptions.PropertiesEntry\022" +
-      "\016\n\006shared\030\003 \001(\010\022H\n\rcommonOptions\030\004 \001(\01321" +
-      ".alluxio.grpc.file.FileSystemMasterCommo" +
-      "nPOptions\0321\n\017PropertiesEntry\022\013\n\003key\030\001 \001(" +
-      "\t\022\r\n\005value\030\002 \001(\t:\0028\001\"h\n\rMountPRequest\022\023\n" +
-      "\013alluxioPath\030\001 \001(\t\022\017\n\007ufsPath\030\002 \001(\t\0221\n\007o" +
-      "ptions\030\003 \001(\0132 .alluxio.grpc.file.MountPO" +
-      "ptions\"\300\001\n\026GetMountTablePResponse\022O\n\013mou" +
-      "ntPoints\030\001 \003(\0132:.alluxio.grpc.file.GetMo" +
-      "untTablePResponse.MountPointsEntry\032U\n\020Mo" +
-      "untPointsEntry\022\013\n\003key\030\001 \001(\t\0220\n\005value\030\002 \001" +
-      "(\0132!.alluxio.grpc.file.MountPointInfo:\0028" +
-      "\001\"\027\n\025GetMountTablePRequest\"\205\002\n\016MountPoin" +
-      "tInfo\022\016\n\006ufsUri\030\001 \001(\t\022\017\n\007ufsType\030\002 \001(\t\022\034" +
-      "\n\020ufsCapacityBytes\030\003 \001(\003:\002-1\022\030\n\014ufsUsedB" +
-      "ytes\030\004 \001(\003:\002-1\022\020\n\010readOnly\030\005 \001(\010\022E\n\nprop" +
-      "erties\030\006 \003(\01321.alluxio.grpc.file.MountPo" +
-      "intInfo.PropertiesEntry\022\016\n\006shared\030\007 \001(\010\032" +
-      "1\n\017PropertiesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value" +
-      "\030\002 \001(\t:\0028\001\"\\\n\030FileSystemCommandOptions\022@" +
-      "\n\016persistOptions\030\001 \001(\0132(.alluxio.grpc.fi" +
-      "le.PersistCommandOptions\"M\n\025PersistComma" +
-      "ndOptions\0224\n\014persistFiles\030\001 \003(\0132\036.alluxi" +
-      "o.grpc.file.PersistFile\"/\n\013PersistFile\022\016" +
-      "\n\006fileId\030\001 \001(\003\022\020\n\010blockIds\030\002 \003(\003\"\210\001\n\021Fil" +
-      "eSystemCommand\022.\n\013commandType\030\001 \001(\0162\031.al" +
-      "luxio.grpc.CommandType\022C\n\016commandOptions" +
-      "\030\002 \001(\0132+.alluxio.grpc.file.FileSystemCom" +
-      "mandOptions\"\021\n\017RenamePResponse\"k\n\016Rename" +
-      "POptions\022H\n\rcommonOptions\030\001 \001(\01321.alluxi" +
-      "o.grpc.file.FileSystemMasterCommonPOptio" +
-      "ns\022\017\n\007persist\030\002 \001(\010\"c\n\016RenamePRequest\022\014\n" +
-      "\004path\030\001 \001(\t\022\017\n\007dstPath\030\002 \001(\t\0222\n\007options\030" +
-      "\003 \001(\0132!.alluxio.grpc.file.RenamePOptions" +
-      "\"\027\n\025SetAttributePResponse\"\234\002\n\024SetAttribu" +
-      "tePOptions\022\016\n\006pinned\030\001 \001(\010\022\021\n\tpersisted\030" +
-      "\002 \001(\010\022\r\n\005owner\030\003 \001(\t\022\r\n\005group\030\004 \001(\t\022!\n\004m" +
-      "ode\030\005 \001(\0132\023.alluxio.grpc.PMode\022\021\n\trecurs" +
-      "ive\030\006 \001(\010\022\026\n\016replicationMax\030\007 \001(\005\022\026\n\016rep" +
-      "licationMin\030\010 \001(\005\022H\n\rcommonOptions\030\t \001(\013" +
-      "21.alluxio.grpc.file.FileSystemMasterCom" +
-      "monPOptions\022\023\n\013pinnedMedia\030\n \003(\t\"^\n\024SetA" +
-      "ttributePRequest\022\014\n\004path\030\001 \001(\t\0228\n\007option" +
-      "s\030\002 \001(\0132\'.alluxio.grpc.file.SetAttribute" +
-      "POptions\"\021\n\017SetAclPResponse\"m\n\016SetAclPOp" +
-      "tions\022H\n\rcommonOptions\030\001 \001(\01321.alluxio.g" +
-      "rpc.file.FileSystemMasterCommonPOptions\022" +
-      "\021\n\trecursive\030\002 \001(\010\"\262\001\n\016SetAclPRequest\022\014\n" +
-      "\004path\030\001 \001(\t\022/\n\006action\030\002 \001(\0162\037.alluxio.gr" +
-      "pc.file.SetAclAction\022-\n\007entries\030\003 \003(\0132\034." +
-      "alluxio.grpc.file.PAclEntry\0222\n\007options\030\004" +
-      " \001(\0132!.alluxio.grpc.file.SetAclPOptions\"" +
-      "#\n!ScheduleAsyncPersistencePResponse\"\211\001\n" +
-      " ScheduleAsyncPersistencePOptions\022H\n\rcom" +
-      "monOptions\030\001 \001(\01321.alluxio.grpc.file.Fil" +
-      "eSystemMasterCommonPOptions\022\033\n\023persisten" +
-      "ceWaitTime\030\002 \001(\003\"v\n ScheduleAsyncPersist" +
-      "encePRequest\022\014\n\004path\030\001 \001(\t\022D\n\007options\030\002 " +
-      "\001(\01323.alluxio.grpc.file.ScheduleAsyncPer" +
-      "sistencePOptions\"\024\n\022StartSyncPResponse\"]" +
-      "\n\021StartSyncPOptions\022H\n\rcommonOptions\030\001 \001" +
+      "equest\"`\n\023ListStatusPResponse\022.\n\tfileInf" +
+      "os\030\001 \003(\0132\033.alluxio.grpc.file.FileInfo\022\031\n" +
+      "\021continuationToken\030\002 \001(\t\"\364\001\n\022ListStatusP" +
+      "Options\022\032\n\022loadDirectChildren\030\001 \001(\010\022>\n\020l" +
+      "oadMetadataType\030\002 \001(\0162$.alluxio.grpc.fil" +
+      "e.LoadMetadataPType\022H\n\rcommonOptions\030\003 \001" +
       "(\01321.alluxio.grpc.file.FileSystemMasterC" +
-      "ommonPOptions\"X\n\021StartSyncPRequest\022\014\n\004pa" +
-      "th\030\001 \001(\t\0225\n\007options\030\002 \001(\0132$.alluxio.grpc" +
-      ".file.StartSyncPOptions\"\023\n\021StopSyncPResp" +
-      "onse\"\\\n\020StopSyncPOptions\022H\n\rcommonOption" +
-      "s\030\001 \001(\01321.alluxio.grpc.file.FileSystemMa" +
-      "sterCommonPOptions\"V\n\020StopSyncPRequest\022\014" +
-      "\n\004path\030\001 \001(\t\0224\n\007options\030\002 \001(\0132#.alluxio." +
-      "grpc.file.StopSyncPOptions\"\022\n\020UnmountPRe" +
-      "sponse\"[\n\017UnmountPOptions\022H\n\rcommonOptio" +
-      "ns\030\001 \001(\01321.alluxio.grpc.file.FileSystemM" +
-      "asterCommonPOptions\"[\n\017UnmountPRequest\022\023" +
-      "\n\013alluxioPath\030\001 \001(\t\0223\n\007options\030\002 \001(\0132\".a" +
-      "lluxio.grpc.file.UnmountPOptions\"L\n\007UfsI" +
-      "nfo\022\013\n\003uri\030\001 \001(\t\0224\n\nproperties\030\002 \001(\0132 .a" +
-      "lluxio.grpc.file.MountPOptions\"]\n\023Update" +
-      "MountPRequest\022\023\n\013alluxioPath\030\001 \001(\t\0221\n\007op" +
-      "tions\030\003 \001(\0132 .alluxio.grpc.file.MountPOp" +
-      "tions\"\026\n\024UpdateMountPResponse\"\030\n\026UpdateU" +
-      "fsModePResponse\"E\n\025UpdateUfsModePOptions" +
-      "\022,\n\007ufsMode\030\001 \001(\0162\033.alluxio.grpc.file.Uf" +
-      "sPMode\"c\n\025UpdateUfsModePRequest\022\017\n\007ufsPa" +
-      "th\030\001 \001(\t\0229\n\007options\030\002 \001(\0132(.alluxio.grpc" +
-      ".file.UpdateUfsModePOptions\"U\n\034FileSyste" +
-      "mHeartbeatPResponse\0225\n\007command\030\001 \001(\0132$.a" +
-      "lluxio.grpc.file.FileSystemCommand\"@\n\033Fi" +
-      "leSystemHeartbeatPOptions\022!\n\031persistedFi" +
-      "leFingerprints\030\001 \003(\t\"\210\001\n\033FileSystemHeart" +
-      "beatPRequest\022\020\n\010workerId\030\001 \001(\003\022\026\n\016persis" +
-      "tedFiles\030\002 \003(\003\022?\n\007options\030\003 \001(\0132..alluxi" +
-      "o.grpc.file.FileSystemHeartbeatPOptions\"" +
-      "E\n\024GetFileInfoPResponse\022-\n\010fileInfo\030\001 \001(" +
-      "\0132\033.alluxio.grpc.file.FileInfo\"\025\n\023GetFil" +
-      "eInfoPOptions\"^\n\023GetFileInfoPRequest\022\016\n\006" +
-      "fileId\030\001 \001(\003\0227\n\007options\030\002 \001(\0132&.alluxio." +
-      "grpc.file.GetFileInfoPOptions\"2\n\031GetPinn" +
-      "edFileIdsPResponse\022\025\n\rpinnedFileIds\030\001 \003(" +
-      "\003\"\032\n\030GetPinnedFileIdsPOptions\"X\n\030GetPinn" +
-      "edFileIdsPRequest\022<\n\007options\030\001 \001(\0132+.all" +
-      "uxio.grpc.file.GetPinnedFileIdsPOptions\"" +
-      "B\n\023GetUfsInfoPResponse\022+\n\007ufsInfo\030\001 \001(\0132" +
-      "\032.alluxio.grpc.file.UfsInfo\"\024\n\022GetUfsInf" +
-      "oPOptions\"]\n\022GetUfsInfoPRequest\022\017\n\007mount" +
-      "Id\030\001 \001(\003\0226\n\007options\030\002 \001(\0132%.alluxio.grpc" +
-      ".file.GetUfsInfoPOptions*h\n\nWritePType\022\016" +
-      "\n\nMUST_CACHE\020\001\022\r\n\tTRY_CACHE\020\002\022\021\n\rCACHE_T" +
-      "HROUGH\020\003\022\013\n\007THROUGH\020\004\022\021\n\rASYNC_THROUGH\020\005" +
-      "\022\010\n\004NONE\020\006*7\n\tReadPType\022\014\n\010NO_CACHE\020\001\022\t\n" +
-      "\005CACHE\020\002\022\021\n\rCACHE_PROMOTE\020\003*4\n\021LoadMetad" +
-      "ataPType\022\t\n\005NEVER\020\000\022\010\n\004ONCE\020\001\022\n\n\006ALWAYS\020" +
-      "\002*N\n\017SyncPointStatus\022\030\n\024Not_Initially_Sy" +
-      "nced\020\000\022\013\n\007Syncing\020\001\022\024\n\020Initially_Synced\020" +
-      "\002*_\n\rPAclEntryType\022\t\n\005Owner\020\000\022\r\n\tNamedUs" +
-      "er\020\001\022\017\n\013OwningGroup\020\002\022\016\n\nNamedGroup\020\003\022\010\n" +
-      "\004Mask\020\004\022\t\n\005Other\020\005*.\n\nPAclAction\022\010\n\004Read" +
-      "\020\000\022\t\n\005Write\020\001\022\013\n\007Execute\020\002*W\n\014SetAclActi" +
-      "on\022\013\n\007REPLACE\020\000\022\n\n\006MODIFY\020\001\022\n\n\006REMOVE\020\002\022" +
-      "\016\n\nREMOVE_ALL\020\003\022\022\n\016REMOVE_DEFAULT\020\004*8\n\010U" +
-      "fsPMode\022\r\n\tNO_ACCESS\020\001\022\r\n\tREAD_ONLY\020\002\022\016\n" +
-      "\nREAD_WRITE\020\0032\342\020\n\035FileSystemMasterClient" +
-      "Service\022m\n\020CheckConsistency\022+.alluxio.gr" +
-      "pc.file.CheckConsistencyPRequest\032,.allux" +
-      "io.grpc.file.CheckConsistencyPResponse\022a" +
-      "\n\014CompleteFile\022\'.alluxio.grpc.file.Compl" +
-      "eteFilePRequest\032(.alluxio.grpc.file.Comp" +
-      "leteFilePResponse\022j\n\017CreateDirectory\022*.a" +
-      "lluxio.grpc.file.CreateDirectoryPRequest" +
-      "\032+.alluxio.grpc.file.CreateDirectoryPRes" +
-      "ponse\022[\n\nCreateFile\022%.alluxio.grpc.file." +
-      "CreateFilePRequest\032&.alluxio.grpc.file.C" +
-      "reateFilePResponse\022I\n\004Free\022\037.alluxio.grp" +
-      "c.file.FreePRequest\032 .alluxio.grpc.file." +
-      "FreePResponse\022^\n\013GetFilePath\022&.alluxio.g" +
-      "rpc.file.GetFilePathPRequest\032\'.alluxio.g" +
-      "rpc.file.GetFilePathPResponse\022d\n\rGetMoun" +
-      "tTable\022(.alluxio.grpc.file.GetMountTable" +
-      "PRequest\032).alluxio.grpc.file.GetMountTab" +
-      "lePResponse\022j\n\017GetSyncPathList\022*.alluxio" +
-      ".grpc.file.GetSyncPathListPRequest\032+.all" +
-      "uxio.grpc.file.GetSyncPathListPResponse\022" +
-      "y\n\024GetNewBlockIdForFile\022/.alluxio.grpc.f" +
-      "ile.GetNewBlockIdForFilePRequest\0320.allux" +
-      "io.grpc.file.GetNewBlockIdForFilePRespon" +
-      "se\022X\n\tGetStatus\022$.alluxio.grpc.file.GetS" +
-      "tatusPRequest\032%.alluxio.grpc.file.GetSta" +
-      "tusPResponse\022]\n\nListStatus\022%.alluxio.grp" +
-      "c.file.ListStatusPRequest\032&.alluxio.grpc" +
-      ".file.ListStatusPResponse0\001\022L\n\005Mount\022 .a" +
-      "lluxio.grpc.file.MountPRequest\032!.alluxio" +
-      ".grpc.file.MountPResponse\022O\n\006Remove\022!.al" +
-      "luxio.grpc.file.DeletePRequest\032\".alluxio" +
-      ".grpc.file.DeletePResponse\022O\n\006Rename\022!.a" +
-      "lluxio.grpc.file.RenamePRequest\032\".alluxi" +
-      "o.grpc.file.RenamePResponse\022\205\001\n\030Schedule" +
-      "AsyncPersistence\0223.alluxio.grpc.file.Sch" +
-      "eduleAsyncPersistencePRequest\0324.alluxio." +
-      "grpc.file.ScheduleAsyncPersistencePRespo" +
-      "nse\022O\n\006SetAcl\022!.alluxio.grpc.file.SetAcl" +
-      "PRequest\032\".alluxio.grpc.file.SetAclPResp" +
-      "onse\022a\n\014SetAttribute\022\'.alluxio.grpc.file" +
-      ".SetAttributePRequest\032(.alluxio.grpc.fil" +
-      "e.SetAttributePResponse\022X\n\tStartSync\022$.a" +
-      "lluxio.grpc.file.StartSyncPRequest\032%.all" +
-      "uxio.grpc.file.StartSyncPResponse\022U\n\010Sto" +
-      "pSync\022#.alluxio.grpc.file.StopSyncPReque" +
-      "st\032$.alluxio.grpc.file.StopSyncPResponse" +
-      "\022R\n\007Unmount\022\".alluxio.grpc.file.UnmountP" +
-      "Request\032#.alluxio.grpc.file.UnmountPResp" +
-      "onse\022^\n\013UpdateMount\022&.alluxio.grpc.file." +
-      "UpdateMountPRequest\032\'.alluxio.grpc.file." +
-      "UpdateMountPResponse\022d\n\rUpdateUfsMode\022(." +
-      "alluxio.grpc.file.UpdateUfsModePRequest\032" +
-      ").alluxio.grpc.file.UpdateUfsModePRespon" +
-      "se2\303\003\n\035FileSystemMasterWorkerService\022v\n\023" +
-      "FileSystemHeartbeat\022..alluxio.grpc.file." +
-      "FileSystemHeartbeatPRequest\032/.alluxio.gr" +
-      "pc.file.FileSystemHeartbeatPResponse\022^\n\013" +
-      "GetFileInfo\022&.alluxio.grpc.file.GetFileI" +
-      "nfoPRequest\032\'.alluxio.grpc.file.GetFileI" +
-      "nfoPResponse\022m\n\020GetPinnedFileIds\022+.allux" +
-      "io.grpc.file.GetPinnedFileIdsPRequest\032,." +
-      "alluxio.grpc.file.GetPinnedFileIdsPRespo" +
-      "nse\022[\n\nGetUfsInfo\022%.alluxio.grpc.file.Ge" +
-      "tUfsInfoPRequest\032&.alluxio.grpc.file.Get" +
-      "UfsInfoPResponse2\331\001\n\032FileSystemMasterJob" +
-      "Service\022^\n\013GetFileInfo\022&.alluxio.grpc.fi" +
-      "le.GetFileInfoPRequest\032\'.alluxio.grpc.fi" +
-      "le.GetFileInfoPResponse\022[\n\nGetUfsInfo\022%." +
-      "alluxio.grpc.file.GetUfsInfoPRequest\032&.a" +
-      "lluxio.grpc.file.GetUfsInfoPResponseB\'\n\014" +
-      "alluxio.grpcB\025FileSystemMasterProtoP\001"
+      "ommonPOptions\022\021\n\trecursive\030\004 \001(\010\022\022\n\nstar" +
+      "tAfter\030\005 \001(\t\022\021\n\tbatchSize\030\006 \001(\005\"Z\n\022ListS" +
+      "tatusPRequest\022\014\n\004path\030\001 \001(\t\0226\n\007options\030\002" +
+      " \001(\0132%.alluxio.grpc.file.ListStatusPOpti" +
+      "ons\"\324\001\n\024LoadMetadataPOptions\022\021\n\trecursiv" +
+      "e\030\001 \001(\010\022\027\n\017createAncestors\030\002 \001(\010\022F\n\022load" +
+      "DescendantType\030\003 \001(\0162*.alluxio.grpc.fsco" +
+      "mmon.LoadDescendantPType\022H\n\rcommonOption" +
+      "s\030\004 \001(\01321.alluxio.grpc.file.FileSystemMa" +
+      "sterCommonPOptions\"\217\001\n\tPAclEntry\022.\n\004type" +
+      "\030\001 \001(\0162 .alluxio.grpc.file.PAclEntryType" +
+      "\022\017\n\007subject\030\002 \001(\t\022.\n\007actions\030\003 \003(\0162\035.all" +
+      "uxio.grpc.file.PAclAction\022\021\n\tisDefault\030\004" +
+      " \001(\010\"\222\001\n\004PAcl\022\r\n\005owner\030\001 \001(\t\022\023\n\013owningGr" +
+      "oup\030\002 \001(\t\022-\n\007entries\030\003 \003(\0132\034.alluxio.grp" +
+      "c.file.PAclEntry\022\014\n\004mode\030\004 \001(\005\022\021\n\tisDefa" +
+      "ult\030\005 \001(\010\022\026\n\016isDefaultEmpty\030\006 \001(\010\"\235\001\n\rFi" +
+      "leBlockInfo\022*\n\tblockInfo\030\001 \001(\0132\027.alluxio" +
+      ".grpc.BlockInfo\022\016\n\006offset\030\002 \001(\003\0224\n\014ufsLo" +
+      "cations\030\003 \003(\0132\036.alluxio.grpc.WorkerNetAd" +
+      "dress\022\032\n\022ufsStringLocations\030\004 \003(\t\"\304\005\n\010Fi" +
+      "leInfo\022\016\n\006fileId\030\001 \001(\003\022\014\n\004name\030\002 \001(\t\022\014\n\004" +
+      "path\030\003 \001(\t\022\017\n\007ufsPath\030\004 \001(\t\022\016\n\006length\030\005 " +
+      "\001(\003\022\026\n\016blockSizeBytes\030\006 \001(\003\022\026\n\016creationT" +
+      "imeMs\030\007 \001(\003\022\021\n\tcompleted\030\010 \001(\010\022\016\n\006folder" +
+      "\030\t \001(\010\022\016\n\006pinned\030\n \001(\010\022\021\n\tcacheable\030\013 \001(" +
+      "\010\022\021\n\tpersisted\030\014 \001(\010\022\020\n\010blockIds\030\r \003(\003\022\036" +
+      "\n\026lastModificationTimeMs\030\016 \001(\003\022\013\n\003ttl\030\017 " +
+      "\001(\003\022\r\n\005owner\030\020 \001(\t\022\r\n\005group\030\021 \001(\t\022\014\n\004mod" +
+      "e\030\022 \001(\005\022\030\n\020persistenceState\030\023 \001(\t\022\022\n\nmou" +
+      "ntPoint\030\024 \001(\010\0228\n\016fileBlockInfos\030\025 \003(\0132 ." +
+      "alluxio.grpc.file.FileBlockInfo\022*\n\tttlAc" +
+      "tion\030\026 \001(\0162\027.alluxio.grpc.TtlAction\022\017\n\007m" +
+      "ountId\030\027 \001(\003\022\033\n\023inAlluxioPercentage\030\030 \001(" +
+      "\005\022\032\n\022inMemoryPercentage\030\031 \001(\005\022\026\n\016ufsFing" +
+      "erprint\030\032 \001(\t\022$\n\003acl\030\033 \001(\0132\027.alluxio.grp" +
+      "c.file.PAcl\022+\n\ndefaultAcl\030\034 \001(\0132\027.alluxi" +
+      "o.grpc.file.PAcl\022\026\n\016replicationMax\030\035 \001(\005" +
+      "\022\026\n\016replicationMin\030\036 \001(\005\"$\n\024GetFilePathP" +
+      "Response\022\014\n\004path\030\001 \001(\t\"%\n\023GetFilePathPRe" +
+      "quest\022\016\n\006fileId\030\001 \001(\003\"\020\n\016MountPResponse\"" +
+      "\364\001\n\rMountPOptions\022\020\n\010readOnly\030\001 \001(\010\022D\n\np" +
+      "roperties\030\002 \003(\01320.alluxio.grpc.file.Moun" +
+      "tPOptions.PropertiesEntry\022\016\n\006shared\030\003 \001(" +
+      "\010\022H\n\rcommonOptions\030\004 \001(\01321.alluxio.grpc." +
+      "file.FileSystemMasterCommonPOptions\0321\n\017P" +
+      "ropertiesEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001" +
+      "(\t:\0028\001\"h\n\rMountPRequest\022\023\n\013alluxioPath\030\001" +
+      " \001(\t\022\017\n\007ufsPath\030\002 \001(\t\0221\n\007options\030\003 \001(\0132 " +
+      ".alluxio.grpc.file.MountPOptions\"\300\001\n\026Get" +
+      "MountTablePResponse\022O\n\013mountPoints\030\001 \003(\013" +
+      "2:.alluxio.grpc.file.GetMountTablePRespo" +
+      "nse.MountPointsEntry\032U\n\020MountPointsEntry" +
+      "\022\013\n\003key\030\001 \001(\t\0220\n\005value\030\002 \001(\0132!.alluxio.g" +
+      "rpc.file.MountPointInfo:\0028\001\"\027\n\025GetMountT" +
+      "ablePRequest\"\205\002\n\016MountPointInfo\022\016\n\006ufsUr" +
+      "i\030\001 \001(\t\022\017\n\007ufsType\030\002 \001(\t\022\034\n\020ufsCapacityB" +
+      "ytes\030\003 \001(\003:\002-1\022\030\n\014ufsUsedBytes\030\004 \001(\003:\002-1" +
+      "\022\020\n\010readOnly\030\005 \001(\010\022E\n\nproperties\030\006 \003(\01321" +
+      ".alluxio.grpc.file.MountPointInfo.Proper" +
+      "tiesEntry\022\016\n\006shared\030\007 \001(\010\0321\n\017PropertiesE" +
+      "ntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\0028\001\"\\\n\030" +
+      "FileSystemCommandOptions\022@\n\016persistOptio" +
+      "ns\030\001 \001(\0132(.alluxio.grpc.file.PersistComm" +
+      "andOptions\"M\n\025PersistCommandOptions\0224\n\014p" +
+      "ersistFiles\030\001 \003(\0132\036.alluxio.grpc.file.Pe" +
+      "rsistFile\"/\n\013PersistFile\022\016\n\006fileId\030\001 \001(\003" +
+      "\022\020\n\010blockIds\030\002 \003(\003\"\210\001\n\021FileSystemCommand" +
+      "\022.\n\013commandType\030\001 \001(\0162\031.alluxio.grpc.Com" +
+      "mandType\022C\n\016commandOptions\030\002 \001(\0132+.allux" +
+      "io.grpc.file.FileSystemCommandOptions\"\021\n" +
+      "\017RenamePResponse\"k\n\016RenamePOptions\022H\n\rco" +
+      "mmonOptions\030\001 \001(\01321.alluxio.grpc.file.Fi" +
+      "leSystemMasterCommonPOptions\022\017\n\007persist\030" +
+      "\002 \001(\010\"c\n\016RenamePRequest\022\014\n\004path\030\001 \001(\t\022\017\n" +
+      "\007dstPath\030\002 \001(\t\0222\n\007options\030\003 \001(\0132!.alluxi" +
+      "o.grpc.file.RenamePOptions\"\027\n\025SetAttribu" +
+      "tePResponse\"\234\002\n\024SetAttributePOptions\022\016\n\006" +
+      "pinned\030\001 \001(\010\022\021\n\tpersisted\030\002 \001(\010\022\r\n\005owner" +
+      "\030\003 \001(\t\022\r\n\005group\030\004 \001(\t\022!\n\004mode\030\005 \001(\0132\023.al" +
+      "luxio.grpc.PMode\022\021\n\trecursive\030\006 \001(\010\022\026\n\016r" +
+      "eplicationMax\030\007 \001(\005\022\026\n\016replicationMin\030\010 " +
+      "\001(\005\022H\n\rcommonOptions\030\t \001(\01321.alluxio.grp" +
+      "c.file.FileSystemMasterCommonPOptions\022\023\n" +
+      "\013pinnedMedia\030\n \003(\t\"^\n\024SetAttributePReque" +
+      "st\022\014\n\004path\030\001 \001(\t\0228\n\007options\030\002 \001(\0132\'.allu" +
+      "xio.grpc.file.SetAttributePOptions\"\021\n\017Se" +
+      "tAclPResponse\"m\n\016SetAclPOptions\022H\n\rcommo" +
+      "nOptions\030\001 \001(\01321.alluxio.grpc.file.FileS" +
+      "ystemMasterCommonPOptions\022\021\n\trecursive\030\002" +
+      " \001(\010\"\262\001\n\016SetAclPRequest\022\014\n\004path\030\001 \001(\t\022/\n" +
+      "\006action\030\002 \001(\0162\037.alluxio.grpc.file.SetAcl" +
+      "Action\022-\n\007entries\030\003 \003(\0132\034.alluxio.grpc.f" +
+      "ile.PAclEntry\0222\n\007options\030\004 \001(\0132!.alluxio" +
+      ".grpc.file.SetAclPOptions\"#\n!ScheduleAsy" +
+      "ncPersistencePResponse\"\211\001\n ScheduleAsync" +
+      "PersistencePOptions\022H\n\rcommonOptions\030\001 \001" +
+      "(\01321.alluxio.grpc.file.FileSystemMasterC" +
+      "ommonPOptions\022\033\n\023persistenceWaitTime\030\002 \001" +
+      "(\003\"v\n ScheduleAsyncPersistencePRequest\022\014" +
+      "\n\004path\030\001 \001(\t\022D\n\007options\030\002 \001(\01323.alluxio." +
+      "grpc.file.ScheduleAsyncPersistencePOptio" +
+      "ns\"\024\n\022StartSyncPResponse\"]\n\021StartSyncPOp" +
+      "tions\022H\n\rcommonOptions\030\001 \001(\01321.alluxio.g" +
+      "rpc.file.FileSystemMasterCommonPOptions\"" +
+      "X\n\021StartSyncPRequest\022\014\n\004path\030\001 \001(\t\0225\n\007op" +
+      "tions\030\002 \001(\0132$.alluxio.grpc.file.StartSyn" +
+      "cPOptions\"\023\n\021StopSyncPResponse\"\\\n\020StopSy" +
+      "ncPOptions\022H\n\rcommonOptions\030\001 \001(\01321.allu" +
+      "xio.grpc.file.FileSystemMasterCommonPOpt" +
+      "ions\"V\n\020StopSyncPRequest\022\014\n\004path\030\001 \001(\t\0224" +
+      "\n\007options\030\002 \001(\0132#.alluxio.grpc.file.Stop" +
+      "SyncPOptions\"\022\n\020UnmountPResponse\"[\n\017Unmo" +
+      "untPOptions\022H\n\rcommonOptions\030\001 \001(\01321.all" +
+      "uxio.grpc.file.FileSystemMasterCommonPOp" +
+      "tions\"[\n\017UnmountPRequest\022\023\n\013alluxioPath\030" +
+      "\001 \001(\t\0223\n\007options\030\002 \001(\0132\".alluxio.grpc.fi" +
+      "le.UnmountPOptions\"L\n\007UfsInfo\022\013\n\003uri\030\001 \001" +
+      "(\t\0224\n\nproperties\030\002 \001(\0132 .alluxio.grpc.fi" +
+      "le.MountPOptions\"]\n\023UpdateMountPRequest\022" +
+      "\023\n\013alluxioPath\030\001 \001(\t\0221\n\007options\030\003 \001(\0132 ." +
+      "alluxio.grpc.file.MountPOptions\"\026\n\024Updat" +
+      "eMountPResponse\"\030\n\026UpdateUfsModePRespons" +
+      "e\"E\n\025UpdateUfsModePOptions\022,\n\007ufsMode\030\001 " +
+      "\001(\0162\033.alluxio.grpc.file.UfsPMode\"c\n\025Upda" +
+      "teUfsModePRequest\022\017\n\007ufsPath\030\001 \001(\t\0229\n\007op" +
+      "tions\030\002 \001(\0132(.alluxio.grpc.file.UpdateUf" +
+      "sModePOptions\"U\n\034FileSystemHeartbeatPRes" +
+      "ponse\0225\n\007command\030\001 \001(\0132$.alluxio.grpc.fi" +
+      "le.FileSystemCommand\"@\n\033FileSystemHeartb" +
+      "eatPOptions\022!\n\031persistedFileFingerprints" +
+      "\030\001 \003(\t\"\210\001\n\033FileSystemHeartbeatPRequest\022\020" +
+      "\n\010workerId\030\001 \001(\003\022\026\n\016persistedFiles\030\002 \003(\003" +
+      "\022?\n\007options\030\003 \001(\0132..alluxio.grpc.file.Fi" +
+      "leSystemHeartbeatPOptions\"E\n\024GetFileInfo" +
+      "PResponse\022-\n\010fileInfo\030\001 \001(\0132\033.alluxio.gr" +
+      "pc.file.FileInfo\"\025\n\023GetFileInfoPOptions\"" +
+      "^\n\023GetFileInfoPRequest\022\016\n\006fileId\030\001 \001(\003\0227" +
+      "\n\007options\030\002 \001(\0132&.alluxio.grpc.file.GetF" +
+      "ileInfoPOptions\"2\n\031GetPinnedFileIdsPResp" +
+      "onse\022\025\n\rpinnedFileIds\030\001 \003(\003\"\032\n\030GetPinned" +
+      "FileIdsPOptions\"X\n\030GetPinnedFileIdsPRequ" +
+      "est\022<\n\007options\030\001 \001(\0132+.alluxio.grpc.file" +
+      ".GetPinnedFileIdsPOptions\"B\n\023GetUfsInfoP" +
+      "Response\022+\n\007ufsInfo\030\001 \001(\0132\032.alluxio.grpc" +
+      ".file.UfsInfo\"\024\n\022GetUfsInfoPOptions\"]\n\022G" +
+      "etUfsInfoPRequest\022\017\n\007mountId\030\001 \001(\003\0226\n\007op" +
+      "tions\030\002 \001(\0132%.alluxio.grpc.file.GetUfsIn" +
+      "foPOptions\"w\n\017BatchPathResult\022\014\n\004path\030\001 " +
+      "\001(\t\022\021\n\terrorCode\030\002 \001(\005\022\024\n\014errorMessage\030\003" +
+      " \001(\t\022-\n\010fileInfo\030\004 \001(\0132\033.alluxio.grpc.fi" +
+      "le.FileInfo\"N\n\027GetStatusBatchPResponse\0223" +
+      "\n\007results\030\001 \003(\0132\".alluxio.grpc.file.Batc" +
+      "hPathResult\"^\n\026GetStatusBatchPRequest\022\r\n" +
+      "\005paths\030\001 \003(\t\0225\n\007options\030\002 \001(\0132$.alluxio." +
+      "grpc.file.GetStatusPOptions\"K\n\024DeleteBat" +
+      "chPResponse\0223\n\007results\030\001 \003(\0132\".alluxio.g" +
+      "rpc.file.BatchPathResult\"X\n\023DeleteBatchP" +
+      "Request\022\r\n\005paths\030\001 \003(\t\0222\n\007options\030\002 \001(\0132" +
+      "!.alluxio.grpc.file.DeletePOptions\"Q\n\032Se" +
+      "tAttributeBatchPResponse\0223\n\007results\030\001 \003(" +
+      "\0132\".alluxio.grpc.file.BatchPathResult\"d\n" +
+      "\031SetAttributeBatchPRequest\022\r\n\005paths\030\001 \003(" +
+      "\t\0228\n\007options\030\002 \001(\0132\'.alluxio.grpc.file.S" +
+      "etAttributePOptions\"|\n\016ContentSummary\022\016\n" +
+      "\006length\030\001 \001(\003\022\021\n\tfileCount\030\002 \001(\003\022\026\n\016dire" +
+      "ctoryCount\030\003 \001(\003\022\027\n\017inAlluxioLength\030\004 \001(" +
+      "\003\022\026\n\016inMemoryLength\030\005 \001(\003\"\177\n\031GetContentS" +
+      "ummaryPOptions\022\030\n\020includeInAlluxio\030\001 \001(\010" +
+      "\022H\n\rcommonOptions\030\002 \001(\01321.alluxio.grpc.f" +
+      "ile.FileSystemMasterCommonPOptions\"h\n\031Ge" +
+      "tContentSummaryPRequest\022\014\n\004path\030\001 \001(\t\022=\n" +
+      "\007options\030\002 \001(\0132,.alluxio.grpc.file.GetCo" +
+      "ntentSummaryPOptions\"P\n\032GetContentSummar" +
+      "yPResponse\0222\n\007summary\030\001 \001(\0132!.alluxio.gr" +
+      "pc.file.ContentSummary*h\n\nWritePType\022\016\n\n" +
+      "MUST_CACHE\020\001\022\r\n\tTRY_CACHE\020\002\022\021\n\rCACHE_THR" +
+      "OUGH\020\003\022\013\n\007THROUGH\020\004\022\021\n\rASYNC_THROUGH\020\005\022\010" +
+      "\n\004NONE\020\006*7\n\tReadPType\022\014\n\010NO_CACHE\020\001\022\t\n\005C" +
+      "ACHE\020\002\022\021\n\rCACHE_PROMOTE\020\003*4\n\021LoadMetadat" +
+      "aPType\022\t\n\005NEVER\020\000\022\010\n\004ONCE\020\001\022\n\n\006ALWAYS\020\002*" +
+      "N\n\017SyncPointStatus\022\030\n\024Not_Initially_Sync" +
+      "ed\020\000\022\013\n\007Syncing\020\001\022\024\n\020Initially_Synced\020\002*" +
+      "_\n\rPAclEntryType\022\t\n\005Owner\020\000\022\r\n\tNamedUser" +
+      "\020\001\022\017\n\013OwningGroup\020\002\022\016\n\nNamedGroup\020\003\022\010\n\004M" +
+      "ask\020\004\022\t\n\005Other\020\005*.\n\nPAclAction\022\010\n\004Read\020\000" +
+      "\022\t\n\005Write\020\001\022\013\n\007Execute\020\002*W\n\014SetAclAction" +
+      "\022\013\n\007REPLACE\020\000\022\n\n\006MODIFY\020\001\022\n\n\006REMOVE\020\002\022\016\n" +
+      "\nREMOVE_ALL\020\003\022\022\n\016REMOVE_DEFAULT\020\004*8\n\010Ufs" +
+      "PMode\022\r\n\tNO_ACCESS\020\001\022\r\n\tREAD_ONLY\020\002\022\016\n\nR" +
+      "EAD_WRITE\020\0032\217\024\n\035FileSystemMasterClientSe" +
+      "rvice\022m\n\020CheckConsistency\022+.alluxio.grpc" +
+      ".file.CheckConsistencyPRequest\032,.alluxio" +
+      ".grpc.file.CheckConsistencyPResponse\022a\n\014" +
+      "CompleteFile\022\'.alluxio.grpc.file.Complet" +
+      "eFilePRequest\032(.alluxio.grpc.file.Comple" +
+      "teFilePResponse\022j\n\017CreateDirectory\022*.all" +
+      "uxio.grpc.file.CreateDirectoryPRequest\032+" +
+      ".alluxio.grpc.file.CreateDirectoryPRespo" +
+      "nse\022[\n\nCreateFile\022%.alluxio.grpc.file.Cr" +
+      "eateFilePRequest\032&.alluxio.grpc.file.Cre" +
+      "ateFilePResponse\022I\n\004Free\022\037.alluxio.grpc." +
+      "file.FreePRequest\032 .alluxio.grpc.file.Fr" +
+      "eePResponse\022^\n\013GetFilePath\022&.alluxio.grp" +
+      "c.file.GetFilePathPRequest\032\'.alluxio.grp" +
+      "c.file.GetFilePathPResponse\022d\n\rGetMountT" +
+      "able\022(.alluxio.grpc.file.GetMountTablePR" +
+      "equest\032).alluxio.grpc.file.GetMountTable" +
+      "PResponse\022j\n\017GetSyncPathList\022*.alluxio.g" +
+      "rpc.file.GetSyncPathListPRequest\032+.allux" +
+      "io.grpc.file.GetSyncPathListPResponse\022y\n" +
+      "\024GetNewBlockIdForFile\022/.alluxio.grpc.fil" +
+      "e.GetNewBlockIdForFilePRequest\0320.alluxio" +
+      ".grpc.file.GetNewBlockIdForFilePResponse" +
+      "\022X\n\tGetStatus\022$.alluxio.grpc.file.GetSta" +
+      "tusPRequest\032%.alluxio.grpc.file.GetStatu" +
+      "sPResponse\022]\n\nListStatus\022%.alluxio.grpc." +
+      "file.ListStatusPRequest\032&.alluxio.grpc.f" +
+      "ile.ListStatusPResponse0\001\022L\n\005Mount\022 .all" +
+      "uxio.grpc.file.MountPRequest\032!.alluxio.g" +
+      "rpc.file.MountPResponse\022O\n\006Remove\022!.allu" +
+      "xio.grpc.file.DeletePRequest\032\".alluxio.g" +
+      "rpc.file.DeletePResponse\022O\n\006Rename\022!.all" +
+      "uxio.grpc.file.RenamePRequest\032\".alluxio." +
+      "grpc.file.RenamePResponse\022\205\001\n\030ScheduleAs" +
+      "yncPersistence\0223.alluxio.grpc.file.Sched" +
+      "uleAsyncPersistencePRequest\0324.alluxio.gr" +
+      "pc.file.ScheduleAsyncPersistencePRespons" +
+      "e\022O\n\006SetAcl\022!.alluxio.grpc.file.SetAclPR" +
+      "equest\032\".alluxio.grpc.file.SetAclPRespon" +
+      "se\022a\n\014SetAttribute\022\'.alluxio.grpc.file.S" +
+      "etAttributePRequest\032(.alluxio.grpc.file." +
+      "SetAttributePResponse\022X\n\tStartSync\022$.all" +
+      "uxio.grpc.file.StartSyncPRequest\032%.allux" +
+      "io.grpc.file.StartSyncPResponse\022U\n\010StopS" +
+      "ync\022#.alluxio.grpc.file.StopSyncPRequest" +
+      "\032$.alluxio.grpc.file.StopSyncPResponse\022R" +
+      "\n\007Unmount\022\".alluxio.grpc.file.UnmountPRe" +
+      "quest\032#.alluxio.grpc.file.UnmountPRespon" +
+      "se\022^\n\013UpdateMount\022&.alluxio.grpc.file.Up" +
+      "dateMountPRequest\032\'.alluxio.grpc.file.Up" +
+      "dateMountPResponse\022d\n\rUpdateUfsMode\022(.al" +
+      "luxio.grpc.file.UpdateUfsModePRequest\032)." +
+      "alluxio.grpc.file.UpdateUfsModePResponse" +
+      "\022g\n\016GetStatusBatch\022).alluxio.grpc.file.G" +
+      "etStatusBatchPRequest\032*.alluxio.grpc.fil" +
+      "e.GetStatusBatchPResponse\022^\n\013RemoveBatch" +
+      "\022&.alluxio.grpc.file.DeleteBatchPRequest" +
+      "\032\'.alluxio.grpc.file.DeleteBatchPRespons" +
+      "e\022p\n\021SetAttributeBatch\022,.alluxio.grpc.fi" +
+      "le.SetAttributeBatchPRequest\032-.alluxio.g" +
+      "rpc.file.SetAttributeBatchPResponse\022p\n\021G" +
+      "etContentSummary\022,.alluxio.grpc.file.Get" +
+      "ContentSummaryPRequest\032-.alluxio.grpc.fi" +
+      "le.GetContentSummaryPResponse2\303\003\n\035FileSy" +
+      "stemMasterWorkerService\022v\n\023FileSystemHea" +
+      "rtbeat\022..alluxio.grpc.file.FileSystemHea" +
+      "rtbeatPRequest\032/.alluxio.grpc.file.FileS" +
+      "ystemHeartbeatPResponse\022^\n\013GetFileInfo\022&" +
+      ".alluxio.grpc.file.GetFileInfoPRequest\032\'" +
+      ".alluxio.grpc.file.GetFileInfoPResponse\022" +
+      "m\n\020GetPinnedFileIds\022+.alluxio.grpc.file." +
+      "GetPinnedFileIdsPRequest\032,.alluxio.grpc." +
+      "file.GetPinnedFileIdsPResponse\022[\n\nGetUfs" +
+      "Info\022%.alluxio.grpc.file.GetUfsInfoPRequ" +
+      "est\032&.alluxio.grpc.file.GetUfsInfoPRespo" +
+      "nse2\331\001\n\032FileSystemMasterJobService\022^\n\013Ge" +
+      "tFileInfo\022&.alluxio.grpc.file.GetFileInf" +
+      "oPRequest\032\'.alluxio.grpc.file.GetFileInf" +
+      "oPResponse\022[\n\nGetUfsInfo\022%.alluxio.grpc." +
+      "file.GetUfsInfoPRequest\032&.alluxio.grpc.f" +
+      "ile.GetUfsInfoPResponseB\'\n\014alluxio.grpcB" +
+      "\025FileSystemMasterProtoP\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -1002,13 +1097,13 @@ public final class FileSystemMasterProto {
     internal_static_alluxio_grpc_file_ListStatusPResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_file_ListStatusPResponse_descriptor,
-        new java.lang.String[] { "FileInfos", });
+        new java.lang.String[] { "FileInfos", "ContinuationToken", });
     internal_static_alluxio_grpc_file_ListStatusPOptions_descriptor =
       getDescriptor().getMessageTypes().get(31);
     internal_static_alluxio_grpc_file_ListStatusPOptions_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_file_ListStatusPOptions_descriptor,
-        new java.lang.String[] { "LoadDirectChildren", "LoadMetadataType", "CommonOptions", "Recursive", });
+        new java.lang.String[] { "LoadDirectChildren", "LoadMetadataType", "CommonOptions", "Recursive", "StartAfter", "BatchSize", });
     internal_static_alluxio_grpc_file_ListStatusPRequest_descriptor =
       getDescriptor().getMessageTypes().get(32);
     internal_static_alluxio_grpc_file_ListStatusPRequest_fieldAccessorTable = new
@@ -1369,6 +1464,72 @@ public final class FileSystemMasterProto {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_file_GetUfsInfoPRequest_descriptor,
         new java.lang.String[] { "MountId", "Options", });
+    internal_static_alluxio_grpc_file_BatchPathResult_descriptor =
+      getDescriptor().getMessageTypes().get(89);
+    internal_static_alluxio_grpc_file_BatchPathResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_file_BatchPathResult_descriptor,
+        new java.lang.String[] { "Path", "ErrorCode", "ErrorMessage", "FileInfo", });
+    internal_static_alluxio_grpc_file_GetStatusBatchPResponse_descriptor =
+      getDescriptor().getMessageTypes().get(90);
+    internal_static_alluxio_grpc_file_GetStatusBatchPResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_file_GetStatusBatchPResponse_descriptor,
+        new java.lang.String[] { "Results", });
+    internal_static_alluxio_grpc_file_GetStatusBatchPRequest_descriptor =
+      getDescriptor().getMessageTypes().get(91);
+    internal_static_alluxio_grpc_file_GetStatusBatchPRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_file_GetStatusBatchPRequest_descriptor,
+        new java.lang.String[] { "Paths", "Options", });
+    internal_static_alluxio_grpc_file_DeleteBatchPResponse_descriptor =
+      getDescriptor().getMessageTypes().get(92);
+    internal_static_alluxio_grpc_file_DeleteBatchPResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_file_DeleteBatchPResponse_descriptor,
+        new java.lang.String[] { "Results", });
+    internal_static_alluxio_grpc_file_DeleteBatchPRequest_descriptor =
+      getDescriptor().getMessageTypes().get(93);
+    internal_static_alluxio_grpc_file_DeleteBatchPRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_file_DeleteBatchPRequest_descriptor,
+        new java.lang.String[] { "Paths", "Options", });
+    internal_static_alluxio_grpc_file_SetAttributeBatchPResponse_descriptor =
+      getDescriptor().getMessageTypes().get(94);
+    internal_static_alluxio_grpc_file_SetAttributeBatchPResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_file_SetAttributeBatchPResponse_descriptor,
+        new java.lang.String[] { "Results", });
+    internal_static_alluxio_grpc_file_SetAttributeBatchPRequest_descriptor =
+      getDescriptor().getMessageTypes().get(95);
+    internal_static_alluxio_grpc_file_SetAttributeBatchPRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_file_SetAttributeBatchPRequest_descriptor,
+        new java.lang.String[] { "Paths", "Options", });
+    internal_static_alluxio_grpc_file_ContentSummary_descriptor =
+      getDescriptor().getMessageTypes().get(96);
+    internal_static_alluxio_grpc_file_ContentSummary_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_file_ContentSummary_descriptor,
+        new java.lang.String[] { "Length", "FileCount", "DirectoryCount", "InAlluxioLength", "InMemoryLength", });
+    internal_static_alluxio_grpc_file_GetContentSummaryPOptions_descriptor =
+      getDescriptor().getMessageTypes().get(97);
+    internal_static_alluxio_grpc_file_GetContentSummaryPOptions_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_file_GetContentSummaryPOptions_descriptor,
+        new java.lang.String[] { "IncludeInAlluxio", "CommonOptions", });
+    internal_static_alluxio_grpc_file_GetContentSummaryPRequest_descriptor =
+      getDescriptor().getMessageTypes().get(98);
+    internal_static_alluxio_grpc_file_GetContentSummaryPRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_file_GetContentSummaryPRequest_descriptor,
+        new java.lang.String[] { "Path", "Options", });
+    internal_static_alluxio_grpc_file_GetContentSummaryPResponse_descriptor =
+      getDescriptor().getMessageTypes().get(99);
+    internal_static_alluxio_grpc_file_GetContentSummaryPResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_file_GetContentSummaryPResponse_descriptor,
+        new java.lang.String[] { "Summary", });
     alluxio.grpc.CommonProto.getDescriptor();
     alluxio.grpc.FsCommonProto.getDescriptor();
   }
@@ -54,4 +54,47 @@ public interface ListStatusPOptionsOrBuilder extends
    * <code>optional bool recursive = 4;</code>
    */
   boolean getRecursive();
+
+  /**
+   * <pre>
+   * only list entries whose names sort strictly after this name
+   * </pre>
+   *
+   * <code>optional string startAfter = 5;</code>
+   */
+  boolean hasStartAfter();
+  /**
+   * <pre>
+   * only list entries whose names sort strictly after this name
+   * </pre>
+   *
+   * <code>optional string startAfter = 5;</code>
+   */
+  java.lang.String getStartAfter();
+  /**
+   * <pre>
+   * only list entries whose names sort strictly after this name
+   * </pre>
+   *
+   * <code>optional string startAfter = 5;</code>
+   */
+  com.google.protobuf.ByteString
+      getStartAfterBytes();
+
+  /**
+   * <pre>
+   * the maximum number of entries to list, non-positive for no limit
+   * </pre>
+   *
+   * <code>optional int32 batchSize = 6;</code>
+   */
+  boolean hasBatchSize();
+  /**
+   * <pre>
+   * the maximum number of entries to list, non-positive for no limit
+   * </pre>
+   *
+   * <code>optional int32 batchSize = 6;</code>
+   */
+  int getBatchSize();
 }
@@ -17,6 +17,7 @@ private static final long serialVersionUID = 0L;
   }
   private ListStatusPResponse() {
     fileInfos_ = java.util.Collections.emptyList();
+    continuationToken_ = "";
   }
 
   @java.lang.Override
@@ -59,6 +60,12 @@ private static final long serialVersionUID = 0L;
                 input.readMessage(alluxio.grpc.FileInfo.PARSER, extensionRegistry));
             break;
           }
+          case 18: {
+            com.google.protobuf.ByteString bs = input.readBytes();
+            bitField0_ |= 0x00000001;
+            continuationToken_ = bs;
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -86,6 +93,7 @@ private static final long serialVersionUID = 0L;
             alluxio.grpc.ListStatusPResponse.class, alluxio.grpc.ListStatusPResponse.Builder.class);
   }
 
+  private int bitField0_;
   public static final int FILEINFOS_FIELD_NUMBER = 1;
   private java.util.List<alluxio.grpc.FileInfo> fileInfos_;
   /**
@@ -121,6 +129,63 @@ private static final long serialVersionUID = 0L;
     return fileInfos_.get(index);
   }
 
+  public static final int CONTINUATIONTOKEN_FIELD_NUMBER = 2;
+  private volatile java.lang.Object continuationToken_;
+  /**
+   * <pre>
+   * set on the last response of a paginated listing when more entries remain; pass it back as
+   * startAfter to fetch the next page
+   * </pre>
+   *
+   * <code>optional string continuationToken = 2;</code>
+   */
+  public boolean hasContinuationToken() {
+    return ((bitField0_ & 0x00000001) == 0x00000001);
+  }
+  /**
+   * <pre>
+   * set on the last response of a paginated listing when more entries remain; pass it back as
+   * startAfter to fetch the next page
+   * </pre>
+   *
+   * <code>optional string continuationToken = 2;</code>
+   */
+  public java.lang.String getContinuationToken() {
+    java.lang.Object ref = continuationToken_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (bs.isValidUtf8()) {
+        continuationToken_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * set on the last response of a paginated listing when more entries remain; pass it back as
+   * startAfter to fetch the next page
+   * </pre>
+   *
+   * <code>optional string continuationToken = 2;</code>
+   */
+  public com.google.protobuf.ByteString
+      getContinuationTokenBytes() {
+    java.lang.Object ref = continuationToken_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      continuationToken_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
@@ -136,6 +201,9 @@ private static final long serialVersionUID = 0L;
     for (int i = 0; i < fileInfos_.size(); i++) {
       output.writeMessage(1, fileInfos_.get(i));
     }
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, continuationToken_);
+    }
     unknownFields.writeTo(output);
   }
 
@@ -148,6 +216,9 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeMessageSize(1, fileInfos_.get(i));
     }
+    if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, continuationToken_);
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -166,6 +237,11 @@ private static final long serialVersionUID = 0L;
     boolean result = true;
     result = result && getFileInfosList()
         .equals(other.getFileInfosList());
+    result = result && (hasContinuationToken() == other.hasContinuationToken());
+    if (hasContinuationToken()) {
+      result = result && getContinuationToken()
+          .equals(other.getContinuationToken());
+    }
     result = result && unknownFields.equals(other.unknownFields);
     return result;
   }
@@ -181,6 +257,10 @@ private static final long serialVersionUID = 0L;
       hash = (37 * hash) + FILEINFOS_FIELD_NUMBER;
       hash = (53 * hash) + getFileInfosList().hashCode();
     }
+    if (hasContinuationToken()) {
+      hash = (37 * hash) + CONTINUATIONTOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getContinuationToken().hashCode();
+    }
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -317,6 +397,8 @@ private static final long serialVersionUID = 0L;
       } else {
         fileInfosBuilder_.clear();
       }
+      continuationToken_ = "";
+      bitField0_ = (bitField0_ & ~0x00000002);
       return this;
     }
 
@@ -340,6 +422,7 @@ private static final long serialVersionUID = 0L;
     public alluxio.grpc.ListStatusPResponse buildPartial() {
       alluxio.grpc.ListStatusPResponse result = new alluxio.grpc.ListStatusPResponse(this);
       int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
       if (fileInfosBuilder_ == null) {
         if (((bitField0_ & 0x00000001) == 0x00000001)) {
           fileInfos_ = java.util.Collections.unmodifiableList(fileInfos_);
@@ -349,6 +432,11 @@ private static final long serialVersionUID = 0L;
       } else {
         result.fileInfos_ = fileInfosBuilder_.build();
       }
+      if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+        to_bitField0_ |= 0x00000001;
+      }
+      result.continuationToken_ = continuationToken_;
+      result.bitField0_ = to_bitField0_;
       onBuilt();
       return result;
     }
@@ -416,6 +504,11 @@ private static final long serialVersionUID = 0L;
           }
         }
       }
+      if (other.hasContinuationToken()) {
+        bitField0_ |= 0x00000002;
+        continuationToken_ = other.continuationToken_;
+        onChanged();
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -683,6 +776,112 @@ private static final long serialVersionUID = 0L;
       }
       return fileInfosBuilder_;
     }
+
+    private java.lang.Object continuationToken_ = "";
+    /**
+     * <pre>
+     * set on the last response of a paginated listing when more entries remain; pass it back as
+     * startAfter to fetch the next page
+     * </pre>
+     *
+     * <code>optional string continuationToken = 2;</code>
+     */
+    public boolean hasContinuationToken() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <pre>
+     * set on the last response of a paginated listing when more entries remain; pass it back as
+     * startAfter to fetch the next page
+     * </pre>
+     *
+     * <code>optional string continuationToken = 2;</code>
+     */
+    public java.lang.String getContinuationToken() {
+      java.lang.Object ref = continuationToken_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          continuationToken_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * set on the last response of a paginated listing when more entries remain; pass it back as
+     * startAfter to fetch the next page
+     * </pre>
+     *
+     * <code>optional string continuationToken = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getContinuationTokenBytes() {
+      java.lang.Object ref = continuationToken_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        continuationToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * set on the last response of a paginated listing when more entries remain; pass it back as
+     * startAfter to fetch the next page
+     * </pre>
+     *
+     * <code>optional string continuationToken = 2;</code>
+     */
+    public Builder setContinuationToken(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+      continuationToken_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * set on the last response of a paginated listing when more entries remain; pass it back as
+     * startAfter to fetch the next page
+     * </pre>
+     *
+     * <code>optional string continuationToken = 2;</code>
+     */
+    public Builder clearContinuationToken() {
+      bitField0_ = (bitField0_ & ~0x00000002);
+      continuationToken_ = getDefaultInstance().getContinuationToken();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * set on the last response of a paginated listing when more entries remain; pass it back as
+     * startAfter to fetch the next page
+     * </pre>
+     *
+     * <code>optional string continuationToken = 2;</code>
+     */
+    public Builder setContinuationTokenBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+      continuationToken_ = value;
+      onChanged();
+      return this;
+    }
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
       return super.setUnknownFields(unknownFields);
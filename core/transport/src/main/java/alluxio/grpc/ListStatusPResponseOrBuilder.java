@@ -30,4 +30,33 @@ public interface ListStatusPResponseOrBuilder extends
    */
   alluxio.grpc.FileInfoOrBuilder getFileInfosOrBuilder(
       int index);
+
+  /**
+   * <pre>
+   * set on the last response of a paginated listing when more entries remain; pass it back as
+   * startAfter to fetch the next page
+   * </pre>
+   *
+   * <code>optional string continuationToken = 2;</code>
+   */
+  boolean hasContinuationToken();
+  /**
+   * <pre>
+   * set on the last response of a paginated listing when more entries remain; pass it back as
+   * startAfter to fetch the next page
+   * </pre>
+   *
+   * <code>optional string continuationToken = 2;</code>
+   */
+  java.lang.String getContinuationToken();
+  /**
+   * <pre>
+   * set on the last response of a paginated listing when more entries remain; pass it back as
+   * startAfter to fetch the next page
+   * </pre>
+   *
+   * <code>optional string continuationToken = 2;</code>
+   */
+  com.google.protobuf.ByteString
+      getContinuationTokenBytes();
 }
@@ -5849,10 +5849,27 @@ public final class File {
      */
     com.google.protobuf.ByteString
         getPathBytes();
+
+    /**
+     * <pre>
+     * The id of the parent directory, used to order the entry against other entries for the parent
+     * </pre>
+     *
+     * <code>optional int64 parent_id = 6;</code>
+     */
+    boolean hasParentId();
+    /**
+     * <pre>
+     * The id of the parent directory, used to order the entry against other entries for the parent
+     * </pre>
+     *
+     * <code>optional int64 parent_id = 6;</code>
+     */
+    long getParentId();
   }
   /**
    * <pre>
-   * next available id: 6
+   * next available id: 7
    * </pre>
    *
    * Protobuf type {@code alluxio.proto.journal.DeleteFileEntry}
@@ -5872,6 +5889,7 @@ public final class File {
       opTimeMs_ = 0L;
       alluxioOnly_ = false;
       path_ = "";
+      parentId_ = 0L;
     }
 
     @java.lang.Override
@@ -5931,6 +5949,11 @@ public final class File {
               path_ = bs;
               break;
             }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              parentId_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -6074,6 +6097,29 @@ public final class File {
       }
     }
 
+    public static final int PARENT_ID_FIELD_NUMBER = 6;
+    private long parentId_;
+    /**
+     * <pre>
+     * The id of the parent directory, used to order the entry against other entries for the parent
+     * </pre>
+     *
+     * <code>optional int64 parent_id = 6;</code>
+     */
+    public boolean hasParentId() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <pre>
+     * The id of the parent directory, used to order the entry against other entries for the parent
+     * </pre>
+     *
+     * <code>optional int64 parent_id = 6;</code>
+     */
+    public long getParentId() {
+      return parentId_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -6101,6 +6147,9 @@ public final class File {
       if (((bitField0_ & 0x00000010) == 0x00000010)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 5, path_);
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeInt64(6, parentId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -6128,6 +6177,10 @@ public final class File {
       if (((bitField0_ & 0x00000010) == 0x00000010)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, path_);
       }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, parentId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -6169,6 +6222,11 @@ public final class File {
         result = result && getPath()
             .equals(other.getPath());
       }
+      result = result && (hasParentId() == other.hasParentId());
+      if (hasParentId()) {
+        result = result && (getParentId()
+            == other.getParentId());
+      }
       result = result && unknownFields.equals(other.unknownFields);
       return result;
     }
@@ -6204,6 +6262,11 @@ public final class File {
         hash = (37 * hash) + PATH_FIELD_NUMBER;
         hash = (53 * hash) + getPath().hashCode();
       }
+      if (hasParentId()) {
+        hash = (37 * hash) + PARENT_ID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getParentId());
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -6299,7 +6362,7 @@ public final class File {
     }
     /**
      * <pre>
-     * next available id: 6
+     * next available id: 7
      * </pre>
      *
      * Protobuf type {@code alluxio.proto.journal.DeleteFileEntry}
@@ -6347,6 +6410,8 @@ public final class File {
         bitField0_ = (bitField0_ & ~0x00000008);
         path_ = "";
         bitField0_ = (bitField0_ & ~0x00000010);
+        parentId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
@@ -6391,6 +6456,10 @@ public final class File {
           to_bitField0_ |= 0x00000010;
         }
         result.path_ = path_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.parentId_ = parentId_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -6450,6 +6519,9 @@ public final class File {
           path_ = other.path_;
           onChanged();
         }
+        if (other.hasParentId()) {
+          setParentId(other.getParentId());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -6713,6 +6785,54 @@ public final class File {
         onChanged();
         return this;
       }
+
+      private long parentId_ ;
+      /**
+       * <pre>
+       * The id of the parent directory, used to order the entry against other entries for the parent
+       * </pre>
+       *
+       * <code>optional int64 parent_id = 6;</code>
+       */
+      public boolean hasParentId() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <pre>
+       * The id of the parent directory, used to order the entry against other entries for the parent
+       * </pre>
+       *
+       * <code>optional int64 parent_id = 6;</code>
+       */
+      public long getParentId() {
+        return parentId_;
+      }
+      /**
+       * <pre>
+       * The id of the parent directory, used to order the entry against other entries for the parent
+       * </pre>
+       *
+       * <code>optional int64 parent_id = 6;</code>
+       */
+      public Builder setParentId(long value) {
+        bitField0_ |= 0x00000020;
+        parentId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * The id of the parent directory, used to order the entry against other entries for the parent
+       * </pre>
+       *
+       * <code>optional int64 parent_id = 6;</code>
+       */
+      public Builder clearParentId() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        parentId_ = 0L;
+        onChanged();
+        return this;
+      }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
         return super.setUnknownFields(unknownFields);
@@ -27851,102 +27971,103 @@ public final class File {
       "stEntry\022\017\n\007file_id\030\001 \001(\003\"o\n\021CompleteFile" +
       "Entry\022\021\n\tblock_ids\030\001 \003(\003\022\n\n\002id\030\002 \001(\003\022\016\n\006" +
       "length\030\003 \001(\003\022\022\n\nop_time_ms\030\004 \001(\003\022\027\n\017ufs_" +
-      "fingerprint\030\005 \001(\t\"g\n\017DeleteFileEntry\022\n\n\002" +
+      "fingerprint\030\005 \001(\t\"z\n\017DeleteFileEntry\022\n\n\002" +
       "id\030\001 \001(\003\022\021\n\trecursive\030\002 \001(\010\022\022\n\nop_time_m" +
       "s\030\003 \001(\003\022\023\n\013alluxioOnly\030\004 \001(\010\022\014\n\004path\030\005 \001" +
-      "(\t\"-\n\025DeleteMountPointEntry\022\024\n\014alluxio_p" +
-      "ath\030\001 \001(\t\"\033\n\rNewBlockEntry\022\n\n\002id\030\001 \001(\003\"\230" +
-      "\004\n\020UpdateInodeEntry\022\n\n\002id\030\001 \001(\003\022\021\n\tparen" +
-      "t_id\030\002 \001(\003\022\014\n\004name\030\003 \001(\t\022\031\n\021persistence_" +
-      "state\030\004 \001(\t\022\016\n\006pinned\030\005 \001(\010\022\030\n\020creation_" +
-      "time_ms\030\006 \001(\003\022!\n\031last_modification_time_" +
-      "ms\030\007 \001(\003\022#\n\033overwrite_modification_time\030" +
-      "\010 \001(\010\022\r\n\005owner\030\t \001(\t\022\r\n\005group\030\n \001(\t\022\014\n\004m" +
-      "ode\030\013 \001(\005\022\013\n\003ttl\030\014 \001(\003\022<\n\tttlAction\030\r \001(" +
+      "(\t\022\021\n\tparent_id\030\006 \001(\003\"-\n\025DeleteMountPoin" +
+      "tEntry\022\024\n\014alluxio_path\030\001 \001(\t\"\033\n\rNewBlock" +
+      "Entry\022\n\n\002id\030\001 \001(\003\"\230\004\n\020UpdateInodeEntry\022\n" +
+      "\n\002id\030\001 \001(\003\022\021\n\tparent_id\030\002 \001(\003\022\014\n\004name\030\003 " +
+      "\001(\t\022\031\n\021persistence_state\030\004 \001(\t\022\016\n\006pinned" +
+      "\030\005 \001(\010\022\030\n\020creation_time_ms\030\006 \001(\003\022!\n\031last" +
+      "_modification_time_ms\030\007 \001(\003\022#\n\033overwrite" +
+      "_modification_time\030\010 \001(\010\022\r\n\005owner\030\t \001(\t\022" +
+      "\r\n\005group\030\n \001(\t\022\014\n\004mode\030\013 \001(\005\022\013\n\003ttl\030\014 \001(" +
+      "\003\022<\n\tttlAction\030\r \001(\0162!.alluxio.proto.jou" +
+      "rnal.PTtlAction:\006DELETE\0224\n\003acl\030\016 \001(\0132\'.a" +
+      "lluxio.proto.shared.AccessControlList\022\027\n" +
+      "\017ufs_fingerprint\030\017 \001(\t\022\023\n\013medium_type\030\020 " +
+      "\003(\t\022A\n\005xAttr\030\021 \003(\01322.alluxio.proto.journ" +
+      "al.UpdateInodeEntry.XAttrEntry\032,\n\nXAttrE" +
+      "ntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\014:\0028\001\"\231\001\n" +
+      "\031UpdateInodeDirectoryEntry\022\n\n\002id\030\001 \001(\003\022\023" +
+      "\n\013mount_point\030\002 \001(\010\022\036\n\026direct_children_l" +
+      "oaded\030\003 \001(\010\022;\n\ndefaultAcl\030\004 \001(\0132\'.alluxi" +
+      "o.proto.shared.AccessControlList\"\355\002\n\024Upd" +
+      "ateInodeFileEntry\022\n\n\002id\030\001 \001(\003\022\030\n\020block_s" +
+      "ize_bytes\030\002 \001(\003\022\016\n\006length\030\003 \001(\003\022\021\n\tcompl" +
+      "eted\030\004 \001(\010\022\021\n\tcacheable\030\005 \001(\010\022\022\n\nset_blo" +
+      "cks\030\007 \003(\003\022\027\n\017replication_max\030\010 \001(\005\022\027\n\017re" +
+      "plication_min\030\t \001(\005\022\026\n\016persist_job_id\030\n " +
+      "\001(\003\022\025\n\rtemp_ufs_path\030\013 \001(\t\022\014\n\004path\030\014 \001(\t" +
+      "\022G\n\006xAttrs\030\r \003(\01327.alluxio.proto.journal" +
+      ".UpdateInodeFileEntry.XAttrsEntry\032-\n\013XAt" +
+      "trsEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\014:\0028\001" +
+      "\"\340\004\n\023InodeDirectoryEntry\022\n\n\002id\030\001 \001(\003\022\021\n\t" +
+      "parent_id\030\002 \001(\003\022\014\n\004name\030\003 \001(\t\022\031\n\021persist" +
+      "ence_state\030\004 \001(\t\022\016\n\006pinned\030\005 \001(\010\022\030\n\020crea" +
+      "tion_time_ms\030\006 \001(\003\022!\n\031last_modification_" +
+      "time_ms\030\007 \001(\003\022\r\n\005owner\030\010 \001(\t\022\r\n\005group\030\t " +
+      "\001(\t\022\014\n\004mode\030\n \001(\005\022\023\n\013mount_point\030\013 \001(\010\022\036" +
+      "\n\026direct_children_loaded\030\014 \001(\010\022\013\n\003ttl\030\r " +
+      "\001(\003\022<\n\tttlAction\030\016 \001(\0162!.alluxio.proto.j" +
+      "ournal.PTtlAction:\006DELETE\0224\n\003acl\030\017 \001(\0132\'" +
+      ".alluxio.proto.shared.AccessControlList\022" +
+      ";\n\ndefaultAcl\030\020 \001(\0132\'.alluxio.proto.shar" +
+      "ed.AccessControlList\022\014\n\004path\030\021 \001(\t\022\023\n\013me" +
+      "dium_type\030\022 \003(\t\022D\n\005xAttr\030\023 \003(\01325.alluxio" +
+      ".proto.journal.InodeDirectoryEntry.XAttr" +
+      "Entry\032,\n\nXAttrEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005valu" +
+      "e\030\002 \001(\014:\0028\001\"O\n\036InodeDirectoryIdGenerator" +
+      "Entry\022\024\n\014container_id\030\001 \001(\003\022\027\n\017sequence_" +
+      "number\030\002 \001(\003\"\370\005\n\016InodeFileEntry\022\n\n\002id\030\001 " +
+      "\001(\003\022\021\n\tparent_id\030\002 \001(\003\022\014\n\004name\030\003 \001(\t\022\031\n\021" +
+      "persistence_state\030\004 \001(\t\022\016\n\006pinned\030\005 \001(\010\022" +
+      "\030\n\020creation_time_ms\030\006 \001(\003\022!\n\031last_modifi" +
+      "cation_time_ms\030\007 \001(\003\022\030\n\020block_size_bytes" +
+      "\030\010 \001(\003\022\016\n\006length\030\t \001(\003\022\021\n\tcompleted\030\n \001(" +
+      "\010\022\021\n\tcacheable\030\013 \001(\010\022\016\n\006blocks\030\014 \003(\003\022\013\n\003" +
+      "ttl\030\r \001(\003\022\r\n\005owner\030\016 \001(\t\022\r\n\005group\030\017 \001(\t\022" +
+      "\014\n\004mode\030\020 \001(\005\022<\n\tttlAction\030\021 \001(\0162!.allux" +
+      "io.proto.journal.PTtlAction:\006DELETE\022\027\n\017u" +
+      "fs_fingerprint\030\022 \001(\t\0224\n\003acl\030\023 \001(\0132\'.allu" +
+      "xio.proto.shared.AccessControlList\022\027\n\017re" +
+      "plication_max\030\024 \001(\005\022\027\n\017replication_min\030\025" +
+      " \001(\005\022\026\n\016persist_job_id\030\026 \001(\003\022\025\n\rtemp_ufs" +
+      "_path\030\027 \001(\t\022\033\n\023replication_durable\030\030 \001(\005" +
+      "\022\014\n\004path\030\031 \001(\t\022\023\n\013medium_type\030\032 \003(\t\022\033\n\023s" +
+      "hould_persist_time\030\033 \001(\003\022?\n\005xAttr\030\034 \003(\0132" +
+      "0.alluxio.proto.journal.InodeFileEntry.X" +
+      "AttrEntry\032,\n\nXAttrEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005" +
+      "value\030\002 \001(\014:\0028\001\"O\n\036InodeLastModification" +
+      "TimeEntry\022\n\n\002id\030\001 \001(\003\022!\n\031last_modificati" +
+      "on_time_ms\030\002 \001(\003\"#\n\025PersistDirectoryEntr" +
+      "y\022\n\n\002id\030\001 \001(\003\"B\n\020PersistFileEntry\022\n\n\002id\030" +
+      "\001 \001(\003\022\016\n\006length\030\002 \001(\003\022\022\n\nop_time_ms\030\003 \001(" +
+      "\003\"\210\001\n\013RenameEntry\022\n\n\002id\030\001 \001(\003\022\020\n\010dst_pat" +
+      "h\030\002 \001(\t\022\022\n\nop_time_ms\030\003 \001(\003\022\025\n\rnew_paren" +
+      "t_id\030\004 \001(\003\022\020\n\010new_name\030\005 \001(\t\022\014\n\004path\030\006 \001" +
+      "(\t\022\020\n\010new_path\030\007 \001(\t\"\247\001\n\013SetAclEntry\022\n\n\002" +
+      "id\030\001 \001(\003\022\022\n\nop_time_ms\030\002 \001(\003\0224\n\006action\030\003" +
+      " \001(\0162$.alluxio.proto.journal.PSetAclActi" +
+      "on\022/\n\007entries\030\004 \003(\0132\036.alluxio.proto.shar" +
+      "ed.AclEntry\022\021\n\trecursive\030\005 \001(\010\"\311\002\n\021SetAt" +
+      "tributeEntry\022\n\n\002id\030\001 \001(\003\022\022\n\nop_time_ms\030\002" +
+      " \001(\003\022\016\n\006pinned\030\003 \001(\010\022\013\n\003ttl\030\004 \001(\003\022\021\n\tper" +
+      "sisted\030\005 \001(\010\022\r\n\005owner\030\006 \001(\t\022\r\n\005group\030\007 \001" +
+      "(\t\022\022\n\npermission\030\010 \001(\005\022<\n\tttlAction\030\t \001(" +
       "\0162!.alluxio.proto.journal.PTtlAction:\006DE" +
-      "LETE\0224\n\003acl\030\016 \001(\0132\'.alluxio.proto.shared" +
-      ".AccessControlList\022\027\n\017ufs_fingerprint\030\017 " +
-      "\001(\t\022\023\n\013medium_type\030\020 \003(\t\022A\n\005xAttr\030\021 \003(\0132" +
-      "2.alluxio.proto.journal.UpdateInodeEntry" +
-      ".XAttrEntry\032,\n\nXAttrEntry\022\013\n\003key\030\001 \001(\t\022\r" +
-      "\n\005value\030\002 \001(\014:\0028\001\"\231\001\n\031UpdateInodeDirecto" +
-      "ryEntry\022\n\n\002id\030\001 \001(\003\022\023\n\013mount_point\030\002 \001(\010" +
-      "\022\036\n\026direct_children_loaded\030\003 \001(\010\022;\n\ndefa" +
-      "ultAcl\030\004 \001(\0132\'.alluxio.proto.shared.Acce" +
-      "ssControlList\"\355\002\n\024UpdateInodeFileEntry\022\n" +
-      "\n\002id\030\001 \001(\003\022\030\n\020block_size_bytes\030\002 \001(\003\022\016\n\006" +
-      "length\030\003 \001(\003\022\021\n\tcompleted\030\004 \001(\010\022\021\n\tcache" +
-      "able\030\005 \001(\010\022\022\n\nset_blocks\030\007 \003(\003\022\027\n\017replic" +
-      "ation_max\030\010 \001(\005\022\027\n\017replication_min\030\t \001(\005" +
-      "\022\026\n\016persist_job_id\030\n \001(\003\022\025\n\rtemp_ufs_pat" +
-      "h\030\013 \001(\t\022\014\n\004path\030\014 \001(\t\022G\n\006xAttrs\030\r \003(\01327." +
-      "alluxio.proto.journal.UpdateInodeFileEnt" +
-      "ry.XAttrsEntry\032-\n\013XAttrsEntry\022\013\n\003key\030\001 \001" +
-      "(\t\022\r\n\005value\030\002 \001(\014:\0028\001\"\340\004\n\023InodeDirectory" +
-      "Entry\022\n\n\002id\030\001 \001(\003\022\021\n\tparent_id\030\002 \001(\003\022\014\n\004" +
-      "name\030\003 \001(\t\022\031\n\021persistence_state\030\004 \001(\t\022\016\n" +
-      "\006pinned\030\005 \001(\010\022\030\n\020creation_time_ms\030\006 \001(\003\022" +
-      "!\n\031last_modification_time_ms\030\007 \001(\003\022\r\n\005ow" +
-      "ner\030\010 \001(\t\022\r\n\005group\030\t \001(\t\022\014\n\004mode\030\n \001(\005\022\023" +
-      "\n\013mount_point\030\013 \001(\010\022\036\n\026direct_children_l" +
-      "oaded\030\014 \001(\010\022\013\n\003ttl\030\r \001(\003\022<\n\tttlAction\030\016 " +
-      "\001(\0162!.alluxio.proto.journal.PTtlAction:\006" +
-      "DELETE\0224\n\003acl\030\017 \001(\0132\'.alluxio.proto.shar" +
-      "ed.AccessControlList\022;\n\ndefaultAcl\030\020 \001(\013" +
-      "2\'.alluxio.proto.shared.AccessControlLis" +
-      "t\022\014\n\004path\030\021 \001(\t\022\023\n\013medium_type\030\022 \003(\t\022D\n\005" +
-      "xAttr\030\023 \003(\01325.alluxio.proto.journal.Inod" +
-      "eDirectoryEntry.XAttrEntry\032,\n\nXAttrEntry" +
-      "\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\014:\0028\001\"O\n\036Inod" +
-      "eDirectoryIdGeneratorEntry\022\024\n\014container_" +
-      "id\030\001 \001(\003\022\027\n\017sequence_number\030\002 \001(\003\"\370\005\n\016In" +
-      "odeFileEntry\022\n\n\002id\030\001 \001(\003\022\021\n\tparent_id\030\002 " +
-      "\001(\003\022\014\n\004name\030\003 \001(\t\022\031\n\021persistence_state\030\004" +
-      " \001(\t\022\016\n\006pinned\030\005 \001(\010\022\030\n\020creation_time_ms" +
-      "\030\006 \001(\003\022!\n\031last_modification_time_ms\030\007 \001(" +
-      "\003\022\030\n\020block_size_bytes\030\010 \001(\003\022\016\n\006length\030\t " +
-      "\001(\003\022\021\n\tcompleted\030\n \001(\010\022\021\n\tcacheable\030\013 \001(" +
-      "\010\022\016\n\006blocks\030\014 \003(\003\022\013\n\003ttl\030\r \001(\003\022\r\n\005owner\030" +
-      "\016 \001(\t\022\r\n\005group\030\017 \001(\t\022\014\n\004mode\030\020 \001(\005\022<\n\ttt" +
-      "lAction\030\021 \001(\0162!.alluxio.proto.journal.PT" +
-      "tlAction:\006DELETE\022\027\n\017ufs_fingerprint\030\022 \001(" +
-      "\t\0224\n\003acl\030\023 \001(\0132\'.alluxio.proto.shared.Ac" +
-      "cessControlList\022\027\n\017replication_max\030\024 \001(\005" +
-      "\022\027\n\017replication_min\030\025 \001(\005\022\026\n\016persist_job" +
-      "_id\030\026 \001(\003\022\025\n\rtemp_ufs_path\030\027 \001(\t\022\033\n\023repl" +
-      "ication_durable\030\030 \001(\005\022\014\n\004path\030\031 \001(\t\022\023\n\013m" +
-      "edium_type\030\032 \003(\t\022\033\n\023should_persist_time\030" +
-      "\033 \001(\003\022?\n\005xAttr\030\034 \003(\01320.alluxio.proto.jou" +
-      "rnal.InodeFileEntry.XAttrEntry\032,\n\nXAttrE" +
-      "ntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\014:\0028\001\"O\n\036" +
-      "InodeLastModificationTimeEntry\022\n\n\002id\030\001 \001" +
-      "(\003\022!\n\031last_modification_time_ms\030\002 \001(\003\"#\n" +
-      "\025PersistDirectoryEntry\022\n\n\002id\030\001 \001(\003\"B\n\020Pe" +
-      "rsistFileEntry\022\n\n\002id\030\001 \001(\003\022\016\n\006length\030\002 \001" +
-      "(\003\022\022\n\nop_time_ms\030\003 \001(\003\"\210\001\n\013RenameEntry\022\n" +
-      "\n\002id\030\001 \001(\003\022\020\n\010dst_path\030\002 \001(\t\022\022\n\nop_time_" +
-      "ms\030\003 \001(\003\022\025\n\rnew_parent_id\030\004 \001(\003\022\020\n\010new_n" +
-      "ame\030\005 \001(\t\022\014\n\004path\030\006 \001(\t\022\020\n\010new_path\030\007 \001(" +
-      "\t\"\247\001\n\013SetAclEntry\022\n\n\002id\030\001 \001(\003\022\022\n\nop_time" +
-      "_ms\030\002 \001(\003\0224\n\006action\030\003 \001(\0162$.alluxio.prot" +
-      "o.journal.PSetAclAction\022/\n\007entries\030\004 \003(\013" +
-      "2\036.alluxio.proto.shared.AclEntry\022\021\n\trecu" +
-      "rsive\030\005 \001(\010\"\311\002\n\021SetAttributeEntry\022\n\n\002id\030" +
-      "\001 \001(\003\022\022\n\nop_time_ms\030\002 \001(\003\022\016\n\006pinned\030\003 \001(" +
-      "\010\022\013\n\003ttl\030\004 \001(\003\022\021\n\tpersisted\030\005 \001(\010\022\r\n\005own" +
-      "er\030\006 \001(\t\022\r\n\005group\030\007 \001(\t\022\022\n\npermission\030\010 " +
-      "\001(\005\022<\n\tttlAction\030\t \001(\0162!.alluxio.proto.j" +
-      "ournal.PTtlAction:\006DELETE\022\027\n\017ufs_fingerp" +
-      "rint\030\n \001(\t\022\024\n\014persistJobId\030\013 \001(\003\022\023\n\013temp" +
-      "UfsPath\030\014 \001(\t\022\027\n\017replication_max\030\r \001(\005\022\027" +
-      "\n\017replication_min\030\016 \001(\005\"b\n\022UpdateUfsMode" +
-      "Entry\022\017\n\007ufsPath\030\001 \001(\t\022;\n\007ufsMode\030\002 \001(\0162" +
-      "\036.alluxio.proto.journal.UfsMode:\nREAD_WR" +
-      "ITE*\"\n\nPTtlAction\022\n\n\006DELETE\020\000\022\010\n\004FREE\020\001*" +
-      "X\n\rPSetAclAction\022\013\n\007REPLACE\020\000\022\n\n\006MODIFY\020" +
-      "\001\022\n\n\006REMOVE\020\002\022\016\n\nREMOVE_ALL\020\003\022\022\n\016REMOVE_" +
-      "DEFAULT\020\004*7\n\007UfsMode\022\r\n\tNO_ACCESS\020\000\022\r\n\tR" +
-      "EAD_ONLY\020\001\022\016\n\nREAD_WRITE\020\002"
+      "LETE\022\027\n\017ufs_fingerprint\030\n \001(\t\022\024\n\014persist" +
+      "JobId\030\013 \001(\003\022\023\n\013tempUfsPath\030\014 \001(\t\022\027\n\017repl" +
+      "ication_max\030\r \001(\005\022\027\n\017replication_min\030\016 \001" +
+      "(\005\"b\n\022UpdateUfsModeEntry\022\017\n\007ufsPath\030\001 \001(" +
+      "\t\022;\n\007ufsMode\030\002 \001(\0162\036.alluxio.proto.journ" +
+      "al.UfsMode:\nREAD_WRITE*\"\n\nPTtlAction\022\n\n\006" +
+      "DELETE\020\000\022\010\n\004FREE\020\001*X\n\rPSetAclAction\022\013\n\007R" +
+      "EPLACE\020\000\022\n\n\006MODIFY\020\001\022\n\n\006REMOVE\020\002\022\016\n\nREMO" +
+      "VE_ALL\020\003\022\022\n\016REMOVE_DEFAULT\020\004*7\n\007UfsMode\022" +
+      "\r\n\tNO_ACCESS\020\000\022\r\n\tREAD_ONLY\020\001\022\016\n\nREAD_WR" +
+      "ITE\020\002"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -28009,7 +28130,7 @@ public final class File {
     internal_static_alluxio_proto_journal_DeleteFileEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_proto_journal_DeleteFileEntry_descriptor,
-        new java.lang.String[] { "Id", "Recursive", "OpTimeMs", "AlluxioOnly", "Path", });
+        new java.lang.String[] { "Id", "Recursive", "OpTimeMs", "AlluxioOnly", "Path", "ParentId", });
     internal_static_alluxio_proto_journal_DeleteMountPointEntry_descriptor =
       getDescriptor().getMessageTypes().get(8);
     internal_static_alluxio_proto_journal_DeleteMountPointEntry_fieldAccessorTable = new
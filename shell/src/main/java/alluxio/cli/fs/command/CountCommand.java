@@ -14,15 +14,15 @@ package alluxio.cli.fs.command;
 import alluxio.AlluxioURI;
 import alluxio.cli.CommandUtils;
 import alluxio.client.file.FileSystemContext;
-import alluxio.client.file.URIStatus;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.status.InvalidArgumentException;
+import alluxio.grpc.GetContentSummaryPOptions;
+import alluxio.wire.ContentSummary;
 
 import org.apache.commons.cli.CommandLine;
 
 import javax.annotation.concurrent.ThreadSafe;
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Displays the number of folders and files matching the specified prefix in args.
@@ -52,37 +52,15 @@ public final class CountCommand extends AbstractFileSystemCommand {
     String[] args = cl.getArgs();
     AlluxioURI inputPath = new AlluxioURI(args[0]);
 
-    long[] values = countHelper(inputPath);
+    ContentSummary summary = mFileSystem.getContentSummary(inputPath,
+        GetContentSummaryPOptions.getDefaultInstance());
     String format = "%-25s%-25s%-15s%n";
     System.out.format(format, "File Count", "Folder Count", "Total Bytes");
-    System.out.format(format, values[0], values[1], values[2]);
+    System.out.format(format, summary.getFileCount(), summary.getDirectoryCount(),
+        summary.getLength());
     return 0;
   }
 
-  private long[] countHelper(AlluxioURI path) throws AlluxioException, IOException {
-    URIStatus status = mFileSystem.getStatus(path);
-
-    if (!status.isFolder()) {
-      return new long[]{ 1L, 0L, status.getLength() };
-    }
-
-    long[] rtn = new long[]{ 0L, 1L, 0L };
-
-    List<URIStatus> statuses;
-    try {
-      statuses = mFileSystem.listStatus(path);
-    } catch (AlluxioException e) {
-      throw new IOException(e.getMessage());
-    }
-    for (URIStatus uriStatus : statuses) {
-      long[] toAdd = countHelper(new AlluxioURI(uriStatus.getPath()));
-      rtn[0] += toAdd[0];
-      rtn[1] += toAdd[1];
-      rtn[2] += toAdd[2];
-    }
-    return rtn;
-  }
-
   @Override
   public String getUsage() {
     return "count <path>";
@@ -17,8 +17,10 @@ import alluxio.client.file.FileSystemContext;
 import alluxio.client.file.URIStatus;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.status.InvalidArgumentException;
+import alluxio.grpc.GetContentSummaryPOptions;
 import alluxio.grpc.ListStatusPOptions;
 import alluxio.util.FormatUtils;
+import alluxio.wire.ContentSummary;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Option;
@@ -89,57 +91,66 @@ public final class DuCommand extends AbstractFileSystemCommand {
       throws AlluxioException, IOException {
 
     ListStatusPOptions listOptions = ListStatusPOptions.newBuilder().setRecursive(true).build();
+    boolean readable = cl.hasOption(READABLE_OPTION_NAME);
+    boolean addMemory = cl.hasOption(MEMORY_OPTION_NAME);
+    if (cl.hasOption(SUMMARIZE_OPTION_NAME)) {
+      // The master adds up the subtree, so only the totals are sent back.
+      ContentSummary summary = mFileSystem.getContentSummary(path,
+          GetContentSummaryPOptions.newBuilder().setIncludeInAlluxio(true).build());
+      // Like the listing, an empty directory has nothing to summarize.
+      if (summary.getFileCount() > 0 || summary.getDirectoryCount() > 1) {
+        printSummary(path, summary, readable, addMemory);
+      }
+      return;
+    }
     List<URIStatus> statuses = mFileSystem.listStatus(path, listOptions);
     if (statuses == null || statuses.size() == 0) {
       return;
     }
 
     Collections.sort(statuses, Comparator.comparing(URIStatus::getPath));
-    getSizeInfo(path, statuses, cl.hasOption(READABLE_OPTION_NAME),
-        cl.hasOption(SUMMARIZE_OPTION_NAME), cl.hasOption(MEMORY_OPTION_NAME));
+    getSizeInfo(statuses, readable, addMemory);
   }
 
   /**
-   * Gets and prints the size information of the input path according to options.
+   * Prints the aggregate size information of the input path.
+   *
+   * @param path the path to print size info of
+   * @param summary the content summary of the path
+   * @param readable whether to print info of human readable format
+   * @param addMemory whether to display the memory size and percentage information
+   */
+  private void printSummary(AlluxioURI path, ContentSummary summary, boolean readable,
+      boolean addMemory) {
+    long totalSize = summary.getLength();
+    long sizeInAlluxio = summary.getInAlluxioLength();
+    long sizeInMem = summary.getInMemoryLength();
+    String sizeMessage = readable ? FormatUtils.getSizeFromBytes(totalSize)
+        : String.valueOf(totalSize);
+    String inAlluxioMessage = getFormattedValues(readable, sizeInAlluxio, totalSize);
+    String inMemMessage = addMemory
+        ? getFormattedValues(readable, sizeInMem, totalSize) : "";
+    printInfo(sizeMessage, inAlluxioMessage, inMemMessage, path.toString());
+  }
+
+  /**
+   * Prints the size information of each file.
    *
-   * @param path the path to get size info of
    * @param statuses the statuses of files and folders
    * @param readable whether to print info of human readable format
-   * @param summarize whether to display the aggregate summary lengths
    * @param addMemory whether to display the memory size and percentage information
    */
-  private void getSizeInfo(AlluxioURI path, List<URIStatus> statuses,
-      boolean readable, boolean summarize, boolean addMemory) {
-    if (summarize) {
-      long totalSize = 0;
-      long sizeInAlluxio = 0;
-      long sizeInMem = 0;
-      for (URIStatus status : statuses) {
-        if (!status.isFolder()) {
-          long size = status.getLength();
-          totalSize += size;
-          sizeInMem += size * status.getInMemoryPercentage();
-          sizeInAlluxio += size * status.getInMemoryPercentage();
-        }
-      }
-      String sizeMessage = readable ? FormatUtils.getSizeFromBytes(totalSize)
-          : String.valueOf(totalSize);
-      String inAlluxioMessage = getFormattedValues(readable, sizeInAlluxio / 100, totalSize);
-      String inMemMessage = addMemory
-          ? getFormattedValues(readable, sizeInMem / 100, totalSize) : "";
-      printInfo(sizeMessage, inAlluxioMessage, inMemMessage, path.toString());
-    } else {
-      for (URIStatus status : statuses) {
-        if (!status.isFolder()) {
-          long totalSize = status.getLength();
-          String sizeMessage = readable ? FormatUtils.getSizeFromBytes(totalSize)
-              : String.valueOf(totalSize);
-          String inAlluxioMessage = getFormattedValues(readable,
-              status.getInAlluxioPercentage() * totalSize / 100, totalSize);
-          String inMemMessage = addMemory ? getFormattedValues(readable,
-              status.getInMemoryPercentage() * totalSize / 100, totalSize) : "";
-          printInfo(sizeMessage, inAlluxioMessage, inMemMessage, status.getPath());
-        }
+  private void getSizeInfo(List<URIStatus> statuses, boolean readable, boolean addMemory) {
+    for (URIStatus status : statuses) {
+      if (!status.isFolder()) {
+        long totalSize = status.getLength();
+        String sizeMessage = readable ? FormatUtils.getSizeFromBytes(totalSize)
+            : String.valueOf(totalSize);
+        String inAlluxioMessage = getFormattedValues(readable,
+            status.getInAlluxioPercentage() * totalSize / 100, totalSize);
+        String inMemMessage = addMemory ? getFormattedValues(readable,
+            status.getInMemoryPercentage() * totalSize / 100, totalSize) : "";
+        printInfo(sizeMessage, inAlluxioMessage, inMemMessage, status.getPath());
       }
     }
   }
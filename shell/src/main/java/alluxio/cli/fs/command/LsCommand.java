@@ -106,7 +106,9 @@ public final class LsCommand extends AbstractFileSystemCommand {
           .longOpt("sort")
           .hasArg(true)
           .desc("sort statuses by the given field "
-                  + "{size|creationTime|inMemoryPercentage|lastModificationTime|name|path}")
+                  + "{size|creationTime|inMemoryPercentage|lastModificationTime|name|path|none}. "
+                  + "With none, entries are printed as they are received, which avoids holding "
+                  + "large directory listings in memory")
           .build();
 
   private static final Option REVERSE_SORT_OPTION =
@@ -116,6 +118,9 @@ public final class LsCommand extends AbstractFileSystemCommand {
               .desc("reverse order while sorting")
               .build();
 
+  /** Sort field which prints entries in the order they are streamed from the master. */
+  private static final String SORT_FIELD_NONE = "none";
+
   private static final Map<String, Comparator<URIStatus>> SORT_FIELD_COMPARATORS = new HashMap<>();
 
   static {
@@ -254,6 +259,20 @@ public final class LsCommand extends AbstractFileSystemCommand {
         }
       }, 10000);
     }
+    if (SORT_FIELD_NONE.equals(sortField)) {
+      mFileSystem.iterateStatus(path, optionsBuilder.build(), status -> {
+        timer.cancel();
+        if (!pinnedOnly || status.isPinned()) {
+          try {
+            printLsString(status, hSize);
+          } catch (UnavailableException e) {
+            throw new RuntimeException(e);
+          }
+        }
+      });
+      timer.cancel();
+      return;
+    }
     List<URIStatus> statuses = mFileSystem.listStatus(path, optionsBuilder.build());
     timer.cancel();
 
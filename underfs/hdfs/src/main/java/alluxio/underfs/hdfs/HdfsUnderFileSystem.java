@@ -21,17 +21,20 @@ import alluxio.retry.RetryPolicy;
 import alluxio.security.authorization.AccessControlList;
 import alluxio.security.authorization.AclEntry;
 import alluxio.security.authorization.DefaultAccessControlList;
+import alluxio.underfs.AbstractUfsStatusIterator;
 import alluxio.underfs.AtomicFileOutputStream;
 import alluxio.underfs.AtomicFileOutputStreamCallback;
 import alluxio.underfs.ConsistentUnderFileSystem;
 import alluxio.underfs.UfsDirectoryStatus;
 import alluxio.underfs.UfsFileStatus;
 import alluxio.underfs.UfsStatus;
+import alluxio.underfs.UfsStatusIterator;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.underfs.UnderFileSystemConfiguration;
 import alluxio.underfs.options.CreateOptions;
 import alluxio.underfs.options.DeleteOptions;
 import alluxio.underfs.options.FileLocationOptions;
+import alluxio.underfs.options.ListOptions;
 import alluxio.underfs.options.MkdirsOptions;
 import alluxio.underfs.options.OpenOptions;
 import alluxio.util.CommonUtils;
@@ -49,7 +52,10 @@ import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.permission.FsPermission;
+import org.apache.hadoop.hdfs.DFSClient;
 import org.apache.hadoop.hdfs.DistributedFileSystem;
+import org.apache.hadoop.hdfs.protocol.DirectoryListing;
+import org.apache.hadoop.hdfs.protocol.HdfsFileStatus;
 import org.apache.hadoop.security.SecurityUtil;
 import org.apache.hadoop.security.UserGroupInformation;
 import org.slf4j.Logger;
@@ -454,23 +460,81 @@ public class HdfsUnderFileSystem extends ConsistentUnderFileSystem
     UfsStatus[] rtn = new UfsStatus[files.length];
     int i = 0;
     for (FileStatus status : files) {
-      // only return the relative path, to keep consistent with java.io.File.list()
-      UfsStatus retStatus;
-      if (!status.isDir()) {
-        String contentHash = UnderFileSystemUtils
-            .approximateContentHash(status.getLen(), status.getModificationTime());
-        retStatus = new UfsFileStatus(status.getPath().getName(), contentHash, status.getLen(),
-            status.getModificationTime(), status.getOwner(), status.getGroup(),
-            status.getPermission().toShort());
-      } else {
-        retStatus = new UfsDirectoryStatus(status.getPath().getName(), status.getOwner(),
-            status.getGroup(), status.getPermission().toShort(), status.getModificationTime());
-      }
-      rtn[i++] = retStatus;
+      rtn[i++] = toUfsStatus(status);
     }
     return rtn;
   }
 
+  //#ifndef HADOOP1
+  @Override
+  @Nullable
+  public UfsStatusIterator listStatusIterator(String path, ListOptions options)
+      throws IOException {
+    FileSystem hdfs = getFs();
+    if (options.isRecursive() || !(hdfs instanceof DistributedFileSystem)) {
+      return super.listStatusIterator(path, options);
+    }
+    // Page through the listing like FileSystem#listStatusIterator, which is only available from
+    // Hadoop 2.7. Unlike listLocatedStatus, this does not ask the name node for the block
+    // locations of every file, which a status does not need.
+    DFSClient client = ((DistributedFileSystem) hdfs).getClient();
+    Path dirPath = hdfs.makeQualified(new Path(path));
+    String src = dirPath.toUri().getPath();
+    URI uri = hdfs.getUri();
+    DirectoryListing first;
+    try {
+      first = client.listPaths(src, HdfsFileStatus.EMPTY_NAME, false);
+    } catch (FileNotFoundException e) {
+      return null;
+    }
+    if (first == null) {
+      return null;
+    }
+    // Check if path is a file, which is listed as itself with an empty name
+    HdfsFileStatus[] firstStatuses = first.getPartialListing();
+    if (firstStatuses.length == 1 && firstStatuses[0].isEmptyLocalName()) {
+      return null;
+    }
+    return new AbstractUfsStatusIterator() {
+      private DirectoryListing mListing = first;
+      private int mIndex;
+
+      @Override
+      protected UfsStatus computeNext() throws IOException {
+        while (mIndex == mListing.getPartialListing().length) {
+          if (!mListing.hasMore()) {
+            return null;
+          }
+          DirectoryListing next = client.listPaths(src, mListing.getLastName(), false);
+          if (next == null) {
+            throw new FileNotFoundException("Directory " + path + " was removed while listing");
+          }
+          mListing = next;
+          mIndex = 0;
+        }
+        return toUfsStatus(mListing.getPartialListing()[mIndex++].makeQualified(uri, dirPath));
+      }
+    };
+  }
+  //#endif
+
+  /**
+   * @param status the HDFS status
+   * @return the UFS status, named relative to its parent
+   */
+  private static UfsStatus toUfsStatus(FileStatus status) {
+    // only return the relative path, to keep consistent with java.io.File.list()
+    if (!status.isDir()) {
+      String contentHash = UnderFileSystemUtils
+          .approximateContentHash(status.getLen(), status.getModificationTime());
+      return new UfsFileStatus(status.getPath().getName(), contentHash, status.getLen(),
+          status.getModificationTime(), status.getOwner(), status.getGroup(),
+          status.getPermission().toShort());
+    }
+    return new UfsDirectoryStatus(status.getPath().getName(), status.getOwner(),
+        status.getGroup(), status.getPermission().toShort(), status.getModificationTime());
+  }
+
   @Override
   public void connectFromMaster(String host) throws IOException {
     if (!mUfsConf.isSet(PropertyKey.MASTER_KEYTAB_KEY_FILE)
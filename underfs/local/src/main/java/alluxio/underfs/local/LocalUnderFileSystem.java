@@ -15,17 +15,20 @@ import alluxio.AlluxioURI;
 import alluxio.conf.PropertyKey;
 import alluxio.exception.ExceptionMessage;
 import alluxio.security.authorization.Mode;
+import alluxio.underfs.AbstractUfsStatusIterator;
 import alluxio.underfs.AtomicFileOutputStream;
 import alluxio.underfs.AtomicFileOutputStreamCallback;
 import alluxio.underfs.ConsistentUnderFileSystem;
 import alluxio.underfs.UfsDirectoryStatus;
 import alluxio.underfs.UfsFileStatus;
 import alluxio.underfs.UfsStatus;
+import alluxio.underfs.UfsStatusIterator;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.underfs.UnderFileSystemConfiguration;
 import alluxio.underfs.options.CreateOptions;
 import alluxio.underfs.options.DeleteOptions;
 import alluxio.underfs.options.FileLocationOptions;
+import alluxio.underfs.options.ListOptions;
 import alluxio.underfs.options.MkdirsOptions;
 import alluxio.underfs.options.OpenOptions;
 import alluxio.util.UnderFileSystemUtils;
@@ -48,14 +51,21 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystemException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFileAttributes;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Stack;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -280,21 +290,7 @@ public class LocalUnderFileSystem extends ConsistentUnderFileSystem
       UfsStatus[] rtn = new UfsStatus[files.length];
       int i = 0;
       for (File f : files) {
-        // TODO(adit): do we need extra call for attributes?
-        PosixFileAttributes attr =
-            Files.readAttributes(Paths.get(f.getPath()), PosixFileAttributes.class);
-        short mode = FileUtils.translatePosixPermissionToMode(attr.permissions());
-        UfsStatus retStatus;
-        if (f.isDirectory()) {
-          retStatus = new UfsDirectoryStatus(f.getName(), attr.owner().getName(),
-              attr.group().getName(), mode, f.lastModified());
-        } else {
-          String contentHash =
-              UnderFileSystemUtils.approximateContentHash(f.length(), f.lastModified());
-          retStatus = new UfsFileStatus(f.getName(), contentHash, f.length(), f.lastModified(),
-              attr.owner().getName(), attr.group().getName(), mode);
-        }
-        rtn[i++] = retStatus;
+        rtn[i++] = getStatus(f);
       }
       return rtn;
     } else {
@@ -302,6 +298,56 @@ public class LocalUnderFileSystem extends ConsistentUnderFileSystem
     }
   }
 
+  @Override
+  @Nullable
+  public UfsStatusIterator listStatusIterator(String path, ListOptions options)
+      throws IOException {
+    if (options.isRecursive()) {
+      return super.listStatusIterator(path, options);
+    }
+    DirectoryStream<Path> stream;
+    try {
+      stream = Files.newDirectoryStream(Paths.get(stripPath(path)));
+    } catch (NoSuchFileException | NotDirectoryException e) {
+      return null;
+    }
+    Iterator<Path> children = stream.iterator();
+    return new AbstractUfsStatusIterator() {
+      @Override
+      protected UfsStatus computeNext() throws IOException {
+        try {
+          return children.hasNext() ? getStatus(children.next().toFile()) : null;
+        } catch (DirectoryIteratorException e) {
+          throw e.getCause();
+        }
+      }
+
+      @Override
+      public void close() throws IOException {
+        stream.close();
+      }
+    };
+  }
+
+  /**
+   * @param f the file to get the status of
+   * @return the status of the file, named by its file name
+   */
+  private static UfsStatus getStatus(File f) throws IOException {
+    // TODO(adit): do we need extra call for attributes?
+    PosixFileAttributes attr =
+        Files.readAttributes(Paths.get(f.getPath()), PosixFileAttributes.class);
+    short mode = FileUtils.translatePosixPermissionToMode(attr.permissions());
+    if (f.isDirectory()) {
+      return new UfsDirectoryStatus(f.getName(), attr.owner().getName(),
+          attr.group().getName(), mode, f.lastModified());
+    }
+    String contentHash =
+        UnderFileSystemUtils.approximateContentHash(f.length(), f.lastModified());
+    return new UfsFileStatus(f.getName(), contentHash, f.length(), f.lastModified(),
+        attr.owner().getName(), attr.group().getName(), mode);
+  }
+
   @Override
   public boolean mkdirs(String path, MkdirsOptions options) throws IOException {
     path = stripPath(path);
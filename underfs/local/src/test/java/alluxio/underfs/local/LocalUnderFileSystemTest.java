@@ -14,15 +14,18 @@ package alluxio.underfs.local;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import alluxio.AlluxioURI;
 import alluxio.conf.AlluxioConfiguration;
 import alluxio.conf.InstancedConfiguration;
 import alluxio.conf.PropertyKey;
 import alluxio.underfs.UfsMode;
+import alluxio.underfs.UfsStatusIterator;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.underfs.UnderFileSystemConfiguration;
 import alluxio.underfs.options.DeleteOptions;
+import alluxio.underfs.options.ListOptions;
 import alluxio.underfs.options.MkdirsOptions;
 import alluxio.util.ConfigurationUtils;
 import alluxio.util.io.PathUtils;
@@ -38,6 +41,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
@@ -225,6 +231,53 @@ public class LocalUnderFileSystemTest {
     Assert.assertArrayEquals(bytes, bytes1);
   }
 
+  @Test
+  public void listStatusIterator() throws IOException {
+    String dirpath = createListingTree();
+
+    List<String> names = listNames(dirpath, ListOptions.defaults());
+    Collections.sort(names);
+    assertEquals(Arrays.asList("a", "b"), names);
+    assertNull(mLocalUfs.listStatusIterator(PathUtils.concatPath(dirpath, "a"),
+        ListOptions.defaults()));
+    assertNull(mLocalUfs.listStatusIterator(PathUtils.concatPath(dirpath, "missing"),
+        ListOptions.defaults()));
+  }
+
+  @Test
+  public void listStatusIteratorRecursive() throws IOException {
+    String dirpath = createListingTree();
+
+    List<String> names = listNames(dirpath, ListOptions.defaults().setRecursive(true));
+    // A directory is listed before its descendants.
+    assertTrue(names.indexOf("b") < names.indexOf("b/c"));
+    Collections.sort(names);
+    assertEquals(Arrays.asList("a", "b", "b/c"), names);
+  }
+
+  /**
+   * Creates a directory containing a file a, and a directory b containing a file c.
+   *
+   * @return the path of the directory
+   */
+  private String createListingTree() throws IOException {
+    String dirpath = PathUtils.concatPath(mLocalUfsRoot, getUniqueFileName());
+    mLocalUfs.mkdirs(PathUtils.concatPath(dirpath, "b"));
+    mLocalUfs.create(PathUtils.concatPath(dirpath, "a")).close();
+    mLocalUfs.create(PathUtils.concatPath(dirpath, "b", "c")).close();
+    return dirpath;
+  }
+
+  private List<String> listNames(String path, ListOptions options) throws IOException {
+    List<String> names = new ArrayList<>();
+    try (UfsStatusIterator statuses = mLocalUfs.listStatusIterator(path, options)) {
+      while (statuses.hasNext()) {
+        names.add(statuses.next().getName());
+      }
+    }
+    return names;
+  }
+
   private byte[] getBytes() {
     String s = "BYTES";
     return s.getBytes();